@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.benchmarks.embedding;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.graalvm.polyglot.Value;
+import org.graalvm.polyglot.proxy.ProxyArray;
+import org.graalvm.polyglot.proxy.ProxyHashMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Lists and dicts crossing the language boundary in both directions: Java code walking Python
+ * containers element by element, and Python code iterating over Java lists, arrays and maps.
+ */
+public class CollectionsBenchmark extends EmbeddingBenchmark {
+
+    @Param({"1000"}) public int size;
+
+    private Value pyList;
+    private Value pyDict;
+    private Value pySum;
+    private Value pySumValues;
+    private Value pyBuildList;
+    private List<Integer> javaList;
+    private ProxyArray proxyArray;
+    private Map<Object, Object> javaMap;
+    private ProxyHashMap proxyHashMap;
+
+    @Setup
+    public void setup() {
+        Value bindings = context.getBindings(PYTHON);
+        eval("""
+                        def py_sum(seq):
+                            total = 0
+                            for x in seq:
+                                total += x
+                            return total
+
+                        def py_sum_values(d):
+                            total = 0
+                            for k in d:
+                                total += d[k]
+                            return total
+
+                        def py_build_list(n):
+                            return list(range(n))
+                        """);
+        pySum = bindings.getMember("py_sum");
+        pySumValues = bindings.getMember("py_sum_values");
+        pyBuildList = bindings.getMember("py_build_list");
+        pyList = pyBuildList.execute(size);
+        pyDict = eval("lambda n: {i: i for i in range(n)}").execute(size);
+
+        javaList = new ArrayList<>(size);
+        Object[] values = new Object[size];
+        javaMap = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            javaList.add(i);
+            values[i] = i;
+            javaMap.put(i, i);
+        }
+        proxyArray = ProxyArray.fromArray(values);
+        proxyHashMap = ProxyHashMap.from(javaMap);
+    }
+
+    @Benchmark
+    public long javaReadsPythonList() {
+        long total = 0;
+        long n = pyList.getArraySize();
+        for (long i = 0; i < n; i++) {
+            total += pyList.getArrayElement(i).asLong();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public void javaWritesPythonList() {
+        long n = pyList.getArraySize();
+        for (long i = 0; i < n; i++) {
+            pyList.setArrayElement(i, i);
+        }
+    }
+
+    @Benchmark
+    public long javaIteratesPythonList() {
+        long total = 0;
+        Value iterator = pyList.getIterator();
+        while (iterator.hasIteratorNextElement()) {
+            total += iterator.getIteratorNextElement().asLong();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long javaIteratesPythonDict() {
+        long total = 0;
+        Value iterator = pyDict.getHashEntriesIterator();
+        while (iterator.hasIteratorNextElement()) {
+            total += iterator.getIteratorNextElement().getArrayElement(1).asLong();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long javaLooksUpPythonDict() {
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            total += pyDict.getHashValue(i).asLong();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long pythonSumsJavaList() {
+        return pySum.execute(javaList).asLong();
+    }
+
+    @Benchmark
+    public long pythonSumsProxyArray() {
+        return pySum.execute(proxyArray).asLong();
+    }
+
+    @Benchmark
+    public long pythonSumsJavaMap() {
+        return pySumValues.execute(proxyHashMap).asLong();
+    }
+
+    @Benchmark
+    public void pythonListToJava(Blackhole bh) {
+        bh.consume(pyBuildList.execute(size).as(List.class));
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.benchmarks.embedding;
+
+import java.util.List;
+import java.util.Map;
+
+import org.graalvm.polyglot.TypeLiteral;
+import org.graalvm.polyglot.Value;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * {@code Value.as(...)} and the primitive accessors, covering the unboxing of Python numbers and
+ * strings as well as the proxies created for lists, dicts and duck-typed interfaces.
+ */
+public class ConversionBenchmark extends EmbeddingBenchmark {
+
+    private static final TypeLiteral<List<Integer>> INTEGER_LIST = new TypeLiteral<>() {
+    };
+    private static final TypeLiteral<Map<String, Object>> STRING_OBJECT_MAP = new TypeLiteral<>() {
+    };
+
+    public interface Shape {
+        double area();
+
+        String name();
+    }
+
+    private Value smallInt;
+    private Value bigInt;
+    private Value pyFloat;
+    private Value pyString;
+    private Value pyBool;
+    private Value pyList;
+    private Value pyDict;
+    private Value pyShape;
+
+    @Setup
+    public void setup() {
+        Value bindings = context.getBindings(PYTHON);
+        eval("""
+                        class Square:
+                            def __init__(self, side):
+                                self.side = side
+
+                            def area(self):
+                                return float(self.side * self.side)
+
+                            def name(self):
+                                return "square"
+
+                        small_int = 42
+                        big_int = 1 << 40
+                        py_float = 3.25
+                        py_string = "hello world"
+                        py_bool = True
+                        py_list = [1, 2, 3, 4, 5, 6, 7, 8]
+                        py_dict = {"a": 1, "b": "two", "c": 3.0}
+                        py_shape = Square(3)
+                        """);
+        smallInt = bindings.getMember("small_int");
+        bigInt = bindings.getMember("big_int");
+        pyFloat = bindings.getMember("py_float");
+        pyString = bindings.getMember("py_string");
+        pyBool = bindings.getMember("py_bool");
+        pyList = bindings.getMember("py_list");
+        pyDict = bindings.getMember("py_dict");
+        pyShape = bindings.getMember("py_shape");
+    }
+
+    @Benchmark
+    public int asInt() {
+        return smallInt.asInt();
+    }
+
+    @Benchmark
+    public long asLong() {
+        return bigInt.asLong();
+    }
+
+    @Benchmark
+    public double asDouble() {
+        return pyFloat.asDouble();
+    }
+
+    @Benchmark
+    public boolean asBoolean() {
+        return pyBool.asBoolean();
+    }
+
+    @Benchmark
+    public String asString() {
+        return pyString.asString();
+    }
+
+    @Benchmark
+    public Integer asBoxedInteger() {
+        return smallInt.as(Integer.class);
+    }
+
+    @Benchmark
+    public Object asObject() {
+        return pyString.as(Object.class);
+    }
+
+    @Benchmark
+    public int asListAndGet() {
+        return pyList.as(INTEGER_LIST).get(3);
+    }
+
+    @Benchmark
+    public Object asMapAndGet() {
+        return pyDict.as(STRING_OBJECT_MAP).get("b");
+    }
+
+    @Benchmark
+    public double asInterfaceAndCall() {
+        return pyShape.as(Shape.class).area();
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.benchmarks.embedding;
+
+import org.graalvm.polyglot.Value;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * {@code Value.execute} on Python functions, builtins and classes with primitive, string and
+ * keyword-free argument lists of different lengths.
+ */
+public class ExecuteBenchmark extends EmbeddingBenchmark {
+
+    private Value noArgs;
+    private Value identity;
+    private Value add;
+    private Value sum4;
+    private Value concat;
+    private Value builtinAbs;
+    private Value klass;
+
+    @Setup
+    public void setup() {
+        Value bindings = context.getBindings(PYTHON);
+        eval("""
+                        def no_args():
+                            return None
+
+                        def identity(x):
+                            return x
+
+                        def add(a, b):
+                            return a + b
+
+                        def sum4(a, b, c, d):
+                            return a + b + c + d
+
+                        def concat(a, b):
+                            return a + b
+
+                        class Point:
+                            def __init__(self, x, y):
+                                self.x = x
+                                self.y = y
+                        """);
+        noArgs = bindings.getMember("no_args");
+        identity = bindings.getMember("identity");
+        add = bindings.getMember("add");
+        sum4 = bindings.getMember("sum4");
+        concat = bindings.getMember("concat");
+        klass = bindings.getMember("Point");
+        builtinAbs = eval("abs");
+    }
+
+    @Benchmark
+    public void executeVoidNoArgs() {
+        noArgs.executeVoid();
+    }
+
+    @Benchmark
+    public Value executeIdentityInt() {
+        return identity.execute(42);
+    }
+
+    @Benchmark
+    public Value executeIdentityObject() {
+        return identity.execute(identity);
+    }
+
+    @Benchmark
+    public int executeAddInt() {
+        return add.execute(20, 22).asInt();
+    }
+
+    @Benchmark
+    public double executeAddDouble() {
+        return add.execute(20.5, 21.5).asDouble();
+    }
+
+    @Benchmark
+    public long executeSum4Long() {
+        return sum4.execute(1L, 2L, 3L, 4L).asLong();
+    }
+
+    @Benchmark
+    public String executeConcatString() {
+        return concat.execute("foo", "bar").asString();
+    }
+
+    @Benchmark
+    public int executeBuiltin() {
+        return builtinAbs.execute(-42).asInt();
+    }
+
+    @Benchmark
+    public Value instantiateClass() {
+        return klass.newInstance(1, 2);
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.benchmarks.embedding;
+
+import org.graalvm.polyglot.Value;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Reading, writing, probing and invoking members of Python objects, modules and the context
+ * bindings.
+ */
+public class MemberAccessBenchmark extends EmbeddingBenchmark {
+
+    private Value object;
+    private Value slotsObject;
+    private Value module;
+    private Value bindings;
+    private int counter;
+
+    @Setup
+    public void setup() {
+        bindings = context.getBindings(PYTHON);
+        eval("""
+                        import math
+
+                        class Obj:
+                            def __init__(self):
+                                self.field = 42
+                                self.name = "obj"
+
+                            def method(self, x):
+                                return self.field + x
+
+                            @property
+                            def prop(self):
+                                return self.field
+
+                        class SlotsObj:
+                            __slots__ = ("field",)
+
+                            def __init__(self):
+                                self.field = 42
+
+                        obj = Obj()
+                        slots_obj = SlotsObj()
+                        global_value = 1
+                        """);
+        object = bindings.getMember("obj");
+        slotsObject = bindings.getMember("slots_obj");
+        module = bindings.getMember("math");
+    }
+
+    @Benchmark
+    public int getMember() {
+        return object.getMember("field").asInt();
+    }
+
+    @Benchmark
+    public int getSlotMember() {
+        return slotsObject.getMember("field").asInt();
+    }
+
+    @Benchmark
+    public int getProperty() {
+        return object.getMember("prop").asInt();
+    }
+
+    @Benchmark
+    public void putMember() {
+        object.putMember("field", counter++);
+    }
+
+    @Benchmark
+    public boolean hasMember() {
+        return object.hasMember("name");
+    }
+
+    @Benchmark
+    public boolean hasMemberMissing() {
+        return object.hasMember("missing");
+    }
+
+    @Benchmark
+    public int invokeMember() {
+        return object.invokeMember("method", 1).asInt();
+    }
+
+    @Benchmark
+    public double getModuleMember() {
+        return module.getMember("pi").asDouble();
+    }
+
+    @Benchmark
+    public double invokeModuleMember() {
+        return module.invokeMember("sqrt", 2.0).asDouble();
+    }
+
+    @Benchmark
+    public int getBinding() {
+        return bindings.getMember("global_value").asInt();
+    }
+
+    @Benchmark
+    public void putBinding() {
+        bindings.putMember("global_value", counter++);
+    }
+}
@@ -113,13 +113,11 @@ def add_graalpython_core():
         "__graalpython__",
         "_interop_behavior",
         "_sre",
-        "_struct",
         "_sysconfig",
         "_weakref",
         "builtins",
         "java",
         "pip_hook",
-        "unicodedata",
         "sulong_support",
     ]:
         modname = f"graalpy.{os.path.basename(name)}"
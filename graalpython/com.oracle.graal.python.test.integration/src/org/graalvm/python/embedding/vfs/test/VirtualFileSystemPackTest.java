@@ -0,0 +1,332 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.graalvm.python.embedding.vfs.test;
+
+import static com.oracle.graal.python.test.integration.Utils.IS_WINDOWS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AccessMode;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.NotDirectoryException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Predicate;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.graalvm.python.embedding.tools.vfs.VFSUtils;
+import org.graalvm.python.embedding.vfs.VirtualFileSystem;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Tests the virtual filesystem on resources packed with {@link VFSUtils#generateVFSPack}, both
+ * from a plain directory, where the pack is memory mapped, and from a jar, where files are read
+ * from the pack on demand.
+ */
+public class VirtualFileSystemPackTest {
+
+    private static final String VFS_UNIX_MOUNT_POINT = "/test_mount_point";
+    private static final String VFS_WIN_MOUNT_POINT = "X:\\test_win_mount_point";
+    private static final String VFS_MOUNT_POINT = IS_WINDOWS ? VFS_WIN_MOUNT_POINT : VFS_UNIX_MOUNT_POINT;
+
+    private static final String PACK_RESOURCE = "org.graalvm.python.vfs/files.pack";
+
+    /**
+     * Loaded from the test directories without a parent class loader, so that it finds only the
+     * packed resources.
+     */
+    public static final class ResourceAnchor {
+    }
+
+    private static Path tmpDir;
+    private static Class<?> dirAnchor;
+    private static Class<?> jarAnchor;
+
+    @BeforeClass
+    public static void setUp() throws Exception {
+        tmpDir = Files.createTempDirectory("vfspacktest");
+        Path vfsDir = tmpDir.resolve("src").resolve("org.graalvm.python.vfs");
+        write(vfsDir.resolve("file1"), "text1\ntext2\n");
+        write(vfsDir.resolve("SomeFile"), "some file");
+        write(vfsDir.resolve("dir1").resolve("file2"), "");
+        write(vfsDir.resolve("dir1").resolve("sub").resolve("file3"), "abc");
+        // sort right before and after "dir1/", but are not below it
+        write(vfsDir.resolve("dir1-x").resolve("file4"), "file4");
+        write(vfsDir.resolve("dir1.txt"), "dir1.txt");
+        Files.createDirectories(vfsDir.resolve("emptydir"));
+        VFSUtils.generateVFSPack(vfsDir);
+        byte[] pack = Files.readAllBytes(vfsDir.resolve("files.pack"));
+
+        String anchorResource = ResourceAnchor.class.getName().replace('.', '/') + ".class";
+        byte[] anchor;
+        try (InputStream stream = ResourceAnchor.class.getClassLoader().getResourceAsStream(anchorResource)) {
+            anchor = stream.readAllBytes();
+        }
+
+        // only the pack, without the individual files
+        Path classesDir = tmpDir.resolve("classes");
+        Files.createDirectories(classesDir.resolve(PACK_RESOURCE).getParent());
+        Files.write(classesDir.resolve(PACK_RESOURCE), pack);
+        Files.createDirectories(classesDir.resolve(anchorResource).getParent());
+        Files.write(classesDir.resolve(anchorResource), anchor);
+
+        Path jar = tmpDir.resolve("resources.jar");
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            out.putNextEntry(new JarEntry(PACK_RESOURCE));
+            out.write(pack);
+            out.putNextEntry(new JarEntry(anchorResource));
+            out.write(anchor);
+        }
+
+        dirAnchor = loadAnchor(classesDir.toUri().toURL());
+        jarAnchor = loadAnchor(jar.toUri().toURL());
+    }
+
+    @AfterClass
+    public static void tearDown() throws IOException {
+        try (var s = Files.walk(tmpDir)) {
+            for (Path p : s.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(p);
+            }
+        }
+    }
+
+    private static void write(Path file, String contents) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, contents);
+    }
+
+    @SuppressWarnings("resource")
+    private static Class<?> loadAnchor(URL url) throws ClassNotFoundException {
+        // kept open for the whole test, the jar has to stay readable
+        return new URLClassLoader(new URL[]{url}, null).loadClass(ResourceAnchor.class.getName());
+    }
+
+    private static VirtualFileSystem create(Class<?> anchor, boolean caseInsensitive, Predicate<Path> extractFilter) {
+        VirtualFileSystem.Builder builder = VirtualFileSystem.newBuilder().//
+                        unixMountPoint(VFS_MOUNT_POINT).//
+                        windowsMountPoint(VFS_WIN_MOUNT_POINT).//
+                        caseInsensitive(caseInsensitive).//
+                        resourceLoadingClass(anchor);
+        if (extractFilter != null) {
+            builder.extractFilter(extractFilter);
+        }
+        return builder.build();
+    }
+
+    private static Path vfsPath(String... names) {
+        return Path.of(VFS_MOUNT_POINT, names);
+    }
+
+    @Test
+    public void packFormat() throws IOException {
+        byte[] pack = Files.readAllBytes(tmpDir.resolve("classes").resolve(PACK_RESOURCE));
+        ByteBuffer buffer = ByteBuffer.wrap(pack);
+        assertEquals(0x47505646, buffer.getInt());
+        assertEquals(1, buffer.getInt());
+        int count = buffer.getInt();
+        List<String> paths = new ArrayList<>();
+        long total = 0;
+        for (int i = 0; i < count; i++) {
+            byte[] path = new byte[buffer.getInt()];
+            buffer.get(path);
+            paths.add(new String(path, StandardCharsets.UTF_8));
+            int size = buffer.getInt();
+            assertEquals(paths.get(i), paths.get(i).endsWith("/"), size == -1);
+            total += Math.max(size, 0);
+        }
+        assertEquals(List.of(
+                        "/org.graalvm.python.vfs/",
+                        "/org.graalvm.python.vfs/SomeFile",
+                        "/org.graalvm.python.vfs/dir1-x/",
+                        "/org.graalvm.python.vfs/dir1-x/file4",
+                        "/org.graalvm.python.vfs/dir1.txt",
+                        "/org.graalvm.python.vfs/dir1/",
+                        "/org.graalvm.python.vfs/dir1/file2",
+                        "/org.graalvm.python.vfs/dir1/sub/",
+                        "/org.graalvm.python.vfs/dir1/sub/file3",
+                        "/org.graalvm.python.vfs/emptydir/",
+                        "/org.graalvm.python.vfs/file1"), paths);
+        assertEquals(buffer.position() + total, pack.length);
+    }
+
+    @Test
+    public void lookupsFromDirectory() throws IOException {
+        checkLookups(dirAnchor);
+    }
+
+    @Test
+    public void lookupsFromJar() throws IOException {
+        checkLookups(jarAnchor);
+    }
+
+    private static void checkLookups(Class<?> anchor) throws IOException {
+        try (VirtualFileSystem vfs = create(anchor, false, null)) {
+            assertEquals("text1\ntext2\n", read(vfs, vfsPath("file1")));
+            assertEquals("abc", read(vfs, vfsPath("dir1", "sub", "file3")));
+            assertEquals("", read(vfs, vfsPath("dir1", "file2")));
+            assertEquals("file4", read(vfs, vfsPath("dir1-x", "file4")));
+            // relative to the mount point
+            assertEquals("abc", read(vfs, Path.of("dir1", "sub", "file3")));
+
+            Map<String, Object> attrs = vfs.readAttributes(vfsPath("dir1", "sub", "file3"), "*");
+            assertEquals(3L, attrs.get("size"));
+            assertEquals(true, attrs.get("isRegularFile"));
+            attrs = vfs.readAttributes(vfsPath("dir1"), "*");
+            assertEquals(true, attrs.get("isDirectory"));
+
+            vfs.checkAccess(vfsPath("emptydir"), Set.of(AccessMode.READ));
+            vfs.checkAccess(vfsPath("dir1", "sub"), Set.of(AccessMode.READ));
+            assertThrows(NoSuchFileException.class, () -> vfs.checkAccess(vfsPath("doesnotexist"), Set.of(AccessMode.READ)));
+            assertThrows(NoSuchFileException.class, () -> vfs.checkAccess(vfsPath("dir1", "file3"), Set.of(AccessMode.READ)));
+            assertThrows(NoSuchFileException.class, () -> vfs.checkAccess(vfsPath("somefile"), Set.of(AccessMode.READ)));
+        }
+    }
+
+    @Test
+    public void caseInsensitiveLookups() throws IOException {
+        try (VirtualFileSystem vfs = create(jarAnchor, true, null)) {
+            assertEquals("some file", read(vfs, vfsPath("somefile")));
+            assertEquals("abc", read(vfs, vfsPath("DIR1", "Sub", "FILE3")));
+            assertEquals(Set.of("file2", "sub"), list(vfs, vfsPath("Dir1")));
+            assertThrows(NoSuchFileException.class, () -> vfs.checkAccess(vfsPath("somefile1"), Set.of(AccessMode.READ)));
+        }
+    }
+
+    @Test
+    public void directoryListings() throws IOException {
+        for (Class<?> anchor : new Class<?>[]{dirAnchor, jarAnchor}) {
+            try (VirtualFileSystem vfs = create(anchor, false, null)) {
+                assertEquals(Set.of("SomeFile", "dir1", "dir1-x", "dir1.txt", "emptydir", "file1"), list(vfs, vfsPath()));
+                assertEquals(Set.of("file2", "sub"), list(vfs, vfsPath("dir1")));
+                assertEquals(Set.of("file3"), list(vfs, vfsPath("dir1", "sub")));
+                assertEquals(Set.of("file4"), list(vfs, vfsPath("dir1-x")));
+                assertEquals(Set.of(), list(vfs, vfsPath("emptydir")));
+                assertThrows(NotDirectoryException.class, () -> list(vfs, vfsPath("dir1.txt")));
+                assertThrows(NoSuchFileException.class, () -> list(vfs, vfsPath("doesnotexist")));
+            }
+        }
+    }
+
+    @Test
+    public void extractFromPack() throws IOException {
+        for (Class<?> anchor : new Class<?>[]{dirAnchor, jarAnchor}) {
+            try (VirtualFileSystem vfs = create(anchor, false, p -> p.getFileName().toString().equals("file3"))) {
+                Path extracted = vfs.toRealPath(Path.of("dir1", "sub", "file3"));
+                assertTrue(Files.exists(extracted));
+                assertEquals("abc", Files.readString(extracted));
+            }
+        }
+    }
+
+    @Test
+    public void concurrentLookups() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            for (Class<?> anchor : new Class<?>[]{dirAnchor, jarAnchor}) {
+                for (int round = 0; round < 20; round++) {
+                    try (VirtualFileSystem vfs = create(anchor, false, null)) {
+                        List<Future<?>> futures = new ArrayList<>();
+                        for (int i = 0; i < 8; i++) {
+                            futures.add(executor.submit(() -> {
+                                assertEquals(Set.of("SomeFile", "dir1", "dir1-x", "dir1.txt", "emptydir", "file1"), list(vfs, vfsPath()));
+                                assertEquals(Set.of("file2", "sub"), list(vfs, vfsPath("dir1")));
+                                assertEquals(Set.of("file3"), list(vfs, vfsPath("dir1", "sub")));
+                                assertEquals("abc", read(vfs, vfsPath("dir1", "sub", "file3")));
+                                assertEquals("text1\ntext2\n", read(vfs, vfsPath("file1")));
+                                return null;
+                            }));
+                        }
+                        for (Future<?> f : futures) {
+                            f.get();
+                        }
+                    }
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static String read(VirtualFileSystem vfs, Path path) throws IOException {
+        try (SeekableByteChannel channel = vfs.newByteChannel(path, Set.of(StandardOpenOption.READ))) {
+            ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+            while (buffer.hasRemaining() && channel.read(buffer) > 0) {
+                // keep reading
+            }
+            assertEquals(0, buffer.remaining());
+            return new String(buffer.array(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static Set<String> list(VirtualFileSystem vfs, Path dir) throws IOException {
+        Set<String> result = new TreeSet<>();
+        try (DirectoryStream<Path> stream = vfs.newDirectoryStream(dir, p -> true)) {
+            for (Path p : stream) {
+                result.add(p.getFileName().toString());
+            }
+        }
+        return result;
+    }
+}
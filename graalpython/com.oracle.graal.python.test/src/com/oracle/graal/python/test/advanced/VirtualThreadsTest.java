@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.test.advanced;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Value;
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.oracle.graal.python.test.PythonTests;
+
+public class VirtualThreadsTest extends PythonTests {
+    private Context context;
+
+    @Before
+    public void setUpTest() {
+        var builder = Context.newBuilder().allowExperimentalOptions(true).allowAllAccess(true);
+        builder.option("python.VirtualThreads", "true");
+        builder.option("python.PosixModuleBackend", "java");
+        context = builder.build();
+    }
+
+    @After
+    public void tearDown() {
+        context.close();
+    }
+
+    @Test
+    public void testStartAndJoin() {
+        Value result = context.eval("python", """
+                        import threading, time
+                        results = []
+                        lock = threading.Lock()
+                        def worker(i):
+                            time.sleep(0.01)
+                            with lock:
+                                results.append(i)
+                        threads = [threading.Thread(target=worker, args=(i,)) for i in range(200)]
+                        for t in threads:
+                            t.start()
+                        for t in threads:
+                            t.join()
+                        sorted(results) == list(range(200)) and threading.active_count() == 1
+                        """);
+        assertTrue(result.asBoolean());
+    }
+
+    @Test
+    public void testThreadLocalAndExceptions() {
+        Value result = context.eval("python", """
+                        import threading
+                        local = threading.local()
+                        local.value = 'main'
+                        seen = []
+                        def worker():
+                            seen.append(getattr(local, 'value', None))
+                            raise SystemExit
+                        t = threading.Thread(target=worker)
+                        t.start()
+                        t.join()
+                        (seen, local.value)
+                        """);
+        assertEquals("None", result.getArrayElement(0).getArrayElement(0).toString());
+        assertEquals("main", result.getArrayElement(1).asString());
+    }
+
+    @Test
+    public void testRunsOnVirtualThreads() {
+        Assume.assumeTrue(Runtime.version().feature() >= 21);
+        Value result = context.eval("python", """
+                        import java, threading
+                        virtual = []
+                        t = threading.Thread(target=lambda: virtual.append(java.type('java.lang.Thread').currentThread().isVirtual()))
+                        t.start()
+                        t.join()
+                        virtual[0]
+                        """);
+        assertTrue(result.asBoolean());
+    }
+
+    @Test
+    public void testCloseWithSleepingDaemonThread() throws InterruptedException {
+        Value result = context.eval("python", """
+                        import java, threading, time
+                        started = threading.Event()
+                        threads = []
+                        def worker():
+                            threads.append(java.type('java.lang.Thread').currentThread())
+                            started.set()
+                            time.sleep(1000)
+                        threading.Thread(target=worker, daemon=True).start()
+                        started.wait()
+                        threads[0]
+                        """);
+        Thread thread = result.asHostObject();
+        assertTrue(thread.isAlive());
+        context.close();
+        thread.join(10000);
+        assertFalse(thread.isAlive());
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2019, 2024, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -1075,6 +1075,56 @@ public class CompilerTests extends PythonTests {
 
     }
 
+    @Test
+    public void testOptimizeConstantFolding() {
+        String source = "x = 2 * 3 + 1\n" +
+                        "y = -1.5 * 4\n" +
+                        "z = 'ab' + 'c' * 2\n" +
+                        "w = 1 / 0\n";
+        doOptimizedTest(source);
+    }
+
+    @Test
+    public void testOptimizeJumpThreading() {
+        String source = "def f(a, b, c, d):\n" +
+                        "  return (a if b else c) if d else 0\n";
+        doOptimizedTest(source);
+    }
+
+    @Test
+    public void testOptimizeDeadCode() {
+        String source = "def f(a):\n" +
+                        "  if a:\n" +
+                        "    return 1\n" +
+                        "    a += 1\n" +
+                        "  else:\n" +
+                        "    raise ValueError(a)\n" +
+                        "    print(a)\n" +
+                        "  return 2\n";
+        doOptimizedTest(source);
+    }
+
+    @Test
+    public void testOptimizeConditionJumps() {
+        String source = "def f(a, b):\n" +
+                        "  if not a and b:\n" +
+                        "    return 1\n" +
+                        "  while a or not b:\n" +
+                        "    a = g(a)\n";
+        doOptimizedTest(source);
+    }
+
+    @Test
+    public void testOptimizeRedundantLocals() {
+        String source = "def f(a):\n" +
+                        "  a = a\n" +
+                        "  a\n" +
+                        "  b = 1\n" +
+                        "  b\n" +
+                        "  return a + b\n";
+        doOptimizedTest(source);
+    }
+
     private void doTest(String src) {
         doTest(src, InputType.FILE);
     }
@@ -1083,6 +1133,14 @@ public class CompilerTests extends PythonTests {
         checkCodeUnit(assemble(src, type));
     }
 
+    /**
+     * Like {@link #doTest(String)}, but with the bytecode optimizer, which is enabled by default
+     * through {@code PythonOptions.OptimizeBytecode}.
+     */
+    private void doOptimizedTest(String src) {
+        checkCodeUnit(assemble(src, InputType.FILE, EnumSet.of(Compiler.Flags.OPTIMIZE_BYTECODE)));
+    }
+
     private static void checkSyntaxErrorMessage(String src, String msg) {
         try {
             assemble(src, InputType.FILE);
@@ -1094,11 +1152,15 @@ public class CompilerTests extends PythonTests {
     }
 
     private static CodeUnit assemble(String src, InputType type) {
+        return assemble(src, type, EnumSet.noneOf(Compiler.Flags.class));
+    }
+
+    private static CodeUnit assemble(String src, InputType type, EnumSet<Compiler.Flags> flags) {
         ErrorCallback errorCallback = new TestErrorCallbackImpl();
         Parser parser = Compiler.createParser(src, errorCallback, type, false);
         ModTy result = (ModTy) parser.parse();
         Compiler compiler = new Compiler(errorCallback);
-        CompilationUnit cu = compiler.compile(result, EnumSet.noneOf(Compiler.Flags.class), 2, EnumSet.noneOf(FutureFeature.class));
+        CompilationUnit cu = compiler.compile(result, flags, 2, EnumSet.noneOf(FutureFeature.class));
         return cu.assemble();
     }
 
@@ -42,7 +42,7 @@ import os
 import pathlib
 import sys
 
-from . import CPyExtTestCase, CPyExtFunction, unhandled_error_compare
+from . import CPyExtTestCase, CPyExtFunction, unhandled_error_compare, compile_module_from_string, GRAALPYTHON
 
 __dir__ = __file__.rpartition("/")[0]
 
@@ -360,3 +360,57 @@ class TestMisc(CPyExtTestCase):
         arguments=["PyObject* value"],
         cmpfunc=unhandled_error_compare
     )
+
+
+def test_capi_timing():
+    if not GRAALPYTHON:
+        return
+    module = compile_module_from_string("""
+        #define PY_SSIZE_T_CLEAN
+        #include <Python.h>
+
+        static PyObject* make_pair(PyObject* module, PyObject* arg) {
+            return Py_BuildValue("(OO)", arg, arg);
+        }
+
+        static PyMethodDef module_methods[] = {
+            {"make_pair", _PyCFunction_CAST(make_pair), METH_O, ""},
+            {NULL}
+        };
+
+        static PyModuleDef CApiTimingModule = {
+            PyModuleDef_HEAD_INIT, "CApiTiming", "", -1, module_methods
+        };
+
+        PyMODINIT_FUNC
+        PyInit_CApiTiming(void)
+        {
+            return PyModule_Create(&CApiTimingModule);
+        }
+    """, "CApiTiming")
+    previous = __graalpython__.set_capi_timing(True)
+    try:
+        __graalpython__.reset_capi_timing_statistics()
+        for i in range(10):
+            assert module.make_pair(i) == (i, i)
+        stats = __graalpython__.get_capi_timing_statistics()
+    finally:
+        __graalpython__.set_capi_timing(previous)
+    downcalls = [entry for entry in stats if entry[1] and "make_pair" in entry[0]]
+    assert downcalls, stats
+    name, downcall, count, time, allocations, histogram = downcalls[0]
+    assert count == 10
+    assert time >= 0
+    assert allocations >= 0
+    assert sum(histogram) == count
+    assert any(not entry[1] for entry in stats), "expected upcalls from Py_BuildValue"
+
+    __graalpython__.reset_capi_timing_statistics()
+    assert __graalpython__.get_capi_timing_statistics() == []
+
+    previous = __graalpython__.set_capi_timing(False)
+    try:
+        assert module.make_pair(1) == (1, 1)
+    finally:
+        __graalpython__.set_capi_timing(previous)
+    assert __graalpython__.get_capi_timing_statistics() == []
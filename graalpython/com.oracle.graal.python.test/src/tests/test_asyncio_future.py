@@ -0,0 +1,238 @@
+# Copyright (c) 2024, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+# SOFTWARE.
+import asyncio
+import _asyncio
+import contextvars
+import unittest
+
+
+class FutureTests(unittest.TestCase):
+    def setUp(self):
+        self.loop = asyncio.new_event_loop()
+
+    def tearDown(self):
+        self.loop.close()
+
+    def test_uses_native_implementation(self):
+        self.assertIs(asyncio.Future, _asyncio.Future)
+        self.assertIs(asyncio.Task, _asyncio.Task)
+
+    def test_result(self):
+        fut = self.loop.create_future()
+        self.assertFalse(fut.done())
+        self.assertRaises(asyncio.InvalidStateError, fut.result)
+        fut.set_result(42)
+        self.assertTrue(fut.done())
+        self.assertEqual(42, fut.result())
+        self.assertIsNone(fut.exception())
+        self.assertRaises(asyncio.InvalidStateError, fut.set_result, 1)
+
+    def test_exception(self):
+        fut = self.loop.create_future()
+        fut.set_exception(ValueError)
+        self.assertIsInstance(fut.exception(), ValueError)
+        self.assertRaises(ValueError, fut.result)
+        fut = self.loop.create_future()
+        self.assertRaises(TypeError, fut.set_exception, StopIteration())
+
+    def test_cancel(self):
+        fut = self.loop.create_future()
+        self.assertTrue(fut.cancel("bye"))
+        self.assertTrue(fut.cancelled())
+        self.assertFalse(fut.cancel())
+        with self.assertRaises(asyncio.CancelledError) as cm:
+            fut.result()
+        self.assertEqual(("bye",), cm.exception.args)
+
+    def test_callbacks(self):
+        fut = self.loop.create_future()
+        calls = []
+        ctx = contextvars.copy_context()
+        cb1 = lambda f: calls.append(("cb1", f.result()))
+        cb2 = lambda f: calls.append(("cb2", f.result()))
+        fut.add_done_callback(cb1)
+        fut.add_done_callback(cb2, context=ctx)
+        fut.add_done_callback(cb1)
+        self.assertEqual(3, len(fut._callbacks))
+        self.assertEqual(2, fut.remove_done_callback(cb1))
+        self.assertEqual([(cb2, ctx)], fut._callbacks)
+        fut.set_result(7)
+        self.assertIsNone(fut._callbacks)
+        self.loop.run_until_complete(asyncio.sleep(0))
+        self.assertEqual([("cb2", 7)], calls)
+
+    def test_await(self):
+        async def waiter(fut):
+            return await fut
+
+        fut = self.loop.create_future()
+        self.loop.call_soon(fut.set_result, "done")
+        self.assertEqual("done", self.loop.run_until_complete(waiter(fut)))
+
+    def test_repr(self):
+        fut = self.loop.create_future()
+        self.assertIn("pending", repr(fut))
+        fut.set_result(1)
+        self.assertIn("finished result=1", repr(fut))
+
+    def test_uninitialized(self):
+        fut = asyncio.Future.__new__(asyncio.Future)
+        self.assertRaises(asyncio.InvalidStateError, fut.result)
+        self.assertFalse(fut.done())
+
+    def test_del_reports_unretrieved_exception(self):
+        contexts = []
+        self.loop.set_exception_handler(lambda loop, context: contexts.append(context))
+        self.loop.set_debug(True)
+        fut = self.loop.create_future()
+        exc = ValueError("never retrieved")
+        fut.set_exception(exc)
+        fut.__del__()
+        self.assertEqual(1, len(contexts))
+        self.assertEqual("Future exception was never retrieved", contexts[0]["message"])
+        self.assertIs(exc, contexts[0]["exception"])
+        self.assertIs(fut, contexts[0]["future"])
+        self.assertIs(fut._source_traceback, contexts[0]["source_traceback"])
+        # the exception is reported only once
+        fut.__del__()
+        self.assertEqual(1, len(contexts))
+        fut = self.loop.create_future()
+        fut.set_exception(exc)
+        fut.exception()
+        fut.__del__()
+        self.assertEqual(1, len(contexts))
+
+
+class TaskTests(unittest.TestCase):
+    def setUp(self):
+        self.loop = asyncio.new_event_loop()
+
+    def tearDown(self):
+        self.loop.close()
+
+    def test_gather(self):
+        async def square(x):
+            await asyncio.sleep(0)
+            return x * x
+
+        async def main():
+            return await asyncio.gather(*(square(i) for i in range(10)))
+
+        self.assertEqual([i * i for i in range(10)], self.loop.run_until_complete(main()))
+
+    def test_name_and_current_task(self):
+        async def coro():
+            return asyncio.current_task().get_name()
+
+        task = self.loop.create_task(coro(), name="worker")
+        self.assertEqual("worker", self.loop.run_until_complete(task))
+        task.set_name(42)
+        self.assertEqual("42", task.get_name())
+        self.assertTrue(self.loop.create_task(coro()).get_name().startswith("Task-"))
+        self.loop.run_until_complete(asyncio.sleep(0))
+
+    def test_exception(self):
+        async def fail():
+            await asyncio.sleep(0)
+            raise KeyError("x")
+
+        task = self.loop.create_task(fail())
+        self.assertRaises(KeyError, self.loop.run_until_complete, task)
+        self.assertIsInstance(task.exception(), KeyError)
+
+    def test_cancel(self):
+        started = []
+
+        async def sleeper():
+            started.append(True)
+            await asyncio.sleep(10)
+
+        async def main():
+            task = asyncio.ensure_future(sleeper())
+            await asyncio.sleep(0)
+            self.assertTrue(task.cancel("stop"))
+            self.assertEqual(1, task.cancelling())
+            try:
+                await task
+            except asyncio.CancelledError:
+                return task.cancelled()
+
+        self.assertTrue(self.loop.run_until_complete(main()))
+        self.assertEqual([True], started)
+
+    def test_not_a_coroutine(self):
+        self.assertRaises(TypeError, asyncio.Task, 42, loop=self.loop)
+
+    def test_unsupported_operations(self):
+        async def coro():
+            pass
+
+        task = self.loop.create_task(coro())
+        self.assertRaises(RuntimeError, task.set_result, 1)
+        self.assertRaises(RuntimeError, task.set_exception, ValueError())
+        self.loop.run_until_complete(task)
+
+    def test_bad_yield(self):
+        class BadAwaitable:
+            def __await__(self):
+                yield 42
+
+        async def coro():
+            await BadAwaitable()
+
+        task = self.loop.create_task(coro())
+        with self.assertRaisesRegex(RuntimeError, "bad yield"):
+            self.loop.run_until_complete(task)
+
+    def test_del_reports_pending_task(self):
+        contexts = []
+        self.loop.set_exception_handler(lambda loop, context: contexts.append(context))
+
+        async def coro():
+            pass
+
+        task = self.loop.create_task(coro())
+        task.__del__()
+        self.assertEqual(1, len(contexts))
+        self.assertEqual("Task was destroyed but it is pending!", contexts[0]["message"])
+        self.assertIs(task, contexts[0]["task"])
+        self.assertNotIn("source_traceback", contexts[0])
+        self.loop.run_until_complete(task)
+        task.__del__()
+        self.assertEqual(1, len(contexts))
@@ -0,0 +1,114 @@
+# Copyright (c) 2024, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+# SOFTWARE.
+
+import _imp
+import importlib
+import importlib.util
+import os
+import sys
+import tempfile
+import unittest
+
+IS_GRAALPY = sys.implementation.name == 'graalpy'
+
+
+class BytecodeCacheTests(unittest.TestCase):
+
+    def setUp(self):
+        self.tmp = tempfile.TemporaryDirectory()
+        self.dont_write_bytecode = sys.dont_write_bytecode
+        sys.dont_write_bytecode = False
+        sys.path.insert(0, self.tmp.name)
+        importlib.invalidate_caches()
+
+    def tearDown(self):
+        sys.path.remove(self.tmp.name)
+        sys.dont_write_bytecode = self.dont_write_bytecode
+        sys.modules.pop('bccache_mod', None)
+        self.tmp.cleanup()
+
+    def write_source(self, text):
+        path = os.path.join(self.tmp.name, 'bccache_mod.py')
+        with open(path, 'w') as f:
+            f.write(text)
+        # keep mtime and size equal between rewrites
+        os.utime(path, (1000000000, 1000000000))
+        return path
+
+    def import_fresh(self):
+        sys.modules.pop('bccache_mod', None)
+        importlib.invalidate_caches()
+        return importlib.import_module('bccache_mod')
+
+    def test_source_hash_is_stable(self):
+        self.assertEqual(bytes.fromhex('227e9d3fb0bfb21c'), _imp.source_hash(3495, b'hello world, this is source'))
+        self.assertEqual(bytes.fromhex('8125964ebf0e4ac4'), _imp.source_hash(1, b''))
+        self.assertNotEqual(_imp.source_hash(1, b'a = 1'), _imp.source_hash(1, b'a = 2'))
+
+    def test_pyc_is_written(self):
+        path = self.write_source('value = 1\n')
+        self.assertEqual(1, self.import_fresh().value)
+        with open(importlib.util.cache_from_source(path), 'rb') as f:
+            data = f.read()
+        self.assertEqual(importlib.util.MAGIC_NUMBER, data[:4])
+        if IS_GRAALPY:
+            flags = int.from_bytes(data[4:8], 'little')
+            self.assertEqual(0b11, flags)
+            self.assertEqual(_imp.source_hash(importlib.util._RAW_MAGIC_NUMBER, b'value = 1\n'), data[8:16])
+        self.assertEqual(1, self.import_fresh().value)
+
+    @unittest.skipUnless(IS_GRAALPY, "CPython writes timestamp-based pycs by default")
+    def test_changed_source_with_same_mtime(self):
+        self.write_source('value = 1\n')
+        self.assertEqual(1, self.import_fresh().value)
+        self.write_source('value = 2\n')
+        self.assertEqual(2, self.import_fresh().value)
+
+    @unittest.skipUnless(IS_GRAALPY, "CPython fails on bad marshal data")
+    def test_corrupt_pyc_is_recompiled(self):
+        path = self.write_source('value = 3\n')
+        self.import_fresh()
+        pyc = importlib.util.cache_from_source(path)
+        with open(pyc, 'rb') as f:
+            header = f.read(16)
+        with open(pyc, 'wb') as f:
+            f.write(header + b'\xff\x00garbage')
+        self.assertEqual(3, self.import_fresh().value)
+        with open(pyc, 'rb') as f:
+            self.assertNotIn(b'garbage', f.read())
@@ -0,0 +1,210 @@
+# Copyright (c) 2024, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+# SOFTWARE.
+
+import sys
+import unittest
+
+
+def run(source, **namespace):
+    exec(compile(source, "<test>", "exec"), namespace)
+    return namespace
+
+
+class ConstantFoldingTests(unittest.TestCase):
+
+    def test_int_arithmetic(self):
+        ns = run("a = 2 * 3 + 1\nb = -7 // 2\nc = -7 % 2\nd = 2 ** 10\ne = 1 << 70\nf = -1 >> 100\ng = ~5 & 0xff | 1 ^ 3\nh = 7 / 2")
+        self.assertEqual(7, ns["a"])
+        self.assertEqual(-4, ns["b"])
+        self.assertEqual(1, ns["c"])
+        self.assertEqual(1024, ns["d"])
+        self.assertEqual(2 ** 70, ns["e"])
+        self.assertEqual(-1, ns["f"])
+        self.assertEqual((~5 & 0xff) | (1 ^ 3), ns["g"])
+        self.assertEqual(3.5, ns["h"])
+
+    def test_large_ints(self):
+        ns = run("a = 2 ** 64 - 1\nb = 0x7fffffff + 1\nc = -(2 ** 63)\nd = 10 ** 40 * 10 ** 40")
+        self.assertEqual(18446744073709551615, ns["a"])
+        self.assertEqual(2147483648, ns["b"])
+        self.assertEqual(-9223372036854775808, ns["c"])
+        self.assertEqual(10 ** 80, ns["d"])
+
+    def test_float_arithmetic(self):
+        ns = run("a = 1.5 * 2\nb = 1 + 0.25\nc = -0.0\nd = 1.0 / 3")
+        self.assertEqual(3.0, ns["a"])
+        self.assertEqual(1.25, ns["b"])
+        self.assertEqual("-0.0", repr(ns["c"]))
+        self.assertEqual(1.0 / 3, ns["d"])
+
+    def test_strings(self):
+        ns = run("a = 'ab' + 'cd'\nb = 'ab' * 3\nc = 2 * 'x'\nd = 'x' * -1\ne = 'é' + '😀'")
+        self.assertEqual("abcd", ns["a"])
+        self.assertEqual("ababab", ns["b"])
+        self.assertEqual("xx", ns["c"])
+        self.assertEqual("", ns["d"])
+        self.assertEqual("é😀", ns["e"])
+
+    def test_errors_are_raised_at_runtime(self):
+        code = compile("1 / 0", "<test>", "exec")
+        self.assertRaises(ZeroDivisionError, exec, code)
+        code = compile("1 % 0", "<test>", "exec")
+        self.assertRaises(ZeroDivisionError, exec, code)
+        code = compile("1 << -1", "<test>", "exec")
+        self.assertRaises(ValueError, exec, code)
+        code = compile("'a' + 1", "<test>", "exec")
+        self.assertRaises(TypeError, exec, code)
+        code = compile("-'a'", "<test>", "exec")
+        self.assertRaises(TypeError, exec, code)
+
+
+class ControlFlowTests(unittest.TestCase):
+
+    def test_code_after_return(self):
+        def f(x):
+            if x:
+                return 1
+            else:
+                return 2
+            x = 3
+            return x
+        self.assertEqual(1, f(True))
+        self.assertEqual(2, f(False))
+
+    def test_code_after_raise(self):
+        def f():
+            try:
+                raise KeyError
+                return 1
+            except KeyError:
+                return 2
+        self.assertEqual(2, f())
+
+    def test_conditions(self):
+        def f(a, b, c):
+            if a and (b or not c):
+                return 1
+            elif not (a or b) and c:
+                return 2
+            return 3
+        for a in (0, 1):
+            for b in (0, 1):
+                for c in (0, 1):
+                    expected = 1 if a and (b or not c) else (2 if not (a or b) and c else 3)
+                    self.assertEqual(expected, f(a, b, c), (a, b, c))
+
+    def test_loops(self):
+        def f(n):
+            result = []
+            i = 0
+            while i < n and not (i > 5 or i == 3):
+                for j in range(i):
+                    if j % 2:
+                        continue
+                    result.append(j)
+                else:
+                    result.append(-1)
+                i += 1
+            return result
+        self.assertEqual([-1, 0, -1, 0, -1], f(10))
+
+    def test_short_circuit_values(self):
+        def f(a, b):
+            return (a and b) or (a or b)
+        self.assertEqual(2, f(1, 2))
+        self.assertEqual(2, f(0, 2))
+        self.assertEqual(0, f(0, 0))
+
+
+class LocalVariableTests(unittest.TestCase):
+
+    def test_self_assignment(self):
+        def f(x):
+            x = x
+            y = x
+            y = y
+            y
+            return y
+        self.assertEqual(42, f(42))
+
+    def test_unbound_locals(self):
+        def f(flag):
+            if flag:
+                x = 1
+            x = x
+            return x
+        self.assertEqual(1, f(True))
+        self.assertRaises(UnboundLocalError, f, False)
+
+        def g():
+            x = 1
+            del x
+            x
+        self.assertRaises(UnboundLocalError, g)
+
+        def h():
+            try:
+                x = int("a")
+            except ValueError:
+                x
+        self.assertRaises(UnboundLocalError, h)
+
+    def test_line_events(self):
+        def f(x):
+            x = x
+            x
+            return x
+
+        lines = []
+
+        def tracer(frame, event, arg):
+            if frame.f_code is f.__code__ and event == "line":
+                lines.append(frame.f_lineno - f.__code__.co_firstlineno)
+            return tracer
+
+        sys.settrace(tracer)
+        try:
+            f(1)
+        finally:
+            sys.settrace(None)
+        self.assertEqual([1, 2, 3], lines)
+
+
+if __name__ == '__main__':
+    unittest.main()
@@ -0,0 +1,147 @@
+# Copyright (c) 2024, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+# SOFTWARE.
+
+import bz2
+import gzip
+import lzma
+import subprocess
+import sys
+import threading
+import unittest
+import zlib
+
+GRAALPYTHON = sys.implementation.name == "graalpy"
+
+# about 400 KB of log-like data, large enough to be (de)compressed without the GIL
+DATA = b''.join(b'%d some line of log output %x\n' % (i, i * 2654435761 % 2 ** 32) for i in range(10000))
+
+
+def run_in_threads(fn, count=4):
+    errors = []
+
+    def target():
+        try:
+            fn()
+        except BaseException as e:
+            errors.append(e)
+
+    threads = [threading.Thread(target=target) for _ in range(count)]
+    for t in threads:
+        t.start()
+    for t in threads:
+        t.join()
+    if errors:
+        raise errors[0]
+
+
+class ThreadedCompressionTest(unittest.TestCase):
+
+    def check_roundtrip(self, compress, decompress, compressor, decompressor):
+        def work():
+            self.assertEqual(decompress(compress(DATA)), DATA)
+            c = compressor()
+            compressed = c.compress(DATA) + c.flush()
+            self.assertEqual(decompressor().decompress(compressed), DATA)
+
+        run_in_threads(work)
+
+    def test_zlib(self):
+        self.check_roundtrip(zlib.compress, zlib.decompress, zlib.compressobj, zlib.decompressobj)
+
+    def test_bz2(self):
+        self.check_roundtrip(bz2.compress, bz2.decompress, bz2.BZ2Compressor, bz2.BZ2Decompressor)
+
+    def test_lzma(self):
+        self.check_roundtrip(lzma.compress, lzma.decompress, lzma.LZMACompressor, lzma.LZMADecompressor)
+
+    def test_errors(self):
+        # large enough to be decompressed without the GIL, errors are raised after re-acquiring it
+        garbage = b'garbage!' * 4096
+
+        def work():
+            self.assertRaises(zlib.error, zlib.decompress, garbage)
+            self.assertRaises(zlib.error, zlib.decompressobj().decompress, garbage)
+            self.assertRaises(OSError, bz2.decompress, garbage)
+            self.assertRaises(OSError, bz2.BZ2Decompressor().decompress, garbage)
+            self.assertRaises(lzma.LZMAError, lzma.decompress, garbage)
+            self.assertRaises(lzma.LZMAError, lzma.LZMADecompressor().decompress, garbage)
+
+        run_in_threads(work)
+
+    def test_shared_object(self):
+        # small and large inputs on one object from several threads must neither deadlock nor fail,
+        # the order of the output chunks is not deterministic though
+        chunks = [DATA[i:i + 100] for i in range(0, 20000, 100)] + [DATA]
+        for c in (zlib.compressobj(), bz2.BZ2Compressor(), lzma.LZMACompressor()):
+            def work():
+                for chunk in chunks:
+                    c.compress(chunk)
+
+            run_in_threads(work)
+            self.assertTrue(c.flush())
+
+
+@unittest.skipUnless(GRAALPYTHON, "GraalPy option")
+class ParallelCompressionTest(unittest.TestCase):
+
+    def test_parallel_compression(self):
+        script = """if True:
+            import gzip, lzma, zlib
+            data = b''.join(b'%d some line of log output %x\\n' % (i, i * 2654435761 % 2 ** 32) for i in range(10000))
+            for wbits in (zlib.MAX_WBITS, -zlib.MAX_WBITS, zlib.MAX_WBITS | 16):
+                for level in (-1, 0, 1, 9):
+                    assert zlib.decompress(zlib.compress(data, level, wbits), wbits) == data, (level, wbits)
+            assert zlib.decompress(zlib.compress(data, wbits=9), wbits=9) == data
+            assert gzip.decompress(gzip.compress(data)) == data
+            assert gzip.decompress(gzip.compress(data, mtime=0)) == data
+            compressed = lzma.compress(data)
+            # the blocks are written into a single .xz stream
+            assert compressed.count(b'\\xfd7zXZ\\x00') == 1, "expected a single .xz stream"
+            assert lzma.decompress(compressed) == data
+            decompressor = lzma.LZMADecompressor()
+            assert decompressor.decompress(compressed) == data
+            assert decompressor.eof and decompressor.unused_data == b''
+            assert lzma.decompress(lzma.compress(data, check=lzma.CHECK_SHA256, preset=1)) == data
+            print("DONE")
+        """
+        result = subprocess.check_output([sys.executable, '--experimental-options',
+                                          '--python.ParallelCompressionThreads=4',
+                                          '--python.ParallelCompressionBlockSize=131072',
+                                          '-c', script], text=True)
+        self.assertIn('DONE', result)
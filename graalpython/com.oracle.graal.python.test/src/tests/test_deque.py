@@ -1,4 +1,4 @@
-# Copyright (c) 2018, 2021, Oracle and/or its affiliates. All rights reserved.
+# Copyright (c) 2018, 2024, Oracle and/or its affiliates. All rights reserved.
 # DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
 #
 # The Universal Permissive License (UPL), Version 1.0
@@ -629,3 +629,49 @@ class TestBasic(unittest.TestCase):
         klass = type(reversed(deque()))
         for s in ('abcd', range(2000)):
             self.assertEqual(list(klass(deque(s))), list(reversed(s)))
+
+    def test_mixed_element_types(self):
+        d = deque([1, 2, 3])
+        d.append(2 ** 40)
+        d.appendleft(1.5)
+        d.append(True)
+        d.append('x')
+        self.assertEqual([1.5, 1, 2, 3, 2 ** 40, True, 'x'], list(d))
+        self.assertEqual([float, int, int, int, int, bool, str], [type(x) for x in d])
+        d.clear()
+        d.extend([0.5, 1.5])
+        d.append(2)
+        self.assertEqual([float, float, int], [type(x) for x in d])
+        self.assertEqual(1, d.index(1.5))
+
+    def test_sliding_window(self):
+        d = deque(maxlen=4)
+        for i in range(100):
+            d.append(i * 0.5)
+            self.assertEqual(min(i + 1, 4), len(d))
+            self.assertEqual(i * 0.5, d[-1])
+        self.assertEqual([48.0, 48.5, 49.0, 49.5], list(d))
+        d.appendleft(1)
+        self.assertEqual([1, 48.0, 48.5, 49.0], list(d))
+
+    def test_insert_and_delete_middle(self):
+        d = deque(range(10))
+        ref = list(range(10))
+        for i in (3, 8, -2, 5, 0, 12):
+            d.insert(i, i * 100)
+            ref.insert(i, i * 100)
+            self.assertEqual(ref, list(d))
+        for i in (2, 9, -3, 0):
+            del d[i]
+            del ref[i]
+            self.assertEqual(ref, list(d))
+            self.assertEqual(ref[len(ref) // 2], d[len(d) // 2])
+
+    def test_rotate_partial(self):
+        for size in (1, 5, 8, 9, 33):
+            d = deque(range(size))
+            for n in (1, 3, -2, size - 1, -size - 3, 2 * size + 1):
+                ref = list(d)
+                d.rotate(n)
+                k = n % size
+                self.assertEqual(ref[-k:] + ref[:-k] if k else ref, list(d))
@@ -297,6 +297,96 @@ class ExceptionTests(unittest.TestCase):
         self.assertEqual(e.args[0], "second")
         self.assertIsNone(e.__context__)
 
+    def test_implicit_chaining_with_handler_ignoring_exception(self):
+        def lookup(d, k):
+            try:
+                return d[k]
+            except (KeyError, IndexError):
+                return None
+
+        def lookup_mismatch(d, k):
+            try:
+                return d[k]
+            except IndexError:
+                return None
+
+        def lookup_undefined(d, k):
+            try:
+                return d[k]
+            except UndefinedError:  # noqa: F821
+                return None
+
+        try:
+            raise OSError("first")
+        except OSError:
+            self.assertIsNone(lookup({}, 1))
+            self.assertEqual(type(sys.exc_info()[1]), OSError)
+            try:
+                lookup_mismatch({}, 1)
+            except KeyError as exc:
+                e = exc
+            self.assertEqual(type(e.__context__), OSError)
+            try:
+                lookup_undefined({}, 1)
+            except NameError as exc:
+                e = exc
+            self.assertEqual(type(e.__context__), KeyError)
+            self.assertEqual(type(e.__context__.__context__), OSError)
+        self.assertIsNone(lookup({}, 1))
+        try:
+            lookup_mismatch({}, 1)
+        except KeyError as exc:
+            e = exc
+        self.assertIsNone(e.__context__)
+
+    def test_implicit_chaining_reraise_from_nested_handler_ignoring_exception(self):
+        def nested(d, k):
+            try:
+                try:
+                    return d[k]
+                except IndexError:
+                    return None
+                finally:
+                    pass
+            except TypeError:
+                return None
+
+        def nested_raise(d, k):
+            try:
+                try:
+                    return d[k]
+                except IndexError:
+                    return None
+            except KeyError:
+                raise ValueError("second")
+
+        try:
+            raise OSError("first")
+        except OSError:
+            try:
+                nested({}, 1)
+            except KeyError as exc:
+                e = exc
+            self.assertEqual(type(e.__context__), OSError)
+            try:
+                nested_raise({}, 1)
+            except ValueError as exc:
+                e = exc
+            self.assertEqual(type(e.__context__), KeyError)
+            self.assertEqual(type(e.__context__.__context__), OSError)
+            self.assertEqual(type(sys.exc_info()[1]), OSError)
+        try:
+            nested({}, 1)
+        except KeyError as exc:
+            e = exc
+        self.assertIsNone(e.__context__)
+        try:
+            nested_raise({}, 1)
+        except ValueError as exc:
+            e = exc
+        self.assertEqual(type(e.__context__), KeyError)
+        self.assertIsNone(e.__context__.__context__)
+
     def test_implicit_chaining_from_outer(self):
         def bar():
             try:
@@ -1,4 +1,4 @@
-# Copyright (c) 2018, 2023, Oracle and/or its affiliates. All rights reserved.
+# Copyright (c) 2024, Oracle and/or its affiliates. All rights reserved.
 # DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
 #
 # The Universal Permissive License (UPL), Version 1.0
@@ -36,10 +36,47 @@
 # LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
 # OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
 # SOFTWARE.
+import sys
+import threading
 
-__graalpython__.import_current_as_named_module_with_delegate(
-    module_name="unicodedata",
-    delegate_name="_cpython_unicodedata",
-    delegate_attributes=['ucd_3_2_0', 'lookup', 'east_asian_width', 'combining'],
-    wrap_methods=False,
-    owner_globals=globals())
+
+def test_switchinterval_roundtrip():
+    orig = sys.getswitchinterval()
+    assert abs(orig - 0.005) < 1e-9, orig
+    try:
+        for n in (0.0001, 0.002, 0.05):
+            sys.setswitchinterval(n)
+            assert abs(sys.getswitchinterval() - n) < 1e-9, sys.getswitchinterval()
+    finally:
+        sys.setswitchinterval(orig)
+
+
+def test_threads_make_progress_with_short_interval():
+    orig = sys.getswitchinterval()
+    sys.setswitchinterval(0.001)
+    try:
+        counts = [0, 0]
+        stop = threading.Event()
+
+        def worker(i):
+            while not stop.is_set():
+                counts[i] += 1
+
+        threads = [threading.Thread(target=worker, args=(i,)) for i in range(2)]
+        for t in threads:
+            t.start()
+        stop.wait(0.2)
+        stop.set()
+        for t in threads:
+            t.join()
+        assert counts[0] > 0 and counts[1] > 0, counts
+    finally:
+        sys.setswitchinterval(orig)
+
+
+def test_gil_statistics():
+    if sys.implementation.name == "graalpy":
+        stats = __graalpython__.get_gil_statistics()
+        assert isinstance(stats, list)
+        for entry in stats:
+            assert len(entry) == 5
@@ -80,6 +80,72 @@ class HashlibTest(unittest.TestCase):
         hm = hmac.new(self._get_buffer(), b'data', digestmod=hashlib.sha256)
         self.assertEqual('c449f6626bf7f997cda786d07895f086c2fa18eab25b1c08c4de66a5d46a2a08', hm.hexdigest())
 
+    def test_large_update(self):
+        data = bytes(range(256)) * 4096
+        expected = hashlib.sha256(data).hexdigest()
+        h = hashlib.sha256()
+        for i in range(0, len(data), 100000):
+            h.update(memoryview(data)[i:i + 100000])
+        self.assertEqual(expected, h.hexdigest())
+        h = hashlib.sha256(b'x')
+        h.update(bytearray(data))
+        h.update(b'y')
+        self.assertEqual(hashlib.sha256(b'x' + data + b'y').hexdigest(), h.hexdigest())
+
+    def test_concurrent_updates(self):
+        import threading
+        chunk = b'abcdefgh' * 4096
+        shared = hashlib.sha1()
+        results = {}
+
+        def work(i):
+            own = hashlib.sha1()
+            for _ in range(20):
+                own.update(chunk)
+                shared.update(chunk)
+            results[i] = own.hexdigest()
+
+        threads = [threading.Thread(target=work, args=(i,)) for i in range(4)]
+        for t in threads:
+            t.start()
+        for t in threads:
+            t.join()
+        expected = hashlib.sha1(chunk * 20).hexdigest()
+        self.assertEqual({i: expected for i in range(4)}, results)
+        self.assertEqual(hashlib.sha1(chunk * 80).hexdigest(), shared.hexdigest())
+
+    def test_file_digest(self):
+        import io
+        import os
+        import tempfile
+        data = os.urandom(3 * 1024 * 1024 + 17)
+        fd, path = tempfile.mkstemp()
+        try:
+            with os.fdopen(fd, 'wb') as f:
+                f.write(data)
+            for buffering in (-1, 0):
+                with open(path, 'rb', buffering=buffering) as f:
+                    self.assertEqual(hashlib.sha256(data).hexdigest(), hashlib.file_digest(f, 'sha256').hexdigest())
+                    self.assertEqual(b'', f.read())
+                with open(path, 'rb', buffering=buffering) as f:
+                    # starts at the current (buffered) position
+                    f.read(5)
+                    self.assertEqual(hashlib.md5(data[5:]).hexdigest(), hashlib.file_digest(f, hashlib.md5).hexdigest())
+                    self.assertEqual(len(data), f.tell())
+            with open(path, 'rb') as f:
+                # a digest object that is not built-in
+                class Digest:
+                    def __init__(self):
+                        self.h = hashlib.sha1()
+
+                    def update(self, b):
+                        self.h.update(b)
+
+                self.assertEqual(hashlib.sha1(data).hexdigest(), hashlib.file_digest(f, Digest).h.hexdigest())
+            self.assertEqual(hashlib.sha1(data).hexdigest(), hashlib.file_digest(io.BytesIO(data), 'sha1').hexdigest())
+        finally:
+            os.unlink(path)
+
     @staticmethod
     def _get_buffer():
         ba = bytearray(b'ab')
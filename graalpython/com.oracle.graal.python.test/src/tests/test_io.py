@@ -1,4 +1,4 @@
-# Copyright (c) 2021, 2022, Oracle and/or its affiliates. All rights reserved.
+# Copyright (c) 2021, 2024, Oracle and/or its affiliates. All rights reserved.
 # DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
 #
 # The Universal Permissive License (UPL), Version 1.0
@@ -311,6 +311,42 @@ class IOBaseTests(unittest.TestCase):
         t = _io.TextIOWrapper(MockRawIO(), newline="\r\n")
         self.assertEqual(["ab\r\n", "cd"], t.readlines())
 
+    def test_line_iteration(self):
+        text = "first\nsecond\r\nthird\rfourth\n\n\r\r\nfifth line is a bit longer\r\n" * 20 + "last"
+        for newline in (None, "", "\n", "\r", "\r\n"):
+            if newline is None:
+                expected = text.replace("\r\n", "\n").replace("\r", "\n").splitlines(keepends=True)
+            elif newline == "":
+                expected = text.splitlines(keepends=True)
+            else:
+                expected = [line + newline for line in text.split(newline)]
+                expected[-1] = expected[-1][:-len(newline)]
+            for chunk_size in (1, 3, 7, 64, 8192):
+                for encoding in ("utf-8", "latin-1", "utf-16"):
+                    t = _io.TextIOWrapper(_io.BytesIO(text.encode(encoding)), encoding=encoding, newline=newline)
+                    t._CHUNK_SIZE = chunk_size
+                    self.assertEqual(expected, list(t), (newline, chunk_size, encoding))
+                    t.seek(0)
+                    lines = []
+                    while line := t.readline():
+                        lines.append(line)
+                    self.assertEqual(expected, lines, (newline, chunk_size, encoding))
+
+    def test_line_iteration_mixed_with_read(self):
+        text = "".join("line %d\n" % i for i in range(100))
+        t = _io.TextIOWrapper(_io.BytesIO(text.encode()), encoding="utf-8")
+        t._CHUNK_SIZE = 64
+        self.assertEqual("line 0\n", next(t))
+        self.assertEqual("lin", t.read(3))
+        self.assertEqual("e 1\n", next(t))
+        self.assertEqual("line", t.readline(4))
+        self.assertEqual(" 2\n", t.readline())
+        self.assertEqual("line 3\nline 4\n", t.read(14))
+        self.assertEqual("line 5\n", next(t))
+        rest = t.read()
+        self.assertEqual(text[text.index("line 6\n"):], rest)
+        self.assertRaises(StopIteration, next, t)
+
 
 if __name__ == '__main__':
     unittest.main()
@@ -39,6 +39,7 @@
 
 import json
 import os
+import sys
 import unittest
 
 BIGINT_JSON_DATA = '''
@@ -83,8 +84,103 @@ class JsonTest(unittest.TestCase):
             10,
         }
 
+    def test_load_int_digit_limit(self):
+        old = sys.get_int_max_str_digits()
+        try:
+            sys.set_int_max_str_digits(1000)
+            self.assertEqual(int('9' * 1000), json.loads('9' * 1000))
+            self.assertEqual([-int('9' * 1000)], json.loads('[-' + '9' * 1000 + ']'))
+            for doc in ('1' * 1001, '-' + '1' * 1001, '[' + '1' * 1001 + ']', '{"a": ' + '1' * 1001 + '}'):
+                with self.assertRaisesRegex(ValueError, 'Exceeds the limit .*1000.* for integer string conversion'):
+                    json.loads(doc)
+            sys.set_int_max_str_digits(0)
+            self.assertEqual(int('1' * 5000), json.loads('1' * 5000))
+        finally:
+            sys.set_int_max_str_digits(old)
+
     def test_encode_surrogate(self):
         s = json.dumps({'foo': "\uda6a"})
         assert s == '{"foo": "\\uda6a"}'
         s = json.dumps({'foo': "\uda6a"}, ensure_ascii=False)
         assert s == '{"foo": "\uda6a"}'
+
+    def test_load_number_lists(self):
+        self.assertEqual(json.loads('[1, -2, 0, -0, 2147483647, -2147483648]'), [1, -2, 0, 0, 2147483647, -2147483648])
+        self.assertEqual(json.loads('[1, 2147483648, -9223372036854775808]'), [1, 2147483648, -9223372036854775808])
+        self.assertEqual(json.loads('[1, 123456789012345678901234567890]'), [1, 123456789012345678901234567890])
+        self.assertEqual(json.loads('[1.5, -2e3, 0.25E-2]'), [1.5, -2000.0, 0.0025])
+        mixed = json.loads('[1, 2.5, 9223372036854775807, "x", null, true]')
+        self.assertEqual(mixed, [1, 2.5, 9223372036854775807, "x", None, True])
+        self.assertEqual([type(x) for x in json.loads('[1.0, 2]')], [float, int])
+        lst = json.loads('[1, 2, 3]')
+        lst.append("a")
+        lst[0] = 1.5
+        self.assertEqual(lst, [1.5, 2, 3, "a"])
+        self.assertEqual(json.loads('[]'), [])
+        self.assertEqual(json.loads('{"a": [], "b": {}}'), {"a": [], "b": {}})
+
+    def test_load_parse_hooks(self):
+        from decimal import Decimal
+        self.assertEqual(json.loads('[1.10, 2]', parse_float=Decimal), [Decimal('1.10'), 2])
+        self.assertEqual(json.loads('[12, 3.5]', parse_int=str), ['12', 3.5])
+        self.assertEqual(json.loads('{"a": 1, "b": 2}', object_pairs_hook=list), [("a", 1), ("b", 2)])
+        self.assertEqual(json.loads('{}', object_pairs_hook=list), [])
+
+    def test_load_strings(self):
+        self.assertEqual(json.loads('"café \\u00e9"'), 'café é')
+        self.assertEqual(json.loads('"中\\n文"'), '中\n文')
+        self.assertEqual(json.loads('"\\ud83d\\ude00 \U0001F600"'), '\U0001F600 \U0001F600')
+        self.assertEqual(json.loads('"\\ud83d"'), '\ud83d')
+        self.assertEqual(json.loads('"\\ud83d\\u0041"'), '\ud83dA')
+        self.assertEqual(json.loads('"\\"\\\\\\/\\b\\f\\n\\r\\t"'), '"\\/\b\f\n\r\t')
+        self.assertEqual(json.loads('{"é": "中", "k": "v"}'), {'é': '中', 'k': 'v'})
+
+    def test_decode_errors(self):
+        def error_pos(s):
+            with self.assertRaises(json.JSONDecodeError) as cm:
+                json.loads(s)
+            return cm.exception.msg, cm.exception.pos
+
+        self.assertEqual(error_pos('"\\x"'), ('Invalid \\escape', 1))
+        self.assertEqual(error_pos('"\\u12x4"'), ('Invalid \\uXXXX escape', 2))
+        self.assertEqual(error_pos('"\\ud83d\\u12x4"'), ('Invalid \\uXXXX escape', 8))
+        self.assertEqual(error_pos('"中\\u12"'), ('Invalid \\uXXXX escape', 3))
+        self.assertEqual(error_pos('"ab\x01"'), ('Invalid control character at', 3))
+        self.assertEqual(error_pos('"abc'), ('Unterminated string starting at', 0))
+        self.assertEqual(error_pos('[1, 2'), ("Expecting ',' delimiter", 5))
+        self.assertEqual(json.loads('"ab\x01"', strict=False), 'ab\x01')
+
+    def test_dump_lists(self):
+        self.assertEqual(json.dumps([1, 2, 3]), '[1, 2, 3]')
+        self.assertEqual(json.dumps([1, 2 ** 40, -3]), '[1, 1099511627776, -3]')
+        self.assertEqual(json.dumps([1.5, -0.25, 1e20]), '[1.5, -0.25, 1e+20]')
+        self.assertEqual(json.dumps((1, "a", None)), '[1, "a", null]')
+        self.assertEqual(json.dumps([float('inf')]), '[Infinity]')
+        self.assertRaises(ValueError, json.dumps, [1.0, float('nan')], allow_nan=False)
+        self.assertEqual(json.dumps([1, 2], separators=(',', ':')), '[1,2]')
+
+    def test_dump_strings(self):
+        self.assertEqual(json.dumps('plain'), '"plain"')
+        self.assertEqual(json.dumps('a"b\\c\n\x01\x7f'), '"a\\"b\\\\c\\n\\u0001\\u007f"')
+        self.assertEqual(json.dumps('a"b\\c\n\x01\x7f', ensure_ascii=False), '"a\\"b\\\\c\\n\\u0001\x7f"')
+        self.assertEqual(json.dumps('café 中 \U0001F600'), '"caf\\u00e9 \\u4e2d \\ud83d\\ude00"')
+        self.assertEqual(json.dumps('café 中 \U0001F600', ensure_ascii=False), '"café 中 \U0001F600"')
+        self.assertEqual(json.dumps({'é': 1, 2: 'x'}), '{"\\u00e9": 1, "2": "x"}')
+
+    def test_non_latin1_documents(self):
+        # BMP documents are read as UTF-16, documents with astral code points or lone
+        # surrogates as UTF-32
+        for extra in ['中', '\U0001F600', '\udc80']:
+            doc = '{"k中": [1, -2.5, "a\\n' + extra + '", {"x": null}], "n": 12}'
+            self.assertEqual(json.loads(doc), {'k中': [1, -2.5, 'a\n' + extra, {'x': None}], 'n': 12})
+            with self.assertRaises(json.JSONDecodeError) as cm:
+                json.loads('["' + extra + '", 1 2]')
+            self.assertEqual((cm.exception.msg, cm.exception.pos), ("Expecting ',' delimiter", 8))
+            decoder = json.JSONDecoder()
+            doc = '[1] "' + extra + '" {"a": 2}'
+            self.assertEqual(decoder.raw_decode(doc), ([1], 3))
+            self.assertEqual(decoder.raw_decode(doc, 4), (extra, 7))
+            self.assertEqual(decoder.raw_decode(doc, 8), ({'a': 2}, 16))
+        self.assertEqual(json.dumps('中"\n\x01'), '"\\u4e2d\\"\\n\\u0001"')
+        self.assertEqual(json.dumps('中"\n\x01', ensure_ascii=False), '"中\\"\\n\\u0001"')
+        self.assertEqual(json.dumps('\udc80中', ensure_ascii=False), '"\udc80中"')
@@ -71,6 +71,44 @@ class TestPickle(unittest.TestCase):
         import _pickle
         assert pickle.Pickler is _pickle.Pickler
 
+    def test_primitive_lists(self):
+        lists = [
+            list(range(-300, 3000)),
+            [2 ** 40 + i for i in range(1500)] + [-2 ** 63, 2 ** 63 - 1, 0, -1, 2 ** 31, -2 ** 31 - 1],
+            [i / 7 for i in range(2500)] + [float('inf'), -0.0],
+            [1, 2.5, 3] * 700,
+            [7],
+            [2 ** 40],
+        ]
+        for lst in lists:
+            for protocol in range(1, pickle.HIGHEST_PROTOCOL + 1):
+                data = pickle.dumps(lst, protocol=protocol)
+                self.assertEqual(pickle._dumps(lst, protocol=protocol), data)
+                self.assertEqual(lst, pickle.loads(data))
+                self.assertEqual(lst, pickle._loads(data))
+
+    def test_primitive_list_appends(self):
+        import io
+        lst = list(range(2500)) + [2 ** 40] * 1200 + [0.5] * 1100 + list(range(10))
+        for protocol in range(1, pickle.HIGHEST_PROTOCOL + 1):
+            result = pickle.loads(pickle._dumps(lst, protocol=protocol))
+            self.assertEqual(lst, result)
+            result.append('x')
+            self.assertEqual('x', result[-1])
+
+        class P(pickle.Pickler):
+            def persistent_id(self, obj):
+                return 'one' if obj == 1 else None
+
+        class U(pickle.Unpickler):
+            def persistent_load(self, pid):
+                return 'one'
+
+        f = io.BytesIO()
+        P(f, protocol=2).dump([0, 1, 2] * 500)
+        f.seek(0)
+        self.assertEqual([0, 'one', 2] * 500, U(f).load())
+
 
 if __name__ == '__main__':
     unittest.main()
@@ -1,4 +1,4 @@
-# Copyright (c) 2020, 2021, Oracle and/or its affiliates. All rights reserved.
+# Copyright (c) 2020, 2024, Oracle and/or its affiliates. All rights reserved.
 # DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
 #
 # The Universal Permissive License (UPL), Version 1.0
@@ -39,6 +39,7 @@
 
 import os
 import select
+import signal
 import sys
 import tempfile
 import unittest
@@ -95,3 +96,84 @@ class SelectTests(unittest.TestCase):
             fds = [F(f.fileno()), F(stdout_fd), F(f.fileno())]
             res = select.select(fds, [], [], 1)
             assert res == ([fds[0], fds[2]], [], [])
+
+    @unittest.skipUnless(hasattr(select, 'poll'), 'poll is not available on this platform')
+    @unittest.skipUnless(__graalpython__.posix_module_backend() != 'java',
+                         'The java backend does not support poll for pipes, only sockets.')
+    def test_poll_pipe(self):
+        r, w = os.pipe()
+        try:
+            p = select.poll()
+            p.register(r, select.POLLIN)
+            p.register(w, select.POLLOUT)
+            assert p.poll(0) == [(w, select.POLLOUT)]
+            os.write(w, b'x')
+            assert sorted(p.poll(1000)) == sorted([(r, select.POLLIN), (w, select.POLLOUT)])
+            p.modify(w, select.POLLIN)
+            assert p.poll(None) == [(r, select.POLLIN)]
+            p.unregister(r)
+            assert p.poll(0) == []
+            self.assertRaises(KeyError, p.unregister, r)
+            self.assertRaises(OSError, p.modify, r, select.POLLIN)
+            self.assertRaises(ValueError, p.register, w, -1)
+            self.assertRaises(OverflowError, p.register, w, 1 << 16)
+        finally:
+            os.close(r)
+            os.close(w)
+
+    @unittest.skipUnless(hasattr(select, 'epoll'), 'epoll is not available on this platform')
+    @unittest.skipUnless(__graalpython__.posix_module_backend() != 'java',
+                         'The java backend does not support epoll for pipes, only sockets.')
+    def test_epoll_pipe(self):
+        r, w = os.pipe()
+        try:
+            with select.epoll() as ep:
+                assert not ep.closed
+                assert ep.fileno() >= 0
+                ep.register(r, select.EPOLLIN)
+                assert ep.poll(0) == []
+                os.write(w, b'x')
+                assert ep.poll(1) == [(r, select.EPOLLIN)]
+                ep.modify(r, select.EPOLLIN | select.EPOLLONESHOT)
+                assert ep.poll(1) == [(r, select.EPOLLIN)]
+                assert ep.poll(0) == []
+                ep.unregister(r)
+                self.assertRaises(FileNotFoundError, ep.unregister, r)
+                self.assertRaises(ValueError, ep.poll, 0, 0)
+            assert ep.closed
+            self.assertRaises(ValueError, ep.fileno)
+            self.assertRaises(ValueError, ep.register, r)
+        finally:
+            os.close(r)
+            os.close(w)
+
+    @unittest.skipUnless(hasattr(select, 'poll'), 'poll is not available on this platform')
+    @unittest.skipUnless(hasattr(signal, 'setitimer'), 'setitimer is not available on this platform')
+    @unittest.skipUnless(__graalpython__.posix_module_backend() != 'java',
+                         'The java backend does not support poll for pipes, only sockets.')
+    def test_poll_runs_signal_handler_and_retries(self):
+        r, w = os.pipe()
+        calls = []
+
+        def handler(signum, frame):
+            # runs Python code, so it must be called with the GIL held
+            calls.append([signum] * 10)
+
+        old_handler = signal.signal(signal.SIGALRM, handler)
+        try:
+            p = select.poll()
+            p.register(r, select.POLLIN)
+            signal.setitimer(signal.ITIMER_REAL, 0.05)
+            assert p.poll(300) == []
+            assert calls == [[signal.SIGALRM] * 10], calls
+            if hasattr(select, 'epoll'):
+                with select.epoll() as ep:
+                    ep.register(r, select.EPOLLIN)
+                    signal.setitimer(signal.ITIMER_REAL, 0.05)
+                    assert ep.poll(0.3) == []
+                    assert len(calls) == 2, calls
+        finally:
+            signal.setitimer(signal.ITIMER_REAL, 0)
+            signal.signal(signal.SIGALRM, old_handler)
+            os.close(r)
+            os.close(w)
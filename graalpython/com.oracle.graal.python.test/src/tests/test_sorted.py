@@ -45,3 +45,139 @@ class TestSorted(unittest.TestCase):
 
         # Use eval to get the fast path specialization
         self.assertEqual(eval("sorted(MyList())", {"MyList": MyList}), [2, 4, 5])
+
+
+class TestLargePrimitiveSort(unittest.TestCase):
+    # large enough to take the parallel path in SortNodes
+    SIZE = 100000
+
+    def check(self, data):
+        # merge two halves sorted on the sequential path to get an independent result
+        import heapq
+        mid = len(data) // 2
+        left = data[:mid]
+        right = data[mid:]
+        left.sort()
+        right.sort()
+        expected = list(heapq.merge(left, right))
+        result = list(data)
+        result.sort()
+        self.assertEqual(result, expected)
+        result = list(data)
+        result.sort(reverse=True)
+        self.assertEqual(result, expected[::-1])
+
+    def test_ints(self):
+        import random
+        rnd = random.Random(42)
+        self.check([rnd.randint(-2**31, 2**31 - 1) for i in range(self.SIZE)])
+
+    def test_longs(self):
+        import random
+        rnd = random.Random(43)
+        self.check([rnd.randint(-2**62, 2**62) for i in range(self.SIZE)])
+
+    def test_doubles(self):
+        import random
+        rnd = random.Random(44)
+        self.check([rnd.uniform(-1e9, 1e9) for i in range(self.SIZE)])
+
+    def test_strings(self):
+        import random
+        rnd = random.Random(45)
+        self.check([str(rnd.random()) for i in range(self.SIZE)])
+
+    def test_other_threads_run(self):
+        import threading
+        data = list(range(self.SIZE, 0, -1))
+        done = threading.Event()
+
+        def sorter():
+            for i in range(5):
+                data.sort()
+                data.reverse()
+            done.set()
+
+        t = threading.Thread(target=sorter)
+        t.start()
+        # the main thread must be able to run while the other thread sorts
+        while not done.is_set():
+            done.wait(0.001)
+        t.join()
+        self.assertEqual(data, list(range(self.SIZE, 0, -1)))
+
+
+class TestKeySort(unittest.TestCase):
+    def check(self, data, key):
+        # decorate-sort-undecorate with an index tie-break as reference
+        decorated = [(key(v), i, v) for i, v in enumerate(data)]
+        decorated.sort(key=lambda t: (t[0], t[1]))
+        expected = [t[2] for t in decorated]
+        result = list(data)
+        result.sort(key=key)
+        self.assertEqual(result, expected)
+
+        decorated = [(key(v), -i, v) for i, v in enumerate(data)]
+        decorated.sort(key=lambda t: (t[0], t[1]), reverse=True)
+        expected = [t[2] for t in decorated]
+        result = list(data)
+        result.sort(key=key, reverse=True)
+        self.assertEqual(result, expected)
+
+    def test_primitive_keys_stable(self):
+        import random
+        rnd = random.Random(7)
+        records = [(rnd.randint(0, 20), rnd.random(), str(rnd.randint(0, 20)), i) for i in range(1000)]
+        self.check(records, lambda r: r[0])
+        self.check(records, lambda r: r[0] * 2 ** 40)
+        self.check(records, lambda r: r[0] > 10)
+        self.check(records, lambda r: r[1])
+        self.check(records, lambda r: r[2])
+
+    def test_mixed_keys(self):
+        data = list(range(100))
+        self.check(data, lambda x: x if x < 50 else x + 0.5)
+        self.check(data, lambda x: x % 7 if x < 90 else 2 ** 80)
+
+        class S(str):
+            pass
+
+        self.check(data, lambda x: str(x) if x < 50 else S(x))
+        self.assertRaises(TypeError, data.sort, key=lambda x: x if x < 50 else str(x))
+        self.check(data, lambda x: x > 50 if x % 2 else x % 3)
+        # the error names the type of the original key
+        with self.assertRaisesRegex(TypeError, "'bool'"):
+            data.sort(key=lambda x: x < 50 if x < 90 else str(x))
+        with self.assertRaisesRegex(TypeError, "'bool'"):
+            data.sort(key=lambda x: str(x) if x < 90 else x < 50)
+
+    def test_key_calls(self):
+        calls = []
+
+        def key(x):
+            calls.append(x)
+            return -x
+
+        data = [3, 1, 2]
+        data.sort(key=key, reverse=True)
+        self.assertEqual(calls, [3, 1, 2])
+        self.assertEqual(data, [1, 2, 3])
+
+    def test_key_error_leaves_list_unchanged(self):
+        def key(x):
+            if x == 5:
+                raise KeyError(x)
+            return x
+
+        data = list(range(10, 0, -1))
+        self.assertRaises(KeyError, data.sort, key=key, reverse=True)
+        self.assertEqual(data, list(range(10, 0, -1)))
+
+    def test_float_specials(self):
+        # only '<' is used to compare keys, so -0.0 and 0.0 keep their order
+        data = [0.0, -0.0, 1.0, -0.0]
+        data.sort(key=lambda x: x)
+        self.assertEqual([str(x) for x in data], ['0.0', '-0.0', '-0.0', '1.0'])
+        data = [3.0, float('nan'), 1.0, -0.0, 0.0, 2.0]
+        data.sort(key=lambda x: x)
+        self.assertEqual(repr(data), '[3.0, nan, -0.0, 0.0, 1.0, 2.0]')
@@ -277,3 +277,74 @@ def test_struct_is_builtin_on_enterprise():
         import __graalpython_enterprise__
         import _struct
         assert "built-in" in repr(_struct)
+
+
+def test_struct_is_builtin():
+    import _struct
+    if sys.implementation.name == "graalpy":
+        assert "built-in" in repr(_struct)
+    assert _struct.error is struct.error
+
+
+def assert_struct_error(msg, fn, *args):
+    try:
+        fn(*args)
+    except struct.error as e:
+        assert str(e) == msg, "%r != %r" % (str(e), msg)
+    else:
+        assert False, "struct.error not raised"
+
+
+def test_error_messages():
+    assert_struct_error("bad char in struct format", struct.pack, "y", 1)
+    assert_struct_error("repeat count given without format specifier", struct.calcsize, "12")
+    assert_struct_error("pack expected 2 items for packing (got 1)", struct.pack, "ii", 1)
+    assert_struct_error("required argument is not an integer", struct.pack, "i", 1.0)
+    assert_struct_error("required argument is not a float", struct.pack, "d", "x")
+    assert_struct_error("byte format requires -128 <= number <= 127", struct.pack, "b", 128)
+    assert_struct_error("ubyte format requires 0 <= number <= 255", struct.pack, "B", -1)
+    assert_struct_error("'i' format requires -2147483648 <= number <= 2147483647", struct.pack, "i", 2 ** 31)
+    assert_struct_error("'I' format requires 0 <= number <= 4294967295", struct.pack, "I", 2 ** 32)
+    assert_struct_error("argument out of range", struct.pack, "Q", 2 ** 64)
+    assert_struct_error("char format requires a bytes object of length 1", struct.pack, "c", b"ab")
+    assert_struct_error("unpack requires a buffer of 4 bytes", struct.unpack, "i", b"abc")
+    assert_struct_error("iterative unpacking requires a buffer of a multiple of 4 bytes", struct.iter_unpack, "i", b"abcde")
+
+
+def test_boundary_error_messages():
+    buf = bytearray(10)
+    assert_struct_error("pack_into requires a buffer of at least 6 bytes for packing 1 bytes at offset 5 (actual buffer size is 1)",
+                        struct.pack_into, "b", bytearray(1), 5, 1)
+    assert_struct_error("unpack_from requires a buffer of at least 6 bytes for unpacking 1 bytes at offset 5 (actual buffer size is 1)",
+                        struct.unpack_from, "b", bytearray(1), 5)
+    assert_struct_error("no space to pack 4 bytes at offset -2", struct.pack_into, "<I", buf, -2, 123)
+    assert_struct_error("offset -11 out of range for 10-byte buffer", struct.pack_into, "<B", buf, -11, 123)
+    assert_struct_error("not enough data to unpack 4 bytes at offset -2", struct.unpack_from, "<I", buf, -2)
+    assert_struct_error("offset -11 out of range for 10-byte buffer", struct.unpack_from, "<B", buf, -11)
+
+
+def test_negative_offsets():
+    buf = bytearray(8)
+    struct.pack_into("<H", buf, -2, 0x1234)
+    assert buf[-2:] == b'\x34\x12'
+    assert struct.unpack_from("<H", buf, -2) == (0x1234,)
+
+
+def test_format_types():
+    s = struct.Struct(b"<hi")
+    assert s.format == "<hi"
+    assert s.size == 6
+    assert struct.pack(b"<h", 1) == struct.pack("<h", 1)
+    assert_raises(TypeError, struct.Struct, 42)
+    for i in range(200):
+        # more formats than the module-level cache holds
+        assert struct.calcsize("%dx" % i) == i
+    struct._clearcache()
+    assert struct.calcsize("<q") == 8
+
+
+def test_native_alignment():
+    assert struct.calcsize("@bi") == 8
+    assert struct.calcsize("=bi") == 5
+    assert struct.calcsize("@bq") == 16
+    assert struct.pack("@bh", 1, 2)[1:2] == b'\x00'
@@ -0,0 +1,199 @@
+# Copyright (c) 2024, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+# SOFTWARE.
+
+import subprocess
+import sys
+import unittest
+
+
+def zero():
+    return 0
+
+
+class Point:
+    def __init__(self, x, y):
+        self.x = x
+        self.y = y
+
+    def norm1(self):
+        return abs(self.x) + abs(self.y)
+
+
+class SuperinstructionTests(unittest.TestCase):
+    """
+    The superinstructions are formed after the first execution of an instruction pair, so each
+    pair is executed several times in a loop.
+    """
+
+    def test_local_attribute_and_method(self):
+        def f(points):
+            total = 0
+            for p in points:
+                total += p.x * p.y + p.norm1()
+            return total
+        points = [Point(i, -i) for i in range(10)]
+        for _ in range(5):
+            self.assertEqual(sum(-i * i + 2 * i for i in range(10)), f(points))
+
+    def test_local_pairs(self):
+        def f(a, b, n):
+            result = []
+            for _ in range(n):
+                result.append((a, b))
+            return result
+        for _ in range(5):
+            self.assertEqual([("a", None)] * 3, f("a", None, 3))
+
+    def test_global_pairs(self):
+        def f(n):
+            total = 0
+            for i in range(n):
+                total += zero() + sys.maxsize.bit_length() + len(sys.path.__class__.__name__)
+            return total
+        for _ in range(5):
+            self.assertEqual(3 * (sys.maxsize.bit_length() + 4), f(3))
+
+    def test_int_compare_and_branch(self):
+        def f(n):
+            evens = 0
+            i = 0
+            while i < n:
+                if i % 2 == 0:
+                    evens += 1
+                if not i >= 0:
+                    return -1
+                i += 1
+            return evens
+        for n in range(10):
+            self.assertEqual((n + 1) // 2, f(n))
+
+    def test_compare_changing_types(self):
+        def f(a, b):
+            if a < b:
+                return "lt"
+            return "ge"
+        for _ in range(5):
+            self.assertEqual("lt", f(1, 2))
+            self.assertEqual("ge", f(2, 1))
+        self.assertEqual("lt", f(1.5, 2))
+        self.assertEqual("lt", f("a", "b"))
+        self.assertEqual("ge", f(2, 1))
+
+    def test_errors_in_second_instruction(self):
+        def f(obj):
+            try:
+                return obj.x
+            except AttributeError as e:
+                return e.name
+
+        def g():
+            return undefined_global()
+
+        for _ in range(5):
+            self.assertEqual(1, f(Point(1, 2)))
+        self.assertEqual("x", f(object()))
+        for _ in range(3):
+            try:
+                g()
+                self.fail("NameError not raised")
+            except NameError as e:
+                self.assertEqual(g.__code__.co_firstlineno + 1, e.__traceback__.tb_next.tb_lineno)
+
+    def test_unbound_local_in_first_instruction(self):
+        def f(flag):
+            if flag:
+                obj = Point(1, 2)
+            return obj.x
+        for _ in range(5):
+            self.assertEqual(1, f(True))
+        self.assertRaises(UnboundLocalError, f, False)
+
+    def test_tracing(self):
+        def f(p):
+            a = p.x
+            b = p.norm1()
+            return a < b
+
+        lines = []
+
+        def tracer(frame, event, arg):
+            if frame.f_code is f.__code__ and event == "line":
+                lines.append(frame.f_lineno - f.__code__.co_firstlineno)
+            return tracer
+
+        p = Point(1, 2)
+        for _ in range(5):
+            f(p)
+        sys.settrace(tracer)
+        try:
+            self.assertTrue(f(p))
+        finally:
+            sys.settrace(None)
+        self.assertEqual([1, 2, 3], lines)
+
+    @unittest.skipUnless(sys.implementation.name == 'graalpy', "GraalPy-specific option")
+    def test_pair_statistics(self):
+        # without the option, no pairs are recorded
+        self.assertIsNone(__graalpython__.get_bytecode_pair_statistics())
+        script = """if True:
+            class Point:
+                def __init__(self, x):
+                    self.x = x
+
+            def f(p):
+                return p.x
+
+            p = Point(1)
+            for _ in range(200):
+                f(p)
+            pairs = __graalpython__.get_bytecode_pair_statistics()
+            counts = [count for _, _, count in pairs]
+            assert counts == sorted(counts, reverse=True), pairs
+            assert all(isinstance(first, str) and isinstance(second, str) for first, second, _ in pairs), pairs
+            fused = [count for first, second, count in pairs if (first, second) == ('LOAD_FAST_O', 'LOAD_ATTR')]
+            assert fused and fused[0] >= 199, pairs
+            print("DONE")
+        """
+        result = subprocess.check_output([sys.executable, '--experimental-options', '--python.BytecodePairStatistics=true',
+                                          '--python.BytecodeSuperinstructions=false', '-c', script], text=True)
+        self.assertIn('DONE', result)
+
+
+if __name__ == '__main__':
+    unittest.main()
@@ -0,0 +1,112 @@
+# Copyright (c) 2024, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+# SOFTWARE.
+import gc
+import threading
+import unittest
+
+
+def run_in_thread(fn):
+    result = []
+    t = threading.Thread(target=lambda: result.append(fn()))
+    t.start()
+    t.join()
+    return result[0]
+
+
+class ThreadLocalTests(unittest.TestCase):
+
+    def test_isolation(self):
+        local = threading.local()
+        local.x = 1
+        self.assertFalse(run_in_thread(lambda: hasattr(local, "x")))
+
+        def set_in_thread():
+            local.x = 2
+            return local.x
+        self.assertEqual(2, run_in_thread(set_in_thread))
+        self.assertEqual(1, local.x)
+
+    def test_init_per_thread(self):
+        class MyLocal(threading.local):
+            def __init__(self, value):
+                self.value = value
+                self.initialized = getattr(self, "initialized", 0) + 1
+
+        local = MyLocal(42)
+        self.assertEqual((42, 1), (local.value, local.initialized))
+        self.assertEqual((42, 1), run_in_thread(lambda: (local.value, local.initialized)))
+
+    def test_dict(self):
+        local = threading.local()
+        local.a = 1
+        self.assertEqual({"a": 1}, local.__dict__)
+        local.__dict__["b"] = 2
+        self.assertEqual(2, local.b)
+        self.assertEqual({}, run_in_thread(lambda: dict(local.__dict__)))
+
+    def test_set_get_delete(self):
+        local = threading.local()
+        for i in range(20):
+            setattr(local, "attr%d" % i, i)
+        for i in range(20):
+            self.assertEqual(i, getattr(local, "attr%d" % i))
+        del local.attr3
+        self.assertFalse(hasattr(local, "attr3"))
+        with self.assertRaises(AttributeError):
+            local.missing
+        with self.assertRaises(AttributeError):
+            del local.attr3
+
+    def test_many_locals(self):
+        for i in range(200):
+            local = threading.local()
+            self.assertFalse(hasattr(local, "value"))
+            local.value = i
+            self.assertEqual(i, local.value)
+            del local
+            if i % 50 == 0:
+                gc.collect()
+        locals_ = [threading.local() for _ in range(10)]
+        for i, local in enumerate(locals_):
+            local.value = i
+        self.assertEqual(list(range(10)), [local.value for local in locals_])
+
+
+if __name__ == '__main__':
+    unittest.main()
@@ -0,0 +1,199 @@
+# Copyright (c) 2024, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+# SOFTWARE.
+import queue
+import subprocess
+import sys
+import threading
+import time
+
+
+def run_threads(n, target):
+    threads = [threading.Thread(target=target) for _ in range(n)]
+    for t in threads:
+        t.start()
+    for t in threads:
+        t.join()
+
+
+def check_mutual_exclusion(lock):
+    counter = [0]
+
+    def worker():
+        for _ in range(2000):
+            with lock:
+                value = counter[0]
+                if value % 100 == 0:
+                    time.sleep(0)
+                counter[0] = value + 1
+
+    run_threads(4, worker)
+    assert counter[0] == 8000, counter[0]
+    assert lock.acquire(False)
+    lock.release()
+
+
+def test_lock_mutual_exclusion():
+    check_mutual_exclusion(threading.Lock())
+
+
+def test_rlock_mutual_exclusion():
+    check_mutual_exclusion(threading.RLock())
+
+
+def test_rlock_reentrant():
+    lock = threading.RLock()
+    with lock:
+        assert lock.acquire(timeout=0.1)
+        assert lock.acquire(blocking=False)
+        lock.release()
+        lock.release()
+    result = []
+    t = threading.Thread(target=lambda: result.append(lock.acquire(blocking=False)))
+    t.start()
+    t.join()
+    assert result == [True]
+
+
+def test_lock_timeout():
+    lock = threading.Lock()
+    lock.acquire()
+    result = []
+
+    def worker():
+        start = time.monotonic()
+        result.append(lock.acquire(timeout=0.05))
+        result.append(time.monotonic() - start)
+
+    t = threading.Thread(target=worker)
+    t.start()
+    t.join()
+    assert result[0] is False
+    assert result[1] >= 0.04, result[1]
+    lock.release()
+    assert lock.acquire(timeout=0.05)
+    lock.release()
+
+
+def test_lock_released_by_other_thread():
+    lock = threading.Lock()
+    lock.acquire()
+    t = threading.Thread(target=lock.release)
+    t.start()
+    t.join()
+    assert not lock.locked()
+
+
+def test_queue_handoff():
+    q = queue.Queue(maxsize=4)
+    received = []
+
+    def producer():
+        for i in range(1000):
+            q.put(i)
+        q.put(None)
+
+    def consumer():
+        while True:
+            item = q.get()
+            if item is None:
+                break
+            received.append(item)
+
+    threads = [threading.Thread(target=producer), threading.Thread(target=consumer)]
+    for t in threads:
+        t.start()
+    for t in threads:
+        t.join()
+    assert received == list(range(1000))
+
+
+def test_lock_statistics():
+    if sys.implementation.name != "graalpy":
+        return
+    # without the option, locks do not record statistics
+    assert __graalpython__.get_lock_statistics(threading.Lock()) is None
+    assert __graalpython__.get_lock_statistics(object()) is None
+    script = """if True:
+        import threading, time
+        for lock in (threading.Lock(), threading.RLock()):
+            acquisitions, contended, spun, timeouts, wait_time, histogram, owner = __graalpython__.get_lock_statistics(lock)
+            assert (acquisitions, contended, spun, timeouts, wait_time, owner) == (0, 0, 0, 0, 0, 0)
+            assert sum(histogram) == 0
+
+            held = threading.Event()
+            release = threading.Event()
+            def holder():
+                with lock:
+                    held.set()
+                    release.wait()
+            def waiter():
+                with lock:
+                    pass
+            h = threading.Thread(target=holder)
+            h.start()
+            held.wait()
+            assert __graalpython__.get_lock_statistics(lock)[-1] == h.ident
+            # times out while the holder keeps the lock
+            start = time.monotonic()
+            assert not lock.acquire(timeout=0.05)
+            assert time.monotonic() - start >= 0.04
+            waiters = [threading.Thread(target=waiter) for _ in range(4)]
+            for w in waiters:
+                w.start()
+            time.sleep(0.5)
+            release.set()
+            h.join()
+            for w in waiters:
+                w.join()
+
+            acquisitions, contended, spun, timeouts, wait_time, histogram, owner = __graalpython__.get_lock_statistics(lock)
+            assert acquisitions == 5, acquisitions
+            assert 1 <= contended <= 4, contended
+            assert spun <= contended
+            assert timeouts == 1, timeouts
+            assert wait_time >= 0.04, wait_time
+            assert sum(histogram) == contended + timeouts, histogram
+            assert owner == 0, owner
+            with lock:
+                assert __graalpython__.get_lock_statistics(lock)[-1] == threading.get_ident()
+            assert __graalpython__.get_lock_statistics(lock)[0] == 6
+        print("DONE")
+    """
+    result = subprocess.check_output([sys.executable, '--experimental-options', '--python.LockStatistics=true', '-c', script], text=True)
+    assert 'DONE' in result, result
@@ -1,4 +1,4 @@
-# Copyright (c) 2020, 2022, Oracle and/or its affiliates. All rights reserved.
+# Copyright (c) 2024, Oracle and/or its affiliates. All rights reserved.
 # DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
 #
 # The Universal Permissive License (UPL), Version 1.0
@@ -36,35 +36,47 @@
 # LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
 # OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
 # SOFTWARE.
+import tracemalloc
+import unittest
 
-def __initialize__(owner_globals):
-    delegate_attrs = ['Struct', 'StructError', '_clearcache', 'calcsize', 'error', 'iter_unpack', 'pack',
-                          'pack_into', 'unpack', 'unpack_from']
-    res = True
-    for x in delegate_attrs:
-        if x not in owner_globals:
-            res = False
-            break
 
-    if not res:
-        __graalpython__.import_current_as_named_module_with_delegate(
-            module_name="_struct",
-            delegate_name="_cpython_struct",
-            delegate_attributes=delegate_attrs,
-            on_import_error={
-                # Just enough to make zipfile and six import successfully, but raise the
-                # original import error when someone tries to use the Struct object
-                "__all__": ["calcsize", "Struct"],
-                "_clearcache": lambda: None,
-                "__doc__": "Fake _struct",
-                "calcsize": lambda _: 8,
-                "Struct": type("Struct", (), {
-                    "__init__": lambda self, _: None,
-                    "__getattr__": lambda self, attr: (lambda *args: __import__("_cpython_struct"))
-                })
-            },
-            owner_globals=owner_globals)
+class TracemallocTests(unittest.TestCase):
+    def setUp(self):
+        tracemalloc.start(5)
 
-__initialize__(globals())
+    def tearDown(self):
+        tracemalloc.stop()
 
-del __initialize__
+    def test_is_tracing(self):
+        assert tracemalloc.is_tracing()
+        assert tracemalloc.get_traceback_limit() == 5
+        tracemalloc.stop()
+        assert not tracemalloc.is_tracing()
+
+    def test_start_invalid_nframe(self):
+        self.assertRaises(ValueError, tracemalloc.start, 0)
+        self.assertRaises(ValueError, tracemalloc.start, 65536)
+
+    def test_get_object_traceback(self):
+        def allocate():
+            return bytearray(1000)
+
+        obj = allocate()
+        tb = tracemalloc.get_object_traceback(obj)
+        assert tb is not None
+        assert tb[-1].filename == __file__, tb
+        assert tb[-1].lineno == allocate.__code__.co_firstlineno + 1, tb
+
+    def test_snapshot(self):
+        data = [bytearray(1000) for _ in range(100)]
+        current, peak = tracemalloc.get_traced_memory()
+        assert current > 0 and peak >= current
+        stats = tracemalloc.take_snapshot().statistics('filename')
+        assert any(stat.traceback[0].filename == __file__ for stat in stats), stats
+        tracemalloc.clear_traces()
+        assert tracemalloc.get_traced_memory()[0] == 0
+        del data
+
+
+if __name__ == '__main__':
+    unittest.main()
@@ -1,4 +1,4 @@
-# Copyright (c) 2018, 2021, Oracle and/or its affiliates. All rights reserved.
+# Copyright (c) 2018, 2024, Oracle and/or its affiliates. All rights reserved.
 # DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
 #
 # The Universal Permissive License (UPL), Version 1.0
@@ -68,3 +68,144 @@ def test_category():
     assert unicodedata.category('A') == 'Lu'
     assert_raises(TypeError, unicodedata.category)
     assert_raises(TypeError, unicodedata.category, 'xx')
+
+
+def test_properties():
+    import unicodedata
+    assert unicodedata.combining('́') == 230
+    assert unicodedata.combining('a') == 0
+    assert unicodedata.mirrored('(') == 1
+    assert unicodedata.mirrored('a') == 0
+    assert unicodedata.east_asian_width('一') == 'W'
+    assert unicodedata.east_asian_width('a') == 'Na'
+    assert unicodedata.east_asian_width('｡') == 'H'
+    assert unicodedata.bidirectional('٠') == 'AN'
+    # unassigned code points get CPython's default record
+    assert unicodedata.category('͸') == 'Cn'
+    assert unicodedata.bidirectional('͸') == ''
+    assert unicodedata.east_asian_width('͸') == 'F'
+
+
+def test_numeric():
+    import unicodedata
+    assert unicodedata.decimal('7') == 7
+    assert unicodedata.decimal('١') == 1
+    assert unicodedata.digit('²') == 2
+    assert unicodedata.numeric('½') == 0.5
+    assert unicodedata.numeric('一') == 1.0
+    assert_raises(ValueError, unicodedata.decimal, '²')
+    assert_raises(ValueError, unicodedata.digit, '½')
+    assert_raises(ValueError, unicodedata.numeric, 'a')
+    assert unicodedata.decimal('a', None) is None
+    assert unicodedata.numeric('a', -1) == -1
+
+
+def test_decomposition():
+    import unicodedata
+    assert unicodedata.decomposition('À') == '0041 0300'
+    assert unicodedata.decomposition('½') == '<fraction> 0031 2044 0032'
+    assert unicodedata.decomposition(' ') == '<noBreak> 0020'
+    assert unicodedata.decomposition('ﬁ') == '<compat> 0066 0069'
+    assert unicodedata.decomposition('가') == ''
+    assert unicodedata.decomposition('a') == ''
+
+
+def test_lookup():
+    import unicodedata
+    assert unicodedata.lookup('LATIN SMALL LETTER A') == 'a'
+    assert unicodedata.lookup('latin small letter a') == 'a'
+    assert unicodedata.lookup('LATIN CAPITAL LETTER GHA') == 'Ƣ'
+    assert unicodedata.lookup('HANGUL SYLLABLE GA') == '가'
+    assert unicodedata.lookup('CJK UNIFIED IDEOGRAPH-4E00') == '一'
+    assert_raises(KeyError, unicodedata.lookup, 'NOT A CHARACTER NAME')
+    assert_raises(KeyError, unicodedata.lookup, 'A' * 300)
+
+
+def test_lookup_aliases_and_named_sequences():
+    import unicodedata
+    assert unicodedata.lookup('BYTE ORDER MARK') == '\ufeff'
+    assert unicodedata.lookup('bom') == '\ufeff'
+    assert unicodedata.lookup('LATIN CAPITAL LETTER GHA') == '\u01a2'
+    assert unicodedata.lookup('KEYCAP DIGIT ZERO') == '0\ufe0f\u20e3'
+    assert unicodedata.lookup('latin small letter r with tilde') == 'r\u0303'
+    assert unicodedata.name('\ufeff') == 'ZERO WIDTH NO-BREAK SPACE'
+    assert_raises(KeyError, unicodedata.ucd_3_2_0.lookup, 'BYTE ORDER MARK')
+    assert_raises(KeyError, unicodedata.ucd_3_2_0.lookup, 'KEYCAP DIGIT ZERO')
+
+
+def test_unidata_version():
+    import unicodedata
+    # the tables are generated for a fixed version, independently of ICU
+    assert unicodedata.unidata_version == '14.0.0'
+    # U+1E030 MODIFIER LETTER CYRILLIC SMALL A was added in Unicode 15.0
+    assert unicodedata.category('\U0001e030') == 'Cn'
+    assert unicodedata.name('\U0001e030', None) is None
+    assert_raises(KeyError, unicodedata.lookup, 'MODIFIER LETTER CYRILLIC SMALL A')
+
+
+def test_normalize_quick_check():
+    import unicodedata
+    assert unicodedata.normalize('NFC', 'abc') == 'abc'
+    assert unicodedata.normalize('NFC', 'é') == 'é'
+    assert unicodedata.normalize('NFD', 'é') == 'é'
+    assert unicodedata.normalize('NFKC', 'ﬁ') == 'fi'
+    assert unicodedata.normalize('NFD', 'ạ́') == 'ạ́'
+    assert unicodedata.is_normalized('NFC', 'abc')
+    assert unicodedata.is_normalized('NFC', 'é')
+    assert not unicodedata.is_normalized('NFC', 'é')
+    assert not unicodedata.is_normalized('NFD', 'é')
+    assert not unicodedata.is_normalized('NFD', 'ạ́')
+    assert unicodedata.is_normalized('NFD', 'ạ́')
+
+
+def test_ucd_3_2_0():
+    import unicodedata
+    ucd = unicodedata.ucd_3_2_0
+    assert type(ucd) is unicodedata.UCD
+    assert ucd.unidata_version == '3.2.0'
+    assert_raises(TypeError, unicodedata.UCD)
+    assert ucd.category('a') == 'Ll'
+    assert ucd.decimal('١') == 1
+    # U+0221 was added in Unicode 4.0
+    assert unicodedata.category('ȡ') == 'Ll'
+    assert ucd.category('ȡ') == 'Cn'
+    assert ucd.bidirectional('ȡ') == ''
+    assert ucd.east_asian_width('ȡ') == 'F'
+    assert ucd.decomposition('ȡ') == ''
+    assert ucd.name('ȡ', None) is None
+    assert_raises(ValueError, ucd.name, 'ȡ')
+    assert_raises(KeyError, ucd.lookup, 'LATIN SMALL LETTER D WITH CURL')
+    assert ucd.lookup('LATIN SMALL LETTER A') == 'a'
+    assert ucd.normalize('NFC', 'é') == 'é'
+
+
+
+def test_ucd_3_2_0_changes():
+    import unicodedata
+    ucd = unicodedata.ucd_3_2_0
+    # properties that changed since Unicode 3.2
+    assert unicodedata.category('\xaa') == 'Lo'
+    assert ucd.category('\xaa') == 'Ll'
+    assert unicodedata.bidirectional('+') == 'ES'
+    assert ucd.bidirectional('+') == 'ET'
+    assert unicodedata.decimal('\xb2', None) is None
+    assert ucd.decimal('\xb2') == 2
+    # corrected decompositions
+    assert unicodedata.normalize('NFD', '\U0002f868') == '㛼'
+    assert ucd.normalize('NFD', '\U0002f868') == '\U0002136a'
+    # code points added later are left alone
+    assert unicodedata.normalize('NFKC', '\U0001f100ẛ̣') == '0.ṩ'
+    assert ucd.normalize('NFKC', '\U0001f100ẛ̣') == '\U0001f100ṩ'
+    assert ucd.normalize('NFKC', '\U0001d15e') == '\U0001d157\U0001d165'
+
+
+def test_normalize_composition():
+    import unicodedata
+    assert unicodedata.normalize('NFC', 'Ậ') == 'Ậ'
+    assert unicodedata.normalize('NFC', 'Ậ') == 'Ậ'
+    assert unicodedata.normalize('NFC', '각') == '각'
+    assert unicodedata.normalize('NFD', '각') == '각'
+    # U+0958 is a composition exclusion
+    assert unicodedata.normalize('NFC', 'क़') == 'क़'
+    assert len(unicodedata.normalize('NFKD', 'ﷺ')) == 18
+    assert not unicodedata.is_normalized('NFC', '가')
@@ -81,6 +81,7 @@ import com.oracle.graal.python.compiler.CompilationUnit;
 import com.oracle.graal.python.compiler.Compiler;
 import com.oracle.graal.python.compiler.RaisePythonExceptionErrorCallback;
 import com.oracle.graal.python.nodes.HiddenAttr;
+import com.oracle.graal.python.nodes.bytecode.BytecodePairStatistics;
 import com.oracle.graal.python.nodes.bytecode.PBytecodeRootNode;
 import com.oracle.graal.python.nodes.call.CallNode;
 import com.oracle.graal.python.nodes.call.GenericInvokeNode;
@@ -311,6 +312,12 @@ public final class PythonLanguage extends TruffleLanguage<PythonContext> {
      */
     public final Assumption noTracingOrProfilingAssumption = Assumption.create("No tracing function was set");
 
+    /**
+     * This assumption will be valid if no context started tracing allocations with
+     * {@code tracemalloc} at any point. Stopping the tracing will not revalidate it.
+     */
+    public final Assumption noTracemallocAssumption = Assumption.create("tracemalloc was never started");
+
     @CompilationFinal private boolean singleContext = true;
 
     @Idempotent
@@ -372,6 +379,9 @@ public final class PythonLanguage extends TruffleLanguage<PythonContext> {
     @CompilationFinal(dimensions = 1) private volatile Object[] engineOptionsStorage;
     @CompilationFinal private volatile OptionValues engineOptions;
 
+    /** Only allocated if {@link PythonOptions#BytecodePairStatistics} is enabled. */
+    private volatile BytecodePairStatistics bytecodePairStatistics;
+
     /** For fast access to the PythonThreadState object by the owning thread. */
     private final ContextThreadLocal<PythonThreadState> threadState = locals.createContextThreadLocal(PythonContext.PythonThreadState::new);
 
@@ -464,6 +474,19 @@ public final class PythonLanguage extends TruffleLanguage<PythonContext> {
         }
     }
 
+    public BytecodePairStatistics getBytecodePairStatistics() {
+        BytecodePairStatistics statistics = bytecodePairStatistics;
+        if (statistics == null && getEngineOption(PythonOptions.BytecodePairStatistics)) {
+            synchronized (this) {
+                statistics = bytecodePairStatistics;
+                if (statistics == null) {
+                    bytecodePairStatistics = statistics = new BytecodePairStatistics();
+                }
+            }
+        }
+        return statistics;
+    }
+
     @Override
     protected OptionDescriptors getOptionDescriptors() {
         return PythonOptions.DESCRIPTORS;
@@ -620,7 +643,8 @@ public final class PythonLanguage extends TruffleLanguage<PythonContext> {
             } else {
                 mod = modIn;
             }
-            CompilationUnit cu = compiler.compile(mod, EnumSet.noneOf(Compiler.Flags.class), optimize, futureFeatures);
+            EnumSet<Compiler.Flags> compilerFlags = getEngineOption(PythonOptions.OptimizeBytecode) ? EnumSet.of(Compiler.Flags.OPTIMIZE_BYTECODE) : EnumSet.noneOf(Compiler.Flags.class);
+            CompilationUnit cu = compiler.compile(mod, compilerFlags, optimize, futureFeatures);
             CodeUnit co = cu.assemble();
             RootNode rootNode = PBytecodeRootNode.create(this, co, source, errorCb);
             if (topLevel) {
@@ -45,6 +45,7 @@ import static com.oracle.graal.python.builtins.objects.type.MethodsFlags.DICT_M_
 import static com.oracle.graal.python.builtins.objects.type.MethodsFlags.FLOAT_M_FLAGS;
 import static com.oracle.graal.python.builtins.objects.type.MethodsFlags.FOREIGNOBJECT_M_FLAGS;
 import static com.oracle.graal.python.builtins.objects.type.MethodsFlags.FROZENSET_M_FLAGS;
+import static com.oracle.graal.python.builtins.objects.type.MethodsFlags.FUTURE_M_FLAGS;
 import static com.oracle.graal.python.builtins.objects.type.MethodsFlags.GENERATOR_M_FLAGS;
 import static com.oracle.graal.python.builtins.objects.type.MethodsFlags.GENERIC_ALIAS_M_FLAGS;
 import static com.oracle.graal.python.builtins.objects.type.MethodsFlags.INT_M_FLAGS;
@@ -95,6 +96,7 @@ import static com.oracle.graal.python.nodes.BuiltinNames.J_SIMPLE_QUEUE;
 import static com.oracle.graal.python.nodes.BuiltinNames.J_TUPLE_GETTER;
 import static com.oracle.graal.python.nodes.BuiltinNames.J_TYPES;
 import static com.oracle.graal.python.nodes.BuiltinNames.J_WRAPPER_DESCRIPTOR;
+import static com.oracle.graal.python.nodes.BuiltinNames.J__ASYNCIO;
 import static com.oracle.graal.python.nodes.BuiltinNames.J__CONTEXTVARS;
 import static com.oracle.graal.python.nodes.BuiltinNames.J__CTYPES;
 import static com.oracle.graal.python.nodes.BuiltinNames.J__SOCKET;
@@ -247,6 +249,9 @@ public enum PythonBuiltinClassType implements TruffleObject {
     PAsyncGenASend("async_generator_asend", Flags.PRIVATE_DERIVED_WODICT, ASYNC_GENERATOR_ASEND_M_FLAGS),
     PAsyncGenAThrow("async_generator_athrow", Flags.PRIVATE_DERIVED_WODICT, ASYNC_GENERATOR_ATHROW_M_FLAGS),
     PAsyncGenAWrappedValue("async_generator_wrapped_value", Flags.PRIVATE_DERIVED_WODICT),
+    PFuture("Future", J__ASYNCIO, Flags.PUBLIC_BASE_WDICT, FUTURE_M_FLAGS),
+    PTask("Task", J__ASYNCIO, Flags.PUBLIC_BASE_WDICT, FUTURE_M_FLAGS),
+    PFutureIter("FutureIter", null, J__ASYNCIO, Flags.PRIVATE_DERIVED_WODICT),
     PMethod("method", Flags.PRIVATE_DERIVED_WODICT, MethodBuiltins.SLOTS),
     PMMap("mmap", "mmap", MMAP_M_FLAGS, MMapBuiltins.SLOTS),
     PNone("NoneType", Flags.PRIVATE_DERIVED_WODICT, NONE_M_FLAGS, NoneBuiltins.SLOTS),
@@ -281,6 +286,9 @@ public enum PythonBuiltinClassType implements TruffleObject {
     PSemLock("SemLock", "_multiprocessing"),
     PGraalPySemLock("SemLock", "_multiprocessing_graalpy"),
     PSocket("socket", J__SOCKET),
+    PPoll("poll", null, "select", Flags.PUBLIC_DERIVED_WODICT),
+    PEpoll("epoll", null, "select", Flags.PUBLIC_BASE_WODICT),
+    PUCD("UCD", "unicodedata", Flags.PUBLIC_DERIVED_WODICT),
     PStaticmethod("staticmethod", J_BUILTINS, Flags.PUBLIC_BASE_WDICT, StaticmethodBuiltins.SLOTS),
     PClassmethod("classmethod", J_BUILTINS, Flags.PUBLIC_BASE_WDICT, ClassmethodBuiltins.SLOTS),
     PInstancemethod("instancemethod", Flags.PUBLIC_BASE_WDICT, InstancemethodBuiltins.SLOTS),
@@ -928,6 +936,7 @@ public enum PythonBuiltinClassType implements TruffleObject {
         PThreadInfo.base = PTuple;
         PUnraisableHookArgs.base = PTuple;
         PDefaultDict.base = PDict;
+        PTask.base = PFuture;
         POrderedDict.base = PDict;
         POrderedDictKeys.base = PDictKeysView;
         POrderedDictValues.base = PDictValuesView;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2022, 2024, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -44,6 +44,7 @@ import static com.oracle.graal.python.nodes.BuiltinNames.J__ASYNCIO;
 import static com.oracle.graal.python.nodes.BuiltinNames.T_ADD;
 import static com.oracle.graal.python.nodes.BuiltinNames.T_DISCARD;
 import static com.oracle.graal.python.nodes.BuiltinNames.T__ASYNCIO;
+import static com.oracle.graal.python.util.PythonUtils.toTruffleStringUncached;
 import static com.oracle.graal.python.util.PythonUtils.tsLiteral;
 
 import java.util.List;
@@ -54,7 +55,10 @@ import com.oracle.graal.python.builtins.Python3Core;
 import com.oracle.graal.python.builtins.PythonBuiltinClassType;
 import com.oracle.graal.python.builtins.PythonBuiltins;
 import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.builtins.objects.asyncio.PFuture;
+import com.oracle.graal.python.builtins.objects.asyncio.PTask;
 import com.oracle.graal.python.builtins.objects.dict.PDict;
+import com.oracle.graal.python.builtins.objects.function.PKeyword;
 import com.oracle.graal.python.builtins.objects.module.PythonModule;
 import com.oracle.graal.python.lib.PyDictDelItem;
 import com.oracle.graal.python.lib.PyDictGetItem;
@@ -68,9 +72,13 @@ import com.oracle.graal.python.nodes.call.CallNode;
 import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
 import com.oracle.graal.python.nodes.function.PythonBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonVarargsBuiltinNode;
 import com.oracle.graal.python.nodes.statement.AbstractImportNode;
+import com.oracle.graal.python.runtime.PythonContext;
 import com.oracle.graal.python.runtime.object.PythonObjectSlowPathFactory;
 import com.oracle.graal.python.util.PythonUtils;
+import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.dsl.Bind;
 import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.GenerateNodeFactory;
@@ -88,6 +96,46 @@ public final class AsyncioModuleBuiltins extends PythonBuiltins {
         return AsyncioModuleBuiltinsFactory.getFactories();
     }
 
+    @Builtin(name = "Future", minNumOfPositionalArgs = 1, constructsClass = PythonBuiltinClassType.PFuture, takesVarArgs = true, takesVarKeywordArgs = true)
+    @GenerateNodeFactory
+    abstract static class FutureNode extends PythonVarargsBuiltinNode {
+
+        @Override
+        public Object varArgExecute(VirtualFrame frame, Object self, Object[] arguments, PKeyword[] keywords) throws VarargsBuiltinDirectInvocationNotSupported {
+            if (arguments.length >= 1) {
+                return doGeneric(arguments[0], null, null);
+            }
+            CompilerDirectives.transferToInterpreterAndInvalidate();
+            throw VarargsBuiltinDirectInvocationNotSupported.INSTANCE;
+        }
+
+        @Specialization
+        @SuppressWarnings("unused")
+        PFuture doGeneric(Object cls, Object[] args, PKeyword[] kwargs) {
+            return factory().createFuture(cls);
+        }
+    }
+
+    @Builtin(name = "Task", minNumOfPositionalArgs = 1, constructsClass = PythonBuiltinClassType.PTask, takesVarArgs = true, takesVarKeywordArgs = true)
+    @GenerateNodeFactory
+    abstract static class TaskNode extends PythonVarargsBuiltinNode {
+
+        @Override
+        public Object varArgExecute(VirtualFrame frame, Object self, Object[] arguments, PKeyword[] keywords) throws VarargsBuiltinDirectInvocationNotSupported {
+            if (arguments.length >= 1) {
+                return doGeneric(arguments[0], null, null);
+            }
+            CompilerDirectives.transferToInterpreterAndInvalidate();
+            throw VarargsBuiltinDirectInvocationNotSupported.INSTANCE;
+        }
+
+        @Specialization
+        @SuppressWarnings("unused")
+        PTask doGeneric(Object cls, Object[] args, PKeyword[] kwargs) {
+            return factory().createTask(cls);
+        }
+    }
+
     @Builtin(name = "get_running_loop")
     @GenerateNodeFactory
     public abstract static class GetRunningLoop extends PythonBuiltinNode {
@@ -174,15 +222,18 @@ public final class AsyncioModuleBuiltins extends PythonBuiltins {
                         @Bind("this") Node inliningTarget,
                         @Cached PyDictSetItem set,
                         @Cached PyDictGetItem get,
-                        @Cached PRaiseNode raise) {
-            PDict dict = (PDict) self.getAttribute(CURRENT_TASKS_ATTR);
-            Object item = get.execute(frame, inliningTarget, dict, loop);
+                        @Cached PRaiseNode.Lazy raise) {
+            enter(frame, inliningTarget, (PDict) self.getAttribute(CURRENT_TASKS_ATTR), loop, task, get, set, raise);
+            return PNone.NONE;
+        }
+
+        public static void enter(VirtualFrame frame, Node inliningTarget, PDict currentTasks, Object loop, Object task, PyDictGetItem get, PyDictSetItem set, PRaiseNode.Lazy raise) {
+            Object item = get.execute(frame, inliningTarget, currentTasks, loop);
             if (item == null) {
-                set.execute(frame, inliningTarget, dict, loop, task);
+                set.execute(frame, inliningTarget, currentTasks, loop, task);
             } else {
-                throw raise.raise(PythonBuiltinClassType.RuntimeError, ErrorMessages.CANT_ENTER_TASK_ALREADY_RUNNING, task, item);
+                throw raise.get(inliningTarget).raise(PythonBuiltinClassType.RuntimeError, ErrorMessages.CANT_ENTER_TASK_ALREADY_RUNNING, task, item);
             }
-            return PNone.NONE;
         }
     }
 
@@ -194,17 +245,20 @@ public final class AsyncioModuleBuiltins extends PythonBuiltins {
                         @Bind("this") Node inliningTarget,
                         @Cached PyDictDelItem del,
                         @Cached PyDictGetItem get,
-                        @Cached PRaiseNode raise) {
-            PDict dict = (PDict) self.getAttribute(CURRENT_TASKS_ATTR);
-            Object item = get.execute(frame, inliningTarget, dict, loop);
+                        @Cached PRaiseNode.Lazy raise) {
+            leave(frame, inliningTarget, (PDict) self.getAttribute(CURRENT_TASKS_ATTR), loop, task, get, del, raise);
+            return PNone.NONE;
+        }
+
+        public static void leave(VirtualFrame frame, Node inliningTarget, PDict currentTasks, Object loop, Object task, PyDictGetItem get, PyDictDelItem del, PRaiseNode.Lazy raise) {
+            Object item = get.execute(frame, inliningTarget, currentTasks, loop);
             if (item == null) {
                 item = PNone.NONE;
             }
             if (item != task) {
-                throw raise.raise(PythonBuiltinClassType.RuntimeError, ErrorMessages.TASK_NOT_ENTERED, task, item);
+                throw raise.get(inliningTarget).raise(PythonBuiltinClassType.RuntimeError, ErrorMessages.TASK_NOT_ENTERED, task, item);
             }
-            del.execute(frame, inliningTarget, dict, loop);
-            return PNone.NONE;
+            del.execute(frame, inliningTarget, currentTasks, loop);
         }
     }
 
@@ -246,10 +300,128 @@ public final class AsyncioModuleBuiltins extends PythonBuiltins {
     public void postInitialize(Python3Core core) {
         PythonObjectSlowPathFactory factory = core.factory();
         PythonModule self = core.lookupBuiltinModule(T__ASYNCIO);
-        self.setAttribute(CURRENT_TASKS_ATTR, factory.createDict());
+        PDict currentTasks = factory.createDict();
+        self.setAttribute(CURRENT_TASKS_ATTR, currentTasks);
         Object weakref = AbstractImportNode.importModule(WEAKREF);
         Object weakSetCls = PyObjectGetAttr.executeUncached(weakref, WEAKSET);
         Object weakSet = CallNode.getUncached().execute(weakSetCls);
         self.setAttribute(ALL_TASKS_ATTR, weakSet);
+        self.setModuleState(new ModuleState(currentTasks, weakSet));
+    }
+
+    @TruffleBoundary
+    public static ModuleState getModuleState(PythonContext context) {
+        return context.lookupBuiltinModule(T__ASYNCIO).getModuleState(ModuleState.class);
+    }
+
+    private static final TruffleString T_ASYNCIO_EXCEPTIONS = tsLiteral("asyncio.exceptions");
+    private static final TruffleString T_ASYNCIO_BASE_FUTURES = tsLiteral("asyncio.base_futures");
+    private static final TruffleString T_ASYNCIO_BASE_TASKS = tsLiteral("asyncio.base_tasks");
+    private static final TruffleString T_ASYNCIO_COROUTINES = tsLiteral("asyncio.coroutines");
+    private static final TruffleString T_TRACEBACK = tsLiteral("traceback");
+
+    /**
+     * State shared by the Java {@code Future} and {@code Task} implementations. The Python helpers
+     * are imported lazily, because importing {@code asyncio} is expensive and {@code _asyncio} is
+     * initialized eagerly.
+     */
+    public static final class ModuleState {
+        private final PDict currentTasks;
+        private final Object allTasks;
+        private long taskNameCounter;
+
+        private Object cancelledError;
+        private Object invalidStateError;
+        private Object futureRepr;
+        private Object taskRepr;
+        private Object taskGetStack;
+        private Object taskPrintStack;
+        private Object isCoroutine;
+        private Object extractStack;
+
+        ModuleState(PDict currentTasks, Object allTasks) {
+            this.currentTasks = currentTasks;
+            this.allTasks = allTasks;
+        }
+
+        public PDict getCurrentTasks() {
+            return currentTasks;
+        }
+
+        public Object getAllTasks() {
+            return allTasks;
+        }
+
+        public long nextTaskNumber() {
+            return ++taskNameCounter;
+        }
+
+        @TruffleBoundary
+        public Object getCancelledError() {
+            if (cancelledError == null) {
+                cancelledError = importAttribute(T_ASYNCIO_EXCEPTIONS, "CancelledError");
+            }
+            return cancelledError;
+        }
+
+        @TruffleBoundary
+        public Object getInvalidStateError() {
+            if (invalidStateError == null) {
+                invalidStateError = importAttribute(T_ASYNCIO_EXCEPTIONS, "InvalidStateError");
+            }
+            return invalidStateError;
+        }
+
+        @TruffleBoundary
+        public Object getFutureRepr() {
+            if (futureRepr == null) {
+                futureRepr = importAttribute(T_ASYNCIO_BASE_FUTURES, "_future_repr");
+            }
+            return futureRepr;
+        }
+
+        @TruffleBoundary
+        public Object getTaskRepr() {
+            if (taskRepr == null) {
+                taskRepr = importAttribute(T_ASYNCIO_BASE_TASKS, "_task_repr");
+            }
+            return taskRepr;
+        }
+
+        @TruffleBoundary
+        public Object getTaskGetStack() {
+            if (taskGetStack == null) {
+                taskGetStack = importAttribute(T_ASYNCIO_BASE_TASKS, "_task_get_stack");
+            }
+            return taskGetStack;
+        }
+
+        @TruffleBoundary
+        public Object getTaskPrintStack() {
+            if (taskPrintStack == null) {
+                taskPrintStack = importAttribute(T_ASYNCIO_BASE_TASKS, "_task_print_stack");
+            }
+            return taskPrintStack;
+        }
+
+        @TruffleBoundary
+        public Object getIsCoroutine() {
+            if (isCoroutine == null) {
+                isCoroutine = importAttribute(T_ASYNCIO_COROUTINES, "iscoroutine");
+            }
+            return isCoroutine;
+        }
+
+        @TruffleBoundary
+        public Object getExtractStack() {
+            if (extractStack == null) {
+                extractStack = importAttribute(T_TRACEBACK, "extract_stack");
+            }
+            return extractStack;
+        }
+
+        private static Object importAttribute(TruffleString module, String name) {
+            return PyObjectGetAttr.executeUncached(AbstractImportNode.importModule(module), toTruffleStringUncached(name));
+        }
     }
 }
@@ -96,6 +96,7 @@ import com.oracle.graal.python.builtins.objects.bytes.PBytesLike;
 import com.oracle.graal.python.builtins.objects.cext.PythonAbstractNativeObject;
 import com.oracle.graal.python.builtins.objects.cext.capi.CApiContext;
 import com.oracle.graal.python.builtins.objects.cext.capi.PySequenceArrayWrapper.ToNativeStorageNode;
+import com.oracle.graal.python.builtins.objects.cext.capi.transitions.CApiTiming;
 import com.oracle.graal.python.builtins.objects.code.CodeNodes;
 import com.oracle.graal.python.builtins.objects.code.PCode;
 import com.oracle.graal.python.builtins.objects.common.DynamicObjectStorage;
@@ -118,15 +119,20 @@ import com.oracle.graal.python.builtins.objects.module.PythonModule;
 import com.oracle.graal.python.builtins.objects.object.PythonObject;
 import com.oracle.graal.python.builtins.objects.set.PSet;
 import com.oracle.graal.python.builtins.objects.str.StringUtils;
+import com.oracle.graal.python.builtins.objects.thread.LockStatistics;
+import com.oracle.graal.python.builtins.objects.thread.SpinningPythonLock;
 import com.oracle.graal.python.builtins.objects.tuple.PTuple;
 import com.oracle.graal.python.builtins.objects.type.PythonClass;
 import com.oracle.graal.python.builtins.objects.type.TypeNodes.CreateTypeNode;
+import com.oracle.graal.python.compiler.OpCodes;
 import com.oracle.graal.python.lib.PyObjectCallMethodObjArgs;
 import com.oracle.graal.python.lib.PyObjectGetItem;
+import com.oracle.graal.python.lib.PyObjectIsTrueNode;
 import com.oracle.graal.python.nodes.ErrorMessages;
 import com.oracle.graal.python.nodes.PConstructAndRaiseNode;
 import com.oracle.graal.python.nodes.PRaiseNode;
 import com.oracle.graal.python.nodes.builtins.FunctionNodes.GetCallTargetNode;
+import com.oracle.graal.python.nodes.bytecode.BytecodePairStatistics;
 import com.oracle.graal.python.nodes.bytecode.PBytecodeRootNode;
 import com.oracle.graal.python.nodes.call.CallNode;
 import com.oracle.graal.python.nodes.classes.IsSubtypeNode;
@@ -150,6 +156,7 @@ import com.oracle.graal.python.runtime.exception.PException;
 import com.oracle.graal.python.runtime.exception.PythonExitException;
 import com.oracle.graal.python.runtime.object.PythonObjectFactory;
 import com.oracle.graal.python.runtime.sequence.PSequence;
+import com.oracle.graal.python.runtime.sequence.storage.LongSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.NativeSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.SequenceStorage;
 import com.oracle.graal.python.util.PythonUtils;
@@ -1076,6 +1083,118 @@ public final class GraalPythonModuleBuiltins extends PythonBuiltins {
         }
     }
 
+    @Builtin(name = "get_gil_statistics", minNumOfPositionalArgs = 0, doc = "Returns a list of (thread id, acquisitions, contended acquisitions, wait time, hold time) tuples " +
+                    "with the GIL statistics of all threads. Times are in seconds. Statistics are only recorded with --python.GilStatistics.")
+    @GenerateNodeFactory
+    abstract static class GetGilStatistics extends PythonBuiltinNode {
+        @TruffleBoundary
+        @Specialization
+        PList get() {
+            PythonObjectFactory factory = PythonObjectFactory.getUncached();
+            long[][] statistics = getContext().getGilStatistics();
+            Object[] result = new Object[statistics.length];
+            for (int i = 0; i < statistics.length; i++) {
+                long[] row = statistics[i];
+                result[i] = factory.createTuple(new Object[]{row[0], row[1], row[2], row[3] / 1e9, row[4] / 1e9});
+            }
+            return factory.createList(result);
+        }
+    }
+
+    @Builtin(name = "get_bytecode_pair_statistics", minNumOfPositionalArgs = 0, doc = "Returns a list of (first opcode name, second opcode name, count) tuples with the number of times " +
+                    "each pair of bytecode instructions was executed consecutively by the interpreter, most frequent first. " +
+                    "Returns None if the pairs are not recorded, which requires --python.BytecodePairStatistics.")
+    @GenerateNodeFactory
+    abstract static class GetBytecodePairStatistics extends PythonBuiltinNode {
+        @TruffleBoundary
+        @Specialization
+        Object get() {
+            BytecodePairStatistics statistics = getLanguage().getBytecodePairStatistics();
+            if (statistics == null) {
+                return PNone.NONE;
+            }
+            PythonObjectFactory factory = PythonObjectFactory.getUncached();
+            long[][] pairs = statistics.getPairs();
+            Object[] result = new Object[pairs.length];
+            for (int i = 0; i < pairs.length; i++) {
+                long[] row = pairs[i];
+                TruffleString first = toTruffleStringUncached(OpCodes.fromOpCode((byte) row[0]).name());
+                TruffleString second = toTruffleStringUncached(OpCodes.fromOpCode((byte) row[1]).name());
+                result[i] = factory.createTuple(new Object[]{first, second, row[2]});
+            }
+            return factory.createList(result);
+        }
+    }
+
+    @Builtin(name = "get_lock_statistics", minNumOfPositionalArgs = 1, doc = "Returns an (acquisitions, contended acquisitions, spin acquisitions, timeouts, wait time, histogram, owner) " +
+                    "tuple with the contention statistics of a _thread lock. 'spin acquisitions' counts the contended acquisitions that succeeded without parking the thread, " +
+                    "'timeouts' the acquisitions that timed out. Wait time is in seconds. The histogram is a tuple where entry i counts the contended acquisitions that " +
+                    "waited less than 2**i nanoseconds. 'owner' is the id of the thread holding the lock, or 0. " +
+                    "Returns None if the argument is not a lock or if the lock was created without --python.LockStatistics.")
+    @GenerateNodeFactory
+    abstract static class GetLockStatisticsNode extends PythonUnaryBuiltinNode {
+        @TruffleBoundary
+        @Specialization(guards = "lock.getStatistics() != null")
+        static PTuple get(SpinningPythonLock lock) {
+            PythonObjectFactory factory = PythonObjectFactory.getUncached();
+            LockStatistics s = lock.getStatistics();
+            PTuple histogram = factory.createTuple(new LongSequenceStorage(s.getHistogram()));
+            return factory.createTuple(new Object[]{s.getAcquisitions(), s.getContendedAcquisitions(), s.getSpinAcquisitions(), s.getTimeouts(), s.getWaitTime() / 1e9, histogram,
+                            lock.getOwnerId()});
+        }
+
+        @Fallback
+        static PNone doOther(@SuppressWarnings("unused") Object object) {
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "set_capi_timing", minNumOfPositionalArgs = 1, doc = "Enables or disables the timing of C API upcalls and downcalls in this context and returns the previous state.")
+    @GenerateNodeFactory
+    abstract static class SetCApiTimingNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static boolean set(VirtualFrame frame, Object value,
+                        @Bind("this") Node inliningTarget,
+                        @Cached PyObjectIsTrueNode isTrueNode) {
+            boolean enable = isTrueNode.execute(frame, inliningTarget, value);
+            PythonContext context = PythonContext.get(inliningTarget);
+            boolean previous = context.isCApiTimingEnabled();
+            context.setCApiTimingEnabled(enable);
+            return previous;
+        }
+    }
+
+    @Builtin(name = "get_capi_timing_statistics", minNumOfPositionalArgs = 0, doc = "Returns a list of (name, downcall, calls, self time, allocations, histogram) tuples " +
+                    "with the C API timing statistics. 'downcall' is True for calls from Java to native code. Times are in seconds. " +
+                    "The histogram is a tuple where entry i counts the calls that took less than 2**i nanoseconds. " +
+                    "Statistics are only recorded after set_capi_timing(True), with --python.CAPITiming or with -Dpython.CAPITiming.")
+    @GenerateNodeFactory
+    abstract static class GetCApiTimingStatisticsNode extends PythonBuiltinNode {
+        @TruffleBoundary
+        @Specialization
+        PList get() {
+            PythonObjectFactory factory = PythonObjectFactory.getUncached();
+            List<CApiTiming.Statistics> statistics = CApiTiming.getStatistics();
+            Object[] result = new Object[statistics.size()];
+            for (int i = 0; i < result.length; i++) {
+                CApiTiming.Statistics s = statistics.get(i);
+                PTuple histogram = factory.createTuple(new LongSequenceStorage(s.histogram()));
+                result[i] = factory.createTuple(new Object[]{toTruffleStringUncached(s.name()), s.downcall(), s.count(), s.time() / 1e9, s.allocations(), histogram});
+            }
+            return factory.createList(result);
+        }
+    }
+
+    @Builtin(name = "reset_capi_timing_statistics", minNumOfPositionalArgs = 0, doc = "Discards the C API timing statistics recorded so far.")
+    @GenerateNodeFactory
+    abstract static class ResetCApiTimingStatisticsNode extends PythonBuiltinNode {
+        @Specialization
+        static PNone reset() {
+            CApiTiming.reset();
+            return PNone.NONE;
+        }
+    }
+
     @Builtin(name = "get_python_home_paths", minNumOfPositionalArgs = 0)
     @GenerateNodeFactory
     abstract static class GetPythonHomePaths extends PythonBuiltinNode {
@@ -75,7 +75,6 @@ import com.oracle.graal.python.builtins.modules.BuiltinConstructors.MemoryViewNo
 import com.oracle.graal.python.builtins.modules.MarshalModuleBuiltins.Marshal.MarshalError;
 import com.oracle.graal.python.builtins.objects.PNone;
 import com.oracle.graal.python.builtins.objects.buffer.PythonBufferAccessLibrary;
-import com.oracle.graal.python.builtins.objects.bytes.BytesNodes;
 import com.oracle.graal.python.builtins.objects.bytes.PBytes;
 import com.oracle.graal.python.builtins.objects.cext.capi.CApiContext;
 import com.oracle.graal.python.builtins.objects.cext.capi.CExtNodes.ExecModuleNode;
@@ -765,24 +764,68 @@ public final class ImpModuleBuiltins extends PythonBuiltins {
     @GenerateNodeFactory
     public abstract static class SourceHashNode extends PythonBinaryClinicBuiltinNode {
         @Specialization
-        static PBytes run(long magicNumber, Object sourceBuffer,
+        static PBytes run(VirtualFrame frame, long magicNumber, Object sourceBuffer,
                         @Bind("this") Node inliningTarget,
-                        @Cached BytesNodes.HashBufferNode hashBufferNode,
+                        @Cached("createFor(this)") IndirectCallData indirectCallData,
+                        @CachedLibrary(limit = "3") PythonBufferAccessLibrary bufferLib,
                         @Cached PythonObjectFactory factory) {
-            long sourceHash = hashBufferNode.execute(inliningTarget, sourceBuffer);
-            return factory.createBytes(computeHash(magicNumber, sourceHash));
+            try {
+                byte[] source = bufferLib.getInternalOrCopiedByteArray(sourceBuffer);
+                int len = bufferLib.getBufferLength(sourceBuffer);
+                return factory.createBytes(computeHash(magicNumber, source, len));
+            } finally {
+                bufferLib.release(sourceBuffer, frame, indirectCallData);
+            }
         }
 
+        /**
+         * Computes the same keyed SipHash-1-3 as CPython's {@code _Py_KeyedHash}. The result must
+         * be stable across processes and contexts, since it is stored in hash-based pyc files and
+         * compared against the source on the next import.
+         */
         @TruffleBoundary
-        private static byte[] computeHash(long magicNumber, long sourceHash) {
-            byte[] hash = new byte[Long.BYTES];
-            long hashCode = magicNumber ^ sourceHash;
-            for (int i = 0; i < hash.length; i++) {
-                hash[i] = (byte) (hashCode << (8 * i));
+        static byte[] computeHash(long key, byte[] src, int len) {
+            long[] v = {key ^ 0x736f6d6570736575L, 0x646f72616e646f6dL, key ^ 0x6c7967656e657261L, 0x7465646279746573L};
+            int end = len & ~7;
+            for (int i = 0; i < end; i += 8) {
+                long m = ByteArraySupport.littleEndian().getLong(src, i);
+                v[3] ^= m;
+                sipRound(v);
+                v[0] ^= m;
             }
+            long b = ((long) len) << 56;
+            for (int i = end; i < len; i++) {
+                b |= (src[i] & 0xFFL) << (8 * (i - end));
+            }
+            v[3] ^= b;
+            sipRound(v);
+            v[0] ^= b;
+            v[2] ^= 0xff;
+            sipRound(v);
+            sipRound(v);
+            sipRound(v);
+            byte[] hash = new byte[Long.BYTES];
+            ByteArraySupport.littleEndian().putLong(hash, 0, v[0] ^ v[1] ^ v[2] ^ v[3]);
             return hash;
         }
 
+        private static void sipRound(long[] v) {
+            v[0] += v[1];
+            v[1] = Long.rotateLeft(v[1], 13);
+            v[1] ^= v[0];
+            v[0] = Long.rotateLeft(v[0], 32);
+            v[2] += v[3];
+            v[3] = Long.rotateLeft(v[3], 16);
+            v[3] ^= v[2];
+            v[0] += v[3];
+            v[3] = Long.rotateLeft(v[3], 21);
+            v[3] ^= v[0];
+            v[2] += v[1];
+            v[1] = Long.rotateLeft(v[1], 17);
+            v[1] ^= v[2];
+            v[2] = Long.rotateLeft(v[2], 32);
+        }
+
         @Override
         protected ArgumentClinicProvider getArgumentClinic() {
             return ImpModuleBuiltinsClinicProviders.SourceHashNodeClinicProviderGen.INSTANCE;
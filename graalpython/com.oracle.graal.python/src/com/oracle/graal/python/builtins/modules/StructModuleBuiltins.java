@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.modules;
+
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.TypeError;
+import static com.oracle.graal.python.nodes.BuiltinNames.J__STRUCT;
+import static com.oracle.graal.python.nodes.BuiltinNames.T__STRUCT;
+
+import java.util.HashMap;
+import java.util.List;
+
+import com.oracle.graal.python.annotations.ArgumentClinic;
+import com.oracle.graal.python.annotations.ArgumentClinic.ClinicConversion;
+import com.oracle.graal.python.builtins.Builtin;
+import com.oracle.graal.python.builtins.CoreFunctions;
+import com.oracle.graal.python.builtins.PythonBuiltinClassType;
+import com.oracle.graal.python.builtins.PythonBuiltins;
+import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.builtins.objects.buffer.PythonBufferAccessLibrary;
+import com.oracle.graal.python.builtins.objects.bytes.PBytes;
+import com.oracle.graal.python.builtins.objects.function.PKeyword;
+import com.oracle.graal.python.builtins.objects.struct.PStruct;
+import com.oracle.graal.python.builtins.objects.struct.PStructUnpackIterator;
+import com.oracle.graal.python.builtins.objects.struct.StructInfo;
+import com.oracle.graal.python.builtins.objects.struct.StructNodes.GetStructInfoNode;
+import com.oracle.graal.python.builtins.objects.struct.StructNodes.StructIterUnpackNode;
+import com.oracle.graal.python.builtins.objects.struct.StructNodes.StructPackIntoNode;
+import com.oracle.graal.python.builtins.objects.struct.StructNodes.StructPackNode;
+import com.oracle.graal.python.builtins.objects.struct.StructNodes.StructUnpackNode;
+import com.oracle.graal.python.builtins.objects.tuple.PTuple;
+import com.oracle.graal.python.nodes.ErrorMessages;
+import com.oracle.graal.python.nodes.PRaiseNode;
+import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
+import com.oracle.graal.python.nodes.function.PythonBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonBinaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonBinaryClinicBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonTernaryClinicBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.clinic.ArgumentClinicProvider;
+import com.oracle.graal.python.runtime.IndirectCallData;
+import com.oracle.graal.python.runtime.object.PythonObjectFactory;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.GenerateNodeFactory;
+import com.oracle.truffle.api.dsl.NodeFactory;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.library.CachedLibrary;
+import com.oracle.truffle.api.strings.TruffleString;
+
+@CoreFunctions(defineModule = J__STRUCT)
+public final class StructModuleBuiltins extends PythonBuiltins {
+    /**
+     * Same limit as CPython's {@code MAXCACHE}.
+     */
+    private static final int MAX_CACHE_SIZE = 100;
+
+    private final HashMap<TruffleString, StructInfo> cache = new HashMap<>();
+
+    public StructModuleBuiltins() {
+        addBuiltinConstant("error", PythonBuiltinClassType.StructError);
+    }
+
+    @Override
+    protected List<? extends NodeFactory<? extends PythonBuiltinBaseNode>> getNodeFactories() {
+        return StructModuleBuiltinsFactory.getFactories();
+    }
+
+    @TruffleBoundary
+    public synchronized StructInfo getCachedStructInfo(TruffleString format) {
+        return cache.get(format);
+    }
+
+    @TruffleBoundary
+    public synchronized void cacheStructInfo(TruffleString format, StructInfo structInfo) {
+        if (cache.size() >= MAX_CACHE_SIZE) {
+            cache.clear();
+        }
+        cache.put(format, structInfo);
+    }
+
+    @TruffleBoundary
+    public synchronized void clearCache() {
+        cache.clear();
+    }
+
+    @Builtin(name = "Struct", minNumOfPositionalArgs = 1, constructsClass = PythonBuiltinClassType.PStruct, takesVarArgs = true, takesVarKeywordArgs = true)
+    @GenerateNodeFactory
+    public abstract static class ConstructStructNode extends PythonBuiltinNode {
+        @Specialization
+        static PStruct construct(Object cls, @SuppressWarnings("unused") Object[] args, @SuppressWarnings("unused") PKeyword[] kwargs,
+                        @Cached PythonObjectFactory factory) {
+            // the format is set by __init__
+            return factory.createStruct(cls, StructInfo.EMPTY);
+        }
+    }
+
+    @Builtin(name = "unpack_iterator", takesVarArgs = true, takesVarKeywordArgs = true, constructsClass = PythonBuiltinClassType.PStructUnpackIterator, isPublic = false)
+    @GenerateNodeFactory
+    public abstract static class ConstructStructUnpackIteratorNode extends PythonBuiltinNode {
+        @SuppressWarnings("unused")
+        @Specialization
+        static Object construct(Object args, Object kwargs,
+                        @Cached PRaiseNode raiseNode) {
+            throw raiseNode.raise(TypeError, ErrorMessages.CANNOT_CREATE_INSTANCES, "_struct.unpack_iterator");
+        }
+    }
+
+    @Builtin(name = "pack", minNumOfPositionalArgs = 1, parameterNames = {"format"}, takesVarArgs = true)
+    @GenerateNodeFactory
+    public abstract static class PackNode extends PythonBuiltinNode {
+        @Specialization
+        static PBytes pack(VirtualFrame frame, Object format, Object[] args,
+                        @Cached GetStructInfoNode getStructInfoNode,
+                        @Cached StructPackNode packNode) {
+            return packNode.execute(frame, getStructInfoNode.execute(format), args);
+        }
+    }
+
+    @Builtin(name = "pack_into", minNumOfPositionalArgs = 1, parameterNames = {"format"}, takesVarArgs = true)
+    @GenerateNodeFactory
+    public abstract static class PackIntoNode extends PythonBuiltinNode {
+        @Specialization
+        static PNone packInto(VirtualFrame frame, Object format, Object[] args,
+                        @Cached GetStructInfoNode getStructInfoNode,
+                        @Cached StructPackIntoNode packIntoNode) {
+            packIntoNode.execute(frame, getStructInfoNode.execute(format), args);
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "unpack", minNumOfPositionalArgs = 2, parameterNames = {"format", "buffer"})
+    @ArgumentClinic(name = "buffer", conversion = ClinicConversion.ReadableBuffer)
+    @GenerateNodeFactory
+    public abstract static class UnpackNode extends PythonBinaryClinicBuiltinNode {
+        @Specialization(limit = "3")
+        static PTuple unpack(VirtualFrame frame, Object format, Object buffer,
+                        @Cached("createFor(this)") IndirectCallData indirectCallData,
+                        @CachedLibrary("buffer") PythonBufferAccessLibrary bufferLib,
+                        @Cached GetStructInfoNode getStructInfoNode,
+                        @Cached StructUnpackNode unpackNode) {
+            try {
+                return unpackNode.execute(getStructInfoNode.execute(format), buffer, 0, false);
+            } finally {
+                bufferLib.release(buffer, frame, indirectCallData);
+            }
+        }
+
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return StructModuleBuiltinsClinicProviders.UnpackNodeClinicProviderGen.INSTANCE;
+        }
+    }
+
+    @Builtin(name = "unpack_from", minNumOfPositionalArgs = 2, parameterNames = {"format", "buffer", "offset"}, numOfPositionalOnlyArgs = 1)
+    @ArgumentClinic(name = "buffer", conversion = ClinicConversion.ReadableBuffer)
+    @ArgumentClinic(name = "offset", conversion = ClinicConversion.LongIndex, defaultValue = "0")
+    @GenerateNodeFactory
+    public abstract static class UnpackFromNode extends PythonTernaryClinicBuiltinNode {
+        @Specialization(limit = "3")
+        static PTuple unpackFrom(VirtualFrame frame, Object format, Object buffer, long offset,
+                        @Cached("createFor(this)") IndirectCallData indirectCallData,
+                        @CachedLibrary("buffer") PythonBufferAccessLibrary bufferLib,
+                        @Cached GetStructInfoNode getStructInfoNode,
+                        @Cached StructUnpackNode unpackNode) {
+            try {
+                return unpackNode.execute(getStructInfoNode.execute(format), buffer, offset, true);
+            } finally {
+                bufferLib.release(buffer, frame, indirectCallData);
+            }
+        }
+
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return StructModuleBuiltinsClinicProviders.UnpackFromNodeClinicProviderGen.INSTANCE;
+        }
+    }
+
+    @Builtin(name = "iter_unpack", minNumOfPositionalArgs = 2, parameterNames = {"format", "buffer"})
+    @GenerateNodeFactory
+    public abstract static class IterUnpackNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        static PStructUnpackIterator iterUnpack(VirtualFrame frame, Object format, Object buffer,
+                        @Cached GetStructInfoNode getStructInfoNode,
+                        @Cached StructIterUnpackNode iterUnpackNode) {
+            return iterUnpackNode.execute(frame, getStructInfoNode.execute(format), buffer);
+        }
+    }
+
+    @Builtin(name = "calcsize", minNumOfPositionalArgs = 1, parameterNames = {"format"})
+    @GenerateNodeFactory
+    public abstract static class CalcSizeNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static int calcSize(Object format,
+                        @Cached GetStructInfoNode getStructInfoNode) {
+            return getStructInfoNode.execute(format).getSize();
+        }
+    }
+
+    @Builtin(name = "_clearcache")
+    @GenerateNodeFactory
+    public abstract static class ClearCacheNode extends PythonBuiltinNode {
+        @Specialization
+        PNone clearCache() {
+            ((StructModuleBuiltins) getContext().lookupBuiltinModule(T__STRUCT).getBuiltins()).clearCache();
+            return PNone.NONE;
+        }
+    }
+}
@@ -83,7 +83,6 @@ import com.oracle.graal.python.runtime.exception.PythonThreadKillException;
 import com.oracle.graal.python.runtime.object.PythonObjectFactory;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.TruffleLanguage;
-import com.oracle.truffle.api.TruffleThreadBuilder;
 import com.oracle.truffle.api.dsl.Bind;
 import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.GenerateNodeFactory;
@@ -227,7 +226,7 @@ public final class ThreadModuleBuiltins extends PythonBuiltins {
 
             // TODO: python thread stack size != java thread stack size
             // ignore setting the stack size for the moment
-            TruffleThreadBuilder threadBuilder = env.newTruffleThreadBuilder(() -> {
+            Runnable threadBody = () -> {
                 try (GilNode.UncachedAcquire gil = GilNode.uncachedAcquire()) {
                     // the increment is protected by the gil
                     int curCount = threadModule.getModuleState(Integer.class);
@@ -250,9 +249,16 @@ public final class ThreadModuleBuiltins extends PythonBuiltins {
                         threadModule.setModuleState(curCount - 1);
                     }
                 }
-            }).context(env.getContext()).threadGroup(context.getThreadGroup());
+            };
+            Thread thread;
+            if (context.useVirtualThreads()) {
+                // virtual threads cannot be put into the context's thread group
+                thread = context.createVirtualThread(threadBody);
+            } else {
+                thread = env.newTruffleThreadBuilder(threadBody).context(env.getContext()).threadGroup(context.getThreadGroup()).build();
+            }
 
-            PThread pThread = factory.createPythonThread(cls, threadBuilder.build());
+            PThread pThread = factory.createPythonThread(cls, thread);
             pThread.start();
             return pThread.getId();
         }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2023, 2024, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -41,17 +41,31 @@
 package com.oracle.graal.python.builtins.modules;
 
 import static com.oracle.graal.python.nodes.BuiltinNames.J__TRACEMALLOC;
+import static com.oracle.graal.python.runtime.exception.PythonErrorType.ValueError;
 
 import java.util.List;
 
+import com.oracle.graal.python.PythonLanguage;
+import com.oracle.graal.python.annotations.ArgumentClinic;
+import com.oracle.graal.python.annotations.ArgumentClinic.ClinicConversion;
 import com.oracle.graal.python.builtins.Builtin;
 import com.oracle.graal.python.builtins.CoreFunctions;
-import com.oracle.graal.python.builtins.Python3Core;
-import com.oracle.graal.python.builtins.PythonBuiltinClassType;
 import com.oracle.graal.python.builtins.PythonBuiltins;
+import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.builtins.objects.tuple.PTuple;
+import com.oracle.graal.python.nodes.ErrorMessages;
 import com.oracle.graal.python.nodes.PRaiseNode;
 import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
 import com.oracle.graal.python.nodes.function.PythonBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonUnaryClinicBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.clinic.ArgumentClinicProvider;
+import com.oracle.graal.python.runtime.PythonContext;
+import com.oracle.graal.python.runtime.PythonOptions;
+import com.oracle.graal.python.runtime.TracemallocTracker;
+import com.oracle.graal.python.runtime.TracemallocTracker.Trace;
+import com.oracle.graal.python.runtime.object.PythonObjectFactory;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.GenerateNodeFactory;
 import com.oracle.truffle.api.dsl.NodeFactory;
@@ -60,23 +74,125 @@ import com.oracle.truffle.api.dsl.Specialization;
 @CoreFunctions(defineModule = J__TRACEMALLOC)
 public final class TracemallocModuleBuiltins extends PythonBuiltins {
 
+    /**
+     * The domain of all traces. Allocations of native extensions are not traced.
+     */
+    private static final int DEFAULT_DOMAIN = 0;
+
     @Override
     protected List<? extends NodeFactory<? extends PythonBuiltinBaseNode>> getNodeFactories() {
         return TracemallocModuleBuiltinsFactory.getFactories();
     }
 
-    @Override
-    public void initialize(Python3Core core) {
-        super.initialize(core);
+    @Builtin(name = "is_tracing")
+    @GenerateNodeFactory
+    abstract static class IsTracingNode extends PythonBuiltinNode {
+        @Specialization
+        boolean isTracing() {
+            return getContext().getTracemallocTracker().isTracing();
+        }
     }
 
-    @Builtin(name = "_get_object_traceback", minNumOfPositionalArgs = 1)
+    @Builtin(name = "start", parameterNames = {"nframe"})
+    @ArgumentClinic(name = "nframe", conversion = ClinicConversion.Int, defaultValue = "1")
     @GenerateNodeFactory
-    abstract static class GetObjectTracebackNode extends PythonBuiltinNode {
+    abstract static class StartNode extends PythonUnaryClinicBuiltinNode {
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return TracemallocModuleBuiltinsClinicProviders.StartNodeClinicProviderGen.INSTANCE;
+        }
+
         @Specialization
-        static Object getObjectTraceback(Object obj,
+        PNone start(int nframe,
                         @Cached PRaiseNode raiseNode) {
-            throw raiseNode.raise(PythonBuiltinClassType.NotImplementedError);
+            if (nframe < 1 || nframe > TracemallocTracker.MAX_NFRAME) {
+                throw raiseNode.raise(ValueError, ErrorMessages.THE_NUMBER_OF_FRAMES_MUST_BE_IN_RANGE, TracemallocTracker.MAX_NFRAME);
+            }
+            start(getLanguage(), getContext(), nframe);
+            return PNone.NONE;
+        }
+
+        @TruffleBoundary
+        private static void start(PythonLanguage language, PythonContext context, int nframe) {
+            language.noTracemallocAssumption.invalidate();
+            context.getTracemallocTracker().start(nframe, context.getOption(PythonOptions.TracemallocSampleInterval), context.getOption(PythonOptions.TracemallocMaxTraces));
+        }
+    }
+
+    @Builtin(name = "stop")
+    @GenerateNodeFactory
+    abstract static class StopNode extends PythonBuiltinNode {
+        @Specialization
+        PNone stop() {
+            getContext().getTracemallocTracker().stop();
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "clear_traces")
+    @GenerateNodeFactory
+    abstract static class ClearTracesNode extends PythonBuiltinNode {
+        @Specialization
+        PNone clearTraces() {
+            getContext().getTracemallocTracker().clearTraces();
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "get_traceback_limit")
+    @GenerateNodeFactory
+    abstract static class GetTracebackLimitNode extends PythonBuiltinNode {
+        @Specialization
+        int getTracebackLimit() {
+            return getContext().getTracemallocTracker().getTracebackLimit();
+        }
+    }
+
+    @Builtin(name = "get_traced_memory")
+    @GenerateNodeFactory
+    abstract static class GetTracedMemoryNode extends PythonBuiltinNode {
+        @Specialization
+        PTuple getTracedMemory(
+                        @Cached PythonObjectFactory factory) {
+            TracemallocTracker tracker = getContext().getTracemallocTracker();
+            return factory.createTuple(new Object[]{tracker.getTracedMemory(), tracker.getPeakMemory()});
+        }
+    }
+
+    @Builtin(name = "reset_peak")
+    @GenerateNodeFactory
+    abstract static class ResetPeakNode extends PythonBuiltinNode {
+        @Specialization
+        PNone resetPeak() {
+            getContext().getTracemallocTracker().resetPeak();
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "get_tracemalloc_memory")
+    @GenerateNodeFactory
+    abstract static class GetTracemallocMemoryNode extends PythonBuiltinNode {
+        @Specialization
+        long getTracemallocMemory() {
+            return getContext().getTracemallocTracker().getOwnMemory();
+        }
+    }
+
+    @Builtin(name = "_get_object_traceback", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    abstract static class GetObjectTracebackNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        Object getObjectTraceback(Object obj,
+                        @Cached PythonObjectFactory factory) {
+            TracemallocTracker tracker = getContext().getTracemallocTracker();
+            if (!tracker.isTracing()) {
+                return PNone.NONE;
+            }
+            Trace trace = tracker.getTrace(obj);
+            if (trace == null) {
+                return PNone.NONE;
+            }
+            return createTraceback(trace, factory);
         }
     }
 
@@ -84,9 +200,26 @@ public final class TracemallocModuleBuiltins extends PythonBuiltins {
     @GenerateNodeFactory
     abstract static class GetTracesNode extends PythonBuiltinNode {
         @Specialization
-        static Object getTraces(
-                        @Cached PRaiseNode raiseNode) {
-            throw raiseNode.raise(PythonBuiltinClassType.NotImplementedError);
+        Object getTraces(
+                        @Cached PythonObjectFactory factory) {
+            Trace[] traces = getContext().getTracemallocTracker().getTraces();
+            Object[] result = new Object[traces.length];
+            for (int i = 0; i < traces.length; i++) {
+                Trace trace = traces[i];
+                result[i] = factory.createTuple(new Object[]{DEFAULT_DOMAIN, trace.getSize(), createTraceback(trace, factory), trace.getTotalFrames()});
+            }
+            return factory.createList(result);
+        }
+    }
+
+    /**
+     * Creates a tuple of {@code (filename, lineno)} tuples, most recent call first.
+     */
+    private static PTuple createTraceback(Trace trace, PythonObjectFactory factory) {
+        Object[] frames = new Object[trace.getFrameCount()];
+        for (int i = 0; i < frames.length; i++) {
+            frames[i] = factory.createTuple(new Object[]{trace.getFilename(i), trace.getLineno(i)});
         }
+        return factory.createTuple(frames);
     }
 }
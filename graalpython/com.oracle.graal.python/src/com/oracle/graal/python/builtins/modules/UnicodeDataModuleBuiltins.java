@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2018, 2024, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -40,14 +40,18 @@
  */
 package com.oracle.graal.python.builtins.modules;
 
+import static com.oracle.graal.python.builtins.objects.unicodedata.UnicodeDataTables.QUICK_CHECK_MAYBE;
+import static com.oracle.graal.python.builtins.objects.unicodedata.UnicodeDataTables.QUICK_CHECK_NO;
+import static com.oracle.graal.python.builtins.objects.unicodedata.UnicodeDataTables.QUICK_CHECK_YES;
+import static com.oracle.graal.python.nodes.StringLiterals.T_EMPTY_STRING;
+import static com.oracle.graal.python.runtime.exception.PythonErrorType.KeyError;
 import static com.oracle.graal.python.runtime.exception.PythonErrorType.ValueError;
 import static com.oracle.graal.python.util.PythonUtils.TS_ENCODING;
+import static com.oracle.graal.python.util.PythonUtils.tsLiteral;
 
-import java.text.Normalizer;
 import java.util.List;
 
 import org.graalvm.shadowed.com.ibm.icu.lang.UCharacter;
-import org.graalvm.shadowed.com.ibm.icu.lang.UProperty;
 
 import com.oracle.graal.python.annotations.ArgumentClinic;
 import com.oracle.graal.python.builtins.Builtin;
@@ -55,170 +59,374 @@ import com.oracle.graal.python.builtins.CoreFunctions;
 import com.oracle.graal.python.builtins.Python3Core;
 import com.oracle.graal.python.builtins.PythonBuiltins;
 import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.builtins.objects.module.PythonModule;
+import com.oracle.graal.python.builtins.objects.unicodedata.PUCD;
+import com.oracle.graal.python.builtins.objects.unicodedata.UnicodeDataTables;
 import com.oracle.graal.python.nodes.ErrorMessages;
 import com.oracle.graal.python.nodes.PRaiseNode;
 import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonBinaryClinicBuiltinNode;
-import com.oracle.graal.python.nodes.function.builtins.PythonUnaryClinicBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonTernaryClinicBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.clinic.ArgumentClinicProvider;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.dsl.Bind;
 import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.GenerateCached;
+import com.oracle.truffle.api.dsl.GenerateInline;
 import com.oracle.truffle.api.dsl.GenerateNodeFactory;
 import com.oracle.truffle.api.dsl.NodeFactory;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.nodes.Node;
 import com.oracle.truffle.api.strings.TruffleString;
+import com.oracle.truffle.api.strings.TruffleString.CodeRange;
+import com.oracle.truffle.api.strings.TruffleStringIterator;
 
+/**
+ * The {@code unicodedata} module. All functions declare an explicit {@code self}, which is either
+ * the module or {@code unicodedata.ucd_3_2_0} (see {@code UCDBuiltins}). The properties are read
+ * from {@link UnicodeDataTables}, only the names of code points come from ICU.
+ */
 @CoreFunctions(defineModule = "unicodedata")
 public final class UnicodeDataModuleBuiltins extends PythonBuiltins {
+
+    private static final TruffleString T_UNICODEDATA = tsLiteral("unicodedata");
+
+    private static final int NAME_MAXLEN = 256;
+    private static final String CJK_UNIFIED_IDEOGRAPH_PREFIX = "CJK UNIFIED IDEOGRAPH-";
+
+    private static final int FORM_NFC = 0;
+    private static final int FORM_NFKC = 1;
+    private static final int FORM_NFD = 2;
+    private static final int FORM_NFKD = 3;
+
     @Override
     protected List<? extends NodeFactory<? extends PythonBuiltinBaseNode>> getNodeFactories() {
         return UnicodeDataModuleBuiltinsFactory.getFactories();
     }
 
+    /**
+     * The Unicode version of the data in {@link UnicodeDataTables}, which does not have to match
+     * the version of the bundled ICU.
+     */
     public static String getUnicodeVersion() {
+        return UnicodeDataTables.UNIDATA_VERSION;
+    }
 
-        // Preliminary Unicode 11 data obtained from
-        // <https://www.unicode.org/Public/11.0.0/ucd/DerivedAge-11.0.0d13.txt>.
-        if (Character.getType('\u0560') != Character.UNASSIGNED) {
-            return "11.0.0";    // 11.0, June 2018.
+    /**
+     * Returns the name of a Unicode codepoint or null if the name is unknown. Unlike CPython we
+     * skip all codepoint in the private use areas. Code points that are not assigned in
+     * {@link #getUnicodeVersion()} have no name, even if ICU knows them.
+     */
+    public static String getUnicodeName(int cp) {
+        if ((0xe000 <= cp && cp <= 0xf8ff) || (0xF0000 <= cp && cp <= 0xFFFFD) || (0x100000 <= cp && cp <= 0x10FFFD)) {
+            return null;
         }
-
-        if (Character.getType('\u0860') != Character.UNASSIGNED) {
-            return "10.0.0";    // 10.0, June 2017.
+        if (!UnicodeDataTables.isAssigned(UnicodeDataTables.getRecord(cp, false))) {
+            return null;
         }
+        return getUnicodeNameTB(cp);
+    }
 
-        if (Character.getType('\u08b6') != Character.UNASSIGNED) {
-            return "9.0.0";     // 9.0, June 2016.
-        }
+    @TruffleBoundary
+    private static String getUnicodeNameTB(int cp) {
+        return UCharacter.getName(cp);
+    }
 
-        if (Character.getType('\u08b3') != Character.UNASSIGNED) {
-            return "8.0.0";     // 8.0, June 2015.
-        }
+    @Override
+    public void initialize(Python3Core core) {
+        super.initialize(core);
+        addBuiltinConstant("unidata_version", getUnicodeVersion());
+    }
 
-        if (Character.getType('\u037f') != Character.UNASSIGNED) {
-            return "7.0.0";     // 7.0, June 2014.
-        }
+    @Override
+    public void postInitialize(Python3Core core) {
+        super.postInitialize(core);
+        PythonModule unicodedata = core.lookupBuiltinModule(T_UNICODEDATA);
+        unicodedata.setAttribute(tsLiteral("ucd_3_2_0"), core.factory().createUCD());
+    }
+
+    static boolean isUCD32(Object self) {
+        return self instanceof PUCD;
+    }
 
-        if (Character.getType('\u061c') != Character.UNASSIGNED) {
-            return "6.3.0";     // 6.3, September 2013.
+    static long getRecord(Object self, int cp) {
+        return UnicodeDataTables.getRecord(cp, isUCD32(self));
+    }
+
+    @TruffleBoundary
+    static int getForm(TruffleString form) {
+        switch (form.toJavaStringUncached()) {
+            case "NFC":
+                return FORM_NFC;
+            case "NFKC":
+                return FORM_NFKC;
+            case "NFD":
+                return FORM_NFD;
+            case "NFKD":
+                return FORM_NFKD;
+            default:
+                return -1;
         }
+    }
+
+    static String normalize(String str, int form, boolean ucd32) {
+        boolean compose = form == FORM_NFC || form == FORM_NFKC;
+        boolean compat = form == FORM_NFKC || form == FORM_NFKD;
+        return UnicodeDataTables.normalize(str, compose, compat, ucd32);
+    }
+
+    /**
+     * The normalization quick check of CPython's {@code is_normalized_quickcheck}. Returns
+     * {@code QUICK_CHECK_YES} or {@code QUICK_CHECK_NO} if the answer is known from the tables
+     * alone, otherwise the string has to be normalized to find out. If {@code yesOnly} is set, the
+     * check stops at the first code point that is not a definite yes.
+     */
+    @GenerateInline
+    @GenerateCached(false)
+    abstract static class QuickCheckNode extends Node {
 
-        if (Character.getType('\u20ba') != Character.UNASSIGNED) {
-            return "6.2.0";     // 6.2, September 2012.
+        abstract int execute(Node inliningTarget, TruffleString str, int form, boolean ucd32, boolean yesOnly);
+
+        @Specialization
+        static int check(TruffleString str, int form, boolean ucd32, boolean yesOnly,
+                        @Cached(inline = false) TruffleString.GetCodeRangeNode getCodeRangeNode,
+                        @Cached(inline = false) TruffleString.CreateCodePointIteratorNode createCodePointIteratorNode,
+                        @Cached(inline = false) TruffleStringIterator.NextNode nextNode) {
+            if (ucd32) {
+                // there is no quick check data for Unicode 3.2
+                return QUICK_CHECK_MAYBE;
+            }
+            if (getCodeRangeNode.execute(str, TS_ENCODING) == CodeRange.ASCII) {
+                // ASCII is invariant under all normalization forms
+                return QUICK_CHECK_YES;
+            }
+            boolean compose = form == FORM_NFC || form == FORM_NFKC;
+            boolean compat = form == FORM_NFKC || form == FORM_NFKD;
+            int result = QUICK_CHECK_YES;
+            int prevCombining = 0;
+            TruffleStringIterator it = createCodePointIteratorNode.execute(str, TS_ENCODING);
+            while (it.hasNext()) {
+                long record = UnicodeDataTables.getRecord(nextNode.execute(it), false);
+                int combining = UnicodeDataTables.getCombining(record);
+                if (combining != 0 && prevCombining > combining) {
+                    return QUICK_CHECK_NO;
+                }
+                prevCombining = combining;
+                int quickCheck = UnicodeDataTables.getQuickCheck(record, compose, compat);
+                if (quickCheck == QUICK_CHECK_NO) {
+                    return QUICK_CHECK_NO;
+                } else if (quickCheck == QUICK_CHECK_MAYBE) {
+                    if (yesOnly) {
+                        return QUICK_CHECK_MAYBE;
+                    }
+                    result = QUICK_CHECK_MAYBE;
+                }
+            }
+            return result;
         }
+    }
 
-        if (Character.getType('\u058f') != Character.UNASSIGNED) {
-            return "6.1.0";     // 6.1, January 2012.
+    // unicodedata.decimal(chr, default=<unrepresentable>, /)
+    @Builtin(name = "decimal", minNumOfPositionalArgs = 2, numOfPositionalOnlyArgs = 3, parameterNames = {"$self", "chr", "default"}, declaresExplicitSelf = true)
+    @ArgumentClinic(name = "chr", conversion = ArgumentClinic.ClinicConversion.CodePoint)
+    @GenerateNodeFactory
+    public abstract static class DecimalNode extends PythonTernaryClinicBuiltinNode {
+        @Specialization
+        static Object decimal(Object self, int chr, Object defaultValue,
+                        @Bind("this") Node inliningTarget,
+                        @Cached PRaiseNode.Lazy raiseNode) {
+            int value = UnicodeDataTables.getDecimal(getRecord(self, chr));
+            if (value < 0) {
+                if (defaultValue == PNone.NO_VALUE) {
+                    throw raiseNode.get(inliningTarget).raise(ValueError, ErrorMessages.NOT_A_DECIMAL);
+                }
+                return defaultValue;
+            }
+            return value;
         }
 
-        if (Character.getType('\u0526') != Character.UNASSIGNED) {
-            return "6.0.0";     // 6.0, October 2010.
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return UnicodeDataModuleBuiltinsClinicProviders.DecimalNodeClinicProviderGen.INSTANCE;
         }
+    }
 
-        if (Character.getType('\u0524') != Character.UNASSIGNED) {
-            return "5.2.0";     // 5.2, October 2009.
+    // unicodedata.digit(chr, default=<unrepresentable>, /)
+    @Builtin(name = "digit", minNumOfPositionalArgs = 2, numOfPositionalOnlyArgs = 3, parameterNames = {"$self", "chr", "default"}, declaresExplicitSelf = true)
+    @ArgumentClinic(name = "chr", conversion = ArgumentClinic.ClinicConversion.CodePoint)
+    @GenerateNodeFactory
+    public abstract static class DigitNode extends PythonTernaryClinicBuiltinNode {
+        @Specialization
+        static Object digit(Object self, int chr, Object defaultValue,
+                        @Bind("this") Node inliningTarget,
+                        @Cached PRaiseNode.Lazy raiseNode) {
+            int value = UnicodeDataTables.getDigit(getRecord(self, chr));
+            if (value < 0) {
+                if (defaultValue == PNone.NO_VALUE) {
+                    throw raiseNode.get(inliningTarget).raise(ValueError, ErrorMessages.NOT_A_DIGIT);
+                }
+                return defaultValue;
+            }
+            return value;
         }
 
-        if (Character.getType('\u0370') != Character.UNASSIGNED) {
-            return "5.1.0";     // 5.1, March 2008.
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return UnicodeDataModuleBuiltinsClinicProviders.DigitNodeClinicProviderGen.INSTANCE;
         }
+    }
 
-        if (Character.getType('\u0242') != Character.UNASSIGNED) {
-            return "5.0.0";     // 5.0, July 2006.
+    // unicodedata.numeric(chr, default=<unrepresentable>, /)
+    @Builtin(name = "numeric", minNumOfPositionalArgs = 2, numOfPositionalOnlyArgs = 3, parameterNames = {"$self", "chr", "default"}, declaresExplicitSelf = true)
+    @ArgumentClinic(name = "chr", conversion = ArgumentClinic.ClinicConversion.CodePoint)
+    @GenerateNodeFactory
+    public abstract static class NumericNode extends PythonTernaryClinicBuiltinNode {
+        @Specialization
+        static Object numeric(Object self, int chr, Object defaultValue,
+                        @Bind("this") Node inliningTarget,
+                        @Cached PRaiseNode.Lazy raiseNode) {
+            long record = getRecord(self, chr);
+            if (!UnicodeDataTables.hasNumeric(record)) {
+                if (defaultValue == PNone.NO_VALUE) {
+                    throw raiseNode.get(inliningTarget).raise(ValueError, ErrorMessages.NOT_A_NUMERIC_CHARACTER);
+                }
+                return defaultValue;
+            }
+            return UnicodeDataTables.getNumeric(record);
         }
 
-        if (Character.getType('\u0237') != Character.UNASSIGNED) {
-            return "4.1.0";     // 4.1, March 2005.
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return UnicodeDataModuleBuiltinsClinicProviders.NumericNodeClinicProviderGen.INSTANCE;
         }
+    }
 
-        if (Character.getType('\u0221') != Character.UNASSIGNED) {
-            return "4.0.0";     // 4.0, April 2003.
+    // unicodedata.category(chr, /)
+    @Builtin(name = "category", minNumOfPositionalArgs = 2, numOfPositionalOnlyArgs = 2, parameterNames = {"$self", "chr"}, declaresExplicitSelf = true)
+    @ArgumentClinic(name = "chr", conversion = ArgumentClinic.ClinicConversion.CodePoint)
+    @GenerateNodeFactory
+    public abstract static class CategoryNode extends PythonBinaryClinicBuiltinNode {
+        @Specialization
+        static TruffleString category(Object self, int chr) {
+            return UnicodeDataTables.getCategory(getRecord(self, chr));
         }
 
-        if (Character.getType('\u0220') != Character.UNASSIGNED) {
-            return "3.2.0";     // 3.2, March 2002.
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return UnicodeDataModuleBuiltinsClinicProviders.CategoryNodeClinicProviderGen.INSTANCE;
         }
+    }
 
-        if (Character.getType('\u03f4') != Character.UNASSIGNED) {
-            return "3.1.0";     // 3.1, March 2001.
+    // unicodedata.bidirectional(chr, /)
+    @Builtin(name = "bidirectional", minNumOfPositionalArgs = 2, numOfPositionalOnlyArgs = 2, parameterNames = {"$self", "chr"}, declaresExplicitSelf = true)
+    @ArgumentClinic(name = "chr", conversion = ArgumentClinic.ClinicConversion.CodePoint)
+    @GenerateNodeFactory
+    public abstract static class BidirectionalNode extends PythonBinaryClinicBuiltinNode {
+        @Specialization
+        static TruffleString bidirectional(Object self, int chr) {
+            return UnicodeDataTables.getBidirectional(getRecord(self, chr));
         }
 
-        if (Character.getType('\u01f6') != Character.UNASSIGNED) {
-            return "3.0.0";     // 3.0, September 1999.
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return UnicodeDataModuleBuiltinsClinicProviders.BidirectionalNodeClinicProviderGen.INSTANCE;
         }
+    }
 
-        if (Character.getType('\u20ac') != Character.UNASSIGNED) {
-            return "2.1.0";     // 2.1, May 1998.
+    // unicodedata.combining(chr, /)
+    @Builtin(name = "combining", minNumOfPositionalArgs = 2, numOfPositionalOnlyArgs = 2, parameterNames = {"$self", "chr"}, declaresExplicitSelf = true)
+    @ArgumentClinic(name = "chr", conversion = ArgumentClinic.ClinicConversion.CodePoint)
+    @GenerateNodeFactory
+    public abstract static class CombiningNode extends PythonBinaryClinicBuiltinNode {
+        @Specialization
+        static int combining(Object self, int chr) {
+            return UnicodeDataTables.getCombining(getRecord(self, chr));
         }
 
-        if (Character.getType('\u0591') != Character.UNASSIGNED) {
-            return "2.0.0";     // 2.0, July 1996.
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return UnicodeDataModuleBuiltinsClinicProviders.CombiningNodeClinicProviderGen.INSTANCE;
         }
+    }
 
-        if (Character.getType('\u0000') != Character.UNASSIGNED) {
-            return "1.1.0";     // 1.1, June 1993.
+    // unicodedata.mirrored(chr, /)
+    @Builtin(name = "mirrored", minNumOfPositionalArgs = 2, numOfPositionalOnlyArgs = 2, parameterNames = {"$self", "chr"}, declaresExplicitSelf = true)
+    @ArgumentClinic(name = "chr", conversion = ArgumentClinic.ClinicConversion.CodePoint)
+    @GenerateNodeFactory
+    public abstract static class MirroredNode extends PythonBinaryClinicBuiltinNode {
+        @Specialization
+        static int mirrored(Object self, int chr) {
+            return UnicodeDataTables.getMirrored(getRecord(self, chr));
         }
 
-        return "1.0.0";         // 1.0
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return UnicodeDataModuleBuiltinsClinicProviders.MirroredNodeClinicProviderGen.INSTANCE;
+        }
     }
 
-    /**
-     * Returns the name of a Unicode codepoint or null if the name is unknown. Unlike CPython we
-     * skip all codepoint in the private use areas.
-     */
-    public static String getUnicodeName(int cp) {
-        if ((0xe000 <= cp && cp <= 0xf8ff) || (0xF0000 <= cp && cp <= 0xFFFFD) || (0x100000 <= cp && cp <= 0x10FFFD)) {
-            return null;
+    // unicodedata.east_asian_width(chr, /)
+    @Builtin(name = "east_asian_width", minNumOfPositionalArgs = 2, numOfPositionalOnlyArgs = 2, parameterNames = {"$self", "chr"}, declaresExplicitSelf = true)
+    @ArgumentClinic(name = "chr", conversion = ArgumentClinic.ClinicConversion.CodePoint)
+    @GenerateNodeFactory
+    public abstract static class EastAsianWidthNode extends PythonBinaryClinicBuiltinNode {
+        @Specialization
+        static TruffleString eastAsianWidth(Object self, int chr) {
+            return UnicodeDataTables.getEastAsianWidth(getRecord(self, chr));
         }
-        return getUnicodeNameTB(cp);
-    }
 
-    @TruffleBoundary
-    private static String getUnicodeNameTB(int cp) {
-        return UCharacter.getName(cp);
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return UnicodeDataModuleBuiltinsClinicProviders.EastAsianWidthNodeClinicProviderGen.INSTANCE;
+        }
     }
 
-    @Override
-    public void initialize(Python3Core core) {
-        super.initialize(core);
-        addBuiltinConstant("unidata_version", getUnicodeVersion());
+    // unicodedata.decomposition(chr, /)
+    @Builtin(name = "decomposition", minNumOfPositionalArgs = 2, numOfPositionalOnlyArgs = 2, parameterNames = {"$self", "chr"}, declaresExplicitSelf = true)
+    @ArgumentClinic(name = "chr", conversion = ArgumentClinic.ClinicConversion.CodePoint)
+    @GenerateNodeFactory
+    public abstract static class DecompositionNode extends PythonBinaryClinicBuiltinNode {
+        @Specialization
+        static TruffleString decomposition(Object self, int chr,
+                        @Cached TruffleString.FromJavaStringNode fromJavaStringNode) {
+            if (isUCD32(self) && !UnicodeDataTables.isAssigned(getRecord(self, chr))) {
+                // unassigned in Unicode 3.2
+                return T_EMPTY_STRING;
+            }
+            return fromJavaStringNode.execute(UnicodeDataTables.getDecomposition(chr), TS_ENCODING);
+        }
+
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return UnicodeDataModuleBuiltinsClinicProviders.DecompositionNodeClinicProviderGen.INSTANCE;
+        }
     }
 
-    // unicodedata.normalize(form, unistr)
-    @Builtin(name = "normalize", minNumOfPositionalArgs = 2, parameterNames = {"form", "unistr"})
+    // unicodedata.normalize(form, unistr, /)
+    @Builtin(name = "normalize", minNumOfPositionalArgs = 3, numOfPositionalOnlyArgs = 3, parameterNames = {"$self", "form", "unistr"}, declaresExplicitSelf = true)
     @ArgumentClinic(name = "form", conversion = ArgumentClinic.ClinicConversion.TString)
     @ArgumentClinic(name = "unistr", conversion = ArgumentClinic.ClinicConversion.TString)
     @GenerateNodeFactory
-    public abstract static class NormalizeNode extends PythonBinaryClinicBuiltinNode {
-        @TruffleBoundary
-        protected Normalizer.Form getForm(TruffleString form) {
-            try {
-                return Normalizer.Form.valueOf(form.toJavaStringUncached());
-            } catch (IllegalArgumentException e) {
-                return null;
-            }
-        }
+    public abstract static class NormalizeNode extends PythonTernaryClinicBuiltinNode {
 
         @Specialization(guards = {"stringEquals(form, cachedForm, equalNode)"}, limit = "4")
-        static TruffleString normalize(@SuppressWarnings("unused") TruffleString form, TruffleString unistr,
+        static TruffleString normalize(Object self, @SuppressWarnings("unused") TruffleString form, TruffleString unistr,
                         @Bind("this") Node inliningTarget,
                         @SuppressWarnings("unused") @Cached("form") TruffleString cachedForm,
-                        @Cached("getForm(cachedForm)") Normalizer.Form cachedNormForm,
+                        @Cached("getForm(cachedForm)") int cachedNormForm,
                         @SuppressWarnings("unused") @Cached TruffleString.EqualNode equalNode,
+                        @Cached QuickCheckNode quickCheckNode,
                         @Cached TruffleString.ToJavaStringNode toJavaStringNode,
                         @Cached TruffleString.FromJavaStringNode fromJavaStringNode,
                         @Cached PRaiseNode.Lazy raiseNode) {
-            if (cachedNormForm == null) {
+            if (cachedNormForm < 0) {
                 throw raiseNode.get(inliningTarget).raise(ValueError, ErrorMessages.INVALID_NORMALIZATION_FORM);
             }
-            return fromJavaStringNode.execute(normalize(toJavaStringNode.execute(unistr), cachedNormForm), TS_ENCODING);
-        }
-
-        @TruffleBoundary
-        private static String normalize(String str, Normalizer.Form normForm) {
-            return Normalizer.normalize(str, normForm);
+            boolean ucd32 = isUCD32(self);
+            if (quickCheckNode.execute(inliningTarget, unistr, cachedNormForm, ucd32, true) == QUICK_CHECK_YES) {
+                return unistr;
+            }
+            return fromJavaStringNode.execute(normalize(toJavaStringNode.execute(unistr), cachedNormForm, ucd32), TS_ENCODING);
         }
 
         @Override
@@ -227,31 +435,32 @@ public final class UnicodeDataModuleBuiltins extends PythonBuiltins {
         }
     }
 
-    // unicodedata.is_normalized(form, unistr)
-    @Builtin(name = "is_normalized", minNumOfPositionalArgs = 2, parameterNames = {"form", "unistr"})
+    // unicodedata.is_normalized(form, unistr, /)
+    @Builtin(name = "is_normalized", minNumOfPositionalArgs = 3, numOfPositionalOnlyArgs = 3, parameterNames = {"$self", "form", "unistr"}, declaresExplicitSelf = true)
     @ArgumentClinic(name = "form", conversion = ArgumentClinic.ClinicConversion.TString)
     @ArgumentClinic(name = "unistr", conversion = ArgumentClinic.ClinicConversion.TString)
     @GenerateNodeFactory
-    public abstract static class IsNormalizedNode extends PythonBinaryClinicBuiltinNode {
-        @TruffleBoundary
-        protected Normalizer.Form getForm(TruffleString form) {
-            try {
-                return Normalizer.Form.valueOf(form.toJavaStringUncached());
-            } catch (IllegalArgumentException e) {
-                return null;
-            }
-        }
+    public abstract static class IsNormalizedNode extends PythonTernaryClinicBuiltinNode {
 
         @Specialization(guards = {"stringEquals(form, cachedForm, equalNode)"}, limit = "4")
-        @TruffleBoundary
-        boolean isNormalized(@SuppressWarnings("unused") TruffleString form, TruffleString unistr,
+        static boolean isNormalized(Object self, @SuppressWarnings("unused") TruffleString form, TruffleString unistr,
+                        @Bind("this") Node inliningTarget,
                         @SuppressWarnings("unused") @Cached("form") TruffleString cachedForm,
-                        @Cached("getForm(cachedForm)") Normalizer.Form cachedNormForm,
-                        @SuppressWarnings("unused") @Cached TruffleString.EqualNode equalNode) {
-            if (cachedNormForm == null) {
-                throw PRaiseNode.raiseUncached(this, ValueError, ErrorMessages.INVALID_NORMALIZATION_FORM);
+                        @Cached("getForm(cachedForm)") int cachedNormForm,
+                        @SuppressWarnings("unused") @Cached TruffleString.EqualNode equalNode,
+                        @Cached QuickCheckNode quickCheckNode,
+                        @Cached TruffleString.ToJavaStringNode toJavaStringNode,
+                        @Cached PRaiseNode.Lazy raiseNode) {
+            if (cachedNormForm < 0) {
+                throw raiseNode.get(inliningTarget).raise(ValueError, ErrorMessages.INVALID_NORMALIZATION_FORM);
+            }
+            boolean ucd32 = isUCD32(self);
+            int quickCheck = quickCheckNode.execute(inliningTarget, unistr, cachedNormForm, ucd32, false);
+            if (quickCheck != QUICK_CHECK_MAYBE) {
+                return quickCheck == QUICK_CHECK_YES;
             }
-            return Normalizer.isNormalized(unistr.toJavaStringUncached(), cachedNormForm);
+            String str = toJavaStringNode.execute(unistr);
+            return normalize(str, cachedNormForm, ucd32).equals(str);
         }
 
         @Override
@@ -260,18 +469,18 @@ public final class UnicodeDataModuleBuiltins extends PythonBuiltins {
         }
     }
 
-    // unicodedata.name(chr, default)
-    @Builtin(name = "name", minNumOfPositionalArgs = 1, parameterNames = {"chr", "default"})
+    // unicodedata.name(chr, default=<unrepresentable>, /)
+    @Builtin(name = "name", minNumOfPositionalArgs = 2, numOfPositionalOnlyArgs = 3, parameterNames = {"$self", "chr", "default"}, declaresExplicitSelf = true)
     @ArgumentClinic(name = "chr", conversion = ArgumentClinic.ClinicConversion.CodePoint)
     @GenerateNodeFactory
-    public abstract static class NameNode extends PythonBinaryClinicBuiltinNode {
+    public abstract static class NameNode extends PythonTernaryClinicBuiltinNode {
 
         @Specialization
-        static Object name(int cp, Object defaultValue,
+        static Object name(Object self, int cp, Object defaultValue,
                         @Bind("this") Node inliningTarget,
                         @Cached TruffleString.FromJavaStringNode fromJavaStringNode,
                         @Cached PRaiseNode.Lazy raiseNode) {
-            String result = getUnicodeName(cp);
+            String result = UnicodeDataTables.isAssigned(getRecord(self, cp)) ? getUnicodeName(cp) : null;
             if (result == null) {
                 if (defaultValue == PNone.NO_VALUE) {
                     throw raiseNode.get(inliningTarget).raise(ValueError, ErrorMessages.NO_SUCH_NAME);
@@ -287,47 +496,63 @@ public final class UnicodeDataModuleBuiltins extends PythonBuiltins {
         }
     }
 
-    // unicodedata.bidirectional(char)
-    @Builtin(name = "bidirectional", minNumOfPositionalArgs = 1, numOfPositionalOnlyArgs = 1, parameterNames = {"chr"})
-    @ArgumentClinic(name = "chr", conversion = ArgumentClinic.ClinicConversion.CodePoint)
+    // unicodedata.lookup(name, /)
+    @Builtin(name = "lookup", minNumOfPositionalArgs = 2, numOfPositionalOnlyArgs = 2, parameterNames = {"$self", "name"}, declaresExplicitSelf = true)
+    @ArgumentClinic(name = "name", conversion = ArgumentClinic.ClinicConversion.TString)
     @GenerateNodeFactory
-    public abstract static class BidirectionalNode extends PythonUnaryClinicBuiltinNode {
+    public abstract static class LookupNode extends PythonBinaryClinicBuiltinNode {
+
         @Specialization
-        static TruffleString bidirectional(int chr,
-                        @Cached TruffleString.FromJavaStringNode fromJavaStringNode) {
-            return fromJavaStringNode.execute(getBidiClassName(chr), TS_ENCODING);
+        static TruffleString lookup(Object self, TruffleString name,
+                        @Bind("this") Node inliningTarget,
+                        @Cached TruffleString.CodePointLengthNode codePointLengthNode,
+                        @Cached TruffleString.ToJavaStringNode toJavaStringNode,
+                        @Cached TruffleString.FromJavaStringNode fromJavaStringNode,
+                        @Cached PRaiseNode.Lazy raiseNode) {
+            if (codePointLengthNode.execute(name, TS_ENCODING) > NAME_MAXLEN) {
+                throw raiseNode.get(inliningTarget).raise(KeyError, ErrorMessages.NAME_TOO_LONG);
+            }
+            String result = lookupName(toJavaStringNode.execute(name), isUCD32(self));
+            if (result == null) {
+                throw raiseNode.get(inliningTarget).raise(KeyError, ErrorMessages.UNDEFINED_CHARACTER_NAME, name);
+            }
+            return fromJavaStringNode.execute(result, TS_ENCODING);
         }
 
         @TruffleBoundary
-        private static String getBidiClassName(int chr) {
-            return UCharacter.getPropertyValueName(UProperty.BIDI_CLASS, UCharacter.getDirection(chr), UProperty.NameChoice.SHORT);
-        }
-
-        @Override
-        protected ArgumentClinicProvider getArgumentClinic() {
-            return UnicodeDataModuleBuiltinsClinicProviders.BidirectionalNodeClinicProviderGen.INSTANCE;
-        }
-    }
-
-    // unicodedata.category(char)
-    @Builtin(name = "category", minNumOfPositionalArgs = 1, numOfPositionalOnlyArgs = 1, parameterNames = {"chr"})
-    @ArgumentClinic(name = "chr", conversion = ArgumentClinic.ClinicConversion.CodePoint)
-    @GenerateNodeFactory
-    public abstract static class CategoryNode extends PythonUnaryClinicBuiltinNode {
-        @Specialization
-        static TruffleString category(int chr,
-                        @Cached TruffleString.FromJavaStringNode fromJavaStringNode) {
-            return fromJavaStringNode.execute(getCategoryName(chr), TS_ENCODING);
+        private static String lookupName(String name, boolean ucd32) {
+            int cp = UCharacter.getCharFromName(name);
+            if (cp >= 0) {
+                // like CPython, the names of unified ideographs are not checked against Unicode 3.2
+                boolean checkUCD32 = ucd32 && !name.regionMatches(true, 0, CJK_UNIFIED_IDEOGRAPH_PREFIX, 0, CJK_UNIFIED_IDEOGRAPH_PREFIX.length());
+                return UnicodeDataTables.isAssigned(UnicodeDataTables.getRecord(cp, checkUCD32)) ? Character.toString(cp) : null;
+            }
+            if (ucd32) {
+                // there are no aliases and named sequences in Unicode 3.2
+                return null;
+            }
+            String upperName = toAsciiUpperCase(name);
+            int alias = UnicodeDataTables.lookupAlias(upperName);
+            if (alias >= 0) {
+                return Character.toString(alias);
+            }
+            return UnicodeDataTables.lookupNamedSequence(upperName);
         }
 
-        @TruffleBoundary
-        private static String getCategoryName(int chr) {
-            return UCharacter.getPropertyValueName(UProperty.GENERAL_CATEGORY, UCharacter.getType(chr), UProperty.NameChoice.SHORT);
+        private static String toAsciiUpperCase(String name) {
+            // CPython compares names case insensitively only in the ASCII range
+            char[] chars = name.toCharArray();
+            for (int i = 0; i < chars.length; i++) {
+                if ('a' <= chars[i] && chars[i] <= 'z') {
+                    chars[i] -= 'a' - 'A';
+                }
+            }
+            return new String(chars);
         }
 
         @Override
         protected ArgumentClinicProvider getArgumentClinic() {
-            return UnicodeDataModuleBuiltinsClinicProviders.CategoryNodeClinicProviderGen.INSTANCE;
+            return UnicodeDataModuleBuiltinsClinicProviders.LookupNodeClinicProviderGen.INSTANCE;
         }
     }
 }
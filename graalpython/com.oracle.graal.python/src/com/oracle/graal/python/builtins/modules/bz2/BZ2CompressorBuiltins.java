@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2020, 2024, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -106,19 +106,21 @@ public final class BZ2CompressorBuiltins extends PythonBuiltins {
                         @Cached NativeLibrary.InvokeNativeFunction compressInit,
                         @Cached GilNode gil,
                         @Cached PRaiseNode.Lazy raiseNode) {
+            NFIBz2Support bz2Support = PythonContext.get(this).getNFIBz2Support();
+            Object bzst;
+            int err;
             gil.release(true);
             try {
-                NFIBz2Support bz2Support = PythonContext.get(this).getNFIBz2Support();
-                Object bzst = bz2Support.createStream(createStream);
-                int err = bz2Support.compressInit(bzst, compresslevel, compressInit);
-                if (err != BZ_OK) {
-                    errorHandling(err, raiseNode.get(inliningTarget));
-                }
-                self.init(bzst, bz2Support);
-                return PNone.NONE;
+                bzst = bz2Support.createStream(createStream);
+                err = bz2Support.compressInit(bzst, compresslevel, compressInit);
             } finally {
                 gil.acquire();
             }
+            if (err != BZ_OK) {
+                errorHandling(err, raiseNode.get(inliningTarget));
+            }
+            self.init(bzst, bz2Support);
+            return PNone.NONE;
         }
 
         @SuppressWarnings("unused")
@@ -138,20 +140,31 @@ public final class BZ2CompressorBuiltins extends PythonBuiltins {
                         @Bind("this") Node inliningTarget,
                         @Cached SequenceStorageNodes.GetInternalByteArrayNode toBytes,
                         @Shared("c") @Cached Bz2Nodes.Bz2NativeCompress compress,
+                        @Shared @Cached GilNode gil,
                         @Shared @Cached PythonObjectFactory factory) {
             byte[] bytes = toBytes.execute(inliningTarget, data.getSequenceStorage());
             int len = data.getSequenceStorage().length();
-            return factory.createBytes(compress.compress(self, PythonContext.get(this), bytes, len));
+            return factory.createBytes(compressLocked(self, PythonContext.get(this), bytes, len, compress, gil));
         }
 
         @Specialization(guards = {"!self.isFlushed()"})
         PBytes doNativeObject(VirtualFrame frame, BZ2Object.BZ2Compressor self, Object data,
                         @Cached BytesNodes.ToBytesNode toBytes,
                         @Shared("c") @Cached Bz2Nodes.Bz2NativeCompress compress,
+                        @Shared @Cached GilNode gil,
                         @Shared @Cached PythonObjectFactory factory) {
             byte[] bytes = toBytes.execute(frame, data);
             int len = bytes.length;
-            return factory.createBytes(compress.compress(self, PythonContext.get(this), bytes, len));
+            return factory.createBytes(compressLocked(self, PythonContext.get(this), bytes, len, compress, gil));
+        }
+
+        private static byte[] compressLocked(BZ2Object.BZ2Compressor self, PythonContext context, byte[] bytes, int len, Bz2Nodes.Bz2NativeCompress compress, GilNode gil) {
+            self.lock(gil);
+            try {
+                return compress.compress(self, context, bytes, len);
+            } finally {
+                self.unlock();
+            }
         }
 
         @SuppressWarnings("unused")
@@ -169,9 +182,17 @@ public final class BZ2CompressorBuiltins extends PythonBuiltins {
         @Specialization(guards = {"!self.isFlushed()"})
         PBytes doit(BZ2Object.BZ2Compressor self,
                         @Cached Bz2Nodes.Bz2NativeCompress compress,
+                        @Cached GilNode gil,
                         @Cached PythonObjectFactory factory) {
             self.setFlushed();
-            return factory.createBytes(compress.flush(self, PythonContext.get(this)));
+            byte[] result;
+            self.lock(gil);
+            try {
+                result = compress.flush(self, PythonContext.get(this));
+            } finally {
+                self.unlock();
+            }
+            return factory.createBytes(result);
         }
 
         @SuppressWarnings("unused")
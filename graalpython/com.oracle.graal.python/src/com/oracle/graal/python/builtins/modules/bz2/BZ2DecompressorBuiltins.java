@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2020, 2024, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -63,6 +63,7 @@ import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonTernaryClinicBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.clinic.ArgumentClinicProvider;
+import com.oracle.graal.python.runtime.GilNode;
 import com.oracle.graal.python.runtime.NFIBz2Support;
 import com.oracle.graal.python.runtime.NativeLibrary;
 import com.oracle.graal.python.runtime.PythonContext;
@@ -120,12 +121,11 @@ public final class BZ2DecompressorBuiltins extends PythonBuiltins {
                         @Bind("this") Node inliningTarget,
                         @Cached SequenceStorageNodes.GetInternalByteArrayNode toBytes,
                         @Exclusive @Cached Bz2Nodes.Bz2NativeDecompress decompress,
+                        @Shared @Cached GilNode gil,
                         @Shared @Cached PythonObjectFactory factory) {
-            synchronized (self) {
-                byte[] bytes = toBytes.execute(inliningTarget, data.getSequenceStorage());
-                int len = data.getSequenceStorage().length();
-                return factory.createBytes(decompress.execute(inliningTarget, self, bytes, len, maxLength));
-            }
+            byte[] bytes = toBytes.execute(inliningTarget, data.getSequenceStorage());
+            int len = data.getSequenceStorage().length();
+            return factory.createBytes(decompressLocked(inliningTarget, self, bytes, len, maxLength, decompress, gil));
         }
 
         @Specialization(guards = {"!self.isEOF()"})
@@ -133,11 +133,19 @@ public final class BZ2DecompressorBuiltins extends PythonBuiltins {
                         @Bind("this") Node inliningTarget,
                         @Cached BytesNodes.ToBytesNode toBytes,
                         @Exclusive @Cached Bz2Nodes.Bz2NativeDecompress decompress,
+                        @Shared @Cached GilNode gil,
                         @Shared @Cached PythonObjectFactory factory) {
-            synchronized (self) {
-                byte[] bytes = toBytes.execute(frame, data);
-                int len = bytes.length;
-                return factory.createBytes(decompress.execute(inliningTarget, self, bytes, len, maxLength));
+            byte[] bytes = toBytes.execute(frame, data);
+            int len = bytes.length;
+            return factory.createBytes(decompressLocked(inliningTarget, self, bytes, len, maxLength, decompress, gil));
+        }
+
+        private static byte[] decompressLocked(Node inliningTarget, BZ2Object.BZ2Decompressor self, byte[] bytes, int len, int maxLength, Bz2Nodes.Bz2NativeDecompress decompress, GilNode gil) {
+            self.lock(gil);
+            try {
+                return decompress.execute(inliningTarget, self, bytes, len, maxLength);
+            } finally {
+                self.unlock();
             }
         }
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2018, 2024, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -66,6 +66,8 @@ public final class BZ2ModuleBuiltins extends PythonBuiltins {
     }
 
     protected static final int INITIAL_BUFFER_SIZE = 8192;
+    /*- Inputs at least this large are (de)compressed without holding the GIL */
+    protected static final int GIL_RELEASE_THRESHOLD = 16 * 1024;
 
     @Override
     public void initialize(Python3Core core) {
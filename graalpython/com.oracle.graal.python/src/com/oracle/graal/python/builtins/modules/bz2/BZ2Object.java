@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2021, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2020, 2024, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -41,9 +41,11 @@
 package com.oracle.graal.python.builtins.modules.bz2;
 
 import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
 
 import com.oracle.graal.python.builtins.objects.ints.PInt;
 import com.oracle.graal.python.builtins.objects.object.PythonBuiltinObject;
+import com.oracle.graal.python.runtime.GilNode;
 import com.oracle.graal.python.runtime.NFIBz2Support;
 import com.oracle.graal.python.runtime.PythonContext;
 import com.oracle.graal.python.util.OverflowException;
@@ -53,12 +55,39 @@ import com.oracle.truffle.api.object.Shape;
 
 public abstract class BZ2Object extends PythonBuiltinObject {
 
+    /**
+     * Guards the stream state. Large inputs are (de)compressed without the GIL while holding this
+     * lock, so a thread that finds the lock taken releases the GIL while waiting for it.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
     private NFIBz2Support.Pointer pointer;
 
     public BZ2Object(Object cls, Shape instanceShape) {
         super(cls, instanceShape);
     }
 
+    /**
+     * Acquires the lock guarding the stream state. Must be called with the GIL held and be followed
+     * by {@link #unlock()}.
+     */
+    @CompilerDirectives.TruffleBoundary
+    final void lock(GilNode gil) {
+        if (!lock.tryLock()) {
+            gil.release(true);
+            try {
+                lock.lock();
+            } finally {
+                gil.acquire();
+            }
+        }
+    }
+
+    @CompilerDirectives.TruffleBoundary
+    final void unlock() {
+        lock.unlock();
+    }
+
     public final void init(Object bzst, NFIBz2Support lib) {
         this.pointer = new NFIBz2Support.Pointer(this, bzst, lib);
     }
@@ -42,6 +42,7 @@ package com.oracle.graal.python.builtins.modules.bz2;
 
 import static com.oracle.graal.python.builtins.PythonBuiltinClassType.EOFError;
 import static com.oracle.graal.python.builtins.PythonBuiltinClassType.SystemError;
+import static com.oracle.graal.python.builtins.modules.bz2.BZ2ModuleBuiltins.GIL_RELEASE_THRESHOLD;
 import static com.oracle.graal.python.builtins.modules.bz2.BZ2ModuleBuiltins.INITIAL_BUFFER_SIZE;
 import static com.oracle.graal.python.nodes.ErrorMessages.COMPRESSED_FILE_ENDED_BEFORE_EOS;
 import static com.oracle.graal.python.nodes.ErrorMessages.INVALID_DATA_STREAM;
@@ -58,6 +59,7 @@ import static com.oracle.graal.python.runtime.exception.PythonErrorType.ValueErr
 
 import com.oracle.graal.python.builtins.objects.ints.PInt;
 import com.oracle.graal.python.nodes.PRaiseNode;
+import com.oracle.graal.python.runtime.GilNode;
 import com.oracle.graal.python.runtime.NFIBz2Support;
 import com.oracle.graal.python.runtime.NativeLibrary;
 import com.oracle.graal.python.runtime.PythonContext;
@@ -112,10 +114,23 @@ public class Bz2Nodes {
                         @Bind("this") Node inliningTarget,
                         @Cached NativeLibrary.InvokeNativeFunction compress,
                         @Cached GetOutputNativeBufferNode getBuffer,
+                        @Cached GilNode gil,
                         @Cached PRaiseNode.Lazy raiseNode) {
             NFIBz2Support bz2Support = context.getNFIBz2Support();
             Object inGuest = context.getEnv().asGuestValue(bytes);
-            int err = bz2Support.compress(self.getBzs(), inGuest, len, action, INITIAL_BUFFER_SIZE, compress);
+            // only the library call runs without the GIL, errors are raised after re-acquiring it
+            boolean releaseGil = len >= GIL_RELEASE_THRESHOLD;
+            if (releaseGil) {
+                gil.release(true);
+            }
+            int err;
+            try {
+                err = bz2Support.compress(self.getBzs(), inGuest, len, action, INITIAL_BUFFER_SIZE, compress);
+            } finally {
+                if (releaseGil) {
+                    gil.acquire();
+                }
+            }
             if (err != BZ_OK) {
                 errorHandling(err, raiseNode.get(inliningTarget));
             }
@@ -236,12 +251,26 @@ public class Bz2Nodes {
                         @Cached GetOutputNativeBufferNode getBuffer,
                         @Cached InlinedConditionProfile errProfile,
                         @Cached InlinedBranchProfile ofProfile,
+                        @Cached GilNode gil,
                         @Cached PRaiseNode.Lazy raiseNode) {
             PythonContext context = PythonContext.get(inliningTarget);
             NFIBz2Support bz2Support = context.getNFIBz2Support();
             Object inGuest = self.getNextInGuest(context);
             int offset = self.getNextInIndex();
-            int err = bz2Support.decompress(self.getBzs(), inGuest, offset, maxLength, INITIAL_BUFFER_SIZE, self.getBzsAvailInReal(), decompress);
+            int availIn = self.getBzsAvailInReal();
+            // only the library call runs without the GIL, errors are raised after re-acquiring it
+            boolean releaseGil = availIn >= GIL_RELEASE_THRESHOLD;
+            if (releaseGil) {
+                gil.release(true);
+            }
+            int err;
+            try {
+                err = bz2Support.decompress(self.getBzs(), inGuest, offset, maxLength, INITIAL_BUFFER_SIZE, availIn, decompress);
+            } finally {
+                if (releaseGil) {
+                    gil.acquire();
+                }
+            }
             long nextInIdx = bz2Support.getNextInIndex(self.getBzs(), getNextInIndex);
             long bzsAvailInReal = bz2Support.getBzsAvailInReal(self.getBzs(), getBzsAvailInReal);
             try {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2022, 2024, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -40,12 +40,19 @@
  */
 package com.oracle.graal.python.builtins.modules.hashlib;
 
+import static com.oracle.graal.python.runtime.PosixConstants.SEEK_SET;
+
 import java.security.MessageDigest;
+import java.util.concurrent.locks.ReentrantLock;
 
 import javax.crypto.Mac;
 
 import com.oracle.graal.python.builtins.PythonBuiltinClassType;
 import com.oracle.graal.python.builtins.objects.object.PythonBuiltinObject;
+import com.oracle.graal.python.runtime.GilNode;
+import com.oracle.graal.python.runtime.PosixSupportLibrary;
+import com.oracle.graal.python.runtime.PosixSupportLibrary.Buffer;
+import com.oracle.graal.python.runtime.PosixSupportLibrary.PosixException;
 import com.oracle.graal.python.runtime.object.PythonObjectFactory;
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
@@ -62,8 +69,22 @@ import com.oracle.truffle.api.object.Shape;
  * for hashing.
  */
 public abstract class DigestObject extends PythonBuiltinObject {
+    /**
+     * Updates with at least this many bytes release the GIL while hashing. This is the same as
+     * CPython's {@code HASHLIB_GIL_MINSIZE}.
+     */
+    static final int GIL_RELEASE_THRESHOLD = 2048;
+    private static final int FILE_CHUNK_SIZE = 1 << 20;
+
     private final String name;
 
+    /**
+     * Guards the underlying JDK object once it was updated without holding the GIL. Like CPython's
+     * per-object mutex, it is only created on the first such update; until then the GIL protects
+     * the object and no locking is needed. It is only ever written with the GIL held.
+     */
+    private ReentrantLock lock;
+
     DigestObject(Object cls, Shape instanceShape, String name) {
         super(cls, instanceShape);
         this.name = name;
@@ -207,6 +228,132 @@ public abstract class DigestObject extends PythonBuiltinObject {
         return name;
     }
 
+    /**
+     * Acquires the lock guarding this object if it was ever updated without the GIL. Must be called
+     * with the GIL held and, if it returns {@code true}, be followed by {@link #unlock()}. If the
+     * lock is held by a thread hashing without the GIL, we release the GIL while waiting for it.
+     */
+    final boolean lock(GilNode gil) {
+        if (lock == null) {
+            return false;
+        }
+        acquireLock(gil);
+        return true;
+    }
+
+    @TruffleBoundary
+    private void acquireLock(GilNode gil) {
+        if (!lock.tryLock()) {
+            gil.release(true);
+            try {
+                lock.lock();
+            } finally {
+                gil.acquire();
+            }
+        }
+    }
+
+    @TruffleBoundary
+    final void unlock() {
+        lock.unlock();
+    }
+
+    /**
+     * {@link #digest()} under the {@linkplain #lock(GilNode) lock}.
+     */
+    final byte[] digest(GilNode gil) {
+        boolean locked = lock(gil);
+        try {
+            return digest();
+        } finally {
+            if (locked) {
+                unlock();
+            }
+        }
+    }
+
+    /**
+     * {@link #copy(PythonObjectFactory)} under the {@linkplain #lock(GilNode) lock}.
+     */
+    final DigestObject copy(PythonObjectFactory factory, GilNode gil) throws CloneNotSupportedException {
+        boolean locked = lock(gil);
+        try {
+            return copy(factory);
+        } finally {
+            if (locked) {
+                unlock();
+            }
+        }
+    }
+
+    /**
+     * Like {@link #update(byte[], int)}, but releases the GIL while hashing. The caller must
+     * ensure that {@code data} stays valid, e.g., by holding the buffer it came from.
+     *
+     * @return {@code false} if the object was {@linkplain #wasReset() reset} and nothing was done
+     */
+    @TruffleBoundary
+    final boolean updateWithoutGil(byte[] data, int length, GilNode gil) {
+        ReentrantLock l = getOrCreateLock();
+        gil.release(true);
+        try {
+            l.lock();
+            try {
+                if (wasReset()) {
+                    return false;
+                }
+                update(data, length);
+                return true;
+            } finally {
+                l.unlock();
+            }
+        } finally {
+            gil.acquire();
+        }
+    }
+
+    /**
+     * Hashes the contents of the file {@code fd} from {@code offset} to its end, without the GIL
+     * and without creating Python objects for the data. A negative {@code offset} continues at the
+     * current file position, e.g., when retrying after {@code EINTR}.
+     *
+     * @return {@code false} if the object was {@linkplain #wasReset() reset} and nothing was done
+     */
+    @TruffleBoundary
+    final boolean updateFromFile(PosixSupportLibrary posixLib, Object posixSupport, int fd, long offset, GilNode gil) throws PosixException {
+        ReentrantLock l = getOrCreateLock();
+        gil.release(true);
+        try {
+            l.lock();
+            try {
+                if (wasReset()) {
+                    return false;
+                }
+                if (offset >= 0) {
+                    posixLib.lseek(posixSupport, fd, offset, SEEK_SET.value);
+                }
+                while (true) {
+                    Buffer buffer = posixLib.read(posixSupport, fd, FILE_CHUNK_SIZE);
+                    if (buffer.length == 0) {
+                        return true;
+                    }
+                    update(buffer.data, (int) buffer.length);
+                }
+            } finally {
+                l.unlock();
+            }
+        } finally {
+            gil.acquire();
+        }
+    }
+
+    private ReentrantLock getOrCreateLock() {
+        if (lock == null) {
+            lock = new ReentrantLock();
+        }
+        return lock;
+    }
+
     /**
      * Ensures that {@link #update(byte[], int)} is not called after {@link #digest()} if cloning is
      * not supported. Also caches the digest and ensures that the cache is cleared on update.
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2022, 2024, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -58,6 +58,7 @@ import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonBinaryClinicBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.clinic.ArgumentClinicProvider;
+import com.oracle.graal.python.runtime.GilNode;
 import com.oracle.graal.python.runtime.IndirectCallData;
 import com.oracle.graal.python.runtime.object.PythonObjectFactory;
 import com.oracle.graal.python.util.PythonUtils;
@@ -70,6 +71,7 @@ import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.library.CachedLibrary;
 import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.profiles.InlinedConditionProfile;
 import com.oracle.truffle.api.strings.TruffleString;
 
 @CoreFunctions(extendClasses = {PythonBuiltinClassType.MD5Type, PythonBuiltinClassType.SHA1Type, PythonBuiltinClassType.SHA224Type, PythonBuiltinClassType.SHA256Type,
@@ -90,9 +92,10 @@ public final class DigestObjectBuiltins extends PythonBuiltins {
         static DigestObject copy(DigestObject self,
                         @Bind("this") Node inliningTarget,
                         @Cached PythonObjectFactory factory,
+                        @Cached GilNode gil,
                         @Cached PRaiseNode.Lazy raiseNode) {
             try {
-                return self.copy(factory);
+                return self.copy(factory, gil);
             } catch (CloneNotSupportedException e) {
                 throw raiseNode.get(inliningTarget).raise(PythonBuiltinClassType.ValueError);
             }
@@ -104,8 +107,9 @@ public final class DigestObjectBuiltins extends PythonBuiltins {
     abstract static class DigestNode extends PythonUnaryBuiltinNode {
         @Specialization
         static PBytes digest(DigestObject self,
-                        @Cached PythonObjectFactory factory) {
-            return factory.createBytes(self.digest());
+                        @Cached PythonObjectFactory factory,
+                        @Cached GilNode gil) {
+            return factory.createBytes(self.digest(gil));
         }
     }
 
@@ -115,8 +119,9 @@ public final class DigestObjectBuiltins extends PythonBuiltins {
         @Specialization
         static TruffleString hexdigest(DigestObject self,
                         @Bind("this") Node inliningTarget,
-                        @Cached BytesNodes.ByteToHexNode toHexNode) {
-            byte[] digest = self.digest();
+                        @Cached BytesNodes.ByteToHexNode toHexNode,
+                        @Cached GilNode gil) {
+            byte[] digest = self.digest(gil);
             return toHexNode.execute(inliningTarget, digest, digest.length, (byte) 0, 0);
         }
     }
@@ -135,15 +140,35 @@ public final class DigestObjectBuiltins extends PythonBuiltins {
                         @Bind("this") Node inliningTarget,
                         @Cached("createFor(this)") IndirectCallData indirectCallData,
                         @CachedLibrary("buffer") PythonBufferAccessLibrary bufferLib,
+                        @Cached InlinedConditionProfile largeProfile,
+                        @Cached GilNode gil,
                         @Cached PRaiseNode.Lazy raiseNode) {
-            if (self.wasReset()) {
-                throw raiseNode.get(inliningTarget).raise(PythonBuiltinClassType.ValueError, ErrorMessages.UPDATING_FINALIZED_DIGEST_IS_NOT_SUPPORTED);
-            }
+            boolean updated;
             try {
-                self.update(bufferLib.getInternalOrCopiedByteArray(buffer), bufferLib.getBufferLength(buffer));
+                byte[] data = bufferLib.getInternalOrCopiedByteArray(buffer);
+                int length = bufferLib.getBufferLength(buffer);
+                if (largeProfile.profile(inliningTarget, length >= DigestObject.GIL_RELEASE_THRESHOLD)) {
+                    // the buffer is held until we are done, so 'data' cannot be resized meanwhile
+                    updated = self.updateWithoutGil(data, length, gil);
+                } else {
+                    boolean locked = self.lock(gil);
+                    try {
+                        updated = !self.wasReset();
+                        if (updated) {
+                            self.update(data, length);
+                        }
+                    } finally {
+                        if (locked) {
+                            self.unlock();
+                        }
+                    }
+                }
             } finally {
                 bufferLib.release(buffer, frame, indirectCallData);
             }
+            if (!updated) {
+                throw raiseNode.get(inliningTarget).raise(PythonBuiltinClassType.ValueError, ErrorMessages.UPDATING_FINALIZED_DIGEST_IS_NOT_SUPPORTED);
+            }
             return PNone.NONE;
         }
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2022, 2024, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -57,6 +57,7 @@ import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonBinaryClinicBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.clinic.ArgumentClinicProvider;
+import com.oracle.graal.python.runtime.GilNode;
 import com.oracle.graal.python.runtime.object.PythonObjectFactory;
 import com.oracle.truffle.api.dsl.Bind;
 import com.oracle.truffle.api.dsl.Cached;
@@ -95,11 +96,12 @@ public final class ShakeDigestObjectBuiltins extends PythonBuiltins {
         static PBytes digest(DigestObject self, int length,
                         @Bind("this") Node inliningTarget,
                         @Cached PythonObjectFactory factory,
+                        @Cached GilNode gil,
                         @Cached PRaiseNode.Lazy raiseNode) {
             if (self.getDigestLength() != length) {
                 throw raiseNode.get(inliningTarget).raise(PythonBuiltinClassType.ValueError, ErrorMessages.ONLY_DEFAULT_DIGEST_LENGTHS);
             }
-            return factory.createBytes(self.digest());
+            return factory.createBytes(self.digest(gil));
         }
     }
 
@@ -116,11 +118,12 @@ public final class ShakeDigestObjectBuiltins extends PythonBuiltins {
         static TruffleString hexdigest(DigestObject self, int length,
                         @Bind("this") Node inliningTarget,
                         @Cached BytesNodes.ByteToHexNode toHexNode,
+                        @Cached GilNode gil,
                         @Cached PRaiseNode.Lazy raiseNode) {
             if (self.getDigestLength() != length) {
                 throw raiseNode.get(inliningTarget).raise(PythonBuiltinClassType.ValueError, ErrorMessages.ONLY_DEFAULT_DIGEST_LENGTHS);
             }
-            byte[] digest = self.digest();
+            byte[] digest = self.digest(gil);
             return toHexNode.execute(inliningTarget, digest, digest.length, (byte) 0, 0);
         }
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2024, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -93,6 +93,14 @@ public final class PTextIO extends PTextIOBase {
     private int decodedCharsUsed; /* offset (in code points) into _decoded_chars for read() */
     private int decodedCharsLen; /* code point length of decodedChars */
 
+    /*
+     * Code point offsets into decodedChars where the lines found by line iteration end, see
+     * TextIOWrapperNodes.NextLineNode. The entries from lineEndsIndex on are yet to be handed out.
+     */
+    private int[] lineEnds;
+    private int lineEndsCount;
+    private int lineEndsIndex;
+
     private ByteArrayOutputStream pendingBytes;       // data waiting to be written.
 
     /*
@@ -281,6 +289,11 @@ public final class PTextIO extends PTextIOBase {
         this.decodedChars = decodedChars;
         decodedCharsLen = codePointLengthNode.execute(decodedChars, TS_ENCODING);
         decodedCharsUsed = 0;
+        clearLineEnds();
+        return decodedCharsLen;
+    }
+
+    public int getDecodedCharsLen() {
         return decodedCharsLen;
     }
 
@@ -293,6 +306,43 @@ public final class PTextIO extends PTextIOBase {
         this.decodedChars = null;
         this.decodedCharsUsed = 0;
         this.decodedCharsLen = 0;
+        clearLineEnds();
+    }
+
+    /**
+     * Returns the end of the next line in {@link #getDecodedChars()} that was found by line
+     * iteration, or -1 if there is none. Lines already consumed by other means are skipped.
+     */
+    int pollLineEnd() {
+        while (lineEndsIndex < lineEndsCount) {
+            int end = lineEnds[lineEndsIndex++];
+            if (end > decodedCharsUsed) {
+                return end;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns an array for at least {@code capacity} line ends, to be filled and passed to
+     * {@link #setLineEnds(int[], int)}.
+     */
+    int[] getLineEndsArray(int capacity) {
+        if (lineEnds == null || lineEnds.length < capacity) {
+            lineEnds = new int[capacity];
+        }
+        return lineEnds;
+    }
+
+    void setLineEnds(int[] ends, int count) {
+        lineEnds = ends;
+        lineEndsCount = count;
+        lineEndsIndex = 0;
+    }
+
+    private void clearLineEnds() {
+        lineEndsCount = 0;
+        lineEndsIndex = 0;
     }
 
     TruffleString consumeDecodedChars(int n, TruffleString.SubstringNode substringNode, boolean lazy) {
@@ -533,7 +533,16 @@ public final class TextIOWrapperBuiltins extends PythonBuiltins {
 
         @Specialization(guards = {"checkAttached(self)", "isOpen(frame, self)"})
         static TruffleString readline(VirtualFrame frame, PTextIO self, int limit,
+                        @Bind("this") Node inliningTarget,
+                        @Cached InlinedConditionProfile noLimitProfile,
+                        @Cached TextIOWrapperNodes.NextLineNode nextLineNode,
                         @Cached TextIOWrapperNodes.ReadlineNode readlineNode) {
+            if (noLimitProfile.profile(inliningTarget, limit < 0)) {
+                TruffleString line = nextLineNode.execute(frame, inliningTarget, self);
+                if (line != null) {
+                    return line;
+                }
+            }
             return readlineNode.execute(frame, self, limit);
         }
     }
@@ -1198,10 +1207,15 @@ public final class TextIOWrapperBuiltins extends PythonBuiltins {
         @Specialization(guards = {"checkAttached(self)", "isOpen(frame, self)"})
         static TruffleString doit(VirtualFrame frame, PTextIO self,
                         @Bind("this") Node inliningTarget,
+                        @Cached TextIOWrapperNodes.NextLineNode nextLineNode,
                         @Cached TextIOWrapperNodes.ReadlineNode readlineNode,
                         @Cached PRaiseNode.Lazy raiseNode) {
             self.setTelling(false);
-            TruffleString line = readlineNode.execute(frame, self, -1);
+            TruffleString line = nextLineNode.execute(frame, inliningTarget, self);
+            if (line != null) {
+                return line;
+            }
+            line = readlineNode.execute(frame, self, -1);
             if (line.isEmpty()) {
                 self.clearSnapshot();
                 self.setTelling(self.isSeekable());
@@ -101,6 +101,7 @@ import com.oracle.graal.python.runtime.PythonContext;
 import com.oracle.graal.python.runtime.PythonOptions;
 import com.oracle.graal.python.runtime.exception.PException;
 import com.oracle.graal.python.runtime.object.PythonObjectFactory;
+import com.oracle.graal.python.util.PythonUtils;
 import com.oracle.truffle.api.dsl.Bind;
 import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.Cached.Exclusive;
@@ -484,6 +485,110 @@ public abstract class TextIOWrapperNodes {
         }
     }
 
+    /**
+     * Fast path of line iteration. The first call after a chunk was read splits all of its decoded
+     * characters into lines in a single pass and remembers where they end. This and the following
+     * calls then hand out one line each, without searching for the line ending again. Returns
+     * {@code null} if the current chunk doesn't contain a complete line anymore, in which case the
+     * caller falls back to {@link ReadlineNode} that also reads the next chunk.
+     */
+    @GenerateInline
+    @GenerateCached(false)
+    protected abstract static class NextLineNode extends Node {
+
+        public abstract TruffleString execute(VirtualFrame frame, Node inliningTarget, PTextIO self);
+
+        @Specialization
+        static TruffleString nextLine(VirtualFrame frame, Node inliningTarget, PTextIO self,
+                        @Cached WriteFlushNode writeFlushNode,
+                        @Cached InlinedConditionProfile splitProfile,
+                        @Cached(inline = false) TruffleString.IndexOfCodePointNode indexOfCodePointNode,
+                        @Cached(inline = false) TruffleString.IndexOfStringNode indexOfStringNode,
+                        @Cached(inline = false) TruffleString.CodePointLengthNode codePointLengthNode,
+                        @Cached(inline = false) TruffleString.CodePointAtIndexNode codePointAtIndexNode,
+                        @Cached(inline = false) TruffleString.SubstringNode substringNode) {
+            writeFlushNode.execute(frame, inliningTarget, self);
+            if (!self.hasDecodedCharsAvailable()) {
+                return null;
+            }
+            int start = self.getDecodedCharsUsed();
+            int end = self.pollLineEnd();
+            if (splitProfile.profile(inliningTarget, end < 0)) {
+                splitLines(self, start, indexOfCodePointNode, indexOfStringNode, codePointLengthNode, codePointAtIndexNode);
+                end = self.pollLineEnd();
+                if (end < 0) {
+                    return null;
+                }
+            }
+            self.incDecodedCharsUsed(end - start);
+            return substringNode.execute(self.getDecodedChars(), start, end - start, TS_ENCODING, false);
+        }
+
+        /**
+         * Records the ends of all complete lines in the decoded characters following
+         * {@code start}. Follows the same rules as {@link FindLineEndingNode}.
+         */
+        private static void splitLines(PTextIO self, int start, TruffleString.IndexOfCodePointNode indexOfCodePointNode, TruffleString.IndexOfStringNode indexOfStringNode,
+                        TruffleString.CodePointLengthNode codePointLengthNode, TruffleString.CodePointAtIndexNode codePointAtIndexNode) {
+            TruffleString chars = self.getDecodedChars();
+            int len = self.getDecodedCharsLen();
+            int[] ends = self.getLineEndsArray(16);
+            int count = 0;
+            int pos = start;
+            if (self.isReadTranslate() || !self.isReadUniversal()) {
+                /* Newlines are already translated or there is only one kind of them */
+                TruffleString readNl = self.isReadTranslate() ? T_NEWLINE : self.getReadNewline();
+                int nlLen = codePointLengthNode.execute(readNl, TS_ENCODING);
+                int nlChar = codePointAtIndexNode.execute(readNl, 0, TS_ENCODING);
+                while (pos < len) {
+                    int nl;
+                    if (nlLen == 1) {
+                        nl = indexOfCodePointNode.execute(chars, nlChar, pos, len, TS_ENCODING);
+                    } else {
+                        nl = indexOfStringNode.execute(chars, readNl, pos, len, TS_ENCODING);
+                    }
+                    if (nl < 0) {
+                        break;
+                    }
+                    pos = nl + nlLen;
+                    ends = addLineEnd(ends, count++, pos);
+                }
+            } else {
+                /*
+                 * Universal newlines without translation. Remember the next position of both \n and
+                 * \r, so that each character is searched only once. The decoder ensures that \r\n
+                 * are not split in two pieces.
+                 */
+                int nl = indexOfCodePointNode.execute(chars, '\n', pos, len, TS_ENCODING);
+                int cr = indexOfCodePointNode.execute(chars, '\r', pos, len, TS_ENCODING);
+                while (nl >= 0 || cr >= 0) {
+                    if (cr < 0 || (nl >= 0 && nl < cr) || nl == cr + 1) {
+                        pos = nl + 1; // \n or \r\n
+                    } else {
+                        pos = cr + 1; // \r
+                    }
+                    ends = addLineEnd(ends, count++, pos);
+                    if (nl >= 0 && nl < pos) {
+                        nl = indexOfCodePointNode.execute(chars, '\n', pos, len, TS_ENCODING);
+                    }
+                    if (cr >= 0 && cr < pos) {
+                        cr = indexOfCodePointNode.execute(chars, '\r', pos, len, TS_ENCODING);
+                    }
+                }
+            }
+            self.setLineEnds(ends, count);
+        }
+
+        private static int[] addLineEnd(int[] ends, int index, int end) {
+            int[] result = ends;
+            if (index == ends.length) {
+                result = PythonUtils.arrayCopyOf(ends, ends.length * 2);
+            }
+            result[index] = end;
+            return result;
+        }
+    }
+
     /*
      * cpython/Modules/_io/textio.c:textiowrapper_read_chunk
      */
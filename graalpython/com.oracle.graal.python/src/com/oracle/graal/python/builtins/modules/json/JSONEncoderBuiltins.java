@@ -64,6 +64,10 @@ import com.oracle.graal.python.runtime.exception.PException;
 import com.oracle.graal.python.runtime.formatting.FloatFormatter;
 import com.oracle.graal.python.runtime.object.PythonObjectFactory;
 import com.oracle.graal.python.runtime.sequence.PSequence;
+import com.oracle.graal.python.runtime.sequence.storage.DoubleSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.IntSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.LongSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.ObjectSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.SequenceStorage;
 import com.oracle.graal.python.util.PythonUtils;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
@@ -179,12 +183,12 @@ public final class JSONEncoderBuiltins extends PythonBuiltins {
         }
 
         private boolean appendSimpleObj(PJSONEncoder encoder, TruffleStringBuilderUTF32 builder, Object obj) {
-            if (obj == PNone.NONE || obj == Boolean.TRUE || obj == Boolean.FALSE) {
+            if (obj instanceof TruffleString) {
+                appendString(encoder, builder, (TruffleString) obj);
+            } else if (obj == PNone.NONE || obj == Boolean.TRUE || obj == Boolean.FALSE) {
                 appendConst(builder, obj);
             } else if (isJavaString(obj)) {
                 appendString(encoder, builder, toTruffleStringUncached((String) obj));
-            } else if (obj instanceof TruffleString) {
-                appendString(encoder, builder, (TruffleString) obj);
             } else if (obj instanceof PString) {
                 appendString(encoder, builder, StringNodes.StringMaterializeNode.executeUncached((PString) obj));
             } else if (obj instanceof Integer) {
@@ -289,7 +293,9 @@ public final class JSONEncoderBuiltins extends PythonBuiltins {
             if (!first) {
                 builder.appendStringUncached(encoder.itemSeparator);
             }
-            if (isString(key)) {
+            if (key instanceof TruffleString stringKey) {
+                appendString(encoder, builder, stringKey);
+            } else if (isString(key)) {
                 appendSimpleObj(encoder, builder, key);
             } else {
                 if (!isSimpleObj(key)) {
@@ -317,12 +323,7 @@ public final class JSONEncoderBuiltins extends PythonBuiltins {
                 builder.appendCodePointUncached('[');
 
                 if (PyTupleCheckExactNode.executeUncached(list) || PyListCheckExactNode.executeUncached(list)) {
-                    for (int i = 0; i < storage.length(); i++) {
-                        if (i > 0) {
-                            builder.appendStringUncached(encoder.itemSeparator);
-                        }
-                        appendListObj(encoder, builder, SequenceStorageNodes.GetItemScalarNode.executeUncached(storage, i));
-                    }
+                    appendListItems(encoder, builder, storage);
                 } else {
                     appendListSlowPath(encoder, builder, list);
                 }
@@ -332,6 +333,51 @@ public final class JSONEncoderBuiltins extends PythonBuiltins {
             }
         }
 
+        private void appendListItems(PJSONEncoder encoder, TruffleStringBuilderUTF32 builder, SequenceStorage storage) {
+            // primitive storages are encoded without boxing the elements
+            int length = storage.length();
+            if (storage instanceof IntSequenceStorage intStorage) {
+                int[] values = intStorage.getInternalIntArray();
+                for (int i = 0; i < length; i++) {
+                    if (i > 0) {
+                        builder.appendStringUncached(encoder.itemSeparator);
+                    }
+                    builder.appendIntNumberUncached(values[i]);
+                }
+            } else if (storage instanceof LongSequenceStorage longStorage) {
+                long[] values = longStorage.getInternalLongArray();
+                for (int i = 0; i < length; i++) {
+                    if (i > 0) {
+                        builder.appendStringUncached(encoder.itemSeparator);
+                    }
+                    builder.appendLongNumberUncached(values[i]);
+                }
+            } else if (storage instanceof DoubleSequenceStorage doubleStorage) {
+                double[] values = doubleStorage.getInternalDoubleArray();
+                for (int i = 0; i < length; i++) {
+                    if (i > 0) {
+                        builder.appendStringUncached(encoder.itemSeparator);
+                    }
+                    appendFloat(encoder, builder, values[i]);
+                }
+            } else if (storage instanceof ObjectSequenceStorage objectStorage) {
+                Object[] values = objectStorage.getInternalArray();
+                for (int i = 0; i < length; i++) {
+                    if (i > 0) {
+                        builder.appendStringUncached(encoder.itemSeparator);
+                    }
+                    appendListObj(encoder, builder, values[i]);
+                }
+            } else {
+                for (int i = 0; i < length; i++) {
+                    if (i > 0) {
+                        builder.appendStringUncached(encoder.itemSeparator);
+                    }
+                    appendListObj(encoder, builder, SequenceStorageNodes.GetItemScalarNode.executeUncached(storage, i));
+                }
+            }
+        }
+
         private void appendListSlowPath(PJSONEncoder encoder, TruffleStringBuilderUTF32 builder, PSequence list) {
             Object iter = callGetListIter.executeObject(null, list);
             boolean first = true;
@@ -1,4 +1,4 @@
-/* Copyright (c) 2020, 2023, Oracle and/or its affiliates.
+/* Copyright (c) 2020, 2024, Oracle and/or its affiliates.
  * Copyright (C) 1996-2020 Python Software Foundation
  *
  * Licensed under the PYTHON SOFTWARE FOUNDATION LICENSE VERSION 2
@@ -24,7 +24,7 @@ import com.oracle.graal.python.builtins.objects.PNone;
 import com.oracle.graal.python.builtins.objects.dict.PDict;
 import com.oracle.graal.python.builtins.objects.function.PBuiltinFunction;
 import com.oracle.graal.python.builtins.objects.method.PBuiltinMethod;
-import com.oracle.graal.python.builtins.objects.str.StringNodes.CastToJavaStringCheckedNode;
+import com.oracle.graal.python.builtins.objects.str.StringNodes.CastToTruffleStringCheckedNode;
 import com.oracle.graal.python.nodes.ErrorMessages;
 import com.oracle.graal.python.nodes.PRaiseNode;
 import com.oracle.graal.python.nodes.SpecialAttributeNames;
@@ -65,7 +65,7 @@ public final class JSONModuleBuiltins extends PythonBuiltins {
 
     }
 
-    static boolean isWhitespace(char c) {
+    static boolean isWhitespace(int c) {
         return c == ' ' || c == '\t' || c == '\n' || c == '\r';
     }
 
@@ -93,11 +93,12 @@ public final class JSONModuleBuiltins extends PythonBuiltins {
         @Specialization
         Object call(Object string, int end, boolean strict,
                         @Bind("this") Node inliningTarget,
-                        @Cached CastToJavaStringCheckedNode castString,
+                        @Cached CastToTruffleStringCheckedNode castString,
+                        @Cached JSONStringView.CreateNode createViewNode,
                         @Cached PythonObjectFactory factory) {
             IntRef nextIdx = new IntRef();
-            TruffleString result = JSONScannerBuiltins.scanStringUnicode(castString.cast(inliningTarget, string, ErrorMessages.FIRST_ARG_MUST_BE_STRING_NOT_P, string), end, strict, nextIdx,
-                            this);
+            TruffleString ts = castString.cast(inliningTarget, string, ErrorMessages.FIRST_ARG_MUST_BE_STRING_NOT_P, string);
+            TruffleString result = JSONScannerBuiltins.scanStringUnicode(createViewNode.execute(inliningTarget, ts), end, strict, nextIdx, this);
             return factory.createTuple(new Object[]{result, nextIdx.value});
         }
     }
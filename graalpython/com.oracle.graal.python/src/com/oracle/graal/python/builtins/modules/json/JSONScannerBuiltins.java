@@ -1,4 +1,4 @@
-/* Copyright (c) 2020, 2023, Oracle and/or its affiliates.
+/* Copyright (c) 2020, 2024, Oracle and/or its affiliates.
  * Copyright (C) 1996-2020 Python Software Foundation
  *
  * Licensed under the PYTHON SOFTWARE FOUNDATION LICENSE VERSION 2
@@ -18,16 +18,12 @@ import com.oracle.graal.python.builtins.Builtin;
 import com.oracle.graal.python.builtins.CoreFunctions;
 import com.oracle.graal.python.builtins.PythonBuiltinClassType;
 import com.oracle.graal.python.builtins.PythonBuiltins;
-import com.oracle.graal.python.builtins.modules.BuiltinConstructors;
+import com.oracle.graal.python.builtins.modules.SysModuleBuiltins;
 import com.oracle.graal.python.builtins.objects.PNone;
 import com.oracle.graal.python.builtins.objects.common.EconomicMapStorage;
-import com.oracle.graal.python.builtins.objects.common.HashingStorage;
-import com.oracle.graal.python.builtins.objects.common.HashingStorageNodes.HashingStorageSetItem;
 import com.oracle.graal.python.builtins.objects.dict.PDict;
 import com.oracle.graal.python.builtins.objects.floats.FloatUtils;
 import com.oracle.graal.python.builtins.objects.tuple.PTuple;
-import com.oracle.graal.python.lib.PyFloatCheckExactNode;
-import com.oracle.graal.python.lib.PyLongCheckExactNode;
 import com.oracle.graal.python.lib.PyObjectLookupAttr;
 import com.oracle.graal.python.nodes.ErrorMessages;
 import com.oracle.graal.python.nodes.PRaiseNode;
@@ -39,11 +35,18 @@ import com.oracle.graal.python.nodes.function.builtins.clinic.ArgumentClinicProv
 import com.oracle.graal.python.nodes.statement.AbstractImportNode;
 import com.oracle.graal.python.runtime.PythonContext;
 import com.oracle.graal.python.runtime.object.PythonObjectFactory;
+import com.oracle.graal.python.runtime.sequence.storage.DoubleSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.EmptySequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.IntSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.LongSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.ObjectSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.SequenceStorage;
+import com.oracle.graal.python.util.PythonUtils;
 import com.oracle.truffle.api.CompilerAsserts;
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.CompilerDirectives.CompilationFinal;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.dsl.Bind;
 import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.GenerateNodeFactory;
 import com.oracle.truffle.api.dsl.NodeFactory;
@@ -51,6 +54,7 @@ import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.nodes.Node;
 import com.oracle.truffle.api.object.Shape;
 import com.oracle.truffle.api.strings.TruffleString;
+import com.oracle.truffle.api.strings.TruffleStringBuilderUTF32;
 
 @CoreFunctions(extendClasses = PythonBuiltinClassType.JSONScanner)
 public final class JSONScannerBuiltins extends PythonBuiltins {
@@ -61,6 +65,92 @@ public final class JSONScannerBuiltins extends PythonBuiltins {
         int value;
     }
 
+    /**
+     * Collects the elements of a JSON array into the narrowest sequence storage that can hold
+     * them, so that arrays of numbers become int, long or double lists without boxing.
+     */
+    static final class ArrayBuilder {
+        private static final int INITIAL_CAPACITY = 8;
+
+        private int[] ints;
+        private long[] longs;
+        private double[] doubles;
+        private Object[] objects;
+        private int length;
+
+        void add(Object value) {
+            if (ints != null && value instanceof Integer i) {
+                if (length == ints.length) {
+                    ints = PythonUtils.arrayCopyOf(ints, newCapacity());
+                }
+                ints[length++] = i;
+            } else if (longs != null && (value instanceof Long || value instanceof Integer)) {
+                if (length == longs.length) {
+                    longs = PythonUtils.arrayCopyOf(longs, newCapacity());
+                }
+                longs[length++] = value instanceof Long l ? l : (int) value;
+            } else if (doubles != null && value instanceof Double d) {
+                if (length == doubles.length) {
+                    doubles = PythonUtils.arrayCopyOf(doubles, newCapacity());
+                }
+                doubles[length++] = d;
+            } else if (objects != null) {
+                if (length == objects.length) {
+                    objects = PythonUtils.arrayCopyOf(objects, newCapacity());
+                }
+                objects[length++] = value;
+            } else {
+                generalize(value);
+                add(value);
+            }
+        }
+
+        private int newCapacity() {
+            return Math.max(INITIAL_CAPACITY, length * 2);
+        }
+
+        private void generalize(Object value) {
+            if (length == 0) {
+                if (value instanceof Integer) {
+                    ints = new int[INITIAL_CAPACITY];
+                } else if (value instanceof Long) {
+                    longs = new long[INITIAL_CAPACITY];
+                } else if (value instanceof Double) {
+                    doubles = new double[INITIAL_CAPACITY];
+                } else {
+                    objects = new Object[INITIAL_CAPACITY];
+                }
+            } else if (ints != null && value instanceof Long) {
+                longs = new long[newCapacity()];
+                for (int i = 0; i < length; i++) {
+                    longs[i] = ints[i];
+                }
+                ints = null;
+            } else {
+                objects = new Object[newCapacity()];
+                for (int i = 0; i < length; i++) {
+                    objects[i] = ints != null ? (Object) ints[i] : longs != null ? (Object) longs[i] : (Object) doubles[i];
+                }
+                ints = null;
+                longs = null;
+                doubles = null;
+            }
+        }
+
+        SequenceStorage build() {
+            if (ints != null) {
+                return new IntSequenceStorage(ints, length);
+            } else if (longs != null) {
+                return new LongSequenceStorage(longs, length);
+            } else if (doubles != null) {
+                return new DoubleSequenceStorage(doubles, length);
+            } else if (objects != null) {
+                return new ObjectSequenceStorage(objects, length);
+            }
+            return EmptySequenceStorage.INSTANCE;
+        }
+    }
+
     @Override
     protected List<? extends NodeFactory<? extends PythonBuiltinBaseNode>> getNodeFactories() {
         return JSONScannerBuiltinsFactory.getFactories();
@@ -91,7 +181,8 @@ public final class JSONScannerBuiltins extends PythonBuiltins {
 
         @Specialization
         protected PTuple call(PJSONScanner self, TruffleString string, int idx,
-                        @Cached TruffleString.ToJavaStringNode toJavaStringNode) {
+                        @Bind("this") Node inliningTarget,
+                        @Cached JSONStringView.CreateNode createViewNode) {
             if (tupleInstanceShape == null) {
                 CompilerDirectives.transferToInterpreterAndInvalidate();
                 tupleInstanceShape = PythonLanguage.get(this).getBuiltinTypeInstanceShape(PythonBuiltinClassType.PTuple);
@@ -105,12 +196,12 @@ public final class JSONScannerBuiltins extends PythonBuiltins {
                 dictInstanceShape = PythonLanguage.get(this).getBuiltinTypeInstanceShape(PythonBuiltinClassType.PDict);
             }
             IntRef nextIdx = new IntRef();
-            Object result = scanOnceUnicode(self, toJavaStringNode.execute(string), idx, nextIdx);
+            Object result = scanOnceUnicode(self, createViewNode.execute(inliningTarget, string), idx, nextIdx);
             return factory.createTuple(new Object[]{result, nextIdx.value});
         }
 
         @TruffleBoundary
-        private Object parseObjectUnicode(PJSONScanner scanner, String string, int start, IntRef nextIdx) {
+        private Object parseObjectUnicode(PJSONScanner scanner, JSONStringView string, int start, IntRef nextIdx) {
             /*
              * Read a JSON object from PyUnicode pystr. idx is the index of the first character
              * after the opening curly brace. nextIdx is a return-by-reference index to the first
@@ -121,12 +212,12 @@ public final class JSONScannerBuiltins extends PythonBuiltins {
             boolean hasPairsHook = scanner.objectPairsHook != PNone.NONE;
 
             int idx = start;
-            int length = string.length();
+            int length = string.length;
 
-            ObjectSequenceStorage listStorage = null;
+            ArrayBuilder pairs = null;
             EconomicMapStorage mapStorage = null;
             if (hasPairsHook) {
-                listStorage = new ObjectSequenceStorage(4);
+                pairs = new ArrayBuilder();
             } else {
                 mapStorage = EconomicMapStorage.create();
             }
@@ -135,11 +226,11 @@ public final class JSONScannerBuiltins extends PythonBuiltins {
             idx = skipWhitespace(string, idx, length);
 
             /* only loop if the object is non-empty */
-            if (idx >= length || string.charAt(idx) != '}') {
+            if (idx >= length || string.codePointAt(idx) != '}') {
                 while (true) {
 
                     /* read key */
-                    if (idx >= length || string.charAt(idx) != '"') {
+                    if (idx >= length || string.codePointAt(idx) != '"') {
                         throw decodeError(this, string, idx, ErrorMessages.EXPECTING_PROP_NAME_ECLOSED_IN_DBL_QUOTES);
                     }
                     TruffleString newKey = scanStringUnicode(string, idx + 1, scanner.strict, nextIdx, this);
@@ -151,7 +242,7 @@ public final class JSONScannerBuiltins extends PythonBuiltins {
 
                     /* skip whitespace between key and : delimiter, read :, skip whitespace */
                     idx = skipWhitespace(string, idx, length);
-                    if (idx >= length || string.charAt(idx) != ':') {
+                    if (idx >= length || string.codePointAt(idx) != ':') {
                         throw decodeError(this, string, idx, ErrorMessages.EXPECTING_COLON_DELIMITER);
                     }
                     idx = skipWhitespace(string, idx + 1, length);
@@ -161,20 +252,20 @@ public final class JSONScannerBuiltins extends PythonBuiltins {
                     idx = nextIdx.value;
 
                     if (hasPairsHook) {
-                        listStorage.insertItem(listStorage.length(), factory.createTuple(PythonBuiltinClassType.PTuple, tupleInstanceShape, new Object[]{key, val}));
+                        pairs.add(factory.createTuple(PythonBuiltinClassType.PTuple, tupleInstanceShape, new Object[]{key, val}));
                     } else {
-                        HashingStorage newStorage = HashingStorageSetItem.executeUncached(mapStorage, key, val);
-                        assert newStorage == mapStorage;
+                        // keys are always strings, no need to go through the generic dict nodes
+                        mapStorage.putUncached(key, val);
                     }
 
                     /* skip whitespace before } or , */
                     idx = skipWhitespace(string, idx, length);
 
                     /* bail if the object is closed or we didn't get the , delimiter */
-                    if (idx < length && string.charAt(idx) == '}') {
+                    if (idx < length && string.codePointAt(idx) == '}') {
                         break;
                     }
-                    if (idx >= length || string.charAt(idx) != ',') {
+                    if (idx >= length || string.codePointAt(idx) != ',') {
                         throw decodeError(this, string, idx, ErrorMessages.EXPECTING_COMMA_DELIMITER);
                     }
 
@@ -186,7 +277,7 @@ public final class JSONScannerBuiltins extends PythonBuiltins {
             nextIdx.value = idx + 1;
 
             if (hasPairsHook) {
-                return callObjectPairsHook.executeObject(scanner.objectPairsHook, factory.createList(PythonBuiltinClassType.PList, listInstanceShape, listStorage));
+                return callObjectPairsHook.executeObject(scanner.objectPairsHook, factory.createList(PythonBuiltinClassType.PList, listInstanceShape, pairs.build()));
             }
 
             /* if object_hook is not None: rval = object_hook(rval) */
@@ -198,7 +289,7 @@ public final class JSONScannerBuiltins extends PythonBuiltins {
         }
 
         @TruffleBoundary
-        private Object parseArrayUnicode(PJSONScanner scanner, String string, int start, IntRef nextIdx) {
+        private Object parseArrayUnicode(PJSONScanner scanner, JSONStringView string, int start, IntRef nextIdx) {
             /*
              * Read a JSON array from PyUnicode pystr. idx is the index of the first character after
              * the opening brace. nextIdx is a return-by-reference index to the first character
@@ -207,28 +298,28 @@ public final class JSONScannerBuiltins extends PythonBuiltins {
              * Returns a new PyList
              */
             int idx = start;
-            ObjectSequenceStorage storage = new ObjectSequenceStorage(4);
-            int length = string.length();
+            ArrayBuilder builder = new ArrayBuilder();
+            int length = string.length;
 
             idx = skipWhitespace(string, idx, length);
 
             /* only loop if the array is non-empty */
-            if (idx >= length || string.charAt(idx) != ']') {
+            if (idx >= length || string.codePointAt(idx) != ']') {
                 while (true) {
 
                     /* read any JSON term */
                     Object val = scanOnceUnicode(scanner, string, idx, nextIdx);
-                    storage.insertItem(storage.length(), val);
+                    builder.add(val);
                     idx = nextIdx.value;
 
                     /* skip whitespace between term and , */
                     idx = skipWhitespace(string, idx, length);
 
                     /* bail if the array is closed or we didn't get the , delimiter */
-                    if (idx < length && string.charAt(idx) == ']') {
+                    if (idx < length && string.codePointAt(idx) == ']') {
                         break;
                     }
-                    if (idx >= length || string.charAt(idx) != ',') {
+                    if (idx >= length || string.codePointAt(idx) != ',') {
                         throw decodeError(this, string, idx, ErrorMessages.EXPECTING_COMMA_DELIMITER);
                     }
                     idx++;
@@ -237,17 +328,17 @@ public final class JSONScannerBuiltins extends PythonBuiltins {
                 }
             }
 
-            /* verify that idx < (length-1), string.charAt( idx) should be ']' */
-            if (idx >= length || string.charAt(idx) != ']') {
+            /* verify that idx < (length-1), string.codePointAt( idx) should be ']' */
+            if (idx >= length || string.codePointAt(idx) != ']') {
                 throw decodeError(this, string, length - 1, ErrorMessages.EXPECTING_VALUE);
             }
             nextIdx.value = idx + 1;
-            return factory.createList(PythonBuiltinClassType.PList, listInstanceShape, storage);
+            return factory.createList(PythonBuiltinClassType.PList, listInstanceShape, builder.build());
         }
 
-        private static int skipWhitespace(String string, int start, int length) {
+        private static int skipWhitespace(JSONStringView string, int start, int length) {
             int idx = start;
-            while (idx < length && JSONModuleBuiltins.isWhitespace(string.charAt(idx))) {
+            while (idx < length && JSONModuleBuiltins.isWhitespace(string.codePointAt(idx))) {
                 idx++;
             }
             return idx;
@@ -267,7 +358,7 @@ public final class JSONScannerBuiltins extends PythonBuiltins {
         }
 
         @TruffleBoundary
-        private Object matchNumberUnicode(PJSONScanner scanner, String string, int start, IntRef nextIdx) {
+        private Object matchNumberUnicode(PJSONScanner scanner, JSONStringView string, int start, IntRef nextIdx) {
             /*
              * Read a JSON number from PyUnicode pystr. idx is the index of the first character of
              * the number nextIdx is a return-by-reference index to the first character after the
@@ -278,10 +369,10 @@ public final class JSONScannerBuiltins extends PythonBuiltins {
              */
 
             int idx = start;
-            int length = string.length();
+            int length = string.length;
 
             /* read a sign if it's there, make sure it's not the end of the string */
-            if (string.charAt(idx) == '-') {
+            if (string.codePointAt(idx) == '-') {
                 idx++;
                 if (idx >= length) {
                     throw stopIteration(this, start);
@@ -289,13 +380,13 @@ public final class JSONScannerBuiltins extends PythonBuiltins {
             }
 
             /* read as many integer digits as we find as long as it doesn't start with 0 */
-            if (string.charAt(idx) >= '1' && string.charAt(idx) <= '9') {
+            if (string.codePointAt(idx) >= '1' && string.codePointAt(idx) <= '9') {
                 idx++;
-                while (idx < length && string.charAt(idx) >= '0' && string.charAt(idx) <= '9') {
+                while (idx < length && string.codePointAt(idx) >= '0' && string.codePointAt(idx) <= '9') {
                     idx++;
                 }
                 /* if it starts with 0 we only expect one integer digit */
-            } else if (string.charAt(idx) == '0') {
+            } else if (string.codePointAt(idx) == '0') {
                 idx++;
                 /* no integer digits, error */
             } else {
@@ -304,31 +395,31 @@ public final class JSONScannerBuiltins extends PythonBuiltins {
             boolean isFloat = false;
 
             /* if the next char is '.' followed by a digit then read all float digits */
-            if (idx < (length - 1) && string.charAt(idx) == '.' && string.charAt(idx + 1) >= '0' && string.charAt(idx + 1) <= '9') {
+            if (idx < (length - 1) && string.codePointAt(idx) == '.' && string.codePointAt(idx + 1) >= '0' && string.codePointAt(idx + 1) <= '9') {
                 isFloat = true;
                 idx += 2;
-                while (idx < length && string.charAt(idx) >= '0' && string.charAt(idx) <= '9') {
+                while (idx < length && string.codePointAt(idx) >= '0' && string.codePointAt(idx) <= '9') {
                     idx++;
                 }
             }
 
             /* if the next char is 'e' or 'E' then maybe read the exponent (or backtrack) */
-            if (idx < (length - 1) && (string.charAt(idx) == 'e' || string.charAt(idx) == 'E')) {
+            if (idx < (length - 1) && (string.codePointAt(idx) == 'e' || string.codePointAt(idx) == 'E')) {
                 int e_start = idx;
                 idx++;
 
                 /* read an exponent sign if present */
-                if (idx < (length - 1) && (string.charAt(idx) == '-' || string.charAt(idx) == '+')) {
+                if (idx < (length - 1) && (string.codePointAt(idx) == '-' || string.codePointAt(idx) == '+')) {
                     idx++;
                 }
 
                 /* read all digits */
-                while (idx < length && string.charAt(idx) >= '0' && string.charAt(idx) <= '9') {
+                while (idx < length && string.codePointAt(idx) >= '0' && string.codePointAt(idx) <= '9') {
                     idx++;
                 }
 
                 /* if we got a digit, then parse as float. if not, backtrack */
-                if (string.charAt(idx - 1) >= '0' && string.charAt(idx - 1) <= '9') {
+                if (string.codePointAt(idx - 1) >= '0' && string.codePointAt(idx - 1) <= '9') {
                     isFloat = true;
                 } else {
                     idx = e_start;
@@ -337,43 +428,60 @@ public final class JSONScannerBuiltins extends PythonBuiltins {
 
             nextIdx.value = idx;
             if (isFloat) {
-                if (PyFloatCheckExactNode.executeUncached(scanner.parseFloat)) {
-                    String numStr = string.substring(start, idx);
-                    return FloatUtils.parseValidString(numStr);
+                if (scanner.parseFloatIsFloat) {
+                    return FloatUtils.parseValidString(string.asciiSubstring(start, idx));
                 } else {
                     /* copy the section we determined to be a number */
-                    TruffleString numStr = toTruffleStringUncached(string.substring(start, idx));
-                    return callParseFloat.executeObject(scanner.parseFloat, numStr);
+                    return callParseFloat.executeObject(scanner.parseFloat, string.substring(start, idx));
                 }
             } else {
-                if (PyLongCheckExactNode.executeUncached(scanner.parseInt)) {
-                    Object rval = BuiltinConstructors.IntNode.parseSimpleDecimalLiteral(string, start, idx - start);
-                    if (rval != null) {
-                        return rval;
-                    }
-                    String numStr = string.substring(start, idx);
-                    BigInteger bi = new BigInteger(numStr);
-                    try {
-                        return bi.intValueExact();
-                    } catch (ArithmeticException e) {
-                        // fall through
-                    }
-                    try {
-                        return bi.longValueExact();
-                    } catch (ArithmeticException e) {
-                        // fall through
-                    }
-                    return factory.createInt(bi);
+                if (scanner.parseIntIsInt) {
+                    return parseInteger(string, start, idx);
                 } else {
                     /* copy the section we determined to be a number */
-                    TruffleString numStr = toTruffleStringUncached(string.substring(start, idx));
-                    return callParseInt.executeObject(scanner.parseInt, numStr);
+                    return callParseInt.executeObject(scanner.parseInt, string.substring(start, idx));
                 }
             }
         }
 
+        private Object parseInteger(JSONStringView string, int start, int end) {
+            int idx = start;
+            boolean negative = string.codePointAt(idx) == '-';
+            if (negative) {
+                idx++;
+            }
+            // up to 18 decimal digits always fit into a long
+            if (end - idx <= 18) {
+                long value = 0;
+                for (; idx < end; idx++) {
+                    value = value * 10 + (string.codePointAt(idx) - '0');
+                }
+                if (negative) {
+                    value = -value;
+                }
+                if (value == (int) value) {
+                    return (int) value;
+                }
+                return value;
+            }
+            // like int(), refuse to convert long digit runs in quadratic time
+            int digits = end - idx;
+            if (digits > SysModuleBuiltins.INT_MAX_STR_DIGITS_THRESHOLD) {
+                int maxDigits = PythonContext.get(this).getIntMaxStrDigits();
+                if (maxDigits > 0 && digits > maxDigits) {
+                    throw PRaiseNode.raiseUncached(this, PythonBuiltinClassType.ValueError, ErrorMessages.EXCEEDS_THE_LIMIT_FOR_INTEGER_STRING_CONVERSION_D, maxDigits, digits);
+                }
+            }
+            BigInteger bi = new BigInteger(string.asciiSubstring(start, end));
+            try {
+                return bi.longValueExact();
+            } catch (ArithmeticException e) {
+                return factory.createInt(bi);
+            }
+        }
+
         @TruffleBoundary
-        private Object scanOnceUnicode(PJSONScanner scanner, String string, int idx, IntRef nextIdx) {
+        private Object scanOnceUnicode(PJSONScanner scanner, JSONStringView string, int idx, IntRef nextIdx) {
             /*
              * Read one JSON term (of any kind) from PyUnicode pystr. idx is the index of the first
              * character of the term nextIdx is a return-by-reference index to the first character
@@ -384,12 +492,12 @@ public final class JSONScannerBuiltins extends PythonBuiltins {
             if (idx < 0) {
                 throw PRaiseNode.raiseUncached(this, PythonBuiltinClassType.ValueError, ErrorMessages.IDX_CANNOT_BE_NEG);
             }
-            int length = string.length();
+            int length = string.length;
             if (idx >= length) {
                 throw stopIteration(this, idx);
             }
 
-            switch (string.charAt(idx)) {
+            switch (string.codePointAt(idx)) {
                 case '"':
                     /* string */
                     return scanStringUnicode(string, idx + 1, scanner.strict, nextIdx, this);
@@ -401,53 +509,54 @@ public final class JSONScannerBuiltins extends PythonBuiltins {
                     return parseArrayUnicode(scanner, string, idx + 1, nextIdx);
                 case 'n':
                     /* null */
-                    if ((idx + 3 < length) && string.charAt(idx + 1) == 'u' && string.charAt(idx + 2) == 'l' && string.charAt(idx + 3) == 'l') {
+                    if ((idx + 3 < length) && string.codePointAt(idx + 1) == 'u' && string.codePointAt(idx + 2) == 'l' && string.codePointAt(idx + 3) == 'l') {
                         nextIdx.value = idx + 4;
                         return PNone.NONE;
                     }
                     break;
                 case 't':
                     /* true */
-                    if ((idx + 3 < length) && string.charAt(idx + 1) == 'r' && string.charAt(idx + 2) == 'u' && string.charAt(idx + 3) == 'e') {
+                    if ((idx + 3 < length) && string.codePointAt(idx + 1) == 'r' && string.codePointAt(idx + 2) == 'u' && string.codePointAt(idx + 3) == 'e') {
                         nextIdx.value = idx + 4;
                         return true;
                     }
                     break;
                 case 'f':
                     /* false */
-                    if ((idx + 4 < length) && string.charAt(idx + 1) == 'a' && string.charAt(idx + 2) == 'l' && string.charAt(idx + 3) == 's' && string.charAt(idx + 4) == 'e') {
+                    if ((idx + 4 < length) && string.codePointAt(idx + 1) == 'a' && string.codePointAt(idx + 2) == 'l' && string.codePointAt(idx + 3) == 's' &&
+                                    string.codePointAt(idx + 4) == 'e') {
                         nextIdx.value = idx + 5;
                         return false;
                     }
                     break;
                 case 'N':
                     /* NaN */
-                    if ((idx + 2 < length) && string.charAt(idx + 1) == 'a' && string.charAt(idx + 2) == 'N') {
+                    if ((idx + 2 < length) && string.codePointAt(idx + 1) == 'a' && string.codePointAt(idx + 2) == 'N') {
                         return parseConstant(scanner, "NaN", idx, nextIdx);
                     }
                     break;
                 case 'I':
                     /* Infinity */
-                    if ((idx + 7 < length) && string.charAt(idx + 1) == 'n' &&
-                                    string.charAt(idx + 2) == 'f' &&
-                                    string.charAt(idx + 3) == 'i' &&
-                                    string.charAt(idx + 4) == 'n' &&
-                                    string.charAt(idx + 5) == 'i' &&
-                                    string.charAt(idx + 6) == 't' &&
-                                    string.charAt(idx + 7) == 'y') {
+                    if ((idx + 7 < length) && string.codePointAt(idx + 1) == 'n' &&
+                                    string.codePointAt(idx + 2) == 'f' &&
+                                    string.codePointAt(idx + 3) == 'i' &&
+                                    string.codePointAt(idx + 4) == 'n' &&
+                                    string.codePointAt(idx + 5) == 'i' &&
+                                    string.codePointAt(idx + 6) == 't' &&
+                                    string.codePointAt(idx + 7) == 'y') {
                         return parseConstant(scanner, "Infinity", idx, nextIdx);
                     }
                     break;
                 case '-':
                     /* -Infinity */
-                    if ((idx + 8 < length) && string.charAt(idx + 1) == 'I' &&
-                                    string.charAt(idx + 2) == 'n' &&
-                                    string.charAt(idx + 3) == 'f' &&
-                                    string.charAt(idx + 4) == 'i' &&
-                                    string.charAt(idx + 5) == 'n' &&
-                                    string.charAt(idx + 6) == 'i' &&
-                                    string.charAt(idx + 7) == 't' &&
-                                    string.charAt(idx + 8) == 'y') {
+                    if ((idx + 8 < length) && string.codePointAt(idx + 1) == 'I' &&
+                                    string.codePointAt(idx + 2) == 'n' &&
+                                    string.codePointAt(idx + 3) == 'f' &&
+                                    string.codePointAt(idx + 4) == 'i' &&
+                                    string.codePointAt(idx + 5) == 'n' &&
+                                    string.codePointAt(idx + 6) == 'i' &&
+                                    string.codePointAt(idx + 7) == 't' &&
+                                    string.codePointAt(idx + 8) == 'y') {
                         return parseConstant(scanner, "-Infinity", idx, nextIdx);
                     }
                     break;
@@ -459,41 +568,48 @@ public final class JSONScannerBuiltins extends PythonBuiltins {
     }
 
     @TruffleBoundary
-    static TruffleString scanStringUnicode(String string, int start, boolean strict, IntRef nextIdx, Node raisingNode) {
-        String result;
-        StringBuilder builder = null;
+    static TruffleString scanStringUnicode(JSONStringView string, int start, boolean strict, IntRef nextIdx, Node raisingNode) {
+        // only strings with escape sequences are built, all others are copied in one piece
+        TruffleStringBuilderUTF32 builder = null;
 
-        if (start < 0 || start > string.length()) {
+        if (start < 0 || start > string.length) {
             throw PRaiseNode.raiseUncached(raisingNode, PythonBuiltinClassType.ValueError, ErrorMessages.END_IS_OUT_OF_BOUNDS);
         }
         int idx = start;
-        while (idx < string.length()) {
-            char c = string.charAt(idx++);
+        int chunkStart = start;
+        while (idx < string.length) {
+            int c = string.codePointAt(idx++);
             if (c == '"') {
                 // we reached the end of the string literal
-                result = builder == null ? string.substring(start, idx - 1) : builder.toString();
                 nextIdx.value = idx;
-                return toTruffleStringUncached(result);
+                if (builder == null) {
+                    return string.substring(start, idx - 1);
+                }
+                string.appendTo(builder, chunkStart, idx - 1);
+                return builder.toStringUncached();
             } else if (c == '\\') {
-                // escape sequence, switch to StringBuilder
+                // escape sequence, switch to the builder
                 if (builder == null) {
-                    builder = new StringBuilder().append(string, start, idx - 1);
+                    builder = PythonUtils.createStringBuilder();
                 }
-                if (idx >= string.length()) {
+                string.appendTo(builder, chunkStart, idx - 1);
+                if (idx >= string.length) {
                     throw decodeError(raisingNode, string, start - 1, ErrorMessages.UTERMINATED_STR_STARTING);
                 }
-                c = string.charAt(idx++);
+                c = string.codePointAt(idx++);
                 if (c == 'u') {
-                    if (idx + 3 >= string.length()) {
+                    if (idx + 4 >= string.length) {
                         throw decodeError(raisingNode, string, idx - 1, ErrorMessages.INVALID_UXXXX_ESCAPE);
                     }
-                    c = 0;
-                    for (int i = 0; i < 4; i++) {
-                        int digit = Character.digit(string.charAt(idx++), 16);
-                        if (digit == -1) {
-                            throw decodeError(raisingNode, string, idx - 1, ErrorMessages.INVALID_UXXXX_ESCAPE);
+                    c = scanHex4(string, idx, raisingNode);
+                    idx += 4;
+                    /* surrogate pair */
+                    if (Character.isHighSurrogate((char) c) && idx + 6 < string.length && string.codePointAt(idx) == '\\' && string.codePointAt(idx + 1) == 'u') {
+                        int c2 = scanHex4(string, idx + 2, raisingNode);
+                        if (Character.isLowSurrogate((char) c2)) {
+                            c = Character.toCodePoint((char) c, (char) c2);
+                            idx += 6;
                         }
-                        c = (char) ((c << 4) + digit);
                     }
                 } else {
                     switch (c) {
@@ -517,28 +633,43 @@ public final class JSONScannerBuiltins extends PythonBuiltins {
                             c = '\t';
                             break;
                         default:
-                            throw decodeError(raisingNode, string, idx - 1, ErrorMessages.INVALID_ESCAPE);
+                            throw decodeError(raisingNode, string, idx - 2, ErrorMessages.INVALID_ESCAPE);
                     }
                 }
-                builder.append(c);
-            } else {
+                builder.appendCodePointUncached(c, 1, true);
+                chunkStart = idx;
+            } else if (strict && c < 0x20) {
                 // any other character: check if in strict mode
-                if (strict && c < 0x20) {
-                    throw decodeError(raisingNode, string, idx - 1, ErrorMessages.INVALID_CTRL_CHARACTER_AT);
-                }
-                if (builder != null) {
-                    builder.append(c);
-                }
+                throw decodeError(raisingNode, string, idx - 1, ErrorMessages.INVALID_CTRL_CHARACTER_AT);
             }
         }
         throw decodeError(raisingNode, string, start - 1, ErrorMessages.UNTERMINATED_STR_STARTING_AT);
     }
 
-    private static RuntimeException decodeError(Node raisingNode, String jsonString, int pos, TruffleString format) {
+    private static int scanHex4(JSONStringView string, int start, Node raisingNode) {
+        int c = 0;
+        for (int i = start; i < start + 4; i++) {
+            int ch = string.codePointAt(i);
+            int digit;
+            if (ch >= '0' && ch <= '9') {
+                digit = ch - '0';
+            } else if (ch >= 'a' && ch <= 'f') {
+                digit = ch - 'a' + 10;
+            } else if (ch >= 'A' && ch <= 'F') {
+                digit = ch - 'A' + 10;
+            } else {
+                throw decodeError(raisingNode, string, start - 1, ErrorMessages.INVALID_UXXXX_ESCAPE);
+            }
+            c = (c << 4) + digit;
+        }
+        return c;
+    }
+
+    private static RuntimeException decodeError(Node raisingNode, JSONStringView jsonString, int pos, TruffleString format) {
         CompilerAsserts.neverPartOfCompilation();
         Object module = AbstractImportNode.importModule(toTruffleStringUncached("json.decoder"));
         Object errorClass = PyObjectLookupAttr.executeUncached(module, T_JSON_DECODE_ERROR);
-        Object exception = CallNode.getUncached().execute(errorClass, format, toTruffleStringUncached(jsonString), pos);
+        Object exception = CallNode.getUncached().execute(errorClass, format, jsonString.string, pos);
         throw PRaiseNode.raiseExceptionObject(raisingNode, exception, false);
     }
 
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.modules.json;
+
+import static com.oracle.graal.python.util.PythonUtils.ARRAY_ACCESSOR;
+import static com.oracle.graal.python.util.PythonUtils.TS_ENCODING;
+
+import java.nio.charset.StandardCharsets;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.GenerateCached;
+import com.oracle.truffle.api.dsl.GenerateInline;
+import com.oracle.truffle.api.dsl.GenerateUncached;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.profiles.InlinedConditionProfile;
+import com.oracle.truffle.api.strings.InternalByteArray;
+import com.oracle.truffle.api.strings.TruffleString;
+import com.oracle.truffle.api.strings.TruffleString.CodeRange;
+import com.oracle.truffle.api.strings.TruffleStringBuilderUTF32;
+
+/**
+ * Random access to the code points of a string without converting it to a Java {@link String}.
+ * The string is read in the narrowest form that holds all its code points, which matches the
+ * compact internal storage of TruffleStrings: Latin-1 strings with one byte per code point, other
+ * strings in the basic multilingual plane as UTF-16 with two bytes per code point, and all
+ * remaining strings as UTF-32. Indices are code point indices in all cases.
+ */
+final class JSONStringView {
+
+    private static final int STRIDE_BYTE = 0;
+    private static final int STRIDE_CHAR = 1;
+    private static final int STRIDE_INT = 2;
+
+    final TruffleString string;
+    private final byte[] bytes;
+    private final int offset;
+    final int length;
+    /**
+     * log2 of the number of bytes per code point.
+     */
+    private final int stride;
+
+    private JSONStringView(TruffleString string, byte[] bytes, int offset, int length, int stride) {
+        this.string = string;
+        this.bytes = bytes;
+        this.offset = offset;
+        this.length = length;
+        this.stride = stride;
+    }
+
+    int codePointAt(int index) {
+        assert index >= 0 && index < length;
+        switch (stride) {
+            case STRIDE_BYTE:
+                return bytes[offset + index] & 0xff;
+            case STRIDE_CHAR:
+                return ARRAY_ACCESSOR.getShort(bytes, offset + (index << 1)) & 0xffff;
+            default:
+                return ARRAY_ACCESSOR.getInt(bytes, offset + (index << 2));
+        }
+    }
+
+    /**
+     * Returns a new string with the code points in {@code [start, end)}. The result does not share
+     * storage with the viewed string, so keeping it alive does not retain the whole document.
+     */
+    @TruffleBoundary
+    TruffleString substring(int start, int end) {
+        return string.substringUncached(start, end - start, TS_ENCODING, false);
+    }
+
+    /**
+     * Appends the code points in {@code [start, end)} to {@code builder} without creating an
+     * intermediate substring.
+     */
+    @TruffleBoundary
+    void appendTo(TruffleStringBuilderUTF32 builder, int start, int end) {
+        if (start < end) {
+            builder.appendSubstringByteIndexUncached(string, start << 2, (end - start) << 2);
+        }
+    }
+
+    /**
+     * Returns a Java string with the code points in {@code [start, end)}, which must all be ASCII.
+     * Used for number literals only.
+     */
+    @TruffleBoundary
+    String asciiSubstring(int start, int end) {
+        if (stride == STRIDE_BYTE) {
+            return new String(bytes, offset + start, end - start, StandardCharsets.ISO_8859_1);
+        }
+        char[] chars = new char[end - start];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = (char) codePointAt(start + i);
+        }
+        return new String(chars);
+    }
+
+    @GenerateUncached
+    @GenerateInline
+    @GenerateCached(false)
+    abstract static class CreateNode extends Node {
+
+        abstract JSONStringView execute(Node inliningTarget, TruffleString string);
+
+        static JSONStringView executeUncached(TruffleString string) {
+            return JSONStringViewFactory.CreateNodeGen.getUncached().execute(null, string);
+        }
+
+        /*
+         * Asking for the UTF-32 byte array of a string that is stored compactly would inflate it to
+         * four bytes per code point. Switching to the encoding whose natural layout matches the
+         * compact storage avoids that copy.
+         */
+        @Specialization
+        static JSONStringView create(Node inliningTarget, TruffleString string,
+                        @Cached(inline = false) TruffleString.GetCodeRangeNode getCodeRangeNode,
+                        @Cached(inline = false) TruffleString.SwitchEncodingNode switchEncodingNode,
+                        @Cached(inline = false) TruffleString.GetInternalByteArrayNode getInternalByteArrayNode,
+                        @Cached InlinedConditionProfile narrowProfile,
+                        @Cached InlinedConditionProfile bmpProfile) {
+            CodeRange codeRange = getCodeRangeNode.execute(string, TS_ENCODING);
+            if (narrowProfile.profile(inliningTarget, codeRange == CodeRange.ASCII || codeRange == CodeRange.LATIN_1)) {
+                TruffleString latin1 = switchEncodingNode.execute(string, TruffleString.Encoding.ISO_8859_1);
+                InternalByteArray array = getInternalByteArrayNode.execute(latin1, TruffleString.Encoding.ISO_8859_1);
+                return new JSONStringView(string, array.getArray(), array.getOffset(), array.getLength(), STRIDE_BYTE);
+            }
+            if (bmpProfile.profile(inliningTarget, codeRange == CodeRange.BMP)) {
+                // BMP excludes surrogates, so the UTF-16 form has one char per code point
+                TruffleString utf16 = switchEncodingNode.execute(string, TruffleString.Encoding.UTF_16);
+                InternalByteArray array = getInternalByteArrayNode.execute(utf16, TruffleString.Encoding.UTF_16);
+                return new JSONStringView(string, array.getArray(), array.getOffset(), array.getLength() >> 1, STRIDE_CHAR);
+            }
+            InternalByteArray array = getInternalByteArrayNode.execute(string, TS_ENCODING);
+            return new JSONStringView(string, array.getArray(), array.getOffset(), array.getLength() >> 2, STRIDE_INT);
+        }
+    }
+}
@@ -64,11 +64,17 @@ public abstract class JSONUtils {
     private static final TruffleString T_ESC_T = tsLiteral("\\t");
 
     static void appendStringUncached(TruffleString ts, TruffleStringBuilderUTF32 builder, boolean asciiOnly) {
-        // Note: appending in chunks does not pay off in the uncached case
+        JSONStringView view = JSONStringView.CreateNode.executeUncached(ts);
         builder.appendCodePointUncached('"');
-        TruffleStringIterator it = ts.createCodePointIteratorUncached(TS_ENCODING);
-        while (it.hasNext()) {
-            int c = it.nextUncached();
+        // runs of characters that need no escaping are appended in one piece
+        int chunkStart = 0;
+        for (int i = 0; i < view.length; i++) {
+            int c = view.codePointAt(i);
+            if (c > 0x1f && c != '"' && c != '\\' && (!asciiOnly || c <= '~')) {
+                continue;
+            }
+            view.appendTo(builder, chunkStart, i);
+            chunkStart = i + 1;
             switch (c) {
                 case '\\':
                     builder.appendStringUncached(T_ESC_BACKSLASH);
@@ -92,21 +98,17 @@ public abstract class JSONUtils {
                     builder.appendStringUncached(T_ESC_T);
                     break;
                 default:
-                    if (c <= 0x1f || (asciiOnly && c > '~')) {
-                        // appendSubstringUncached(builder, ts, chunkStart, currentIndex);
-                        if (c <= 0xffff) {
-                            appendEscapedUtf16Uncached((char) c, builder);
-                        } else {
-                            // split SMP codepoint to surrogate pair
-                            appendEscapedUtf16Uncached((char) (0xD800 + ((c - 0x10000) >> 10)), builder);
-                            appendEscapedUtf16Uncached((char) (0xDC00 + ((c - 0x10000) & 0x3FF)), builder);
-                        }
+                    if (c <= 0xffff) {
+                        appendEscapedUtf16Uncached((char) c, builder);
                     } else {
-                        builder.appendCodePointUncached(c, 1, true);
+                        // split SMP codepoint to surrogate pair
+                        appendEscapedUtf16Uncached((char) (0xD800 + ((c - 0x10000) >> 10)), builder);
+                        appendEscapedUtf16Uncached((char) (0xDC00 + ((c - 0x10000) & 0x3FF)), builder);
                     }
                     break;
             }
         }
+        view.appendTo(builder, chunkStart, view.length);
         builder.appendCodePointUncached('"');
     }
 
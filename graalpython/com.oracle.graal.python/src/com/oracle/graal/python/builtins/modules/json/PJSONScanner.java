@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2024, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -42,7 +42,9 @@ package com.oracle.graal.python.builtins.modules.json;
 
 import java.util.HashMap;
 
+import com.oracle.graal.python.builtins.PythonBuiltinClassType;
 import com.oracle.graal.python.builtins.objects.object.PythonBuiltinObject;
+import com.oracle.graal.python.nodes.object.BuiltinClassProfiles.IsBuiltinClassExactProfile;
 import com.oracle.truffle.api.CompilerAsserts;
 import com.oracle.truffle.api.object.Shape;
 import com.oracle.truffle.api.strings.TruffleString;
@@ -56,6 +58,8 @@ public final class PJSONScanner extends PythonBuiltinObject {
     final Object parseFloat;
     final Object parseInt;
     final Object parseConstant;
+    final boolean parseFloatIsFloat;
+    final boolean parseIntIsInt;
 
     public PJSONScanner(Object cls, Shape instanceShape, boolean strict, Object objectHook, Object objectPairsHook, Object parseFloat, Object parseInt, Object parseConstant) {
         super(cls, instanceShape);
@@ -67,5 +71,8 @@ public final class PJSONScanner extends PythonBuiltinObject {
         this.parseFloat = parseFloat;
         this.parseInt = parseInt;
         this.parseConstant = parseConstant;
+        // the defaults are parsed directly instead of calling the type
+        this.parseFloatIsFloat = IsBuiltinClassExactProfile.profileClassSlowPath(parseFloat, PythonBuiltinClassType.PFloat);
+        this.parseIntIsInt = IsBuiltinClassExactProfile.profileClassSlowPath(parseInt, PythonBuiltinClassType.PInt);
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2019, 2024, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -77,6 +77,7 @@ import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.clinic.ArgumentCastNode;
 import com.oracle.graal.python.nodes.function.builtins.clinic.ArgumentClinicProvider;
 import com.oracle.graal.python.nodes.truffle.PythonArithmeticTypes;
+import com.oracle.graal.python.runtime.GilNode;
 import com.oracle.graal.python.runtime.PythonContext;
 import com.oracle.graal.python.runtime.object.PythonObjectFactory;
 import com.oracle.graal.python.runtime.sequence.storage.SequenceStorage;
@@ -180,9 +181,18 @@ public final class LZMACompressorBuiltins extends PythonBuiltins {
                         @Bind("this") Node inliningTarget,
                         @Cached GetArrayAndLengthHelperNode getArrayAndLengthHelperNode,
                         @Cached LZMANodes.CompressNode compress,
+                        @Cached GilNode gil,
                         @Cached PythonObjectFactory factory) {
             ArrayAndLength aal = getArrayAndLengthHelperNode.execute(frame, inliningTarget, data);
-            return factory.createBytes(compress.compress(inliningTarget, self, PythonContext.get(inliningTarget), aal.array, aal.length));
+            PythonContext context = PythonContext.get(inliningTarget);
+            byte[] result;
+            self.lock(gil);
+            try {
+                result = compress.compress(inliningTarget, self, context, aal.array, aal.length);
+            } finally {
+                self.unlock();
+            }
+            return factory.createBytes(result);
         }
 
         @SuppressWarnings("unused")
@@ -227,9 +237,17 @@ public final class LZMACompressorBuiltins extends PythonBuiltins {
         static PBytes doit(LZMACompressor self,
                         @Bind("this") Node inliningTarget,
                         @Cached LZMANodes.CompressNode compress,
+                        @Cached GilNode gil,
                         @Cached PythonObjectFactory factory) {
             self.setFlushed();
-            return factory.createBytes(compress.flush(inliningTarget, self, PythonContext.get(inliningTarget)));
+            byte[] result;
+            self.lock(gil);
+            try {
+                result = compress.flush(inliningTarget, self, PythonContext.get(inliningTarget));
+            } finally {
+                self.unlock();
+            }
+            return factory.createBytes(result);
         }
 
         @SuppressWarnings("unused")
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2019, 2024, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -78,6 +78,7 @@ import com.oracle.graal.python.nodes.function.builtins.clinic.ArgumentClinicProv
 import com.oracle.graal.python.nodes.truffle.PythonArithmeticTypes;
 import com.oracle.graal.python.nodes.util.CannotCastException;
 import com.oracle.graal.python.nodes.util.CastToJavaIntExactNode;
+import com.oracle.graal.python.runtime.GilNode;
 import com.oracle.graal.python.runtime.object.PythonObjectFactory;
 import com.oracle.truffle.api.dsl.Bind;
 import com.oracle.truffle.api.dsl.Cached;
@@ -207,11 +208,11 @@ public final class LZMADecompressorBuiltins extends PythonBuiltins {
                         @Bind("this") Node inliningTarget,
                         @Cached SequenceStorageNodes.GetInternalByteArrayNode toBytes,
                         @Exclusive @Cached LZMANodes.DecompressNode decompress,
+                        @Shared @Cached GilNode gil,
                         @Shared @Cached PythonObjectFactory factory) {
             byte[] bytes = toBytes.execute(inliningTarget, data.getSequenceStorage());
             int len = data.getSequenceStorage().length();
-            return factory.createBytes(decompress.execute(inliningTarget, self, bytes, len, maxLength));
-
+            return factory.createBytes(decompressLocked(inliningTarget, self, bytes, len, maxLength, decompress, gil));
         }
 
         @Specialization(guards = {"!self.isEOF()"})
@@ -219,10 +220,20 @@ public final class LZMADecompressorBuiltins extends PythonBuiltins {
                         @Bind("this") Node inliningTarget,
                         @Cached BytesNodes.ToBytesNode toBytes,
                         @Exclusive @Cached LZMANodes.DecompressNode decompress,
+                        @Shared @Cached GilNode gil,
                         @Shared @Cached PythonObjectFactory factory) {
             byte[] bytes = toBytes.execute(frame, data);
             int len = bytes.length;
-            return factory.createBytes(decompress.execute(inliningTarget, self, bytes, len, maxLength));
+            return factory.createBytes(decompressLocked(inliningTarget, self, bytes, len, maxLength, decompress, gil));
+        }
+
+        private static byte[] decompressLocked(Node inliningTarget, LZMADecompressor self, byte[] bytes, int len, int maxLength, LZMANodes.DecompressNode decompress, GilNode gil) {
+            self.lock(gil);
+            try {
+                return decompress.execute(inliningTarget, self, bytes, len, maxLength);
+            } finally {
+                self.unlock();
+            }
         }
 
         @SuppressWarnings("unused")
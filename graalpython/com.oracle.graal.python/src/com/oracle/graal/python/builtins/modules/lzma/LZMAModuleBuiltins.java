@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2019, 2024, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -80,10 +80,14 @@ import org.graalvm.shadowed.org.tukaani.xz.LZMA2Options;
 import org.graalvm.shadowed.org.tukaani.xz.XZ;
 import org.graalvm.shadowed.org.tukaani.xz.XZOutputStream;
 
+import com.oracle.graal.python.annotations.ArgumentClinic;
+import com.oracle.graal.python.annotations.ArgumentClinic.ClinicConversion;
 import com.oracle.graal.python.builtins.Builtin;
 import com.oracle.graal.python.builtins.CoreFunctions;
 import com.oracle.graal.python.builtins.Python3Core;
 import com.oracle.graal.python.builtins.PythonBuiltins;
+import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.builtins.objects.buffer.PythonBufferAccessLibrary;
 import com.oracle.graal.python.builtins.objects.bytes.BytesNodes;
 import com.oracle.graal.python.builtins.objects.bytes.PBytes;
 import com.oracle.graal.python.builtins.objects.dict.PDict;
@@ -92,11 +96,16 @@ import com.oracle.graal.python.lib.PyNumberAsSizeNode;
 import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
 import com.oracle.graal.python.nodes.function.PythonBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonBinaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonTernaryClinicBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.clinic.ArgumentClinicProvider;
 import com.oracle.graal.python.nodes.truffle.PythonArithmeticTypes;
 import com.oracle.graal.python.nodes.util.CastToJavaLongLossyNode;
+import com.oracle.graal.python.runtime.GilNode;
+import com.oracle.graal.python.runtime.IndirectCallData;
 import com.oracle.graal.python.runtime.NFILZMASupport;
 import com.oracle.graal.python.runtime.NativeLibrary;
+import com.oracle.graal.python.runtime.PythonContext;
 import com.oracle.graal.python.runtime.object.PythonObjectFactory;
 import com.oracle.truffle.api.CompilerDirectives.CompilationFinal;
 import com.oracle.truffle.api.dsl.Bind;
@@ -106,6 +115,7 @@ import com.oracle.truffle.api.dsl.NodeFactory;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.dsl.TypeSystemReference;
 import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.library.CachedLibrary;
 import com.oracle.truffle.api.nodes.Node;
 import com.oracle.truffle.api.strings.TruffleString;
 
@@ -119,6 +129,8 @@ public final class LZMAModuleBuiltins extends PythonBuiltins {
 
     // defined in '_lzmamodule.c'
     public static final int INITIAL_BUFFER_SIZE = 8192;
+    // inputs at least this large are (de)compressed without holding the GIL
+    static final int GIL_RELEASE_THRESHOLD = 16 * 1024;
 
     @CompilationFinal public static int CHECK_NONE = XZ.CHECK_NONE;
     @CompilationFinal public static int CHECK_CRC32 = XZ.CHECK_CRC32;
@@ -331,4 +343,44 @@ public final class LZMAModuleBuiltins extends PythonBuiltins {
             return dict;
         }
     }
+
+    // GraalPy-specific, used by 'lzma.compress' if the format is FORMAT_XZ and no filters are given
+    @Builtin(name = "_parallel_compress", minNumOfPositionalArgs = 2, parameterNames = {"data", "check", "preset"})
+    @ArgumentClinic(name = "data", conversion = ClinicConversion.ReadableBuffer)
+    @ArgumentClinic(name = "check", conversion = ClinicConversion.Int)
+    @ArgumentClinic(name = "preset", conversion = ClinicConversion.Long, defaultValue = "LZMAModuleBuiltins.PRESET_DEFAULT", useDefaultForNone = true)
+    @GenerateNodeFactory
+    abstract static class ParallelCompressNode extends PythonTernaryClinicBuiltinNode {
+
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return LZMAModuleBuiltinsClinicProviders.ParallelCompressNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        static Object compress(VirtualFrame frame, Object buffer, int check, long preset,
+                        @Bind("this") Node inliningTarget,
+                        @CachedLibrary(limit = "3") PythonBufferAccessLibrary bufferLib,
+                        @Cached("createFor(this)") IndirectCallData indirectCallData,
+                        @Cached GilNode gil,
+                        @Cached PythonObjectFactory factory) {
+            try {
+                int len = bufferLib.getBufferLength(buffer);
+                if (len < GIL_RELEASE_THRESHOLD) {
+                    return PNone.NONE;
+                }
+                byte[] bytes = bufferLib.getInternalOrCopiedByteArray(buffer);
+                byte[] result;
+                gil.release(true);
+                try {
+                    result = ParallelXZ.compress(PythonContext.get(inliningTarget), bytes, len, check == -1 ? CHECK_CRC64 : check, preset);
+                } finally {
+                    gil.acquire();
+                }
+                return result == null ? PNone.NONE : factory.createBytes(result);
+            } finally {
+                bufferLib.release(buffer, frame, indirectCallData);
+            }
+        }
+    }
 }
@@ -47,6 +47,7 @@ import static com.oracle.graal.python.builtins.PythonBuiltinClassType.OverflowEr
 import static com.oracle.graal.python.builtins.PythonBuiltinClassType.SystemError;
 import static com.oracle.graal.python.builtins.PythonBuiltinClassType.ValueError;
 import static com.oracle.graal.python.builtins.modules.lzma.LZMAModuleBuiltins.FILTERS;
+import static com.oracle.graal.python.builtins.modules.lzma.LZMAModuleBuiltins.GIL_RELEASE_THRESHOLD;
 import static com.oracle.graal.python.builtins.modules.lzma.LZMAModuleBuiltins.INITIAL_BUFFER_SIZE;
 import static com.oracle.graal.python.builtins.modules.lzma.LZMAModuleBuiltins.LZMA_FILTERS_MAX;
 import static com.oracle.graal.python.builtins.modules.lzma.LZMAModuleBuiltins.LZMA_TELL_ANY_CHECK;
@@ -117,6 +118,7 @@ import com.oracle.graal.python.nodes.object.GetDictIfExistsNode;
 import com.oracle.graal.python.nodes.util.CannotCastException;
 import com.oracle.graal.python.nodes.util.CastToJavaLongExactNode;
 import com.oracle.graal.python.nodes.util.CastToJavaLongLossyNode;
+import com.oracle.graal.python.runtime.GilNode;
 import com.oracle.graal.python.runtime.NFILZMASupport;
 import com.oracle.graal.python.runtime.NativeLibrary;
 import com.oracle.graal.python.runtime.PythonContext;
@@ -876,10 +878,23 @@ public class LZMANodes {
                         @Cached(inline = false) NativeLibrary.InvokeNativeFunction compress,
                         @Cached GetOutputNativeBufferNode getBuffer,
                         @Cached InlinedConditionProfile errProfile,
+                        @Shared @Cached GilNode gil,
                         @Exclusive @Cached PRaiseNode.Lazy raiseNode) {
             NFILZMASupport lzmaSupport = context.getNFILZMASupport();
             Object inGuest = context.getEnv().asGuestValue(bytes);
-            int err = lzmaSupport.compress(self.getLzs(), inGuest, len, action, INITIAL_BUFFER_SIZE, compress);
+            // only the library call runs without the GIL, errors are raised after re-acquiring it
+            boolean releaseGil = len >= GIL_RELEASE_THRESHOLD;
+            if (releaseGil) {
+                gil.release(true);
+            }
+            int err;
+            try {
+                err = lzmaSupport.compress(self.getLzs(), inGuest, len, action, INITIAL_BUFFER_SIZE, compress);
+            } finally {
+                if (releaseGil) {
+                    gil.acquire();
+                }
+            }
             if (errProfile.profile(inliningTarget, err != LZMA_OK)) {
                 errorHandling(inliningTarget, err, raiseNode);
             }
@@ -889,9 +904,19 @@ public class LZMANodes {
         @SuppressWarnings("unused")
         @Specialization(guards = "action == LZMA_RUN")
         static byte[] javaCompress(Node inliningTarget, LZMACompressor.Java self, PythonContext context, byte[] bytes, int len, int action,
+                        @Shared @Cached GilNode gil,
                         @Exclusive @Cached PRaiseNode.Lazy raiseNode) {
             try {
-                self.write(bytes, 0, len);
+                if (len >= GIL_RELEASE_THRESHOLD) {
+                    gil.release(true);
+                    try {
+                        self.write(bytes, 0, len);
+                    } finally {
+                        gil.acquire();
+                    }
+                } else {
+                    self.write(bytes, 0, len);
+                }
                 byte[] result = self.getByteArray();
                 self.resetBuffer();
                 return result;
@@ -1116,13 +1141,27 @@ public class LZMANodes {
                         @Cached(inline = false) NativeLibrary.InvokeNativeFunction getNextInIndex,
                         @Cached(inline = false) NativeLibrary.InvokeNativeFunction getLzsCheck,
                         @Cached GetOutputNativeBufferNode getBuffer,
+                        @Shared @Cached GilNode gil,
                         @Exclusive @Cached PRaiseNode.Lazy lazyRaiseNode,
                         @Cached InlinedConditionProfile errProfile) {
             PythonContext context = PythonContext.get(inliningTarget);
             NFILZMASupport lzmaSupport = context.getNFILZMASupport();
             Object inGuest = context.getEnv().asGuestValue(self.getNextIn());
             int offset = self.getNextInIndex();
-            int err = lzmaSupport.decompress(self.getLzs(), inGuest, offset, maxLength, INITIAL_BUFFER_SIZE, self.getLzsAvailIn(), decompress);
+            int availIn = self.getLzsAvailIn();
+            // only the library call runs without the GIL, errors are raised after re-acquiring it
+            boolean releaseGil = availIn >= GIL_RELEASE_THRESHOLD;
+            if (releaseGil) {
+                gil.release(true);
+            }
+            int err;
+            try {
+                err = lzmaSupport.decompress(self.getLzs(), inGuest, offset, maxLength, INITIAL_BUFFER_SIZE, availIn, decompress);
+            } finally {
+                if (releaseGil) {
+                    gil.acquire();
+                }
+            }
             long nextInIdx = lzmaSupport.getNextInIndex(self.getLzs(), getNextInIndex);
             long lzsAvailIn = lzmaSupport.getLzsAvailIn(self.getLzs(), getLzsAvailIn);
             long lzsAvailOut = lzmaSupport.getLzsAvailOut(self.getLzs(), getLzsAvailOut);
@@ -1145,6 +1184,7 @@ public class LZMANodes {
         @TruffleBoundary
         @Specialization
         static byte[] javaInternalDecompress(Node inliningTarget, LZMADecompressor.Java self, int maxLength,
+                        @Shared @Cached GilNode gil,
                         @Exclusive @Cached PRaiseNode.Lazy lazyRaiseNode) {
             if (maxLength == 0) {
                 return PythonUtils.EMPTY_BYTE_ARRAY;
@@ -1153,6 +1193,37 @@ public class LZMANodes {
             int maxLen = maxLength == -1 ? Integer.MAX_VALUE : maxLength;
             byte[] result = new byte[Math.min(maxLen, INITIAL_BUFFER_SIZE)];
             ByteArrayOutputStream baos = createOutputStream(result.length);
+            // only the decoding runs without the GIL, errors are raised after re-acquiring it
+            boolean releaseGil = self.getLzsAvailIn() >= GIL_RELEASE_THRESHOLD;
+            int err;
+            try {
+                if (releaseGil) {
+                    gil.release(true);
+                }
+                try {
+                    err = javaDecompress(self, baos, result, maxLen);
+                } finally {
+                    if (releaseGil) {
+                        gil.acquire();
+                    }
+                }
+            } catch (IOException e) {
+                throw PRaiseNode.raiseUncached(inliningTarget, OSError, e);
+            }
+            if (err != LZMA_OK) {
+                errorHandling(inliningTarget, err, lazyRaiseNode);
+            }
+            byte[] ret = toByteArray(baos);
+            self.decompressedData(ret.length);
+            self.update(maxLen - ret.length);
+            return ret;
+        }
+
+        /**
+         * Decodes into {@code baos} and returns {@code LZMA_OK} or the error code to raise. Does not
+         * raise Python exceptions, so that it can run without the GIL.
+         */
+        private static int javaDecompress(LZMADecompressor.Java self, ByteArrayOutputStream baos, byte[] result, int maxLen) throws IOException {
             int dataSize = -1;
             boolean isInitialized = self.isInitialized();
             try {
@@ -1177,26 +1248,21 @@ public class LZMANodes {
                     break;
                 }
             } catch (UnsupportedOptionsException o) {
-                errorHandling(inliningTarget, LZMA_OPTIONS_ERROR, lazyRaiseNode);
+                return LZMA_OPTIONS_ERROR;
             } catch (CorruptedInputException c) {
                 if (self.isFormatAuto() && baos.size() > 0) {
                     self.setEOF();
                 } else {
-                    errorHandling(inliningTarget, LZMA_DATA_ERROR, lazyRaiseNode);
+                    return LZMA_DATA_ERROR;
                 }
             } catch (MemoryLimitException m) {
-                errorHandling(inliningTarget, LZMA_MEMLIMIT_ERROR, lazyRaiseNode);
+                return LZMA_MEMLIMIT_ERROR;
             } catch (XZFormatException f) {
-                errorHandling(inliningTarget, LZMA_FORMAT_ERROR, lazyRaiseNode);
+                return LZMA_FORMAT_ERROR;
             } catch (EOFException eof) {
                 self.setEOF();
-            } catch (IOException e) {
-                PRaiseNode.raiseUncached(inliningTarget, OSError, e);
             }
-            byte[] ret = toByteArray(baos);
-            self.decompressedData(ret.length);
-            self.update(maxLen - ret.length);
-            return ret;
+            return LZMA_OK;
         }
 
         @TruffleBoundary
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2024, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -51,6 +51,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.graalvm.shadowed.org.tukaani.xz.FilterOptions;
 import org.graalvm.shadowed.org.tukaani.xz.FinishableOutputStream;
@@ -63,6 +64,7 @@ import org.graalvm.shadowed.org.tukaani.xz.common.DecoderUtil;
 
 import com.oracle.graal.python.builtins.objects.ints.PInt;
 import com.oracle.graal.python.builtins.objects.object.PythonBuiltinObject;
+import com.oracle.graal.python.runtime.GilNode;
 import com.oracle.graal.python.runtime.NFILZMASupport;
 import com.oracle.graal.python.util.OverflowException;
 import com.oracle.graal.python.util.PythonUtils;
@@ -71,12 +73,39 @@ import com.oracle.truffle.api.object.Shape;
 
 public abstract class LZMAObject extends PythonBuiltinObject {
 
+    /**
+     * Guards the stream state. Large inputs are (de)compressed without the GIL while holding this
+     * lock, so a thread that finds the lock taken releases the GIL while waiting for it.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
     protected int check;
 
     public LZMAObject(Object cls, Shape instanceShape) {
         super(cls, instanceShape);
     }
 
+    /**
+     * Acquires the lock guarding the stream state. Must be called with the GIL held and be followed
+     * by {@link #unlock()}.
+     */
+    @TruffleBoundary
+    final void lock(GilNode gil) {
+        if (!lock.tryLock()) {
+            gil.release(true);
+            try {
+                lock.lock();
+            } finally {
+                gil.acquire();
+            }
+        }
+    }
+
+    @TruffleBoundary
+    final void unlock() {
+        lock.unlock();
+    }
+
     public void setCheck(int check) {
         this.check = check;
     }
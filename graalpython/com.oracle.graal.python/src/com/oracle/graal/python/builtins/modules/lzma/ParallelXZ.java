@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.modules.lzma;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.zip.CRC32;
+
+import org.graalvm.shadowed.org.tukaani.xz.LZMA2Options;
+import org.graalvm.shadowed.org.tukaani.xz.XZ;
+import org.graalvm.shadowed.org.tukaani.xz.XZOutputStream;
+
+import com.oracle.graal.python.runtime.PythonContext;
+import com.oracle.graal.python.runtime.PythonOptions;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+
+/**
+ * Block-parallel compression for the one-shot {@code lzma.compress} in the xz format. The input is
+ * split into blocks that are compressed independently, each into a complete single-block .xz
+ * stream, because the Java encoder has no API to write just a block. The blocks are then taken out
+ * of these streams and written into a single stream with one index, like {@code xz -T} does, so
+ * that the output can also be read by a single {@code LZMADecompressor}. This always uses the Java
+ * encoder, since the pool threads cannot call into the native library through the context.
+ */
+final class ParallelXZ {
+
+    private static final int STREAM_HEADER_SIZE = 12;
+    private static final int STREAM_FOOTER_SIZE = 12;
+    private static final byte[] FOOTER_MAGIC = {'Y', 'Z'};
+
+    private ParallelXZ() {
+    }
+
+    /**
+     * Compresses {@code data} in parallel if this is enabled and the input is larger than one
+     * block. Only plain presets and the integrity checks supported by the Java encoder are handled.
+     * Does not touch any Python objects, so it may be called without the GIL.
+     *
+     * @return the compressed data or {@code null} if the caller should compress serially
+     */
+    @TruffleBoundary
+    static byte[] compress(PythonContext context, byte[] data, int length, int check, long preset) {
+        if (preset < LZMA2Options.PRESET_MIN || preset > LZMA2Options.PRESET_MAX || !isSupportedCheck(check)) {
+            return null;
+        }
+        int blockSize = Math.max(context.getOption(PythonOptions.ParallelCompressionBlockSize), LZMA2Options.DICT_SIZE_MIN);
+        if (length <= blockSize) {
+            return null;
+        }
+        ForkJoinPool pool = context.getCompressionPool();
+        if (pool == null) {
+            return null;
+        }
+        int blocks = (int) ((length + (long) blockSize - 1) / blockSize);
+        @SuppressWarnings("unchecked")
+        ForkJoinTask<byte[]>[] tasks = new ForkJoinTask[blocks];
+        for (int i = 0; i < blocks; i++) {
+            int start = i * blockSize;
+            int end = Math.min(length, start + blockSize);
+            tasks[i] = pool.submit(() -> compressBlock(data, start, end, check, (int) preset, blockSize));
+        }
+        byte[][] streams = new byte[blocks][];
+        for (int i = 0; i < blocks; i++) {
+            streams[i] = tasks[i].join();
+        }
+        return joinStreams(streams);
+    }
+
+    /**
+     * Joins single-block .xz streams that use the same check into one stream. The blocks are
+     * copied as they are, and the index records are taken from the index of each stream.
+     */
+    private static byte[] joinStreams(byte[][] streams) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        // all streams have the same header, it only contains the check type
+        out.write(streams[0], 0, STREAM_HEADER_SIZE);
+        ByteArrayOutputStream index = new ByteArrayOutputStream();
+        index.write(0);
+        writeVli(index, streams.length);
+        for (byte[] stream : streams) {
+            int backwardSize = readInt32(stream, stream.length - STREAM_FOOTER_SIZE + 4);
+            int indexStart = stream.length - STREAM_FOOTER_SIZE - (backwardSize + 1) * 4;
+            out.write(stream, STREAM_HEADER_SIZE, indexStart - STREAM_HEADER_SIZE);
+            // an index indicator, one record, then the record's unpadded and uncompressed size
+            int[] pos = {indexStart + 1};
+            long records = readVli(stream, pos);
+            assert stream[indexStart] == 0 && records == 1;
+            writeVli(index, readVli(stream, pos));
+            writeVli(index, readVli(stream, pos));
+        }
+        while (index.size() % 4 != 0) {
+            index.write(0);
+        }
+        byte[] indexBytes = index.toByteArray();
+        out.writeBytes(indexBytes);
+        writeInt32(out, crc32(indexBytes, 0, indexBytes.length));
+
+        byte[] footer = new byte[6];
+        int backwardSize = (indexBytes.length + 4) / 4 - 1;
+        footer[0] = (byte) backwardSize;
+        footer[1] = (byte) (backwardSize >>> 8);
+        footer[2] = (byte) (backwardSize >>> 16);
+        footer[3] = (byte) (backwardSize >>> 24);
+        // stream flags, the same as in the header
+        footer[4] = streams[0][6];
+        footer[5] = streams[0][7];
+        writeInt32(out, crc32(footer, 0, footer.length));
+        out.writeBytes(footer);
+        out.writeBytes(FOOTER_MAGIC);
+        return out.toByteArray();
+    }
+
+    private static long readVli(byte[] bytes, int[] pos) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = bytes[pos[0]++];
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    private static void writeVli(ByteArrayOutputStream out, long value) {
+        long v = value;
+        while (v >= 0x80) {
+            out.write((int) (v & 0x7F) | 0x80);
+            v >>>= 7;
+        }
+        out.write((int) v);
+    }
+
+    private static int readInt32(byte[] bytes, int offset) {
+        return (bytes[offset] & 0xFF) | (bytes[offset + 1] & 0xFF) << 8 | (bytes[offset + 2] & 0xFF) << 16 | (bytes[offset + 3] & 0xFF) << 24;
+    }
+
+    private static void writeInt32(ByteArrayOutputStream out, int value) {
+        out.write(value);
+        out.write(value >>> 8);
+        out.write(value >>> 16);
+        out.write(value >>> 24);
+    }
+
+    private static int crc32(byte[] bytes, int offset, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, offset, length);
+        return (int) crc.getValue();
+    }
+
+    private static boolean isSupportedCheck(int check) {
+        return check == XZ.CHECK_NONE || check == XZ.CHECK_CRC32 || check == XZ.CHECK_CRC64 || check == XZ.CHECK_SHA256;
+    }
+
+    private static byte[] compressBlock(byte[] data, int start, int end, int check, int preset, int blockSize) {
+        try {
+            LZMA2Options options = new LZMA2Options(preset);
+            // a dictionary larger than the block is never used, but would still be allocated
+            if (options.getDictSize() > blockSize) {
+                options.setDictSize(blockSize);
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream((end - start) / 4);
+            try (XZOutputStream xz = new XZOutputStream(out, options, check)) {
+                xz.write(data, start, end - start);
+            }
+            return out.toByteArray();
+        } catch (IOException e) {
+            // cannot happen for valid presets when writing to memory
+            throw new IllegalStateException(e);
+        }
+    }
+}
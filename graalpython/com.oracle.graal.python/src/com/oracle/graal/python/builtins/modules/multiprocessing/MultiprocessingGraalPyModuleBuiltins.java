@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2019, 2024, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -41,7 +41,9 @@
 package com.oracle.graal.python.builtins.modules.multiprocessing;
 
 import static com.oracle.graal.python.builtins.PythonBuiltinClassType.OSError;
+import static com.oracle.graal.python.runtime.PosixConstants.POLLIN;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.Semaphore;
@@ -472,12 +474,25 @@ public final class MultiprocessingGraalPyModuleBuiltins extends PythonBuiltins {
                 long timeout = (long) (timeoutInS * 1000_000_000.0);
                 deadline = System.nanoTime() + timeout;
             }
+            int[] pollEvents = null;
+            if (POLLIN.defined && posixFds.length > 0) {
+                pollEvents = new int[posixFds.length];
+                Arrays.fill(pollEvents, POLLIN.getValueIfDefined());
+            }
             while (true) {
                 boolean selected = false;
                 if (posixFds.length > 0) {
-                    PosixSupportLibrary.SelectResult selectResult = posixLib.select(posix, posixFds,
-                                    PythonUtils.EMPTY_INT_ARRAY, PythonUtils.EMPTY_INT_ARRAY, Timeval.SELECT_TIMEOUT_NOW);
-                    System.arraycopy(selectResult.getReadFds(), 0, selectedPosixFds, 0, selectedPosixFds.length);
+                    if (pollEvents != null) {
+                        // poll has no FD_SETSIZE limit on the descriptor values
+                        int[] revents = posixLib.poll(posix, posixFds, pollEvents, 0);
+                        for (int i = 0; i < revents.length; i++) {
+                            selectedPosixFds[i] = revents[i] != 0;
+                        }
+                    } else {
+                        PosixSupportLibrary.SelectResult selectResult = posixLib.select(posix, posixFds,
+                                        PythonUtils.EMPTY_INT_ARRAY, PythonUtils.EMPTY_INT_ARRAY, Timeval.SELECT_TIMEOUT_NOW);
+                        System.arraycopy(selectResult.getReadFds(), 0, selectedPosixFds, 0, selectedPosixFds.length);
+                    }
                     if (blocking) {
                         for (boolean b : selectedPosixFds) {
                             selected |= b;
@@ -106,6 +106,9 @@ import com.oracle.graal.python.runtime.IndirectCallData;
 import com.oracle.graal.python.runtime.PythonContext;
 import com.oracle.graal.python.runtime.exception.PException;
 import com.oracle.graal.python.runtime.object.PythonObjectFactory;
+import com.oracle.graal.python.runtime.sequence.storage.DoubleSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.IntSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.LongSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.SequenceStorage;
 import com.oracle.graal.python.util.Consumer;
 import com.oracle.graal.python.util.NumericSupport;
@@ -1578,6 +1581,10 @@ public class PPickler extends PythonBuiltinObject {
                 return;
             }
 
+            if (batchListPrimitive(frame, pickler, storage)) {
+                return;
+            }
+
             // Write in batches of BATCHSIZE.
             int total = 0;
             int thisBatch;
@@ -1596,6 +1603,90 @@ public class PPickler extends PythonBuiltinObject {
             } while (total < length(frame, obj));
         }
 
+        /**
+         * Batches the items of an int, long or double list storage directly from the primitive
+         * array, without boxing each item and dispatching through {@link #save}. This is only
+         * observable through a persistent id function since ints and floats are never memoized.
+         */
+        private boolean batchListPrimitive(VirtualFrame frame, PPickler pickler, SequenceStorage storage) {
+            if (pickler.persFunc != null || !(storage instanceof IntSequenceStorage || storage instanceof LongSequenceStorage || storage instanceof DoubleSequenceStorage)) {
+                return false;
+            }
+            byte[] pdata = new byte[10];
+            int total = 0;
+            do {
+                write(pickler, PickleUtils.OPCODE_MARK);
+                int end = total + PickleUtils.BATCHSIZE;
+                // the storage length is re-read since flushing a frame may call into a user
+                // provided file object
+                for (; total < end && total < storage.length(); total++) {
+                    opcodeBoundary(frame, pickler);
+                    int len;
+                    if (storage instanceof IntSequenceStorage intStorage) {
+                        len = encodeBinInt(pdata, intStorage.getIntItemNormalized(total));
+                    } else if (storage instanceof LongSequenceStorage longStorage) {
+                        long value = longStorage.getLongItemNormalized(total);
+                        if (value == (int) value) {
+                            len = encodeBinInt(pdata, (int) value);
+                        } else if (pickler.proto >= 2) {
+                            len = encodeLong1(pdata, value);
+                        } else {
+                            saveLong(frame, pickler, value);
+                            continue;
+                        }
+                    } else {
+                        pdata[0] = PickleUtils.OPCODE_BINFLOAT;
+                        NumericSupport.bigEndian().putDouble(pdata, 1, ((DoubleSequenceStorage) storage).getDoubleItemNormalized(total));
+                        len = 9;
+                    }
+                    write(pickler, pdata, len);
+                }
+                write(pickler, PickleUtils.OPCODE_APPENDS);
+            } while (total < storage.length());
+            return true;
+        }
+
+        /**
+         * Same encoding as {@link #saveLong} uses for values that fit in a signed 4-byte integer.
+         */
+        private static int encodeBinInt(byte[] pdata, int value) {
+            pdata[1] = (byte) (value & 0xff);
+            pdata[2] = (byte) ((value >> 8) & 0xff);
+            pdata[3] = (byte) ((value >> 16) & 0xff);
+            pdata[4] = (byte) ((value >> 24) & 0xff);
+            if ((pdata[4] != 0) || (pdata[3] != 0)) {
+                pdata[0] = PickleUtils.OPCODE_BININT;
+                return 5;
+            } else if (pdata[2] != 0) {
+                pdata[0] = PickleUtils.OPCODE_BININT2;
+                return 3;
+            } else {
+                pdata[0] = PickleUtils.OPCODE_BININT1;
+                return 2;
+            }
+        }
+
+        /**
+         * Encodes {@code value} as {@code LONG1} using the minimal number of little-endian two's
+         * complement bytes, which is what {@link #saveLong} produces for such values.
+         */
+        private static int encodeLong1(byte[] pdata, long value) {
+            int nbytes = 8;
+            while (nbytes > 1) {
+                long rest = value >> (8 * (nbytes - 1) - 1);
+                if (rest != 0 && rest != -1) {
+                    break;
+                }
+                nbytes--;
+            }
+            pdata[0] = PickleUtils.OPCODE_LONG1;
+            pdata[1] = (byte) nbytes;
+            for (int i = 0; i < nbytes; i++) {
+                pdata[2 + i] = (byte) (value >> (8 * i));
+            }
+            return nbytes + 2;
+        }
+
         private void batchList(VirtualFrame frame, PPickler pickler, Object iterator) {
             assert iterator != null;
             if (pickler.proto == 0) {
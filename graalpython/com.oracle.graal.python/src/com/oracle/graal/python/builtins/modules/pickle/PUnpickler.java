@@ -168,6 +168,12 @@ import com.oracle.graal.python.runtime.IndirectCallData;
 import com.oracle.graal.python.runtime.PythonContext;
 import com.oracle.graal.python.runtime.exception.PException;
 import com.oracle.graal.python.runtime.exception.PythonErrorType;
+import com.oracle.graal.python.runtime.sequence.storage.BasicSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.DoubleSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.EmptySequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.IntSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.LongSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.SequenceStorage;
 import com.oracle.graal.python.util.NumericSupport;
 import com.oracle.graal.python.util.PythonUtils;
 import com.oracle.truffle.api.CompilerDirectives;
@@ -1299,6 +1305,9 @@ public class PUnpickler extends PythonBuiltinObject {
             list = self.stack.data[x - 1];
 
             if (list instanceof PList) {
+                if (appendPrimitives((PList) list, self.stack, x)) {
+                    return;
+                }
                 slice = pDataPopList(self, x);
                 extendList(frame, (PList) list, slice);
             } else {
@@ -1326,6 +1335,66 @@ public class PUnpickler extends PythonBuiltinObject {
             }
         }
 
+        /**
+         * Fast path for {@code APPEND(S)} into a list whose storage is empty or primitive: if the
+         * items on the stack are all ints or all floats, they are written straight into an int,
+         * long or double storage instead of going through a temporary list and a generic extend.
+         * Returns {@code false} (leaving the stack untouched) if the batch does not qualify.
+         */
+        private static boolean appendPrimitives(PList list, PData stack, int x) {
+            SequenceStorage storage = list.getSequenceStorage();
+            int n = stack.size - x;
+            boolean allInt = true;
+            boolean allLong = true;
+            boolean allDouble = true;
+            for (int i = x; i < stack.size; i++) {
+                Object item = stack.data[i];
+                if (!(item instanceof Integer)) {
+                    allInt = false;
+                    allLong &= item instanceof Long;
+                }
+                allDouble &= item instanceof Double;
+            }
+            if (storage instanceof EmptySequenceStorage) {
+                if (allInt) {
+                    storage = new IntSequenceStorage(n);
+                } else if (allLong) {
+                    storage = new LongSequenceStorage(n);
+                } else if (allDouble) {
+                    storage = new DoubleSequenceStorage(n);
+                } else {
+                    return false;
+                }
+                list.setSequenceStorage(storage);
+            }
+            int start = storage.length();
+            if (storage instanceof IntSequenceStorage intStorage && allInt) {
+                intStorage.ensureCapacity(start + n);
+                int[] values = intStorage.getInternalIntArray();
+                for (int i = 0; i < n; i++) {
+                    values[start + i] = (int) stack.data[x + i];
+                }
+            } else if (storage instanceof LongSequenceStorage longStorage && allLong) {
+                longStorage.ensureCapacity(start + n);
+                long[] values = longStorage.getInternalLongArray();
+                for (int i = 0; i < n; i++) {
+                    Object item = stack.data[x + i];
+                    values[start + i] = item instanceof Integer ? (int) item : (long) item;
+                }
+            } else if (storage instanceof DoubleSequenceStorage doubleStorage && allDouble) {
+                doubleStorage.ensureCapacity(start + n);
+                double[] values = doubleStorage.getInternalDoubleArray();
+                for (int i = 0; i < n; i++) {
+                    values[start + i] = (double) stack.data[x + i];
+                }
+            } else {
+                return false;
+            }
+            ((BasicSequenceStorage) storage).setNewLength(start + n);
+            stack.size = x;
+            return true;
+        }
+
         private void loadGlobal(VirtualFrame frame, PythonContext ctx, PUnpickler self) {
             Object global = null;
             TruffleString globalName;
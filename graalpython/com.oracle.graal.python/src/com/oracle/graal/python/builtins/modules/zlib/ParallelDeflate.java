@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.modules.zlib;
+
+import static com.oracle.graal.python.builtins.modules.zlib.ZLibModuleBuiltins.DEF_BUF_SIZE;
+import static com.oracle.graal.python.builtins.modules.zlib.ZLibModuleBuiltins.MAX_WBITS;
+import static com.oracle.graal.python.builtins.modules.zlib.ZLibModuleBuiltins.Z_BEST_COMPRESSION;
+import static com.oracle.graal.python.builtins.modules.zlib.ZLibModuleBuiltins.Z_BEST_SPEED;
+import static com.oracle.graal.python.builtins.modules.zlib.ZLibModuleBuiltins.Z_DEFAULT_COMPRESSION;
+
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.zip.Adler32;
+import java.util.zip.CRC32;
+import java.util.zip.Checksum;
+import java.util.zip.Deflater;
+
+import com.oracle.graal.python.runtime.PythonContext;
+import com.oracle.graal.python.runtime.PythonOptions;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+
+/**
+ * Block-parallel compression for the one-shot {@code zlib.compress}, in the style of pigz. The
+ * input is split into blocks that are deflated independently, each primed with the last 32K of the
+ * preceding input as preset dictionary. All but the last block end with a sync flush, so that their
+ * raw deflate outputs can simply be concatenated into one valid stream. The zlib or gzip header and
+ * trailer are written around it.
+ */
+final class ParallelDeflate {
+
+    /** The deflate window size, i.e., how much preceding input a block can refer back to. */
+    private static final int WINDOW_SIZE = 1 << MAX_WBITS;
+    /** The smallest block size we use, smaller blocks would make the dictionaries dominate. */
+    private static final int MIN_BLOCK_SIZE = 4 * WINDOW_SIZE;
+
+    private static final int GZIP_WBITS = MAX_WBITS + 16;
+    private static final int OS_UNKNOWN = 255;
+
+    private ParallelDeflate() {
+    }
+
+    /**
+     * Compresses {@code data} in parallel if this is enabled, the input is larger than one block,
+     * and the output format uses the full window, since the header must declare the window size
+     * and we cannot reduce it for the JDK's {@link Deflater}. Does not touch any Python objects, so
+     * it may be called without the GIL.
+     *
+     * @return the compressed data or {@code null} if the caller should compress serially
+     */
+    @TruffleBoundary
+    static byte[] compress(PythonContext context, byte[] data, int length, int level, int wbits) {
+        if (level < Z_DEFAULT_COMPRESSION || level > Z_BEST_COMPRESSION || (wbits != MAX_WBITS && wbits != -MAX_WBITS && wbits != GZIP_WBITS)) {
+            return null;
+        }
+        int blockSize = Math.max(context.getOption(PythonOptions.ParallelCompressionBlockSize), MIN_BLOCK_SIZE);
+        if (length <= blockSize) {
+            return null;
+        }
+        ForkJoinPool pool = context.getCompressionPool();
+        if (pool == null) {
+            return null;
+        }
+        int blocks = (int) ((length + (long) blockSize - 1) / blockSize);
+        @SuppressWarnings("unchecked")
+        ForkJoinTask<byte[]>[] tasks = new ForkJoinTask[blocks];
+        for (int i = 0; i < blocks; i++) {
+            int start = i * blockSize;
+            int end = Math.min(length, start + blockSize);
+            boolean last = i == blocks - 1;
+            tasks[i] = pool.submit(() -> deflateBlock(data, start, end, level, last));
+        }
+        ForkJoinTask<Long> checksum = null;
+        if (wbits == MAX_WBITS) {
+            checksum = pool.submit(() -> checksum(new Adler32(), data, length));
+        } else if (wbits == GZIP_WBITS) {
+            checksum = pool.submit(() -> checksum(new CRC32(), data, length));
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(length / 4);
+        if (wbits == MAX_WBITS) {
+            writeZlibHeader(out, level);
+        } else if (wbits == GZIP_WBITS) {
+            writeGzipHeader(out, level);
+        }
+        for (ForkJoinTask<byte[]> task : tasks) {
+            out.writeBytes(task.join());
+        }
+        if (wbits == MAX_WBITS) {
+            writeInt(out, checksum.join().intValue(), true);
+        } else if (wbits == GZIP_WBITS) {
+            writeInt(out, checksum.join().intValue(), false);
+            writeInt(out, length, false);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] deflateBlock(byte[] data, int start, int end, int level, boolean last) {
+        Deflater deflater = new Deflater(level, true);
+        try {
+            if (start > 0) {
+                int dictStart = Math.max(0, start - WINDOW_SIZE);
+                deflater.setDictionary(data, dictStart, start - dictStart);
+            }
+            deflater.setInput(data, start, end - start);
+            ByteArrayOutputStream out = new ByteArrayOutputStream((end - start) / 4);
+            byte[] buffer = new byte[DEF_BUF_SIZE];
+            if (last) {
+                deflater.finish();
+                while (!deflater.finished()) {
+                    int n = deflater.deflate(buffer);
+                    out.write(buffer, 0, n);
+                }
+            } else {
+                // the sync flush ends the block on a byte boundary without marking it as final
+                int n;
+                do {
+                    n = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+                    out.write(buffer, 0, n);
+                } while (n == buffer.length);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static long checksum(Checksum checksum, byte[] data, int length) {
+        checksum.update(data, 0, length);
+        return checksum.getValue();
+    }
+
+    private static void writeZlibHeader(ByteArrayOutputStream out, int level) {
+        // CM = 8 (deflate), CINFO = 7 (32K window), no preset dictionary
+        int levelFlags;
+        if (level == Z_DEFAULT_COMPRESSION || level == 6) {
+            levelFlags = 2;
+        } else if (level < 2) {
+            levelFlags = 0;
+        } else if (level < 6) {
+            levelFlags = 1;
+        } else {
+            levelFlags = 3;
+        }
+        int header = (0x78 << 8) | (levelFlags << 6);
+        header += 31 - (header % 31);
+        out.write(header >>> 8);
+        out.write(header & 0xff);
+    }
+
+    private static void writeGzipHeader(ByteArrayOutputStream out, int level) {
+        // magic, CM = 8 (deflate), no flags, no modification time
+        out.writeBytes(new byte[]{0x1f, (byte) 0x8b, 8, 0, 0, 0, 0, 0});
+        out.write(level == Z_BEST_COMPRESSION ? 2 : level >= 0 && level <= Z_BEST_SPEED ? 4 : 0);
+        out.write(OS_UNKNOWN);
+    }
+
+    private static void writeInt(ByteArrayOutputStream out, int value, boolean bigEndian) {
+        for (int i = 0; i < 4; i++) {
+            int shift = bigEndian ? 24 - 8 * i : 8 * i;
+            out.write((value >>> shift) & 0xff);
+        }
+    }
+}
@@ -46,6 +46,7 @@ import static com.oracle.graal.python.builtins.modules.zlib.ZLibModuleBuiltins.M
 import static com.oracle.graal.python.builtins.objects.bytes.BytesUtils.mask;
 import static com.oracle.graal.python.runtime.exception.PythonErrorType.ZLibError;
 
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.zip.CRC32;
 import java.util.zip.DataFormatException;
 import java.util.zip.Deflater;
@@ -55,6 +56,7 @@ import com.oracle.graal.python.builtins.objects.bytes.PBytes;
 import com.oracle.graal.python.builtins.objects.object.PythonBuiltinObject;
 import com.oracle.graal.python.nodes.ErrorMessages;
 import com.oracle.graal.python.nodes.PRaiseNode;
+import com.oracle.graal.python.runtime.GilNode;
 import com.oracle.graal.python.runtime.NFIZlibSupport;
 import com.oracle.graal.python.runtime.object.PythonObjectFactory;
 import com.oracle.graal.python.util.PythonUtils;
@@ -64,6 +66,13 @@ import com.oracle.truffle.api.object.Shape;
 
 public abstract class ZLibCompObject extends PythonBuiltinObject {
 
+    /**
+     * Guards the stream state. Large inputs are (de)compressed without the GIL while holding this
+     * lock, so a thread that finds the lock taken releases the GIL while waiting for it, see
+     * {@link #lock(GilNode)}.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
     protected volatile boolean isInitialized;
     private boolean eof;
     private PBytes unusedData;
@@ -77,6 +86,28 @@ public abstract class ZLibCompObject extends PythonBuiltinObject {
         this.unconsumedTail = null;
     }
 
+    /**
+     * Acquires the lock guarding the stream state. Must be called with the GIL held and be followed
+     * by {@link #unlock()}. If another thread holds the lock, we release the GIL while waiting for
+     * it.
+     */
+    @TruffleBoundary
+    final void lock(GilNode gil) {
+        if (!lock.tryLock()) {
+            gil.release(true);
+            try {
+                lock.lock();
+            } finally {
+                gil.acquire();
+            }
+        }
+    }
+
+    @TruffleBoundary
+    final void unlock() {
+        lock.unlock();
+    }
+
     // Note: some IDEs mark this class as inaccessible in PythonObjectFactory, but changing this to
     // public will cause a warning: [this-escape] possible 'this' escape before subclass is fully
     // initialized
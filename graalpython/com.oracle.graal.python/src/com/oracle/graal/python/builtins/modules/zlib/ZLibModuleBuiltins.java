@@ -88,6 +88,7 @@ import com.oracle.graal.python.nodes.function.builtins.PythonTernaryClinicBuilti
 import com.oracle.graal.python.nodes.function.builtins.clinic.ArgumentCastNode;
 import com.oracle.graal.python.nodes.function.builtins.clinic.ArgumentClinicProvider;
 import com.oracle.graal.python.nodes.truffle.PythonArithmeticTypes;
+import com.oracle.graal.python.runtime.GilNode;
 import com.oracle.graal.python.runtime.IndirectCallData;
 import com.oracle.graal.python.runtime.NFIZlibSupport;
 import com.oracle.graal.python.runtime.NativeLibrary;
@@ -114,6 +115,7 @@ import com.oracle.truffle.api.interop.InteropLibrary;
 import com.oracle.truffle.api.interop.UnsupportedMessageException;
 import com.oracle.truffle.api.library.CachedLibrary;
 import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.profiles.InlinedConditionProfile;
 import com.oracle.truffle.api.strings.TruffleString;
 
 @CoreFunctions(defineModule = ZLibModuleBuiltins.J_ZLIB)
@@ -158,6 +160,8 @@ public final class ZLibModuleBuiltins extends PythonBuiltins {
     protected static final int MAX_WBITS = 15;
     protected static final int DEF_MEM_LEVEL = 8;
     protected static final int DEF_BUF_SIZE = 16 * 1024;
+    /*- Inputs at least this large are (de)compressed without holding the GIL */
+    protected static final int GIL_RELEASE_THRESHOLD = DEF_BUF_SIZE;
 
     @Override
     protected List<? extends NodeFactory<? extends PythonBuiltinBaseNode>> getNodeFactories() {
@@ -513,11 +517,24 @@ public final class ZLibModuleBuiltins extends PythonBuiltins {
                         @CachedLibrary(limit = "3") PythonBufferAccessLibrary bufferLib,
                         @Cached("createFor(this)") IndirectCallData indirectCallData,
                         @Cached CompressInnerNode innerNode,
+                        @Cached InlinedConditionProfile largeInputProfile,
+                        @Cached GilNode gil,
                         @Cached PythonObjectFactory factory) {
             try {
                 byte[] bytes = bufferLib.getInternalOrCopiedByteArray(buffer);
                 int len = bufferLib.getBufferLength(buffer);
-                byte[] resultArray = innerNode.execute(inliningTarget, bytes, len, level, wbits);
+                byte[] resultArray = null;
+                if (largeInputProfile.profile(inliningTarget, len >= GIL_RELEASE_THRESHOLD)) {
+                    gil.release(true);
+                    try {
+                        resultArray = ParallelDeflate.compress(PythonContext.get(inliningTarget), bytes, len, level, wbits);
+                    } finally {
+                        gil.acquire();
+                    }
+                }
+                if (resultArray == null) {
+                    resultArray = innerNode.execute(inliningTarget, bytes, len, level, wbits);
+                }
                 return factory.createBytes(resultArray);
             } finally {
                 bufferLib.release(buffer, frame, indirectCallData);
@@ -541,8 +558,21 @@ public final class ZLibModuleBuiltins extends PythonBuiltins {
             }
 
             @Specialization(guards = "!useNative()")
+            static byte[] doJava(byte[] bytes, int length, int level, int wbits,
+                            @Cached GilNode gil) {
+                if (length >= GIL_RELEASE_THRESHOLD) {
+                    gil.release(true);
+                    try {
+                        return deflate(bytes, length, level, wbits);
+                    } finally {
+                        gil.acquire();
+                    }
+                }
+                return deflate(bytes, length, level, wbits);
+            }
+
             @TruffleBoundary
-            static byte[] doJava(byte[] bytes, int length, int level, int wbits) {
+            private static byte[] deflate(byte[] bytes, int length, int level, int wbits) {
                 Deflater compresser = new Deflater(level, wbits < 0 || wbits > (MAX_WBITS + 9));
                 compresser.setInput(bytes, 0, length);
                 compresser.finish();
@@ -609,29 +639,56 @@ public final class ZLibModuleBuiltins extends PythonBuiltins {
             }
 
             @Specialization(guards = "!useNative()")
+            static byte[] doJava(Node inliningTarget, byte[] bytes, int length, int wbits, int bufsize,
+                            @Cached GilNode gil,
+                            @Cached PRaiseNode.Lazy raiseNode) {
+                byte[] result;
+                try {
+                    if (length >= GIL_RELEASE_THRESHOLD) {
+                        gil.release(true);
+                        try {
+                            result = inflate(bytes, length, wbits, bufsize);
+                        } finally {
+                            gil.acquire();
+                        }
+                    } else {
+                        result = inflate(bytes, length, wbits, bufsize);
+                    }
+                } catch (DataFormatException e) {
+                    throw raiseNode.get(inliningTarget).raise(ZLibError, ErrorMessages.WHILE_PREPARING_TO_S_DATA, "decompress");
+                }
+                if (result == null) {
+                    throw raiseNode.get(inliningTarget).raise(ZLibError, ErrorMessages.ERROR_5_WHILE_DECOMPRESSING);
+                }
+                return result;
+            }
+
+            /**
+             * Returns {@code null} if the input is incomplete. Does not raise Python exceptions, so
+             * that it can run without the GIL.
+             */
             @TruffleBoundary
-            static byte[] doJava(Node inliningTarget, byte[] bytes, int length, int wbits, int bufsize) {
+            private static byte[] inflate(byte[] bytes, int length, int wbits, int bufsize) throws DataFormatException {
+                int bufsize1 = bufsize == 0 ? 1 : bufsize;
+                // zlib can decompress all those formats:
+                // to (de-)compress deflate format, use wbits = -zlib.MAX_WBITS
+                // to (de-)compress zlib format, use wbits = zlib.MAX_WBITS
+                // to (de-)compress gzip format, use wbits = zlib.MAX_WBITS | 16
+                Inflater decompresser = new Inflater(wbits < 0 || (wbits & 16) == 16);
                 try {
-                    int bufsize1 = bufsize == 0 ? 1 : bufsize;
-                    // zlib can decompress all those formats:
-                    // to (de-)compress deflate format, use wbits = -zlib.MAX_WBITS
-                    // to (de-)compress zlib format, use wbits = zlib.MAX_WBITS
-                    // to (de-)compress gzip format, use wbits = zlib.MAX_WBITS | 16
-                    Inflater decompresser = new Inflater(wbits < 0 || (wbits & 16) == 16);
                     decompresser.setInput(bytes, 0, length);
                     byte[] resultArray = new byte[bufsize1];
                     ByteArrayOutputStream baos = new ByteArrayOutputStream();
                     while (!decompresser.finished()) {
                         int howmany = decompresser.inflate(resultArray);
                         if (howmany == 0 && decompresser.needsInput()) {
-                            throw PRaiseNode.raiseUncached(inliningTarget, ZLibError, ErrorMessages.ERROR_5_WHILE_DECOMPRESSING);
+                            return null;
                         }
                         baos.write(resultArray, 0, howmany);
                     }
-                    decompresser.end();
                     return baos.toByteArray();
-                } catch (DataFormatException e) {
-                    throw PRaiseNode.raiseUncached(inliningTarget, ZLibError, ErrorMessages.WHILE_PREPARING_TO_S_DATA, "decompress");
+                } finally {
+                    decompresser.end();
                 }
             }
         }
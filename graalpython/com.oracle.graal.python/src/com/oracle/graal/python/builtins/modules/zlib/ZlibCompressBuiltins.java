@@ -43,6 +43,7 @@ package com.oracle.graal.python.builtins.modules.zlib;
 import static com.oracle.graal.python.builtins.PythonBuiltinClassType.NotImplementedError;
 import static com.oracle.graal.python.builtins.PythonBuiltinClassType.ZlibCompress;
 import static com.oracle.graal.python.builtins.modules.zlib.ZLibModuleBuiltins.DEF_BUF_SIZE;
+import static com.oracle.graal.python.builtins.modules.zlib.ZLibModuleBuiltins.GIL_RELEASE_THRESHOLD;
 import static com.oracle.graal.python.builtins.modules.zlib.ZLibModuleBuiltins.Z_NO_FLUSH;
 import static com.oracle.graal.python.builtins.modules.zlib.ZlibNodes.Z_OK;
 import static com.oracle.graal.python.builtins.modules.zlib.ZlibNodes.Z_STREAM_ERROR;
@@ -70,13 +71,13 @@ import com.oracle.graal.python.nodes.function.builtins.PythonBinaryBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonBinaryClinicBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.clinic.ArgumentClinicProvider;
+import com.oracle.graal.python.runtime.GilNode;
 import com.oracle.graal.python.runtime.IndirectCallData;
 import com.oracle.graal.python.runtime.NFIZlibSupport;
 import com.oracle.graal.python.runtime.NativeLibrary;
 import com.oracle.graal.python.runtime.PythonContext;
 import com.oracle.graal.python.runtime.object.PythonObjectFactory;
 import com.oracle.graal.python.util.PythonUtils;
-import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.dsl.Bind;
 import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.Cached.Shared;
@@ -129,17 +130,35 @@ public final class ZlibCompressBuiltins extends PythonBuiltins {
 
             @Specialization
             static byte[] doNative(Node inliningTarget, ZLibCompObject.NativeZlibCompObject self, byte[] bytes, int length,
-                            @Cached ZlibNodes.ZlibNativeCompressObj compressObj) {
-                synchronized (self) {
+                            @Cached ZlibNodes.ZlibNativeCompressObj compressObj,
+                            @Shared @Cached GilNode gil) {
+                self.lock(gil);
+                try {
                     return compressObj.execute(inliningTarget, self, PythonContext.get(inliningTarget), bytes, length);
+                } finally {
+                    self.unlock();
                 }
             }
 
             @Specialization
-            @TruffleBoundary
-            static byte[] doJava(ZLibCompObject.JavaZlibCompObject self, byte[] bytes, int length) {
-                self.setDeflaterInput(bytes, length);
-                return JavaCompressNode.execute(self, Z_NO_FLUSH);
+            static byte[] doJava(ZLibCompObject.JavaZlibCompObject self, byte[] bytes, int length,
+                            @Shared @Cached GilNode gil) {
+                self.lock(gil);
+                try {
+                    if (length >= GIL_RELEASE_THRESHOLD) {
+                        gil.release(true);
+                        try {
+                            self.setDeflaterInput(bytes, length);
+                            return JavaCompressNode.execute(self, Z_NO_FLUSH);
+                        } finally {
+                            gil.acquire();
+                        }
+                    }
+                    self.setDeflaterInput(bytes, length);
+                    return JavaCompressNode.execute(self, Z_NO_FLUSH);
+                } finally {
+                    self.unlock();
+                }
             }
         }
 
@@ -160,8 +179,10 @@ public final class ZlibCompressBuiltins extends PythonBuiltins {
                         @Cached(inline = false) NativeLibrary.InvokeNativeFunction createCompObject,
                         @Cached(inline = false) NativeLibrary.InvokeNativeFunction compressObjCopy,
                         @Cached(inline = false) NativeLibrary.InvokeNativeFunction deallocateStream,
-                        @Cached ZlibNodes.ZlibNativeErrorHandling errorHandling) {
-            synchronized (self) {
+                        @Cached ZlibNodes.ZlibNativeErrorHandling errorHandling,
+                        @Shared @Cached GilNode gil) {
+            self.lock(gil);
+            try {
                 assert self.isInitialized();
                 NFIZlibSupport zlibSupport = ctxt.getNFIZlibSupport();
                 Object zstNewCopy = zlibSupport.createCompObject(createCompObject);
@@ -171,12 +192,20 @@ public final class ZlibCompressBuiltins extends PythonBuiltins {
                     errorHandling.execute(inliningTarget, self.getZst(), err, zlibSupport, false);
                 }
                 return factory.createNativeZLibCompObject(ZlibCompress, zstNewCopy, zlibSupport);
+            } finally {
+                self.unlock();
             }
         }
 
         @Specialization(guards = {"self.isInitialized()", "self.canCopy()"})
-        static Object doJava(ZLibCompObject.JavaZlibCompObject self, @SuppressWarnings("unused") PythonContext ctxt, PythonObjectFactory factory) {
-            return self.copyCompressObj(factory);
+        static Object doJava(ZLibCompObject.JavaZlibCompObject self, @SuppressWarnings("unused") PythonContext ctxt, PythonObjectFactory factory,
+                        @Shared @Cached GilNode gil) {
+            self.lock(gil);
+            try {
+                return self.copyCompressObj(factory);
+            } finally {
+                self.unlock();
+            }
         }
 
         @SuppressWarnings("unused")
@@ -249,8 +278,10 @@ public final class ZlibCompressBuiltins extends PythonBuiltins {
                         @Cached NativeLibrary.InvokeNativeFunction getIsInitialised,
                         @Cached ZlibNodes.NativeDeallocation processDeallocation,
                         @Cached ZlibNodes.ZlibNativeErrorHandling errorHandling,
+                        @Shared @Cached GilNode gil,
                         @Shared @Cached PythonObjectFactory factory) {
-            synchronized (self) {
+            self.lock(gil);
+            try {
                 assert self.isInitialized();
                 PythonContext ctxt = PythonContext.get(inliningTarget);
                 NFIZlibSupport zlibSupport = ctxt.getNFIZlibSupport();
@@ -273,13 +304,23 @@ public final class ZlibCompressBuiltins extends PythonBuiltins {
                     processDeallocation.execute(inliningTarget, self, ctxt, factory, true);
                 }
                 return factory.createBytes(resultArray);
+            } finally {
+                self.unlock();
             }
         }
 
         @Specialization(guards = {"mode != Z_NO_FLUSH", "self.isInitialized()"})
         static PBytes doit(ZLibCompObject.JavaZlibCompObject self, int mode,
+                        @Shared @Cached GilNode gil,
                         @Shared @Cached PythonObjectFactory factory) {
-            return factory.createBytes(ZlibNodes.JavaCompressNode.execute(self, mode));
+            byte[] result;
+            self.lock(gil);
+            try {
+                result = ZlibNodes.JavaCompressNode.execute(self, mode);
+            } finally {
+                self.unlock();
+            }
+            return factory.createBytes(result);
         }
 
         @SuppressWarnings("unused")
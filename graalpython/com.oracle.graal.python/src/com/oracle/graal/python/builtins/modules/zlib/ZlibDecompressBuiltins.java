@@ -71,6 +71,7 @@ import com.oracle.graal.python.nodes.function.builtins.PythonBinaryClinicBuiltin
 import com.oracle.graal.python.nodes.function.builtins.PythonTernaryClinicBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.clinic.ArgumentClinicProvider;
+import com.oracle.graal.python.runtime.GilNode;
 import com.oracle.graal.python.runtime.IndirectCallData;
 import com.oracle.graal.python.runtime.NFIZlibSupport;
 import com.oracle.graal.python.runtime.NativeLibrary;
@@ -138,17 +139,27 @@ public final class ZlibDecompressBuiltins extends PythonBuiltins {
 
             @Specialization
             static byte[] doNative(Node inliningTarget, ZLibCompObject.NativeZlibCompObject self, byte[] bytes, int length, int maxLength,
-                            @Cached ZlibNodes.ZlibNativeDecompressObj decompressObj) {
-                synchronized (self) {
+                            @Cached ZlibNodes.ZlibNativeDecompressObj decompressObj,
+                            @Shared @Cached GilNode gil) {
+                self.lock(gil);
+                try {
                     return decompressObj.execute(inliningTarget, self, PythonContext.get(inliningTarget), bytes, length, maxLength);
+                } finally {
+                    self.unlock();
                 }
             }
 
             @Specialization
             static byte[] doJava(VirtualFrame frame, Node inliningTarget, ZLibCompObject.JavaZlibCompObject self, byte[] bytes, int length, int maxLength,
                             @Cached(inline = false) BytesNodes.ToBytesNode toBytes,
-                            @Cached(inline = false) PythonObjectFactory factory) {
-                return ZlibNodes.JavaDecompressor.execute(frame, self, bytes, length, maxLength, DEF_BUF_SIZE, inliningTarget, factory, toBytes);
+                            @Cached(inline = false) PythonObjectFactory factory,
+                            @Shared @Cached GilNode gil) {
+                self.lock(gil);
+                try {
+                    return ZlibNodes.JavaDecompressor.execute(frame, self, bytes, length, maxLength, DEF_BUF_SIZE, inliningTarget, factory, toBytes, gil);
+                } finally {
+                    self.unlock();
+                }
             }
         }
     }
@@ -164,8 +175,10 @@ public final class ZlibDecompressBuiltins extends PythonBuiltins {
                         @Cached(inline = false) NativeLibrary.InvokeNativeFunction createCompObject,
                         @Cached(inline = false) NativeLibrary.InvokeNativeFunction decompressObjCopy,
                         @Cached(inline = false) NativeLibrary.InvokeNativeFunction deallocateStream,
-                        @Cached ZlibNodes.ZlibNativeErrorHandling errorHandling) {
-            synchronized (self) {
+                        @Cached ZlibNodes.ZlibNativeErrorHandling errorHandling,
+                        @Shared @Cached GilNode gil) {
+            self.lock(gil);
+            try {
                 assert self.isInitialized();
                 NFIZlibSupport zlibSupport = ctxt.getNFIZlibSupport();
                 Object zstNewCopy = zlibSupport.createCompObject(createCompObject);
@@ -177,12 +190,20 @@ public final class ZlibDecompressBuiltins extends PythonBuiltins {
                 ZLibCompObject copy = factory.createNativeZLibCompObject(ZlibDecompress, zstNewCopy, zlibSupport);
                 copy.setEof(self.isEof());
                 return copy;
+            } finally {
+                self.unlock();
             }
         }
 
         @Specialization(guards = {"self.isInitialized()", "self.canCopy()"})
-        static Object doJava(Node inliningTarget, ZLibCompObject.JavaZlibCompObject self, @SuppressWarnings("unused") PythonContext ctxt, PythonObjectFactory factory) {
-            return self.copyDecompressObj(factory, inliningTarget);
+        static Object doJava(Node inliningTarget, ZLibCompObject.JavaZlibCompObject self, @SuppressWarnings("unused") PythonContext ctxt, PythonObjectFactory factory,
+                        @Shared @Cached GilNode gil) {
+            self.lock(gil);
+            try {
+                return self.copyDecompressObj(factory, inliningTarget);
+            } finally {
+                self.unlock();
+            }
         }
 
         @SuppressWarnings("unused")
@@ -247,8 +268,10 @@ public final class ZlibDecompressBuiltins extends PythonBuiltins {
                         @Cached NativeLibrary.InvokeNativeFunction getIsInitialised,
                         @Cached ZlibNodes.NativeDeallocation processDeallocation,
                         @Cached ZlibNodes.ZlibNativeErrorHandling errorHandling,
+                        @Shared @Cached GilNode gil,
                         @Shared @Cached PythonObjectFactory factory) {
-            synchronized (self) {
+            self.lock(gil);
+            try {
                 PythonContext ctxt = PythonContext.get(inliningTarget);
                 assert self.isInitialized();
                 NFIZlibSupport zlibSupport = ctxt.getNFIZlibSupport();
@@ -261,20 +284,26 @@ public final class ZlibDecompressBuiltins extends PythonBuiltins {
                     processDeallocation.execute(inliningTarget, self, ctxt, factory, false);
                 }
                 return factory.createBytes(resultArray);
+            } finally {
+                self.unlock();
             }
         }
 
         @Specialization(guards = {"length > 0", "!self.isEof()", "self.isInitialized()"})
         PBytes doit(VirtualFrame frame, ZLibCompObject.JavaZlibCompObject self, int length,
                         @Cached BytesNodes.ToBytesNode toBytes,
+                        @Shared @Cached GilNode gil,
                         @Shared @Cached PythonObjectFactory factory) {
             byte[] res;
+            self.lock(gil);
             try {
                 byte[] bytes = toBytes.execute(self.getUnconsumedTail());
-                res = ZlibNodes.JavaDecompressor.execute(frame, self, bytes, bytes.length, 0, length, this, factory, toBytes);
+                res = ZlibNodes.JavaDecompressor.execute(frame, self, bytes, bytes.length, 0, length, this, factory, toBytes, gil);
             } catch (PException e) {
                 // CPython ignores errors here
                 res = PythonUtils.EMPTY_BYTE_ARRAY;
+            } finally {
+                self.unlock();
             }
             self.setUninitialized();
             return factory.createBytes(res);
@@ -310,10 +339,14 @@ public final class ZlibDecompressBuiltins extends PythonBuiltins {
         static PBytes doit(ZLibCompObject.NativeZlibCompObject self,
                         @Bind("this") Node inliningTarget,
                         @Cached ZlibNodes.GetNativeBufferNode getBuffer,
+                        @Cached GilNode gil,
                         @Cached PythonObjectFactory factory) {
-            synchronized (self) {
+            self.lock(gil);
+            try {
                 assert self.isInitialized();
                 return factory.createBytes(getBuffer.getUnusedDataBuffer(inliningTarget, self.getZst(), PythonContext.get(inliningTarget)));
+            } finally {
+                self.unlock();
             }
         }
 
@@ -335,10 +368,14 @@ public final class ZlibDecompressBuiltins extends PythonBuiltins {
         static PBytes doit(ZLibCompObject.NativeZlibCompObject self,
                         @Bind("this") Node inliningTarget,
                         @Cached ZlibNodes.GetNativeBufferNode getBuffer,
+                        @Cached GilNode gil,
                         @Cached PythonObjectFactory factory) {
-            synchronized (self) {
+            self.lock(gil);
+            try {
                 assert self.isInitialized();
                 return factory.createBytes(getBuffer.getUnconsumedTailBuffer(inliningTarget, self.getZst(), PythonContext.get(inliningTarget)));
+            } finally {
+                self.unlock();
             }
         }
 
@@ -363,12 +400,16 @@ public final class ZlibDecompressBuiltins extends PythonBuiltins {
 
         @Specialization(guards = {"!self.isEof()", "self.isInitialized()"})
         boolean getit(ZLibCompObject.NativeZlibCompObject self,
-                        @Cached NativeLibrary.InvokeNativeFunction getEOF) {
-            synchronized (self) {
+                        @Cached NativeLibrary.InvokeNativeFunction getEOF,
+                        @Cached GilNode gil) {
+            self.lock(gil);
+            try {
                 assert self.isInitialized();
                 NFIZlibSupport zlibSupport = PythonContext.get(this).getNFIZlibSupport();
                 self.setEof(zlibSupport.getEOF(self.getZst(), getEOF) == 1);
                 return self.isEof();
+            } finally {
+                self.unlock();
             }
         }
 
@@ -41,6 +41,7 @@
 package com.oracle.graal.python.builtins.modules.zlib;
 
 import static com.oracle.graal.python.builtins.modules.zlib.ZLibModuleBuiltins.DEF_BUF_SIZE;
+import static com.oracle.graal.python.builtins.modules.zlib.ZLibModuleBuiltins.GIL_RELEASE_THRESHOLD;
 import static com.oracle.graal.python.builtins.modules.zlib.ZLibModuleBuiltins.Z_FINISH;
 import static com.oracle.graal.python.builtins.modules.zlib.ZLibModuleBuiltins.Z_SYNC_FLUSH;
 import static com.oracle.graal.python.nodes.ErrorMessages.CANT_ALLOCATE_MEMORY_FOR_S_OBJECT;
@@ -79,6 +80,7 @@ import com.oracle.graal.python.builtins.objects.str.StringUtils.SimpleTruffleStr
 import com.oracle.graal.python.nodes.ErrorMessages;
 import com.oracle.graal.python.nodes.PNodeWithContext;
 import com.oracle.graal.python.nodes.PRaiseNode;
+import com.oracle.graal.python.runtime.GilNode;
 import com.oracle.graal.python.runtime.NFIZlibSupport;
 import com.oracle.graal.python.runtime.NativeLibrary;
 import com.oracle.graal.python.runtime.PythonContext;
@@ -130,10 +132,22 @@ public class ZlibNodes {
         static byte[] nativeCompress(Node inliningTarget, ZLibCompObject.NativeZlibCompObject self, PythonContext context, byte[] bytes, int len,
                         @Cached(inline = false) NativeLibrary.InvokeNativeFunction compressObj,
                         @Cached GetNativeBufferNode getBuffer,
-                        @Cached ZlibNativeErrorHandling errorHandling) {
+                        @Cached ZlibNativeErrorHandling errorHandling,
+                        @Cached GilNode gil) {
             NFIZlibSupport zlibSupport = context.getNFIZlibSupport();
             self.lastInput = context.getEnv().asGuestValue(bytes);
-            int err = zlibSupport.compressObj(self.getZst(), self.lastInput, len, DEF_BUF_SIZE, compressObj);
+            boolean releaseGil = len >= GIL_RELEASE_THRESHOLD;
+            if (releaseGil) {
+                gil.release(true);
+            }
+            int err;
+            try {
+                err = zlibSupport.compressObj(self.getZst(), self.lastInput, len, DEF_BUF_SIZE, compressObj);
+            } finally {
+                if (releaseGil) {
+                    gil.acquire();
+                }
+            }
             if (err != Z_OK) {
                 errorHandling.execute(inliningTarget, self.getZst(), err, zlibSupport, false);
             }
@@ -154,12 +168,24 @@ public class ZlibNodes {
                         @Cached(inline = false) NativeLibrary.InvokeNativeFunction deallocateStream,
                         @Cached(inline = false) NativeLibrary.InvokeNativeFunction deflateOffHeap,
                         @Cached GetNativeBufferNode getBuffer,
-                        @Cached ZlibNativeErrorHandling errorHandling) {
+                        @Cached ZlibNativeErrorHandling errorHandling,
+                        @Cached GilNode gil) {
             PythonContext context = PythonContext.get(inliningTarget);
             NFIZlibSupport zlibSupport = context.getNFIZlibSupport();
             Object in = context.getEnv().asGuestValue(bytes);
             Object zst = zlibSupport.createStream(createStream);
-            int err = zlibSupport.deflateOffHeap(zst, in, len, DEF_BUF_SIZE, level, wbits, deflateOffHeap);
+            boolean releaseGil = len >= GIL_RELEASE_THRESHOLD;
+            if (releaseGil) {
+                gil.release(true);
+            }
+            int err;
+            try {
+                err = zlibSupport.deflateOffHeap(zst, in, len, DEF_BUF_SIZE, level, wbits, deflateOffHeap);
+            } finally {
+                if (releaseGil) {
+                    gil.acquire();
+                }
+            }
             if (err != Z_OK) {
                 errorHandling.execute(inliningTarget, zst, err, zlibSupport, true);
             }
@@ -179,10 +205,22 @@ public class ZlibNodes {
         static byte[] nativeDecompress(Node inliningTarget, ZLibCompObject.NativeZlibCompObject self, PythonContext context, byte[] bytes, int len, int maxLength,
                         @Cached(inline = false) NativeLibrary.InvokeNativeFunction decompressObj,
                         @Cached GetNativeBufferNode getBuffer,
-                        @Cached ZlibNativeErrorHandling errorHandling) {
+                        @Cached ZlibNativeErrorHandling errorHandling,
+                        @Cached GilNode gil) {
             NFIZlibSupport zlibSupport = context.getNFIZlibSupport();
             Object in = context.getEnv().asGuestValue(bytes);
-            int err = zlibSupport.decompressObj(self.getZst(), in, len, DEF_BUF_SIZE, maxLength, decompressObj);
+            boolean releaseGil = len >= GIL_RELEASE_THRESHOLD;
+            if (releaseGil) {
+                gil.release(true);
+            }
+            int err;
+            try {
+                err = zlibSupport.decompressObj(self.getZst(), in, len, DEF_BUF_SIZE, maxLength, decompressObj);
+            } finally {
+                if (releaseGil) {
+                    gil.acquire();
+                }
+            }
             if (err != Z_OK) {
                 errorHandling.execute(inliningTarget, self.getZst(), err, zlibSupport, false);
             }
@@ -203,11 +241,23 @@ public class ZlibNodes {
                         @Cached(inline = false) NativeLibrary.InvokeNativeFunction deallocateStream,
                         @Cached(inline = false) NativeLibrary.InvokeNativeFunction inflateOffHeap,
                         @Cached GetNativeBufferNode getBuffer,
-                        @Cached ZlibNativeErrorHandling errorHandling) {
+                        @Cached ZlibNativeErrorHandling errorHandling,
+                        @Cached GilNode gil) {
             NFIZlibSupport zlibSupport = context.getNFIZlibSupport();
             Object zst = zlibSupport.createStream(createStream);
             Object in = context.getEnv().asGuestValue(bytes);
-            int err = zlibSupport.inflateOffHeap(zst, in, len, bufsize, wbits, inflateOffHeap);
+            boolean releaseGil = len >= GIL_RELEASE_THRESHOLD;
+            if (releaseGil) {
+                gil.release(true);
+            }
+            int err;
+            try {
+                err = zlibSupport.inflateOffHeap(zst, in, len, bufsize, wbits, inflateOffHeap);
+            } finally {
+                if (releaseGil) {
+                    gil.acquire();
+                }
+            }
             if (err != Z_OK) {
                 errorHandling.execute(inliningTarget, zst, err, zlibSupport, true);
             }
@@ -560,33 +610,59 @@ public class ZlibNodes {
         }
     }
 
+    /**
+     * Inflates into the stream of a {@link ZLibCompObject.JavaZlibCompObject}. The caller must hold
+     * the {@linkplain ZLibCompObject#lock(GilNode) lock} of the object.
+     */
     static final class JavaDecompressor {
         @TruffleBoundary
-        private static byte[] createByteArray(ZLibCompObject.JavaZlibCompObject self, Inflater inflater, byte[] bytes, int length, int maxLength, int bufSize, Node nodeForRaise) {
+        private static byte[] createByteArray(ZLibCompObject.JavaZlibCompObject self, Inflater inflater, byte[] bytes, int length, int maxLength, int bufSize, Node nodeForRaise,
+                        GilNode gil) {
+            self.setInflaterInput(bytes, length, nodeForRaise);
+            byte[] result;
+            try {
+                if (length >= GIL_RELEASE_THRESHOLD) {
+                    // only the inflating itself, errors are raised after re-acquiring the GIL
+                    gil.release(true);
+                    try {
+                        result = inflate(self, inflater, maxLength, bufSize);
+                    } finally {
+                        gil.acquire();
+                    }
+                } else {
+                    result = inflate(self, inflater, maxLength, bufSize);
+                }
+            } catch (DataFormatException e) {
+                throw PRaiseNode.raiseUncached(nodeForRaise, ZLibError, e);
+            }
+            if (inflater.needsDictionary()) {
+                throw PRaiseNode.raiseUncached(nodeForRaise, ZLibError, WHILE_SETTING_ZDICT);
+            }
+            return result;
+        }
+
+        /**
+         * Does not raise Python exceptions, so that it can run without the GIL. A missing
+         * dictionary is reported through {@link Inflater#needsDictionary()}.
+         */
+        private static byte[] inflate(ZLibCompObject.JavaZlibCompObject self, Inflater inflater, int maxLength, int bufSize) throws DataFormatException {
             int maxLen = maxLength == 0 ? Integer.MAX_VALUE : maxLength;
             byte[] result = new byte[Math.min(maxLen, bufSize)];
             boolean zdictIsSet = false;
 
-            self.setInflaterInput(bytes, length, nodeForRaise);
-
             int bytesWritten = result.length;
             ByteArrayOutputStream baos = new ByteArrayOutputStream();
             while (baos.size() < maxLen && bytesWritten == result.length) {
-                try {
-                    int len = Math.min(maxLen - baos.size(), result.length);
-                    bytesWritten = inflater.inflate(result, 0, len);
-                    if (bytesWritten == 0 && !zdictIsSet && inflater.needsDictionary()) {
-                        if (self.getZdict().length > 0) {
-                            inflater.setDictionary(self.getZdict());
-                            zdictIsSet = true;
-                            // we inflate again with a dictionary
-                            bytesWritten = inflater.inflate(result, 0, len);
-                        } else {
-                            throw PRaiseNode.raiseUncached(nodeForRaise, ZLibError, WHILE_SETTING_ZDICT);
-                        }
+                int len = Math.min(maxLen - baos.size(), result.length);
+                bytesWritten = inflater.inflate(result, 0, len);
+                if (bytesWritten == 0 && !zdictIsSet && inflater.needsDictionary()) {
+                    if (self.getZdict().length == 0) {
+                        break;
                     }
-                } catch (DataFormatException e) {
-                    throw PRaiseNode.raiseUncached(nodeForRaise, ZLibError, e);
+                    inflater.setDictionary(self.getZdict());
+                    zdictIsSet = true;
+                    // we inflate again with a dictionary
+                    bytesWritten = inflater.inflate(result, 0, len);
                 }
                 baos.write(result, 0, bytesWritten);
             }
@@ -594,9 +670,9 @@ public class ZlibNodes {
         }
 
         public static byte[] execute(VirtualFrame frame, ZLibCompObject.JavaZlibCompObject self, byte[] bytes, int length, int maxLength, int bufSize,
-                        Node nodeForRaise, PythonObjectFactory factory, BytesNodes.ToBytesNode toBytesNode) {
+                        Node nodeForRaise, PythonObjectFactory factory, BytesNodes.ToBytesNode toBytesNode, GilNode gil) {
             Inflater inflater = (Inflater) self.stream;
-            byte[] result = createByteArray(self, inflater, bytes, length, maxLength, bufSize, nodeForRaise);
+            byte[] result = createByteArray(self, inflater, bytes, length, maxLength, bufSize, nodeForRaise, gil);
             self.setEof(isFinished(inflater));
             byte[] unusedDataBytes = toBytesNode.execute(frame, self.getUnusedData());
             int unconsumedTailLen = self.getUnconsumedTail().getSequenceStorage().length();
@@ -0,0 +1,744 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.asyncio;
+
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.TypeError;
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.ValueError;
+import static com.oracle.graal.python.nodes.SpecialMethodNames.J___AWAIT__;
+import static com.oracle.graal.python.nodes.SpecialMethodNames.J___CLASS_GETITEM__;
+import static com.oracle.graal.python.nodes.SpecialMethodNames.J___DEL__;
+import static com.oracle.graal.python.nodes.SpecialMethodNames.J___INIT__;
+import static com.oracle.graal.python.nodes.SpecialMethodNames.J___ITER__;
+import static com.oracle.graal.python.nodes.SpecialMethodNames.J___REPR__;
+import static com.oracle.graal.python.util.PythonUtils.toTruffleStringUncached;
+import static com.oracle.graal.python.util.PythonUtils.tsLiteral;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.oracle.graal.python.builtins.Builtin;
+import com.oracle.graal.python.builtins.CoreFunctions;
+import com.oracle.graal.python.builtins.PythonBuiltinClassType;
+import com.oracle.graal.python.builtins.PythonBuiltins;
+import com.oracle.graal.python.builtins.modules.AsyncioModuleBuiltins;
+import com.oracle.graal.python.builtins.modules.AsyncioModuleBuiltins.GetEventLoop;
+import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.builtins.objects.dict.PDict;
+import com.oracle.graal.python.builtins.objects.exception.ExceptionNodes;
+import com.oracle.graal.python.builtins.objects.function.PKeyword;
+import com.oracle.graal.python.builtins.objects.type.TypeNodes;
+import com.oracle.graal.python.lib.PyDictSetItem;
+import com.oracle.graal.python.lib.PyExceptionInstanceCheckNode;
+import com.oracle.graal.python.lib.PyObjectCallMethodObjArgs;
+import com.oracle.graal.python.lib.PyObjectGetAttr;
+import com.oracle.graal.python.lib.PyObjectIsTrueNode;
+import com.oracle.graal.python.lib.PyObjectRichCompareBool;
+import com.oracle.graal.python.nodes.ErrorMessages;
+import com.oracle.graal.python.nodes.PGuards;
+import com.oracle.graal.python.nodes.PRaiseNode;
+import com.oracle.graal.python.nodes.WriteUnraisableNode;
+import com.oracle.graal.python.nodes.call.CallNode;
+import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonBinaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonTernaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
+import com.oracle.graal.python.nodes.object.BuiltinClassProfiles.IsBuiltinObjectExactProfile;
+import com.oracle.graal.python.nodes.object.GetClassNode;
+import com.oracle.graal.python.runtime.PythonContext;
+import com.oracle.graal.python.runtime.exception.PException;
+import com.oracle.graal.python.runtime.formatting.ErrorMessageFormatter;
+import com.oracle.graal.python.runtime.object.PythonObjectFactory;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.dsl.Bind;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.GenerateCached;
+import com.oracle.truffle.api.dsl.GenerateInline;
+import com.oracle.truffle.api.dsl.GenerateNodeFactory;
+import com.oracle.truffle.api.dsl.NodeFactory;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.profiles.InlinedConditionProfile;
+import com.oracle.truffle.api.strings.TruffleString;
+
+@CoreFunctions(extendClasses = PythonBuiltinClassType.PFuture)
+public final class FutureBuiltins extends PythonBuiltins {
+
+    static final TruffleString T_CALL_SOON = tsLiteral("call_soon");
+    static final TruffleString T_CONTEXT = tsLiteral("context");
+    private static final TruffleString T_GET_DEBUG = tsLiteral("get_debug");
+    private static final TruffleString T_POP = tsLiteral("pop");
+    private static final TruffleString T_CALL_EXCEPTION_HANDLER = tsLiteral("call_exception_handler");
+    static final TruffleString T_MESSAGE = tsLiteral("message");
+    private static final TruffleString T_EXCEPTION = tsLiteral("exception");
+    private static final TruffleString T_FUTURE = tsLiteral("future");
+    private static final TruffleString T_SOURCE_TRACEBACK = tsLiteral("source_traceback");
+
+    @Override
+    protected List<? extends NodeFactory<? extends PythonBuiltinBaseNode>> getNodeFactories() {
+        return FutureBuiltinsFactory.getFactories();
+    }
+
+    static void ensureAlive(Node inliningTarget, PFuture self, PRaiseNode.Lazy raiseNode) {
+        if (!self.isInitialized()) {
+            throw invalidState(inliningTarget, ErrorMessages.FUTURE_NOT_INITIALIZED, raiseNode);
+        }
+    }
+
+    static PException invalidState(Node inliningTarget, TruffleString message, PRaiseNode.Lazy raiseNode) {
+        return invalidState(inliningTarget, message, null, raiseNode);
+    }
+
+    static PException invalidState(Node inliningTarget, TruffleString format, Object[] args, PRaiseNode.Lazy raiseNode) {
+        return raiseNode.get(inliningTarget).raiseExceptionObject(createInvalidStateError(inliningTarget, format, args));
+    }
+
+    @TruffleBoundary
+    private static Object createInvalidStateError(Node inliningTarget, TruffleString format, Object[] args) {
+        Object cls = AsyncioModuleBuiltins.getModuleState(PythonContext.get(inliningTarget)).getInvalidStateError();
+        Object message = args == null ? format : toTruffleStringUncached(ErrorMessageFormatter.format(format, args));
+        return CallNode.getUncached().execute(cls, message);
+    }
+
+    /**
+     * Equivalent of {@code FutureObj_finalize} in CPython: reports an exception that was set but
+     * never retrieved to the loop's exception handler.
+     */
+    @TruffleBoundary
+    static void finalizeFuture(PFuture self) {
+        if (!self.isLogTraceback()) {
+            return;
+        }
+        self.setLogTraceback(false);
+        TruffleString typeName = TypeNodes.GetNameNode.executeUncached(GetClassNode.executeUncached(self));
+        PDict context = PythonObjectFactory.getUncached().createDict();
+        PyDictSetItem.executeUncached(context, T_MESSAGE, toTruffleStringUncached(typeName.toJavaStringUncached() + " exception was never retrieved"));
+        PyDictSetItem.executeUncached(context, T_EXCEPTION, self.getException());
+        PyDictSetItem.executeUncached(context, T_FUTURE, self);
+        callExceptionHandler(self, context);
+    }
+
+    /**
+     * Calls {@code loop.call_exception_handler(context)} from a finalizer, adding the source
+     * traceback of the future to the context. Errors are reported as unraisable.
+     */
+    @TruffleBoundary
+    static void callExceptionHandler(PFuture self, PDict context) {
+        Object sourceTraceback = self.getSourceTraceback();
+        if (sourceTraceback != null) {
+            PyDictSetItem.executeUncached(context, T_SOURCE_TRACEBACK, sourceTraceback);
+        }
+        Object handler;
+        try {
+            handler = PyObjectGetAttr.executeUncached(self.getLoop(), T_CALL_EXCEPTION_HANDLER);
+        } catch (PException e) {
+            WriteUnraisableNode.getUncached().execute(e.getEscapedException(), null, self);
+            return;
+        }
+        try {
+            CallNode.getUncached().execute(handler, context);
+        } catch (PException e) {
+            WriteUnraisableNode.getUncached().execute(e.getEscapedException(), null, handler);
+        }
+    }
+
+    /**
+     * Equivalent of {@code future_init} in CPython. Shared with {@code Task.__init__}.
+     */
+    @GenerateInline
+    @GenerateCached(false)
+    public abstract static class InitFutureNode extends Node {
+        public abstract void execute(VirtualFrame frame, Node inliningTarget, PFuture self, Object loop);
+
+        @Specialization
+        static void init(VirtualFrame frame, Node inliningTarget, PFuture self, Object loopArg,
+                        @Cached(inline = false) GetEventLoop getEventLoop,
+                        @Cached PyObjectCallMethodObjArgs callMethod,
+                        @Cached PyObjectIsTrueNode isTrue,
+                        @Cached InlinedConditionProfile debugProfile) {
+            Object loop = loopArg;
+            if (PGuards.isPNone(loop)) {
+                loop = getEventLoop.execute(frame, null);
+            }
+            self.init(loop);
+            Object debug = callMethod.execute(frame, inliningTarget, loop, T_GET_DEBUG);
+            if (debugProfile.profile(inliningTarget, isTrue.execute(frame, inliningTarget, debug))) {
+                self.setSourceTraceback(extractSourceTraceback(inliningTarget));
+            }
+        }
+
+        @TruffleBoundary
+        private static Object extractSourceTraceback(Node inliningTarget) {
+            Object extractStack = AsyncioModuleBuiltins.getModuleState(PythonContext.get(inliningTarget)).getExtractStack();
+            Object stack = CallNode.getUncached().execute(extractStack);
+            // skip the extract_stack call itself
+            PyObjectCallMethodObjArgs.executeUncached(stack, T_POP);
+            return stack;
+        }
+    }
+
+    /**
+     * Calls {@code loop.call_soon(callback, arg, context=context)}. The {@code arg} may be
+     * {@code null}, in which case only the callback is passed.
+     */
+    @GenerateInline
+    @GenerateCached(false)
+    public abstract static class CallSoonNode extends Node {
+        public abstract void execute(VirtualFrame frame, Node inliningTarget, Object loop, Object callback, Object arg, Object context);
+
+        @Specialization
+        static void callSoon(VirtualFrame frame, Node inliningTarget, Object loop, Object callback, Object arg, Object context,
+                        @Cached PyObjectGetAttr getAttr,
+                        @Cached(inline = false) CallNode callNode) {
+            Object callSoon = getAttr.execute(frame, inliningTarget, loop, T_CALL_SOON);
+            Object[] args = arg == null ? new Object[]{callback} : new Object[]{callback, arg};
+            callNode.execute(frame, callSoon, args, new PKeyword[]{new PKeyword(T_CONTEXT, context)});
+        }
+    }
+
+    @GenerateInline
+    @GenerateCached(false)
+    public abstract static class ScheduleCallbacksNode extends Node {
+        public abstract void execute(VirtualFrame frame, Node inliningTarget, PFuture self);
+
+        @Specialization
+        static void schedule(VirtualFrame frame, Node inliningTarget, PFuture self,
+                        @Cached CallSoonNode callSoon) {
+            int count = self.getCallbacksCount();
+            Object[] callbacks = self.takeCallbacks();
+            for (int i = 0; i < count; i++) {
+                callSoon.execute(frame, inliningTarget, self.getLoop(), callbacks[2 * i], self, callbacks[2 * i + 1]);
+            }
+        }
+    }
+
+    @GenerateInline
+    @GenerateCached(false)
+    public abstract static class MakeCancelledErrorNode extends Node {
+        public abstract Object execute(VirtualFrame frame, Node inliningTarget, PFuture self);
+
+        @Specialization
+        static Object make(VirtualFrame frame, Node inliningTarget, PFuture self,
+                        @Cached(inline = false) CallNode callNode) {
+            Object exc = self.takeCancelledExc();
+            if (exc != null) {
+                return exc;
+            }
+            Object cancelledError = AsyncioModuleBuiltins.getModuleState(PythonContext.get(inliningTarget)).getCancelledError();
+            Object msg = self.getCancelMessage();
+            if (msg == null || msg == PNone.NONE) {
+                return callNode.execute(frame, cancelledError);
+            }
+            return callNode.execute(frame, cancelledError, msg);
+        }
+    }
+
+    /**
+     * Equivalent of {@code Future.result()}: returns the result or raises the stored exception.
+     */
+    @GenerateInline
+    @GenerateCached(false)
+    public abstract static class GetResultNode extends Node {
+        public abstract Object execute(VirtualFrame frame, Node inliningTarget, PFuture self);
+
+        @Specialization
+        static Object get(VirtualFrame frame, Node inliningTarget, PFuture self,
+                        @Cached MakeCancelledErrorNode makeCancelledError,
+                        @Cached ExceptionNodes.SetTracebackNode setTracebackNode,
+                        @Cached PRaiseNode.Lazy raiseNode) {
+            switch (self.getState()) {
+                case CANCELLED:
+                    throw raiseNode.get(inliningTarget).raiseExceptionObject(makeCancelledError.execute(frame, inliningTarget, self));
+                case PENDING:
+                    throw invalidState(inliningTarget, ErrorMessages.RESULT_IS_NOT_SET, raiseNode);
+            }
+            self.setLogTraceback(false);
+            Object exc = self.getException();
+            if (exc != null) {
+                Object tb = self.getExceptionTb();
+                if (tb != null) {
+                    setTracebackNode.execute(inliningTarget, exc, tb);
+                }
+                throw raiseNode.get(inliningTarget).raiseExceptionObject(exc);
+            }
+            Object result = self.getResult();
+            return result == null ? PNone.NONE : result;
+        }
+    }
+
+    @GenerateInline
+    @GenerateCached(false)
+    public abstract static class SetResultNode extends Node {
+        public abstract void execute(VirtualFrame frame, Node inliningTarget, PFuture self, Object result);
+
+        @Specialization
+        static void set(VirtualFrame frame, Node inliningTarget, PFuture self, Object result,
+                        @Cached ScheduleCallbacksNode scheduleCallbacks,
+                        @Cached PRaiseNode.Lazy raiseNode) {
+            ensureAlive(inliningTarget, self, raiseNode);
+            if (!self.isPending()) {
+                throw invalidState(inliningTarget, ErrorMessages.INVALID_STATE, raiseNode);
+            }
+            self.setResult(result);
+            self.setState(PFuture.State.FINISHED);
+            scheduleCallbacks.execute(frame, inliningTarget, self);
+        }
+    }
+
+    @GenerateInline
+    @GenerateCached(false)
+    public abstract static class SetExceptionNode extends Node {
+        public abstract void execute(VirtualFrame frame, Node inliningTarget, PFuture self, Object exception);
+
+        @Specialization
+        static void set(VirtualFrame frame, Node inliningTarget, PFuture self, Object exception,
+                        @Cached TypeNodes.IsTypeNode isTypeNode,
+                        @Cached PyExceptionInstanceCheckNode exceptionCheck,
+                        @Cached IsBuiltinObjectExactProfile isStopIteration,
+                        @Cached ExceptionNodes.GetTracebackNode getTracebackNode,
+                        @Cached ScheduleCallbacksNode scheduleCallbacks,
+                        @Cached(inline = false) CallNode callNode,
+                        @Cached PRaiseNode.Lazy raiseNode) {
+            ensureAlive(inliningTarget, self, raiseNode);
+            if (!self.isPending()) {
+                throw invalidState(inliningTarget, ErrorMessages.INVALID_STATE, raiseNode);
+            }
+            Object exc = exception;
+            if (isTypeNode.execute(inliningTarget, exc)) {
+                exc = callNode.execute(frame, exc);
+            }
+            if (!exceptionCheck.execute(inliningTarget, exc)) {
+                throw raiseNode.get(inliningTarget).raise(TypeError, ErrorMessages.INVALID_EXCEPTION_OBJECT);
+            }
+            if (isStopIteration.profileObject(inliningTarget, exc, PythonBuiltinClassType.StopIteration)) {
+                throw raiseNode.get(inliningTarget).raise(TypeError, ErrorMessages.STOP_ITERATION_INTERACTS_BADLY_WITH_FUTURE);
+            }
+            self.setException(exc);
+            self.setExceptionTb(getTracebackNode.execute(inliningTarget, exc));
+            self.setState(PFuture.State.FINISHED);
+            scheduleCallbacks.execute(frame, inliningTarget, self);
+            self.setLogTraceback(true);
+        }
+    }
+
+    @GenerateInline
+    @GenerateCached(false)
+    public abstract static class CancelNode extends Node {
+        public abstract boolean execute(VirtualFrame frame, Node inliningTarget, PFuture self, Object msg);
+
+        @Specialization
+        static boolean cancel(VirtualFrame frame, Node inliningTarget, PFuture self, Object msg,
+                        @Cached ScheduleCallbacksNode scheduleCallbacks) {
+            self.setLogTraceback(false);
+            if (!self.isPending()) {
+                return false;
+            }
+            self.setState(PFuture.State.CANCELLED);
+            self.setCancelMessage(msg);
+            scheduleCallbacks.execute(frame, inliningTarget, self);
+            return true;
+        }
+    }
+
+    @GenerateInline
+    @GenerateCached(false)
+    public abstract static class AddDoneCallbackNode extends Node {
+        public abstract void execute(VirtualFrame frame, Node inliningTarget, PFuture self, Object fn, Object context);
+
+        @Specialization
+        static void add(VirtualFrame frame, Node inliningTarget, PFuture self, Object fn, Object context,
+                        @Cached CallSoonNode callSoon) {
+            if (self.isPending()) {
+                self.addCallback(fn, context);
+            } else {
+                callSoon.execute(frame, inliningTarget, self.getLoop(), fn, self, context);
+            }
+        }
+    }
+
+    @Builtin(name = J___INIT__, minNumOfPositionalArgs = 1, parameterNames = {"$self"}, varArgsMarker = true, keywordOnlyNames = {"loop"})
+    @GenerateNodeFactory
+    public abstract static class InitNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        static Object init(VirtualFrame frame, PFuture self, Object loop,
+                        @Bind("this") Node inliningTarget,
+                        @Cached InitFutureNode initFutureNode) {
+            initFutureNode.execute(frame, inliningTarget, self, loop);
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "result", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    public abstract static class ResultNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object result(VirtualFrame frame, PFuture self,
+                        @Bind("this") Node inliningTarget,
+                        @Cached GetResultNode getResultNode,
+                        @Cached PRaiseNode.Lazy raiseNode) {
+            ensureAlive(inliningTarget, self, raiseNode);
+            return getResultNode.execute(frame, inliningTarget, self);
+        }
+    }
+
+    @Builtin(name = "exception", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    public abstract static class FutureExceptionNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object exception(VirtualFrame frame, PFuture self,
+                        @Bind("this") Node inliningTarget,
+                        @Cached MakeCancelledErrorNode makeCancelledError,
+                        @Cached PRaiseNode.Lazy raiseNode) {
+            ensureAlive(inliningTarget, self, raiseNode);
+            switch (self.getState()) {
+                case CANCELLED:
+                    throw raiseNode.get(inliningTarget).raiseExceptionObject(makeCancelledError.execute(frame, inliningTarget, self));
+                case PENDING:
+                    throw invalidState(inliningTarget, ErrorMessages.EXCEPTION_IS_NOT_SET, raiseNode);
+            }
+            self.setLogTraceback(false);
+            Object exc = self.getException();
+            return exc == null ? PNone.NONE : exc;
+        }
+    }
+
+    @Builtin(name = "set_result", minNumOfPositionalArgs = 2)
+    @GenerateNodeFactory
+    public abstract static class FutureSetResultNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        static Object setResult(VirtualFrame frame, PFuture self, Object result,
+                        @Bind("this") Node inliningTarget,
+                        @Cached SetResultNode setResultNode) {
+            setResultNode.execute(frame, inliningTarget, self, result);
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "set_exception", minNumOfPositionalArgs = 2)
+    @GenerateNodeFactory
+    public abstract static class FutureSetExceptionNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        static Object setException(VirtualFrame frame, PFuture self, Object exception,
+                        @Bind("this") Node inliningTarget,
+                        @Cached SetExceptionNode setExceptionNode) {
+            setExceptionNode.execute(frame, inliningTarget, self, exception);
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "add_done_callback", minNumOfPositionalArgs = 2, parameterNames = {"$self", "fn"}, varArgsMarker = true, keywordOnlyNames = {"context"})
+    @GenerateNodeFactory
+    public abstract static class FutureAddDoneCallbackNode extends PythonTernaryBuiltinNode {
+        @Specialization
+        Object add(VirtualFrame frame, PFuture self, Object fn, Object contextArg,
+                        @Bind("this") Node inliningTarget,
+                        @Cached AddDoneCallbackNode addDoneCallbackNode,
+                        @Cached PythonObjectFactory factory,
+                        @Cached PRaiseNode.Lazy raiseNode) {
+            ensureAlive(inliningTarget, self, raiseNode);
+            Object context = contextArg;
+            if (PGuards.isPNone(context)) {
+                context = factory.copyContextVarsContext(getContext().getThreadState(getLanguage()).getContextVarsContext());
+            }
+            addDoneCallbackNode.execute(frame, inliningTarget, self, fn, context);
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "remove_done_callback", minNumOfPositionalArgs = 2)
+    @GenerateNodeFactory
+    public abstract static class RemoveDoneCallbackNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        static int remove(VirtualFrame frame, PFuture self, Object fn,
+                        @Bind("this") Node inliningTarget,
+                        @Cached PyObjectRichCompareBool.EqNode eqNode,
+                        @Cached PRaiseNode.Lazy raiseNode) {
+            ensureAlive(inliningTarget, self, raiseNode);
+            int count = self.getCallbacksCount();
+            // the comparison may run arbitrary code that modifies the callbacks, so work on a
+            // detached copy
+            Object[] callbacks = self.takeCallbacks();
+            Object[] kept = new Object[callbacks.length];
+            int keptCount = 0;
+            for (int i = 0; i < count; i++) {
+                if (!eqNode.compare(frame, inliningTarget, callbacks[2 * i], fn)) {
+                    kept[2 * keptCount] = callbacks[2 * i];
+                    kept[2 * keptCount + 1] = callbacks[2 * i + 1];
+                    keptCount++;
+                }
+            }
+            int removed = count - keptCount;
+            // callbacks added while comparing are kept after the surviving ones
+            int addedCount = self.getCallbacksCount();
+            for (int i = 0; i < addedCount; i++) {
+                if (2 * keptCount == kept.length) {
+                    kept = Arrays.copyOf(kept, kept.length * 2 + 2);
+                }
+                kept[2 * keptCount] = self.getCallback(i);
+                kept[2 * keptCount + 1] = self.getCallbackContext(i);
+                keptCount++;
+            }
+            self.setCallbacks(kept, keptCount);
+            return removed;
+        }
+    }
+
+    @Builtin(name = "cancel", minNumOfPositionalArgs = 1, parameterNames = {"$self", "msg"})
+    @GenerateNodeFactory
+    public abstract static class FutureCancelNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        static boolean cancel(VirtualFrame frame, PFuture self, Object msg,
+                        @Bind("this") Node inliningTarget,
+                        @Cached CancelNode cancelNode,
+                        @Cached PRaiseNode.Lazy raiseNode) {
+            ensureAlive(inliningTarget, self, raiseNode);
+            return cancelNode.execute(frame, inliningTarget, self, PGuards.isNoValue(msg) ? PNone.NONE : msg);
+        }
+    }
+
+    @Builtin(name = "cancelled", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    public abstract static class CancelledNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static boolean cancelled(PFuture self) {
+            return self.isInitialized() && self.getState() == PFuture.State.CANCELLED;
+        }
+    }
+
+    @Builtin(name = "done", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    public abstract static class DoneNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static boolean done(PFuture self) {
+            return self.isInitialized() && !self.isPending();
+        }
+    }
+
+    @Builtin(name = "get_loop", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    public abstract static class GetLoopNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object getLoop(PFuture self,
+                        @Bind("this") Node inliningTarget,
+                        @Cached PRaiseNode.Lazy raiseNode) {
+            ensureAlive(inliningTarget, self, raiseNode);
+            return self.getLoop();
+        }
+    }
+
+    @Builtin(name = "_make_cancelled_error", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    public abstract static class MakeCancelledErrorBuiltinNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object make(VirtualFrame frame, PFuture self,
+                        @Bind("this") Node inliningTarget,
+                        @Cached MakeCancelledErrorNode makeCancelledError) {
+            return makeCancelledError.execute(frame, inliningTarget, self);
+        }
+    }
+
+    @Builtin(name = J___AWAIT__, minNumOfPositionalArgs = 1)
+    @Builtin(name = J___ITER__, minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    public abstract static class AwaitNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object await(PFuture self,
+                        @Bind("this") Node inliningTarget,
+                        @Cached PythonObjectFactory factory,
+                        @Cached PRaiseNode.Lazy raiseNode) {
+            ensureAlive(inliningTarget, self, raiseNode);
+            return factory.createFutureIter(self);
+        }
+    }
+
+    @Builtin(name = J___REPR__, minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    public abstract static class ReprNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object repr(VirtualFrame frame, PFuture self,
+                        @Bind("this") Node inliningTarget,
+                        @Cached CallNode callNode) {
+            Object futureRepr = AsyncioModuleBuiltins.getModuleState(PythonContext.get(inliningTarget)).getFutureRepr();
+            return callNode.execute(frame, futureRepr, self);
+        }
+    }
+
+    @Builtin(name = J___DEL__, minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    public abstract static class DelNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object del(PFuture self) {
+            finalizeFuture(self);
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = J___CLASS_GETITEM__, minNumOfPositionalArgs = 2, isClassmethod = true)
+    @GenerateNodeFactory
+    public abstract static class ClassGetItemNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        static Object classGetItem(Object cls, Object key,
+                        @Cached PythonObjectFactory factory) {
+            return factory.createGenericAlias(cls, key);
+        }
+    }
+
+    @Builtin(name = "_state", minNumOfPositionalArgs = 1, isGetter = true)
+    @GenerateNodeFactory
+    public abstract static class StateNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object state(PFuture self) {
+            return self.isInitialized() ? self.getState().getName() : PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "_result", minNumOfPositionalArgs = 1, isGetter = true)
+    @GenerateNodeFactory
+    public abstract static class ResultGetterNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object result(PFuture self) {
+            Object result = self.getResult();
+            return result == null ? PNone.NONE : result;
+        }
+    }
+
+    @Builtin(name = "_exception", minNumOfPositionalArgs = 1, isGetter = true)
+    @GenerateNodeFactory
+    public abstract static class ExceptionGetterNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object exception(PFuture self) {
+            Object exc = self.getException();
+            return exc == null ? PNone.NONE : exc;
+        }
+    }
+
+    @Builtin(name = "_loop", minNumOfPositionalArgs = 1, isGetter = true)
+    @GenerateNodeFactory
+    public abstract static class LoopGetterNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object loop(PFuture self) {
+            Object loop = self.getLoop();
+            return loop == null ? PNone.NONE : loop;
+        }
+    }
+
+    @Builtin(name = "_source_traceback", minNumOfPositionalArgs = 1, isGetter = true)
+    @GenerateNodeFactory
+    public abstract static class SourceTracebackNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object sourceTraceback(PFuture self) {
+            Object tb = self.getSourceTraceback();
+            return tb == null ? PNone.NONE : tb;
+        }
+    }
+
+    @Builtin(name = "_callbacks", minNumOfPositionalArgs = 1, isGetter = true)
+    @GenerateNodeFactory
+    public abstract static class CallbacksNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object callbacks(PFuture self,
+                        @Cached PythonObjectFactory factory) {
+            int count = self.getCallbacksCount();
+            if (count == 0) {
+                return PNone.NONE;
+            }
+            Object[] items = new Object[count];
+            for (int i = 0; i < count; i++) {
+                items[i] = factory.createTuple(new Object[]{self.getCallback(i), self.getCallbackContext(i)});
+            }
+            return factory.createList(items);
+        }
+    }
+
+    @Builtin(name = "_cancel_message", minNumOfPositionalArgs = 1, maxNumOfPositionalArgs = 2, isGetter = true, isSetter = true)
+    @GenerateNodeFactory
+    public abstract static class CancelMessageNode extends PythonBinaryBuiltinNode {
+        @Specialization(guards = "isNoValue(value)")
+        static Object get(PFuture self, @SuppressWarnings("unused") PNone value) {
+            Object msg = self.getCancelMessage();
+            return msg == null ? PNone.NONE : msg;
+        }
+
+        @Specialization(guards = "!isNoValue(value)")
+        static Object set(PFuture self, Object value) {
+            self.setCancelMessage(value);
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "_asyncio_future_blocking", minNumOfPositionalArgs = 1, maxNumOfPositionalArgs = 2, isGetter = true, isSetter = true)
+    @GenerateNodeFactory
+    public abstract static class BlockingNode extends PythonBinaryBuiltinNode {
+        @Specialization(guards = "isNoValue(value)")
+        static Object get(PFuture self, @SuppressWarnings("unused") PNone value) {
+            return self.isBlocking();
+        }
+
+        @Specialization(guards = "!isNoValue(value)")
+        static Object set(VirtualFrame frame, PFuture self, Object value,
+                        @Bind("this") Node inliningTarget,
+                        @Cached PyObjectIsTrueNode isTrue) {
+            self.setBlocking(isTrue.execute(frame, inliningTarget, value));
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "_log_traceback", minNumOfPositionalArgs = 1, maxNumOfPositionalArgs = 2, isGetter = true, isSetter = true)
+    @GenerateNodeFactory
+    public abstract static class LogTracebackNode extends PythonBinaryBuiltinNode {
+        @Specialization(guards = "isNoValue(value)")
+        static Object get(PFuture self, @SuppressWarnings("unused") PNone value) {
+            return self.isLogTraceback();
+        }
+
+        @Specialization(guards = "!isNoValue(value)")
+        static Object set(VirtualFrame frame, PFuture self, Object value,
+                        @Bind("this") Node inliningTarget,
+                        @Cached PyObjectIsTrueNode isTrue,
+                        @Cached PRaiseNode.Lazy raiseNode) {
+            if (isTrue.execute(frame, inliningTarget, value)) {
+                throw raiseNode.get(inliningTarget).raise(ValueError, ErrorMessages.LOG_TRACEBACK_CAN_ONLY_BE_SET_TO_FALSE);
+            }
+            self.setLogTraceback(false);
+            return PNone.NONE;
+        }
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.asyncio;
+
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.RuntimeError;
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.TypeError;
+import static com.oracle.graal.python.nodes.SpecialMethodNames.J___ITER__;
+import static com.oracle.graal.python.nodes.SpecialMethodNames.J___NEXT__;
+
+import java.util.List;
+
+import com.oracle.graal.python.builtins.Builtin;
+import com.oracle.graal.python.builtins.CoreFunctions;
+import com.oracle.graal.python.builtins.PythonBuiltinClassType;
+import com.oracle.graal.python.builtins.PythonBuiltins;
+import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.builtins.objects.asyncio.FutureBuiltins.GetResultNode;
+import com.oracle.graal.python.builtins.objects.exception.ExceptionNodes;
+import com.oracle.graal.python.builtins.objects.type.TypeNodes;
+import com.oracle.graal.python.lib.PyExceptionInstanceCheckNode;
+import com.oracle.graal.python.nodes.ErrorMessages;
+import com.oracle.graal.python.nodes.PGuards;
+import com.oracle.graal.python.nodes.PRaiseNode;
+import com.oracle.graal.python.nodes.call.CallNode;
+import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonBinaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonQuaternaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
+import com.oracle.truffle.api.dsl.Bind;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.GenerateCached;
+import com.oracle.truffle.api.dsl.GenerateInline;
+import com.oracle.truffle.api.dsl.GenerateNodeFactory;
+import com.oracle.truffle.api.dsl.NodeFactory;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.Node;
+
+@CoreFunctions(extendClasses = PythonBuiltinClassType.PFutureIter)
+public final class FutureIterBuiltins extends PythonBuiltins {
+
+    @Override
+    protected List<? extends NodeFactory<? extends PythonBuiltinBaseNode>> getNodeFactories() {
+        return FutureIterBuiltinsFactory.getFactories();
+    }
+
+    /**
+     * Equivalent of {@code FutureIter_am_send}: yields the future itself while it is pending and
+     * raises {@code StopIteration(result)} once it is done. Sent values are ignored.
+     */
+    @GenerateInline
+    @GenerateCached(false)
+    abstract static class FutureIterSendNode extends Node {
+        abstract Object execute(VirtualFrame frame, Node inliningTarget, PFutureIter self);
+
+        @Specialization
+        static Object send(VirtualFrame frame, Node inliningTarget, PFutureIter self,
+                        @Cached GetResultNode getResultNode,
+                        @Cached PRaiseNode.Lazy raiseNode) {
+            PFuture future = self.getFuture();
+            if (future == null) {
+                throw raiseNode.get(inliningTarget).raiseStopIteration();
+            }
+            if (future.isPending()) {
+                if (!future.isBlocking()) {
+                    future.setBlocking(true);
+                    return future;
+                }
+                throw raiseNode.get(inliningTarget).raise(RuntimeError, ErrorMessages.AWAIT_WASNT_USED_WITH_FUTURE);
+            }
+            self.clear();
+            Object result = getResultNode.execute(frame, inliningTarget, future);
+            throw raiseNode.get(inliningTarget).raiseStopIteration(result);
+        }
+    }
+
+    @Builtin(name = J___NEXT__, minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    public abstract static class NextNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object next(VirtualFrame frame, PFutureIter self,
+                        @Bind("this") Node inliningTarget,
+                        @Cached FutureIterSendNode sendNode) {
+            return sendNode.execute(frame, inliningTarget, self);
+        }
+    }
+
+    @Builtin(name = "send", minNumOfPositionalArgs = 2)
+    @GenerateNodeFactory
+    public abstract static class SendNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        static Object send(VirtualFrame frame, PFutureIter self, @SuppressWarnings("unused") Object value,
+                        @Bind("this") Node inliningTarget,
+                        @Cached FutureIterSendNode sendNode) {
+            return sendNode.execute(frame, inliningTarget, self);
+        }
+    }
+
+    @Builtin(name = "throw", minNumOfPositionalArgs = 2, parameterNames = {"$self", "type", "value", "traceback"})
+    @GenerateNodeFactory
+    public abstract static class ThrowNode extends PythonQuaternaryBuiltinNode {
+        @Specialization
+        static Object doThrow(VirtualFrame frame, PFutureIter self, Object type, Object value, Object tb,
+                        @Bind("this") Node inliningTarget,
+                        @Cached TypeNodes.IsTypeNode isTypeNode,
+                        @Cached PyExceptionInstanceCheckNode exceptionCheck,
+                        @Cached ExceptionNodes.SetTracebackNode setTracebackNode,
+                        @Cached CallNode callNode,
+                        @Cached PRaiseNode.Lazy raiseNode) {
+            self.clear();
+            Object exc;
+            if (isTypeNode.execute(inliningTarget, type)) {
+                if (PGuards.isPNone(value)) {
+                    exc = callNode.execute(frame, type);
+                } else if (exceptionCheck.execute(inliningTarget, value)) {
+                    exc = value;
+                } else {
+                    exc = callNode.execute(frame, type, value);
+                }
+            } else {
+                exc = type;
+            }
+            if (!exceptionCheck.execute(inliningTarget, exc)) {
+                throw raiseNode.get(inliningTarget).raise(TypeError, ErrorMessages.EXCEPTIONS_MUST_DERIVE_FROM_BASE_EX);
+            }
+            if (!PGuards.isPNone(tb)) {
+                setTracebackNode.execute(inliningTarget, exc, tb);
+            }
+            throw raiseNode.get(inliningTarget).raiseExceptionObject(exc);
+        }
+    }
+
+    @Builtin(name = "close", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    public abstract static class CloseNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object close(PFutureIter self) {
+            self.clear();
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = J___ITER__, minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    public abstract static class IterNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object iter(PFutureIter self) {
+            return self;
+        }
+    }
+}
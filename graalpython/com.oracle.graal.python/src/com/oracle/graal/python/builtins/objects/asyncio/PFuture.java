@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.asyncio;
+
+import static com.oracle.graal.python.util.PythonUtils.tsLiteral;
+
+import java.util.Arrays;
+
+import com.oracle.graal.python.builtins.objects.object.PythonBuiltinObject;
+import com.oracle.graal.python.util.PythonUtils;
+import com.oracle.truffle.api.object.Shape;
+import com.oracle.truffle.api.strings.TruffleString;
+
+/**
+ * Java implementation of {@code _asyncio.Future}. The state mirrors the C implementation in
+ * CPython's {@code _asynciomodule.c}; fields that are unset on the Python level are {@code null}.
+ */
+public class PFuture extends PythonBuiltinObject {
+    public enum State {
+        PENDING,
+        CANCELLED,
+        FINISHED;
+
+        private final TruffleString name = tsLiteral(name());
+
+        public TruffleString getName() {
+            return name;
+        }
+    }
+
+    private Object loop;
+    private State state = State.PENDING;
+    private Object result;
+    private Object exception;
+    private Object exceptionTb;
+    private Object sourceTraceback;
+    private Object cancelMessage;
+    private Object cancelledExc;
+    private boolean blocking;
+    private boolean logTraceback;
+
+    /**
+     * Pending done-callbacks stored as consecutive {@code (callback, context)} pairs.
+     */
+    private Object[] callbacks = PythonUtils.EMPTY_OBJECT_ARRAY;
+    private int callbacksCount;
+
+    public PFuture(Object cls, Shape instanceShape) {
+        super(cls, instanceShape);
+    }
+
+    /**
+     * Resets the future to its pending state. Used by {@code __init__}, which may be called
+     * repeatedly on the same object.
+     */
+    public void init(Object newLoop) {
+        loop = newLoop;
+        state = State.PENDING;
+        result = null;
+        exception = null;
+        exceptionTb = null;
+        sourceTraceback = null;
+        cancelMessage = null;
+        cancelledExc = null;
+        blocking = false;
+        logTraceback = false;
+        callbacks = PythonUtils.EMPTY_OBJECT_ARRAY;
+        callbacksCount = 0;
+    }
+
+    public boolean isInitialized() {
+        return loop != null;
+    }
+
+    public Object getLoop() {
+        return loop;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public void setState(State state) {
+        this.state = state;
+    }
+
+    public boolean isPending() {
+        return state == State.PENDING;
+    }
+
+    public Object getResult() {
+        return result;
+    }
+
+    public void setResult(Object result) {
+        this.result = result;
+    }
+
+    public Object getException() {
+        return exception;
+    }
+
+    public void setException(Object exception) {
+        this.exception = exception;
+    }
+
+    public Object getExceptionTb() {
+        return exceptionTb;
+    }
+
+    public void setExceptionTb(Object exceptionTb) {
+        this.exceptionTb = exceptionTb;
+    }
+
+    public Object getSourceTraceback() {
+        return sourceTraceback;
+    }
+
+    public void setSourceTraceback(Object sourceTraceback) {
+        this.sourceTraceback = sourceTraceback;
+    }
+
+    public Object getCancelMessage() {
+        return cancelMessage;
+    }
+
+    public void setCancelMessage(Object cancelMessage) {
+        this.cancelMessage = cancelMessage;
+    }
+
+    /**
+     * Returns the saved {@code CancelledError} (if any) and clears it, so that it is chained only
+     * once.
+     */
+    public Object takeCancelledExc() {
+        Object exc = cancelledExc;
+        cancelledExc = null;
+        return exc;
+    }
+
+    public void setCancelledExc(Object cancelledExc) {
+        this.cancelledExc = cancelledExc;
+    }
+
+    public boolean isBlocking() {
+        return blocking;
+    }
+
+    public void setBlocking(boolean blocking) {
+        this.blocking = blocking;
+    }
+
+    public boolean isLogTraceback() {
+        return logTraceback;
+    }
+
+    public void setLogTraceback(boolean logTraceback) {
+        this.logTraceback = logTraceback;
+    }
+
+    public int getCallbacksCount() {
+        return callbacksCount;
+    }
+
+    public Object getCallback(int i) {
+        return callbacks[2 * i];
+    }
+
+    public Object getCallbackContext(int i) {
+        return callbacks[2 * i + 1];
+    }
+
+    public void addCallback(Object callback, Object context) {
+        int idx = 2 * callbacksCount;
+        if (idx == callbacks.length) {
+            callbacks = Arrays.copyOf(callbacks, Math.max(4, callbacks.length * 2));
+        }
+        callbacks[idx] = callback;
+        callbacks[idx + 1] = context;
+        callbacksCount++;
+    }
+
+    /**
+     * Detaches the current callbacks and returns them as {@code (callback, context)} pairs. The
+     * returned array may be longer than {@code 2 * count}; callers must use the count obtained
+     * before this call.
+     */
+    public Object[] takeCallbacks() {
+        Object[] result = callbacks;
+        callbacks = PythonUtils.EMPTY_OBJECT_ARRAY;
+        callbacksCount = 0;
+        return result;
+    }
+
+    /**
+     * Replaces the callbacks with the first {@code count} pairs of {@code pairs}.
+     */
+    public void setCallbacks(Object[] pairs, int count) {
+        callbacks = pairs;
+        callbacksCount = count;
+    }
+}
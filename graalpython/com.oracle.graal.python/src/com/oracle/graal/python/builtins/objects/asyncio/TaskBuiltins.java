@@ -0,0 +1,669 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.asyncio;
+
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.RuntimeError;
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.TypeError;
+import static com.oracle.graal.python.nodes.BuiltinNames.T_ADD;
+import static com.oracle.graal.python.nodes.BuiltinNames.T_SEND;
+import static com.oracle.graal.python.nodes.SpecialMethodNames.J___DEL__;
+import static com.oracle.graal.python.nodes.SpecialMethodNames.J___INIT__;
+import static com.oracle.graal.python.nodes.SpecialMethodNames.J___REPR__;
+import static com.oracle.graal.python.util.PythonUtils.toTruffleStringUncached;
+import static com.oracle.graal.python.util.PythonUtils.tsLiteral;
+
+import java.util.List;
+
+import com.oracle.graal.python.builtins.Builtin;
+import com.oracle.graal.python.builtins.CoreFunctions;
+import com.oracle.graal.python.builtins.PythonBuiltinClassType;
+import com.oracle.graal.python.builtins.PythonBuiltins;
+import com.oracle.graal.python.builtins.modules.AsyncioModuleBuiltins;
+import com.oracle.graal.python.builtins.modules.AsyncioModuleBuiltins.EnterTask;
+import com.oracle.graal.python.builtins.modules.AsyncioModuleBuiltins.LeaveTask;
+import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.builtins.objects.asyncio.FutureBuiltins.AddDoneCallbackNode;
+import com.oracle.graal.python.builtins.objects.asyncio.FutureBuiltins.CallSoonNode;
+import com.oracle.graal.python.builtins.objects.asyncio.FutureBuiltins.CancelNode;
+import com.oracle.graal.python.builtins.objects.asyncio.FutureBuiltins.GetResultNode;
+import com.oracle.graal.python.builtins.objects.asyncio.FutureBuiltins.InitFutureNode;
+import com.oracle.graal.python.builtins.objects.asyncio.FutureBuiltins.MakeCancelledErrorNode;
+import com.oracle.graal.python.builtins.objects.asyncio.FutureBuiltins.SetExceptionNode;
+import com.oracle.graal.python.builtins.objects.asyncio.FutureBuiltins.SetResultNode;
+import com.oracle.graal.python.builtins.objects.dict.PDict;
+import com.oracle.graal.python.builtins.objects.exception.PBaseException;
+import com.oracle.graal.python.builtins.objects.exception.StopIterationBuiltins.StopIterationValueNode;
+import com.oracle.graal.python.builtins.objects.function.PKeyword;
+import com.oracle.graal.python.builtins.objects.generator.CommonGeneratorBuiltins;
+import com.oracle.graal.python.builtins.objects.generator.PGenerator;
+import com.oracle.graal.python.lib.PyDictDelItem;
+import com.oracle.graal.python.lib.PyDictGetItem;
+import com.oracle.graal.python.lib.PyDictSetItem;
+import com.oracle.graal.python.lib.PyErrExceptionMatchesNode;
+import com.oracle.graal.python.lib.PyObjectCallMethodObjArgs;
+import com.oracle.graal.python.lib.PyObjectGetAttr;
+import com.oracle.graal.python.lib.PyObjectIsTrueNode;
+import com.oracle.graal.python.lib.PyObjectLookupAttr;
+import com.oracle.graal.python.lib.PyObjectSetAttr;
+import com.oracle.graal.python.lib.PyObjectStrAsObjectNode;
+import com.oracle.graal.python.lib.PyUnicodeCheckExactNode;
+import com.oracle.graal.python.nodes.ErrorMessages;
+import com.oracle.graal.python.nodes.PGuards;
+import com.oracle.graal.python.nodes.PRaiseNode;
+import com.oracle.graal.python.nodes.call.CallNode;
+import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
+import com.oracle.graal.python.nodes.function.PythonBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonBinaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonTernaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
+import com.oracle.graal.python.nodes.object.BuiltinClassProfiles.IsBuiltinClassExactProfile;
+import com.oracle.graal.python.nodes.object.BuiltinClassProfiles.IsBuiltinObjectProfile;
+import com.oracle.graal.python.nodes.object.GetClassNode;
+import com.oracle.graal.python.runtime.exception.PException;
+import com.oracle.graal.python.runtime.object.PythonObjectFactory;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.dsl.Bind;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.GenerateCached;
+import com.oracle.truffle.api.dsl.GenerateInline;
+import com.oracle.truffle.api.dsl.GenerateNodeFactory;
+import com.oracle.truffle.api.dsl.NodeFactory;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.profiles.InlinedConditionProfile;
+import com.oracle.truffle.api.strings.TruffleString;
+
+@CoreFunctions(extendClasses = PythonBuiltinClassType.PTask)
+public final class TaskBuiltins extends PythonBuiltins {
+
+    private static final TruffleString T_TASK_STEP = tsLiteral("_Task__step");
+    private static final TruffleString T_TASK_WAKEUP = tsLiteral("_Task__wakeup");
+    private static final TruffleString T_ASYNCIO_FUTURE_BLOCKING = tsLiteral("_asyncio_future_blocking");
+    private static final TruffleString T_ADD_DONE_CALLBACK = tsLiteral("add_done_callback");
+    private static final TruffleString T_CANCEL = tsLiteral("cancel");
+    private static final TruffleString T_GET_LOOP = tsLiteral("get_loop");
+    private static final TruffleString T__LOOP = tsLiteral("_loop");
+    private static final TruffleString T_RESULT = tsLiteral("result");
+    private static final TruffleString T_THROW = tsLiteral("throw");
+    private static final TruffleString T_VALUE = tsLiteral("value");
+    private static final TruffleString T_TASK = tsLiteral("task");
+    private static final TruffleString T_TASK_WAS_DESTROYED = tsLiteral("Task was destroyed but it is pending!");
+
+    @Override
+    protected List<? extends NodeFactory<? extends PythonBuiltinBaseNode>> getNodeFactories() {
+        return TaskBuiltinsFactory.getFactories();
+    }
+
+    /**
+     * Checks for {@code Future} or {@code Task} exactly, the cases for which the event loop
+     * protocol can be implemented directly on the Java objects.
+     */
+    static boolean isExactFuture(Node inliningTarget, Object obj, GetClassNode getClassNode, IsBuiltinClassExactProfile isExact) {
+        if (!(obj instanceof PFuture)) {
+            return false;
+        }
+        Object cls = getClassNode.execute(inliningTarget, obj);
+        return isExact.profileClass(inliningTarget, cls, PythonBuiltinClassType.PFuture) || isExact.profileClass(inliningTarget, cls, PythonBuiltinClassType.PTask);
+    }
+
+    @TruffleBoundary
+    private static TruffleString taskName(long number) {
+        return toTruffleStringUncached("Task-" + number);
+    }
+
+    /**
+     * Schedules {@code task.__step(exc)} to run soon with a new {@code RuntimeError}.
+     */
+    private static void setErrorSoon(VirtualFrame frame, Node inliningTarget, PTask task, TruffleString format, Object[] args, CallSoonNode callSoon, PyObjectGetAttr getAttr,
+                    PythonObjectFactory factory) {
+        Object exc = factory.createBaseException(RuntimeError, format, args);
+        callSoon.execute(frame, inliningTarget, task.getLoop(), getAttr.execute(frame, inliningTarget, task, T_TASK_STEP), exc, task.getContext());
+    }
+
+    @Builtin(name = J___INIT__, minNumOfPositionalArgs = 2, parameterNames = {"$self", "coro"}, varArgsMarker = true, keywordOnlyNames = {"loop", "name", "context"})
+    @GenerateNodeFactory
+    public abstract static class InitNode extends PythonBuiltinNode {
+        @Specialization
+        Object init(VirtualFrame frame, PTask self, Object coro, Object loop, Object nameArg, Object contextArg,
+                        @Bind("this") Node inliningTarget,
+                        @Cached InitFutureNode initFutureNode,
+                        @Cached CallNode callNode,
+                        @Cached PyObjectIsTrueNode isTrue,
+                        @Cached PyUnicodeCheckExactNode unicodeCheckExact,
+                        @Cached PyObjectStrAsObjectNode strNode,
+                        @Cached PyObjectGetAttr getAttr,
+                        @Cached CallSoonNode callSoon,
+                        @Cached PyObjectCallMethodObjArgs callMethod,
+                        @Cached PythonObjectFactory factory,
+                        @Cached PRaiseNode.Lazy raiseNode) {
+            AsyncioModuleBuiltins.ModuleState state = AsyncioModuleBuiltins.getModuleState(getContext());
+            self.setModuleState(state);
+            initFutureNode.execute(frame, inliningTarget, self, loop);
+            boolean isCoroutine;
+            if (coro instanceof PGenerator generator && generator.isCoroutine()) {
+                isCoroutine = true;
+            } else {
+                isCoroutine = isTrue.execute(frame, inliningTarget, callNode.execute(frame, state.getIsCoroutine(), coro));
+            }
+            if (!isCoroutine) {
+                self.setLogDestroyPending(false);
+                throw raiseNode.get(inliningTarget).raise(TypeError, ErrorMessages.A_COROUTINE_WAS_EXPECTED_GOT, coro);
+            }
+            Object context = contextArg;
+            if (PGuards.isPNone(context)) {
+                context = factory.copyContextVarsContext(getContext().getThreadState(getLanguage()).getContextVarsContext());
+            }
+            Object name;
+            if (PGuards.isPNone(nameArg)) {
+                name = taskName(state.nextTaskNumber());
+            } else if (unicodeCheckExact.execute(inliningTarget, nameArg)) {
+                name = nameArg;
+            } else {
+                name = strNode.execute(frame, inliningTarget, nameArg);
+            }
+            self.initTask(coro, context, name);
+            callSoon.execute(frame, inliningTarget, self.getLoop(), getAttr.execute(frame, inliningTarget, self, T_TASK_STEP), null, context);
+            callMethod.execute(frame, inliningTarget, state.getAllTasks(), T_ADD, self);
+            return PNone.NONE;
+        }
+    }
+
+    /**
+     * Equivalent of {@code task_step} in CPython: runs one step of the coroutine between entering
+     * and leaving the task. {@code exc} is {@code null} when there is no exception to throw in.
+     */
+    @GenerateInline
+    @GenerateCached(false)
+    public abstract static class TaskStepNode extends Node {
+        public abstract void execute(VirtualFrame frame, Node inliningTarget, PTask task, Object exc);
+
+        @Specialization
+        static void step(VirtualFrame frame, Node inliningTarget, PTask task, Object exc,
+                        @Cached PyDictGetItem getItem,
+                        @Cached PyDictSetItem setItem,
+                        @Cached PyDictDelItem delItem,
+                        @Cached TaskStepImplNode stepImpl,
+                        @Cached PRaiseNode.Lazy raiseNode) {
+            FutureBuiltins.ensureAlive(inliningTarget, task, raiseNode);
+            PDict currentTasks = task.getModuleState().getCurrentTasks();
+            Object loop = task.getLoop();
+            EnterTask.enter(frame, inliningTarget, currentTasks, loop, task, getItem, setItem, raiseNode);
+            try {
+                stepImpl.execute(frame, inliningTarget, task, exc);
+            } finally {
+                LeaveTask.leave(frame, inliningTarget, currentTasks, loop, task, getItem, delItem, raiseNode);
+            }
+        }
+    }
+
+    @GenerateInline
+    @GenerateCached(false)
+    abstract static class TaskStepImplNode extends Node {
+        abstract void execute(VirtualFrame frame, Node inliningTarget, PTask task, Object exc);
+
+        @Specialization
+        static void step(VirtualFrame frame, Node inliningTarget, PTask task, Object excArg,
+                        @Cached PyErrExceptionMatchesNode exceptionMatches,
+                        @Cached MakeCancelledErrorNode makeCancelledError,
+                        @Cached InlinedConditionProfile isGeneratorProfile,
+                        @Cached(inline = false) CommonGeneratorBuiltins.SendNode generatorSend,
+                        @Cached(inline = false) CommonGeneratorBuiltins.ThrowNode generatorThrow,
+                        @Cached PyObjectCallMethodObjArgs callMethod,
+                        @Cached IsBuiltinObjectProfile isStopIteration,
+                        @Cached IsBuiltinObjectProfile isExitException,
+                        @Cached(inline = false) StopIterationValueNode stopIterationValue,
+                        @Cached CancelNode cancelNode,
+                        @Cached SetResultNode setResultNode,
+                        @Cached SetExceptionNode setExceptionNode,
+                        @Cached TaskResultNode resultNode,
+                        @Cached PRaiseNode.Lazy raiseNode) {
+            if (!task.isPending()) {
+                throw FutureBuiltins.invalidState(inliningTarget, ErrorMessages.STEP_ALREADY_DONE, new Object[]{task, excArg == null ? PNone.NONE : excArg}, raiseNode);
+            }
+            Object exc = excArg;
+            AsyncioModuleBuiltins.ModuleState state = task.getModuleState();
+            if (task.isMustCancel()) {
+                if (exc != null && !exceptionMatches.execute(inliningTarget, exc, state.getCancelledError())) {
+                    exc = null;
+                }
+                if (exc == null) {
+                    exc = makeCancelledError.execute(frame, inliningTarget, task);
+                }
+                task.setMustCancel(false);
+            }
+            task.setFutWaiter(null);
+            Object coro = task.getCoro();
+            Object result;
+            try {
+                if (isGeneratorProfile.profile(inliningTarget, coro instanceof PGenerator)) {
+                    if (exc == null) {
+                        result = generatorSend.execute(frame, coro, PNone.NONE);
+                    } else {
+                        result = generatorThrow.execute(frame, coro, exc, PNone.NO_VALUE, PNone.NO_VALUE);
+                    }
+                } else {
+                    if (exc == null) {
+                        result = callMethod.execute(frame, inliningTarget, coro, T_SEND, PNone.NONE);
+                    } else {
+                        result = callMethod.execute(frame, inliningTarget, coro, T_THROW, exc);
+                    }
+                }
+            } catch (PException e) {
+                if (isStopIteration.profileException(inliningTarget, e, PythonBuiltinClassType.StopIteration)) {
+                    // the coroutine has resolved
+                    if (task.isMustCancel()) {
+                        // the task is cancelled right before the coroutine stops
+                        task.setMustCancel(false);
+                        cancelNode.execute(frame, inliningTarget, task, task.getCancelMessage());
+                    } else {
+                        Object stopIteration = e.getUnreifiedException();
+                        Object value;
+                        if (stopIteration instanceof PBaseException managedException) {
+                            value = stopIterationValue.execute(managedException);
+                        } else {
+                            value = PyObjectGetAttr.executeUncached(stopIteration, T_VALUE);
+                        }
+                        setResultNode.execute(frame, inliningTarget, task, value);
+                    }
+                    return;
+                }
+                Object error = e.getEscapedException();
+                if (exceptionMatches.execute(inliningTarget, error, state.getCancelledError())) {
+                    task.setCancelledExc(error);
+                    cancelNode.execute(frame, inliningTarget, task, PNone.NONE);
+                    return;
+                }
+                setExceptionNode.execute(frame, inliningTarget, task, error);
+                if (isExitException.profileException(inliningTarget, e, PythonBuiltinClassType.KeyboardInterrupt) ||
+                                isExitException.profileException(inliningTarget, e, PythonBuiltinClassType.SystemExit)) {
+                    throw e;
+                }
+                return;
+            }
+            resultNode.execute(frame, inliningTarget, task, result);
+        }
+    }
+
+    /**
+     * Handles the object yielded by the coroutine in a task step.
+     */
+    @GenerateInline
+    @GenerateCached(false)
+    abstract static class TaskResultNode extends Node {
+        abstract void execute(VirtualFrame frame, Node inliningTarget, PTask task, Object result);
+
+        @Specialization
+        static void handle(VirtualFrame frame, Node inliningTarget, PTask task, Object result,
+                        @Cached GetClassNode getClassNode,
+                        @Cached IsBuiltinClassExactProfile isExact,
+                        @Cached PyObjectGetAttr getAttr,
+                        @Cached PyObjectLookupAttr lookupAttr,
+                        @Cached PyObjectSetAttr setAttr,
+                        @Cached PyObjectIsTrueNode isTrue,
+                        @Cached PyObjectCallMethodObjArgs callMethod,
+                        @Cached(inline = false) CallNode callNode,
+                        @Cached AddDoneCallbackNode addDoneCallback,
+                        @Cached CallSoonNode callSoon,
+                        @Cached(inline = false) PythonObjectFactory factory) {
+            if (result == task) {
+                setErrorSoon(frame, inliningTarget, task, ErrorMessages.TASK_CANNOT_AWAIT_ON_ITSELF, new Object[]{task}, callSoon, getAttr, factory);
+                return;
+            }
+            if (isExactFuture(inliningTarget, result, getClassNode, isExact)) {
+                PFuture future = (PFuture) result;
+                if (future.getLoop() != task.getLoop()) {
+                    setErrorSoon(frame, inliningTarget, task, ErrorMessages.TASK_GOT_FUTURE_ATTACHED_TO_DIFFERENT_LOOP, new Object[]{task, result}, callSoon, getAttr, factory);
+                    return;
+                }
+                if (!future.isBlocking()) {
+                    setErrorSoon(frame, inliningTarget, task, ErrorMessages.YIELD_INSTEAD_OF_YIELD_FROM_IN_TASK, new Object[]{task, result}, callSoon, getAttr, factory);
+                    return;
+                }
+                future.setBlocking(false);
+                addDoneCallback.execute(frame, inliningTarget, future, getAttr.execute(frame, inliningTarget, task, T_TASK_WAKEUP), task.getContext());
+                task.setFutWaiter(future);
+                if (task.isMustCancel()) {
+                    if (isTrue.execute(frame, inliningTarget, callMethod.execute(frame, inliningTarget, future, T_CANCEL, task.getCancelMessage()))) {
+                        task.setMustCancel(false);
+                    }
+                }
+                return;
+            }
+            if (result == PNone.NONE) {
+                // bare yield relinquishes control for one event loop iteration
+                callSoon.execute(frame, inliningTarget, task.getLoop(), getAttr.execute(frame, inliningTarget, task, T_TASK_STEP), null, task.getContext());
+                return;
+            }
+            Object blocking = lookupAttr.execute(frame, inliningTarget, result, T_ASYNCIO_FUTURE_BLOCKING);
+            if (blocking != PNone.NO_VALUE && blocking != PNone.NONE) {
+                // a Future-compatible object
+                Object loop;
+                Object getLoop = lookupAttr.execute(frame, inliningTarget, result, T_GET_LOOP);
+                if (getLoop != PNone.NO_VALUE) {
+                    loop = callNode.execute(frame, getLoop);
+                } else {
+                    loop = getAttr.execute(frame, inliningTarget, result, T__LOOP);
+                }
+                if (loop != task.getLoop()) {
+                    setErrorSoon(frame, inliningTarget, task, ErrorMessages.TASK_GOT_FUTURE_ATTACHED_TO_DIFFERENT_LOOP, new Object[]{task, result}, callSoon, getAttr, factory);
+                    return;
+                }
+                if (!isTrue.execute(frame, inliningTarget, blocking)) {
+                    setErrorSoon(frame, inliningTarget, task, ErrorMessages.YIELD_INSTEAD_OF_YIELD_FROM_IN_TASK, new Object[]{task, result}, callSoon, getAttr, factory);
+                    return;
+                }
+                setAttr.execute(frame, inliningTarget, result, T_ASYNCIO_FUTURE_BLOCKING, false);
+                task.setFutWaiter(result);
+                Object addCallback = getAttr.execute(frame, inliningTarget, result, T_ADD_DONE_CALLBACK);
+                Object wakeup = getAttr.execute(frame, inliningTarget, task, T_TASK_WAKEUP);
+                callNode.execute(frame, addCallback, new Object[]{wakeup}, new PKeyword[]{new PKeyword(FutureBuiltins.T_CONTEXT, task.getContext())});
+                if (task.isMustCancel()) {
+                    if (isTrue.execute(frame, inliningTarget, callMethod.execute(frame, inliningTarget, result, T_CANCEL, task.getCancelMessage()))) {
+                        task.setMustCancel(false);
+                    }
+                }
+                return;
+            }
+            if (result instanceof PGenerator generator && !generator.isCoroutine()) {
+                setErrorSoon(frame, inliningTarget, task, ErrorMessages.YIELD_INSTEAD_OF_YIELD_FROM_FOR_GENERATOR_IN_TASK, new Object[]{task, result}, callSoon, getAttr, factory);
+                return;
+            }
+            setErrorSoon(frame, inliningTarget, task, ErrorMessages.TASK_GOT_BAD_YIELD, new Object[]{result}, callSoon, getAttr, factory);
+        }
+    }
+
+    @Builtin(name = "_Task__step", minNumOfPositionalArgs = 1, parameterNames = {"$self", "exc"})
+    @GenerateNodeFactory
+    public abstract static class StepNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        static Object step(VirtualFrame frame, PTask self, Object exc,
+                        @Bind("this") Node inliningTarget,
+                        @Cached TaskStepNode stepNode) {
+            stepNode.execute(frame, inliningTarget, self, PGuards.isPNone(exc) ? null : exc);
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "_Task__wakeup", minNumOfPositionalArgs = 2)
+    @GenerateNodeFactory
+    public abstract static class WakeupNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        static Object wakeup(VirtualFrame frame, PTask self, Object future,
+                        @Bind("this") Node inliningTarget,
+                        @Cached GetClassNode getClassNode,
+                        @Cached IsBuiltinClassExactProfile isExact,
+                        @Cached GetResultNode getResultNode,
+                        @Cached PyObjectCallMethodObjArgs callMethod,
+                        @Cached TaskStepNode stepNode) {
+            Object exc = null;
+            try {
+                if (isExactFuture(inliningTarget, future, getClassNode, isExact)) {
+                    getResultNode.execute(frame, inliningTarget, (PFuture) future);
+                } else {
+                    callMethod.execute(frame, inliningTarget, future, T_RESULT);
+                }
+            } catch (PException e) {
+                exc = e.getEscapedException();
+            }
+            // the result itself is not needed, __step() gets the value from the coroutine
+            stepNode.execute(frame, inliningTarget, self, exc);
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "cancel", minNumOfPositionalArgs = 1, parameterNames = {"$self", "msg"})
+    @GenerateNodeFactory
+    public abstract static class TaskCancelNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        static boolean cancel(VirtualFrame frame, PTask self, Object msgArg,
+                        @Bind("this") Node inliningTarget,
+                        @Cached PyObjectCallMethodObjArgs callMethod,
+                        @Cached PyObjectIsTrueNode isTrue) {
+            Object msg = PGuards.isNoValue(msgArg) ? PNone.NONE : msgArg;
+            self.setLogTraceback(false);
+            if (!self.isInitialized() || !self.isPending()) {
+                return false;
+            }
+            self.setNumCancelsRequested(self.getNumCancelsRequested() + 1);
+            Object waiter = self.getFutWaiter();
+            if (waiter != null) {
+                if (isTrue.execute(frame, inliningTarget, callMethod.execute(frame, inliningTarget, waiter, T_CANCEL, msg))) {
+                    return true;
+                }
+            }
+            self.setMustCancel(true);
+            self.setCancelMessage(msg);
+            return true;
+        }
+    }
+
+    @Builtin(name = "cancelling", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    public abstract static class CancellingNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static int cancelling(PTask self) {
+            return self.getNumCancelsRequested();
+        }
+    }
+
+    @Builtin(name = "uncancel", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    public abstract static class UncancelNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static int uncancel(PTask self) {
+            if (self.getNumCancelsRequested() > 0) {
+                self.setNumCancelsRequested(self.getNumCancelsRequested() - 1);
+            }
+            return self.getNumCancelsRequested();
+        }
+    }
+
+    @Builtin(name = "set_result", minNumOfPositionalArgs = 2)
+    @GenerateNodeFactory
+    public abstract static class TaskSetResultNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        @SuppressWarnings("unused")
+        static Object setResult(PTask self, Object result,
+                        @Cached PRaiseNode raiseNode) {
+            throw raiseNode.raise(RuntimeError, ErrorMessages.TASK_DOES_NOT_SUPPORT_S_OPERATION, "set_result");
+        }
+    }
+
+    @Builtin(name = "set_exception", minNumOfPositionalArgs = 2)
+    @GenerateNodeFactory
+    public abstract static class TaskSetExceptionNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        @SuppressWarnings("unused")
+        static Object setException(PTask self, Object exception,
+                        @Cached PRaiseNode raiseNode) {
+            throw raiseNode.raise(RuntimeError, ErrorMessages.TASK_DOES_NOT_SUPPORT_S_OPERATION, "set_exception");
+        }
+    }
+
+    @Builtin(name = "get_coro", minNumOfPositionalArgs = 1)
+    @Builtin(name = "_coro", minNumOfPositionalArgs = 1, isGetter = true)
+    @GenerateNodeFactory
+    public abstract static class GetCoroNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object getCoro(PTask self) {
+            Object coro = self.getCoro();
+            return coro == null ? PNone.NONE : coro;
+        }
+    }
+
+    @Builtin(name = "get_context", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    public abstract static class GetContextNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object getContext(PTask self) {
+            Object context = self.getContext();
+            return context == null ? PNone.NONE : context;
+        }
+    }
+
+    @Builtin(name = "get_name", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    public abstract static class GetNameNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object getName(PTask self) {
+            Object name = self.getName();
+            return name == null ? PNone.NONE : name;
+        }
+    }
+
+    @Builtin(name = "set_name", minNumOfPositionalArgs = 2)
+    @GenerateNodeFactory
+    public abstract static class SetNameNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        static Object setName(VirtualFrame frame, PTask self, Object value,
+                        @Bind("this") Node inliningTarget,
+                        @Cached PyUnicodeCheckExactNode unicodeCheckExact,
+                        @Cached PyObjectStrAsObjectNode strNode) {
+            self.setName(unicodeCheckExact.execute(inliningTarget, value) ? value : strNode.execute(frame, inliningTarget, value));
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "get_stack", minNumOfPositionalArgs = 1, parameterNames = {"$self"}, varArgsMarker = true, keywordOnlyNames = {"limit"})
+    @GenerateNodeFactory
+    public abstract static class GetStackNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        Object getStack(VirtualFrame frame, PTask self, Object limit,
+                        @Cached CallNode callNode) {
+            Object getStack = AsyncioModuleBuiltins.getModuleState(getContext()).getTaskGetStack();
+            return callNode.execute(frame, getStack, self, PGuards.isNoValue(limit) ? PNone.NONE : limit);
+        }
+    }
+
+    @Builtin(name = "print_stack", minNumOfPositionalArgs = 1, parameterNames = {"$self"}, varArgsMarker = true, keywordOnlyNames = {"limit", "file"})
+    @GenerateNodeFactory
+    public abstract static class PrintStackNode extends PythonTernaryBuiltinNode {
+        @Specialization
+        Object printStack(VirtualFrame frame, PTask self, Object limit, Object file,
+                        @Cached CallNode callNode) {
+            Object printStack = AsyncioModuleBuiltins.getModuleState(getContext()).getTaskPrintStack();
+            return callNode.execute(frame, printStack, self, PGuards.isNoValue(limit) ? PNone.NONE : limit, PGuards.isNoValue(file) ? PNone.NONE : file);
+        }
+    }
+
+    @Builtin(name = J___DEL__, minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    public abstract static class DelNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object del(PTask self) {
+            finalizeTask(self);
+            FutureBuiltins.finalizeFuture(self);
+            return PNone.NONE;
+        }
+
+        /**
+         * Equivalent of {@code TaskObj_finalize} in CPython: reports a task that is destroyed
+         * while still pending.
+         */
+        @TruffleBoundary
+        private static void finalizeTask(PTask self) {
+            if (!self.isInitialized() || !self.isPending() || !self.isLogDestroyPending()) {
+                return;
+            }
+            PDict context = PythonObjectFactory.getUncached().createDict();
+            PyDictSetItem.executeUncached(context, FutureBuiltins.T_MESSAGE, T_TASK_WAS_DESTROYED);
+            PyDictSetItem.executeUncached(context, T_TASK, self);
+            FutureBuiltins.callExceptionHandler(self, context);
+        }
+    }
+
+    @Builtin(name = J___REPR__, minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    public abstract static class ReprNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        Object repr(VirtualFrame frame, PTask self,
+                        @Cached CallNode callNode) {
+            Object taskRepr = AsyncioModuleBuiltins.getModuleState(getContext()).getTaskRepr();
+            return callNode.execute(frame, taskRepr, self);
+        }
+    }
+
+    @Builtin(name = "_fut_waiter", minNumOfPositionalArgs = 1, isGetter = true)
+    @GenerateNodeFactory
+    public abstract static class FutWaiterNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object futWaiter(PTask self) {
+            Object waiter = self.getFutWaiter();
+            return waiter == null ? PNone.NONE : waiter;
+        }
+    }
+
+    @Builtin(name = "_must_cancel", minNumOfPositionalArgs = 1, isGetter = true)
+    @GenerateNodeFactory
+    public abstract static class MustCancelNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static boolean mustCancel(PTask self) {
+            return self.isMustCancel();
+        }
+    }
+
+    @Builtin(name = "_num_cancels_requested", minNumOfPositionalArgs = 1, isGetter = true)
+    @GenerateNodeFactory
+    public abstract static class NumCancelsRequestedNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static int numCancelsRequested(PTask self) {
+            return self.getNumCancelsRequested();
+        }
+    }
+
+    @Builtin(name = "_log_destroy_pending", minNumOfPositionalArgs = 1, maxNumOfPositionalArgs = 2, isGetter = true, isSetter = true)
+    @GenerateNodeFactory
+    public abstract static class LogDestroyPendingNode extends PythonBinaryBuiltinNode {
+        @Specialization(guards = "isNoValue(value)")
+        static Object get(PTask self, @SuppressWarnings("unused") PNone value) {
+            return self.isLogDestroyPending();
+        }
+
+        @Specialization(guards = "!isNoValue(value)")
+        static Object set(VirtualFrame frame, PTask self, Object value,
+                        @Bind("this") Node inliningTarget,
+                        @Cached PyObjectIsTrueNode isTrue) {
+            self.setLogDestroyPending(isTrue.execute(frame, inliningTarget, value));
+            return PNone.NONE;
+        }
+    }
+}
@@ -40,17 +40,36 @@
  */
 package com.oracle.graal.python.builtins.objects.cext.capi.transitions;
 
-import static java.util.stream.Collectors.summingLong;
-
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.stream.Stream;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 import org.graalvm.nativeimage.ImageInfo;
 
+import com.oracle.graal.python.runtime.PythonContext;
+import com.oracle.truffle.api.Assumption;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.Truffle;
 
+/**
+ * Profiler for C API transitions. Each instance accumulates the statistics of one function in one
+ * direction: downcalls ({@code J->N}, Java calling native code) and upcalls ({@code N->J}, native
+ * code calling into the C API). For every function we record the number of calls, the self time
+ * (excluding nested transitions), a log2 histogram of the call latency, and the number of native
+ * object stubs allocated while the function was on top of the transition stack.
+ *
+ * Whether calls are recorded is decided per context, see {@link PythonContext#setCApiTimingEnabled}
+ * and {@link com.oracle.graal.python.runtime.PythonOptions#CAPITiming}. The {@code python.CAPITiming}
+ * system property (whose value is the interval in milliseconds for periodically dumping the
+ * statistics) enables timing in all contexts. As long as no context has ever enabled timing, the
+ * {@link #enter()} and {@link #exit(CApiTiming)} hooks fold away in compiled code. The statistics
+ * of a function are shared by all contexts that record it. While timing is enabled, every
+ * transition is also emitted as {@link CApiCallEvent} to JFR if that event is enabled in a
+ * recording.
+ */
 public final class CApiTiming {
 
     /**
@@ -59,6 +78,12 @@ public final class CApiTiming {
     private static final int PROFILE_CALL_INTERVAL = Integer.getInteger("python.CAPITiming", 0);
 
     private static final int INITIAL_STACK = 100;
+    /**
+     * Number of latency histogram buckets. Bucket {@code i} counts calls that took less than
+     * {@code 2^i} nanoseconds (and at least {@code 2^(i-1)}); the last bucket collects everything
+     * slower.
+     */
+    public static final int HISTOGRAM_BUCKETS = 40;
     /**
      * Include results until at least this fraction of total time is included.
      */
@@ -71,31 +96,70 @@ public final class CApiTiming {
     private static final class TimingStack {
         long[] subTimes = new long[INITIAL_STACK + 1];
         long[] startTimes = new long[INITIAL_STACK];
+        long[] allocations = new long[INITIAL_STACK];
         int sp;
     }
 
+    /**
+     * Valid until timing is enabled in any context for the first time. Once invalidated, the
+     * transition stack is maintained for every call so that it stays balanced if timing is toggled
+     * while calls are in flight; the context then decides if the calls are recorded.
+     */
+    private static final Assumption NEVER_ENABLED = Truffle.getRuntime().createAssumption("C API timing never enabled");
+
     private static final ThreadLocal<TimingStack> STACK = ThreadLocal.withInitial(TimingStack::new);
+    /**
+     * All instances that recorded at least one call since the last {@link #reset()}. Instances are
+     * only registered on their first recorded call, so wrappers created while timing is disabled
+     * do not accumulate here.
+     */
     private static final ArrayList<CApiTiming> TIMINGS = new ArrayList<>();
 
-    private final String name;
+    /**
+     * The object describing the function; replaced by its string representation ({@link #name})
+     * on registration to not keep it alive.
+     */
+    private Object delegate;
+    private String name;
     private final boolean fromJava;
-    private final AtomicLong time = new AtomicLong();
-    private final AtomicLong count = new AtomicLong();
+    /**
+     * Allocated when the first call is recorded, so that the many instances that never record
+     * anything stay small. Non-null exactly while this instance is registered in {@link #TIMINGS}.
+     */
+    private volatile Counters counters;
+
+    private static final class Counters {
+        final AtomicLong time = new AtomicLong();
+        final AtomicLong count = new AtomicLong();
+        final AtomicLong allocations = new AtomicLong();
+        final AtomicLongArray histogram = new AtomicLongArray(HISTOGRAM_BUCKETS);
+    }
 
-    private CApiTiming(boolean fromJava, String name) {
+    private CApiTiming(boolean fromJava, Object delegate) {
         this.fromJava = fromJava;
-        this.name = name;
-        synchronized (TIMINGS) {
-            TIMINGS.add(this);
-        }
+        this.delegate = delegate;
     }
 
     public static CApiTiming create(boolean fromJava, Object delegate) {
-        return PROFILE_CALL_INTERVAL == 0 ? null : new CApiTiming(fromJava, delegate + (fromJava ? " J->N" : " N->J"));
+        return new CApiTiming(fromJava, delegate);
+    }
+
+    /**
+     * Aggregated statistics of all functions with the same name and direction.
+     *
+     * @param name the function name
+     * @param downcall {@code true} for calls from Java to native code
+     * @param count the number of calls
+     * @param time the accumulated self time in nanoseconds
+     * @param allocations the number of native object stubs allocated during the calls
+     * @param histogram the call latency histogram, see {@link #HISTOGRAM_BUCKETS}
+     */
+    public record Statistics(String name, boolean downcall, long count, long time, long allocations, long[] histogram) {
     }
 
     static {
         if (PROFILE_CALL_INTERVAL != 0 && !ImageInfo.inImageBuildtimeCode()) {
+            NEVER_ENABLED.invalidate();
             Thread thread = new Thread() {
                 @Override
                 public void run() {
@@ -105,9 +169,7 @@ public final class CApiTiming {
                         } catch (InterruptedException e) {
                             // continue
                         }
-                        synchronized (TIMINGS) {
-                            dumpCallStatistics();
-                        }
+                        dumpCallStatistics();
                     }
                 }
 
@@ -123,40 +185,104 @@ public final class CApiTiming {
         }
     }
 
+    /**
+     * Whether the {@code python.CAPITiming} system property enables timing in all contexts.
+     */
+    public static boolean isEnabledOnStartup() {
+        return PROFILE_CALL_INTERVAL != 0;
+    }
+
+    /**
+     * Must be called when a context enables timing. Enabling timing for the first time deoptimizes
+     * all compiled code containing transitions.
+     */
+    @TruffleBoundary
+    public static void enableTransitionStack() {
+        NEVER_ENABLED.invalidate();
+    }
+
+    /**
+     * Discards all statistics recorded so far.
+     */
+    @TruffleBoundary
+    public static void reset() {
+        synchronized (TIMINGS) {
+            for (CApiTiming t : TIMINGS) {
+                t.counters = null;
+            }
+            TIMINGS.clear();
+        }
+    }
+
+    /**
+     * Returns a snapshot of the statistics recorded so far, merged by function name and direction
+     * and sorted like the periodic dump (downcalls last, then by name).
+     */
+    @TruffleBoundary
+    public static List<Statistics> getStatistics() {
+        LinkedHashMap<String, Statistics> merged = new LinkedHashMap<>();
+        synchronized (TIMINGS) {
+            for (CApiTiming t : TIMINGS) {
+                String name = t.name;
+                Counters c = t.counters;
+                long[] histogram = new long[HISTOGRAM_BUCKETS];
+                for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+                    histogram[i] = c.histogram.get(i);
+                }
+                Statistics s = new Statistics(name, t.fromJava, c.count.get(), c.time.get(), c.allocations.get(), histogram);
+                merged.merge((t.fromJava ? "J" : "N") + name, s, CApiTiming::merge);
+            }
+        }
+        ArrayList<Statistics> sorted = new ArrayList<>(merged.values());
+        sorted.sort((a, b) -> Boolean.compare(a.downcall, b.downcall) * 100 + a.name.compareTo(b.name));
+        return sorted;
+    }
+
+    private static Statistics merge(Statistics a, Statistics b) {
+        long[] histogram = a.histogram.clone();
+        for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+            histogram[i] += b.histogram[i];
+        }
+        return new Statistics(a.name, a.downcall, a.count + b.count, a.time + b.time, a.allocations + b.allocations, histogram);
+    }
+
+    private static String displayName(Statistics s) {
+        return s.name + (s.downcall ? " J->N" : " N->J");
+    }
+
     private static void dumpCallStatistics() {
-        ArrayList<CApiTiming> sorted = new ArrayList<>(TIMINGS);
-        sorted.sort((a, b) -> Boolean.compare(a.fromJava, b.fromJava) * 100 + a.name.compareTo(b.name));
+        List<Statistics> sorted = getStatistics();
         System.out.println("======================================================================");
-        System.out.printf("%70s  %8s %10s\n", "Name:", "Count:", "Time:");
-        long totalCount = sorted.stream().collect(summingLong(e -> e.count.get()));
-        long totalTime = sorted.stream().collect(summingLong(e -> e.time.get()));
-        long cutoffTime = getCutoff(totalTime, sorted.stream().map(e -> e.time.get()));
-        long cutoffCount = getCutoff(totalCount, sorted.stream().map(e -> e.count.get()));
+        System.out.printf("%70s  %8s %10s %8s\n", "Name:", "Count:", "Time:", "Allocs:");
+        long totalCount = sorted.stream().mapToLong(Statistics::count).sum();
+        long totalTime = sorted.stream().mapToLong(Statistics::time).sum();
+        long cutoffTime = getCutoff(totalTime, sorted.stream().mapToLong(Statistics::time).toArray());
+        long cutoffCount = getCutoff(totalCount, sorted.stream().mapToLong(Statistics::count).toArray());
         long percent = totalTime / 100;
         long visibleCount = 0;
         long visibleTime = 0;
         for (var e : sorted) {
-            if (e.time.get() >= cutoffTime || e.count.get() >= cutoffCount) {
-                System.out.printf("%70s  %8s %8sms %s\n", e.name, e.count, e.time.get() / 1000000, stars(percent, e.time.get()));
-                visibleCount += e.count.get();
-                visibleTime += e.time.get();
+            if (e.time >= cutoffTime || e.count >= cutoffCount) {
+                System.out.printf("%70s  %8s %8sms %8s %s\n", displayName(e), e.count, e.time / 1000000, e.allocations, stars(percent, e.time));
+                visibleCount += e.count;
+                visibleTime += e.time;
             }
         }
-        System.out.printf("%70s  %8s %8sms %s\n", "Others:", (totalCount - visibleCount), (totalTime - visibleTime) / 1000000, stars(percent, totalTime - visibleTime));
+        System.out.printf("%70s  %8s %8sms %8s %s\n", "Others:", (totalCount - visibleCount), (totalTime - visibleTime) / 1000000, "", stars(percent, totalTime - visibleTime));
         System.out.println("----------------------------------------------------------------------");
         System.out.printf("%70s  %8s %8sms\n", "Total:", totalCount, totalTime / 1000000);
         System.out.printf("%70s  %8s %8sms)\n", "(cutoff:", cutoffCount, cutoffTime / 1000000);
         System.out.println();
     }
 
-    private static long getCutoff(long total, Stream<Long> values) {
-        ArrayList<Long> sorted = new ArrayList<>(values.toList());
-        sorted.sort(Long::compare);
+    private static long getCutoff(long total, long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
         long accountedTime = 0;
         long cutoffTime = 0;
-        for (int i = sorted.size() - 1; i >= 0; i--) {
+        for (int i = sorted.length - 1; i >= 0; i--) {
             if (accountedTime <= total * CUTOFF_TIME) {
-                cutoffTime = sorted.get(i);
+                cutoffTime = sorted[i];
                 accountedTime += cutoffTime;
             }
         }
@@ -172,40 +298,106 @@ public final class CApiTiming {
         return String.format("%2d", value) + "% " + STARS.substring(0, value);
     }
 
+    /**
+     * Returns the histogram bucket for a latency of {@code nanos} nanoseconds.
+     */
+    public static int histogramBucket(long nanos) {
+        return Math.min(HISTOGRAM_BUCKETS - 1, 64 - Long.numberOfLeadingZeros(Math.max(nanos, 0)));
+    }
+
     public static void enter() {
-        if (PROFILE_CALL_INTERVAL != 0) {
+        if (!NEVER_ENABLED.isValid()) {
             enterInternal();
         }
     }
 
     public static void exit(CApiTiming t) {
-        if (PROFILE_CALL_INTERVAL != 0) {
+        if (!NEVER_ENABLED.isValid()) {
             exitInternal(t);
         }
     }
 
+    /**
+     * Attributes the allocation of a native object stub to the innermost active transition.
+     */
+    public static void allocation() {
+        if (!NEVER_ENABLED.isValid()) {
+            allocationInternal();
+        }
+    }
+
     @TruffleBoundary
     private static void enterInternal() {
         TimingStack stack = STACK.get();
         if (stack.sp >= stack.startTimes.length) {
             // grow stack if necessary
             int newSize = stack.startTimes.length * 2;
-            stack.subTimes = Arrays.copyOf(stack.subTimes, newSize);
+            stack.subTimes = Arrays.copyOf(stack.subTimes, newSize + 1);
             stack.startTimes = Arrays.copyOf(stack.startTimes, newSize);
+            stack.allocations = Arrays.copyOf(stack.allocations, newSize);
         }
         stack.subTimes[stack.sp] = 0;
+        stack.allocations[stack.sp] = 0;
         stack.startTimes[stack.sp++] = System.nanoTime();
     }
 
     @TruffleBoundary
     private static void exitInternal(CApiTiming t) {
         TimingStack stack = STACK.get();
-        long startTime = stack.startTimes[--stack.sp];
-        long delta = System.nanoTime() - startTime;
-        t.time.addAndGet(delta - stack.subTimes[stack.sp]);
+        if (stack.sp == 0) {
+            // the matching 'enter' happened before timing was enabled for the first time
+            return;
+        }
+        int sp = --stack.sp;
+        long delta = System.nanoTime() - stack.startTimes[sp];
+        long selfTime = delta - stack.subTimes[sp];
+        if (sp > 0) {
+            stack.subTimes[sp - 1] += delta;
+        }
+        if (PythonContext.get(null).isCApiTimingEnabled()) {
+            t.record(delta, selfTime, stack.allocations[sp]);
+        }
+    }
+
+    @TruffleBoundary
+    private static void allocationInternal() {
+        TimingStack stack = STACK.get();
         if (stack.sp > 0) {
-            stack.subTimes[stack.sp - 1] += delta;
+            stack.allocations[stack.sp - 1]++;
+        }
+    }
+
+    private void record(long delta, long selfTime, long allocs) {
+        Counters c = counters;
+        if (c == null) {
+            synchronized (TIMINGS) {
+                c = counters;
+                if (c == null) {
+                    if (name == null) {
+                        name = String.valueOf(delegate);
+                        delegate = null;
+                    }
+                    c = new Counters();
+                    counters = c;
+                    TIMINGS.add(this);
+                }
+            }
+        }
+        c.time.addAndGet(selfTime);
+        c.count.getAndIncrement();
+        if (allocs != 0) {
+            c.allocations.addAndGet(allocs);
+        }
+        c.histogram.getAndIncrement(histogramBucket(delta));
+
+        CApiCallEvent event = new CApiCallEvent();
+        if (event.isEnabled()) {
+            event.function = name;
+            event.downcall = fromJava;
+            event.callDuration = delta;
+            event.selfTime = selfTime;
+            event.allocations = allocs;
+            event.commit();
         }
-        t.count.getAndIncrement();
     }
 }
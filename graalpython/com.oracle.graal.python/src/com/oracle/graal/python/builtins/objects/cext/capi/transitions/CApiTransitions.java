@@ -46,11 +46,9 @@ import static com.oracle.graal.python.builtins.objects.cext.capi.PythonNativeWra
 import java.lang.ref.ReferenceQueue;
 import java.lang.ref.WeakReference;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.WeakHashMap;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 
 import com.oracle.graal.python.builtins.PythonBuiltinClassType;
@@ -79,6 +77,7 @@ import com.oracle.graal.python.builtins.objects.cext.common.CExtCommonNodes.Coer
 import com.oracle.graal.python.builtins.objects.cext.common.CExtToJavaNode;
 import com.oracle.graal.python.builtins.objects.cext.common.CExtToNativeNode;
 import com.oracle.graal.python.builtins.objects.cext.common.HandleStack;
+import com.oracle.graal.python.builtins.objects.cext.common.NativePointerMap;
 import com.oracle.graal.python.builtins.objects.cext.common.NativePointer;
 import com.oracle.graal.python.builtins.objects.cext.structs.CFields;
 import com.oracle.graal.python.builtins.objects.cext.structs.CStructAccess;
@@ -149,7 +148,7 @@ public abstract class CApiTransitions {
         private static final int LINEAR_THRESHOLD = 1024 * 1024 / Integer.BYTES;
 
         public HandleContext(boolean useShadowTable) {
-            nativeStubLookupShadowTable = useShadowTable ? new HashMap<>() : null;
+            nativeStubLookupShadowTable = useShadowTable ? new NativePointerMap<>() : null;
             nativeStubLookup = new PythonObjectReference[DEFAULT_CAPACITY];
             nativeStubLookupFreeStack = new HandleStack(DEFAULT_CAPACITY);
             // Never use 'handleTableIndex == 0' to avoid that zeroed memory
@@ -158,11 +157,15 @@ public abstract class CApiTransitions {
         }
 
         public final NativeObjectReferenceArrayWrapper referencesToBeFreed = new NativeObjectReferenceArrayWrapper();
-        public final HashMap<Long, IdReference<?>> nativeLookup = new HashMap<>();
-        public final ConcurrentHashMap<Long, Long> nativeWeakRef = new ConcurrentHashMap<>();
+        public final NativePointerMap<IdReference<?>> nativeLookup = new NativePointerMap<>();
+        /**
+         * Pointers of native weak reference objects. May be modified by the weakref callback
+         * thread, so accesses must synchronize on the map.
+         */
+        public final NativePointerMap<Boolean> nativeWeakRef = new NativePointerMap<>();
         public final WeakHashMap<Object, WeakReference<Object>> managedNativeLookup = new WeakHashMap<>();
 
-        private final HashMap<Long, PythonObjectReference> nativeStubLookupShadowTable;
+        private final NativePointerMap<PythonObjectReference> nativeStubLookupShadowTable;
         public PythonObjectReference[] nativeStubLookup;
         public final HandleStack nativeStubLookupFreeStack;
 
@@ -174,17 +177,17 @@ public abstract class CApiTransitions {
         volatile boolean referenceQueuePollActive = false;
 
         @TruffleBoundary
-        static <T> T putShadowTable(HashMap<Long, T> table, long pointer, T ref) {
+        static <T> T putShadowTable(NativePointerMap<T> table, long pointer, T ref) {
             return table.put(pointer, ref);
         }
 
         @TruffleBoundary
-        static <T> T removeShadowTable(HashMap<Long, T> table, long pointer) {
+        static <T> T removeShadowTable(NativePointerMap<T> table, long pointer) {
             return table.remove(pointer);
         }
 
         @TruffleBoundary
-        static <T> T getShadowTable(HashMap<Long, T> table, long pointer) {
+        static <T> T getShadowTable(NativePointerMap<T> table, long pointer) {
             return table.get(pointer);
         }
     }
@@ -461,13 +464,13 @@ public abstract class CApiTransitions {
                                 }
                             } else {
                                 assert nativeLookupGet(handleContext, reference.pointer) != null : Long.toHexString(reference.pointer);
-                                nativeLookupRemove(handleContext, reference.pointer);
+                                nativeLookupRemove(handleContext, reference.pointer, reference);
                                 if (reference.freeAtCollection) {
                                     freeNativeStruct(reference);
                                 }
                             }
                         } else if (entry instanceof NativeObjectReference reference) {
-                            nativeLookupRemove(handleContext, reference.pointer);
+                            nativeLookupRemove(handleContext, reference.pointer, reference);
                             processNativeObjectReference(reference, referencesToBeFreed);
                         } else if (entry instanceof NativeStorageReference reference) {
                             handleContext.nativeStorageReferences.remove(reference);
@@ -548,7 +551,8 @@ public abstract class CApiTransitions {
 
     public static void freeClassReplacements(HandleContext handleContext) {
         assert PythonContext.get(null).ownsGil();
-        handleContext.nativeLookup.forEach((l, ref) -> {
+        LOGGER.fine(() -> "native lookup table at exit: " + handleContext.nativeLookup);
+        handleContext.nativeLookup.forEach((ref, pointer) -> {
             if (ref instanceof PythonObjectReference reference) {
                 // We don't expect references to wrappers that would have a native object stub.
                 assert reference.handleTableIndex == -1;
@@ -627,7 +631,10 @@ public abstract class CApiTransitions {
      */
     @TruffleBoundary
     public static void addNativeWeakRef(PythonContext pythonContext, PythonAbstractNativeObject object) {
-        pythonContext.nativeContext.nativeWeakRef.put(getNativePointer(object), 0L);
+        NativePointerMap<Boolean> nativeWeakRef = pythonContext.nativeContext.nativeWeakRef;
+        synchronized (nativeWeakRef) {
+            nativeWeakRef.put(getNativePointer(object), Boolean.TRUE);
+        }
     }
 
     /**
@@ -636,7 +643,10 @@ public abstract class CApiTransitions {
      */
     @TruffleBoundary
     public static void removeNativeWeakRef(PythonContext pythonContext, long pointer) {
-        pythonContext.nativeContext.nativeWeakRef.remove(pointer);
+        NativePointerMap<Boolean> nativeWeakRef = pythonContext.nativeContext.nativeWeakRef;
+        synchronized (nativeWeakRef) {
+            nativeWeakRef.remove(pointer);
+        }
     }
 
     public static long getNativePointer(Object obj) {
@@ -657,12 +667,15 @@ public abstract class CApiTransitions {
         assert pythonContext.ownsGil();
         HandleContext context = pythonContext.nativeContext;
         int idx = -1;
-        Object[] list = context.nativeWeakRef.values().toArray();
-        context.nativeWeakRef.clear();
+        long[] list;
+        synchronized (context.nativeWeakRef) {
+            list = context.nativeWeakRef.getKeys();
+            context.nativeWeakRef.clear();
+        }
         long[] ptrArray = new long[list.length];
-        for (Object ptr : list) {
+        for (long ptr : list) {
             if (context.nativeLookup.containsKey(ptr)) {
-                ptrArray[++idx] = (Long) ptr;
+                ptrArray[++idx] = ptr;
             }
         }
         if (idx != -1) {
@@ -673,7 +686,9 @@ public abstract class CApiTransitions {
                 CExtNodes.PCallCapiFunction.callUncached(NativeCAPISymbol.FUN_SHUTDOWN_BULK_DEALLOC, array, len);
             } finally {
                 CStructAccess.FreeNode.executeUncached(array);
-                context.nativeWeakRef.clear();
+                synchronized (context.nativeWeakRef) {
+                    context.nativeWeakRef.clear();
+                }
             }
         }
         // we are holding the GIL; no one can create weakrefs concurrently
@@ -729,6 +744,15 @@ public abstract class CApiTransitions {
         return context.nativeLookup.remove(pointer);
     }
 
+    /**
+     * Removes the mapping for {@code pointer} only if it still maps to {@code reference}. The
+     * pointer may have been reused for a new object before the reference was dequeued.
+     */
+    @TruffleBoundary
+    private static boolean nativeLookupRemove(HandleContext context, long pointer, IdReference<?> reference) {
+        return context.nativeLookup.remove(pointer, reference);
+    }
+
     public static PythonObjectReference nativeStubLookupGet(HandleContext context, long pointer, int idx) {
         if (idx <= 0) {
             if (PythonContext.DEBUG_CAPI && HandleContext.getShadowTable(context.nativeStubLookupShadowTable, pointer) != null) {
@@ -947,6 +971,7 @@ public abstract class CApiTransitions {
 
             // allocate a native stub object (C type: GraalPy*Object)
             Object nativeObjectStub = allocateNode.alloc(ctype);
+            CApiTiming.allocation();
 
             HandleContext handleContext = PythonContext.get(inliningTarget).nativeContext;
             long stubPointer = coerceToLongNode.execute(inliningTarget, nativeObjectStub);
@@ -1000,6 +1025,7 @@ public abstract class CApiTransitions {
             if (!obj.isNative()) {
                 logVoid(obj, ptr);
                 obj.setNativePointer(ptr);
+                CApiTiming.allocation();
                 pollReferenceQueue();
                 HandleContext context = getContext();
                 nativeLookupPut(context, ptr, PythonObjectReference.create(context, obj, ptr, freeAtCollection));
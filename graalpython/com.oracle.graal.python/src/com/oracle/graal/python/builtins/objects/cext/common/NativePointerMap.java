@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.cext.common;
+
+import java.util.Arrays;
+import java.util.function.ObjLongConsumer;
+
+import com.oracle.truffle.api.CompilerAsserts;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+
+/**
+ * An open-addressing hash map from native pointers to objects. Keys are stored unboxed in a flat
+ * {@code long[]} next to a parallel value array, so neither lookups nor updates allocate. Collisions
+ * are resolved by linear probing, and removal shifts the following entries of a probe sequence
+ * back, so the table never contains tombstones.
+ *
+ * The key {@code 0} ({@code NULL}) marks empty slots and cannot be used as a key. The map is not
+ * thread-safe.
+ */
+public final class NativePointerMap<V> {
+    private static final int DEFAULT_CAPACITY = 64;
+
+    private long[] keys;
+    private Object[] values;
+    private int size;
+
+    // statistics
+    private long lookups;
+    private long probes;
+    private int resizes;
+
+    public NativePointerMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public NativePointerMap(int initialCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(initialCapacity, 2) - 1) << 1;
+        keys = new long[capacity];
+        values = new Object[capacity];
+    }
+
+    private static int hash(long key) {
+        // Fibonacci hashing: pointers are aligned, so only the high half of the product is used
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h >>> 32);
+    }
+
+    private int indexOf(long key) {
+        assert key != 0;
+        int mask = keys.length - 1;
+        int i = hash(key) & mask;
+        lookups++;
+        while (true) {
+            long k = keys[i];
+            if (k == key) {
+                return i;
+            } else if (k == 0) {
+                return -1;
+            }
+            probes++;
+            i = (i + 1) & mask;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        int i = indexOf(key);
+        return i >= 0 ? (V) values[i] : null;
+    }
+
+    public boolean containsKey(long key) {
+        return indexOf(key) >= 0;
+    }
+
+    /**
+     * Associates {@code value} with {@code key} and returns the previously associated value, or
+     * {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    public V put(long key, V value) {
+        assert key != 0 && value != null;
+        int mask = keys.length - 1;
+        int i = hash(key) & mask;
+        while (true) {
+            long k = keys[i];
+            if (k == key) {
+                V prev = (V) values[i];
+                values[i] = value;
+                return prev;
+            } else if (k == 0) {
+                keys[i] = key;
+                values[i] = value;
+                // keep the load factor at or below 1/2 to keep probe sequences short
+                if (++size > keys.length >> 1) {
+                    resize();
+                }
+                return null;
+            }
+            i = (i + 1) & mask;
+        }
+    }
+
+    /**
+     * Removes the mapping of {@code key} and returns the previously associated value, or
+     * {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(long key) {
+        int i = indexOf(key);
+        if (i < 0) {
+            return null;
+        }
+        V prev = (V) values[i];
+        removeAt(i);
+        return prev;
+    }
+
+    /**
+     * Removes the mapping of {@code key} only if it is currently mapped to {@code expected}. This
+     * is used by cleanup driven by reference queues: by the time a reference is dequeued, its
+     * pointer may already be mapped to a newer object.
+     */
+    public boolean remove(long key, V expected) {
+        int i = indexOf(key);
+        if (i < 0 || values[i] != expected) {
+            return false;
+        }
+        removeAt(i);
+        return true;
+    }
+
+    private void removeAt(int idx) {
+        int mask = keys.length - 1;
+        int gap = idx;
+        int i = idx;
+        while (true) {
+            i = (i + 1) & mask;
+            long k = keys[i];
+            if (k == 0) {
+                break;
+            }
+            int home = hash(k) & mask;
+            // move the entry into the gap if the gap lies on its probe sequence
+            if (((i - home) & mask) >= ((i - gap) & mask)) {
+                keys[gap] = k;
+                values[gap] = values[i];
+                gap = i;
+            }
+        }
+        keys[gap] = 0;
+        values[gap] = null;
+        size--;
+    }
+
+    @TruffleBoundary
+    private void resize() {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        keys = new long[oldKeys.length << 1];
+        values = new Object[oldKeys.length << 1];
+        int mask = keys.length - 1;
+        for (int j = 0; j < oldKeys.length; j++) {
+            long k = oldKeys[j];
+            if (k != 0) {
+                int i = hash(k) & mask;
+                while (keys[i] != 0) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = k;
+                values[i] = oldValues[j];
+            }
+        }
+        resizes++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, 0);
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    /**
+     * Returns a snapshot of all keys in unspecified order.
+     */
+    public long[] getKeys() {
+        long[] result = new long[size];
+        int n = 0;
+        for (long k : keys) {
+            if (k != 0) {
+                result[n++] = k;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Calls {@code action} for each entry. The map must not be modified during the iteration.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(ObjLongConsumer<V> action) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                action.accept((V) values[i], keys[i]);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        CompilerAsserts.neverPartOfCompilation();
+        return String.format("NativePointerMap(size=%d, capacity=%d, lookups=%d, probes=%d, resizes=%d)", size, keys.length, lookups, probes, resizes);
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2024, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -58,6 +58,7 @@ import com.oracle.graal.python.nodes.expression.BinaryComparisonNode;
 import com.oracle.graal.python.runtime.ExecutionContext;
 import com.oracle.graal.python.runtime.ExecutionContext.CallContext;
 import com.oracle.graal.python.runtime.ExecutionContext.IndirectCalleeContext;
+import com.oracle.graal.python.runtime.GilNode;
 import com.oracle.graal.python.runtime.PythonContext;
 import com.oracle.graal.python.runtime.PythonContext.PythonThreadState;
 import com.oracle.graal.python.runtime.sequence.storage.BoolSequenceStorage;
@@ -79,13 +80,11 @@ import com.oracle.truffle.api.dsl.Cached.Shared;
 import com.oracle.truffle.api.dsl.Fallback;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.frame.VirtualFrame;
-import com.oracle.truffle.api.nodes.ExplodeLoop;
 import com.oracle.truffle.api.nodes.LoopNode;
 import com.oracle.truffle.api.nodes.Node;
 import com.oracle.truffle.api.profiles.InlinedConditionProfile;
 import com.oracle.truffle.api.profiles.InlinedCountingConditionProfile;
 import com.oracle.truffle.api.profiles.InlinedLoopConditionProfile;
-import com.oracle.truffle.api.profiles.ValueProfile;
 import com.oracle.truffle.api.strings.TruffleString;
 
 public abstract class SortNodes {
@@ -173,8 +172,6 @@ public abstract class SortNodes {
 
         @CompilationFinal private RootCallTarget comparatorCallTarget;
 
-        private final ValueProfile keyClassProfile = ValueProfile.createIdentityProfile();
-
         public abstract void execute(VirtualFrame frame, SequenceStorage storage, Object keyfunc, boolean reverse);
 
         @Specialization
@@ -201,12 +198,45 @@ public abstract class SortNodes {
             }
         }
 
+        /*
+         * The primitive and string sorts below cannot run any Python code, and the list being
+         * sorted is made empty by the caller for the duration of the sort, so nobody else can
+         * observe the storage. For large storages we therefore release the GIL and use a fork-join
+         * parallel sort. Below this threshold, the overhead of handing the GIL over and of the
+         * parallel sort (which itself falls back to a sequential sort for small chunks) is not
+         * worth it.
+         */
+        private static final int PARALLEL_SORT_THRESHOLD = 1 << 16;
+
+        /**
+         * Length of the runs sorted by insertion sort before merging in {@code sortByKeys}.
+         */
+        private static final int KEY_SORT_RUN = 32;
+
+        /*
+         * Kinds of key arrays used by sortWithKey when all keys have the same primitive type.
+         */
+        private static final int OBJECT_KEYS = 0;
+        private static final int LONG_KEYS = 1;
+        private static final int DOUBLE_KEYS = 2;
+        private static final int STRING_KEYS = 3;
+
         @Specialization
         @TruffleBoundary
-        void sort(IntSequenceStorage storage, @SuppressWarnings("unused") PNone keyfunc, boolean reverse) {
+        static void sort(IntSequenceStorage storage, @SuppressWarnings("unused") PNone keyfunc, boolean reverse,
+                        @Shared @Cached GilNode gil) {
             int[] array = storage.getInternalIntArray();
             int len = storage.length();
-            Arrays.sort(array, 0, len);
+            if (len >= PARALLEL_SORT_THRESHOLD) {
+                gil.release(true);
+                try {
+                    Arrays.parallelSort(array, 0, len);
+                } finally {
+                    gil.acquire();
+                }
+            } else {
+                Arrays.sort(array, 0, len);
+            }
             if (reverse) {
                 reverseArray(array, len);
             }
@@ -214,10 +244,20 @@ public abstract class SortNodes {
 
         @Specialization
         @TruffleBoundary
-        void sort(LongSequenceStorage storage, @SuppressWarnings("unused") PNone keyfunc, boolean reverse) {
+        static void sort(LongSequenceStorage storage, @SuppressWarnings("unused") PNone keyfunc, boolean reverse,
+                        @Shared @Cached GilNode gil) {
             long[] array = storage.getInternalLongArray();
             int len = storage.length();
-            Arrays.sort(array, 0, len);
+            if (len >= PARALLEL_SORT_THRESHOLD) {
+                gil.release(true);
+                try {
+                    Arrays.parallelSort(array, 0, len);
+                } finally {
+                    gil.acquire();
+                }
+            } else {
+                Arrays.sort(array, 0, len);
+            }
             if (reverse) {
                 reverseArray(array, len);
             }
@@ -225,17 +265,27 @@ public abstract class SortNodes {
 
         @Specialization
         @TruffleBoundary
-        void sort(DoubleSequenceStorage storage, @SuppressWarnings("unused") PNone keyfunc, boolean reverse) {
+        static void sort(DoubleSequenceStorage storage, @SuppressWarnings("unused") PNone keyfunc, boolean reverse,
+                        @Shared @Cached GilNode gil) {
             int len = storage.length();
             double[] array = storage.getInternalDoubleArray();
-            Arrays.sort(array, 0, len);
+            if (len >= PARALLEL_SORT_THRESHOLD) {
+                gil.release(true);
+                try {
+                    Arrays.parallelSort(array, 0, len);
+                } finally {
+                    gil.acquire();
+                }
+            } else {
+                Arrays.sort(array, 0, len);
+            }
             if (reverse) {
                 reverseArray(array, len);
             }
         }
 
         @TruffleBoundary
-        private static void sortStrings(ObjectSequenceStorage storage, boolean reverse) {
+        private static void sortStrings(ObjectSequenceStorage storage, boolean reverse, GilNode gil) {
             Object[] array = storage.getInternalArray();
             int len = storage.length();
             Comparator<Object> comparator;
@@ -244,7 +294,16 @@ public abstract class SortNodes {
             } else {
                 comparator = (a, b) -> StringUtils.compareStringsUncached((TruffleString) a, (TruffleString) b);
             }
-            Arrays.sort(array, 0, len, comparator);
+            if (len >= PARALLEL_SORT_THRESHOLD) {
+                gil.release(true);
+                try {
+                    Arrays.parallelSort(array, 0, len, comparator);
+                } finally {
+                    gil.acquire();
+                }
+            } else {
+                Arrays.sort(array, 0, len, comparator);
+            }
         }
 
         protected boolean isStringOnly(Node inliningTarget, ObjectSequenceStorage storage, InlinedLoopConditionProfile isStringOnlyLoopProfile,
@@ -269,12 +328,13 @@ public abstract class SortNodes {
                         @Cached InlinedConditionProfile isStringOnlyProfile,
                         @Cached InlinedLoopConditionProfile isStringOnlyLoopProfile,
                         @Cached InlinedCountingConditionProfile isStringOnlyBreakProfile,
-                        @Shared @Cached CallContext callContext) {
+                        @Shared @Cached CallContext callContext,
+                        @Shared @Cached GilNode gil) {
             if (isStringOnlyProfile.profile(inliningTarget, isStringOnly(inliningTarget, storage, isStringOnlyLoopProfile, isStringOnlyBreakProfile))) {
                 // Sorting of strings seems to be so much faster (especially on SVM) that it is
                 // worth always checking for string only sequences and not replacing the strings
                 // specialized code with generic object storage code
-                sortStrings(storage, reverse);
+                sortStrings(storage, reverse, gil);
             } else {
                 sortWithoutKey(frame, storage.getInternalArray(), storage.length(), reverse, callContext);
             }
@@ -356,32 +416,6 @@ public abstract class SortNodes {
             }
         }
 
-        private enum KeySortComparator {
-            INT(Integer.class, Comparator.comparing(a -> ((Integer) a.key))),
-            LONG(Long.class, Comparator.comparing(a -> ((Long) a.key))),
-            DOUBLE(Double.class, Comparator.comparing(a -> ((Double) a.key))),
-            BOOLEAN(Boolean.class, Comparator.comparing(a -> ((Boolean) a.key))),
-            STRING(TruffleString.class, (a, b) -> StringUtils.compareStringsUncached((TruffleString) a.key, (TruffleString) b.key));
-
-            final Class<?> clazz;
-            final Comparator<SortingPair> comparator;
-
-            KeySortComparator(Class<?> clazz, Comparator<SortingPair> comparator) {
-                this.clazz = clazz;
-                this.comparator = comparator;
-            }
-
-            @ExplodeLoop
-            public static KeySortComparator forClass(Class<?> clazz) {
-                for (KeySortComparator c : KeySortComparator.values()) {
-                    if (clazz == c.clazz) {
-                        return c;
-                    }
-                }
-                return null;
-            }
-        }
-
         private void sortWithKey(VirtualFrame frame, Object[] array, int len, Object keyfunc, boolean reverse, CallNode callNode, CallContext callContext) {
             if (len == 0) {
                 return;
@@ -392,56 +426,246 @@ public abstract class SortNodes {
                 return;
             }
             /*
-             * Box the values into (key, value) pairs so that the comparator can compare they keys.
-             * We want to avoid calling the key function from the comparator because CPython also
-             * computes the keys only once. There is an additional optimization opportunity where we
-             * could avoid boxing primitive numbers, but that would result in quite a lot of
-             * duplicate code.
+             * Like CPython, we implement a stable reverse sort by reversing the array, sorting it
+             * stably and reversing it again. The array is only reversed once all keys were
+             * computed, so the key of element 'i' is stored at 'reverse ? len - 1 - i : i'.
+             *
+             * The keys are computed only once, because CPython does the same. As long as all keys
+             * are ints, floats or strings, they are collected into an array of the corresponding
+             * primitive type and sorted together with the values, so no comparison has to go
+             * through the generic rich comparison. If a key of a different type appears, the keys
+             * collected so far are boxed and we continue on the generic path.
              */
-            SortingPair[] pairArray = new SortingPair[len];
-            /*
-             * Look at the first key and determine which comparator we could use to compare if the
-             * keys turn all to be the same primitive type
-             */
-            pairArray[reverse ? len - 1 : 0] = new SortingPair(key, array[0]);
-            Class<?> keyClass = keyClassProfile.profile(key.getClass());
-            KeySortComparator keySortComparator = KeySortComparator.forClass(keyClass);
-
-            for (int i = 1; i < len; i++) {
-                key = callNode.execute(frame, keyfunc, array[i]);
-                /* Check if the keys are all of the same type */
-                if (keySortComparator != null && key.getClass() != keySortComparator.clazz) {
-                    keySortComparator = null;
+            int i = 1;
+            Object[] objectKeys;
+            int kind = keyKind(key);
+            if (kind != OBJECT_KEYS) {
+                Object keys = newKeyArray(kind, len);
+                storeKey(kind, keys, reverse ? len - 1 : 0, key);
+                for (; i < len; i++) {
+                    key = callNode.execute(frame, keyfunc, array[i]);
+                    if (!storeKey(kind, keys, reverse ? len - 1 - i : i, key)) {
+                        break;
+                    }
+                }
+                if (i == len) {
+                    if (reverse) {
+                        reverseArray(array, len);
+                    }
+                    sortByKeys(kind, keys, array, len);
+                    if (reverse) {
+                        reverseArray(array, len);
+                    }
+                    return;
                 }
-                pairArray[reverse ? len - i - 1 : i] = new SortingPair(key, array[i]);
+                objectKeys = boxKeys(kind, keys, len);
+                // the key that ended the loop above
+                objectKeys[reverse ? len - 1 - i : i] = key;
+                i++;
+            } else {
+                objectKeys = new Object[len];
+                objectKeys[reverse ? len - 1 : 0] = key;
             }
-            if (keySortComparator != null) {
-                callSortWithKey(pairArray, len, keySortComparator);
+            for (; i < len; i++) {
+                objectKeys[reverse ? len - 1 - i : i] = callNode.execute(frame, keyfunc, array[i]);
+            }
+            if (reverse) {
+                reverseArray(array, len);
+            }
+            SortingPair[] pairArray = new SortingPair[len];
+            for (int j = 0; j < len; j++) {
+                pairArray[j] = new SortingPair(objectKeys[j], array[j]);
+            }
+            PythonLanguage language = PythonLanguage.get(this);
+            final Object[] arguments = PArguments.create(2);
+            final RootCallTarget callTarget = getComparatorCallTarget(language);
+            if (frame == null) {
+                PythonThreadState threadState = PythonContext.get(this).getThreadState(language);
+                Object state = IndirectCalleeContext.enter(threadState, arguments, callTarget);
+                try {
+                    callSortWithKey(pairArray, len, callTarget, arguments);
+                } finally {
+                    IndirectCalleeContext.exit(threadState, state);
+                }
             } else {
-                PythonLanguage language = PythonLanguage.get(this);
-                final Object[] arguments = PArguments.create(2);
-                final RootCallTarget callTarget = getComparatorCallTarget(language);
-                if (frame == null) {
-                    PythonThreadState threadState = PythonContext.get(this).getThreadState(language);
-                    Object state = IndirectCalleeContext.enter(threadState, arguments, callTarget);
-                    try {
-                        callSortWithKey(pairArray, len, callTarget, arguments);
-                    } finally {
-                        IndirectCalleeContext.exit(threadState, state);
+                callContext.prepareCall(frame, arguments, callTarget, this);
+                callSortWithKey(pairArray, len, callTarget, arguments);
+            }
+            for (int j = 0; j < len; j++) {
+                array[j] = pairArray[j].value;
+            }
+            if (reverse) {
+                reverseArray(array, len);
+            }
+        }
+
+        /*
+         * Booleans stay on the generic path: boxing them as longs would make errors for mixed keys
+         * report 'int' instead of 'bool'.
+         */
+        private static boolean isLongKey(Object key) {
+            return key instanceof Integer || key instanceof Long;
+        }
+
+        private static long asLongKey(Object key) {
+            if (key instanceof Integer i) {
+                return i;
+            }
+            return (Long) key;
+        }
+
+        private static int keyKind(Object key) {
+            if (isLongKey(key)) {
+                return LONG_KEYS;
+            } else if (key instanceof Double) {
+                return DOUBLE_KEYS;
+            } else if (key instanceof TruffleString) {
+                return STRING_KEYS;
+            }
+            return OBJECT_KEYS;
+        }
+
+        private static Object newKeyArray(int kind, int len) {
+            switch (kind) {
+                case LONG_KEYS:
+                    return new long[len];
+                case DOUBLE_KEYS:
+                    return new double[len];
+                default:
+                    assert kind == STRING_KEYS;
+                    return new TruffleString[len];
+            }
+        }
+
+        /**
+         * Stores {@code key} at {@code pos} in the key array of the given kind. Returns
+         * {@code false} if the key does not fit into that array.
+         */
+        private static boolean storeKey(int kind, Object keys, int pos, Object key) {
+            switch (kind) {
+                case LONG_KEYS:
+                    if (!isLongKey(key)) {
+                        return false;
                     }
-                } else {
-                    callContext.prepareCall(frame, arguments, callTarget, this);
-                    callSortWithKey(pairArray, len, callTarget, arguments);
+                    ((long[]) keys)[pos] = asLongKey(key);
+                    return true;
+                case DOUBLE_KEYS:
+                    if (!(key instanceof Double d)) {
+                        return false;
+                    }
+                    ((double[]) keys)[pos] = d;
+                    return true;
+                default:
+                    if (!(key instanceof TruffleString s)) {
+                        return false;
+                    }
+                    ((TruffleString[]) keys)[pos] = s;
+                    return true;
+            }
+        }
+
+        @TruffleBoundary
+        private static Object[] boxKeys(int kind, Object keys, int len) {
+            switch (kind) {
+                case LONG_KEYS: {
+                    Object[] result = new Object[len];
+                    for (int i = 0; i < len; i++) {
+                        result[i] = ((long[]) keys)[i];
+                    }
+                    return result;
+                }
+                case DOUBLE_KEYS: {
+                    Object[] result = new Object[len];
+                    for (int i = 0; i < len; i++) {
+                        result[i] = ((double[]) keys)[i];
+                    }
+                    return result;
                 }
+                default:
+                    return Arrays.copyOf((TruffleString[]) keys, len, Object[].class);
             }
-            for (int i = 0; i < len; i++) {
-                array[reverse ? len - i - 1 : i] = pairArray[i].value;
+        }
+
+        /**
+         * Like CPython, only "less than" is used to compare keys. Unordered keys like NaN leave the
+         * result partially unsorted, as in CPython, but never break the sort.
+         */
+        private static boolean keyLess(int kind, Object keys, int a, int b) {
+            switch (kind) {
+                case LONG_KEYS: {
+                    long[] k = (long[]) keys;
+                    return k[a] < k[b];
+                }
+                case DOUBLE_KEYS: {
+                    double[] k = (double[]) keys;
+                    return k[a] < k[b];
+                }
+                default: {
+                    TruffleString[] k = (TruffleString[]) keys;
+                    return StringUtils.compareStringsUncached(k[a], k[b]) < 0;
+                }
             }
         }
 
+        /**
+         * Stable sort of {@code values} by the key array of the given kind. The keys stay in place:
+         * an array of indices into them is sorted instead, first in runs of {@link #KEY_SORT_RUN}
+         * by insertion sort and then by merging the runs, and the values are permuted accordingly
+         * at the end.
+         */
         @TruffleBoundary
-        private static void callSortWithKey(SortingPair[] array, int len, KeySortComparator comparator) {
-            Arrays.sort(array, 0, len, comparator.comparator);
+        private static void sortByKeys(int kind, Object keys, Object[] values, int len) {
+            int[] order = new int[len];
+            for (int i = 0; i < len; i++) {
+                order[i] = i;
+            }
+            for (int lo = 0; lo < len; lo += KEY_SORT_RUN) {
+                int hi = Math.min(lo + KEY_SORT_RUN, len);
+                for (int i = lo + 1; i < hi; i++) {
+                    int index = order[i];
+                    int j = i - 1;
+                    while (j >= lo && keyLess(kind, keys, index, order[j])) {
+                        order[j + 1] = order[j];
+                        j--;
+                    }
+                    order[j + 1] = index;
+                }
+            }
+            if (len > KEY_SORT_RUN) {
+                int[] src = order;
+                int[] dst = new int[len];
+                for (int width = KEY_SORT_RUN; width < len; width *= 2) {
+                    for (int lo = 0; lo < len; lo += 2 * width) {
+                        int mid = Math.min(lo + width, len);
+                        int hi = Math.min(lo + 2 * width, len);
+                        int i = lo;
+                        int j = mid;
+                        int k = lo;
+                        if (mid < hi && keyLess(kind, keys, src[mid], src[mid - 1])) {
+                            while (i < mid && j < hi) {
+                                if (keyLess(kind, keys, src[j], src[i])) {
+                                    dst[k++] = src[j++];
+                                } else {
+                                    dst[k++] = src[i++];
+                                }
+                            }
+                        }
+                        // the rest of either run (or both runs if they are already in order)
+                        System.arraycopy(src, i, dst, k, mid - i);
+                        k += mid - i;
+                        System.arraycopy(src, j, dst, k, hi - j);
+                    }
+                    int[] tmp = src;
+                    src = dst;
+                    dst = tmp;
+                }
+                order = src;
+            }
+            Object[] sorted = new Object[len];
+            for (int i = 0; i < len; i++) {
+                sorted[i] = values[order[i]];
+            }
+            System.arraycopy(sorted, 0, values, 0, len);
         }
 
         @TruffleBoundary
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2024, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -40,27 +40,32 @@
  */
 package com.oracle.graal.python.builtins.objects.deque;
 
-import java.util.ArrayDeque;
-import java.util.Iterator;
-
 import com.oracle.graal.python.builtins.objects.object.PythonBuiltinObject;
+import com.oracle.graal.python.util.PythonUtils;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.object.Shape;
 
 /**
- * A simple wrapper around Java's {@link ArrayDeque}.
+ * A deque backed by a ring buffer. The elements live in {@link #items}, which is an {@code int[]},
+ * {@code long[]}, {@code double[]} or {@code Object[]} of a power-of-two length. Like
+ * {@link com.oracle.graal.python.runtime.sequence.storage.SequenceStorage}, the storage starts out
+ * with the most specific primitive type for the first element and is widened when an element
+ * arrives that it cannot hold ({@code int} to {@code long}, everything else to {@code Object}).
+ * Logical index {@code i} is stored at physical index {@code (head + i) & (capacity - 1)}, which
+ * gives O(1) random access and lets {@code rotate} move only the shorter part of the deque.
  */
 public final class PDeque extends PythonBuiltinObject {
-    final ArrayDeque<Object> data = createArrayDeque();
+    private static final int INITIAL_CAPACITY = 8;
+
+    private Object items = PythonUtils.EMPTY_INT_ARRAY;
+    private int head;
+    private int size;
     private int maxLength = -1;
 
     /**
      * This is a modification counter and used to produce exceptions if the deque is modified during
-     * iteration. We need it because {@link ArrayDeque}'s iterators have a slightly different
-     * behavior. E.g. if you iterate the deque to the end and the last element comparison would
-     * modify the deque, then {@link ArrayDeque} doesn't complain while CPython's implementation
-     * still complains. The main difference is that CPython will always check if the deque was
-     * modifed right after it called out for {@code __eq__}.
+     * iteration or during a comparison. CPython will always check if the deque was modified right
+     * after it called out for {@code __eq__}.
      */
     private int state;
 
@@ -68,13 +73,8 @@ public final class PDeque extends PythonBuiltinObject {
         super(cls, instanceShape);
     }
 
-    @TruffleBoundary
-    private static ArrayDeque<Object> createArrayDeque() {
-        return new ArrayDeque<>();
-    }
-
     int getSize() {
-        return data.size();
+        return size;
     }
 
     int getMaxLength() {
@@ -85,114 +85,394 @@ public final class PDeque extends PythonBuiltinObject {
         this.maxLength = maxLength;
     }
 
-    @TruffleBoundary
-    void append(Object value) {
-        assert maxLength == -1 || data.size() <= maxLength;
-        data.addLast(value);
-        if (maxLength != -1 && data.size() > maxLength) {
-            popLeft();
-        } else {
-            state++;
+    public int getState() {
+        return state;
+    }
+
+    private int capacity() {
+        Object a = items;
+        if (a instanceof int[]) {
+            return ((int[]) a).length;
+        } else if (a instanceof long[]) {
+            return ((long[]) a).length;
+        } else if (a instanceof double[]) {
+            return ((double[]) a).length;
         }
+        return ((Object[]) a).length;
+    }
 
-        assert maxLength == -1 || data.size() <= maxLength;
+    private int physicalIndex(int idx) {
+        return (head + idx) & (capacity() - 1);
+    }
+
+    void append(Object value) {
+        assert maxLength == -1 || size <= maxLength;
+        state++;
+        if (size == maxLength) {
+            if (maxLength == 0) {
+                return;
+            }
+            removeFirst();
+        }
+        prepareInsert(value);
+        size++;
+        store(physicalIndex(size - 1), value);
+        assert maxLength == -1 || size <= maxLength;
     }
 
-    @TruffleBoundary
     void appendLeft(Object value) {
-        assert maxLength == -1 || data.size() <= maxLength;
-        data.addFirst(value);
-        if (maxLength != -1 && data.size() > maxLength) {
-            pop();
-        } else {
-            state++;
+        assert maxLength == -1 || size <= maxLength;
+        state++;
+        if (size == maxLength) {
+            if (maxLength == 0) {
+                return;
+            }
+            removeLast();
         }
-        assert maxLength == -1 || data.size() <= maxLength;
+        prepareInsert(value);
+        head = (head - 1) & (capacity() - 1);
+        size++;
+        store(head, value);
+        assert maxLength == -1 || size <= maxLength;
     }
 
     /**
      * Returns {@code null} if empty.
      */
-    @TruffleBoundary
     Object pop() {
+        if (size == 0) {
+            return null;
+        }
         state++;
-        return data.pollLast();
+        return removeLast();
     }
 
     /**
      * Returns {@code null} if empty.
      */
-    @TruffleBoundary
     Object popLeft() {
+        if (size == 0) {
+            return null;
+        }
         state++;
-        return data.pollFirst();
+        return removeFirst();
     }
 
     /**
      * Returns {@code null} if empty.
      */
-    @TruffleBoundary
     Object peekLeft() {
-        return data.peekFirst();
+        return size == 0 ? null : load(head);
     }
 
+    Object get(int idx) {
+        assert 0 <= idx && idx < size;
+        return load(physicalIndex(idx));
+    }
+
+    void setItem(int idx, Object value) {
+        assert 0 <= idx && idx < size;
+        if (!accepts(items, value)) {
+            generalize(value);
+        }
+        store(physicalIndex(idx), value);
+    }
+
+    /**
+     * Removes the element at {@code idx}, moving the shorter side of the deque into the gap.
+     */
     @TruffleBoundary
-    void addAll(Object[] c) {
-        for (Object e : c) {
-            append(e);
+    void delItem(int idx) {
+        assert 0 <= idx && idx < size;
+        state++;
+        int mask = capacity() - 1;
+        if (idx < size / 2) {
+            for (int i = idx; i > 0; i--) {
+                copySlot((head + i) & mask, (head + i - 1) & mask);
+            }
+            clearSlot(head);
+            head = (head + 1) & mask;
+        } else {
+            for (int i = idx; i < size - 1; i++) {
+                copySlot((head + i) & mask, (head + i + 1) & mask);
+            }
+            clearSlot((head + size - 1) & mask);
+        }
+        size--;
+    }
+
+    /**
+     * Inserts {@code value} so that it ends up at {@code idx}, moving the shorter side of the deque
+     * out of the way. The caller is responsible for the {@code maxlen} check.
+     */
+    @TruffleBoundary
+    void insert(int idx, Object value) {
+        assert 0 <= idx && idx <= size && size != maxLength;
+        state++;
+        prepareInsert(value);
+        int mask = capacity() - 1;
+        if (idx < size / 2) {
+            head = (head - 1) & mask;
+            for (int i = 0; i < idx; i++) {
+                copySlot((head + i) & mask, (head + i + 1) & mask);
+            }
+        } else {
+            for (int i = size; i > idx; i--) {
+                copySlot((head + i) & mask, (head + i - 1) & mask);
+            }
         }
+        size++;
+        store((head + idx) & mask, value);
     }
 
+    /**
+     * Rotates the deque {@code n} steps to the right (to the left if {@code n} is negative). A full
+     * ring buffer just moves its head, otherwise only the shorter part of the deque is moved.
+     */
     @TruffleBoundary
-    void addAll(PDeque other) {
-        for (Object e : other.data) {
-            append(e);
+    void rotate(int n) {
+        if (size <= 1) {
+            return;
+        }
+        int right = n % size;
+        if (right < 0) {
+            right += size;
+        }
+        if (right == 0) {
+            return;
+        }
+        state++;
+        int capacity = capacity();
+        int mask = capacity - 1;
+        if (size == capacity) {
+            head = (head - right) & mask;
+        } else if (right <= size / 2) {
+            for (int i = 0; i < right; i++) {
+                int last = (head + size - 1) & mask;
+                head = (head - 1) & mask;
+                copySlot(head, last);
+                clearSlot(last);
+            }
+        } else {
+            for (int i = right; i < size; i++) {
+                int first = head;
+                copySlot((head + size) & mask, first);
+                clearSlot(first);
+                head = (head + 1) & mask;
+            }
         }
     }
 
     @TruffleBoundary
-    public Iterator<Object> iterator() {
-        return data.iterator();
+    void reverse() {
+        int mask = capacity() - 1;
+        Object a = items;
+        for (int lo = 0, hi = size - 1; lo < hi; lo++, hi--) {
+            int i = (head + lo) & mask;
+            int j = (head + hi) & mask;
+            if (a instanceof int[]) {
+                int[] ia = (int[]) a;
+                int tmp = ia[i];
+                ia[i] = ia[j];
+                ia[j] = tmp;
+            } else if (a instanceof long[]) {
+                long[] la = (long[]) a;
+                long tmp = la[i];
+                la[i] = la[j];
+                la[j] = tmp;
+            } else if (a instanceof double[]) {
+                double[] da = (double[]) a;
+                double tmp = da[i];
+                da[i] = da[j];
+                da[j] = tmp;
+            } else {
+                Object[] oa = (Object[]) a;
+                Object tmp = oa[i];
+                oa[i] = oa[j];
+                oa[j] = tmp;
+            }
+        }
+    }
+
+    @TruffleBoundary
+    void addAll(Object[] c) {
+        for (Object e : c) {
+            append(e);
+        }
     }
 
     @TruffleBoundary
-    public Iterator<Object> reverseIterator() {
-        return data.descendingIterator();
+    void addAll(PDeque other) {
+        addAll(other.toArray());
     }
 
     @TruffleBoundary
+    public Object[] toArray() {
+        Object[] result = new Object[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = get(i);
+        }
+        return result;
+    }
+
     public void clear() {
-        data.clear();
+        items = PythonUtils.EMPTY_INT_ARRAY;
+        head = 0;
+        size = 0;
         state++;
     }
 
+    private Object removeFirst() {
+        assert size > 0;
+        Object value = load(head);
+        clearSlot(head);
+        head = (head + 1) & (capacity() - 1);
+        size--;
+        return value;
+    }
+
+    private Object removeLast() {
+        assert size > 0;
+        int idx = physicalIndex(size - 1);
+        Object value = load(idx);
+        clearSlot(idx);
+        size--;
+        return value;
+    }
+
+    private void prepareInsert(Object value) {
+        if (!accepts(items, value)) {
+            generalize(value);
+        }
+        if (size == capacity()) {
+            grow();
+        }
+    }
+
+    private static boolean accepts(Object a, Object value) {
+        if (a instanceof int[]) {
+            return value instanceof Integer;
+        } else if (a instanceof long[]) {
+            return value instanceof Integer || value instanceof Long;
+        } else if (a instanceof double[]) {
+            return value instanceof Double;
+        }
+        return true;
+    }
+
+    /**
+     * Switches to a storage that can hold {@code value}. An empty deque simply picks the storage
+     * for {@code value}, which lets a cleared deque change its element type.
+     */
     @TruffleBoundary
-    public void setItem(int idx, Object value) {
-        assert 0 <= idx && idx < data.size();
-        int n = data.size() - idx - 1;
-        Object[] savedItems = new Object[n];
-        for (int i = 0; i < savedItems.length; i++) {
-            savedItems[i] = data.pollLast();
-        }
-        // this removes the item we want to replace
-        data.pollLast();
-        assert data.size() == idx;
-        if (value != null) {
-            data.addLast(value);
+    private void generalize(Object value) {
+        int capacity = capacity();
+        Object newItems;
+        if (size == 0) {
+            newItems = allocateFor(value, capacity);
+        } else if (items instanceof int[] && value instanceof Long) {
+            long[] la = new long[capacity];
+            int[] ia = (int[]) items;
+            for (int i = 0; i < size; i++) {
+                int p = (head + i) & (capacity - 1);
+                la[p] = ia[p];
+            }
+            newItems = la;
         } else {
-            // removal case: this alters the number of elements, so modify the state
-            state++;
+            Object[] oa = new Object[capacity];
+            for (int i = 0; i < size; i++) {
+                int p = (head + i) & (capacity - 1);
+                oa[p] = load(p);
+            }
+            newItems = oa;
         }
+        items = newItems;
+    }
 
-        // re-add saved items
-        for (int i = savedItems.length - 1; i >= 0; i--) {
-            data.addLast(savedItems[i]);
+    private static Object allocateFor(Object value, int capacity) {
+        if (value instanceof Integer) {
+            return new int[capacity];
+        } else if (value instanceof Long) {
+            return new long[capacity];
+        } else if (value instanceof Double) {
+            return new double[capacity];
         }
-        assert maxLength == -1 || data.size() <= maxLength;
-        assert value != null && data.size() == n + idx + 1 || value == null && data.size() == n + idx;
+        return new Object[capacity];
     }
 
-    public int getState() {
-        return state;
+    /**
+     * Doubles the capacity and unwraps the ring so that the elements start at index 0.
+     */
+    @TruffleBoundary
+    private void grow() {
+        int capacity = capacity();
+        int newCapacity = capacity == 0 ? INITIAL_CAPACITY : capacity * 2;
+        if (newCapacity < 0) {
+            throw new OutOfMemoryError();
+        }
+        Object newItems = allocateLike(items, newCapacity);
+        int firstRun = Math.min(size, capacity - head);
+        PythonUtils.arraycopy(items, head, newItems, 0, firstRun);
+        PythonUtils.arraycopy(items, 0, newItems, firstRun, size - firstRun);
+        items = newItems;
+        head = 0;
+    }
+
+    private static Object allocateLike(Object array, int capacity) {
+        if (array instanceof int[]) {
+            return new int[capacity];
+        } else if (array instanceof long[]) {
+            return new long[capacity];
+        } else if (array instanceof double[]) {
+            return new double[capacity];
+        }
+        return new Object[capacity];
+    }
+
+    private Object load(int p) {
+        Object a = items;
+        if (a instanceof int[]) {
+            return ((int[]) a)[p];
+        } else if (a instanceof long[]) {
+            return ((long[]) a)[p];
+        } else if (a instanceof double[]) {
+            return ((double[]) a)[p];
+        }
+        return ((Object[]) a)[p];
+    }
+
+    private void store(int p, Object value) {
+        Object a = items;
+        if (a instanceof int[]) {
+            ((int[]) a)[p] = (int) value;
+        } else if (a instanceof long[]) {
+            ((long[]) a)[p] = value instanceof Integer ? (int) value : (long) value;
+        } else if (a instanceof double[]) {
+            ((double[]) a)[p] = (double) value;
+        } else {
+            ((Object[]) a)[p] = value;
+        }
+    }
+
+    private void copySlot(int dst, int src) {
+        Object a = items;
+        if (a instanceof int[]) {
+            ((int[]) a)[dst] = ((int[]) a)[src];
+        } else if (a instanceof long[]) {
+            ((long[]) a)[dst] = ((long[]) a)[src];
+        } else if (a instanceof double[]) {
+            ((double[]) a)[dst] = ((double[]) a)[src];
+        } else {
+            ((Object[]) a)[dst] = ((Object[]) a)[src];
+        }
+    }
+
+    /**
+     * Drops the reference held by a vacated slot so that removed objects can be collected.
+     */
+    private void clearSlot(int p) {
+        if (items instanceof Object[]) {
+            ((Object[]) items)[p] = null;
+        }
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2024, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -40,38 +40,35 @@
  */
 package com.oracle.graal.python.builtins.objects.deque;
 
-import java.util.ArrayDeque;
-import java.util.Iterator;
-
 import com.oracle.graal.python.builtins.objects.iterator.PBuiltinIterator;
-import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.object.Shape;
 
 /**
- * A simple wrapper around Java's {@link ArrayDeque}.
+ * An index-based iterator over a {@link PDeque}. Modifications of the deque are detected by the
+ * callers by comparing {@link #startState} with {@link PDeque#getState()}.
  */
 public final class PDequeIter extends PBuiltinIterator {
     final PDeque deque;
     final int startState;
-    private final Iterator<Object> iterator;
+    private final boolean reverse;
     private int remaining;
 
     public PDequeIter(Object cls, Shape instanceShape, PDeque deque, boolean reverse) {
         super(cls, instanceShape);
         this.deque = deque;
-        this.iterator = reverse ? deque.reverseIterator() : deque.iterator();
+        this.reverse = reverse;
         this.remaining = deque.getSize();
         this.startState = deque.getState();
     }
 
-    @TruffleBoundary
     boolean hasNext() {
-        return iterator.hasNext();
+        return remaining > 0;
     }
 
-    @TruffleBoundary
     Object next() {
-        Object next = iterator.next();
+        assert remaining > 0 && remaining <= deque.getSize();
+        int size = deque.getSize();
+        Object next = deque.get(reverse ? remaining - 1 : size - remaining);
         remaining--;
         return next;
     }
@@ -220,13 +220,11 @@ public final class FrozenModules {
         private static final PythonFrozenModule GRAALPY___GRAALPYTHON__ = new PythonFrozenModule("GRAALPY___GRAALPYTHON__", null, false);
         private static final PythonFrozenModule GRAALPY__INTEROP_BEHAVIOR = new PythonFrozenModule("GRAALPY__INTEROP_BEHAVIOR", null, false);
         private static final PythonFrozenModule GRAALPY__SRE = new PythonFrozenModule("GRAALPY__SRE", null, false);
-        private static final PythonFrozenModule GRAALPY__STRUCT = new PythonFrozenModule("GRAALPY__STRUCT", null, false);
         private static final PythonFrozenModule GRAALPY__SYSCONFIG = new PythonFrozenModule("GRAALPY__SYSCONFIG", null, false);
         private static final PythonFrozenModule GRAALPY__WEAKREF = new PythonFrozenModule("GRAALPY__WEAKREF", null, false);
         private static final PythonFrozenModule GRAALPY_BUILTINS = new PythonFrozenModule("GRAALPY_BUILTINS", null, false);
         private static final PythonFrozenModule GRAALPY_JAVA = new PythonFrozenModule("GRAALPY_JAVA", null, false);
         private static final PythonFrozenModule GRAALPY_PIP_HOOK = new PythonFrozenModule("GRAALPY_PIP_HOOK", null, false);
-        private static final PythonFrozenModule GRAALPY_UNICODEDATA = new PythonFrozenModule("GRAALPY_UNICODEDATA", null, false);
         private static final PythonFrozenModule GRAALPY_SULONG_SUPPORT = new PythonFrozenModule("GRAALPY_SULONG_SUPPORT", null, false);
     }
 
@@ -600,8 +598,6 @@ public final class FrozenModules {
                 return Map.GRAALPY__INTEROP_BEHAVIOR;
             case "graalpy._sre":
                 return Map.GRAALPY__SRE;
-            case "graalpy._struct":
-                return Map.GRAALPY__STRUCT;
             case "graalpy._sysconfig":
                 return Map.GRAALPY__SYSCONFIG;
             case "graalpy._weakref":
@@ -612,8 +608,6 @@ public final class FrozenModules {
                 return Map.GRAALPY_JAVA;
             case "graalpy.pip_hook":
                 return Map.GRAALPY_PIP_HOOK;
-            case "graalpy.unicodedata":
-                return Map.GRAALPY_UNICODEDATA;
             case "graalpy.sulong_support":
                 return Map.GRAALPY_SULONG_SUPPORT;
             default:
@@ -0,0 +1,381 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.select;
+
+import static com.oracle.graal.python.nodes.SpecialMethodNames.J___ENTER__;
+import static com.oracle.graal.python.nodes.SpecialMethodNames.J___EXIT__;
+import static com.oracle.graal.python.runtime.PosixConstants.EPOLLIN;
+import static com.oracle.graal.python.runtime.PosixConstants.EPOLLOUT;
+import static com.oracle.graal.python.runtime.PosixConstants.EPOLLPRI;
+import static com.oracle.graal.python.runtime.PosixConstants.EPOLL_CLOEXEC;
+import static com.oracle.graal.python.runtime.PosixConstants.EPOLL_CTL_ADD;
+import static com.oracle.graal.python.runtime.PosixConstants.EPOLL_CTL_DEL;
+import static com.oracle.graal.python.runtime.PosixConstants.EPOLL_CTL_MOD;
+import static com.oracle.graal.python.runtime.PosixConstants.FD_SETSIZE;
+import static com.oracle.graal.python.runtime.exception.PythonErrorType.ValueError;
+import static com.oracle.graal.python.util.TimeUtils.SEC_TO_NS;
+
+import java.util.List;
+
+import com.oracle.graal.python.annotations.ArgumentClinic;
+import com.oracle.graal.python.annotations.ArgumentClinic.ClinicConversion;
+import com.oracle.graal.python.builtins.Builtin;
+import com.oracle.graal.python.builtins.CoreFunctions;
+import com.oracle.graal.python.builtins.PythonBuiltinClassType;
+import com.oracle.graal.python.builtins.PythonBuiltins;
+import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.builtins.objects.list.PList;
+import com.oracle.graal.python.lib.PyObjectAsFileDescriptor;
+import com.oracle.graal.python.lib.PyTimeFromObjectNode;
+import com.oracle.graal.python.nodes.ErrorMessages;
+import com.oracle.graal.python.nodes.PConstructAndRaiseNode;
+import com.oracle.graal.python.nodes.PRaiseNode;
+import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
+import com.oracle.graal.python.nodes.function.PythonBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonBinaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonBinaryClinicBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonTernaryClinicBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.clinic.ArgumentClinicProvider;
+import com.oracle.graal.python.runtime.GilNode;
+import com.oracle.graal.python.runtime.PosixSupport;
+import com.oracle.graal.python.runtime.PosixSupportLibrary;
+import com.oracle.graal.python.runtime.PosixSupportLibrary.PosixException;
+import com.oracle.graal.python.runtime.PosixSupportLibrary.UnsupportedPosixFeatureException;
+import com.oracle.graal.python.runtime.PythonContext;
+import com.oracle.graal.python.runtime.object.PythonObjectFactory;
+import com.oracle.graal.python.util.OSErrorEnum;
+import com.oracle.graal.python.util.TimeUtils;
+import com.oracle.truffle.api.dsl.Bind;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.GenerateNodeFactory;
+import com.oracle.truffle.api.dsl.NodeFactory;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.library.CachedLibrary;
+import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.profiles.InlinedBranchProfile;
+
+@CoreFunctions(extendClasses = PythonBuiltinClassType.PEpoll)
+public final class EpollBuiltins extends PythonBuiltins {
+
+    @Override
+    protected List<? extends NodeFactory<? extends PythonBuiltinBaseNode>> getNodeFactories() {
+        return EpollBuiltinsFactory.getFactories();
+    }
+
+    @Builtin(name = "epoll", constructsClass = PythonBuiltinClassType.PEpoll, minNumOfPositionalArgs = 1, parameterNames = {"$cls", "sizehint", "flags"})
+    @ArgumentClinic(name = "sizehint", conversion = ClinicConversion.Int, defaultValue = "-1")
+    @ArgumentClinic(name = "flags", conversion = ClinicConversion.Int, defaultValue = "0")
+    @GenerateNodeFactory
+    abstract static class EpollNode extends PythonTernaryClinicBuiltinNode {
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return EpollBuiltinsClinicProviders.EpollNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        static PEpoll create(VirtualFrame frame, Object cls, int sizehint, int flags,
+                        @Bind("this") Node inliningTarget,
+                        @CachedLibrary(limit = "1") PosixSupportLibrary posixLib,
+                        @Cached PythonObjectFactory factory,
+                        @Cached PConstructAndRaiseNode.Lazy constructAndRaiseNode,
+                        @Cached PRaiseNode.Lazy raiseNode) {
+            if (sizehint != -1 && sizehint <= 0) {
+                throw raiseNode.get(inliningTarget).raise(ValueError, ErrorMessages.NEGATIVE_SIZEHINT);
+            }
+            // like CPython, the only accepted flag is EPOLL_CLOEXEC, which is always set anyway
+            if (flags != 0 && (!EPOLL_CLOEXEC.defined || flags != EPOLL_CLOEXEC.getValueIfDefined())) {
+                throw constructAndRaiseNode.get(inliningTarget).raiseOSError(frame, OSErrorEnum.EINVAL);
+            }
+            try {
+                int epfd = posixLib.epollCreate(PosixSupport.get(inliningTarget), EPOLL_CLOEXEC.defined ? EPOLL_CLOEXEC.getValueIfDefined() : 0);
+                return factory.createEpoll(cls, epfd);
+            } catch (PosixException e) {
+                throw constructAndRaiseNode.get(inliningTarget).raiseOSErrorFromPosixException(frame, e);
+            } catch (UnsupportedPosixFeatureException e) {
+                throw constructAndRaiseNode.get(inliningTarget).raiseOSErrorUnsupported(frame, e);
+            }
+        }
+    }
+
+    @Builtin(name = "fromfd", minNumOfPositionalArgs = 2, parameterNames = {"$cls", "fd"}, isClassmethod = true)
+    @ArgumentClinic(name = "fd", conversion = ClinicConversion.Int)
+    @GenerateNodeFactory
+    abstract static class FromFdNode extends PythonBinaryClinicBuiltinNode {
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return EpollBuiltinsClinicProviders.FromFdNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        static PEpoll fromfd(Object cls, int fd,
+                        @Cached PythonObjectFactory factory) {
+            return factory.createEpoll(cls, fd);
+        }
+    }
+
+    @Builtin(name = "close", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    abstract static class CloseNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static PNone close(VirtualFrame frame, PEpoll self,
+                        @Bind("this") Node inliningTarget,
+                        @CachedLibrary(limit = "1") PosixSupportLibrary posixLib,
+                        @Cached PConstructAndRaiseNode.Lazy constructAndRaiseNode) {
+            doClose(frame, inliningTarget, self, posixLib, constructAndRaiseNode);
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "closed", minNumOfPositionalArgs = 1, isGetter = true)
+    @GenerateNodeFactory
+    abstract static class ClosedNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static boolean closed(PEpoll self) {
+            return self.isClosed();
+        }
+    }
+
+    @Builtin(name = "fileno", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    abstract static class FilenoNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static int fileno(PEpoll self,
+                        @Bind("this") Node inliningTarget,
+                        @Cached PRaiseNode.Lazy raiseNode) {
+            return checkOpen(inliningTarget, self, raiseNode);
+        }
+    }
+
+    @Builtin(name = "register", minNumOfPositionalArgs = 2, parameterNames = {"$self", "fd", "eventmask"})
+    @ArgumentClinic(name = "eventmask", conversion = ClinicConversion.Long, defaultValue = "DEFAULT_EVENTS")
+    @GenerateNodeFactory
+    abstract static class RegisterNode extends PythonTernaryClinicBuiltinNode {
+        protected static final long DEFAULT_EVENTS = EPOLLIN.defined ? EPOLLIN.getValueIfDefined() | EPOLLPRI.getValueIfDefined() | EPOLLOUT.getValueIfDefined() : 0;
+
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return EpollBuiltinsClinicProviders.RegisterNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        static PNone register(VirtualFrame frame, PEpoll self, Object fdObj, long eventmask,
+                        @Bind("this") Node inliningTarget,
+                        @CachedLibrary(limit = "1") PosixSupportLibrary posixLib,
+                        @Cached PyObjectAsFileDescriptor asFileDescriptor,
+                        @Cached PConstructAndRaiseNode.Lazy constructAndRaiseNode,
+                        @Cached PRaiseNode.Lazy raiseNode) {
+            int fd = asFileDescriptor.execute(frame, inliningTarget, fdObj);
+            doCtl(frame, inliningTarget, self, EPOLL_CTL_ADD.getValueIfDefined(), fd, (int) eventmask, posixLib, constructAndRaiseNode, raiseNode);
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "modify", minNumOfPositionalArgs = 3, parameterNames = {"$self", "fd", "eventmask"})
+    @ArgumentClinic(name = "eventmask", conversion = ClinicConversion.Long)
+    @GenerateNodeFactory
+    abstract static class ModifyNode extends PythonTernaryClinicBuiltinNode {
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return EpollBuiltinsClinicProviders.ModifyNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        static PNone modify(VirtualFrame frame, PEpoll self, Object fdObj, long eventmask,
+                        @Bind("this") Node inliningTarget,
+                        @CachedLibrary(limit = "1") PosixSupportLibrary posixLib,
+                        @Cached PyObjectAsFileDescriptor asFileDescriptor,
+                        @Cached PConstructAndRaiseNode.Lazy constructAndRaiseNode,
+                        @Cached PRaiseNode.Lazy raiseNode) {
+            int fd = asFileDescriptor.execute(frame, inliningTarget, fdObj);
+            doCtl(frame, inliningTarget, self, EPOLL_CTL_MOD.getValueIfDefined(), fd, (int) eventmask, posixLib, constructAndRaiseNode, raiseNode);
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "unregister", minNumOfPositionalArgs = 2, parameterNames = {"$self", "fd"})
+    @GenerateNodeFactory
+    abstract static class UnregisterNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        static PNone unregister(VirtualFrame frame, PEpoll self, Object fdObj,
+                        @Bind("this") Node inliningTarget,
+                        @CachedLibrary(limit = "1") PosixSupportLibrary posixLib,
+                        @Cached PyObjectAsFileDescriptor asFileDescriptor,
+                        @Cached PConstructAndRaiseNode.Lazy constructAndRaiseNode,
+                        @Cached PRaiseNode.Lazy raiseNode) {
+            int fd = asFileDescriptor.execute(frame, inliningTarget, fdObj);
+            doCtl(frame, inliningTarget, self, EPOLL_CTL_DEL.getValueIfDefined(), fd, 0, posixLib, constructAndRaiseNode, raiseNode);
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "poll", minNumOfPositionalArgs = 1, parameterNames = {"$self", "timeout", "maxevents"})
+    @ArgumentClinic(name = "maxevents", conversion = ClinicConversion.Int, defaultValue = "-1")
+    @GenerateNodeFactory
+    abstract static class PollNode extends PythonTernaryClinicBuiltinNode {
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return EpollBuiltinsClinicProviders.PollNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        static PList poll(VirtualFrame frame, PEpoll self, Object timeoutObj, int maxeventsArg,
+                        @Bind("this") Node inliningTarget,
+                        @CachedLibrary(limit = "1") PosixSupportLibrary posixLib,
+                        @Cached PyTimeFromObjectNode pyTimeFromObjectNode,
+                        @Cached InlinedBranchProfile errorProfile,
+                        @Cached GilNode gil,
+                        @Cached PConstructAndRaiseNode.Lazy constructAndRaiseNode,
+                        @Cached PythonObjectFactory factory,
+                        @Cached PRaiseNode.Lazy raiseNode) {
+            int epfd = checkOpen(inliningTarget, self, raiseNode);
+            int timeoutMs = PollBuiltins.timeoutToMs(frame, inliningTarget, timeoutObj, SEC_TO_NS, pyTimeFromObjectNode, raiseNode);
+            int maxevents = maxeventsArg;
+            if (maxevents == -1) {
+                maxevents = FD_SETSIZE.value - 1;
+            } else if (maxevents < 1) {
+                throw raiseNode.get(inliningTarget).raise(ValueError, ErrorMessages.MAXEVENTS_MUST_BE_GREATER_THAN_0, maxevents);
+            }
+            int[] fds = new int[maxevents];
+            int[] events = new int[maxevents];
+            int count;
+            try {
+                count = doWait(inliningTarget, posixLib, epfd, fds, events, timeoutMs, errorProfile, gil);
+            } catch (PosixException e) {
+                throw constructAndRaiseNode.get(inliningTarget).raiseOSErrorFromPosixException(frame, e);
+            } catch (UnsupportedPosixFeatureException e) {
+                throw constructAndRaiseNode.get(inliningTarget).raiseOSErrorUnsupported(frame, e);
+            }
+            Object[] result = new Object[count];
+            for (int i = 0; i < count; i++) {
+                result[i] = factory.createTuple(new Object[]{fds[i], events[i]});
+            }
+            return factory.createList(result);
+        }
+
+        private static int doWait(Node inliningTarget, PosixSupportLibrary posixLib, int epfd, int[] fds, int[] events, int timeoutMs, InlinedBranchProfile errorProfile, GilNode gil)
+                        throws PosixException {
+            long deadline = timeoutMs > 0 ? PollBuiltins.nanoTime() + timeoutMs * TimeUtils.MS_TO_NS : 0;
+            int remainingMs = timeoutMs;
+            gil.release(true);
+            try {
+                while (true) {
+                    try {
+                        return posixLib.epollWait(PosixSupport.get(inliningTarget), epfd, fds, events, remainingMs);
+                    } catch (PosixException e) {
+                        errorProfile.enter(inliningTarget);
+                        if (e.getErrorCode() != OSErrorEnum.EINTR.getNumber()) {
+                            throw e;
+                        }
+                        // signal handlers run Python code, so they need the GIL
+                        gil.acquire();
+                        try {
+                            PythonContext.triggerAsyncActions(inliningTarget);
+                        } finally {
+                            gil.release(true);
+                        }
+                        if (timeoutMs > 0) {
+                            remainingMs = (int) Math.max(0, TimeUtils.pyTimeDivide(deadline - PollBuiltins.nanoTime(), TimeUtils.MS_TO_NS));
+                        }
+                    }
+                }
+            } finally {
+                gil.acquire();
+            }
+        }
+    }
+
+    @Builtin(name = J___ENTER__, minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    abstract static class EnterNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static PEpoll enter(PEpoll self,
+                        @Bind("this") Node inliningTarget,
+                        @Cached PRaiseNode.Lazy raiseNode) {
+            checkOpen(inliningTarget, self, raiseNode);
+            return self;
+        }
+    }
+
+    @Builtin(name = J___EXIT__, minNumOfPositionalArgs = 1, takesVarArgs = true)
+    @GenerateNodeFactory
+    abstract static class ExitNode extends PythonBuiltinNode {
+        @Specialization
+        static PNone exit(VirtualFrame frame, PEpoll self, @SuppressWarnings("unused") Object[] args,
+                        @Bind("this") Node inliningTarget,
+                        @CachedLibrary(limit = "1") PosixSupportLibrary posixLib,
+                        @Cached PConstructAndRaiseNode.Lazy constructAndRaiseNode) {
+            doClose(frame, inliningTarget, self, posixLib, constructAndRaiseNode);
+            return PNone.NONE;
+        }
+    }
+
+    private static int checkOpen(Node inliningTarget, PEpoll self, PRaiseNode.Lazy raiseNode) {
+        if (self.isClosed()) {
+            throw raiseNode.get(inliningTarget).raise(ValueError, ErrorMessages.IO_OPERATION_ON_CLOSED_EPOLL);
+        }
+        return self.getEpfd();
+    }
+
+    private static void doClose(VirtualFrame frame, Node inliningTarget, PEpoll self, PosixSupportLibrary posixLib, PConstructAndRaiseNode.Lazy constructAndRaiseNode) {
+        int epfd = self.markClosed();
+        if (epfd >= 0) {
+            try {
+                posixLib.close(PosixSupport.get(inliningTarget), epfd);
+            } catch (PosixException e) {
+                throw constructAndRaiseNode.get(inliningTarget).raiseOSErrorFromPosixException(frame, e);
+            }
+        }
+    }
+
+    private static void doCtl(VirtualFrame frame, Node inliningTarget, PEpoll self, int op, int fd, int events, PosixSupportLibrary posixLib, PConstructAndRaiseNode.Lazy constructAndRaiseNode,
+                    PRaiseNode.Lazy raiseNode) {
+        int epfd = checkOpen(inliningTarget, self, raiseNode);
+        try {
+            posixLib.epollCtl(PosixSupport.get(inliningTarget), epfd, op, fd, events);
+        } catch (PosixException e) {
+            throw constructAndRaiseNode.get(inliningTarget).raiseOSErrorFromPosixException(frame, e);
+        } catch (UnsupportedPosixFeatureException e) {
+            throw constructAndRaiseNode.get(inliningTarget).raiseOSErrorUnsupported(frame, e);
+        }
+    }
+}
@@ -0,0 +1,273 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.select;
+
+import static com.oracle.graal.python.runtime.PosixConstants.POLLIN;
+import static com.oracle.graal.python.runtime.PosixConstants.POLLOUT;
+import static com.oracle.graal.python.runtime.PosixConstants.POLLPRI;
+import static com.oracle.graal.python.runtime.exception.PythonErrorType.KeyError;
+import static com.oracle.graal.python.runtime.exception.PythonErrorType.OverflowError;
+import static com.oracle.graal.python.runtime.exception.PythonErrorType.RuntimeError;
+import static com.oracle.graal.python.runtime.exception.PythonErrorType.ValueError;
+import static com.oracle.graal.python.util.TimeUtils.MS_TO_NS;
+
+import java.util.List;
+
+import com.oracle.graal.python.annotations.ArgumentClinic;
+import com.oracle.graal.python.annotations.ArgumentClinic.ClinicConversion;
+import com.oracle.graal.python.builtins.Builtin;
+import com.oracle.graal.python.builtins.CoreFunctions;
+import com.oracle.graal.python.builtins.PythonBuiltinClassType;
+import com.oracle.graal.python.builtins.PythonBuiltins;
+import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.builtins.objects.list.PList;
+import com.oracle.graal.python.lib.PyObjectAsFileDescriptor;
+import com.oracle.graal.python.lib.PyTimeFromObjectNode;
+import com.oracle.graal.python.lib.PyTimeFromObjectNode.RoundType;
+import com.oracle.graal.python.nodes.ErrorMessages;
+import com.oracle.graal.python.nodes.PConstructAndRaiseNode;
+import com.oracle.graal.python.nodes.PGuards;
+import com.oracle.graal.python.nodes.PRaiseNode;
+import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonBinaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonTernaryClinicBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.clinic.ArgumentClinicProvider;
+import com.oracle.graal.python.runtime.GilNode;
+import com.oracle.graal.python.runtime.PosixSupport;
+import com.oracle.graal.python.runtime.PosixSupportLibrary;
+import com.oracle.graal.python.runtime.PosixSupportLibrary.PosixException;
+import com.oracle.graal.python.runtime.PosixSupportLibrary.UnsupportedPosixFeatureException;
+import com.oracle.graal.python.runtime.PythonContext;
+import com.oracle.graal.python.runtime.object.PythonObjectFactory;
+import com.oracle.graal.python.util.OSErrorEnum;
+import com.oracle.graal.python.util.TimeUtils;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.dsl.Bind;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.GenerateNodeFactory;
+import com.oracle.truffle.api.dsl.NodeFactory;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.library.CachedLibrary;
+import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.profiles.InlinedBranchProfile;
+
+@CoreFunctions(extendClasses = PythonBuiltinClassType.PPoll)
+public final class PollBuiltins extends PythonBuiltins {
+
+    @Override
+    protected List<? extends NodeFactory<? extends PythonBuiltinBaseNode>> getNodeFactories() {
+        return PollBuiltinsFactory.getFactories();
+    }
+
+    @Builtin(name = "register", minNumOfPositionalArgs = 2, parameterNames = {"$self", "fd", "eventmask"})
+    @ArgumentClinic(name = "eventmask", conversion = ClinicConversion.Int, defaultValue = "DEFAULT_EVENTS")
+    @GenerateNodeFactory
+    abstract static class RegisterNode extends PythonTernaryClinicBuiltinNode {
+        protected static final int DEFAULT_EVENTS = POLLIN.defined ? POLLIN.getValueIfDefined() | POLLPRI.getValueIfDefined() | POLLOUT.getValueIfDefined() : 0;
+
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return PollBuiltinsClinicProviders.RegisterNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        static PNone register(VirtualFrame frame, PPoll self, Object fdObj, int eventmask,
+                        @Bind("this") Node inliningTarget,
+                        @Cached PyObjectAsFileDescriptor asFileDescriptor,
+                        @Cached PRaiseNode.Lazy raiseNode) {
+            int fd = asFileDescriptor.execute(frame, inliningTarget, fdObj);
+            self.register(fd, checkUnsignedShort(inliningTarget, eventmask, raiseNode));
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "modify", minNumOfPositionalArgs = 3, parameterNames = {"$self", "fd", "eventmask"})
+    @ArgumentClinic(name = "eventmask", conversion = ClinicConversion.Int)
+    @GenerateNodeFactory
+    abstract static class ModifyNode extends PythonTernaryClinicBuiltinNode {
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return PollBuiltinsClinicProviders.ModifyNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        static PNone modify(VirtualFrame frame, PPoll self, Object fdObj, int eventmask,
+                        @Bind("this") Node inliningTarget,
+                        @Cached PyObjectAsFileDescriptor asFileDescriptor,
+                        @Cached PConstructAndRaiseNode.Lazy constructAndRaiseNode,
+                        @Cached PRaiseNode.Lazy raiseNode) {
+            int fd = asFileDescriptor.execute(frame, inliningTarget, fdObj);
+            if (!self.modify(fd, checkUnsignedShort(inliningTarget, eventmask, raiseNode))) {
+                throw constructAndRaiseNode.get(inliningTarget).raiseOSError(frame, OSErrorEnum.ENOENT);
+            }
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "unregister", minNumOfPositionalArgs = 2, parameterNames = {"$self", "fd"})
+    @GenerateNodeFactory
+    abstract static class UnregisterNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        static PNone unregister(VirtualFrame frame, PPoll self, Object fdObj,
+                        @Bind("this") Node inliningTarget,
+                        @Cached PyObjectAsFileDescriptor asFileDescriptor,
+                        @Cached PRaiseNode.Lazy raiseNode) {
+            int fd = asFileDescriptor.execute(frame, inliningTarget, fdObj);
+            if (!self.unregister(fd)) {
+                throw raiseNode.get(inliningTarget).raise(KeyError, new Object[]{fd});
+            }
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "poll", minNumOfPositionalArgs = 1, parameterNames = {"$self", "timeout"})
+    @GenerateNodeFactory
+    abstract static class PollNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        static PList poll(VirtualFrame frame, PPoll self, Object timeoutObj,
+                        @Bind("this") Node inliningTarget,
+                        @CachedLibrary(limit = "1") PosixSupportLibrary posixLib,
+                        @Cached PyTimeFromObjectNode pyTimeFromObjectNode,
+                        @Cached InlinedBranchProfile errorProfile,
+                        @Cached GilNode gil,
+                        @Cached PConstructAndRaiseNode.Lazy constructAndRaiseNode,
+                        @Cached PythonObjectFactory factory,
+                        @Cached PRaiseNode.Lazy raiseNode) {
+            int timeoutMs = timeoutToMs(frame, inliningTarget, timeoutObj, MS_TO_NS, pyTimeFromObjectNode, raiseNode);
+            if (self.isPollRunning()) {
+                throw raiseNode.get(inliningTarget).raise(RuntimeError, ErrorMessages.CONCURRENT_POLL_INVOCATION);
+            }
+            int[] fds = self.getFds();
+            int[] revents;
+            self.setPollRunning(true);
+            try {
+                revents = doPoll(inliningTarget, posixLib, fds, self.getEvents(), timeoutMs, errorProfile, gil);
+            } catch (PosixException e) {
+                throw constructAndRaiseNode.get(inliningTarget).raiseOSErrorFromPosixException(frame, e);
+            } catch (UnsupportedPosixFeatureException e) {
+                throw constructAndRaiseNode.get(inliningTarget).raiseOSErrorUnsupported(frame, e);
+            } finally {
+                self.setPollRunning(false);
+            }
+            return toList(fds, revents, factory);
+        }
+
+        private static int[] doPoll(Node inliningTarget, PosixSupportLibrary posixLib, int[] fds, int[] events, int timeoutMs, InlinedBranchProfile errorProfile, GilNode gil)
+                        throws PosixException {
+            long deadline = timeoutMs > 0 ? nanoTime() + timeoutMs * MS_TO_NS : 0;
+            int remainingMs = timeoutMs;
+            gil.release(true);
+            try {
+                while (true) {
+                    try {
+                        return posixLib.poll(PosixSupport.get(inliningTarget), fds, events, remainingMs);
+                    } catch (PosixException e) {
+                        errorProfile.enter(inliningTarget);
+                        if (e.getErrorCode() != OSErrorEnum.EINTR.getNumber()) {
+                            throw e;
+                        }
+                        // signal handlers run Python code, so they need the GIL
+                        gil.acquire();
+                        try {
+                            PythonContext.triggerAsyncActions(inliningTarget);
+                        } finally {
+                            gil.release(true);
+                        }
+                        if (timeoutMs > 0) {
+                            remainingMs = (int) Math.max(0, TimeUtils.pyTimeDivide(deadline - nanoTime(), MS_TO_NS));
+                        }
+                    }
+                }
+            } finally {
+                gil.acquire();
+            }
+        }
+
+        private static PList toList(int[] fds, int[] revents, PythonObjectFactory factory) {
+            int count = 0;
+            for (int r : revents) {
+                if (r != 0) {
+                    count++;
+                }
+            }
+            Object[] result = new Object[count];
+            int j = 0;
+            for (int i = 0; i < fds.length; i++) {
+                if (revents[i] != 0) {
+                    result[j++] = factory.createTuple(new Object[]{fds[i], revents[i]});
+                }
+            }
+            return factory.createList(result);
+        }
+    }
+
+    private static int checkUnsignedShort(Node inliningTarget, int value, PRaiseNode.Lazy raiseNode) {
+        if (value < 0) {
+            throw raiseNode.get(inliningTarget).raise(ValueError, ErrorMessages.VALUE_MUST_BE_POSITIVE);
+        }
+        if (value > 0xFFFF) {
+            throw raiseNode.get(inliningTarget).raise(OverflowError, ErrorMessages.PYTHON_INT_TOO_LARGE_TO_CONV_TO, "C unsigned short");
+        }
+        return value;
+    }
+
+    /**
+     * Converts a {@code poll} timeout given in units of {@code unitToNs} nanoseconds to whole
+     * milliseconds, rounding up like CPython. {@code None} and negative timeouts yield {@code -1},
+     * which means to block indefinitely.
+     */
+    static int timeoutToMs(VirtualFrame frame, Node inliningTarget, Object timeoutObj, long unitToNs, PyTimeFromObjectNode pyTimeFromObjectNode, PRaiseNode.Lazy raiseNode) {
+        if (PGuards.isPNone(timeoutObj)) {
+            return -1;
+        }
+        long ms = TimeUtils.pyTimeDivide(pyTimeFromObjectNode.execute(frame, inliningTarget, timeoutObj, RoundType.TIMEOUT, unitToNs), MS_TO_NS);
+        if (ms < Integer.MIN_VALUE || ms > Integer.MAX_VALUE) {
+            throw raiseNode.get(inliningTarget).raise(OverflowError, ErrorMessages.TIMEOUT_IS_TOO_LARGE);
+        }
+        return ms < 0 ? -1 : (int) ms;
+    }
+
+    @TruffleBoundary
+    static long nanoTime() {
+        return System.nanoTime();
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.struct;
+
+import com.oracle.graal.python.builtins.PythonOS;
+import com.oracle.graal.python.nodes.ErrorMessages;
+import com.oracle.truffle.api.strings.TruffleString;
+
+/**
+ * A single entry of the struct format tables. Corresponds to CPython's {@code formatdef}, except
+ * that instead of function pointers for packing and unpacking, each entry carries its
+ * {@link FormatType}, which is all the packing and unpacking nodes need to know.
+ */
+public final class FormatDef {
+
+    enum FormatType {
+        PAD,
+        CHAR,
+        BOOL,
+        SIGNED_INTEGER,
+        UNSIGNED_INTEGER,
+        VOID_PTR,
+        FLOAT,
+        STRING,
+        PASCAL_STRING
+    }
+
+    /*
+     * 'long' is 32 bits wide on Windows (LLP64), like for the ctypes 'l' and 'L' field types.
+     */
+    private static final int SIZEOF_LONG = PythonOS.getPythonOS() == PythonOS.PLATFORM_WIN32 ? Integer.BYTES : Long.BYTES;
+
+    private static final FormatDef[] NATIVE_TABLE = {
+                    new FormatDef('x', FormatType.PAD, 1, 0),
+                    new FormatDef('b', FormatType.SIGNED_INTEGER, 1, 0, ErrorMessages.STRUCT_BYTE_FMT_REQUIRES_RANGE),
+                    new FormatDef('B', FormatType.UNSIGNED_INTEGER, 1, 0, ErrorMessages.STRUCT_UBYTE_FMT_REQUIRES_RANGE),
+                    new FormatDef('c', FormatType.CHAR, 1, 0),
+                    new FormatDef('s', FormatType.STRING, 1, 0),
+                    new FormatDef('p', FormatType.PASCAL_STRING, 1, 0),
+                    new FormatDef('h', FormatType.SIGNED_INTEGER, 2, 2, ErrorMessages.STRUCT_SHORT_FMT_REQUIRES_RANGE),
+                    new FormatDef('H', FormatType.UNSIGNED_INTEGER, 2, 2, ErrorMessages.STRUCT_USHORT_FMT_REQUIRES_RANGE),
+                    new FormatDef('i', FormatType.SIGNED_INTEGER, 4, 4),
+                    new FormatDef('I', FormatType.UNSIGNED_INTEGER, 4, 4),
+                    new FormatDef('l', FormatType.SIGNED_INTEGER, SIZEOF_LONG, SIZEOF_LONG),
+                    new FormatDef('L', FormatType.UNSIGNED_INTEGER, SIZEOF_LONG, SIZEOF_LONG),
+                    new FormatDef('n', FormatType.SIGNED_INTEGER, 8, 8),
+                    new FormatDef('N', FormatType.UNSIGNED_INTEGER, 8, 8),
+                    new FormatDef('q', FormatType.SIGNED_INTEGER, 8, 8),
+                    new FormatDef('Q', FormatType.UNSIGNED_INTEGER, 8, 8),
+                    new FormatDef('?', FormatType.BOOL, 1, 0),
+                    new FormatDef('e', FormatType.FLOAT, 2, 2),
+                    new FormatDef('f', FormatType.FLOAT, 4, 4),
+                    new FormatDef('d', FormatType.FLOAT, 8, 8),
+                    new FormatDef('P', FormatType.VOID_PTR, 8, 8),
+    };
+
+    private static final FormatDef[] STANDARD_TABLE = {
+                    new FormatDef('x', FormatType.PAD, 1, 0),
+                    new FormatDef('b', FormatType.SIGNED_INTEGER, 1, 0, ErrorMessages.STRUCT_BYTE_FMT_REQUIRES_RANGE),
+                    new FormatDef('B', FormatType.UNSIGNED_INTEGER, 1, 0, ErrorMessages.STRUCT_UBYTE_FMT_REQUIRES_RANGE),
+                    new FormatDef('c', FormatType.CHAR, 1, 0),
+                    new FormatDef('s', FormatType.STRING, 1, 0),
+                    new FormatDef('p', FormatType.PASCAL_STRING, 1, 0),
+                    new FormatDef('h', FormatType.SIGNED_INTEGER, 2, 0),
+                    new FormatDef('H', FormatType.UNSIGNED_INTEGER, 2, 0),
+                    new FormatDef('i', FormatType.SIGNED_INTEGER, 4, 0),
+                    new FormatDef('I', FormatType.UNSIGNED_INTEGER, 4, 0),
+                    new FormatDef('l', FormatType.SIGNED_INTEGER, 4, 0),
+                    new FormatDef('L', FormatType.UNSIGNED_INTEGER, 4, 0),
+                    new FormatDef('q', FormatType.SIGNED_INTEGER, 8, 0),
+                    new FormatDef('Q', FormatType.UNSIGNED_INTEGER, 8, 0),
+                    new FormatDef('?', FormatType.BOOL, 1, 0),
+                    new FormatDef('e', FormatType.FLOAT, 2, 0),
+                    new FormatDef('f', FormatType.FLOAT, 4, 0),
+                    new FormatDef('d', FormatType.FLOAT, 8, 0),
+    };
+
+    final char format;
+    final FormatType type;
+    final int size;
+    final int alignment;
+    /**
+     * CPython uses dedicated messages for the range errors of some of the small integer formats.
+     * If this is {@code null}, the generic message mentioning the format character is used.
+     */
+    final TruffleString rangeErrorMessage;
+
+    private FormatDef(char format, FormatType type, int size, int alignment) {
+        this(format, type, size, alignment, null);
+    }
+
+    private FormatDef(char format, FormatType type, int size, int alignment, TruffleString rangeErrorMessage) {
+        this.format = format;
+        this.type = type;
+        this.size = size;
+        this.alignment = alignment;
+        this.rangeErrorMessage = rangeErrorMessage;
+    }
+
+    boolean isUnsigned() {
+        return type == FormatType.UNSIGNED_INTEGER || type == FormatType.VOID_PTR;
+    }
+
+    /**
+     * Returns the entry for the given format character or {@code null} if the character is not a
+     * valid format character in the requested mode.
+     */
+    static FormatDef lookup(char format, boolean nativeSizes) {
+        for (FormatDef def : nativeSizes ? NATIVE_TABLE : STANDARD_TABLE) {
+            if (def.format == format) {
+                return def;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.struct;
+
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.StructError;
+import static com.oracle.graal.python.nodes.StringLiterals.T_EMPTY_STRING;
+
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+
+import com.oracle.graal.python.builtins.objects.struct.FormatDef.FormatType;
+import com.oracle.graal.python.nodes.ErrorMessages;
+import com.oracle.graal.python.nodes.PRaiseNode;
+import com.oracle.graal.python.util.NumericSupport;
+import com.oracle.truffle.api.CompilerDirectives.CompilationFinal;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.strings.TruffleString;
+
+/**
+ * A compiled struct format. Instances are immutable and do not reference any context-specific
+ * objects, so they can be cached in the AST and shared between contexts. The packing and unpacking
+ * nodes in {@link StructNodes} specialize on the identity of this object, which makes the format
+ * codes partial evaluation constants.
+ */
+public final class StructInfo {
+    static final StructInfo EMPTY = new StructInfo(T_EMPTY_STRING, new FormatCode[0], nativeNumericSupport(), 0, 0);
+
+    final TruffleString format;
+    @CompilationFinal(dimensions = 1) final FormatCode[] codes;
+    final NumericSupport numericSupport;
+    final int size;
+    final int len;
+
+    private StructInfo(TruffleString format, FormatCode[] codes, NumericSupport numericSupport, int size, int len) {
+        this.format = format;
+        this.codes = codes;
+        this.numericSupport = numericSupport;
+        this.size = size;
+        this.len = len;
+    }
+
+    public TruffleString getFormat() {
+        return format;
+    }
+
+    /**
+     * The number of bytes a packed struct takes.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * The number of Python values a packed struct consists of.
+     */
+    public int getLen() {
+        return len;
+    }
+
+    int getNumCodes() {
+        return codes.length;
+    }
+
+    private static NumericSupport nativeNumericSupport() {
+        return ByteOrder.nativeOrder() == ByteOrder.BIG_ENDIAN ? NumericSupport.bigEndian() : NumericSupport.littleEndian();
+    }
+
+    private static boolean isSpace(int c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\u000b' || c == '\f';
+    }
+
+    /**
+     * Compiles a format string. Equivalent of CPython's {@code prepare_s}.
+     */
+    @TruffleBoundary
+    static StructInfo compile(Node raisingNode, TruffleString formatString, byte[] format) {
+        for (byte b : format) {
+            if (b == 0) {
+                throw PRaiseNode.raiseUncached(raisingNode, StructError, ErrorMessages.EMBEDDED_NULL_CHARACTER);
+            }
+        }
+        int i = 0;
+        boolean nativeSizes = true;
+        NumericSupport numericSupport = nativeNumericSupport();
+        if (format.length > 0) {
+            switch (format[0]) {
+                case '@':
+                    i++;
+                    break;
+                case '=':
+                    nativeSizes = false;
+                    i++;
+                    break;
+                case '<':
+                    nativeSizes = false;
+                    numericSupport = NumericSupport.littleEndian();
+                    i++;
+                    break;
+                case '>':
+                case '!':
+                    nativeSizes = false;
+                    numericSupport = NumericSupport.bigEndian();
+                    i++;
+                    break;
+            }
+        }
+
+        ArrayList<FormatCode> codes = new ArrayList<>();
+        long size = 0;
+        int len = 0;
+        while (i < format.length) {
+            char c = (char) (format[i++] & 0xFF);
+            if (isSpace(c)) {
+                continue;
+            }
+            long num;
+            if ('0' <= c && c <= '9') {
+                num = c - '0';
+                while (i < format.length && '0' <= format[i] && format[i] <= '9') {
+                    num = num * 10 + (format[i++] - '0');
+                    if (num > Integer.MAX_VALUE) {
+                        throw PRaiseNode.raiseUncached(raisingNode, StructError, ErrorMessages.STRUCT_SIZE_TOO_LONG);
+                    }
+                }
+                if (i >= format.length) {
+                    throw PRaiseNode.raiseUncached(raisingNode, StructError, ErrorMessages.STRUCT_REPEAT_COUNT_WITHOUT_FMT);
+                }
+                c = (char) (format[i++] & 0xFF);
+            } else {
+                num = 1;
+            }
+
+            FormatDef def = FormatDef.lookup(c, nativeSizes);
+            if (def == null) {
+                throw PRaiseNode.raiseUncached(raisingNode, StructError, ErrorMessages.STRUCT_BAD_CHAR_IN_FMT);
+            }
+
+            if (nativeSizes && def.alignment > 0 && size > 0) {
+                size += (def.alignment - 1) - (size - 1) % def.alignment;
+            }
+            if (def.type == FormatType.STRING || def.type == FormatType.PASCAL_STRING) {
+                codes.add(new FormatCode(def, (int) size, (int) num, 1));
+                len++;
+            } else if (def.type != FormatType.PAD && num > 0) {
+                codes.add(new FormatCode(def, (int) size, def.size, (int) num));
+                len += (int) num;
+            }
+            size += num * def.size;
+            if (size > Integer.MAX_VALUE) {
+                throw PRaiseNode.raiseUncached(raisingNode, StructError, ErrorMessages.STRUCT_SIZE_TOO_LONG);
+            }
+        }
+        return new StructInfo(formatString, codes.toArray(new FormatCode[0]), numericSupport, (int) size, len);
+    }
+}
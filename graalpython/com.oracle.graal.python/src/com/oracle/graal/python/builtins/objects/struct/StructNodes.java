@@ -0,0 +1,605 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.struct;
+
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.IndexError;
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.StructError;
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.TypeError;
+import static com.oracle.graal.python.nodes.BuiltinNames.T__STRUCT;
+import static com.oracle.graal.python.util.PythonUtils.TS_ENCODING;
+
+import com.oracle.graal.python.builtins.modules.StructModuleBuiltins;
+import com.oracle.graal.python.builtins.objects.buffer.PythonBufferAccessLibrary;
+import com.oracle.graal.python.builtins.objects.buffer.PythonBufferAcquireLibrary;
+import com.oracle.graal.python.builtins.objects.bytes.PBytes;
+import com.oracle.graal.python.builtins.objects.bytes.PBytesLike;
+import com.oracle.graal.python.builtins.objects.ints.PInt;
+import com.oracle.graal.python.builtins.objects.str.PString;
+import com.oracle.graal.python.builtins.objects.struct.FormatDef.FormatType;
+import com.oracle.graal.python.builtins.objects.tuple.PTuple;
+import com.oracle.graal.python.lib.PyFloatAsDoubleNode;
+import com.oracle.graal.python.lib.PyIndexCheckNode;
+import com.oracle.graal.python.lib.PyLongAsLongAndOverflowNode;
+import com.oracle.graal.python.lib.PyNumberIndexNode;
+import com.oracle.graal.python.lib.PyObjectIsTrueNode;
+import com.oracle.graal.python.nodes.ErrorMessages;
+import com.oracle.graal.python.nodes.PNodeWithContext;
+import com.oracle.graal.python.nodes.PRaiseNode;
+import com.oracle.graal.python.nodes.util.CannotCastException;
+import com.oracle.graal.python.nodes.util.CastToTruffleStringNode;
+import com.oracle.graal.python.runtime.IndirectCallData;
+import com.oracle.graal.python.runtime.PythonContext;
+import com.oracle.graal.python.runtime.exception.PException;
+import com.oracle.graal.python.runtime.object.PythonObjectFactory;
+import com.oracle.graal.python.util.NumericSupport;
+import com.oracle.graal.python.util.OverflowException;
+import com.oracle.graal.python.util.PythonUtils;
+import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.dsl.Bind;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.Cached.Shared;
+import com.oracle.truffle.api.dsl.GenerateInline;
+import com.oracle.truffle.api.dsl.ImportStatic;
+import com.oracle.truffle.api.dsl.NeverDefault;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.library.CachedLibrary;
+import com.oracle.truffle.api.nodes.ExplodeLoop;
+import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.strings.TruffleString;
+import com.oracle.truffle.api.strings.TruffleString.Encoding;
+
+public final class StructNodes {
+
+    /**
+     * Formats with at most this many codes get their packing and unpacking loops unrolled when the
+     * {@link StructInfo} is a compilation constant.
+     */
+    static final int MAX_EXPLODED_CODES = 16;
+
+    private StructNodes() {
+    }
+
+    /**
+     * Converts the {@code format} argument of the struct functions to a {@link StructInfo}. Constant
+     * formats are cached in the AST, all other formats go through the module-level cache.
+     */
+    @GenerateInline(false)
+    @ImportStatic(PythonUtils.class)
+    public abstract static class GetStructInfoNode extends PNodeWithContext {
+        public abstract StructInfo execute(Object format);
+
+        @Specialization(guards = "equalNode.execute(format, cachedFormat, TS_ENCODING)", limit = "3")
+        static StructInfo doCached(@SuppressWarnings("unused") TruffleString format,
+                        @SuppressWarnings("unused") @Cached("format") TruffleString cachedFormat,
+                        @SuppressWarnings("unused") @Cached TruffleString.EqualNode equalNode,
+                        @Cached("lookup(this, format)") StructInfo cachedStructInfo) {
+            return cachedStructInfo;
+        }
+
+        @Specialization(replaces = "doCached")
+        StructInfo doGeneric(Object format) {
+            return lookup(this, format);
+        }
+
+        @NeverDefault
+        @TruffleBoundary
+        static StructInfo lookup(Node node, Object format) {
+            TruffleString formatString;
+            if (format instanceof PBytes bytes) {
+                byte[] data = PythonBufferAccessLibrary.getUncached().getCopiedByteArray(bytes);
+                formatString = TruffleString.fromByteArrayUncached(data, 0, data.length, Encoding.ISO_8859_1, true).switchEncodingUncached(TS_ENCODING);
+            } else if (format instanceof TruffleString || format instanceof PString) {
+                try {
+                    formatString = CastToTruffleStringNode.executeUncached(format);
+                } catch (CannotCastException e) {
+                    throw PRaiseNode.raiseUncached(node, TypeError, ErrorMessages.STRUCT_FMT_NOT_STR_OR_BYTES_P, format);
+                }
+            } else {
+                throw PRaiseNode.raiseUncached(node, TypeError, ErrorMessages.STRUCT_FMT_NOT_STR_OR_BYTES_P, format);
+            }
+            StructModuleBuiltins module = (StructModuleBuiltins) PythonContext.get(node).lookupBuiltinModule(T__STRUCT).getBuiltins();
+            StructInfo info = module.getCachedStructInfo(formatString);
+            if (info == null) {
+                info = StructInfo.compile(node, formatString, toFormatBytes(formatString));
+                module.cacheStructInfo(formatString, info);
+            }
+            return info;
+        }
+
+        private static byte[] toFormatBytes(TruffleString formatString) {
+            int length = formatString.codePointLengthUncached(TS_ENCODING);
+            byte[] result = new byte[length];
+            for (int i = 0; i < length; i++) {
+                int c = formatString.codePointAtIndexUncached(i, TS_ENCODING);
+                // any non-latin-1 character is a bad format character, so we just need a byte value
+                // that does not correspond to any format character
+                result[i] = (byte) (c > 0xFF ? 0xFF : c);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Packs a single value according to the given format code into the byte array. The caller is
+     * responsible for the bounds checks.
+     */
+    @GenerateInline(false)
+    public abstract static class PackValueNode extends PNodeWithContext {
+        public abstract void execute(VirtualFrame frame, FormatCode code, NumericSupport numericSupport, Object value, byte[] buffer, int offset);
+
+        @Specialization
+        static void pack(VirtualFrame frame, FormatCode code, NumericSupport numericSupport, Object value, byte[] buffer, int offset,
+                        @Bind("this") Node inliningTarget,
+                        @Cached PyIndexCheckNode indexCheckNode,
+                        @Cached PyNumberIndexNode indexNode,
+                        @Cached PyLongAsLongAndOverflowNode asLongNode,
+                        @Cached PyFloatAsDoubleNode asDoubleNode,
+                        @Cached PyObjectIsTrueNode isTrueNode,
+                        @CachedLibrary(limit = "3") PythonBufferAccessLibrary bufferLib,
+                        @Cached PRaiseNode.Lazy raiseNode) {
+            FormatDef def = code.formatDef;
+            switch (def.type) {
+                case SIGNED_INTEGER, UNSIGNED_INTEGER, VOID_PTR -> {
+                    if (!indexCheckNode.execute(inliningTarget, value)) {
+                        throw raiseNode.get(inliningTarget).raise(StructError, ErrorMessages.STRUCT_ARG_NOT_AN_INTEGER);
+                    }
+                    Object index = indexNode.execute(frame, inliningTarget, value);
+                    long longValue;
+                    try {
+                        longValue = asLongNode.execute(frame, inliningTarget, index);
+                    } catch (OverflowException e) {
+                        packLargeInteger(inliningTarget, def, numericSupport, index, buffer, offset);
+                        return;
+                    }
+                    checkIntegerRange(inliningTarget, def, longValue);
+                    numericSupport.putLong(buffer, offset, longValue, def.size);
+                }
+                case FLOAT -> {
+                    double doubleValue;
+                    try {
+                        doubleValue = asDoubleNode.execute(frame, inliningTarget, value);
+                    } catch (PException e) {
+                        throw raiseNode.get(inliningTarget).raise(StructError, ErrorMessages.STRUCT_ARG_NOT_A_FLOAT);
+                    }
+                    numericSupport.putDouble(inliningTarget, buffer, offset, doubleValue, def.size, raiseNode);
+                }
+                case BOOL -> buffer[offset] = isTrueNode.execute(frame, inliningTarget, value) ? (byte) 1 : (byte) 0;
+                case CHAR -> {
+                    if (!(value instanceof PBytes) || bufferLib.getBufferLength(value) != 1) {
+                        throw raiseNode.get(inliningTarget).raise(StructError, ErrorMessages.STRUCT_CHAR_FMT_REQ_BYTES_LEN_1);
+                    }
+                    buffer[offset] = bufferLib.readByte(value, 0);
+                }
+                case STRING -> {
+                    if (!(value instanceof PBytesLike)) {
+                        throw raiseNode.get(inliningTarget).raise(StructError, ErrorMessages.STRUCT_ARG_FOR_C_MUST_BE_BYTES, def.format);
+                    }
+                    int n = Math.min(bufferLib.getBufferLength(value), code.size);
+                    bufferLib.readIntoByteArray(value, 0, buffer, offset, n);
+                }
+                case PASCAL_STRING -> {
+                    if (!(value instanceof PBytesLike)) {
+                        throw raiseNode.get(inliningTarget).raise(StructError, ErrorMessages.STRUCT_ARG_FOR_C_MUST_BE_BYTES, def.format);
+                    }
+                    if (code.size > 0) {
+                        int n = Math.min(bufferLib.getBufferLength(value), code.size - 1);
+                        bufferLib.readIntoByteArray(value, 0, buffer, offset + 1, n);
+                        buffer[offset] = (byte) Math.min(n, 255);
+                    }
+                }
+                default -> throw CompilerDirectives.shouldNotReachHere();
+            }
+        }
+
+        private static void checkIntegerRange(Node inliningTarget, FormatDef def, long value) {
+            if (def.type == FormatType.VOID_PTR) {
+                // like PyLong_AsVoidPtr, accept both the signed and the unsigned range
+                return;
+            }
+            if (def.size == Long.BYTES) {
+                if (def.type == FormatType.UNSIGNED_INTEGER && value < 0) {
+                    throw raiseOutOfRange(inliningTarget, def);
+                }
+                return;
+            }
+            int shift = Long.SIZE - def.size * Byte.SIZE;
+            if (def.type == FormatType.UNSIGNED_INTEGER) {
+                if (value < 0) {
+                    throw raiseOutOfRange(inliningTarget, def);
+                }
+                if (value > (-1L >>> shift)) {
+                    throw raiseRangeError(inliningTarget, def);
+                }
+            } else if (value < (Long.MIN_VALUE >> shift) || value > (Long.MAX_VALUE >> shift)) {
+                throw raiseRangeError(inliningTarget, def);
+            }
+        }
+
+        @TruffleBoundary
+        private static void packLargeInteger(Node raisingNode, FormatDef def, NumericSupport numericSupport, Object value, byte[] buffer, int offset) {
+            if (def.isUnsigned() && def.size == Long.BYTES && value instanceof PInt pint && !pint.isNegative() && pint.bitLength() <= Long.SIZE) {
+                numericSupport.putLong(buffer, offset, pint.longValue());
+                return;
+            }
+            throw PRaiseNode.raiseUncached(raisingNode, StructError, ErrorMessages.STRUCT_ARG_OUT_OF_RANGE);
+        }
+
+        @TruffleBoundary
+        private static PException raiseOutOfRange(Node raisingNode, FormatDef def) {
+            if (def.rangeErrorMessage != null) {
+                return PRaiseNode.raiseUncached(raisingNode, StructError, def.rangeErrorMessage);
+            }
+            return PRaiseNode.raiseUncached(raisingNode, StructError, ErrorMessages.STRUCT_ARG_OUT_OF_RANGE);
+        }
+
+        @TruffleBoundary
+        private static PException raiseRangeError(Node raisingNode, FormatDef def) {
+            if (def.rangeErrorMessage != null) {
+                return PRaiseNode.raiseUncached(raisingNode, StructError, def.rangeErrorMessage);
+            }
+            int shift = Long.SIZE - def.size * Byte.SIZE;
+            if (def.type == FormatType.UNSIGNED_INTEGER) {
+                return PRaiseNode.raiseUncached(raisingNode, StructError, ErrorMessages.STRUCT_FMT_REQUIRES_UNSIGNED_RANGE, def.format, -1L >>> shift);
+            }
+            return PRaiseNode.raiseUncached(raisingNode, StructError, ErrorMessages.STRUCT_FMT_REQUIRES_RANGE, def.format, Long.MIN_VALUE >> shift, Long.MAX_VALUE >> shift);
+        }
+    }
+
+    /**
+     * Unpacks a single value according to the given format code from the byte array. The caller is
+     * responsible for the bounds checks.
+     */
+    @GenerateInline(false)
+    public abstract static class UnpackValueNode extends PNodeWithContext {
+        public abstract Object execute(FormatCode code, NumericSupport numericSupport, byte[] buffer, int offset);
+
+        @Specialization
+        static Object unpack(FormatCode code, NumericSupport numericSupport, byte[] buffer, int offset,
+                        @Cached PythonObjectFactory factory) {
+            FormatDef def = code.formatDef;
+            switch (def.type) {
+                case SIGNED_INTEGER: {
+                    long value = numericSupport.getLong(buffer, offset, def.size);
+                    if (def.size <= Integer.BYTES) {
+                        return (int) value;
+                    }
+                    return value;
+                }
+                case UNSIGNED_INTEGER:
+                case VOID_PTR: {
+                    long value = numericSupport.getLongUnsigned(buffer, offset, def.size);
+                    if (def.size < Integer.BYTES) {
+                        return (int) value;
+                    }
+                    if (value < 0) {
+                        return factory.createInt(PInt.longToUnsignedBigInteger(value));
+                    }
+                    return value;
+                }
+                case FLOAT:
+                    return numericSupport.getDouble(buffer, offset, def.size);
+                case BOOL:
+                    return buffer[offset] != 0;
+                case CHAR:
+                    return factory.createBytes(new byte[]{buffer[offset]});
+                case STRING:
+                    return factory.createBytes(PythonUtils.arrayCopyOfRange(buffer, offset, offset + code.size));
+                case PASCAL_STRING: {
+                    int n = 0;
+                    if (code.size > 0) {
+                        n = Math.min(buffer[offset] & 0xFF, code.size - 1);
+                    }
+                    return factory.createBytes(PythonUtils.arrayCopyOfRange(buffer, offset + 1, offset + 1 + n));
+                }
+                default:
+                    throw CompilerDirectives.shouldNotReachHere();
+            }
+        }
+    }
+
+    /**
+     * Packs {@link StructInfo#getLen()} values starting at {@code valuesOffset} into the byte array
+     * at {@code offset}. The caller is responsible for checking the number of values and the
+     * bounds.
+     */
+    @GenerateInline(false)
+    @ImportStatic(StructNodes.class)
+    public abstract static class PackValuesNode extends PNodeWithContext {
+        public abstract void execute(VirtualFrame frame, StructInfo structInfo, Object[] values, int valuesOffset, byte[] buffer, int offset);
+
+        @Specialization(guards = {"structInfo == cachedStructInfo", "cachedStructInfo.getNumCodes() <= MAX_EXPLODED_CODES"}, limit = "2")
+        @ExplodeLoop
+        static void doCached(VirtualFrame frame, @SuppressWarnings("unused") StructInfo structInfo, Object[] values, int valuesOffset, byte[] buffer, int offset,
+                        @Cached("structInfo") StructInfo cachedStructInfo,
+                        @Shared @Cached PackValueNode packValueNode) {
+            FormatCode[] codes = cachedStructInfo.codes;
+            int valueIndex = valuesOffset;
+            for (int i = 0; i < codes.length; i++) {
+                valueIndex = packCode(frame, codes[i], cachedStructInfo.numericSupport, values, valueIndex, buffer, offset, packValueNode);
+            }
+        }
+
+        @Specialization(replaces = "doCached")
+        static void doGeneric(VirtualFrame frame, StructInfo structInfo, Object[] values, int valuesOffset, byte[] buffer, int offset,
+                        @Shared @Cached PackValueNode packValueNode) {
+            FormatCode[] codes = structInfo.codes;
+            int valueIndex = valuesOffset;
+            for (int i = 0; i < codes.length; i++) {
+                valueIndex = packCode(frame, codes[i], structInfo.numericSupport, values, valueIndex, buffer, offset, packValueNode);
+            }
+        }
+
+        private static int packCode(VirtualFrame frame, FormatCode code, NumericSupport numericSupport, Object[] values, int valueIndex, byte[] buffer, int offset,
+                        PackValueNode packValueNode) {
+            int index = valueIndex;
+            int pos = offset + code.offset;
+            for (int j = 0; j < code.repeat; j++) {
+                packValueNode.execute(frame, code, numericSupport, values[index++], buffer, pos);
+                pos += code.size;
+            }
+            return index;
+        }
+    }
+
+    /**
+     * Unpacks {@link StructInfo#getLen()} values from the byte array at {@code offset}. The caller
+     * is responsible for the bounds checks.
+     */
+    @GenerateInline(false)
+    @ImportStatic(StructNodes.class)
+    public abstract static class UnpackValuesNode extends PNodeWithContext {
+        public abstract Object[] execute(StructInfo structInfo, byte[] buffer, int offset);
+
+        @Specialization(guards = {"structInfo == cachedStructInfo", "cachedStructInfo.getNumCodes() <= MAX_EXPLODED_CODES"}, limit = "2")
+        @ExplodeLoop
+        static Object[] doCached(@SuppressWarnings("unused") StructInfo structInfo, byte[] buffer, int offset,
+                        @Cached("structInfo") StructInfo cachedStructInfo,
+                        @Shared @Cached UnpackValueNode unpackValueNode) {
+            FormatCode[] codes = cachedStructInfo.codes;
+            Object[] result = new Object[cachedStructInfo.len];
+            int valueIndex = 0;
+            for (int i = 0; i < codes.length; i++) {
+                valueIndex = unpackCode(codes[i], cachedStructInfo.numericSupport, result, valueIndex, buffer, offset, unpackValueNode);
+            }
+            return result;
+        }
+
+        @Specialization(replaces = "doCached")
+        static Object[] doGeneric(StructInfo structInfo, byte[] buffer, int offset,
+                        @Shared @Cached UnpackValueNode unpackValueNode) {
+            FormatCode[] codes = structInfo.codes;
+            Object[] result = new Object[structInfo.len];
+            int valueIndex = 0;
+            for (int i = 0; i < codes.length; i++) {
+                valueIndex = unpackCode(codes[i], structInfo.numericSupport, result, valueIndex, buffer, offset, unpackValueNode);
+            }
+            return result;
+        }
+
+        private static int unpackCode(FormatCode code, NumericSupport numericSupport, Object[] result, int valueIndex, byte[] buffer, int offset, UnpackValueNode unpackValueNode) {
+            int index = valueIndex;
+            int pos = offset + code.offset;
+            for (int j = 0; j < code.repeat; j++) {
+                result[index++] = unpackValueNode.execute(code, numericSupport, buffer, pos);
+                pos += code.size;
+            }
+            return index;
+        }
+    }
+
+    /**
+     * Implements {@code Struct.pack}.
+     */
+    @GenerateInline(false)
+    public abstract static class StructPackNode extends PNodeWithContext {
+        public abstract PBytes execute(VirtualFrame frame, StructInfo structInfo, Object[] values);
+
+        @Specialization
+        static PBytes pack(VirtualFrame frame, StructInfo structInfo, Object[] values,
+                        @Bind("this") Node inliningTarget,
+                        @Cached PackValuesNode packValuesNode,
+                        @Cached PythonObjectFactory factory,
+                        @Cached PRaiseNode.Lazy raiseNode) {
+            if (values.length != structInfo.len) {
+                throw raiseNode.get(inliningTarget).raise(StructError, ErrorMessages.STRUCT_PACK_EXPECTED_N_ITEMS_GOT_K, structInfo.len, values.length);
+            }
+            byte[] result = new byte[structInfo.size];
+            packValuesNode.execute(frame, structInfo, values, 0, result, 0);
+            return factory.createBytes(result);
+        }
+    }
+
+    /**
+     * Implements {@code Struct.pack_into}. The arguments are the buffer, the offset and the values,
+     * as in CPython.
+     */
+    @GenerateInline(false)
+    public abstract static class StructPackIntoNode extends PNodeWithContext {
+        public abstract void execute(VirtualFrame frame, StructInfo structInfo, Object[] args);
+
+        @Specialization
+        static void packInto(VirtualFrame frame, StructInfo structInfo, Object[] args,
+                        @Bind("this") Node inliningTarget,
+                        @Cached("createFor(this)") IndirectCallData indirectCallData,
+                        @CachedLibrary(limit = "3") PythonBufferAcquireLibrary bufferAcquireLib,
+                        @CachedLibrary(limit = "3") PythonBufferAccessLibrary bufferLib,
+                        @Cached PyNumberIndexNode indexNode,
+                        @Cached PyLongAsLongAndOverflowNode asLongNode,
+                        @Cached PackValuesNode packValuesNode,
+                        @Cached PRaiseNode.Lazy raiseNode) {
+            if (args.length != structInfo.len + 2) {
+                if (args.length == 0) {
+                    throw raiseNode.get(inliningTarget).raise(StructError, ErrorMessages.STRUCT_PACK_INTO_EXPECTED_BUFFER_ARG);
+                } else if (args.length == 1) {
+                    throw raiseNode.get(inliningTarget).raise(StructError, ErrorMessages.STRUCT_PACK_INTO_EXPECTED_OFFSET_ARG);
+                }
+                throw raiseNode.get(inliningTarget).raise(StructError, ErrorMessages.STRUCT_PACK_INTO_EXPECTED_N_ITEMS_GOT_K, structInfo.len, args.length - 2);
+            }
+            Object buffer = bufferAcquireLib.acquireWritableWithTypeError(args[0], "pack_into", frame, indirectCallData);
+            try {
+                Object offsetObj = indexNode.execute(frame, inliningTarget, args[1]);
+                long offset;
+                try {
+                    offset = asLongNode.execute(frame, inliningTarget, offsetObj);
+                } catch (OverflowException e) {
+                    throw raiseNode.get(inliningTarget).raise(IndexError, ErrorMessages.CANNOT_FIT_P_INTO_INDEXSIZED_INT, args[1]);
+                }
+                int bufferLength = bufferLib.getBufferLength(buffer);
+                int start = checkPackIntoOffset(inliningTarget, structInfo, offset, bufferLength, raiseNode);
+                if (bufferLib.hasInternalByteArray(buffer)) {
+                    packValuesNode.execute(frame, structInfo, args, 2, bufferLib.getInternalByteArray(buffer), start);
+                } else {
+                    byte[] tmp = new byte[structInfo.size];
+                    bufferLib.readIntoByteArray(buffer, start, tmp, 0, structInfo.size);
+                    packValuesNode.execute(frame, structInfo, args, 2, tmp, 0);
+                    bufferLib.writeFromByteArray(buffer, start, tmp, 0, structInfo.size);
+                }
+            } finally {
+                bufferLib.release(buffer, frame, indirectCallData);
+            }
+        }
+
+        private static int checkPackIntoOffset(Node inliningTarget, StructInfo structInfo, long offset, int bufferLength, PRaiseNode.Lazy raiseNode) {
+            long start = offset;
+            if (start < 0) {
+                if (start + structInfo.size > 0) {
+                    throw raiseNode.get(inliningTarget).raise(StructError, ErrorMessages.STRUCT_NO_SPACE_TO_PACK_N_BYTES_AT_OFFSET, structInfo.size, offset);
+                }
+                if (start + bufferLength < 0) {
+                    throw raiseNode.get(inliningTarget).raise(StructError, ErrorMessages.STRUCT_OFFSET_OUT_OF_RANGE, offset, bufferLength);
+                }
+                start += bufferLength;
+            }
+            if (bufferLength - start < structInfo.size) {
+                throw raiseBufferTooSmall(inliningTarget, ErrorMessages.STRUCT_PACK_INTO_REQ_BUFFER_TO_PACK, structInfo.size, start, bufferLength);
+            }
+            return (int) start;
+        }
+    }
+
+    /**
+     * Implements {@code Struct.unpack} ({@code offset == -1}) and {@code Struct.unpack_from}. The
+     * buffer must have been acquired by the caller, who is also responsible for releasing it.
+     */
+    @GenerateInline(false)
+    public abstract static class StructUnpackNode extends PNodeWithContext {
+        public abstract PTuple execute(StructInfo structInfo, Object buffer, long offset, boolean unpackFrom);
+
+        @Specialization
+        static PTuple unpack(StructInfo structInfo, Object buffer, long offset, boolean unpackFrom,
+                        @Bind("this") Node inliningTarget,
+                        @CachedLibrary(limit = "3") PythonBufferAccessLibrary bufferLib,
+                        @Cached UnpackValuesNode unpackValuesNode,
+                        @Cached PythonObjectFactory factory,
+                        @Cached PRaiseNode.Lazy raiseNode) {
+            int bufferLength = bufferLib.getBufferLength(buffer);
+            int start = 0;
+            if (unpackFrom) {
+                start = checkUnpackFromOffset(inliningTarget, structInfo, offset, bufferLength, raiseNode);
+            } else if (bufferLength != structInfo.size) {
+                throw raiseNode.get(inliningTarget).raise(StructError, ErrorMessages.STRUCT_UNPACK_REQ_BUFFER_N_BYTES, structInfo.size);
+            }
+            byte[] bytes;
+            if (bufferLib.hasInternalByteArray(buffer)) {
+                bytes = bufferLib.getInternalByteArray(buffer);
+            } else {
+                bytes = new byte[structInfo.size];
+                bufferLib.readIntoByteArray(buffer, start, bytes, 0, structInfo.size);
+                start = 0;
+            }
+            return factory.createTuple(unpackValuesNode.execute(structInfo, bytes, start));
+        }
+
+        private static int checkUnpackFromOffset(Node inliningTarget, StructInfo structInfo, long offset, int bufferLength, PRaiseNode.Lazy raiseNode) {
+            long start = offset;
+            if (start < 0) {
+                if (start + bufferLength < 0) {
+                    throw raiseNode.get(inliningTarget).raise(StructError, ErrorMessages.STRUCT_OFFSET_OUT_OF_RANGE, offset, bufferLength);
+                }
+                if (start + structInfo.size > 0) {
+                    throw raiseNode.get(inliningTarget).raise(StructError, ErrorMessages.STRUCT_NOT_ENOUGH_DATA_TO_UNPACK_N_BYTES, structInfo.size, offset);
+                }
+                start += bufferLength;
+            }
+            if (bufferLength - start < structInfo.size) {
+                throw raiseBufferTooSmall(inliningTarget, ErrorMessages.STRUCT_UNPACK_FROM_REQ_BUFFER, structInfo.size, start, bufferLength);
+            }
+            return (int) start;
+        }
+    }
+
+    /**
+     * Implements {@code Struct.iter_unpack}. The buffer is acquired here and released by the
+     * iterator once it is exhausted.
+     */
+    @GenerateInline(false)
+    public abstract static class StructIterUnpackNode extends PNodeWithContext {
+        public abstract PStructUnpackIterator execute(VirtualFrame frame, StructInfo structInfo, Object bufferObj);
+
+        @Specialization
+        static PStructUnpackIterator iterUnpack(VirtualFrame frame, StructInfo structInfo, Object bufferObj,
+                        @Bind("this") Node inliningTarget,
+                        @Cached("createFor(this)") IndirectCallData indirectCallData,
+                        @CachedLibrary(limit = "3") PythonBufferAcquireLibrary bufferAcquireLib,
+                        @CachedLibrary(limit = "3") PythonBufferAccessLibrary bufferLib,
+                        @Cached PythonObjectFactory factory,
+                        @Cached PRaiseNode.Lazy raiseNode) {
+            if (structInfo.size == 0) {
+                throw raiseNode.get(inliningTarget).raise(StructError, ErrorMessages.STRUCT_ITER_CANNOT_UNPACK_FROM_STRUCT_OF_SIZE_0);
+            }
+            Object buffer = bufferAcquireLib.acquireReadonly(bufferObj, frame, indirectCallData);
+            if (bufferLib.getBufferLength(buffer) % structInfo.size != 0) {
+                bufferLib.release(buffer, frame, indirectCallData);
+                throw raiseNode.get(inliningTarget).raise(StructError, ErrorMessages.STRUCT_ITER_UNPACK_REQ_A_BUFFER_OF_A_MUL_OF_BYTES, structInfo.size);
+            }
+            return factory.createStructUnpackIterator(structInfo, buffer);
+        }
+    }
+
+    @TruffleBoundary
+    private static PException raiseBufferTooSmall(Node raisingNode, TruffleString message, int size, long offset, int bufferLength) {
+        // CPython computes the required size as size_t, so it cannot overflow
+        String required = Long.toUnsignedString(size + offset);
+        return PRaiseNode.raiseUncached(raisingNode, StructError, message, required, size, offset, bufferLength);
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2018, 2024, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -116,7 +116,10 @@ public final class LockBuiltins extends PythonBuiltins {
         @Specialization(guards = {"!invalidArgs(blocking, timeout)", "timeout == UNSET_TIMEOUT", "blocking"})
         boolean acBlocking(PLock self, @SuppressWarnings("unused") boolean blocking, @SuppressWarnings("unused") double timeout,
                         @Cached.Shared("g") @Cached GilNode gil) {
-            // acquire lock
+            // try without releasing the GIL first, the lock is usually not contended
+            if (self.acquireNonBlocking()) {
+                return true;
+            }
             gil.release(true);
             try {
                 return self.acquireBlocking(this);
@@ -128,7 +131,10 @@ public final class LockBuiltins extends PythonBuiltins {
         @Specialization(guards = {"!invalidArgs(blocking, timeout)", "timeout == UNSET_TIMEOUT", "blocking"})
         boolean acBlocking(PRLock self, @SuppressWarnings("unused") boolean blocking, @SuppressWarnings("unused") double timeout,
                         @Cached.Shared("g") @Cached GilNode gil) {
-            // acquire lock
+            // try without releasing the GIL first, the lock is usually not contended
+            if (self.acquireNonBlocking()) {
+                return true;
+            }
             gil.release(true);
             try {
                 return self.acquireBlocking(this);
@@ -140,7 +146,9 @@ public final class LockBuiltins extends PythonBuiltins {
         @Specialization(guards = {"!invalidArgs(blocking, timeout)", "timeout != UNSET_TIMEOUT", "blocking"})
         boolean acTimeOut(AbstractPythonLock self, @SuppressWarnings("unused") boolean blocking, double timeout,
                         @Cached.Shared("g") @Cached GilNode gil) {
-            // acquire lock
+            if (self.acquireNonBlocking()) {
+                return true;
+            }
             gil.release(true);
             try {
                 return self.acquireTimeout(this, timeout);
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.thread;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Contention statistics of a single {@link AbstractPythonLock}, only allocated if the
+ * {@code LockStatistics} option is enabled. Acquisitions that did not get the lock on the first
+ * try are counted as contended, and for those the time spent spinning and parking is added to a
+ * log2 histogram of wait times.
+ */
+public final class LockStatistics {
+    /**
+     * Number of wait time histogram buckets. Bucket {@code i} counts waits that took less than
+     * {@code 2^i} nanoseconds (and at least {@code 2^(i-1)}); the last bucket collects everything
+     * slower.
+     */
+    public static final int HISTOGRAM_BUCKETS = 40;
+
+    private final AtomicLong acquisitions = new AtomicLong();
+    private final AtomicLong contendedAcquisitions = new AtomicLong();
+    private final AtomicLong spinAcquisitions = new AtomicLong();
+    private final AtomicLong timeouts = new AtomicLong();
+    private final AtomicLong waitTime = new AtomicLong();
+    private final AtomicLongArray histogram = new AtomicLongArray(HISTOGRAM_BUCKETS);
+
+    void recordUncontended() {
+        acquisitions.getAndIncrement();
+    }
+
+    /**
+     * Records a contended acquisition attempt that started waiting at {@code waitStart}.
+     *
+     * @param acquired {@code false} if the attempt timed out or was interrupted
+     * @param spun {@code true} if the lock was acquired while spinning, without parking
+     */
+    void recordContended(long waitStart, boolean acquired, boolean spun) {
+        long delta = System.nanoTime() - waitStart;
+        if (acquired) {
+            acquisitions.getAndIncrement();
+            contendedAcquisitions.getAndIncrement();
+            if (spun) {
+                spinAcquisitions.getAndIncrement();
+            }
+        } else {
+            timeouts.getAndIncrement();
+        }
+        waitTime.addAndGet(delta);
+        histogram.getAndIncrement(histogramBucket(delta));
+    }
+
+    public long getAcquisitions() {
+        return acquisitions.get();
+    }
+
+    public long getContendedAcquisitions() {
+        return contendedAcquisitions.get();
+    }
+
+    public long getSpinAcquisitions() {
+        return spinAcquisitions.get();
+    }
+
+    public long getTimeouts() {
+        return timeouts.get();
+    }
+
+    /**
+     * Returns the total time in nanoseconds spent waiting for the lock.
+     */
+    public long getWaitTime() {
+        return waitTime.get();
+    }
+
+    public long[] getHistogram() {
+        long[] result = new long[HISTOGRAM_BUCKETS];
+        for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+            result[i] = histogram.get(i);
+        }
+        return result;
+    }
+
+    private static int histogramBucket(long nanos) {
+        return Math.min(HISTOGRAM_BUCKETS - 1, 64 - Long.numberOfLeadingZeros(Math.max(nanos, 0)));
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2021, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2018, 2024, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -48,8 +48,13 @@ import com.oracle.truffle.api.TruffleSafepoint;
 import com.oracle.truffle.api.nodes.Node;
 import com.oracle.truffle.api.object.Shape;
 
-public final class PLock extends AbstractPythonLock {
+public final class PLock extends SpinningPythonLock {
     private final Semaphore semaphore;
+    /*
+     * The thread that acquired the lock, used to decide whether to spin. A '_thread.lock' may be
+     * released by any thread, so this is only informational.
+     */
+    private volatile Thread owner;
 
     @TruffleBoundary
     public PLock(Object cls, Shape instanceShape) {
@@ -58,33 +63,40 @@ public final class PLock extends AbstractPythonLock {
     }
 
     @Override
-    @TruffleBoundary
-    public boolean acquireNonBlocking() {
-        return semaphore.tryAcquire();
+    protected boolean tryAcquire() {
+        if (semaphore.tryAcquire()) {
+            owner = Thread.currentThread();
+            return true;
+        }
+        return false;
     }
 
     @Override
-    @TruffleBoundary
-    public boolean acquireBlocking(Node node) {
+    protected boolean park(Node node, long timeoutMillis) {
         boolean[] b = new boolean[1];
-        TruffleSafepoint.setBlockedThreadInterruptible(node, (s) -> {
-            s.acquire();
-            b[0] = true;
-        }, semaphore);
+        if (timeoutMillis < 0) {
+            TruffleSafepoint.setBlockedThreadInterruptible(node, (s) -> {
+                s.acquire();
+                b[0] = true;
+            }, semaphore);
+        } else {
+            TruffleSafepoint.setBlockedThreadInterruptible(node, (s) -> b[0] = s.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS), semaphore);
+        }
+        if (b[0]) {
+            owner = Thread.currentThread();
+        }
         return b[0];
     }
 
     @Override
-    @TruffleBoundary
-    public boolean acquireTimeout(Node node, long timeout) {
-        boolean[] b = new boolean[1];
-        TruffleSafepoint.setBlockedThreadInterruptible(node, (s) -> b[0] = s.tryAcquire(timeout, TimeUnit.MILLISECONDS), semaphore);
-        return b[0];
+    protected Thread getOwnerThread() {
+        return owner;
     }
 
     @Override
     @TruffleBoundary
     public void release() {
+        owner = null;
         semaphore.release();
     }
 
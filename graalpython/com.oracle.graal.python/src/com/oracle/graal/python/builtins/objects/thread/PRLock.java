@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2018, 2024, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -48,17 +48,13 @@ import com.oracle.truffle.api.TruffleSafepoint;
 import com.oracle.truffle.api.nodes.Node;
 import com.oracle.truffle.api.object.Shape;
 
-public final class PRLock extends AbstractPythonLock {
+public final class PRLock extends SpinningPythonLock {
     private static class InternalReentrantLock extends ReentrantLock {
         private static final long serialVersionUID = 2531000884985514112L;
 
-        @TruffleBoundary
-        long getOwnerId() {
-            Thread owner = getOwner();
-            if (owner != null) {
-                return PThread.getThreadId(owner);
-            }
-            return 0;
+        @Override
+        public Thread getOwner() {
+            return super.getOwner();
         }
     }
 
@@ -84,10 +80,6 @@ public final class PRLock extends AbstractPythonLock {
         return lock.getHoldCount();
     }
 
-    public long getOwnerId() {
-        return lock.getOwnerId();
-    }
-
     @TruffleBoundary
     public void releaseAll() {
         while (lock.getHoldCount() > 0) {
@@ -96,28 +88,28 @@ public final class PRLock extends AbstractPythonLock {
     }
 
     @Override
-    @TruffleBoundary
-    protected boolean acquireNonBlocking() {
+    protected boolean tryAcquire() {
         return lock.tryLock();
     }
 
     @Override
-    @TruffleBoundary
-    protected boolean acquireBlocking(Node node) {
+    protected boolean park(Node node, long timeoutMillis) {
         boolean[] b = new boolean[1];
-        TruffleSafepoint.setBlockedThreadInterruptible(node, (l) -> {
-            l.lockInterruptibly();
-            b[0] = true;
-        }, lock);
+        if (timeoutMillis < 0) {
+            TruffleSafepoint.setBlockedThreadInterruptible(node, (l) -> {
+                l.lockInterruptibly();
+                b[0] = true;
+            }, lock);
+        } else {
+            TruffleSafepoint.setBlockedThreadInterruptible(node, (l) -> b[0] = l.tryLock(timeoutMillis, TimeUnit.MILLISECONDS), lock);
+        }
         return b[0];
     }
 
     @Override
     @TruffleBoundary
-    protected boolean acquireTimeout(Node node, long timeout) {
-        boolean[] b = new boolean[1];
-        TruffleSafepoint.setBlockedThreadInterruptible(node, (l) -> b[0] = l.tryLock(timeout, TimeUnit.MILLISECONDS), lock);
-        return b[0];
+    protected Thread getOwnerThread() {
+        return lock.getOwner();
     }
 
     @Override
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2024, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -46,6 +46,7 @@ import static com.oracle.graal.python.util.PythonUtils.TS_ENCODING;
 import java.util.ArrayList;
 import java.util.List;
 
+import com.oracle.graal.python.PythonLanguage;
 import com.oracle.graal.python.builtins.objects.common.HashingStorage;
 import com.oracle.graal.python.builtins.objects.common.HashingStorageNodes.HashingStorageGetItem;
 import com.oracle.graal.python.builtins.objects.common.HashingStorageNodes.HashingStorageGetIterator;
@@ -58,6 +59,10 @@ import com.oracle.graal.python.builtins.objects.object.PythonBuiltinObject;
 import com.oracle.graal.python.builtins.objects.type.SpecialMethodSlot;
 import com.oracle.graal.python.builtins.objects.type.TpSlots.GetObjectSlotsNode;
 import com.oracle.graal.python.nodes.PGuards;
+import com.oracle.graal.python.runtime.AsyncHandler;
+import com.oracle.graal.python.runtime.AsyncHandler.SharedFinalizer.FinalizableReference;
+import com.oracle.graal.python.runtime.PythonContext;
+import com.oracle.graal.python.runtime.PythonContext.PythonThreadState;
 import com.oracle.graal.python.util.PythonUtils;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.dsl.Bind;
@@ -72,28 +77,45 @@ import com.oracle.truffle.api.nodes.Node;
 import com.oracle.truffle.api.object.Shape;
 import com.oracle.truffle.api.strings.TruffleString;
 
+/**
+ * A {@code threading.local} object. The per-thread dictionaries are not stored in the object
+ * itself, but in a slot of each thread's {@link PythonThreadState}, so that finding the dictionary
+ * of the current thread is just an array read and can be compiled. The slot is allocated by the
+ * context and released once the object is collected.
+ */
 @ExportLibrary(InteropLibrary.class)
 @ImportStatic(SpecialMethodSlot.class)
 public final class PThreadLocal extends PythonBuiltinObject {
-    private final ThreadLocal<PDict> threadLocalDict;
+    private final int slot;
     private final Object[] args;
     private final PKeyword[] keywords;
 
-    public PThreadLocal(Object cls, Shape instanceShape, Object[] args, PKeyword[] keywords) {
+    @SuppressWarnings("this-escape")
+    public PThreadLocal(Object cls, Shape instanceShape, Object[] args, PKeyword[] keywords, PythonContext context) {
         super(cls, instanceShape);
-        threadLocalDict = new ThreadLocal<>();
+        this.slot = allocateSlot(this, context);
         this.args = args;
         this.keywords = keywords;
     }
 
     @TruffleBoundary
-    public PDict getThreadLocalDict() {
-        return threadLocalDict.get();
+    private static int allocateSlot(PThreadLocal local, PythonContext context) {
+        int slot = context.allocateThreadLocalSlot();
+        new SlotReference(local, slot, context);
+        return slot;
+    }
+
+    public PDict getThreadLocalDict(PythonThreadState threadState) {
+        return threadState.getThreadLocalDict(slot);
+    }
+
+    public void setThreadLocalDict(PythonThreadState threadState, PDict dict) {
+        threadState.setThreadLocalDict(slot, dict);
     }
 
     @TruffleBoundary
-    public void setThreadLocalDict(PDict dict) {
-        threadLocalDict.set(dict);
+    private PDict getThreadLocalDict() {
+        return getThreadLocalDict(PythonContext.get(null).getThreadState(PythonLanguage.get(null)));
     }
 
     public Object[] getArgs() {
@@ -194,4 +216,22 @@ public final class PThreadLocal extends PythonBuiltinObject {
         Object attr = readMember(inliningTarget, member, getItem, fromJavaStringNode);
         return attr != null && getSlotsNode.execute(inliningTarget, attr).tp_descr_set() != null;
     }
+
+    /**
+     * Releases the slot of a collected thread local object. The dictionaries in the slot are
+     * cleared in an async action, which runs with the GIL, so no thread can be using the slot at
+     * that time and the slot can be reused right away.
+     */
+    private static final class SlotReference extends FinalizableReference {
+        SlotReference(PThreadLocal referent, int slot, PythonContext context) {
+            super(referent, slot, context.getSharedFinalizer());
+        }
+
+        @Override
+        public AsyncHandler.AsyncAction release() {
+            markReleased();
+            int releasedSlot = (int) getReference();
+            return context -> context.releaseThreadLocalSlot(releasedSlot);
+        }
+    }
 }
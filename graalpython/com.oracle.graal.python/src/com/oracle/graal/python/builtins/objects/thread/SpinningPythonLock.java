@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.thread;
+
+import java.util.concurrent.TimeUnit;
+
+import com.oracle.graal.python.runtime.PythonContext;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.object.Shape;
+
+/**
+ * Base class of the {@code _thread} locks that spin briefly before parking a contended acquire.
+ * The owner of a Python lock needs the GIL to release it, so a waiter only spins while the owner
+ * holds the GIL and parks right away otherwise, e.g. if the owner is blocked in I/O or is itself
+ * waiting for the GIL. The number of spins adapts to how often spinning succeeded for this lock.
+ * Spinning counts against the timeout of an acquire, and an acquire with a zero timeout does not
+ * spin at all.
+ */
+public abstract class SpinningPythonLock extends AbstractPythonLock {
+    /*
+     * Bounds of the adaptive spin limit, i.e., the number of times a contended acquire retries
+     * before parking. The limit doubles when spinning succeeds and halves when it does not.
+     */
+    private static final int MIN_SPINS = 16;
+    private static final int MAX_SPINS = 4096;
+
+    // only a heuristic, so racy updates are fine
+    private int spinLimit = MIN_SPINS * 4;
+    private LockStatistics statistics;
+
+    protected SpinningPythonLock(Object cls, Shape instanceShape) {
+        super(cls, instanceShape);
+    }
+
+    public final void enableStatistics() {
+        statistics = new LockStatistics();
+    }
+
+    /**
+     * Returns the contention statistics of this lock, or {@code null} if they are not recorded.
+     */
+    public final LockStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Returns the id of the thread holding the lock, or {@code 0} if it is not locked.
+     */
+    @TruffleBoundary
+    public final long getOwnerId() {
+        Thread owner = getOwnerThread();
+        return owner != null ? PThread.getThreadId(owner) : 0;
+    }
+
+    /**
+     * Tries to acquire the lock once without waiting. Does not record statistics.
+     */
+    protected abstract boolean tryAcquire();
+
+    /**
+     * Blocks until the lock is acquired or the timeout expires. A negative timeout waits forever.
+     */
+    protected abstract boolean park(Node node, long timeoutMillis);
+
+    protected abstract Thread getOwnerThread();
+
+    @Override
+    @TruffleBoundary
+    public final boolean acquireNonBlocking() {
+        if (tryAcquire()) {
+            LockStatistics s = statistics;
+            if (s != null) {
+                s.recordUncontended();
+            }
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    @TruffleBoundary
+    public final boolean acquireBlocking(Node node) {
+        return acquireContended(node, -1);
+    }
+
+    @Override
+    @TruffleBoundary
+    public final boolean acquireTimeout(Node node, long timeout) {
+        return acquireContended(node, timeout);
+    }
+
+    private boolean acquireContended(Node node, long timeoutMillis) {
+        if (acquireNonBlocking()) {
+            return true;
+        }
+        LockStatistics s = statistics;
+        boolean timed = timeoutMillis >= 0;
+        long start = s != null || timed ? System.nanoTime() : 0;
+        boolean spun = timeoutMillis != 0 && spin(PythonContext.get(node), timed, start + TimeUnit.MILLISECONDS.toNanos(Math.max(timeoutMillis, 0)));
+        boolean acquired = spun;
+        if (!acquired) {
+            long remainingMillis = timeoutMillis;
+            if (timed) {
+                remainingMillis = Math.max(0, timeoutMillis - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            }
+            acquired = park(node, remainingMillis);
+        }
+        if (s != null) {
+            s.recordContended(start, acquired, spun);
+        }
+        return acquired;
+    }
+
+    /**
+     * Spins until the lock is acquired, the spin limit is reached, or, if {@code timed}, the
+     * {@link System#nanoTime()} {@code deadline} has passed.
+     */
+    private boolean spin(PythonContext context, boolean timed, long deadline) {
+        int limit = spinLimit;
+        for (int i = 0; i < limit; i++) {
+            if (timed && System.nanoTime() - deadline >= 0) {
+                // ran out of time, not a failure of spinning, don't adapt the limit
+                return false;
+            }
+            Thread owner = getOwnerThread();
+            if (owner != null && !context.isGilHeldBy(owner)) {
+                // the owner cannot release the lock any time soon, don't adapt the limit
+                return false;
+            }
+            if (tryAcquire()) {
+                spinLimit = Math.min(MAX_SPINS, limit * 2);
+                return true;
+            }
+            Thread.onSpinWait();
+        }
+        spinLimit = Math.max(MIN_SPINS, limit / 2);
+        return false;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2024, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -40,17 +40,20 @@
  */
 package com.oracle.graal.python.builtins.objects.thread;
 
+import com.oracle.graal.python.builtins.objects.common.DynamicObjectStorage;
 import com.oracle.graal.python.builtins.objects.dict.PDict;
 import com.oracle.graal.python.lib.PyObjectLookupAttr;
 import com.oracle.graal.python.nodes.PNodeWithContext;
 import com.oracle.graal.python.nodes.SpecialMethodNames;
 import com.oracle.graal.python.nodes.call.CallNode;
+import com.oracle.graal.python.runtime.PythonContext.PythonThreadState;
 import com.oracle.graal.python.runtime.object.PythonObjectFactory;
 import com.oracle.truffle.api.dsl.Bind;
 import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.profiles.InlinedConditionProfile;
 
 public abstract class ThreadLocalNodes {
 
@@ -61,13 +64,19 @@ public abstract class ThreadLocalNodes {
         @Specialization
         PDict get(VirtualFrame frame, PThreadLocal self,
                         @Bind("this") Node inliningTarget,
+                        @Cached InlinedConditionProfile firstAccessProfile,
                         @Cached PythonObjectFactory factory,
                         @Cached PyObjectLookupAttr lookup,
                         @Cached CallNode callNode) {
-            PDict dict = self.getThreadLocalDict();
-            if (dict == null) {
-                dict = factory.createDict();
-                self.setThreadLocalDict(dict);
+            PythonThreadState threadState = getContext().getThreadState(getLanguage());
+            PDict dict = self.getThreadLocalDict(threadState);
+            if (firstAccessProfile.profile(inliningTarget, dict == null)) {
+                /*
+                 * The dictionary is backed by a dynamic object, so that reads and writes of the
+                 * attributes are cached on the shape, which is shared by all threads.
+                 */
+                dict = factory.createDict(new DynamicObjectStorage(getLanguage()));
+                self.setThreadLocalDict(threadState, dict);
                 Object initMethod = lookup.execute(frame, inliningTarget, self, SpecialMethodNames.T___INIT__);
                 callNode.execute(frame, initMethod, self.getArgs(), self.getKeywords());
             }
@@ -199,6 +199,7 @@ public abstract class MethodsFlags {
     public static final long ASYNC_GENERATOR_M_FLAGS = AM_AITER | AM_ANEXT | AM_SEND;
     public static final long ASYNC_GENERATOR_ASEND_M_FLAGS = AM_AWAIT;
     public static final long ASYNC_GENERATOR_ATHROW_M_FLAGS = AM_AWAIT;
+    public static final long FUTURE_M_FLAGS = AM_AWAIT;
 
     // _ctypes
     public static final long PYCFUNCPTRTYPE_M_FLAGS = SQ_REPEAT | TYPE_M_FLAGS;
@@ -0,0 +1,8885 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.unicodedata;
+
+/**
+ * This file has been automatically generated using scripts/generate_unicodedata_tables.py. Do not edit!
+ * Generated using: CPython 3.11.2, Unicode 14.0.0
+ *
+ * The tables of the unicodedata module, see {@link UnicodeDataTables}. Large tables are encoded
+ * in strings, {@code long} values as four and {@code int} values as two chars.
+ */
+final class UnicodeDataDB {
+
+    private UnicodeDataDB() {
+    }
+
+    static final String UNIDATA_VERSION = "14.0.0";
+
+    static final int SHIFT = 7;
+
+    static final String[] CATEGORY_NAMES = {"Cn", "Lu", "Ll", "Lt", "Mn", "Mc", "Me", "Nd", "Nl", "No", "Zs", "Zl", "Zp", "Cc", "Cf", "Cs", "Co", "Cn", "Lm", "Lo", "Pc", "Pd", "Ps", "Pe", "Pi", "Pf", "Po", "Sm", "Sc", "Sk", "So"};
+    static final String[] BIDIRECTIONAL_NAMES = {"", "L", "LRE", "LRO", "R", "AL", "RLE", "RLO", "PDF", "EN", "ES", "ET", "AN", "CS", "NSM", "BN", "B", "S", "WS", "ON", "LRI", "RLI", "FSI", "PDI"};
+    static final String[] EAST_ASIAN_WIDTH_NAMES = {"F", "H", "W", "Na", "A", "N"};
+    static final String[] DECOMPOSITION_PREFIXES = {"", "<compat>", "<circle>", "<final>", "<font>", "<fraction>", "<initial>", "<isolated>", "<medial>", "<narrow>", "<noBreak>", "<small>", "<square>", "<sub>", "<super>", "<vertical>", "<wide>"};
+
+    static final String[] INDEX1 = {
+                    "\u0000\u0001\u0002\u0003\u0004\u0005\u0006\u0007\u0008\u0009\n\u000b\u000c\r\u000e\u000f" +
+                    "\u0010\u0011\u0012\u0013\u0014\u0015\u0016\u0017\u0018\u0019\u001a\u001b\u001c\u001d\u001e\u001f" +
+                    " !\"#$%&'()))*+,-" +
+                    "./0123456789:;<=" +
+                    ">?@ABCDEFGHIJKLM" +
+                    "NNOPQRSTUVWXYZ[\\" +
+                    "]^_`abcdefgggggg" +
+                    "hgggggiggggggggg" +
+                    "gggggggggggggggg" +
+                    "gggggggggggjklmg" +
+                    "ggngggopgggggqgg" +
+                    "grggggggggggstug" +
+                    "gggggvwggggggggx" +
+                    "ggggggggggggggyg" +
+                    "gggggggzgggg{ggg" +
+                    "gggggggggggggggg" +
+                    "g|gggggg}ggggggg" +
+                    "ggggggggg~\u007fggggg" +
+                    "gggggggggggg\u0080\u0081gg" +
+                    "gggggggggggggggg" +
+                    "\u0082gggggggg\u0083))\u0084\u0085\u0086\u0087" +
+                    "\u0088\u0089\u008a\u008b\u008c\u008d\u008e\u008f\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090" +
+                    "\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090" +
+                    "\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090" +
+                    "\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090" +
+                    "\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090" +
+                    "\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0091" +
+                    "\u0092\u0092\u0092\u0092\u0092\u0092\u0092\u0092\u0092\u0092\u0092\u0092\u0092\u0092\u0092\u0092" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0094\u0095\u0096\u0097\u0098\u0099\u009a\u009a\u009b\u009c\u009d\u009e\u009f\u00a0" +
+                    "\u00a1\u00a2\u00a3\u00a4\u00a5\u00a6\u00a7\u00a8\u00a9\u00aa\u00ab\u00ac))\u00ad\u00ae" +
+                    "\u00af\u00b0\u00b1\u00b2\u00b3\u00b4\u00b5\u00b6\u00b7\u00b8\u00b9\u00a5\u00ba\u00bb\u00bc\u00bd" +
+                    "\u00be\u00bf\u00c0\u00c1\u00c2\u00c3\u00c4\u00a5\u00c5\u00c6\u00a5\u00c7\u00c8\u00c9\u00ca\u00a5" +
+                    "\u00cb\u00cc\u00cd\u00ce\u00cf\u00d0\u00a5\u00a5\u00d1\u00d2\u00d3\u00d4\u00a5\u00d5\u00a5\u00d6" +
+                    ")))))))\u00d7\u00d8)\u00d9\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00da" +
+                    "))))))))\u00db\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5))))\u00dc\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "))))\u00dd\u00de\u00df\u00e0\u00a5\u00a5\u00a5\u00a5\u00e1\u00e2\u00e3\u00e4" +
+                    "gggggggggggggggg" +
+                    "gggggggggggggggg" +
+                    "ggggggggggggggg\u00e5" +
+                    "ggggggggg\u00e6\u00e7\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00e8" +
+                    "gg\u00e9gg\u00ea\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00eb\u00ec\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00ed\u00ee" +
+                    "N\u00ef\u00f0\u00f1\u00f2\u00f3\u00f4\u00a5\u00f5\u00f6\u00f7\u00f8\u00f9\u00fa\u00fb\u00fc" +
+                    "NNNN\u00fd\u00fe\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00ff\u00a5" +
+                    "\u0100\u00a5\u0101\u00a5\u00a5\u0102\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u0103" +
+                    "\u0104\u0105\u0106\u00a5\u00a5\u00a5\u00a5\u00a5\u0107\u0108\u0109\u00a5\u010a\u010b\u00a5\u00a5" +
+                    "\u010c\u010d\u010e\u010f\u0110\u00a5\u0111\u0112\u0113\u0114\u0115\u0116\u0117\u0118\u0119\u011a" +
+                    "\u011b\u011c\u011d\u011e\u011f\u0120\u0121\u0122\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u0123\u0124\u0125ggggggggggggg" +
+                    "gg\u0126\u0127g\u0128\u0129ggggggggg" +
+                    "gggggggggggggggg" +
+                    "gggggggggggggggg" +
+                    "ggggggg\u012agggggggg" +
+                    "ggg\u012bgggggggggggg" +
+                    "gggggggggggggggg" +
+                    "gggggg\u012cggggggggg" +
+                    "gggggggggggggggg" +
+                    "gggggggggggggggg" +
+                    "gggggggggggggggg" +
+                    "gggggggggggggggg" +
+                    "gggg\u012dggggggggggg" +
+                    "gggggggggggggggg" +
+                    "gggggggggggggggg" +
+                    "gggggggggggggggg" +
+                    "gggggggggggggggg" +
+                    "gggggggggggggggg" +
+                    "gggggggggggggggg" +
+                    "gggggggggggggggg" +
+                    "ggggggggggggg\u012egg" +
+                    "gggggggggggggggg" +
+                    "gggggggggggggg\u012fg" +
+                    "\u0130ggggggggggggggg" +
+                    "gggggggggggggggg" +
+                    "ggggggggggggg\u0131gg" +
+                    "gggggggggggggggg" +
+                    "gggggggggggggggg" +
+                    "gggggggggggggggg" +
+                    "ggggggg\u0132\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u0133\u0134\u0133\u0133\u0135\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "gggggggggggggggg" +
+                    "gggggggggggggggg" +
+                    "gggggg\u0136\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u0137\u00a5\u0138\u0139\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u013a" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u013a"
+    };
+
+    static final String[] INDEX1_3_2_0 = {
+                    "\u013b\u013c\u0002\u0003\u013d\u013e\u013f\u0140\u0008\u0141\u0142\u0143\u0144\u0145\u0146\u0147" +
+                    "\u00a5\u00a5\u0148\u0149\u014a\u014b\u014c\u014d\u014e\u014f\u0150\u0151\u001c\u0152\u0153\u0154" +
+                    "\u0155\u0156\u0157\u0158\u0159\u015a\u015b\u015c\u015d)))\u015e\u015f\u0160\u0161" +
+                    "\u0162\u0163\u0164\u0165\u00a5\u0166\u0167\u0168\u0169\u00a5\u016a\u016b:\u016c<=" +
+                    "\u016d\u016e\u016f\u0170\u0171C\u0172\u0173\u0174\u0175H\u0176\u0177\u0178\u0179\u017a" +
+                    "\u0121\u0121O\u017bQR\u00a5\u00a5\u017c\u00a5\u017d\u00a5\u00a5Z[\\" +
+                    "\u017e\u017f\u0180\u0181\u0182\u0183\u0184\u0185efgggggg" +
+                    "hgggggiggggggggg" +
+                    "gggggggggggggggg" +
+                    "ggggggggggg\u0186klmg" +
+                    "ggngggopgggggqgg" +
+                    "grggggggggggstug" +
+                    "gggggvwggggggggx" +
+                    "ggggggggggggggyg" +
+                    "gggggggzgggg{ggg" +
+                    "gggggggggggggggg" +
+                    "g|gggggg}ggggggg" +
+                    "ggggggggg~\u007fggggg" +
+                    "gggggggggggg\u0080\u0081gg" +
+                    "ggggggggggggggg\u0187" +
+                    "ggggggggg\u0188\u00a5\u00a5\u0189\u018a\u018b\u018c" +
+                    "\u00a5\u018d\u018e\u018f\u018d\u00a5\u0190\u0191\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090" +
+                    "\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090" +
+                    "\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090" +
+                    "\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090" +
+                    "\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090" +
+                    "\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0090\u0192" +
+                    "\u0092\u0092\u0092\u0092\u0092\u0092\u0092\u0092\u0092\u0092\u0092\u0092\u0092\u0092\u0092\u0092" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0094\u0095\u0193\u0194\u0195\u0196\u009a\u009a\u0197\u0198\u0199\u009e\u019a\u019b" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u019c\u00a5\u019d\u0189\u00a5\u00a5\u00a5\u00a5\u00a5\u019e" +
+                    "\u00a5\u00a5\u00a5\u00a5\u019f\u00a5\u00a5\u00a5\u00a5\u00a5\u0168\u00a5\u01a0\u00a5\u00a5\u00a5" +
+                    "\u01a1\u01a2\u01a3\u018d\u00a5\u0191\u01a4\u00a5\u018d\u01a5\u00a5\u01a6\u018d\u01a7\u0168\u00a5" +
+                    "\u00a5\u01a8\u01a9\u00a5\u00a5\u00a5\u00a5\u00a5\u018d\u00a5\u018d\u0189\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u01a8\u01a7\u018d\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "N\u00ef\u01aa\u01ab\u00a5\u00a5\u00a5\u00a5\u00f5\u01ac\u00f7\u00f8\u00f9\u01ad\u01ae\u01af" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u01a7\u00a5\u00a5\u0191\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u018d\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u01b0\u01b1\u00a5\u00a5" +
+                    "\u00a5\u00a5\u01b2\u01b3\u01b4\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u01b5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u0123\u0124\u0125ggggggggggggg" +
+                    "gg\u0126\u0127g\u0128\u0129ggggggggg" +
+                    "gggggggggggggggg" +
+                    "gggggggggggggggg" +
+                    "ggggggg\u012agggggggg" +
+                    "ggg\u012bgggggggggggg" +
+                    "gggggggggggggggg" +
+                    "gggggg\u012cggggggggg" +
+                    "gggggggggggggggg" +
+                    "gggggggggggggggg" +
+                    "gggggggggggggggg" +
+                    "gggggggggggggggg" +
+                    "gggg\u012dggggggggggg" +
+                    "gggggggggggggggg" +
+                    "gggggggggggggggg" +
+                    "gggggggggggggggg" +
+                    "gggggggggggggggg" +
+                    "gggggggggggggggg" +
+                    "gggggggggggggggg" +
+                    "gggggggggggggggg" +
+                    "ggggggggggggg\u01b6\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u0133\u0134\u0133\u0133\u0135\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u0137\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5\u00a5" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u013a" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093" +
+                    "\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u0093\u013a"
+    };
+
+    static final String[] INDEX2 = {
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0001\u0002\u0001\u0003\u0002\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0002\u0002\u0002\u0001" +
+                    "\u0004\u0005\u0005\u0006\u0007\u0006\u0005\u0005\u0008\u0009\u0005\n\u000c\r\u000c\u000c" +
+                    "\u0010\u0011\u0012\u0013\u0014\u0015\u0016\u0017\u0018\u0019\u000c\u0005\u001a\u001b\u001a\u0005" +
+                    "\u0005\u001c\u001c\u001c\u001c\u001c\u001c\u001c\u001c\u001c\u001c\u001c\u001c\u001c\u001c\u001c" +
+                    "\u001c\u001c\u001c\u001c\u001c\u001c\u001c\u001c\u001c\u001c\u001c\u0008\u0005\u0009\u001d\u001e" +
+                    "\u001d\u001f\u001f\u001f\u001f\u001f\u001f\u001f\u001f\u001f\u001f\u001f\u001f\u001f\u001f\u001f" +
+                    "\u001f\u001f\u001f\u001f\u001f\u001f\u001f\u001f\u001f\u001f\u001f\u0008\u001b\u0009\u001b\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0002\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    " !\u0007\u0007\"\u0007#!%&')\u001b*$," +
+                    "-./1%3!!%4'6789!" +
+                    "::::::;:::::::::" +
+                    ";::::::<;:::::;=" +
+                    ">>????=?>>>?>>??" +
+                    "=?>>???<=>>?>?=?" +
+                    ":>:?:?:?:?:?:?:?" +
+                    "@=:>:?:?:?:>:?:?" +
+                    ":?:?:?;=:?:>:?:?" +
+                    ":=A(:?:?=:?:?:?A" +
+                    "(;=:>:?:>(;=:>:?" +
+                    ":?;=:?:?:?:?:?:?" +
+                    ":?:?:?;=:?:>:?:?" +
+                    ":?:?:?:?::?:?:?3" +
+                    "B@@B@B@@B@@@BB@@" +
+                    "@@B@@B@@@BBB@@B@" +
+                    ":?@B@B@@B@BB@B@:" +
+                    "?@@@B@B@@BBC@BBB" +
+                    "CCCCDE3DE3DE3:>:" +
+                    ">:>:>:>:>:>:>B:?" +
+                    ":?:?@B:?:?:?:?:?" +
+                    "?DE3:?@@:?:?:?:?" +
+                    ":?:?:?:?:?:?:?:?" +
+                    ":?:?:?:?:?:?@B:?" +
+                    "@B@B@B:?:?:?:?:?" +
+                    ":?:?BBBBBB@@B@@B" +
+                    "B@B@@@@B@B@B@B@B" +
+                    "B=BBBBBBBBBBBBBB" +
+                    "B=BBBBBBBBBBBBBB" +
+                    "BBBBBBBBBBBBBBBB" +
+                    "BBBBBBBBBBBBBBBB" +
+                    "BBBBCBBBBBBBBBBB" +
+                    "BBBBBBBBBBBBBBBB" +
+                    "GGGGGGGGGHHJJJJJ" +
+                    "JJIIKIHLHLLLHLHH" +
+                    "MJIIIIII%%%%N%IK" +
+                    "GGGGGIIIIIIIHIJI" +
+                    "IIIIIIIIIIIIIIII" +
+                    "OOOOOPOOOOOOOPPO" +
+                    "POPOOQRRRRQSRRRR" +
+                    "RTTUUUUVVRRRRUUR" +
+                    "UURRWWWWXRRRRPPP" +
+                    "YYOYYZPRRRPPPRR[" +
+                    "PPPRRRRPQRRP\\]]\\" +
+                    "]]\\PPPPPPPPPPPPP" +
+                    "@B@B^I@BFFGBBB`@" +
+                    "FFFFNa:`:::F:F::" +
+                    "?;;;;;;;;;;;;;;;" +
+                    ";;F;;;;;;;::????" +
+                    "?===============" +
+                    "==B=======?????@" +
+                    "33Dbb33B@B@B@B@B" +
+                    "@B@B@B@B@B@B@B@B" +
+                    "333BD3c@BD@BB@@@" +
+                    ":e@:@@@:@@@@:::@" +
+                    ";;;;;;;;;e;;;;;;" +
+                    ";;;;;;;;;;;;;;;;" +
+                    "=========>======" +
+                    "================" +
+                    "?>B?BBB?BBBB???B" +
+                    "@B@B@B@B@B@B@B@B" +
+                    "@B@B@B:?@B@B@B@B" +
+                    "@Bfggggghh@B@B@B" +
+                    "@B@B@B@B@B@B@B@B" +
+                    "@B@B@B@B@B@B@B@B" +
+                    "@B@B@B@B@B@B@B@B" +
+                    "@:?@B@B@B@B@B@BB" +
+                    ":?:?@B:?@B:?:?:?" +
+                    "@B:?:?:?@B:?:?:?" +
+                    ":?:?:?@B:?@B@B@B" +
+                    "@B@B@B@B@B@B@B@B" +
+                    "@B@B@B@B@B@B@B@B" +
+                    "@B@B@B@B@B@B@B@B" +
+                    "F@@@@@@@@@@@@@@@" +
+                    "@@@@@@@@@@@@@@@@" +
+                    "@@@@@@@FFJiiiiii" +
+                    "BBBBBBBBBBBBBBBB" +
+                    "BBBBBBBBBBBBBBBB" +
+                    "BBBBBBB3BijFF&&k" +
+                    "Flgggglgggmlgggg" +
+                    "ggllllllgglggmng" +
+                    "opqrstuvwxxyz{|~" +
+                    "}\u007f\u0080}gl}wFFFFFFFF" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081FFFF\u0081" +
+                    "\u0081\u0081\u0081}}FFFFFFFFFFF" +
+                    "\u0082\u0082\u0082\u0082\u0082\u0082cc\u0083\u0084\u0084\u0085\u0086\u0087&&" +
+                    "gggggggg\u0088\u0089\u008a\u0087\u008b\u0087\u0087\u0087" +
+                    "\u008c\u008c\u008d\u008d\u008d\u008d\u008d\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c" +
+                    "\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c" +
+                    "\u008e\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008f\u0090\u0091\u0088\u0089" +
+                    "\u008a\u0092\u0093\u0094\u0094\u0095lggggglggl" +
+                    "\u0096\u0097\u0098\u0099\u009a\u009b\u009c\u009d\u009e\u009f\u0084\u00a0\u00a0\u0087\u008c\u008c" +
+                    "\u00a1\u008c\u008c\u008c\u008c\u00a2\u00a2\u00a2\u00a2\u008c\u008c\u008c\u008c\u008c\u008c\u008c" +
+                    "\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c" +
+                    "\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c" +
+                    "\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c" +
+                    "\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c" +
+                    "\u008d\u008c\u008d\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c" +
+                    "\u008c\u008c\u008c\u008d\u0087\u008cggggggg\u0082&g" +
+                    "ggglg\u008e\u008egg&lggl\u008c\u008c" +
+                    "\u00a3\u00a4\u00a5\u00a6\u00a7\u00a8\u00a9\u00aa\u00ab\u00ac\u008c\u008c\u008c\u00ad\u00ad\u008c" +
+                    "\u0087\u0087\u0087\u0087\u0087\u0087\u0087\u0087\u0087\u0087\u0087\u0087\u0087\u0087F\u008b" +
+                    "\u008c\u00af\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c" +
+                    "\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c" +
+                    "glgglgglllgllglg" +
+                    "gglglglglggFF\u008c\u008c\u008c" +
+                    "\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c" +
+                    "\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c" +
+                    "\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c" +
+                    "\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c" +
+                    "\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c" +
+                    "\u008c\u008c\u008c\u008c\u008c\u008c\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0" +
+                    "\u00b0\u008cFFFFFFFFFFFFFF" +
+                    "\u00b1\u00b3\u00b5\u00b7\u00b9\u00bb\u00bd\u00bf\u00c1\u00c3\u0081\u0081\u0081\u0081\u0081\u0081" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081ggggg" +
+                    "gglg\u00c5\u00c5&\u00c6\u00c6\u00c6\u00c5FFl\u00c7\u00c7" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081gggg\u00c5ggggg" +
+                    "gggg\u00c5ggg\u00c5gggggFF" +
+                    "}}}}}}}}}}}}}}}F" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081lllFF}F" +
+                    "\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008cFFFFF" +
+                    "\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c" +
+                    "\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u00c8\u008c\u008c\u008c\u008c\u008c\u008cF" +
+                    "\u0082\u0082FFFFFFglllgggg" +
+                    "\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c" +
+                    "\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c" +
+                    "\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008egggggl" +
+                    "llllgggggggggggg" +
+                    "gg\u0082lgglgglggglll" +
+                    "\u008f\u0090\u0091ggglggllggggg" +
+                    "\u00b0\u00b0\u00b0\u00c9CCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCC\u00caCCCCCC" +
+                    "C\u00caCC\u00caCCCCC\u00b0\u00c9\u00cbC\u00c9\u00c9" +
+                    "\u00c9\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00c9\u00c9\u00c9\u00c9\u00cc\u00c9\u00c9" +
+                    "Cglgg\u00b0\u00b0\u00b0\u00cd\u00cd\u00cd\u00cd\u00cd\u00cd\u00cd\u00cd" +
+                    "CC\u00b0\u00b0ii\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7" +
+                    "iJCCCCCCCCCCCCCC" +
+                    "C\u00b0\u00c9\u00c9FCCCCCCCCFFC" +
+                    "CFFCCCCCCCCCCCCC" +
+                    "CCCCCCCCCFCCCCCC" +
+                    "CFCFFFCCCCFF\u00d8C\u00d9\u00c9" +
+                    "\u00c9\u00b0\u00b0\u00b0\u00b0FF\u00c9\u00c9FF\u00da\u00da\u00ccCF" +
+                    "FFFFFFF\u00d9FFFF\u00cd\u00cdF\u00cd" +
+                    "CC\u00b0\u00b0FF\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7" +
+                    "CCkk\u00db\u00dc\u00dd\u00de\u00df\u00e0fkCigF" +
+                    "F\u00b0\u00b0\u00c9FCCCCCCFFFFC" +
+                    "CFFCCCCCCCCCCCCC" +
+                    "CCCCCCCCCFCCCCCC" +
+                    "CFC\u00cdFC\u00cdFCCFF\u00d8F\u00c9\u00c9" +
+                    "\u00c9\u00b0\u00b0FFFF\u00b0\u00b0FF\u00b0\u00b0\u00ccFF" +
+                    "F\u00b0FFFFFFF\u00cd\u00cd\u00cdCF\u00cdF" +
+                    "FFFFFF\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7" +
+                    "\u00b0\u00b0CCC\u00b0iFFFFFFFFF" +
+                    "F\u00b0\u00b0\u00c9FCCCCCCCCCFC" +
+                    "CCFCCCCCCCCCCCCC" +
+                    "CCCCCCCCCFCCCCCC" +
+                    "CFCCFCCCCCFF\u00d8C\u00c9\u00c9" +
+                    "\u00c9\u00b0\u00b0\u00b0\u00b0\u00b0F\u00b0\u00b0\u00c9F\u00c9\u00c9\u00ccFF" +
+                    "CFFFFFFFFFFFFFFF" +
+                    "CC\u00b0\u00b0FF\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7" +
+                    "ikFFFFFFFC\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0" +
+                    "F\u00b0\u00c9\u00c9FCCCCCCCCFFC" +
+                    "CFFCCCCCCCCCCCCC" +
+                    "CCCCCCCCCFCCCCCC" +
+                    "CFCCFCCCCCFF\u00d8C\u00d9\u00b0" +
+                    "\u00c9\u00b0\u00b0\u00b0\u00b0FF\u00c9\u00daFF\u00da\u00da\u00ccFF" +
+                    "FFFFF\u00b0\u00e1\u00d9FFFF\u00cd\u00cdFC" +
+                    "CC\u00b0\u00b0FF\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7" +
+                    "fC\u00de\u00e2\u00df\u00db\u00dc\u00ddFFFFFFFF" +
+                    "FF\u00b0CFCCCCCCFFFCC" +
+                    "CFCC\u00caCFFFCCFCFCC" +
+                    "FFFCCFFFCCCFFFCC" +
+                    "CCCCCCCCCCFFFF\u00d9\u00c9" +
+                    "\u00b0\u00c9\u00c9FFF\u00c9\u00c9\u00c9F\u00da\u00da\u00da\u00ccFF" +
+                    "CFFFFFF\u00d9FFFFFFFF" +
+                    "FFFFFF\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7" +
+                    "\u00e3\u00e4\u00e5&&&&&&k&FFFFF" +
+                    "\u00b0\u00c9\u00c9\u00c9\u00b0CCCCCCCCFCC" +
+                    "CFCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCFCCCCCC" +
+                    "CCCCCCCCCCFF\u00d8C\u00b0\u00b0" +
+                    "\u00b0\u00c9\u00c9\u00c9\u00c9F\u00b0\u00b0\u00e6F\u00b0\u00b0\u00b0\u00ccFF" +
+                    "FFFFF\u00e7\u00e8FCCCFFCFF" +
+                    "CC\u00b0\u00b0FF\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7" +
+                    "FFFFFFFi\u00e9\u00ea\u00eb\u00ec\u00ea\u00eb\u00ecf" +
+                    "C\u00b0\u00c9\u00c9iCCCCCCCCFCC" +
+                    "CFCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCFCCCCCC" +
+                    "CCCCFCCCCCFF\u00d8C\u00c9\u00ed" +
+                    "\u00da\u00c9\u00d9\u00c9\u00c9F\u00ed\u00da\u00daF\u00da\u00da\u00b0\u00ccFF" +
+                    "FFFFF\u00d9\u00d9FFFFFFCCF" +
+                    "CC\u00b0\u00b0FF\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7" +
+                    "FCCFFFFFFFFFFFFF" +
+                    "\u00b0\u00b0\u00c9\u00c9CCCCCCCCCFCC" +
+                    "CFCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCC\u00cc\u00ccC\u00d9\u00c9" +
+                    "\u00c9\u00b0\u00b0\u00b0\u00b0F\u00c9\u00c9\u00c9F\u00da\u00da\u00da\u00ccCf" +
+                    "FFFFCCC\u00d9\u00ee\u00ef\u00f0\u00f1\u00f2\u00f3\u00f4C" +
+                    "CC\u00b0\u00b0FF\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7" +
+                    "\u00e3\u00e4\u00e5\u00de\u00e2\u00df\u00db\u00dc\u00ddfCCCCCC" +
+                    "F\u00b0\u00c9\u00c9FCCCCCCCCCCC" +
+                    "CCCCCCCFFFCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCFCCCCCCCCCFCFF" +
+                    "CCCCCCCFFF\u00f5FFFF\u00d9" +
+                    "\u00c9\u00c9\u00b0\u00b0\u00b0F\u00b0F\u00c9\u00c9\u00da\u00c9\u00da\u00da\u00da\u00d9" +
+                    "FFFFFF\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7" +
+                    "FF\u00c9\u00c9iFFFFFFFFFFF" +
+                    "FCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "C\u00b0C\u00f6\u00b0\u00b0\u00b0\u00b0\u00f7\u00f7\u00ccFFFFk" +
+                    "CCCCCCJ\u00b0\u00f8\u00f8\u00f8\u00f8\u00b0\u00b0\u00b0i" +
+                    "\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7iiFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FCCFCFCCCCCFCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCFCFCCCCCCCCC" +
+                    "C\u00b0C\u00f6\u00b0\u00b0\u00b0\u00b0\u00f9\u00f9\u00cc\u00b0\u00b0CFF" +
+                    "CCCCCFJF\u00fa\u00fa\u00fa\u00fa\u00b0\u00b0FF" +
+                    "\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7FF\u00f6\u00f6CC" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "Cfffiiiiiiii\u00fbiii" +
+                    "iiififffllffffff" +
+                    "\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7\u00e2\u00fc\u00fd\u00fe\u00ff\u0100" +
+                    "\u0101\u0102\u0103\u0104flflf\u0105\u0106\u0108\u0106\u0108\u00c9\u00c9" +
+                    "CCC\u00cdCCCCFCCCC\u00cdCC" +
+                    "CC\u00cdCCCC\u00cdCCCC\u00cdCCC" +
+                    "CCCCCCCCC\u00cdCCCFFF" +
+                    "F\u010a\u010b\u010c\u010d\u010c\u010c\u010e\u010c\u010e\u010b\u010b\u010b\u010b\u00b0\u00c9" +
+                    "\u010b\u010cgg\u00cciggCCCCC\u00b0\u00b0\u00b0" +
+                    "\u00b0\u00b0\u00b0\u010c\u00b0\u00b0\u00b0\u00b0F\u00b0\u00b0\u00b0\u00b0\u010c\u00b0\u00b0" +
+                    "\u00b0\u00b0\u010c\u00b0\u00b0\u00b0\u00b0\u010c\u00b0\u00b0\u00b0\u00b0\u010c\u00b0\u00b0\u00b0" +
+                    "\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u010c\u00b0\u00b0\u00b0Fff" +
+                    "fffffflffffffFff" +
+                    "iiiiiffffiiFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCC\u00caCCCC\u00c9\u00c9\u00b0\u00e1\u00b0" +
+                    "\u00b0\u00c9\u00b0\u00b0\u00b0\u00b0\u00b0\u00d8\u00c9\u00cc\u00cc\u00c9\u00c9\u00b0\u00b0C" +
+                    "\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7iiiiii" +
+                    "CCCCCC\u00c9\u00c9\u00b0\u00b0CCCC\u00b0\u00b0" +
+                    "\u00b0C\u00c9\u00c9\u00c9CC\u00c9\u00c9\u00c9\u00c9\u00c9\u00c9\u00c9CC" +
+                    "C\u00b0\u00b0\u00b0\u00b0CCCCCCCCCCC" +
+                    "CC\u00b0\u00c9\u00c9\u00b0\u00b0\u00c9\u00c9\u00c9\u00c9\u00c9\u00c9lC\u00c9" +
+                    "\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7\u00c9\u00c9\u00c9\u00b0ff" +
+                    "@@@@@@@@@@@@@@@@" +
+                    "@@@@@@@@@@@@@@@@" +
+                    "@@@@@@F@FFFFF@FF" +
+                    "BBBBBBBBBBBBBBBB" +
+                    "BBBBBBBBBBBBBBBB" +
+                    "BBBBBBBBBBBiGBBB" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "C\u0110\u0110\u0110\u0110\u0110\u0110\u0110\u0110\u0110\u0110\u0110\u0110\u0110\u0110\u0110" +
+                    "\u0110\u0110\u0110\u0110\u0110\u0110CCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCC\u0110\u0110\u0110\u0110\u0110\u0110\u0110\u0110" +
+                    "\u0110\u0110\u0110\u0110\u0110\u0110\u0110\u0110\u0110\u0110\u0110\u0110\u0110\u0110\u0110\u0110" +
+                    "\u0110\u0110\u0110CCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCFCCCCFF" +
+                    "CCCCCCCFCFCCCCFF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCFCCCCFF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CFCCCCFFCCCCCCCF" +
+                    "CFCCCCFFCCCCCCCC" +
+                    "CCCCCCCFCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CFCCCCFFCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCFFggg" +
+                    "iiiiiiiii\u0111\u0112\u0113\u0114\u0115\u0116\u0117" +
+                    "\u0118\u0119\u00e3\u011a\u011b\u011c\u011d\u011e\u011f\u0120\u0121\u00e4\u0122FFF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "&&&&&&&&&&FFFFFF" +
+                    "@@@@@@@@@@@@@@@@" +
+                    "@@@@@@@@@@@@@@@@" +
+                    "@@@@@@@@@@@@@@@@" +
+                    "@@@@@@@@@@@@@@@@" +
+                    "@@@@@@@@@@@@@@@@" +
+                    "@@@@@@FFBBBBBBFF" +
+                    "jCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCfiC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "\u0123CCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCC\u0106\u0108FFF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCiii\u0124\u0125" +
+                    "\u0126CCCCCCCCFFFFFFF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CC\u00b0\u00b0\u00cc\u0127FFFFFFFFFC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CC\u00b0\u00b0\u0127iiFFFFFFFFF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CC\u00b0\u00b0FFFFFFFFFFFF" +
+                    "CCCCCCCCCCCCCFCC" +
+                    "CF\u00b0\u00b0FFFFFFFFFFFF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCC\u00b0\u00b0\u00c9\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00c9\u00c9" +
+                    "\u00c9\u00c9\u00c9\u00c9\u00c9\u00c9\u00b0\u00c9\u00c9\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0" +
+                    "\u00b0\u00b0\u00cc\u00b0iiiJiiikCgFF" +
+                    "\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7FFFFFF" +
+                    "\u00e9\u00ea\u00eb\u00ec\u0128\u0129\u012a\u012b\u012c\u012dFFFFFF" +
+                    "\u00c6\u00c6\u00c6\u00c6\u00c6\u00c6j\u00c6\u00c6\u00c6\u00c6\u00b0\u00b0\u00b0\u00ae\u00b0" +
+                    "\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7FFFFFF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCJCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCFFFFFFF" +
+                    "CCCCC\u00b0\u00b0CCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCnCFFFFF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCFFFFFFFFFF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCF" +
+                    "\u00b0\u00b0\u00b0\u00c9\u00c9\u00c9\u00c9\u00b0\u00b0\u00c9\u00c9\u00c9FFFF" +
+                    "\u00c9\u00c9\u00b0\u00c9\u00c9\u00c9\u00c9\u00c9\u00c9mglFFFF" +
+                    "&FFF\u00c6\u00c6\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCFF" +
+                    "CCCCCFFFFFFFFFFF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCFFFF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCFFFFFF" +
+                    "\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7\u0111FFF&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCgl\u00c9\u00c9\u00b0FFii" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCC\u00c9\u00b0\u00c9\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0F" +
+                    "\u00cc\u00c9\u00b0\u00c9\u00c9\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00c9\u00c9\u00c9" +
+                    "\u00c9\u00c9\u00c9\u00b0\u00b0ggggggggFFl" +
+                    "\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7FFFFFF" +
+                    "\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7FFFFFF" +
+                    "iiiiiiiJiiiiiiFF" +
+                    "gggggllllllgglhl" +
+                    "lggllggggglggggF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "\u00b0\u00b0\u00b0\u00b0\u00c9C\u00caC\u00caC\u00caC\u00caC\u00caC" +
+                    "CC\u00caCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCC\u00d8\u00d9\u00b0\u00b0\u00b0\u00b0\u00b0\u00da\u00b0\u00da\u00c9\u00c9" +
+                    "\u00da\u00da\u00b0\u00da\u0127CCCCCCCCFFF" +
+                    "\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7iiiiii" +
+                    "iffffffffffglggg" +
+                    "ggggfffffffffiiF" +
+                    "\u00b0\u00b0\u00c9CCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "C\u00c9\u00b0\u00b0\u00b0\u00b0\u00c9\u00c9\u00b0\u00b0\u0127\u00cc\u00b0\u00b0CC" +
+                    "\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7CCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCC\u00d8\u00c9\u00b0\u00b0\u00c9\u00c9\u00c9\u00b0\u00c9\u00b0" +
+                    "\u00b0\u00b0\u0127\u0127FFFFFFFFiiii" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCC\u00c9\u00c9\u00c9\u00c9\u00c9\u00c9\u00c9\u00c9\u00b0\u00b0\u00b0\u00b0" +
+                    "\u00b0\u00b0\u00b0\u00b0\u00c9\u00c9\u00b0\u00d8FFFiiiii" +
+                    "\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7FFFCCC" +
+                    "\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7CCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCJJJJJJii" +
+                    "BBBBBBBBBFFFFFFF" +
+                    "@@@@@@@@@@@@@@@@" +
+                    "@@@@@@@@@@@@@@@@" +
+                    "@@@@@@@@@@@FF@@@" +
+                    "iiiiiiiiFFFFFFFF" +
+                    "gggi\u0130lllllggllll" +
+                    "g\u00c9\u0130\u0130\u0130\u0130\u0130\u0130\u0130CCCClCC" +
+                    "CCCCgCC\u00c9ggCFFFFF" +
+                    "BBBBBBBBBBBBBBBB" +
+                    "BBBBBBBBBBBBBBBB" +
+                    "BBBBBBBBBBBBGGGJ" +
+                    "GGGGGGGGGGGJGGGG" +
+                    "GGGGGGGGGGGGGGJG" +
+                    "GGGGGGGGGGGGGGGG" +
+                    "GGGGGGGGGGGBBBBB" +
+                    "BBBBBBBBGBBBBBBB" +
+                    "BBBBBBBBBBBBBBBB" +
+                    "BBBBBBBBBBBGGGGG" +
+                    "GGGGGGGGGGGGGGGG" +
+                    "GGGGGGGGGGGGGGGG" +
+                    "gglggggggglgg\u0131\u0132l" +
+                    "\u0133ggggggggggggggg" +
+                    "gggggggggggggggg" +
+                    "gggggg\u0134nnl\u0135g\u0136lgl" +
+                    ":?:?:?:?:?:?:?:?" +
+                    ":?:?:?:?:?:?:?:?" +
+                    ":?:?:?:?:?:?:?:?" +
+                    ":?:?:?:?:?:?:?:?" +
+                    ":?:?:?:?:?:?:?:?" +
+                    ":?:?:?:?:?:?:?:?" +
+                    ":?:?:?:?:?:?:?:?" +
+                    ":?:?:?:?:?:?:?:?" +
+                    ":?:?:?:?:?:?:?:?" +
+                    ":?:?:?????3\u0137BB@B" +
+                    ":?:?:?:?:?:?:?:?" +
+                    ":?:?:?:?:?:?:?:?" +
+                    ":?:?:?:?:?:?:?:?" +
+                    ":?:?:?:?:?:?:?:?" +
+                    ":?:?:?:?:?:?:?:?" +
+                    ":?:?:?:?:?@B@B@B" +
+                    "????????::::::::" +
+                    "??????FF::::::FF" +
+                    "????????::::::::" +
+                    "????????::::::::" +
+                    "??????FF::::::FF" +
+                    "????????F:F:F:F:" +
+                    "????????::::::::" +
+                    "?\u0138?\u0138?\u0138?\u0138?\u0138?\u0138?\u0138FF" +
+                    "????????\u0139\u0139\u0139\u0139\u0139\u0139\u0139\u0139" +
+                    "????????\u0139\u0139\u0139\u0139\u0139\u0139\u0139\u0139" +
+                    "????????\u0139\u0139\u0139\u0139\u0139\u0139\u0139\u0139" +
+                    "?????F??:::\u013a\u0139N\u0138N" +
+                    "Na???F??:\u013a:\u013a\u0139aaa" +
+                    "???\u0138FF??:::\u013aFaaa" +
+                    "???\u0138????:::\u013a:a__" +
+                    "FF???F??:\u013a:\u013a\u0139_NF" +
+                    "\u013b\u013b\u013c\u013c\u013c\u013c\u013c\u013c\u013c\u013c\u013c\u00ae\u00ae\u00ae\u013e\u013f" +
+                    "+\u0140j+++!\u0141\u0142\u0143\u0107\u0144\u0142\u0143\u0107\u0144" +
+                    "!!!\u00c6\u0145\u0145\u0145!\u0146\u0147\u0148\u0149\u014a\u014b\u014c " +
+                    "\u014d\u0084\u014d\u014e\u014f!\u0141\u0141\u00c6)6!\u0141\u00c6\u0145\u0150" +
+                    "\u0150\u00c6\u00c6\u00c6\u0151\u0106\u0108\u0141\u0141\u0141\u00c6\u00c6\u00c6\u00c6\u00c6\u00c6" +
+                    "\u00c6\u00c6c\u00c6\u0150\u00c6\u00c6\u0141\u00c6\u00c6\u00c6\u00c6\u00c6\u00c6\u00c6\u013c" +
+                    "\u00ae\u00ae\u00ae\u00ae\u00aeF\u0152\u0153\u0154\u0155\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae" +
+                    "\u0156GFF\u0158\u015a\u015c\u015e\u0160\u0162\u0164\u0164\u0166\u0167\u0168\u0169" +
+                    "\u01564/1\u0158\u015a\u015c\u015e\u0160\u0162\u0164\u0164\u0166\u0167\u0168F" +
+                    "GGGGGGGGGGGGGFFF" +
+                    "kkkkkkkk\u016a\u016bkk\"kkk" +
+                    "kkkkkkkkkkkkkkkk" +
+                    "kFFFFFFFFFFFFFFF" +
+                    "gg\u0130\u0130gggg\u0130\u0130\u0130gghhh" +
+                    "hghhh\u0130\u0130glg\u0130\u0130llll" +
+                    "gFFFFFFFFFFFFFFF" +
+                    "\u016c\u016cD\u016d&\u016d\u016cD&\u016d3DDD33" +
+                    "DDD(&D\u016d&cDDDDD&&" +
+                    "\u016c\u016d\u016d&D&\u016e&D&\u013a\u016eDD\u016f3" +
+                    "DD@D3\u00f6\u00f6\u00f6\u00f63&\u016c33DD" +
+                    "\u0170ccccD3333&c&&Bf" +
+                    "\u0171\u0172\u0173\u0174\u0175\u0176\u0177\u0178\u0179\u017a\u017b\u017c\u017d\u017e\u017f\u0180" +
+                    "\u0181\u0182\u0183\u0184\u0185\u0186\u0187\u0188\u0189\u018a\u018b\u018c\u018d\u018e\u018f\u0190" +
+                    "\u0181\u0182\u0183\u0184\u0185\u0186\u0187\u0188\u0189\u018a\u0191\u0192\u018d\u018e\u018f\u0190" +
+                    "\u0193\u0194\u0195@B\u0197\u0198\u0199\u019a\u019b&&FFFF" +
+                    "<<<<<$$$$$\u019c\u019c&&&&" +
+                    "c&&c&&c&&&&&&&\u019c&" +
+                    "&&&&&&&&$$&&&&&&" +
+                    "&&&&&&&&&&&&&\u019d\u019c\u019c" +
+                    "&&<&<&&&&&&&&&&&" +
+                    "&&&&&&&$&&&&&&&&" +
+                    "&&&&cccccccccccc" +
+                    "<\u019e\u019f\u019f\u01a0cc<\u019f\u01a0\u019e\u019f\u01a0\u019ec<" +
+                    "c\u019f\u01a1\u01a2c\u019f\u019eccc\u019f\u019e\u019e\u019f<\u019f" +
+                    "\u019f\u019e\u019e<\u01a0<\u01a0<<<<\u019f\u01a3\u0170\u019f\u0170" +
+                    "\u0170\u019e\u019e\u019e<<<<c\u019ec\u019e\u019f\u019f\u019e\u019e" +
+                    "\u019e\u01a0\u019e\u019e\u01a0\u019e\u019e\u01a0\u019f\u01a0\u019e\u019e\u019fccc" +
+                    "cc\u019f\u019e\u019e\u019eccccccccc\u019e" +
+                    "\u01a4<\u01a0c\u019f\u019f\u019f\u019f\u019e\u019e\u019f\u019fc\u019c\u01a4\u01a4" +
+                    "\u01a0\u01a0\u019e\u019e\u01a0\u01a0\u019e\u019e\u01a0\u01a0\u019e\u019e\u019e\u019e\u019e\u019e" +
+                    "\u01a0\u01a0\u019f\u019f\u01a0\u01a0\u019f\u019f\u01a0\u01a0\u019e\u019e\u019ecc\u019e" +
+                    "\u019e\u019e\u019ecc<cc\u019e<cccccc" +
+                    "cc\u019e\u019ec<\u019e\u019e\u019e\u019e\u019e\u019e\u01a0\u01a0\u01a0\u01a0" +
+                    "\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019eccccc\u019e\u019f" +
+                    "ccccccccc\u019e\u019e\u019e\u019e\u019ecc" +
+                    "\u019e\u019ecccc\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e" +
+                    "\u01a0\u01a0\u01a0\u01a0\u019e\u019e\u019e\u019e\u019e\u019e\u01a0\u01a0\u01a0\u01a0cc" +
+                    "\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e" +
+                    "&&&&&&&&\u0106\u0108\u0106\u0108&&&&" +
+                    "&&$&&&&&&&\u01a5\u01a5&&&&" +
+                    "\u019e\u019e&&&&&&&\u01a6\u01a7&&&&&" +
+                    "&&&&&&ffffffffff" +
+                    "ffffffffffffffff" +
+                    "ffffffffffffffff" +
+                    "ffffffffffffffff" +
+                    "fffffffffff&c&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&f&&&&&ccccc" +
+                    "cccccccccccccccc" +
+                    "cccc&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&cccc" +
+                    "cc&&&&&&&\u01a5\u01a5\u01a5\u01a5&&&" +
+                    "\u01a5&&\u01a5&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&FFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "&&&&&&&&&&&FFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "\u01a8\u01a9\u01aa\u01ab\u01ac\u01ae\u01b0\u01b2\u01b4\u01b6\u01b8\u01ba\u01bc\u01be\u01c0\u01c2" +
+                    "\u01c4\u01c6\u01c8\u01ca\u01a8\u01a9\u01aa\u01ab\u01ac\u01ae\u01b0\u01b2\u01b4\u01b6\u01b8\u01ba" +
+                    "\u01bc\u01be\u01c0\u01c2\u01c4\u01c6\u01c8\u01ca4/1\u0158\u01ad\u01af\u01b1\u01b3" +
+                    "\u01b5\u01b7\u01b9\u01bb\u01bd\u01bf\u01c1\u01c3\u01c5\u01c7\u01c9\u01cb\u01cc\u01cc\u01cc\u01cc" +
+                    "\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc" +
+                    "\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc" +
+                    "\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc" +
+                    "\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc" +
+                    "\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cd\u01ce\u01cf\u01d0\u01d1\u01d2" +
+                    "\u01d3\u01d4\u01d5\u01d6\u01d7\u01d8\u01d9\u01da\u01db\u01dc\u01dd\u01de\u01df\u01e0\u01e1\u01e2" +
+                    "$$$$$$$$$$$$$$$$" +
+                    "$$$$$$$$$$$$$$$$" +
+                    "$$$$$$$$$$$$$$$$" +
+                    "$$$$$$$$$$$$$$$$" +
+                    "$$$$$$$$$$$$&&&&" +
+                    "$$$$$$$$$$$$$$$$" +
+                    "$$$$$$$$$$$$$$$$" +
+                    "$$$$&&&&&&&&&&&&" +
+                    "$$$$$$$$$$$$$$$$" +
+                    "&&$$$$&&&&&&&&&&" +
+                    "$$&$$$$$$$&&&&&&" +
+                    "&&$$&&$<&&&&$$&&" +
+                    "$<&&&&$$$&&$&&$$" +
+                    "$$&&&&&&&&&&&&&&" +
+                    "&&$$$$&&&&&&&&&$" +
+                    "&&&&&&&&ccccc\u01e3\u01e3c" +
+                    "&&&&&$$&&$&&&&$$" +
+                    "&&&&\u01a5\u01a5&&&&&&$&$&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "$&$&&&&&\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5&&&&&&&&&&&&" +
+                    "$$&$$$&$$$$&$$&<" +
+                    "&&&&&&&&&&&&&&&\u01a5" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&\u01a5&&&&&&&&&&$$" +
+                    "&\u01a5&&&&&&&&\u01a5\u01a5f&&&" +
+                    "&&&&&&&&&&&&&\u01a5\u01a5$" +
+                    "&&&&\u01a5\u01a5$$$$$$$$\u01a5$" +
+                    "$$$$\u01a5$$$$$$$$$$$" +
+                    "$$&$&&&&$$\u01a5$$$$$" +
+                    "$$\u01a5\u01a5$\u01a5$$$$\u01a5$$\u01a5$$" +
+                    "&&&&&\u01a5&&&&\u01a5\u01a5&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&\u01a5&&&&&&&" +
+                    "&&&&&&&&&&&&&$&&" +
+                    "&&&&&&&&&&&&\u01a5&\u01a5&" +
+                    "&&&\u01a5\u01a5\u01a5&\u01a5&&&&&&&&" +
+                    "&&&&&&&&\u0106\u0108\u0106\u0108\u0106\u0108\u0106\u0108" +
+                    "\u0106\u0108\u0106\u0108\u0106\u0108\u01d8\u01d9\u01da\u01db\u01dc\u01dd\u01de\u01df\u01e0\u01e1" +
+                    "\u01e4\u01e5\u01e6\u01e7\u01e8\u01e9\u01ea\u01eb\u01ec\u01ed\u01e4\u01e5\u01e6\u01e7\u01e8\u01e9" +
+                    "\u01ea\u01eb\u01ec\u01ed&\u01a5\u01a5\u01a5&&&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "\u01a5&&&&&&&&&&&&&&\u01a5" +
+                    "\u019ecc\u019e\u019e\u0106\u0108c\u019e\u019ec\u019e\u019e\u019ecc" +
+                    "ccc\u019e\u019e\u019e\u019eccccc\u019e\u019e\u019ec" +
+                    "cc\u019e\u019e\u019e\u019e\u0008\u0009\u0008\u0009\u0008\u0009\u0008\u0009\u0106\u0108" +
+                    "cccccccccccccccc" +
+                    "ffffffffffffffff" +
+                    "ffffffffffffffff" +
+                    "ffffffffffffffff" +
+                    "ffffffffffffffff" +
+                    "ffffffffffffffff" +
+                    "ffffffffffffffff" +
+                    "ffffffffffffffff" +
+                    "ffffffffffffffff" +
+                    "cccccccccccccccc" +
+                    "cccccccccccccccc" +
+                    "cccccccccccccccc" +
+                    "cccccccccccccccc" +
+                    "cccccccccccccccc" +
+                    "cccccccccccccccc" +
+                    "cccccccccccccccc" +
+                    "cccccccccccccccc" +
+                    "ccc\u0106\u0108\u0008\u0009\u0106\u0108\u0106\u0108\u0106\u0108\u0106\u0108\u0106" +
+                    "\u0108\u0106\u0108\u0106\u0108\u0106\u0108\u0106\u0108cc\u019e\u019e\u019e\u019e\u019e" +
+                    "\u019ec\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e" +
+                    "cccccccc\u019eccccccc" +
+                    "\u019e\u019e\u019e\u019e\u019e\u019eccc\u019ecccc\u019e\u019e" +
+                    "\u019e\u019e\u019ec\u019e\u019ecc\u0106\u0108\u0106\u0108\u019eccc" +
+                    "c\u019ec\u019e\u019e\u019ecc\u019e\u019ecccccc" +
+                    "cccc\u019e\u019e\u019e\u019e\u019e\u019ecc\u0106\u0108cc" +
+                    "cccccccccc\u019e\u019e\u0170\u019e\u019e\u019e" +
+                    "\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019ec\u019e\u019e" +
+                    "\u019e\u019ecc\u019ec\u019ecc\u019ec\u019e\u019e\u019e\u019ec" +
+                    "cccc\u019e\u019ecccccc\u019e\u019e\u019ec" +
+                    "cccccccccccccccc" +
+                    "ccccccc\u019e\u019eccccccc" +
+                    "cccc\u019e\u019ecccc\u019e\u019e\u019e\u019ec\u019e" +
+                    "\u019ecc\u019e\u0170\u0166\u0166cc\u019e\u019e\u019e\u019e\u019e\u019e\u019e" +
+                    "\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e" +
+                    "\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e" +
+                    "\u019e\u019e\u019e\u019ecc\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019ec\u019e" +
+                    "\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e" +
+                    "\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e" +
+                    "\u019e\u019e\u019e\u019e\u019e\u019e\u019eccccc\u01eec\u019ec" +
+                    "cc\u019e\u019e\u019e\u019e\u019eccccc\u019e\u019e\u019ec" +
+                    "ccc\u019eccc\u019e\u019e\u019e\u019e\u019ec\u019ecc" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&\u01a5\u01a5&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "cccccccccccccccc" +
+                    "ccccc&&cccccc&&&" +
+                    "\u01a5&&&&\u01a5$$$$&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&FF&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&F&&&&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&&\u01ef&" +
+                    "@@@@@@@@@@@@@@@@" +
+                    "@@@@@@@@@@@@@@@@" +
+                    "@@@@@@@@@@@@@@@@" +
+                    "BBBBBBBBBBBBBBBB" +
+                    "BBBBBBBBBBBBBBBB" +
+                    "BBBBBBBBBBBBBBBB" +
+                    "@B@@@BB@B@B@B@@@" +
+                    "@B@BB@BBBBBBGG@@" +
+                    "@B@B@B@B@B@B@B@B" +
+                    "@B@B@B@B@B@B@B@B" +
+                    "@B@B@B@B@B@B@B@B" +
+                    "@B@B@B@B@B@B@B@B" +
+                    "@B@B@B@B@B@B@B@B" +
+                    "@B@B@B@B@B@B@B@B" +
+                    "@B@BB&&&&&&@B@Bg" +
+                    "gg@BFFFFF\u00c6\u00c6\u00c6\u00c6\u01f0\u00c6\u00c6" +
+                    "BBBBBBBBBBBBBBBB" +
+                    "BBBBBBBBBBBBBBBB" +
+                    "BBBBBBFBFFFFFBFF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCFFFFFFFG" +
+                    "iFFFFFFFFFFFFFF\u00cc" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCFFFFFFFFF" +
+                    "CCCCCCCFCCCCCCCF" +
+                    "CCCCCCCFCCCCCCCF" +
+                    "CCCCCCCFCCCCCCCF" +
+                    "CCCCCCCFCCCCCCCF" +
+                    "gggggggggggggggg" +
+                    "gggggggggggggggg" +
+                    "\u00c6\u00c6)6)6\u00c6\u00c6\u00c6)6\u00c6)6\u00c6\u00c6" +
+                    "\u00c6\u00c6\u00c6\u00c6\u00c6\u00c6\u00c6j\u00c6\u00c6j\u00c6)6\u00c6\u00c6" +
+                    ")6\u0106\u0108\u0106\u0108\u0106\u0108\u0106\u0108\u00c6\u00c6\u00c6\u00c6\u00c6H" +
+                    "\u00c6\u00c6\u00c6\u00c6\u00c6\u00c6\u00c6\u00c6\u00c6\u00c6jj\u00c6\u00c6\u00c6\u00c6" +
+                    "j\u00c6\u0107\u00c6\u00c6\u00c6\u00c6\u00c6\u00c6\u00c6\u00c6\u00c6\u00c6\u00c6\u00c6\u00c6" +
+                    "&&\u00c6\u00c6\u00c6\u0106\u0108\u0106\u0108\u0106\u0108\u0106\u0108jFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5F\u01a5\u01a5\u01a5\u01a5\u01f1" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01f1FFFFFFFFFFFF" +
+                    "\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1" +
+                    "\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1" +
+                    "\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1" +
+                    "\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1" +
+                    "\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1" +
+                    "\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1" +
+                    "\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1" +
+                    "\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1" +
+                    "\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1" +
+                    "\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1" +
+                    "\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1" +
+                    "\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1" +
+                    "\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1" +
+                    "\u01f1\u01f1\u01f1\u01f1\u01f1\u01f1FFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5FFFF" +
+                    "\u01f2\u01f3\u01f3\u01f3\u01a5\u01f4\u010f\u01f5\u01f6\u01f7\u01f6\u01f7\u01f6\u01f7\u01f6\u01f7" +
+                    "\u01f6\u01f7\u01a5\u01a5\u01f6\u01f7\u01f6\u01f7\u01f6\u01f7\u01f6\u01f7\u01f8\u01f9\u01fa\u01fa" +
+                    "\u01a5\u01fb\u01fc\u01fd\u01fe\u01ff\u0200\u0201\u0202\u0203\u0204\u0205\u0206\u0207\u0208\u0208" +
+                    "\u01f8\u01f4\u01f4\u01f4\u01f4\u01f4\u01f1\u01a5\u020a\u020b\u020c\u01f4\u010f\u01f3\u01a5&" +
+                    "F\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u020d\u010f\u020d\u010f" +
+                    "\u020d\u010f\u020d\u010f\u020d\u010f\u020d\u010f\u020d\u010f\u020d\u010f\u020d\u010f\u020d\u010f" +
+                    "\u020d\u010f\u020d\u010f\u010f\u020d\u010f\u020d\u010f\u020d\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u020d\u020d\u010f\u020d\u020d\u010f\u020d\u020d\u010f\u020d\u020d\u010f\u020d\u020d\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u020d\u010f\u010fFF\u020e\u020e\u020f\u020f\u01f4\u0210\u0211" +
+                    "\u01f8\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u020d\u010f\u020d\u010f" +
+                    "\u020d\u010f\u020d\u010f\u020d\u010f\u020d\u010f\u020d\u010f\u020d\u010f\u020d\u010f\u020d\u010f" +
+                    "\u020d\u010f\u020d\u010f\u010f\u020d\u010f\u020d\u010f\u020d\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u020d\u020d\u010f\u020d\u020d\u010f\u020d\u020d\u010f\u020d\u020d\u010f\u020d\u020d\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u020d\u010f\u010f\u020d\u020d\u020d\u020d\u01f3\u01f4\u01f4\u0210\u0211" +
+                    "FFFFF\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "F\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211" +
+                    "\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211" +
+                    "\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211" +
+                    "\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211" +
+                    "\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211" +
+                    "\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211F" +
+                    "\u0213\u0213\u0214\u0215\u0216\u0217\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5FFFFFFFFFFFF" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218" +
+                    "\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u01f1\u01f1F" +
+                    "\u0214\u0215\u0216\u0217\u0219\u021a\u021b\u021c\u021d\u021e\u0218\u0218\u0218\u0218\u0218\u0218" +
+                    "\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218" +
+                    "\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u021f\u0220\u0221\u0222\u0223\u0224\u0225\u0226" +
+                    "\u01f1\u0227\u0228\u0229\u022a\u022b\u022c\u022d\u022e\u022f\u0230\u0231\u0232\u0233\u0234\u0235" +
+                    "\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218" +
+                    "\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u01f1\u01f1\u01f1\u0213" +
+                    "\u0214\u0215\u0216\u0217\u0219\u021a\u021b\u021c\u021d\u021e\u0218\u0218\u0218\u0218\u0218\u0218" +
+                    "\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218" +
+                    "\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218" +
+                    "\u0218\u0236\u0237\u0238\u0239\u023a\u023b\u023c\u023d\u023e\u023f\u0240\u0241\u0242\u0243\u0244" +
+                    "\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u01f1\u01f1\u01f1\u01f1" +
+                    "\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218" +
+                    "\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218" +
+                    "\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218" +
+                    "\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218" +
+                    "\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218" +
+                    "\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218" +
+                    "\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218" +
+                    "\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218" +
+                    "\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218" +
+                    "\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218" +
+                    "\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u01f1\u01f1\u01f1\u01f1\u0218\u0218\u0218\u0218\u0218" +
+                    "\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218" +
+                    "\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218" +
+                    "\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218" +
+                    "\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218" +
+                    "\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218" +
+                    "\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u01f1\u01f1" +
+                    "\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218" +
+                    "\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u01f1" +
+                    "\u010f\u010f\u010f\u010f\u010f\u0245\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u0246\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u0245\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u0247\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "\u0248\u010f\u010f\u0247\u010f\u010f\u010f\u0249\u010f\u024a\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u024b\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u0246\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u0245\u010f\u024c\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u024d" +
+                    "\u024e\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u024f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u024a\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u0245\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u0250\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u024d\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u0251\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u0246\u010f\u0252\u010f\u0253\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u024e\u010f\u024f\u0254\u0255\u010f\u010f\u010f\u010f\u010f\u010f\u0256\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u024a\u024a\u024a\u024a\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u024c\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u0248\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u0248\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u0248\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u024b\u0254" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u0248\u0246\u024a\u010f" +
+                    "\u0246\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u024e\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u0252\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u0247\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u0247\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u024b\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u0250\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u024c\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u0249\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u0246\u010f" +
+                    "\u010f\u010f\u010f\u0246\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u0246\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u024f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u0253\u010f\u010f\u010f\u010f\u010f\u0250\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u0253\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u0257\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u01f4\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010fFFF" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5FFFFFFFFF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCJJJJJJii" +
+                    "CCCCCCCCCCCCJ\u00c6\u00c6\u00c6" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7CCFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "@B@B@B@B@B@B@B@B" +
+                    "@B@B@B@B@B@B@B@B" +
+                    "@B@B@B@B@B@B@BCg" +
+                    "hhh\u00c6gggggggggg\u00c6H" +
+                    "@B@B@B@B@B@B@B@B" +
+                    "@B@B@B@B@B@BGGgg" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCC\u0258\u0259\u025a\u025b\u025c\u0197\u025d\u025e\u025f\u0260" +
+                    "ggiiiiiiFFFFFFFF" +
+                    "IIIIIIIIIIIIIIII" +
+                    "IIIIIIIHHHHHHHHH" +
+                    "II@B@B@B@B@B@B@B" +
+                    "BB@B@B@B@B@B@B@B" +
+                    "@B@B@B@B@B@B@B@B" +
+                    "@B@B@B@B@B@B@B@B" +
+                    "@B@B@B@B@B@B@B@B" +
+                    "GBBBBBBBB@B@B@@B" +
+                    "@B@B@B@BH\u0261\u0261@B@BC" +
+                    "@B@BBB@B@B@B@B@B" +
+                    "@B@B@B@B@B@@@@@B" +
+                    "@@@@@B@B@B@B@B@B" +
+                    "@B@B@@@@B@BFFFFF" +
+                    "@BFBFB@B@BFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFGGG@BCGGBCCCCC" +
+                    "CC\u00b0CCC\u00ccCCCC\u00b0CCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCC\u00c9\u00c9\u00b0\u00b0\u00c9&&&&\u00ccFFF" +
+                    "\u00de\u00e2\u00df\u00db\u00dc\u00ddffk\u016fFFFFFF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCC\u00c6\u00c6\u00c6\u00c6FFFFFFFF" +
+                    "\u00c9\u00c9CCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCC\u00c9\u00c9\u00c9\u00c9\u00c9\u00c9\u00c9\u00c9\u00c9\u00c9\u00c9\u00c9" +
+                    "\u00c9\u00c9\u00c9\u00c9\u00cc\u00b0FFFFFFFFii" +
+                    "\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7FFFFFF" +
+                    "gggggggggggggggg" +
+                    "ggCCCCCCiiiCiCC\u00b0" +
+                    "\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7CCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCC\u00b0\u00b0\u00b0\u00b0\u00b0lllii" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCC\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0" +
+                    "\u00b0\u00b0\u00c9\u0127FFFFFFFFFFFi" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010fFFF" +
+                    "\u00b0\u00b0\u00b0\u00c9CCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCC\u00d8\u00c9\u00c9\u00b0\u00b0\u00b0\u00b0\u00c9\u00c9\u00b0\u00b0\u00c9\u00c9" +
+                    "\u0127iiiiiiiiiiiiiFJ" +
+                    "\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7FFFFii" +
+                    "CCCCC\u00b0JCCCCCCCCC" +
+                    "\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7CCCCCF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCC\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00c9" +
+                    "\u00c9\u00b0\u00b0\u00c9\u00c9\u00b0\u00b0FFFFFFFFF" +
+                    "CCC\u00b0CCCCCCCC\u00b0\u00c9FF" +
+                    "\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7FFiiii" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "JCCCCCCfffC\u00c9\u00b0\u00c9CC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "gCgglCCggCCCCCgg" +
+                    "CgCFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFCCJii" +
+                    "CCCCCCCCCCC\u00c9\u00b0\u00b0\u00c9\u00c9" +
+                    "iiCJJ\u00c9\u00ccFFFFFFFFF" +
+                    "FCCCCCCFFCCCCCCF" +
+                    "FCCCCCCFFFFFFFFF" +
+                    "CCCCCCCFCCCCCCCF" +
+                    "BBBBBBBBBBBBBBBB" +
+                    "BBBBBBBBBBBBBBBB" +
+                    "BBBBBBBBBBB\u0261GGGG" +
+                    "BBBBBBBBBGIIFFFF" +
+                    "BBBBBBBBBBBBBBBB" +
+                    "BBBBBBBBBBBBBBBB" +
+                    "BBBBBBBBBBBBBBBB" +
+                    "BBBBBBBBBBBBBBBB" +
+                    "BBBBBBBBBBBBBBBB" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCC\u00c9\u00c9\u00b0\u00c9\u00c9\u00b0\u00c9\u00c9i\u00c9\u00ccFF" +
+                    "\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7FFFFFF" +
+                    "\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d" +
+                    "\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d" +
+                    "\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d" +
+                    "\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d" +
+                    "\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d" +
+                    "\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d" +
+                    "\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d" +
+                    "\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d" +
+                    "\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d" +
+                    "\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d" +
+                    "\u020d\u020d\u020d\u020dFFFFFFFFFFFF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCFFFFCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCFFFF" +
+                    "\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262" +
+                    "\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262" +
+                    "\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262" +
+                    "\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262" +
+                    "\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262" +
+                    "\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262" +
+                    "\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262" +
+                    "\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262\u0262" +
+                    "\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263" +
+                    "\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263" +
+                    "\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263" +
+                    "\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263" +
+                    "\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263" +
+                    "\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263" +
+                    "\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263" +
+                    "\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263" +
+                    "\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264" +
+                    "\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264" +
+                    "\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264" +
+                    "\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264" +
+                    "\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264" +
+                    "\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264" +
+                    "\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0265\u0264\u0264\u0264\u0264" +
+                    "\u0264\u0264\u0264\u0266\u0264\u0264\u0264\u0264\u0267\u0264\u0264\u0264\u0264\u0264\u0264\u0264" +
+                    "\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264" +
+                    "\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264" +
+                    "\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264" +
+                    "\u0264\u0264\u0268\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264" +
+                    "\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264" +
+                    "\u0264\u0269\u0264\u0269\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264" +
+                    "\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264" +
+                    "\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0266\u0264\u0264" +
+                    "\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u010f\u010f" +
+                    "\u0264\u010f\u0264\u010f\u010f\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u010f" +
+                    "\u0264\u010f\u0264\u010f\u010f\u0264\u0264\u010f\u010f\u010f\u0264\u0264\u0264\u0264\u0264\u0264" +
+                    "\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264" +
+                    "\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264" +
+                    "\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264" +
+                    "\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264FF" +
+                    "\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264" +
+                    "\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264" +
+                    "\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264" +
+                    "\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264" +
+                    "\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264" +
+                    "\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264" +
+                    "\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264FFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "3333333FFFFFFFFF" +
+                    "FFF33333FFFFF\u026b\u026c\u026b" +
+                    "\u026d\u026d\u026d\u026d\u026d\u026d\u026d\u026d\u026d\u0164\u026b\u026b\u026b\u026b\u026b\u026b" +
+                    "\u026b\u026b\u026b\u026b\u026b\u026b\u026bF\u026b\u026b\u026b\u026b\u026bF\u026bF" +
+                    "\u026b\u026bF\u026b\u026bF\u026b\u026b\u026b\u026b\u026b\u026b\u026b\u026b\u026b\u026d" +
+                    "\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2" +
+                    "\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2" +
+                    "\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2" +
+                    "\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2" +
+                    "\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2" +
+                    "\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2" +
+                    "\u00a2\u00a2\u00c8\u00c8\u00c8\u00c8\u00c8\u00c8\u00c8\u00c8\u00c8\u00c8\u00c8\u00c8\u00c8\u00c8" +
+                    "\u00c8\u00c8\u00c8FFFFFFFFFFFFF" +
+                    "FFF\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2" +
+                    "\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2" +
+                    "\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2" +
+                    "\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2" +
+                    "\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2" +
+                    "\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2" +
+                    "\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2" +
+                    "\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2" +
+                    "\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2" +
+                    "\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2" +
+                    "\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2" +
+                    "\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2" +
+                    "\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2" +
+                    "\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2" +
+                    "\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u0109\u0107" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2" +
+                    "\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2" +
+                    "\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2" +
+                    "\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2" +
+                    "FF\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2" +
+                    "\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2" +
+                    "\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2" +
+                    "\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2FFFFFFF&" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u026e&&&" +
+                    "[[[[[[[[[[[[[[[[" +
+                    "\u026f\u026f\u026f\u026f\u026f\u026f\u026f\u0270\u0271\u026fFFFFFF" +
+                    "ggggggglllllllgg" +
+                    "\u026f\u0272\u0272\u0273\u0273\u0270\u0271\u0270\u0271\u0270\u0271\u0270\u0271\u0270\u0271\u0270" +
+                    "\u0271\u0270\u0271\u0270\u0271\u01f3\u01f3\u0270\u0271\u026f\u026f\u026f\u026f\u0273\u0273\u0273" +
+                    "\u0274\u026f\u0274F\u026f\u0274\u026f\u026f\u0272\u0275\u0276\u0275\u0276\u0275\u0276\u0277" +
+                    "\u026f\u026f\u0278\u027a\u027c\u027c\u027dF\u026f\u027e\u0277\u026fFFFF" +
+                    "\u00a2\u00a2\u00a2\u008c\u00a2F\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2" +
+                    "\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2" +
+                    "\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2" +
+                    "\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2" +
+                    "\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2" +
+                    "\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2" +
+                    "\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2" +
+                    "\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2" +
+                    "\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2FF\u00ae" +
+                    "F\u027f\u027f\u0280\u0281\u0280\u027f\u027f\u0282\u0283\u027f\u0284\u0286\u0287\u0286\u0286" +
+                    "\u028a\u028b\u028c\u028d\u028e\u028f\u0290\u0291\u0292\u0293\u0286\u027f\u0294\u0295\u0294\u027f" +
+                    "\u027f\u0296\u0296\u0296\u0296\u0296\u0296\u0296\u0296\u0296\u0296\u0296\u0296\u0296\u0296\u0296" +
+                    "\u0296\u0296\u0296\u0296\u0296\u0296\u0296\u0296\u0296\u0296\u0296\u0282\u027f\u0283\u0297\u0298" +
+                    "\u0297\u0299\u0299\u0299\u0299\u0299\u0299\u0299\u0299\u0299\u0299\u0299\u0299\u0299\u0299\u0299" +
+                    "\u0299\u0299\u0299\u0299\u0299\u0299\u0299\u0299\u0299\u0299\u0299\u0282\u0295\u0283\u0295\u0282" +
+                    "\u0283\u029a\u029b\u029c\u029a\u029a\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e" +
+                    "\u029f\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e" +
+                    "\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e" +
+                    "\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029f\u029f" +
+                    "\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e" +
+                    "\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029eF" +
+                    "FF\u029e\u029e\u029e\u029e\u029e\u029eFF\u029e\u029e\u029e\u029e\u029e\u029e" +
+                    "FF\u029e\u029e\u029e\u029e\u029e\u029eFF\u029e\u029e\u029eFFF" +
+                    "\u0281\u0281\u0295\u0297\u02a0\u0281\u0281F\u02a1\u02a2\u02a2\u02a2\u02a2\u02a1\u02a1F" +
+                    "FFFFFFFFF\u02a3\u02a3\u02a3&$FF" +
+                    "CCCCCCCCCCCCFCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCFCCCCCCCC" +
+                    "CCCCCCCCCCCFCCFC" +
+                    "CCCCCCCCCCCCCCFF" +
+                    "CCCCCCCCCCCCCCFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCFFFFF" +
+                    "i\u00c6iFFFF\u02a4\u02a5\u02a6\u02a7\u02a8\u02a9\u02aa\u02ab\u02ac" +
+                    "\u00e3\u011a\u011b\u011c\u011d\u011e\u011f\u0120\u0121\u00e4\u02ad\u02ae\u02af\u02b0\u02b1\u02b2" +
+                    "\u02b3\u02b4\u00e5\u02b5\u02b6\u02b7\u02b8\u02b9\u02ba\u02bb\u02bc\u0122\u02bd\u02be\u02bf\u02c0" +
+                    "\u02c1\u02c2\u02c3\u02c4FFFfffffffff" +
+                    "\u02c5\u02c6\u02c7\u02c8\u02c9\u02ca\u02cb\u02cc\u02c8\u02cd\u02c9\u02ce\u02ca\u02cf\u02cb\u02c8" +
+                    "\u02cd\u02c9\u02ce\u02ca\u02cf\u02d0\u02cc\u02cd\u02c7\u02c7\u02c7\u02d1\u02d1\u02d1\u02d1\u02c8" +
+                    "\u02cd\u02cd\u02cd\u02cd\u02cd\u02d2\u02c9\u02c9\u02c9\u02c9\u02ce\u02d3\u02ca\u02ca\u02ca\u02ca" +
+                    "\u02ca\u02cf\u02cb\u02c8\u02c9\u01f0\u01f0\u02d4\u02d5&&&&&&&" +
+                    "&&&&&&&&&&\u00e9\u02d6&ffF" +
+                    "&&&&&&&&&&&&&FFF" +
+                    "&FFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "ffffffffffffffff" +
+                    "ffffffffffffffff" +
+                    "ffffffffffffflFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCFFF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CFFFFFFFFFFFFFFF" +
+                    "l\u02d7\u02d8\u02d9\u02da\u02db\u02dc\u02dd\u02de\u02df\u02e0\u02e1\u02e2\u02e3\u02e4\u02e5" +
+                    "\u02e6\u02e7\u02e8\u02e9\u02ea\u02eb\u02ec\u02ed\u02ee\u02ef\u02f0\u02f1FFFF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "\u02a4\u02a8\u00e3\u011dFFFFFFFFFCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "C\u02f2CCCCCCCC\u02f4FFFFF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCgggggFFFFF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCFi" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCFFFFCCCCCCCC" +
+                    "i\u0258\u0259\u02f5\u02f6\u02f7FFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "@@@@@@@@@@@@@@@@" +
+                    "@@@@@@@@@@@@@@@@" +
+                    "@@@@@@@@BBBBBBBB" +
+                    "BBBBBBBBBBBBBBBB" +
+                    "BBBBBBBBBBBBBBBB" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCFF" +
+                    "\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7FFFFFF" +
+                    "@@@@@@@@@@@@@@@@" +
+                    "@@@@@@@@@@@@@@@@" +
+                    "@@@@FFFFBBBBBBBB" +
+                    "BBBBBBBBBBBBBBBB" +
+                    "BBBBBBBBBBBBFFFF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCFFFFFFFF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCFFFFFFFFFFFi" +
+                    "@@@@@@@@@@@F@@@@" +
+                    "@@@@@@@@@@@F@@@@" +
+                    "@@@F@@FBBBBBBBBB" +
+                    "BBFBBBBBBBBBBBBB" +
+                    "BBFBBBBBBBFBBFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCFFFFFFFFF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCFFFFFFFFFF" +
+                    "CCCCCCCCFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "JGGGGGFGGGGGGGGG" +
+                    "GGGGGGGGGGGGGGGG" +
+                    "GGGGGGGGGGGGGGGG" +
+                    "GFGGGGGGGGGFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081FF\u0081F\u0081\u0081\u0081\u0081\u0081\u0081" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081F\u0081\u0081FFF\u0081FF\u0081" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081F}\u02f8\u02f9\u02fa\u02fb\u02fc\u02fd\u02fe\u02ff" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0300\u0300\u02f8\u02f9\u02fa\u0301\u0302\u02fb\u02fc" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081F" +
+                    "FFFFFFF\u02f8\u02f9\u02fa\u0301\u0301\u0302\u02fb\u02fc\u02fd" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081" +
+                    "\u0081\u0081\u0081F\u0081\u0081FFFFF\u02f8\u0302\u02fb\u02fc\u02fd" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081\u02f8\u02fb\u02fc\u02fd\u02f9\u02faFFF\u00c6" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081FFFFF}" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081FFFF\u0303\u0304\u0081\u0081" +
+                    "\u02f8\u02f9\u02fa\u0301\u0302\u0305\u0306\u0307\u0308\u02fb\u02fc\u0309\u030a\u030b\u030c\u030d" +
+                    "FF\u02fd\u030e\u030f\u0310\u0311\u0312\u0313\u0314\u0315\u02fe\u0316\u0317\u0318\u0319" +
+                    "\u031a\u031b\u031c\u031d\u02ff\u031e\u031f\u0320\u0321\u0322\u0323\u0324\u0325\u0326\u0327\u0328" +
+                    "\u0329\u032a\u032b\u032c\u032d\u032e\u032f\u0330\u0331\u0332\u0333\u0304\u0334\u0335\u0336\u0337" +
+                    "\u0081\u00b0\u00b0\u00b0F\u00b0\u00b0FFFFF\u00b0l\u00b0g" +
+                    "\u0081\u0081\u0081\u0081F\u0081\u0081\u0081F\u0081\u0081\u0081\u0081\u0081\u0081\u0081" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081FFg\u0130lFFFF\u00cc" +
+                    "\u0338\u0339\u033a\u033b\u02fb\u02fc\u02fd\u02fe\u0304FFFFFFF" +
+                    "}}}}}}}}}FFFFFFF" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u02f8\u030b}" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u02f8\u02fb\u02fc" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0300\u0081\u0081\u0081\u0081\u0081\u0081\u0081" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081" +
+                    "\u0081\u0081\u0081\u0081\u0081glFFFF\u02f8\u0302\u02fb\u02fc\u02fd" +
+                    "}}}}}}}FFFFFFFFF" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081FFF\u00c6\u00c6\u00c6\u00c6\u00c6\u00c6\u00c6" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081FF\u02f8\u02f9\u02fa\u0301\u02fb\u02fc\u02fd\u02fe" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081" +
+                    "\u0081\u0081\u0081FFFFF\u02f8\u02f9\u02fa\u0301\u02fb\u02fc\u02fd\u02fe" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081" +
+                    "\u0081\u0081FFFFFFF}}}}FFF" +
+                    "FFFFFFFFF\u02f8\u02f9\u02fa\u0301\u02fb\u02fc\u02fd" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081FFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "\u033c\u033c\u033c\u033c\u033c\u033c\u033c\u033c\u033c\u033c\u033c\u033c\u033c\u033c\u033c\u033c" +
+                    "\u033c\u033c\u033c\u033c\u033c\u033c\u033c\u033c\u033c\u033c\u033c\u033c\u033c\u033c\u033c\u033c" +
+                    "\u033c\u033c\u033c\u033c\u033c\u033c\u033c\u033c\u033c\u033c\u033c\u033c\u033c\u033c\u033c\u033c" +
+                    "\u033c\u033c\u033cFFFFFFFFFFFFF" +
+                    "\u033d\u033d\u033d\u033d\u033d\u033d\u033d\u033d\u033d\u033d\u033d\u033d\u033d\u033d\u033d\u033d" +
+                    "\u033d\u033d\u033d\u033d\u033d\u033d\u033d\u033d\u033d\u033d\u033d\u033d\u033d\u033d\u033d\u033d" +
+                    "\u033d\u033d\u033d\u033d\u033d\u033d\u033d\u033d\u033d\u033d\u033d\u033d\u033d\u033d\u033d\u033d" +
+                    "\u033d\u033d\u033dFFFFFFF\u02f8\u0302\u02fb\u030b\u02fd\u02fe" +
+                    "\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c" +
+                    "\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c" +
+                    "\u008c\u008c\u008c\u008cggggFFFFFFFF" +
+                    "\u0096\u0097\u0098\u0099\u009a\u009b\u009c\u009d\u009e\u009fFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "\u033e\u033f\u0340\u0341\u0342\u0343\u0344\u0345\u0346\u0347\u0348\u0349\u034a\u034b\u034c\u034d" +
+                    "\u034e\u034f\u0350\u0351\u0352\u0353\u0354\u0355\u0356\u0357\u0358\u0359\u035a\u035b\u035cF" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081Fgg|FF" +
+                    "\u0081\u0081FFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u02f8\u02f9\u02fa" +
+                    "\u0301\u0302\u02fb\u02fc\u0309\u02fd\u0304\u0081FFFFFFFF" +
+                    "\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c" +
+                    "\u008c\u008c\u008c\u008c\u008c\u008cllggglglll" +
+                    "l\u035d\u035e\u035f\u0360\u0087\u0087\u0087\u0087\u0087FFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081" +
+                    "\u0081\u0081glgl}}}}FFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081" +
+                    "\u0081\u0081\u0081\u0081\u0081\u02f8\u02f9\u02fa\u0301\u02fb\u02fc\u02fdFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081\u0081FFFFFFFFF" +
+                    "\u00c9\u00b0\u00c9CCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCC\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0" +
+                    "\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00cciiiiiiiFF" +
+                    "FF\u01e4\u01e5\u01e6\u01e7\u01e8\u01e9\u01ea\u01eb\u01ec\u01ed\u0361\u0362\u0363\u0364" +
+                    "\u0365\u0366\u0367\u0368\u0369\u036a\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7" +
+                    "\u00ccCC\u00b0\u00b0CFFFFFFFFF\u00cc" +
+                    "\u00b0\u00b0\u00c9CCCCCCCCCCCCC" +
+                    "CCCCCCCCCC\u00caC\u00caCCC" +
+                    "CCCCCCCCCCC\u00caCCCC" +
+                    "\u00c9\u00c9\u00c9\u00b0\u00b0\u00b0\u00b0\u00c9\u00c9\u00cc\u00cbii\u013eii" +
+                    "ii\u00b0FFFFFFFFFF\u013eFF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCFFFFFFF" +
+                    "\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7FFFFFF" +
+                    "gggCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCC\u00e1\u00b0\u00b0\u00b0\u00b0\u00c9\u00b0\u00e6\u00e6" +
+                    "\u00b0\u00b0\u00b0\u00cc\u00ccF\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7" +
+                    "iiiiC\u00c9\u00c9CFFFFFFFF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCC\u00d8iiCFFFFFFFFF" +
+                    "\u00b0\u00b0\u00c9CCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCC\u00c9\u00c9\u00c9\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00c9" +
+                    "\u0127CCCCiiii\u00b0\u00d8\u00b0\u00b0i\u00c9\u00b0" +
+                    "\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7CiCiii" +
+                    "F\u02a4\u02a5\u02a6\u02a7\u02a8\u02a9\u02aa\u02ab\u02ac\u00e3\u011a\u011b\u011c\u011d\u011e" +
+                    "\u011f\u0120\u0121\u00e4\u00e5FFFFFFFFFFF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCFCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCC\u00c9\u00c9\u00c9\u00b0" +
+                    "\u00b0\u00b0\u00c9\u00c9\u00b0\u0127\u00d8\u00b0iiiiii\u00b0F" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "CCCCCCCFCFCCCCFC" +
+                    "CCCCCCCCCCCCCCFC" +
+                    "CCCCCCCCCiFFFFFF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCC\u00b0" +
+                    "\u00c9\u00c9\u00c9\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00d8\u00ccFFFFF" +
+                    "\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7FFFFFF" +
+                    "\u00b0\u00b0\u00c9\u00c9FCCCCCCCCFFC" +
+                    "CFFCCCCCCCCCCCCC" +
+                    "CCCCCCCCCFCCCCCC" +
+                    "CFCCFCCCCCF\u00d8\u00d8C\u00d9\u00c9" +
+                    "\u00b0\u00c9\u00c9\u00c9\u00c9FF\u00c9\u00c9FF\u00da\u00da\u0127FF" +
+                    "CFFFFFF\u00d9FFFFFCCC" +
+                    "CC\u00c9\u00c9FFgggggggFFF" +
+                    "gggggFFFFFFFFFFF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCC\u00c9\u00c9\u00c9\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0" +
+                    "\u00c9\u00c9\u00cc\u00b0\u00b0\u00c9\u00d8CCCCiiiii" +
+                    "\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7iiFigC" +
+                    "CCFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "\u00d9\u00c9\u00c9\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00c9\u00e1\u00da\u00da\u00d9\u00da\u00b0" +
+                    "\u00b0\u00c9\u00cc\u00d8CCiCFFFFFFFF" +
+                    "\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7FFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCC\u00d9" +
+                    "\u00c9\u00c9\u00b0\u00b0\u00b0\u00b0FF\u00c9\u00c9\u00da\u00da\u00b0\u00b0\u00c9\u00cc" +
+                    "\u00d8iiiiiiiiiiiiiii" +
+                    "iiiiiiiiCCCC\u00b0\u00b0FF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "\u00c9\u00c9\u00c9\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00c9\u00c9\u00b0\u00c9\u00cc" +
+                    "\u00b0iiiCFFFFFFFFFFF" +
+                    "\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7FFFFFF" +
+                    "\u00c6\u00c6\u00c6\u00c6\u00c6\u00c6\u00c6\u00c6\u00c6\u00c6\u00c6\u00c6\u00c6FFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCC\u00b0\u00c9\u00b0\u00c9\u00c9" +
+                    "\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u0127\u00d8CiFFFFFF" +
+                    "\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7FFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCFF\u00b0\u00b0\u00b0" +
+                    "\u00c9\u00c9\u00b0\u00b0\u00b0\u00b0\u00c9\u00b0\u00b0\u00b0\u00b0\u00ccFFFF" +
+                    "\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7\u00e3\u011aiiif" +
+                    "CCCCCCCFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCC\u00c9\u00c9\u00c9\u00b0" +
+                    "\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00c9\u00cc\u00d8iFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "@@@@@@@@@@@@@@@@" +
+                    "@@@@@@@@@@@@@@@@" +
+                    "BBBBBBBBBBBBBBBB" +
+                    "BBBBBBBBBBBBBBBB" +
+                    "\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7\u00e3\u011a\u011b\u011c\u011d\u011e" +
+                    "\u011f\u0120\u0121FFFFFFFFFFFFC" +
+                    "CCCCCCCFFCFFCCCC" +
+                    "CCCCFCCFCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "\u00d9\u00c9\u00c9\u00c9\u00c9\u00c9F\u00c9\u00daFF\u00b0\u00b0\u0127\u00ccC" +
+                    "\u00c9C\u00c9\u00d8iiiFFFFFFFFF" +
+                    "\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7FFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "CCCCCCCCFFCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "C\u00c9\u00c9\u00c9\u00b0\u00b0\u00b0\u00b0FF\u00b0\u00b0\u00c9\u00c9\u00c9\u00c9" +
+                    "\u00ccCiC\u00c9FFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "C\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00ed\u00ed\u00b0\u00b0CCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCC\u00b0\u00cc\u00b0\u00b0\u00b0\u00b0\u00c9C\u00b0\u00b0\u00b0\u00b0i" +
+                    "iiiiiii\u00ccFFFFFFFF" +
+                    "C\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00c9\u00c9\u00b0\u00b0\u00b0CCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCC\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0" +
+                    "\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00c9\u00b0\u00cciiiCii" +
+                    "iiiFFFFFFFFFFFFF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCFFFFFFF" +
+                    "CCCCCCCCCFCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCC\u00c9" +
+                    "\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0F\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00c9\u036b" +
+                    "CiiiiiFFFFFFFFFF" +
+                    "\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7\u02a4\u02a5\u02a6\u02a7\u02a8\u02a9" +
+                    "\u02aa\u02ab\u02ac\u00e3\u011a\u011b\u011c\u011d\u011e\u011f\u0120\u0121\u00e4FFF" +
+                    "iiCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "FF\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0" +
+                    "\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0F\u00c9\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0" +
+                    "\u00b0\u00c9\u00b0\u00b0\u00c9\u00b0\u00b0FFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "CCCCCCCFCCFCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "C\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0FFF\u00b0F\u00b0\u00b0F\u00b0" +
+                    "\u00b0\u00b0\u00d8\u00b0\u00cc\u00ccC\u00b0FFFFFFFF" +
+                    "\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7FFFFFF" +
+                    "CCCCCCFCCFCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCC\u00c9\u00c9\u00c9\u00c9\u00c9F" +
+                    "\u00b0\u00b0F\u00c9\u00c9\u00b0\u00c9\u00ccCFFFFFFF" +
+                    "\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7FFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCC\u00b0\u00b0\u00c9\u00c9iiFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "CFFFFFFFFFFFFFFF" +
+                    "\u036c\u00ee\u036d\u036e\u00ef\u036f\u00f0\u0370\u00f1\u00db\u00db\u00f2\u00dc\u00f3\u00dd\u00f4" +
+                    "\u00de\u00e2\u00e2\u00df\u036c&&&&&&&&kkk" +
+                    "k&&&&&&&&&&&&&&&" +
+                    "&&FFFFFFFFFFFFFi" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "\u0259\u025a\u025b\u025c\u0197\u025d\u025e\u025f\u025a\u025b\u025c\u0197\u025d\u025e\u025f\u025b" +
+                    "\u025c\u0197\u025d\u025e\u025f\u0258\u0259\u025a\u025b\u025c\u0197\u025d\u025e\u025f\u0258\u0259" +
+                    "\u025a\u025b\u025c\u0259\u025a\u025a\u025b\u025c\u0197\u025d\u025e\u025f\u0258\u0259\u025a\u025a" +
+                    "\u025b\u025c\u0371\u0372\u0258\u0259\u025a\u025a\u025b\u025c\u025a\u025a\u025b\u025b\u025b\u025b" +
+                    "\u0197\u025d\u025d\u025d\u025e\u025e\u025f\u025f\u025f\u025f\u0259\u025a\u025b\u025c\u0197\u0258" +
+                    "\u0259\u025a\u025b\u025b\u025c\u025c\u0259\u025a\u0258\u0259\u0373\u0374\u0375\u0373\u0374\u0376" +
+                    "\u0377\u0378\u0377\u0377\u0379\u0373\u0374\u037a\u0198\u025b\u025c\u0197\u025d\u025e\u025fF" +
+                    "iiiiiFFFFFFFFFFF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CiiFFFFFFFFFFFFF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCF" +
+                    "\u013e\u013e\u013e\u013e\u013e\u013e\u013e\u013e\u013eFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCFFFFFFF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCF" +
+                    "\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7FFFFii" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCF" +
+                    "\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7FFFFFF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCFF" +
+                    "\u0130\u0130\u0130\u0130\u0130iFFFFFFFFFF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "gggggggiiiiiffff" +
+                    "JJJJifFFFFFFFFFF" +
+                    "\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7F\u00e3\u00e4\u0122\u037b\u037c" +
+                    "\u037d\u037eFCCCCCCCCCCCCC" +
+                    "CCCCCCCCFFFFFCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "@@@@@@@@@@@@@@@@" +
+                    "@@@@@@@@@@@@@@@@" +
+                    "BBBBBBBBBBBBBBBB" +
+                    "BBBBBBBBBBBBBBBB" +
+                    "\u037f\u02a4\u02a5\u02a6\u02a7\u02a8\u02a9\u02aa\u02ab\u02ac\u00e3\u0380\u0381\u0382\u0383\u0384" +
+                    "\u00e0\u0385\u0386\u0387\u02a4\u02a5\u02a6iiiiFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCFFFF\u00b0" +
+                    "C\u00c9\u00c9\u00c9\u00c9\u00c9\u00c9\u00c9\u00c9\u00c9\u00c9\u00c9\u00c9\u00c9\u00c9\u00c9" +
+                    "\u00c9\u00c9\u00c9\u00c9\u00c9\u00c9\u00c9\u00c9\u00c9\u00c9\u00c9\u00c9\u00c9\u00c9\u00c9\u00c9" +
+                    "\u00c9\u00c9\u00c9\u00c9\u00c9\u00c9\u00c9\u00c9\u00c9\u00c9\u00c9\u00c9\u00c9\u00c9\u00c9\u00c9" +
+                    "\u00c9\u00c9\u00c9\u00c9\u00c9\u00c9\u00c9\u00c9FFFFFFF\u00b0" +
+                    "\u00b0\u00b0\u00b0JJJJJJJJJJJJJ" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "\u01f4\u01f4\u01f3\u01f4\u0388FFFFFFFFFFF" +
+                    "\u0389\u0389FFFFFFFFFFFFFF" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010fFFFFFFFF" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010fFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010fFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "\u01f4\u01f4\u01f4\u01f4F\u01f4\u01f4\u01f4\u01f4\u01f4\u01f4\u01f4F\u01f4\u01f4F" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010fFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "\u010f\u010f\u010fFFFFFFFFFFFFF" +
+                    "FFFF\u010f\u010f\u010f\u010fFFFFFFFF" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010fFFFF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCFFFFF" +
+                    "CCCCCCCCCCCCCFFF" +
+                    "CCCCCCCCCFFFFFFF" +
+                    "CCCCCCCCCCFFf\u00b0\u0130i" +
+                    "\u00ae\u00ae\u00ae\u00aeFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0" +
+                    "\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0" +
+                    "\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0FF" +
+                    "\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0" +
+                    "\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0FFFFFFFFF" +
+                    "ffffffffffffffff" +
+                    "ffffffffffffffff" +
+                    "ffffffffffffffff" +
+                    "ffffffffffffffff" +
+                    "ffffffffffffffff" +
+                    "ffffffffffffffff" +
+                    "ffffffffffffffff" +
+                    "ffffFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "ffffffffffffffff" +
+                    "ffffffffffffffff" +
+                    "ffffffffffffffff" +
+                    "ffffffffffffffff" +
+                    "ffffffffffffffff" +
+                    "ffffffffffffffff" +
+                    "ffffffffffffffff" +
+                    "ffffffFFFFFFFFFF" +
+                    "ffffffffffffffff" +
+                    "ffffffffffffffff" +
+                    "fffffffFFfffffff" +
+                    "ffffffffffffffff" +
+                    "ffffffffffffffff" +
+                    "ffffffffffffff\u038a\u038a" +
+                    "\u038a\u038a\u038a\u038a\u038a\u038b\u038b\u0130\u0130\u0130fff\u038c\u038b\u038b" +
+                    "\u038b\u038b\u038b\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae\u00aelllll" +
+                    "lllffgggggllffff" +
+                    "ffffffffffffffff" +
+                    "ffffffffffggggff" +
+                    "fffffffffff\u038a\u038a\u038a\u038a\u038a" +
+                    "\u038afffffffffffffff" +
+                    "ffffffffffffffff" +
+                    "fffffffff&&FFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&ggg&FFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "\u037f\u02a4\u02a5\u02a6\u02a7\u02a8\u02a9\u02aa\u02ab\u02ac\u00e3\u0380\u0381\u0382\u0383\u0384" +
+                    "\u00e0\u0385\u0386\u0387FFFFFFFFFFFF" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&FFFFFFFFF" +
+                    "\u02a4\u02a5\u02a6\u02a7\u02a8\u02a9\u02aa\u02ab\u02ac\u00e3\u011a\u011b\u011c\u011d\u011e\u011f" +
+                    "\u0120\u0121\u02a4\u02a5\u02a6\u02a7\u02a8\u02a4\u02a8FFFFFFF" +
+                    "DDDDDDDDDDDDDDDD" +
+                    "DDDDDDDDDD333333" +
+                    "3333333333333333" +
+                    "3333DDDDDDDDDDDD" +
+                    "DDDDDDDDDDDDDD33" +
+                    "33333F3333333333" +
+                    "33333333DDDDDDDD" +
+                    "DDDDDDDDDDDDDDDD" +
+                    "DD33333333333333" +
+                    "333333333333DFDD" +
+                    "FFDFFDDFFDDDDFDD" +
+                    "DDDDDD3333F3F333" +
+                    "3333F33333333333" +
+                    "DDDDDDDDDDDDDDDD" +
+                    "DDDDDDDDDD333333" +
+                    "3333333333333333" +
+                    "3333DDFDDDDFFDDD" +
+                    "DDDDDFDDDDDDDF33" +
+                    "3333333333333333" +
+                    "33333333DDFDDDDF" +
+                    "DDDDDFDFFFDDDDDD" +
+                    "DF33333333333333" +
+                    "333333333333DDDD" +
+                    "DDDDDDDDDDDDDDDD" +
+                    "DDDDDD3333333333" +
+                    "3333333333333333" +
+                    "DDDDDDDDDDDDDDDD" +
+                    "DDDDDDDDDD333333" +
+                    "3333333333333333" +
+                    "3333DDDDDDDDDDDD" +
+                    "DDDDDDDDDDDDDD33" +
+                    "3333333333333333" +
+                    "33333333DDDDDDDD" +
+                    "DDDDDDDDDDDDDDDD" +
+                    "DD33333333333333" +
+                    "333333333333DDDD" +
+                    "DDDDDDDDDDDDDDDD" +
+                    "DDDDDD3333333333" +
+                    "3333333333333333" +
+                    "DDDDDDDDDDDDDDDD" +
+                    "DDDDDDDDDD333333" +
+                    "3333333333333333" +
+                    "333333FFDDDDDDDD" +
+                    "DDDDDDDDDDDDDDDD" +
+                    "D\u038d33333333333333" +
+                    "33333333333\u01703333" +
+                    "33DDDDDDDDDDDDDD" +
+                    "DDDDDDDDDDD\u038d3333" +
+                    "3333333333333333" +
+                    "33333\u0170333333DDDD" +
+                    "DDDDDDDDDDDDDDDD" +
+                    "DDDDD\u038d3333333333" +
+                    "333333333333333\u0170" +
+                    "333333DDDDDDDDDD" +
+                    "DDDDDDDDDDDDDDD\u038d" +
+                    "3333333333333333" +
+                    "333333333\u0170333333" +
+                    "DDDDDDDDDDDDDDDD" +
+                    "DDDDDDDDD\u038d333333" +
+                    "3333333333333333" +
+                    "333\u0170333333D3FF\u038e\u038f" +
+                    "\u0390\u0391\u0392\u0393\u0394\u0395\u0396\u0397\u038e\u038f\u0390\u0391\u0392\u0393\u0394\u0395" +
+                    "\u0396\u0397\u038e\u038f\u0390\u0391\u0392\u0393\u0394\u0395\u0396\u0397\u038e\u038f\u0390\u0391" +
+                    "\u0392\u0393\u0394\u0395\u0396\u0397\u038e\u038f\u0390\u0391\u0392\u0393\u0394\u0395\u0396\u0397" +
+                    "\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0" +
+                    "\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0" +
+                    "\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0" +
+                    "\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0ffff\u00b0\u00b0\u00b0\u00b0\u00b0" +
+                    "\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0" +
+                    "\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0" +
+                    "\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0fff" +
+                    "fffff\u00b0ffffffffff" +
+                    "ffff\u00b0ffiiiiiFFFF" +
+                    "FFFFFFFFFFF\u00b0\u00b0\u00b0\u00b0\u00b0" +
+                    "F\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "BBBBBBBBBBCBBBBB" +
+                    "BBBBBBBBBBBBBBBF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "gggggggFgggggggg" +
+                    "gggggggggFFggggg" +
+                    "ggFggFgggggFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCFFF" +
+                    "gggggggJJJJJJJFF" +
+                    "\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7FFFFCf" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCgF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCgggg" +
+                    "\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7FFFFFk" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "CCCCCCCFCCCCFCCF" +
+                    "CCCCCCCCCCCCCCCF" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081" +
+                    "\u0081\u0081\u0081\u0081\u0081FF\u02f8\u02f9\u02fa\u0301\u0302\u0305\u0306\u0307\u0308" +
+                    "lllllllFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "\u033c\u033c\u033c\u033c\u033c\u033c\u033c\u033c\u033c\u033c\u033c\u033c\u033c\u033c\u033c\u033c" +
+                    "\u033c\u033c\u033c\u033c\u033c\u033c\u033c\u033c\u033c\u033c\u033c\u033c\u033c\u033c\u033c\u033c" +
+                    "\u033c\u033c\u033d\u033d\u033d\u033d\u033d\u033d\u033d\u033d\u033d\u033d\u033d\u033d\u033d\u033d" +
+                    "\u033d\u033d\u033d\u033d\u033d\u033d\u033d\u033d\u033d\u033d\u033d\u033d\u033d\u033d\u033d\u033d" +
+                    "\u033d\u033d\u033d\u033dgggggg\u00d8\u00c5FFFF" +
+                    "\u00b1\u00b3\u00b5\u00b7\u00b9\u00bb\u00bd\u00bf\u00c1\u00c3FFFF}}" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "F\u035d\u0398\u0399\u039a\u039b\u039c\u039d\u039e\u039f\u035e\u035f\u03a0\u03a1\u03a2\u03a3" +
+                    "\u03a4\u03a5\u03a6\u0360\u03a7\u03a8\u03a9\u03aa\u03ab\u03ac\u03ad\u03ae\u03af\u03b0\u03b1\u03b2" +
+                    "\u03b3\u03b4\u03b5\u03b6\u03b7\u03b8\u03b9\u03ba\u03bb\u03bc\u03bd\u03be\u03bf\u03c0\u03c1\u03c2" +
+                    "\u03c1\u03c3\u03c4\u035d\u0398\u0399\u039a\u039b\u039c\u039d\u039e\u039f\u00ad\u03c5\u03c6\u03c7" +
+                    "\u0085\u035d\u0398\u03b8\u03c1FFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "F\u035d\u0398\u0399\u039a\u039b\u039c\u039d\u039e\u039f\u035e\u035f\u03a0\u03a1\u03a2\u03a3" +
+                    "\u03a4\u03a5\u03a6\u0360\u03a7\u03a8\u03a9\u03aa\u03ab\u03ac\u03ad\u03ae\u03af\u03b0\u03b1\u03b2" +
+                    "\u03b3\u03b4\u03b5\u03b6\u03b7\u03b8\u03b9\u03ba\u03bb\u03bc\u03bd\u03be\u03bf\u03c0\u00ad\u0398" +
+                    "\u0399\u039a\u039b\u039c\u039d\u039e\u039f\u035e\u03a9\u03ab\u03b0\u03b8\u03c6\u03c8FF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "\u00a2\u00a2\u00a2\u00a2F\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2" +
+                    "\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2" +
+                    "F\u00a2\u00a2F\u00a2FF\u00a2F\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2" +
+                    "\u00a2\u00a2\u00a2F\u00a2\u00a2\u00a2\u00a2F\u00a2F\u00a2FFFF" +
+                    "FF\u00a2FFFF\u00a2F\u00a2F\u00a2F\u00a2\u00a2\u00a2" +
+                    "F\u00a2\u00a2F\u00a2FF\u00a2F\u00a2F\u00a2F\u00a2F\u00a2" +
+                    "F\u00a2\u00a2F\u00a2FF\u00a2\u00a2\u00a2\u00a2F\u00a2\u00a2\u00a2\u00a2" +
+                    "\u00a2\u00a2\u00a2F\u00a2\u00a2\u00a2\u00a2F\u00a2\u00a2\u00a2\u00a2F\u00a2F" +
+                    "\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2F\u00a2\u00a2\u00a2\u00a2\u00a2" +
+                    "\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2FFFF" +
+                    "F\u00a2\u00a2\u00a2F\u00a2\u00a2\u00a2\u00a2\u00a2F\u00a2\u00a2\u00a2\u00a2\u00a2" +
+                    "\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2FFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "ccFFFFFFFFFFFFFF" +
+                    "&&&&\u01a5&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&FFFF" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&FFFFFFFFFFFF" +
+                    "&&&&&&&&&&&&&&&F" +
+                    "F&&&&&&&&&&&&&&&" +
+                    "F&&&&&&&&&&&&&&\u01a5" +
+                    "F&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&FFFFFFFFFF" +
+                    "\u03c9\u03c94/1\u0158\u01ad\u01af\u01b1\u01b3\u01b5\u00e9\u00e9&&&" +
+                    "\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc" +
+                    "\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u03d4&" +
+                    "\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc" +
+                    "\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc" +
+                    "\u03d5\u03d5\u03d5\u03d5\u03d5\u03d5\u03d5\u03d5\u03d5\u03d5\u03d5\u03d5\u03d5\u03d5\u03d5\u03d5" +
+                    "\u03d5\u03d5\u03d5\u03d5\u03d5\u03d5\u03d5\u03d5\u03d5\u03d5\u016c\u016c\u016c&&&" +
+                    "\u03d5\u03d5\u03d5\u03d5\u03d5\u03d5\u03d5\u03d5\u03d5\u03d5\u03d5\u03d5\u03d5\u03d5\u03d5\u03d5" +
+                    "\u03d5\u03d5\u03d5\u03d5\u03d5\u03d5\u03d5\u03d5\u03d5\u03d5\u03d5\u03d5\u03d5\u03d5\u0213\u03d5" +
+                    "\u01cc\u0213\u0213\u0213\u0213\u0213\u0213\u0213\u0213\u0213\u0213\u03d5\u03d5\u03d5\u03d5\u03d5" +
+                    "\u03d5\u03d5\u03d5\u03d5\u03d5\u03d5\u03d5\u03d5\u03d5\u03d5\u03d5\u03d5\u03d5&FF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFffffffffff" +
+                    "ffffffffffffffff" +
+                    "\u0218\u0218\u0218FFFFFFFFFFFFF" +
+                    "\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218" +
+                    "\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218" +
+                    "\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218FFFF" +
+                    "\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218FFFFFFF" +
+                    "\u0218\u0218FFFFFFFFFFFFFF" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5FFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5&&&&&&&&&&&&\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5&\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5&\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5&&&&&&&&&&&&" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5&&&&\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5&&&&&&&&&&&&" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5&&&\u01a5&&&\u01a5\u01a5\u01a5\u03d6\u03d6\u03d6\u03d6\u03d6" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5&" +
+                    "\u01a5&\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5&&\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5&&" +
+                    "&&&&&&&&&&&\u01a5\u01a5\u01a5\u01a5&" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5&&&&&&&&" +
+                    "&&&&&&&&&&\u01a5&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&\u01a5\u01a5&&&&&&&&&" +
+                    "&&&&\u01a5&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5&&&&&&\u01a5&&&" +
+                    "\u01a5\u01a5\u01a5&&\u01a5\u01a5\u01a5FFFFF\u01a5\u01a5\u01a5" +
+                    "&&&&&&&&&&&\u01a5\u01a5FFF" +
+                    "&&&&\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5FFF" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&FFFFFFFFFFFF" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&&FFFFFFF" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5FFFF" +
+                    "\u01a5FFFFFFFFFFFFFFF" +
+                    "&&&&&&&&&&&&FFFF" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&FFFFFFFF" +
+                    "&&&&&&&&&&FFFFFF" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&FFFFFFFF" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&&FF" +
+                    "&&FFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "&&&&&&&&&&&&\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5&\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5&\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&FFFFFFFFFFFF" +
+                    "&&&&&&&&&&&&&&FF" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5FFF\u01a5\u01a5\u01a5\u01a5\u01a5FFF" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5FFFFFFFFF" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5FFF" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5FFFFF" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5FFFFFFFFFF" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5FFFFFF" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5FFFFFFFF" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5FFFFFFFFF" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&F&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&FFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "\u038e\u038f\u0390\u0391\u0392\u0393\u0394\u0395\u0396\u0397FFFFFF" +
+                    "\u010f\u0247\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u024c\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u024c\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u0245\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u0248\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u0255\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u0256\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u0256\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u0253\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u024a\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u024a\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u0246\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u024a\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u024a\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u024c\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010fFFFFFFF" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010fFF" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010fFFFFFFFFFFFFFF" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010fFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264" +
+                    "\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264" +
+                    "\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264" +
+                    "\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264" +
+                    "\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264" +
+                    "\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264" +
+                    "\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264" +
+                    "\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264" +
+                    "\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264" +
+                    "\u03d7\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264" +
+                    "\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264" +
+                    "\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264" +
+                    "\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264" +
+                    "\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264" +
+                    "\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264" +
+                    "\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264" +
+                    "\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264" +
+                    "\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264FF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010fFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "F\u00aeFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae" +
+                    "\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae" +
+                    "\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae" +
+                    "\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae" +
+                    "\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae" +
+                    "\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae" +
+                    "[[[[[[[[[[[[[[[[" +
+                    "[[[[[[[[[[[[[[[[" +
+                    "[[[[[[[[[[[[[[[[" +
+                    "[[[[[[[[[[[[[[[[" +
+                    "[[[[[[[[[[[[[[[[" +
+                    "[[[[[[[[[[[[[[[[" +
+                    "[[[[[[[[[[[[[[[[" +
+                    "[[[[[[[[[[[[[[[[" +
+                    "[[[[[[[[[[[[[[[[" +
+                    "[[[[[[[[[[[[[[[[" +
+                    "[[[[[[[[[[[[[[[[" +
+                    "[[[[[[[[[[[[[[[[" +
+                    "[[[[[[[[[[[[[[[[" +
+                    "[[[[[[[[[[[[[[[[" +
+                    "[[[[[[[[[[[[[[[[" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263" +
+                    "\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263" +
+                    "\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263" +
+                    "\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263" +
+                    "\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263" +
+                    "\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263" +
+                    "\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263" +
+                    "\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263\u0263FF" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0001\u0002\u0001\u0003\u0002\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0002\u0002\u0002\u0001" +
+                    "\u0004\u0005\u0005\u0006\u0007\u0006\u0005\u0005\u0008\u0009\u0005\u000b\u000c\u000e\u000c\u000f" +
+                    "\u0010\u0011\u0012\u0013\u0014\u0015\u0016\u0017\u0018\u0019\u000c\u0005\u001a\u001b\u001a\u0005" +
+                    "\u0005\u001c\u001c\u001c\u001c\u001c\u001c\u001c\u001c\u001c\u001c\u001c\u001c\u001c\u001c\u001c" +
+                    "\u001c\u001c\u001c\u001c\u001c\u001c\u001c\u001c\u001c\u001c\u001c\u0008\u0005\u0009\u001d\u001e" +
+                    "\u001d\u001f\u001f\u001f\u001f\u001f\u001f\u001f\u001f\u001f\u001f\u001f\u001f\u001f\u001f\u001f" +
+                    "\u001f\u001f\u001f\u001f\u001f\u001f\u001f\u001f\u001f\u001f\u001f\u0008\u001b\u0009\u001b\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0002\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    " !\u0007\u0007\"\u0007#$%&()\u001b+$," +
+                    "-.02%3$!%5(6789!" +
+                    "::::::;:::::::::" +
+                    ";::::::<;:::::;=" +
+                    ">>????=?>>>?>>??" +
+                    "=?>>???<=>>?>?=?" +
+                    ":?:?:?:?:?:?:?:?" +
+                    ":?:?:?:?:?:?@B:?" +
+                    "@F@B@B:?:?:?:?:?" +
+                    ":?:?FFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "B=BBBBBBBBBBBBBB" +
+                    "B=BBBBBBBBBBBBBB" +
+                    "BBBBBBBBBBBBBBBB" +
+                    "BBBBBBBBBBBBBBBB" +
+                    "BBBBBBBBBBBBBBBB" +
+                    "BBBBBBBBBBBBBBFF" +
+                    "GGGGGGGGGIIJJJJJ" +
+                    "JJIIKIIKIKKKIKII" +
+                    "MJIIIIII%%%%N%IK" +
+                    "GGGGGIIIIIIIIIJF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "OOOOOPOOOOOOOPPO" +
+                    "POPOOQRRRRQSRRRR" +
+                    "RTTUUUUVVRRRRUUR" +
+                    "UURRWWWWXRRRRPPP" +
+                    "YYOYYZPRRRPPPRR[" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "]]\\PPPPPPPPPPPPP" +
+                    "FFFF_IFFFFGFFF`F" +
+                    "FFFFNa:`:::F:F::" +
+                    "?;;;;;;;;;;;;;;;" +
+                    ";;F;;;;;;;::????" +
+                    "?===============" +
+                    "==B=======?????F" +
+                    "33Dbb33B@B@B@B@B" +
+                    "@B@B@B@B@B@B@B@B" +
+                    "333BD3cFFdFFFFFF" +
+                    "@BfggggFhh@B@B@B" +
+                    "@B@B@B@B@B@B@B@B" +
+                    "@B@B@B@B@B@B@B@B" +
+                    "@B@B@B@B@B@B@B@B" +
+                    "@:?@B@B@B@B@B@BF" +
+                    ":?:?@B:?@B:?:?:?" +
+                    "@B:?:?:?@B:?:?:?" +
+                    ":?:?:?FF:?FFFFFF" +
+                    "@B@B@B@B@B@B@B@B" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "F@@@@@@@@@@@@@@@" +
+                    "@@@@@@@@@@@@@@@@" +
+                    "@@@@@@@FFJiiiiii" +
+                    "FBBBBBBBBBBBBBBB" +
+                    "BBBBBBBBBBBBBBBB" +
+                    "BBBBBBB3FijFFFFF" +
+                    "Flgggglgggmlgggg" +
+                    "ggFlllllgglggmng" +
+                    "opqrstuvwxFyz{}~" +
+                    "}\u007f\u0080}gFFFFFFFFFFF" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081" +
+                    "\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081\u0081FFFFF" +
+                    "\u0081\u0081\u0081}}FFFFFFFFFFF" +
+                    "FFFFFFFFFFFF\u0086FFF" +
+                    "FFFFFFFFFFF\u0087FFF\u0087" +
+                    "F\u008c\u008d\u008d\u008d\u008d\u008d\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c" +
+                    "\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008cFFFFF" +
+                    "\u008e\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008f\u0090\u0091\u0088\u0089" +
+                    "\u008a\u0092\u0093\u0094\u0094\u0095FFFFFFFFFF" +
+                    "\u0096\u0097\u0098\u0099\u009a\u009b\u009c\u009d\u009e\u009f\u0084\u00a0\u00a0\u0087\u008c\u008c" +
+                    "\u00a1\u008c\u008c\u008c\u008c\u00a2\u00a2\u00a2\u00a2\u008c\u008c\u008c\u008c\u008c\u008c\u008c" +
+                    "\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c" +
+                    "\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c" +
+                    "\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c" +
+                    "\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c" +
+                    "\u008d\u008c\u008d\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c" +
+                    "\u008c\u008c\u008c\u008d\u0087\u008cggggggg\u008bhg" +
+                    "ggglg\u008e\u008egg&lgglFF" +
+                    "\u00a3\u00a4\u00a5\u00a6\u00a7\u00a8\u00a9\u00aa\u00ab\u00ac\u008c\u008c\u008c\u00ad\u00adF" +
+                    "\u0087\u0087\u0087\u0087\u0087\u0087\u0087\u0087\u0087\u0087\u0087\u0087\u0087\u0087F\u00ae" +
+                    "\u008c\u00af\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c" +
+                    "\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008cFFF" +
+                    "glgglgglllgllglg" +
+                    "gglglglglggFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c" +
+                    "\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c\u008c" +
+                    "\u008c\u008c\u008c\u008c\u008c\u008c\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0" +
+                    "\u00b0\u008cFFFFFFFFFFFFFF" +
+                    "\u00b2\u00b4\u00b6\u00b8\u00ba\u00bc\u00be\u00c0\u00c2\u00c4FFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "F\u00b0\u00b0\u00c9FCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCC\u00caCCCCCC" +
+                    "C\u00caCC\u00caCCCCCFF\u00cbC\u00c9\u00c9" +
+                    "\u00c9\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00c9\u00c9\u00c9\u00c9\u00ccFF" +
+                    "CglggFFF\u00cd\u00cd\u00cd\u00cd\u00cd\u00cd\u00cd\u00cd" +
+                    "CC\u00b0\u00b0ii\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7" +
+                    "iFFFFFFFFFFFFFFF" +
+                    "F\u00b0\u00c9\u00c9FCCCCCCCCFFC" +
+                    "CFFCCCCCCCCCCCCC" +
+                    "CCCCCCCCCFCCCCCC" +
+                    "CFCFFFCCCCFF\u00d8F\u00d9\u00c9" +
+                    "\u00c9\u00b0\u00b0\u00b0\u00b0FF\u00c9\u00c9FF\u00da\u00da\u00ccFF" +
+                    "FFFFFFF\u00d9FFFF\u00cd\u00cdF\u00cd" +
+                    "CC\u00b0\u00b0FF\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7" +
+                    "CCkk\u00db\u00dc\u00dd\u00de\u00df\u00e0fFFFFF" +
+                    "FF\u00b0FFCCCCCCFFFFC" +
+                    "CFFCCCCCCCCCCCCC" +
+                    "CCCCCCCCCFCCCCCC" +
+                    "CFC\u00cdFC\u00cdFCCFF\u00d8F\u00c9\u00c9" +
+                    "\u00c9\u00b0\u00b0FFFF\u00b0\u00b0FF\u00b0\u00b0\u00ccFF" +
+                    "FFFFFFFFF\u00cd\u00cd\u00cdCF\u00cdF" +
+                    "FFFFFF\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7" +
+                    "\u00b0\u00b0CCCFFFFFFFFFFF" +
+                    "F\u00b0\u00b0\u00c9FCCCCCCCFCFC" +
+                    "CCFCCCCCCCCCCCCC" +
+                    "CCCCCCCCCFCCCCCC" +
+                    "CFCCFCCCCCFF\u00d8C\u00c9\u00c9" +
+                    "\u00c9\u00b0\u00b0\u00b0\u00b0\u00b0F\u00b0\u00b0\u00c9F\u00c9\u00c9\u00ccFF" +
+                    "CFFFFFFFFFFFFFFF" +
+                    "CFFFFF\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "F\u00b0\u00c9\u00c9FCCCCCCCCFFC" +
+                    "CFFCCCCCCCCCCCCC" +
+                    "CCCCCCCCCFCCCCCC" +
+                    "CFCCFFCCCCFF\u00d8C\u00d9\u00b0" +
+                    "\u00c9\u00b0\u00b0\u00b0FFF\u00c9\u00daFF\u00da\u00da\u00ccFF" +
+                    "FFFFFF\u00e1\u00d9FFFF\u00cd\u00cdFC" +
+                    "CCFFFF\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7" +
+                    "fFFFFFFFFFFFFFFF" +
+                    "FF\u00b0CFCCCCCCFFFCC" +
+                    "CFCC\u00caCFFFCCFCFCC" +
+                    "FFFCCFFFCCCFFFCC" +
+                    "CCCCCCFCCCFFFF\u00d9\u00c9" +
+                    "\u00b0\u00c9\u00c9FFF\u00c9\u00c9\u00c9F\u00da\u00da\u00da\u00ccFF" +
+                    "FFFFFFF\u00d9FFFFFFFF" +
+                    "FFFFFF\u00b2\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7" +
+                    "\u00e3\u00e4\u00e5FFFFFFFFFFFFF" +
+                    "F\u00c9\u00c9\u00c9FCCCCCCCCFCC" +
+                    "CFCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCFCCCCCC" +
+                    "CCCCFCCCCCFFFF\u00b0\u00b0" +
+                    "\u00b0\u00c9\u00c9\u00c9\u00c9F\u00b0\u00b0\u00e6F\u00b0\u00b0\u00b0\u00ccFF" +
+                    "FFFFF\u00e7\u00e8FFFFFFFFF" +
+                    "CCFFFF\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FF\u00c9\u00c9FCCCCCCCCFCC" +
+                    "CFCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCFCCCCCC" +
+                    "CCCCFCCCCCFFFF\u00c9\u00b0" +
+                    "\u00da\u00c9\u00d9\u00c9\u00c9F\u00b0\u00da\u00daF\u00da\u00da\u00b0\u00ccFF" +
+                    "FFFFF\u00d9\u00d9FFFFFFFCF" +
+                    "CCFFFF\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FF\u00c9\u00c9FCCCCCCCCFCC" +
+                    "CFCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCFCCCCCC" +
+                    "CCCCCCCCCCFFFF\u00d9\u00c9" +
+                    "\u00c9\u00b0\u00b0\u00b0FF\u00c9\u00c9\u00c9F\u00da\u00da\u00da\u00ccFF" +
+                    "FFFFFFF\u00d9FFFFFFFF" +
+                    "CCFFFF\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FF\u00c9\u00c9FCCCCCCCCCCC" +
+                    "CCCCCCCFFFCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCFCCCCCCCCCFCFF" +
+                    "CCCCCCCFFF\u00f5FFFF\u00d9" +
+                    "\u00c9\u00c9\u00b0\u00b0\u00b0F\u00b0F\u00c9\u00c9\u00da\u00c9\u00da\u00da\u00da\u00d9" +
+                    "FFFFFF\u00b2\u00b4\u00b6\u00b8\u00ba\u00bc\u00be\u00c0\u00c2\u00c4" +
+                    "FF\u00c9\u00c9iFFFFFFFFFFF" +
+                    "FCCFCFFCCFCFFCFF" +
+                    "FFFFCCCCFCCCCCCC" +
+                    "FCCCFCFCFFCCFCCC" +
+                    "C\u00b0C\u00f6\u00b0\u00b0\u00b0\u00b0\u00f9\u00f9F\u00b0\u00b0CFF" +
+                    "CCCCCFJF\u00fa\u00fa\u00fa\u00fa\u00b0\u00b0FF" +
+                    "\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7FF\u00f6\u00f6FF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "Cfffiiiiiiii\u00fbiii" +
+                    "iiifffffllffffff" +
+                    "\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7\u00e2\u00fc\u00fd\u00fe\u00ff\u0100" +
+                    "\u0101\u0102\u0103\u0104flflf\u0105\u0107\u0109\u0107\u0109\u00c9\u00c9" +
+                    "CCC\u00cdCCCCFCCCC\u00cdCC" +
+                    "CC\u00cdCCCC\u00cdCCCC\u00cdCCC" +
+                    "CCCCCCCCC\u00cdCFFFFF" +
+                    "F\u010a\u010b\u010c\u010d\u010c\u010c\u010e\u010c\u010e\u010b\u010b\u010b\u010b\u00b0\u00c9" +
+                    "\u010b\u010cgg\u00cciggCCCCFFFF" +
+                    "\u00b0\u00b0\u00b0\u010c\u00b0\u00b0\u00b0\u00b0F\u00b0\u00b0\u00b0\u00b0\u010c\u00b0\u00b0" +
+                    "\u00b0\u00b0\u010c\u00b0\u00b0\u00b0\u00b0\u010c\u00b0\u00b0\u00b0\u00b0\u010c\u00b0\u00b0\u00b0" +
+                    "\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u010c\u00b0\u00b0\u00b0Fff" +
+                    "fffffflffffffFFf" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCFCCC\u00caCFCCF\u00c9\u00b0\u00e1\u00b0" +
+                    "\u00b0\u00c9\u00b0FFF\u00b0\u00d8\u00c9\u00ccFFFFFF" +
+                    "\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7iiiiii" +
+                    "CCCCCC\u00c9\u00c9\u00b0\u00b0FFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "\u00b2\u00b4\u00b6\u00b8\u00ba\u00bc\u00be\u00c0\u00c2\u00c4FFFFFF" +
+                    "@@@@@@@@@@@@@@@@" +
+                    "@@@@@@@@@@@@@@@@" +
+                    "@@@@@@FFFFFFFFFF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCFFidFFF" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010fFFFFF\u010f" +
+                    "C\u0110\u0110\u0110\u0110\u0110\u0110\u0110\u0110\u0110\u0110\u0110\u0110\u0110\u0110\u0110" +
+                    "\u0110\u0110\u0110\u0110\u0110\u0110CCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCFFFFF\u0110\u0110\u0110\u0110\u0110\u0110\u0110\u0110" +
+                    "\u0110\u0110\u0110\u0110\u0110\u0110\u0110\u0110\u0110\u0110\u0110\u0110\u0110\u0110\u0110\u0110" +
+                    "\u0110\u0110\u0110CCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCFFFFFF" +
+                    "CCCCCCCFCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCFCFCCCCFF" +
+                    "CCCCCCCFCFCCCCFF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCFCFCCCCFF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCF" +
+                    "CFCCCCFFCCCCCCCF" +
+                    "CFCCCCFFCCCCCCCF" +
+                    "CCCCCCCFCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCF" +
+                    "CFCCCCFFCCCCCCCF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCFCCCCCCCC" +
+                    "CCCCCCCCCCCFFFFF" +
+                    "Fiiiiiiii\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5" +
+                    "\u00d6\u00d7\u00e3\u011a\u011b\u011c\u011d\u011e\u011f\u0120\u0121\u00e4\u0122FFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCFFFFFFFFFFF" +
+                    "FCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCiiC" +
+                    "CCCCCCCFFFFFFFFF" +
+                    "\u0123CCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCC\u0107\u0109FFF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCiii\u0124\u0125" +
+                    "\u0126FFFFFFFFFFFFFFF" +
+                    "CCCCCCCCCCCCCFCC" +
+                    "CC\u00b0\u00b0\u00ccFFFFFFFFFFF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CC\u00b0\u00b0\u00cciiFFFFFFFFF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CC\u00b0\u00b0FFFFFFFFFFFF" +
+                    "CCCCCCCCCCCCCFCC" +
+                    "CF\u00b0\u00b0FFFFFFFFFFFF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCC\u00c9\u00c9\u00c9\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00c9\u00c9" +
+                    "\u00c9\u00c9\u00c9\u00c9\u00c9\u00c9\u00b0\u00c9\u00c9\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0\u00b0" +
+                    "\u00b0\u00b0\u00cc\u00b0iiiJiiikCFFF" +
+                    "\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7FFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "\u00c6\u00c6\u00c6\u00c6\u00c6\u00c6j\u00c6\u00c6\u00c6\u00c6\u00b0\u00b0\u00b0\u00aeF" +
+                    "\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7FFFFFF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCJCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCFFFFFFFF" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCnFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFF\u00b2\u00b4\u00b6\u00b8\u00ba\u00bc\u00be\u00c0\u00c2\u00c4" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "\u00b2\u00b4\u00b6\u00b8\u00ba\u00bc\u00be\u00c0\u00c2\u00c4\u00b4FFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "\u00b2\u00b4\u00b6\u00b8\u00ba\u00bc\u00be\u00c0\u00c2\u00c4FFFFFF" +
+                    "\u00b2\u00b4\u00b6\u00b8\u00ba\u00bc\u00be\u00c0\u00c2\u00c4FFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFF\u012eF\u012eF\u012eF\u012eF\u012eF" +
+                    "FF\u012eFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFF\u012fFFFFF\u012eF\u012eFF" +
+                    "\u012e\u012eF\u012eFFFFFFFFFFFF" +
+                    "\u00b2\u00b4\u00b6\u00b8\u00ba\u00bc\u00be\u00c0\u00c2\u00c4FFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "\u00b2\u00b4\u00b6\u00b8\u00ba\u00bc\u00be\u00c0\u00c2\u00c4FFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "\u00b2\u00b4\u00b6\u00b8\u00ba\u00bc\u00be\u00c0\u00c2\u00c4FFFFFF" +
+                    "\u00b2\u00b4\u00b6\u00b8\u00ba\u00bc\u00be\u00c0\u00c2\u00c4FFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFdddF" +
+                    "dddddddddddFdddd" +
+                    "ddddddddddddddFd" +
+                    "dddddddddddddddd" +
+                    "dddddddddddFFFFF" +
+                    "FFFFFFFFdFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFddddd" +
+                    "dddddddddddddddd" +
+                    "dddddddddddddddd" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    ":?:?:?:?:?:?:?:?" +
+                    ":?:?:?????3\u0137FFFF" +
+                    ":?:?:?:?:?:?:?:?" +
+                    ":?:?:?:?:?:?:?:?" +
+                    ":?:?:?:?:?:?:?:?" +
+                    ":?:?:?:?:?:?:?:?" +
+                    ":?:?:?:?:?:?:?:?" +
+                    ":?:?:?:?:?FFFFFF" +
+                    "\u013b\u013b\u013c\u013c\u013c\u013c\u013c\u013c\u013c\u013c\u013c\u013d\u00ae\u00ae\u013e\u013f" +
+                    "+\u0140j+++!\u0141\u0142\u0143\u0107\u0144\u0142\u0143\u0107\u0144" +
+                    "!!!\u00c6\u0145\u0145\u0145!\u0146\u0147\u0148\u0149\u014a\u014b\u014c\u013c" +
+                    "\u014d\u0084\u014d\u014e\u014f!\u0141\u0141\u00c6)6!\u0141\u00c6\u0145\u0150" +
+                    "\u0150\u00c6\u00c6\u00c6c\u0106\u0108\u0141\u0141\u0141\u00c6\u00c6\u00c6\u00c6\u00c6\u00c6" +
+                    "\u00c6\u00c6cFFFF\u0141FFFFFFF\u013c" +
+                    "\u00ae\u00ae\u00ae\u00aeFFFFFF\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae" +
+                    "\u01573FF\u0159\u015b\u015d\u015f\u0161\u0163\u0165\u0165\u0166\u0167\u0168(" +
+                    "\u015750",
+                    "2\u0159\u015b\u015d\u015f\u0161\u0163\u0165\u0165\u0166\u0167\u0168Fddd" +
+                    "ddddddddddFFFkkk" +
+                    "kkkkk\u016a\u016bkk\"kkkkkF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFgg\u0130" +
+                    "\u0130gggg\u0130\u0130\u0130gghhhhgh" +
+                    "hh\u0130\u0130glg\u0130FFFFFFFF" +
+                    "FFFFFFFFFFFFF\u016c\u016cD" +
+                    "\u016d&\u016d\u016cD&\u016d3DDD33DDD" +
+                    "(&D\u016d&&DDDDD&&\u016c\u016d\u016d" +
+                    "&D&\u016e&D&\u013a\u016eDD\u016f3DD&" +
+                    "D3\u00f6\u00f6\u00f6\u00f63&dd3DD\u0170cc" +
+                    "ccD3333&cFFFFddd" +
+                    "\u0174\u0175\u0176\u0177\u0178\u0179\u017a\u017b\u017c\u017d\u017e\u017f\u0180\u0181\u0182\u0183" +
+                    "\u0184\u0185\u0186\u0187\u0188\u0189\u018a\u018b\u018c\u018d\u018e\u018f\u0190\u0181\u0182\u0183" +
+                    "\u0184\u0185\u0186\u0187\u0188\u0189\u018a\u0191\u0192\u018d\u018e\u018f\u0190\u0193\u0194\u0195" +
+                    "\u0196FFFFFdFFFFFF<<<" +
+                    "<<$$$$$\u019c\u019c&&&&c&&" +
+                    "c&&c&&&&&&&\u019c&&&&" +
+                    "&&&&&$$&&&&&&&&&" +
+                    "&&&&&&&&&&\u019d\u019c\u019c&&<" +
+                    "&<&&&&&&&&&&&&&&" +
+                    "&&&&$&&&&&&&&&&&" +
+                    "&cccccccccccc<\u019e\u019f" +
+                    "\u019f\u01a0cc<\u019f\u01a0\u019e\u019f\u01a0\u019ec<c\u019f\u01a2" +
+                    "\u01a2c\u019f\u019eccc\u019f\u019e\u019e\u019f<\u019f\u019f\u019e\u019e" +
+                    "<\u01a0<\u01a0<<<<\u019f\u01a3\u0170\u019f\u0170\u0170\u019e\u019e" +
+                    "\u019e<<<<c\u019ec\u019e\u019f\u019f\u019e\u019e\u019e\u01a0\u019e" +
+                    "\u019e\u01a0\u019e\u019e\u01a0\u019f\u01a0\u019e\u019e\u019fccccc\u019f" +
+                    "\u019e\u019e\u019eccccccccc\u019e\u01a4<\u01a0" +
+                    "c\u019f\u019f\u019f\u019f\u019e\u019e\u019f\u019fc\u019c\u01a4\u01a4\u01a0\u01a0\u019e" +
+                    "\u019e\u01a0\u01a0\u019e\u019e\u01a0\u01a0\u019e\u019e\u019e\u019e\u019e\u019e&&&" +
+                    "&&&&&\u019e\u019e\u019e\u019e&&&&&&$" +
+                    "&&&&&&&&&&&&&\u019e\u019e&" +
+                    "&&&&&&\u01a6\u01a7&&&&&&&&" +
+                    "&&&fffffffffffff" +
+                    "ffffffffffffffff" +
+                    "ffffffffffffffff" +
+                    "ffffffffffffffff" +
+                    "ffffffff&c&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&f&&&&&cccccccc" +
+                    "cccccccccccccccc" +
+                    "c\u0107\u0109\u00c6&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&FFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFF&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&FFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFF&&&" +
+                    "&&&&&&&&FFFFFFFF" +
+                    "FFFFFFFFFFFFF4/1" +
+                    "\u0158\u01ad\u01af\u01b1\u01b3\u01b5\u01b7\u01b9\u01bb\u01bd\u01bf\u01c1\u01c3\u01c5\u01c7\u01c9" +
+                    "\u01cb4/1\u0158\u01ad\u01af\u01b1\u01b3\u01b5\u01b7\u01b9\u01bb\u01bd\u01bf\u01c1" +
+                    "\u01c3\u01c5\u01c7\u01c9\u01cb4/1\u0158\u01ad\u01af\u01b1\u01b3\u01b5\u01b7\u01b9" +
+                    "\u01bb\u01bd\u01bf\u01c1\u01c3\u01c5\u01c7\u01c9\u01cb\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc" +
+                    "\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc" +
+                    "\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc" +
+                    "\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc" +
+                    "\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc" +
+                    "\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u01cc\u0156\u01ce\u01cf\u01d0\u01d1\u01d2\u01d3\u01d4\u01d5" +
+                    "\u01d6\u01d7\u01d8\u01d9\u01da\u01db\u01dc\u01dd\u01de\u01df\u01e0\u01e1\u00b2$$$" +
+                    "$$$$$$$$$$$$$&&$" +
+                    "$$$&&&&&&&&&&$$&" +
+                    "$$$$$$$&&&&&&&&$" +
+                    "$&&$<&&&&$$&&$<&" +
+                    "&&&$$$&&$&&$$$$&" +
+                    "&&&&&&&&&&&&&&&$" +
+                    "$$$&&&&&&&&&$&&&" +
+                    "&&&&&cccccccc&&&" +
+                    "&&$$&&$&&&&$$&&&" +
+                    "&FF&&F&&&$&$&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&$&$" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&$$&" +
+                    "$$$&$$$$&$$&<&&&" +
+                    "&&&&&&&&&&&FF&&&" +
+                    "&&&&&&&FFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFF&&" +
+                    "&&F&&&&FF&&&&&&&" +
+                    "&&&&&&&&&&&&&&&&" +
+                    "&&&&&F&&&&&&&&&&" +
+                    "&&&&&&&&&&$&&&&&" +
+                    "&&&&&&&&&F&F&&&&" +
+                    "FFF&F&&&&&&&FF&&" +
+                    "&&&&&\u0106\u0108\u0106\u0108\u0106\u0108\u0106\u0108\u0106\u0108\u0106" +
+                    "\u0108\u0106\u0108\u01d8\u01d9\u01da\u01db\u01dc\u01dd\u01de\u01df\u01e0\u01e1\u01e4\u01e5\u01e6" +
+                    "\u01e7\u01e8\u01e9\u01ea\u01eb\u01ec\u01ed\u01e4\u01e5\u01e6\u01e7\u01e8\u01e9\u01ea\u01eb\u01ec" +
+                    "\u01ed&FFF&&&&&&&&&&&" +
+                    "&&&&&&&&&&&&&F&&" +
+                    "&&&&&&&&&&&&FFFF" +
+                    "FFFFFFFFFFFFFccc" +
+                    "\u019e\u019e\u019e\u019eccccc\u019e\u019e\u019eccc\u019e" +
+                    "\u019e\u019e\u019e\u0008\u0009\u0008\u0009\u0008\u0009FFFFccc" +
+                    "cccccccccccccccc" +
+                    "\u0106\u0108\u0008\u0009\u0106\u0108\u0106\u0108\u0106\u0108\u0106\u0108\u0106\u0108\u0106\u0108" +
+                    "\u0106\u0108\u0106\u0108\u0106\u0108cc\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e" +
+                    "\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019e\u019eccc" +
+                    "ccccc\u019eccccccc\u019e\u019e\u019e" +
+                    "\u019e\u019e\u019eccc\u019ecccc\u019e\u019e\u019e\u019e\u019e" +
+                    "c\u019e\u019ecc\u0106\u0108\u0106\u0108\u019ecccc\u019ec" +
+                    "\u019e\u019e\u019ecc\u019e\u019eccccccccc" +
+                    "c\u019e\u019e\u019e\u019e\u019e\u019ecc\u0106\u0108ccFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFddFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFdFFF" +
+                    "FFFFFFFFFFFFF\u01f2\u01f3\u01f3" +
+                    "\u01f3\u01a5\u01f4\u010f\u01f5\u01f6\u01f7\u01f6\u01f7\u01f6\u01f7\u01f6\u01f7\u01f6\u01f7\u01a5" +
+                    "\u01a5\u01f6\u01f7\u01f6\u01f7\u01f6\u01f7\u01f6\u01f7\u01f8\u01f9\u01fa\u01fa\u01a5\u01fb\u01fc" +
+                    "\u01fd\u01fe\u01ff\u0200\u0201\u0202\u0203\u0204\u0205\u0206\u0207\u0209\u0209\u01f8\u01f4\u01f4" +
+                    "\u01f4\u01f4\u01f4\u01f1\u01a5\u020a\u020b\u020c\u01f4\u010f\u01f3\u01a5&F\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u020d\u010f\u020d\u010f\u020d\u010f\u020d" +
+                    "\u010f\u020d\u010f\u020d\u010f\u020d\u010f\u020d\u010f\u020d\u010f\u020d\u010f\u020d\u010f\u020d" +
+                    "\u010f\u010f\u020d\u010f\u020d\u010f\u020d\u010f\u010f\u010f\u010f\u010f\u010f\u020d\u020d\u010f" +
+                    "\u020d\u020d\u010f\u020d\u020d\u010f\u020d\u020d\u010f\u020d\u020d\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u020d\u010f\u010fFF\u020e\u020e\u020f\u020f\u01f4\u0210\u0211\u01f8\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u020d\u010f\u020d\u010f\u020d\u010f\u020d" +
+                    "\u010f\u020d\u010f\u020d\u010f\u020d\u010f\u020d\u010f\u020d\u010f\u020d\u010f\u020d\u010f\u020d" +
+                    "\u010f\u010f\u020d\u010f\u020d\u010f\u020d\u010f\u010f\u010f\u010f\u010f\u010f\u020d\u020d\u010f" +
+                    "\u020d\u020d\u010f\u020d\u020d\u010f\u020d\u020d\u010f\u020d\u020d\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u020d\u010f\u010f\u020d\u020d\u020d\u020d\u0212\u01f4\u01f4\u0210\u0211FFF" +
+                    "FF\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010fFFFF\u0211\u0211" +
+                    "\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211" +
+                    "\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211" +
+                    "\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211" +
+                    "\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211" +
+                    "\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211" +
+                    "\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211\u0211F\u0213\u0213\u0214" +
+                    "\u0215\u0216\u0217\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010fFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFF\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u0218\u0218\u0218" +
+                    "\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218" +
+                    "\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218ddF\u0214\u0215\u0216" +
+                    "\u0217\u0219\u021a\u021b\u021c\u021d\u021e\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218" +
+                    "\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218" +
+                    "\u0218ddddFFFFFFFFd\u0227\u0228" +
+                    "\u0229\u022a\u022b\u022c\u022d\u022e\u022f\u0230\u0231\u0232\u0233\u0234\u0235\u0218\u0218\u0218" +
+                    "\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218" +
+                    "\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218ddd\u0213\u0214\u0215\u0216" +
+                    "\u0217\u0219\u021a\u021b\u021c\u021d\u021e\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218" +
+                    "\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218" +
+                    "\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0236\u0237" +
+                    "\u0238\u0239\u023a\u023b\u023c\u023d\u023e\u023f\u0240\u0241\u0242\u0243\u0244\u0218\u0218\u0218" +
+                    "\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218dddd\u0218\u0218\u0218" +
+                    "\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218" +
+                    "\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218" +
+                    "\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218d\u0218\u0218\u0218" +
+                    "\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218" +
+                    "\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218" +
+                    "\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218" +
+                    "\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218" +
+                    "\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218" +
+                    "\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218" +
+                    "\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218" +
+                    "\u0218\u0218\u0218\u0218dddd\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218" +
+                    "\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218" +
+                    "\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218" +
+                    "\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218" +
+                    "\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218" +
+                    "\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218" +
+                    "\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218dd\u0218\u0218\u0218" +
+                    "\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218" +
+                    "\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218\u0218d\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010fFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFF\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010fFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFF\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010fFFF\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5\u01a5" +
+                    "\u01a5\u01a5\u01a5\u01a5FFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFF\u00b2\u00b4\u00b6" +
+                    "\u00b8\u00ba\u00bc\u00be\u00c0\u00c2\u00c4FFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFddFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFdFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFd" +
+                    "ddFFFddFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFF\u00b2\u00b4\u00b6" +
+                    "\u00b8\u00ba\u00bc\u00be\u00c0\u00c2\u00c4FFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFF\u00b2\u00b4\u00b6" +
+                    "\u00b8\u00ba\u00bc\u00be\u00c0\u00c2\u00c4FFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFF\u00b2\u00b4\u00b6" +
+                    "\u00b8\u00ba\u00bc\u00be\u00c0\u00c2\u00c4FFFFFFFFF" +
+                    "FFFFFFFFFFFFF\u00b2\u00b4\u00b6" +
+                    "\u00b8\u00ba\u00bc\u00be\u00c0\u00c2\u00c4FFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFddddFFF" +
+                    "FFFFFFdFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFF\u00b2\u00b4\u00b6" +
+                    "\u00b8\u00ba\u00bc\u00be\u00c0\u00c2\u00c4FFFFFF\u020d\u020d\u020d" +
+                    "\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d" +
+                    "\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d\u020d" +
+                    "\u020dFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFF\u0264\u0264\u0264" +
+                    "\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u010f\u010f\u0264\u010f\u0264" +
+                    "\u010f\u010f\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u010f\u0264\u010f\u0264" +
+                    "\u010f\u010f\u0264\u0264\u010f\u010f\u010f\u0264\u0264\u0264\u0264\u026a\u026a\u0264\u0264\u0264" +
+                    "\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264" +
+                    "\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264" +
+                    "\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264" +
+                    "\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u0264\u026a\u026a\u026aFF\u026a\u026a\u026a" +
+                    "\u026a\u026a\u026a\u026a\u026a\u026a\u026a\u026a\u026a\u026a\u026a\u026a\u026a\u026a\u026a\u026a" +
+                    "\u026a\u026a\u026a\u026a\u026a\u026a\u026a\u026a\u026a\u026a\u026a\u026a\u026a\u026a\u026a\u026a" +
+                    "\u026a\u026a\u026a\u026a\u026a\u026a\u026a\u026a\u026a\u026a\u026a\u026a\u026a\u026a\u026a\u026a" +
+                    "\u026a\u026a\u026a\u026a\u026a\u026a\u026a\u026a\u026a\u026a\u026a\u026a\u026a\u026a\u026a\u026a" +
+                    "\u026a\u026a\u026a\u026a\u026a\u026a\u026a\u026a\u026a\u026a\u026a\u026a\u026a\u026a\u026a\u026a" +
+                    "\u026a\u026a\u026a\u026a\u026a\u026a\u026a\u026a\u026a\u026a\u026a\u026a\u026a\u026a\u026a\u026a" +
+                    "\u026a\u026a\u026a\u026a\u026a\u026a\u026aFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFF333" +
+                    "3333FFFFFFFFFFFF" +
+                    "33333FFFFF\u026b\u026c\u026b\u026d\u026d\u026d" +
+                    "\u026d\u026d\u026d\u026d\u026d\u026d\u0165\u026b\u026b\u026b\u026b\u026b\u026b\u026b\u026b\u026b" +
+                    "\u026b\u026b\u026b\u026bF\u026b\u026b\u026b\u026b\u026bF\u026bF\u026b\u026bF" +
+                    "\u026b\u026bF\u026b\u026b\u026b\u026b\u026b\u026b\u026b\u026b\u026b\u026d\u00a2\u00a2\u00a2" +
+                    "\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2" +
+                    "\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2" +
+                    "\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2" +
+                    "\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2" +
+                    "\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2" +
+                    "\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2F" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2" +
+                    "\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2" +
+                    "\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2" +
+                    "\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2" +
+                    "\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2" +
+                    "\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2" +
+                    "\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u0107\u0109FFF" +
+                    "FFFFFFFFFFFFF\u00a2\u00a2\u00a2" +
+                    "\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2" +
+                    "\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2" +
+                    "\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2" +
+                    "\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2FF\u00a2" +
+                    "\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2" +
+                    "\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2" +
+                    "\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2" +
+                    "\u00a2\u00a2\u00a2\u00a2\u00a2FFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFF\u00a2\u00a2\u00a2" +
+                    "\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u026eFFF[[[" +
+                    "[[[[[[[[[[[[[ddd" +
+                    "dddddddFFFFFFggg" +
+                    "gFFFFFFFFFFFF\u026f\u0272\u0272" +
+                    "\u0273\u0273\u0270\u0271\u0270\u0271\u0270\u0271\u0270\u0271\u0270\u0271\u0270\u0271\u0270\u0271" +
+                    "\u0270\u0271\u01f3\u01f3dd\u026f\u026f\u026f\u026f\u0273\u0273\u0273\u0274\u026f\u0274" +
+                    "F\u026f\u0274\u026f\u026f\u0272\u0270\u0271\u0270\u0271\u0270\u0271\u0277\u026f\u026f\u0279" +
+                    "\u027b\u027d\u027d\u027dF\u026f\u027e\u0277\u026fFFFF\u00a2\u00a2\u00a2" +
+                    "\u008c\u00a2F\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2\u00a2F\u027f\u027f" +
+                    "\u0280\u0281\u0280\u027f\u027f\u0282\u0283\u027f\u0285\u0286\u0288\u0286\u0289\u028a\u028b\u028c" +
+                    "\u028d\u028e\u028f\u0290\u0291\u0292\u0293\u0286\u027f\u0294\u0295\u0294\u027f\u027f\u0296\u0296" +
+                    "\u0296\u0296\u0296\u0296\u0296\u0296\u0296\u0296\u0296\u0296\u0296\u0296\u0296\u0296\u0296\u0296" +
+                    "\u0296\u0296\u0296\u0296\u0296\u0296\u0296\u0296\u0282\u027f\u0283\u0297\u0298\u0297\u0299\u0299" +
+                    "\u0299\u0299\u0299\u0299\u0299\u0299\u0299\u0299\u0299\u0299\u0299\u0299\u0299\u0299\u0299\u0299" +
+                    "\u0299\u0299\u0299\u0299\u0299\u0299\u0299\u0299\u0282\u0295\u0283\u0295\u0282\u0283\u029a\u029b" +
+                    "\u029c\u029a\u029d\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029f\u029e\u029e" +
+                    "\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e" +
+                    "\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e" +
+                    "\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029f\u029f\u029e\u029e\u029e" +
+                    "\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e" +
+                    "\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029e\u029eFFF\u029e" +
+                    "\u029e\u029e\u029e\u029e\u029eFF\u029e\u029e\u029e\u029e\u029e\u029eFF\u029e" +
+                    "\u029e\u029e\u029e\u029e\u029eFF\u029e\u029e\u029eFFF\u0281\u0281\u0295" +
+                    "\u0297\u02a0\u0281\u0281F\u02a1\u02a2\u02a2\u02a2\u02a2\u02a1\u02a1FFFF" +
+                    "FFFFFF\u00ae\u00ae\u00ae&$FFCCC" +
+                    "CCCCCCCCCCCCCCCC" +
+                    "CCCCCCCCCCCCF\u02a4\u02a8\u00e3" +
+                    "\u011dFFFFFFFFFFFFCCC" +
+                    "CCCCCCCCCCCCCC\u02f3C" +
+                    "CCCCCCC\u02f4FFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFF@@@" +
+                    "@@@@@@@@@@@@@@@@" +
+                    "@@@@@@@@@@@@@@@@" +
+                    "@@@FFBBBBBBBBBBB" +
+                    "BBBBBBBBBBBBBBBB" +
+                    "BBBBBBBBBBBFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFdd" +
+                    "dddFdddddddddddd" +
+                    "dddddddddddddddd" +
+                    "ddddddddddddddFd" +
+                    "ddddddddFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFF\u00b4\u00b6\u00b8" +
+                    "\u00baFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFF\u00b4\u00b6\u00b8" +
+                    "\u00ba\u00bc\u00be\u00c0\u00c2\u00c4FFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFF\u00b4" +
+                    "\u00b6\u00b8\u00ba\u00bc\u00be\u00c0\u00c2\u00c4FFFFFFFF" +
+                    "FFF\u00b2\u00b4\u00b6\u00b8\u00ba\u00bc\u00be\u00c0\u00c2\u00c4FFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFF\u012eF\u012eFFFFFF" +
+                    "FFFFFFFF\u012eFFFFFFF" +
+                    "FFFFFFF\u012fFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFF\u00b2\u00b4\u00b6" +
+                    "\u00b8\u00ba\u00bc\u00be\u00c0\u00c2\u00c4FFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFF\u012fFFFFFF\u012e\u012eFFF" +
+                    "FFF\u00b2\u00b4\u00b6\u00b8\u00ba\u00bc\u00be\u00c0\u00c2\u00c4FFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFF\u012fFFFF" +
+                    "FFFFFFFF\u012e\u012eFFFFFF" +
+                    "FFFF\u012fFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFF\u012fFF" +
+                    "FFFFFFF\u012f\u012e\u012e\u012f\u012eFFFF" +
+                    "FFFFFFFFFFFFF\u00b2\u00b4\u00b6" +
+                    "\u00b8\u00ba\u00bc\u00be\u00c0\u00c2\u00c4FFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFF\u012fFFF" +
+                    "FFFFFFF\u012e\u012eFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFF\u00b2\u00b4\u00b6" +
+                    "\u00b8\u00ba\u00bc\u00be\u00c0\u00c2\u00c4FFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFF\u00b2\u00b4\u00b6" +
+                    "\u00b8\u00ba\u00bc\u00be\u00c0\u00c2\u00c4FFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFF\u012fFF" +
+                    "FFFFF\u012eFFFFFFFFFF" +
+                    "FFFFFFFFFFFFF\u00b2\u00b4\u00b6" +
+                    "\u00b8\u00ba\u00bc\u00be\u00c0\u00c2\u00c4FFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFfff" +
+                    "ffffffffffffffff" +
+                    "ffffffffffffffff" +
+                    "ffffFFFfffffffff" +
+                    "ffffffffffffffff" +
+                    "ffffffffffffffff" +
+                    "fffffffffff\u038a\u038a\u038a\u038a\u038a" +
+                    "\u038a\u038a\u038b\u038b\u0130\u0130\u0130fff\u038c\u038b\u038b\u038b\u038b\u038b" +
+                    "\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae\u00ae\u00aellllllll" +
+                    "ffgggggllfffffff" +
+                    "ffffffffffffffff" +
+                    "fffffffggggfffff" +
+                    "ffffffff\u038a\u038a\u038a\u038a\u038a\u038aff" +
+                    "ffffffffffffffff" +
+                    "fffffffffffFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFDD3" +
+                    "3333333333333333" +
+                    "333333333DFDDFFD" +
+                    "FFDDFFDDDDFDDDDD" +
+                    "DDD3333F3F3333d3" +
+                    "3F33333333333DDD" +
+                    "DDDDDDDDDDDDDDDD" +
+                    "DDDDDDD333333333" +
+                    "3333333333333DDD" +
+                    "DDDDDDD333333333" +
+                    "3333333333333333" +
+                    "3ddFFDDDDDDDDDDD" +
+                    "DDDDDDDDDDDDDD\u038d3" +
+                    "3333333333333333" +
+                    "33333333\u038d333333D" +
+                    "DDDDDDDDDDDDDDDD" +
+                    "DDDDDDDD\u038d3333333" +
+                    "3333333333333333" +
+                    "33\u038d333333DDDDDDD" +
+                    "DDDDDDDDDDDDDDDD" +
+                    "DD\u038d3333333333333" +
+                    "333333333333\u038d333" +
+                    "333DDDDDDDDDDDDD" +
+                    "DDDDDDDDDDDD\u038d333" +
+                    "3333333333333333" +
+                    "333333\u038d333333DDD" +
+                    "DDDDDDDDDDDDDDDD" +
+                    "DDDDDD\u038d333333333" +
+                    "3333333333333333" +
+                    "\u038d333333ddFF\u038e\u038f\u0390\u0391\u0392" +
+                    "\u0393\u0394\u0395\u0396\u0397\u038e\u038f\u0390\u0391\u0392\u0393\u0394\u0395\u0396\u0397\u038e" +
+                    "\u038f\u0390\u0391\u0392\u0393\u0394\u0395\u0396\u0397\u038e\u038f\u0390\u0391\u0392\u0393\u0394" +
+                    "\u0395\u0396\u0397\u038e\u038f\u0390\u0391\u0392\u0393\u0394\u0395\u0396\u0397ddd" +
+                    "dFdddddddddddddd" +
+                    "dddddddddddddFdd" +
+                    "FdFFdFdddddddddd" +
+                    "FddddFdFdFFFFFFd" +
+                    "FFFFdFdFdFdddFdd" +
+                    "FdFFdFdFdFdFdFdd" +
+                    "FdFFddddFddddddd" +
+                    "FddddFddddFdFddd" +
+                    "dddddddFdddddddd" +
+                    "dddddddddFFFFFdd" +
+                    "dFdddddFdddddddd" +
+                    "dddddddddFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFF\u03ca\u03ca\u03cb" +
+                    "\u03cc\u03cd\u03ce\u03cf\u03d0\u03d1\u03d2\u03d3FFFFFddd" +
+                    "dddddddddddddddd" +
+                    "ddddddddddddFddd" +
+                    "dddddddddddddddd" +
+                    "dddddddddddddFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFdddFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFdFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFddd" +
+                    "FFFFFFFFFFFFFddd" +
+                    "dddddddddddddddd" +
+                    "dddddddddddddddd" +
+                    "dddddddddFFFFddd" +
+                    "ddddddFFFFFFFddF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFF\u03ca\u03cb\u03cc" +
+                    "\u03cd\u03ce\u03cf\u03d0\u03d1\u03d2\u03d3FFFFFF\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f\u010f" +
+                    "\u010f\u010f\u010f\u010fFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFFFFF" +
+                    "FFFFFFFFFFFFF"
+    };
+
+    static final String[] RECORDS = {
+                    "\u0000\u0000\u0000\u15ed\u0000\u0000\u0000\u162d\u0000\u0000\u0000\u160d\u0000\u0000\u0000\u164d" +
+                    "\u0000\u0000\u0000\u0e4a\u0000\u0000\u0000\u0e7a\u0000\u0000\u0000\u0d7a\u0000\u0000\u0000\u0d7c" +
+                    "\u0000\u0000\u0000\u2e76\u0000\u0000\u0000\u2e77\u0000\u0000\u0000\u0d5b\u0000\u0000\u0000\u0d7b" +
+                    "\u0000\u0000\u0000\u0dba\u0000\u0000\u0000\u0d55\u0000\u0000\u0000\u0d75\u0000\u0000\u0000\u0d5a" +
+                    "\u0000D\u4000\u0d27\u0000\u0088\u8000\u0d27\u0000\u00cc\uc000\u0d27\u0000\u0111\u0000\u0d27" +
+                    "\u0000\u0155\u4000\u0d27\u0000\u0199\u8000\u0d27\u0000\u01dd\uc000\u0d27\u0000\u0222\u0000\u0d27" +
+                    "\u0000\u0266\u4000\u0d27\u0000\u02aa\u8000\u0d27\u0000\u0000\u0000\u2e7b\u0000\u0000\u0000\u0e7b" +
+                    "\u0000\u0000\u0000\u0c21\u0000\u0000\u0000\u0e7d\u0000\u0000\u0000\u0e74\u0000\u0000\u0000\u0c22" +
+                    "\u0000\u0000\u2200\u15aa\u0000\u0000\u0000\u127a\u0000\u0000\u0000\u117c\u0000\u0000\u0000\u0e7e" +
+                    "\u0000\u0000\u0000\u127e\u0000\u0000\u2200\u127d\u0000\u0000\u0000\u167e\u0000\u0000\u2200\u1033" +
+                    "\u0000\u0000\u2200\u1022\u0000\u0000\u0000\u3678\u0000\u0000\u0000\u11ee\u0000\u0000\u0000\u1275" +
+                    "\u0000\u0000\u2200\u0e7d\u0000\u0000\u0000\u117e\u0000\u0000\u0000\u117b\u0000\u00cc\u2200\u1129" +
+                    "\u0000\u00cc\ue200\u1129\u0000\u0110\u2200\u1129\u0000\u0111\u2200\u1129\u0000\u0000\u2200\u1422" +
+                    "\u0000\u0088\u2200\u1129\u0000\u0088\ua200\u1129\u0000\u0000\u0000\u3679\u0000\u02c0\u2200\u1269" +
+                    "\u0000\u0300\u2200\u1269\u0000\u0340\u2200\u1269\u0000\u0000\u0280\u1421\u0000\u0000\u0000\u1021" +
+                    "\u0000\u0000\u0000\u127b\u0000\u0000\u0000\u1022\u0000\u0000\u0280\u1022\u0000\u0000\u0280\u1422" +
+                    "\u0000\u0000\u0000\u1421\u0000\u0000\u2200\u1021\u0000\u0000\u0000\u1422\u0000\u0000\u0000\u1433" +
+                    "\u0000\u0000\u2200\u1421\u0000\u0000\u2200\u1423\u0000\u0000\u0000\u0000\u0000\u0000\u2200\u1432" +
+                    "\u0000\u0000\u0000\u1672\u0000\u0000\u0000\u167d\u0000\u0000\u0000\u1432\u0000\u0000\u0000\u127d" +
+                    "\u0000\u0000\u0000\u1272\u0000\u0000\u0000\u1032\u0000\u0000\u2200\u167d\u0000\u0000\u1439\u91c4" +
+                    "\u0000\u00009\u91c4\u0000\u0000:\u11c4\u0000\u00007\u11c4\u0000\u0000\u1436\u11c4" +
+                    "\u0000\u00002\u91c4\u0000\u0000\u1437\u11c4\u0000\u0000\u1432\u91c4\u0000\u0000\u0000\u51c4" +
+                    "\u0000\u0000\u1400\u51c4\u0000\u0000\u2ab9\u91c4\u0000\u0000\u143c\u11c4\u0000\u0000\u0000\u11c4" +
+                    "\u0000\u0000:\u51c4\u0000\u0000:\u91c4\u0000\u0000\u2a80\u1672\u0000\u0000\u2a80\u167d" +
+                    "\u0000\u0000\u2a80\u167a\u0000\u0000\u2280\u167d\u0000\u0000\u2280\u1421\u0000\u0000\u0000\u167b" +
+                    "\u0000\u0000\u2200\u0000\u0000\u0000\u0280\u1021\u0000\u0000\u0000\u143e\u0000\u00009\u95c4" +
+                    "\u0000\u0000\u0000\u15c6\u0000\u0000\u0000\u143a\u0000\u0000\u0000\u1675\u0000\u0000\u0000\u157c" +
+                    "\u0000\u00007\u15c4\u0000\u00007\u95c4\u0000\u00009\u15c4\u0000\u0000\u0002\u95c4" +
+                    "\u0000\u0000\u0002\ud5c4\u0000\u0000\u0003\u15c4\u0000\u0000\u0003\u55c4\u0000\u0000\u0003\u95c4" +
+                    "\u0000\u0000\u0003\ud5c4\u0000\u0000\u0004\u15c4\u0000\u0000\u0004\u55c4\u0000\u0000\u0004\u95c4" +
+                    "\u0000\u0000\u0004\ud5c4\u0000\u0000\u0005\u15c4\u0000\u0000\u0005\u55c4\u0000\u0000\u0005\u95c4" +
+                    "\u0000\u0000\u0000\u1495\u0000\u0000\u0000\u149a\u0000\u0000\u0005\ud5c4\u0000\u0000\u0006\u15c4" +
+                    "\u0000\u0000\u0006\u55c4\u0000\u0000\u0000\u1493\u0000\u0000\u0000\u158e\u0000\u0000\u0000\u14bb" +
+                    "\u0000\u0000\u0000\u157a\u0000\u0000\u0000\u14bc\u0000\u0000\u0000\u15ba\u0000\u0000\u0000\u14ba" +
+                    "\u0000\u0000\u0007\u95c4\u0000\u0000\u0007\ud5c4\u0000\u0000\u0008\u15c4\u0000\u0000\u0000\u14ae" +
+                    "\u0000\u0000\u0000\u14b3\u0000\u0000\u0280\u14b3\u0000\u0000\u0000\u14b2\u0000\u0000\u0006\ud5c4" +
+                    "\u0000\u0000\u0007\u15c4\u0000\u0000\u0007\u55c4\u0000\u0000\u0008\u55c4\u0000\u0000\u0008\u95c4" +
+                    "\u0000\u0000\u1439\u95c4\u0000\u0000\u1437\u15c4\u0000D\u4000\u1587\u0000\u0088\u8000\u1587" +
+                    "\u0000\u00cc\uc000\u1587\u0000\u0111\u0000\u1587\u0000\u0155\u4000\u1587\u0000\u0199\u8000\u1587" +
+                    "\u0000\u01dd\uc000\u1587\u0000\u0222\u0000\u1587\u0000\u0266\u4000\u1587\u0000\u02aa\u8000\u1587" +
+                    "\u0000\u0000\u0000\u159a\u0000\u0000\u0008\ud5c4\u0000\u0000\u2200\u14b3\u0000D\u4000\u1527" +
+                    "\u0000\u0088\u8000\u1527\u0000\u00cc\uc000\u1527\u0000\u0111\u0000\u1527\u0000\u0155\u4000\u1527" +
+                    "\u0000\u0199\u8000\u1527\u0000\u01dd\uc000\u1527\u0000\u0222\u0000\u1527\u0000\u0266\u4000\u1527" +
+                    "\u0000\u02aa\u8000\u1527\u0000\u0000\u0000\u14be\u0000\u0000\u0000\u15ee\u0000\u0000\u0009\u15c4" +
+                    "\u0000\u0000\u0000\u15c4\u0000D\u4000\u1487\u0000\u0004\u0000\u0000\u0000\u0088\u8000\u1487" +
+                    "\u0000\u0008\u0000\u0000\u0000\u00cc\uc000\u1487\u0000\u000c\u0000\u0000\u0000\u0111\u0000\u1487" +
+                    "\u0000\u0010\u0000\u0000\u0000\u0155\u4000\u1487\u0000\u0014\u0000\u0000\u0000\u0199\u8000\u1487" +
+                    "\u0000\u0018\u0000\u0000\u0000\u01dd\uc000\u1487\u0000\u001c\u0000\u0000\u0000\u0222\u0000\u1487" +
+                    "\u0000 \u0000\u0000\u0000\u0266\u4000\u1487\u0000$\u0000\u0000\u0000\u02aa\u8000\u1487" +
+                    "\u0000(\u0000\u0000\u0000\u0000\u0000\u1492\u0000\u0000\u0000\u167a\u0000\u0000\u0000\u149c" +
+                    "\u0000\u0000\u0000\u14bd\u0000\u0000\u0000\u1425\u0000\u0000\u0280\u1433\u0000\u0000\u1401\ud5c4" +
+                    "\u0000\u0000\u0002\u55c4\u0000\u0000\u2a80\u1433\u0000D\u4000\u1427\u0000\u0088\u8000\u1427" +
+                    "\u0000\u00cc\uc000\u1427\u0000\u0111\u0000\u1427\u0000\u0155\u4000\u1427\u0000\u0199\u8000\u1427" +
+                    "\u0000\u01dd\uc000\u1427\u0000\u0222\u0000\u1427\u0000\u0266\u4000\u1427\u0000\u02aa\u8000\u1427" +
+                    "\u0000\u0000\u0001\ud5c4\u0000\u0000\u1400\u1425\u0000\u0000\u0280\u1425\u0000\u0380\u0000\u1429" +
+                    "\u0000\u03c0\u0000\u1429\u0000\u0400\u0000\u1429\u0000\u02c0\u0000\u1429\u0000\u0340\u0000\u1429" +
+                    "\u0000\u0440\u0000\u1429\u0000\u0000\u1400\u15c4\u0000\u0300\u0000\u1429\u0000\u0480\u0000\u1429" +
+                    "\u0000\u04c0\u0000\u1429\u0000\u0500\u0000\u1429\u0000\u0000\u0280\u15c4\u0000\u0000\u0015\u15c4" +
+                    "\u0000\u0000\u1416\ud5c4\u0000@\u0000\u1669\u0000\u0080\u0000\u1669\u0000\u00c0\u0000\u1669" +
+                    "\u0000\u0100\u0000\u1669\u0000\u0000\u0000\u1424\u0000\u0540\u0000\u1429\u0000\u0580\u0000\u1429" +
+                    "\u0000\u05c0\u0000\u1429\u0000\u0600\u0000\u1429\u0000\u0640\u0000\u1429\u0000\u0680\u0000\u1429" +
+                    "\u0000\u06c0\u0000\u1429\u0000\u0000\u1402\u55c4\u0000\u0000\u2200\u1433\u0000\u0000\u0019\ud5c4" +
+                    "\u0000\u0000\u001a\ud5c4\u0000\u0000\u001d\u95c4\u0000\u0000\u001e\u95c4\u0000\u0000\u2200\u143a" +
+                    "\u0000\u0700\u0000\u1429\u0000\u0740\u0000\u1429\u0000\u0780\u0000\u1429\u0000\u07c0\u0000\u1429" +
+                    "\u0000\u0800\u0000\u1429\u0000\u0840\u0000\u1429\u0000\u0880\u0000\u1429\u0000\u08c0\u0000\u1429" +
+                    "\u0000\u0900\u0000\u1429\u0000\u00006\u15c4\u0000\u0000\u0000\u3676\u0000\u0000\u0000\u1676" +
+                    "\u0000\u0000\u0000\u3677\u0000\u0000\u0000\u1677\u0000\u0000 \u55c4\u0000\u0000 \u95c4" +
+                    "\u0000\u0000\u2a80\u15c4\u0000\u0000!\u15c4\u0000\u0000\u2200\u15c4\u0000\u0000\u0000\u0833" +
+                    "\u0000\u0000\u1400\u1433\u0000\u0088\u0000\u1429\u0000\u00cc\u0000\u1429\u0000\u0110\u0000\u1429" +
+                    "\u0000\u0154\u0000\u1429\u0000\u0198\u0000\u1429\u0000\u01dc\u0000\u1429\u0000\u0220\u0000\u1429" +
+                    "\u0000\u0264\u0000\u1429\u0000\u02a8\u0000\u1429\u0000\u0940\u0000\u1429\u0000\u0980\u0000\u1429" +
+                    "\u0000\u09c0\u0000\u1429\u0000\u0a00\u0000\u1429\u0000\u0a40\u0000\u1429\u0000\u0a80\u0000\u1429" +
+                    "\u0000\u0ac0\u0000\u1429\u0000\u0b00\u0000\u1429\u0000\u0b40\u0000\u1429\u0000\u0000\u0000\u164a" +
+                    "\u0000\u0b80\u0000\u1428\u0000\u0bc0\u0000\u1428\u0000\u0c00\u0000\u1428\u0000\u0000\u0002\u5425" +
+                    "\u0000\u0140\u0000\u1669\u0000\u0180\u0000\u1669\u0000\u01c0\u0000\u1669\u0000\u0200\u0000\u1669" +
+                    "\u0000\u0240\u0000\u1669\u0000\u0280\u0000\u1669\u0000\u0000\u0280\u0000\u0000\u0000\u1400\u0000" +
+                    "\u0000\u0000\u0000\u55c4\u0000\u0000:\u95c4\u0000\u00005\u95c4\u0000\u00002\u95c4" +
+                    "\u0000\u0000:\u15c4\u0000\u00006\u95c4\u0000\u0000:\u55c4\u0000\u0000\u2280\u1422" +
+                    "\u0000\u0000\u2a80\u1422\u0000\u0000\u0280\u1423\u0000\u0000\u2a80\u1421\u0000\u0000\u2a80\u164a" +
+                    "\u0000\u0000\u2200\u164a\u0000\u0000\u0000\u15ea\u0000\u0000\u0000\u142e\u0000\u0000\u0000\u148e" +
+                    "\u0000\u0000\u2200\u1675\u0000\u0000\u2200\u167a\u0000\u0000\u0000\u1278\u0000\u0000\u0000\u1279" +
+                    "\u0000\u0000\u0000\u1678\u0000\u0000\u2200\u127a\u0000\u0000\u0000\u164b\u0000\u0000\u0000\u160c" +
+                    "\u0000\u0000\u0000\u144e\u0000\u0000\u0000\u14ce\u0000\u0000\u0000\u150e\u0000\u0000\u0000\u146e" +
+                    "\u0000\u0000\u0000\u14ee\u0000\u0000\u0000\u117a\u0000\u0000\u2200\u117a\u0000\u0000\u2200\u157a" +
+                    "\u0000\u0000\u0000\u1674\u0000\u0000\u0000\u15bb\u0000\u0000\u0000\u168e\u0000\u0000\u0000\u16ae" +
+                    "\u0000\u0000\u0000\u16ce\u0000\u0000\u0000\u16ee\u0000D\u2200\u1529\u0000D\u6200\u1529" +
+                    "\u0000\u0154\u2200\u1129\u0000\u0155\u6200\u1129\u0000\u0198\u2200\u1529\u0000\u0199\ua200\u1529" +
+                    "\u0000\u01dc\u2200\u1529\u0000\u01dd\ue200\u1529\u0000\u0220\u2200\u1529\u0000\u0222\u2200\u1529" +
+                    "\u0000\u0264\u2200\u1529\u0000\u0266\u6200\u1529\u0000\u02a8\u2200\u1529\u0000\u02aa\ua200\u1529" +
+                    "\u0000\u0000\u2200\u155b\u0000\u0000\u2200\u157b\u0000\u0000\u2200\u167b\u0000\u0000\u2200\u3676" +
+                    "\u0000\u0000\u2200\u3677\u0000\u0000\u2200\u1032\u0000\u0000\u2200\u157c\u0000\u0000\u0000\u057c" +
+                    "\u0000\u0000\u2200\u167e\u0000\u0000\u2200\u127e\u0000\u0000\u2a80\u1021\u0000\u0000\u0000\u157e" +
+                    "\u0000\u0000\u2200\u367b\u0000\u0c40\u2200\u1669\u0000\u0c80\u2200\u1669\u0000\u0640\u2200\u1669" +
+                    "\u0000\u0cc0\u2200\u1269\u0000\u0d00\u2200\u1269\u0000\u06c0\u2200\u1669\u0000\u0d40\u2200\u1669" +
+                    "\u0000\u0d80\u2200\u1669\u0000\u0dc0\u2200\u1669\u0000\u0e00\u2200\u1669\u0000\u0e40\u2200\u1669" +
+                    "\u0000\u03c0\u2200\u1269\u0000\u0e80\u2200\u1269\u0000\u0ec0\u2200\u1269\u0000\u0f00\u2200\u1269" +
+                    "\u0000\u0080\u2200\u1669\u0000\u0080\u2200\u1028\u0000\u00c0\u2200\u1028\u0000\u0100\u2200\u1028" +
+                    "\u0000\u0140\u2200\u1028\u0000\u0180\u2200\u1028\u0000\u01c0\u2200\u1028\u0000\u0200\u2200\u1028" +
+                    "\u0000\u0240\u2200\u1028\u0000\u0280\u2200\u1028\u0000\u0480\u2200\u1028\u0000\u0f40\u2200\u1028" +
+                    "\u0000\u0f80\u2200\u1028\u0000\u0a00\u2200\u1428\u0000\u04c0\u2200\u1428\u0000\u0fc0\u2200\u1428" +
+                    "\u0000\u0500\u2200\u1428\u0000\u0f40\u2200\u1428\u0000\u0f80\u2200\u1428\u0000\u0500\u0000\u1428" +
+                    "\u0000\u1000\u0000\u1428\u0000\u0b40\u0000\u1428\u0000\u0000\u0000\u1428\u0000\u01c0\u0000\u1428" +
+                    "\u0000\u0a00\u0000\u1428\u0000\u1040\u0000\u1428\u0000\u1080\u0000\u1428\u0000@\u2200\u1269" +
+                    "\u0000\u0000\u0280\u167b\u0000\u0000\u0280\u167e\u0000\u0000\u0000\u367b\u0000\u0000\u0000\u327b" +
+                    "\u0000\u0000\u0280\u367b\u0000\u0000\u0000\u155b\u0000\u0000\u0000\u157b\u0000\u0000\u2200\u327b" +
+                    "\u0000\u0000\u0280\u327b\u0000\u0000\u0000\u0a7e\u0000\u0000\u2a80\u2a76\u0000\u0000\u2a80\u2a77" +
+                    "\u0000\u0088\u2200\u1269\u0000\u00cc\u2200\u1269\u0000\u0110\u2200\u1269\u0000\u0154\u2200\u1269" +
+                    "\u0000\u0198\u2200\u1269\u0000\u0198\u2200\u1129\u0000\u01dc\u2200\u1269\u0000\u01dc\u2200\u1129" +
+                    "\u0000\u0220\u2200\u1269\u0000\u0220\u2200\u1129\u0000\u0264\u2200\u1269\u0000\u0264\u2200\u1129" +
+                    "\u0000\u02a8\u2200\u1269\u0000\u02a8\u2200\u1129\u0000\u0480\u2200\u1269\u0000\u0480\u2200\u1129" +
+                    "\u0000\u0f40\u2200\u1269\u0000\u0f40\u2200\u1129\u0000\u0f80\u2200\u1269\u0000\u0f80\u2200\u1129" +
+                    "\u0000\u10c0\u2200\u1269\u0000\u10c0\u2200\u1129\u0000\u1100\u2200\u1269\u0000\u1100\u2200\u1129" +
+                    "\u0000\u1140\u2200\u1269\u0000\u1140\u2200\u1129\u0000\u0440\u2200\u1269\u0000\u0440\u2200\u1129" +
+                    "\u0000\u0b80\u2200\u1269\u0000\u0b80\u2200\u1129\u0000\u0bc0\u2200\u1269\u0000\u0bc0\u2200\u1129" +
+                    "\u0000\u0c00\u2200\u1269\u0000\u0c00\u2200\u1129\u0000\u0940\u2200\u1269\u0000\u0940\u2200\u1129" +
+                    "\u0000\u0000\u2200\u103e\u0000D\u2200\u1669\u0000\u0f40\u0000\u1269\u0000\u0f80\u0000\u1269" +
+                    "\u0000\u10c0\u0000\u1269\u0000\u1100\u0000\u1269\u0000\u1140\u0000\u1269\u0000\u0440\u0000\u1269" +
+                    "\u0000\u0b80\u0000\u1269\u0000\u0bc0\u0000\u1269\u0000\u0c00\u0000\u1269\u0000\u0940\u0000\u1269" +
+                    "\u0000\u0088\u0000\u1269\u0000\u00cc\u0000\u1269\u0000\u0110\u0000\u1269\u0000\u0154\u0000\u1269" +
+                    "\u0000\u0198\u0000\u1269\u0000\u01dc\u0000\u1269\u0000\u0220\u0000\u1269\u0000\u0264\u0000\u1269" +
+                    "\u0000\u02a8\u0000\u1269\u0000\u0480\u0000\u1269\u0000D\u0000\u1269\u0000\u0000\u0000\u0a7b" +
+                    "\u0000\u0088\u0000\u1669\u0000\u00cc\u0000\u1669\u0000\u0110\u0000\u1669\u0000\u0154\u0000\u1669" +
+                    "\u0000\u0198\u0000\u1669\u0000\u01dc\u0000\u1669\u0000\u0220\u0000\u1669\u0000\u0264\u0000\u1669" +
+                    "\u0000\u02a8\u0000\u1669\u0000\u0480\u0000\u1669\u0000\u0000\u2a80\u367b\u0000\u0000\u0000\u367e" +
+                    "\u0000\u0300\u0000\u1669\u0000\u0000\u2200\u0a7e\u0000\u0000\u2200\u024a\u0000\u0000\u0000\u0a7a" +
+                    "\u0000\u0000\u0000\u0832\u0000@\u0000\u0828\u0000\u0000\u0000\u2a76\u0000\u0000\u0000\u2a77" +
+                    "\u0000\u0000\u0000\u0a75\u0000\u0000\u0000\u0a76\u0000\u0000\u0000\u0a77\u0000\u0080\u0000\u0828" +
+                    "\u0000\u00c0\u0000\u0828\u0000\u0100\u0000\u0828\u0000\u0140\u0000\u0828\u0000\u0180\u0000\u0828" +
+                    "\u0000\u01c0\u0000\u0828\u0000\u0200\u0000\u0828\u0000\u0240\u0000\u0828\u0000\u0280\u0000\u0828" +
+                    "\u0000\u00006\u89c4\u0000\u00009\u09c4\u0000\u0000:\u09c4\u0000\u00007\u89c4" +
+                    "\u0000\u00008\u0825\u0000\u00008\u09c4\u0000\u0480\u2200\u0828\u0000\u0940\u2200\u0828" +
+                    "\u0000\u0980\u2200\u0828\u0000\u0000\u0280\u0833\u0000\u0000\u1402\u09c4\u0000\u0000\u2200\u0a7d" +
+                    "\u0000\u0000\u0280\u0832\u0000\u0000\u2200\u0833\u0000\u0000\u0000\u0a74\u0000\u0000\u0000\u083e" +
+                    "\u0000\u0080\u2200\u0829\u0000\u00c0\u2200\u0829\u0000\u0100\u2200\u0829\u0000\u0140\u2200\u0829" +
+                    "\u0000\u0000\u2200\u083e\u0000\u0180\u2200\u0829\u0000\u01c0\u2200\u0829\u0000\u0200\u2200\u0829" +
+                    "\u0000\u0240\u2200\u0829\u0000\u0280\u2200\u0829\u0000\u0480\u2200\u0829\u0000\u0480\u0000\u1029" +
+                    "\u0000\u0940\u0000\u1029\u0000\u0980\u0000\u1029\u0000\u09c0\u0000\u1029\u0000\u0a00\u0000\u1029" +
+                    "\u0000\u0a40\u0000\u1029\u0000\u0a80\u0000\u1029\u0000\u0ac0\u0000\u1029\u0000\u1180\u2200\u0a69" +
+                    "\u0000\u11c0\u2200\u0a69\u0000\u1200\u2200\u0a69\u0000\u1240\u2200\u0a69\u0000\u1280\u2200\u0a69" +
+                    "\u0000\u12c0\u2200\u0a69\u0000\u1300\u2200\u0a69\u0000\u1340\u2200\u0a69\u0000\u1380\u2200\u0a69" +
+                    "\u0000\u0980\u2200\u0a69\u0000\u13c0\u2200\u0a69\u0000\u1400\u2200\u0a69\u0000\u1440\u2200\u0a69" +
+                    "\u0000\u1480\u2200\u0a69\u0000\u14c0\u2200\u0a69\u0000\u1500\u2200\u0a69\u0000\u1540\u2200\u0a69" +
+                    "\u0000\u1580\u2200\u0a69\u0000\u15c0\u2200\u0a69\u0000\u09c0\u2200\u0a69\u0000\u1600\u2200\u0a69" +
+                    "\u0000\u1640\u2200\u0a69\u0000\u1680\u2200\u0a69\u0000\u16c0\u2200\u0a69\u0000\u1700\u2200\u0a69" +
+                    "\u0000\u1740\u2200\u0a69\u0000\u1780\u2200\u0a69\u0000\u17c0\u2200\u0a69\u0000\u1800\u2200\u0a69" +
+                    "\u0000\u0a00\u2200\u0a69\u0000\u0180\u0000\u0833\u0000\u00c0\u0000\u0833\u0000\u0200\u0000\u0833" +
+                    "\u0000\u0080\u0000\u0833\u0000\u0b40\u0000\u0833\u0000\u0100\u0000\u0833\u0000\u0280\u0000\u0833" +
+                    "\u0000\u0140\u0000\u0833\u0000\u1840\u0000\u0833\u0000\u0480\u0000\u0833\u0000\u0500\u0000\u0833" +
+                    "\u0000\u04c0\u0000\u0833\u0000\u1880\u0000\u0833\u0000\u0240\u0000\u0833\u0000\u01c0\u0000\u0833" +
+                    "\u0000\u0940\u0000\u0833\u0000\u0980\u0000\u0833\u0000\u09c0\u0000\u0833\u0000@\u0000\u0833" +
+                    "\u0000\u0080\u0000\u1428\u0000\u00c0\u0000\u1428\u0000\u0100\u0000\u1428\u0000\u0140\u0000\u1428" +
+                    "\u0000\u0180\u0000\u1428\u0000\u0200\u0000\u1428\u0000\u0240\u0000\u1428\u0000\u0280\u0000\u1428" +
+                    "\u0000@\u0000\u1428\u0000\u0000\u0000\u143d\u0000\u0000\u0000\u142f\u0000\u0000\u0000\u1030" +
+                    "\u0000\u0000\u2a80\u0833\u0000\u0100\u2a80\u0833\u0000\u0480\u2a80\u0833\u0000\u00c0\u2a80\u0833" +
+                    "\u0000@\u2a80\u0833\u0000\u01c0\u2a80\u0833\u0000\u0000\u2a80\u0000\u0000\u0000\u2a80\u1493" +
+                    "\u0000\u0000\u0006\u95c4\u0000\u0000\u2200\u1493\u0000\u0000\u2200\u14bc\u0000\u0000\u2200\u0a7a" +
+                    "\u0000\u0000\u2200\u0a76\u0000\u0000\u2200\u0a77\u0000\u0000\u2200\u0a75\u0000\u0000\u2200\u0a74" +
+                    "\u0000\u0000\u2200\u09ba\u0000\u0000\u2200\u2a76\u0000\u0000\u2200\u2a77\u0000\u0000\u2200\u097a" +
+                    "\u0000\u0000\u2200\u095b\u0000\u0000\u2200\u097b\u0000\u0000\u2200\u0955\u0000\u0000\u2200\u0975" +
+                    "\u0000\u0000\u2200\u2a7b\u0000\u0000\u2200\u0a7b\u0000\u0000\u2200\u097c\u0000\u0000\u2200\u027a" +
+                    "\u0000\u0000\u2200\u017a\u0000\u0000\u2200\u017c\u0000\u0000\u2200\u2276\u0000\u0000\u2200\u2277" +
+                    "\u0000\u0000\u2200\u015b\u0000\u0000\u2200\u017b\u0000\u0000\u2200\u01ba\u0000\u0000\u2200\u0155" +
+                    "\u0000\u0000\u2200\u0175\u0000\u0000\u2200\u015a\u0000D\u6200\u0127\u0000\u0088\ua200\u0127" +
+                    "\u0000\u00cc\ue200\u0127\u0000\u0111\u2200\u0127\u0000\u0155\u6200\u0127\u0000\u0199\ua200\u0127" +
+                    "\u0000\u01dd\ue200\u0127\u0000\u0222\u2200\u0127\u0000\u0266\u6200\u0127\u0000\u02aa\ua200\u0127" +
+                    "\u0000\u0000\u2200\u227b\u0000\u0000\u2200\u027b\u0000\u0000\u2200!\u0000\u0000\u2200\u027d" +
+                    "\u0000\u0000\u2200\u0274\u0000\u0000\u2200\"\u0000\u0000\u2200\u067a\u0000\u0000\u2200\u2676" +
+                    "\u0000\u0000\u2200\u2677\u0000\u0000\u2200\u0674\u0000\u0000\u2200\u0433\u0000\u0000\u2200\u0432" +
+                    "\u0000\u0000\u2200\u027e\u0000\u0000\u2200\u067e\u0000\u0000\u2200\u067b\u0000\u0000\u0000\u166e" +
+                    "\u0000\u0080\u0000\u1429\u0000\u00c0\u0000\u1429\u0000\u0100\u0000\u1429\u0000\u0140\u0000\u1429" +
+                    "\u0000\u0180\u0000\u1429\u0000\u01c0\u0000\u1429\u0000\u0200\u0000\u1429\u0000\u0240\u0000\u1429" +
+                    "\u0000\u0280\u0000\u1429\u0000\u18c0\u0000\u1429\u0000\u1900\u0000\u1429\u0000\u1940\u0000\u1429" +
+                    "\u0000\u0fc0\u0000\u1429\u0000\u1980\u0000\u1429\u0000\u19c0\u0000\u1429\u0000\u1a00\u0000\u1429" +
+                    "\u0000\u1a40\u0000\u1429\u0000\u1a80\u0000\u1429\u0000\u1ac0\u0000\u1429\u0000\u1b00\u0000\u1429" +
+                    "\u0000\u1000\u0000\u1429\u0000\u1b40\u0000\u1429\u0000\u1b80\u0000\u1429\u0000\u1bc0\u0000\u1429" +
+                    "\u0000\u1c00\u0000\u1429\u0000\u1c40\u0000\u1429\u0000\u1c80\u0000\u1429\u0000\u1cc0\u0000\u1429" +
+                    "\u0000\u1040\u0000\u1429\u0000\u1d00\u0000\u1429\u0000\u1d40\u0000\u1429\u0000\u1d80\u0000\u1429" +
+                    "\u0000\u1dc0\u0000\u1429\u0000\u02c0\u0000\u1668\u0000\u0300\u0000\u1668\u0000\u0080\u0000\u1668" +
+                    "\u0000\u0180\u0000\u1668\u0000\u0a00\u0000\u1668\u0000\u0fc0\u0000\u1668\u0000\u1000\u0000\u1668" +
+                    "\u0000\u1040\u0000\u1668\u0000\u0480\u0000\u1668\u0000\u04c0\u0000\u1668\u0000\u0500\u0000\u1668" +
+                    "\u0000\u0b40\u0000\u1668\u0000\u00c0\u0000\u1668\u0000\u0980\u0000\u1668\u0000\u1900\u0000\u1668" +
+                    "\u0000\u0d00\u0000\u1669\u0000\u0340\u0000\u1669\u0000\u02c0\u0000\u1669\u0000\u0080\u0000\u1529" +
+                    "\u0000\u00c0\u0000\u1529\u0000\u0100\u0000\u1529\u0000\u0140\u0000\u1529\u0000\u0180\u0000\u1529" +
+                    "\u0000\u01c0\u0000\u1529\u0000\u0200\u0000\u1529\u0000\u0240\u0000\u1529\u0000\u0280\u0000\u1529" +
+                    "\u0000\u0480\u0000\u1529\u0000\u0940\u0000\u1529\u0000\u0980\u0000\u1529\u0000\u09c0\u0000\u1529" +
+                    "\u0000\u0a00\u0000\u1529\u0000\u0a40\u0000\u1529\u0000\u0a80\u0000\u1529\u0000\u0ac0\u0000\u1529" +
+                    "\u0000\u0b00\u0000\u1529\u0000\u04c0\u0000\u1529\u0000\u18c0\u0000\u1529\u0000\u1900\u0000\u1529" +
+                    "\u0000\u1940\u0000\u1529\u0000\u0fc0\u0000\u1529\u0000\u1980\u0000\u1529\u0000\u19c0\u0000\u1529" +
+                    "\u0000\u1a00\u0000\u1529\u0000\u1a40\u0000\u1529\u0000\u0b00\u0000\u1428\u0000\u0b00\u0000\u1433" +
+                    "\u0000\u1a40\u0000\u1428\u0000\u0480\u0000\u1428\u0000\u0940\u0000\u1428\u0000\u04c0\u0000\u1428" +
+                    "\u0000\u0080\u0000\u1489\u0000\u00c0\u0000\u1489\u0000\u0100\u0000\u1489\u0000\u0480\u0000\u1489" +
+                    "\u0000\u0940\u0000\u1489\u0000\u04c0\u0000\u1489\u0000\u0500\u0000\u1489\u0000\u0b40\u0000\u1489" +
+                    "\u0000\u0000\u0000\u149e\u0000\u0140\u0000\u1489\u0000\u0180\u0000\u1489\u0000\u1e00\u0000\u1489" +
+                    "\u0000\u0300\u0000\u1489\u0000\u01c0\u0000\u1489\u0000\u0200\u0000\u1489\u0000\u0240\u0000\u1489" +
+                    "\u0000\u0280\u0000\u1489\u0000\u0980\u0000\u1489\u0000\u09c0\u0000\u1489\u0000\u0a00\u0000\u1489" +
+                    "\u0000\u0a40\u0000\u1489\u0000\u0a80\u0000\u1489\u0000\u18c0\u0000\u1489\u0000\u1900\u0000\u1489" +
+                    "\u0000\u1940\u0000\u1489\u0000\u0fc0\u0000\u1489\u0000\u1980\u0000\u1489\u0000\u19c0\u0000\u1489" +
+                    "\u0000\u1a00\u0000\u1489\u0000\u1a40\u0000\u1489\u0000\u1a80\u0000\u1489\u0000\u1ac0\u0000\u1489" +
+                    "\u0000\u1b00\u0000\u1489\u0000\u1000\u0000\u1489\u0000\u1b40\u0000\u1489\u0000\u1b80\u0000\u1489" +
+                    "\u0000\u1bc0\u0000\u1489\u0000\u1c00\u0000\u1489\u0000\u1c40\u0000\u1489\u0000\u1c80\u0000\u1489" +
+                    "\u0000\u1cc0\u0000\u1489\u0000\u1040\u0000\u1489\u0000\u1d00\u0000\u1489\u0000\u1d40\u0000\u1489" +
+                    "\u0000\u1d80\u0000\u1489\u0000\u1dc0\u0000\u1489\u0000\u1080\u0000\u1489\u0000\u1e40\u0000\u1489" +
+                    "\u0000\u1e80\u0000\u1489\u0000\u1ec0\u0000\u1489\u0000\u1f00\u0000\u1489\u0000\u1f40\u0000\u1489" +
+                    "\u0000\u1f80\u0000\u1489\u0000\u1fc0\u0000\u1489\u0000\u2000\u0000\u1489\u0000\u2040\u0000\u1489" +
+                    "\u0000\u0e00\u0000\u1489\u0000\u02c0\u0000\u1489\u0000\u0cc0\u0000\u1489\u0000\u2080\u0000\u1489" +
+                    "\u0000\u20c0\u0000\u1489\u0000\u0d00\u0000\u1489\u0000\u0340\u0000\u1489\u0000\u0e40\u0000\u1489" +
+                    "\u0000\u0088\u0000\u1489\u0000\u00cc\u0000\u1489\u0000\u0110\u0000\u1489\u0000\u0154\u0000\u1489" +
+                    "\u0000\u0000\u0000\u1481\u0000\u0000\u0000\u1482\u0000\u0088\u0000\u1589\u0000\u00cc\u0000\u1589" +
+                    "\u0000\u0110\u0000\u1589\u0000\u0154\u0000\u1589\u0000\u0198\u0000\u1589\u0000\u01dc\u0000\u1589" +
+                    "\u0000\u0220\u0000\u1589\u0000\u0264\u0000\u1589\u0000\u02a8\u0000\u1589\u0000\u0480\u0000\u1589" +
+                    "\u0000\u0940\u0000\u1589\u0000\u0980\u0000\u1589\u0000\u09c0\u0000\u1589\u0000\u0a00\u0000\u1589" +
+                    "\u0000\u0a40\u0000\u1589\u0000\u0a80\u0000\u1589\u0000\u0ac0\u0000\u1589\u0000\u0b00\u0000\u1589" +
+                    "\u0000\u04c0\u0000\u1589\u0000\u18c0\u0000\u1589\u0000\u1900\u0000\u1589\u0000\u1940\u0000\u1589" +
+                    "\u0000\u0fc0\u0000\u1589\u0000\u1980\u0000\u1589\u0000\u19c0\u0000\u1589\u0000\u1a00\u0000\u1589" +
+                    "\u0000\u1a40\u0000\u1589\u0000\u0300\u0000\u1589\u0000\u02c0\u0000\u1589\u0000\u0cc0\u0000\u1589" +
+                    "\u0000\u0d00\u0000\u1589\u0000\u0080\u0000\u14a9\u0000\u0480\u0000\u14a9\u0000\u0940\u0000\u14a9" +
+                    "\u0000\u04c0\u0000\u14a9\u0000\u0940\u0000\u1669\u0000\u0980\u0000\u1669\u0000\u09c0\u0000\u1669" +
+                    "\u0000\u0a00\u0000\u1669\u0000\u0a40\u0000\u1669\u0000\u0a80\u0000\u1669\u0000\u0ac0\u0000\u1669" +
+                    "\u0000\u0b00\u0000\u1669\u0000\u04c0\u0000\u1669\u0000\u0500\u0000\u1669\u0000\u0000\u0002\u5424" +
+                    "\u0000\u2100\u0000\u1429\u0000\u2140\u0000\u1429\u0000\u2180\u0000\u1429\u0000\u21c0\u0000\u1429" +
+                    "\u0000\u2200\u0000\u1429\u0000\u2240\u0000\u1428\u0000\u2280\u0000\u1428\u0000\u0cc0\u0000\u1428" +
+                    "\u0000\u0d00\u0000\u1428\u0000\u0e40\u0000\u1428\u0000\u03c0\u0000\u1428\u0000\u02c0\u0000\u1428" +
+                    "\u0000\u0e00\u0000\u1428\u0000\u0300\u0000\u1428\u0000\u09c0\u0000\u1428\u0000\u22c0\u0000\u1429" +
+                    "\u0000\u1840\u0000\u1429\u0000\u2300\u0000\u1429\u0000\u1880\u0000\u1429\u0000@\u0000\u1429" +
+                    "\u0000\u0f40\u0000\u1429\u0000\u0f80\u0000\u1429\u0000\u10c0\u0000\u1429\u0000\u1100\u0000\u1429" +
+                    "\u0000\u1140\u0000\u1429\u0000\u0b80\u0000\u1429\u0000\u0bc0\u0000\u1429\u0000\u0c00\u0000\u1429" +
+                    "\u0000\u0000\u0000\u09c4\u0000\u0000\u0001\u8825\u0000\u0000\u2a80\u143e\u0000\u00006\u1425" +
+                    "\u0000\u00008\u9425\u0000\u0000\u2200\u143b\u0000D\u6200\u1527\u0000\u0088\ua200\u1527" +
+                    "\u0000\u00cc\ue200\u1527\u0000\u0111\u2200\u1527\u0000\u0155\u6200\u1527\u0000\u0199\ua200\u1527" +
+                    "\u0000\u01dd\ue200\u1527\u0000\u0222\u2200\u1527\u0000\u0266\u6200\u1527\u0000\u02aa\ua200\u1527" +
+                    "\u0000\u00c0\u0000\u14a9\u0000\u0100\u0000\u14a9\u0000\u0140\u0000\u14a9\u0000\u0180\u0000\u14a9" +
+                    "\u0000\u01c0\u0000\u14a9\u0000\u0200\u0000\u14a9\u0000\u0240\u0000\u14a9\u0000\u0280\u0000\u14a9" +
+                    "\u0000\u0980\u0000\u14a9\u0000\u09c0\u0000\u14a9\u0000\u0a00\u0000\u14a9\u0000\u0a40\u0000\u14a9" +
+                    "\u0000\u0a80\u0000\u14a9\u0000\u0ac0\u0000\u14a9\u0000\u0b00\u0000\u14a9\u0000\u18c0\u0000\u14a9" +
+                    "\u0000\u1900\u0000\u14a9\u0000\u1940\u0000\u14a9\u0000\u0fc0\u0000\u14a9\u0000\u1980\u0000\u14a9" +
+                    "\u0000\u19c0\u0000\u14a9\u0000\u1a00\u0000\u14a9\u0000\u1a40\u0000\u14a9\u0000\u0500\u0000\u14a9" +
+                    "\u0000\u1a80\u0000\u14a9\u0000\u1ac0\u0000\u14a9\u0000\u1b00\u0000\u14a9\u0000\u1000\u0000\u14a9" +
+                    "\u0000\u1b40\u0000\u14a9\u0000\u1b80\u0000\u14a9\u0000\u1bc0\u0000\u14a9\u0000\u1c00\u0000\u14a9" +
+                    "\u0000\u0b40\u0000\u14a9\u0000\u1c40\u0000\u14a9\u0000\u1c80\u0000\u14a9\u0000\u1cc0\u0000\u14a9" +
+                    "\u0000\u1040\u0000\u14a9\u0000\u1d00\u0000\u14a9\u0000\u1d40\u0000\u14a9\u0000\u1d80\u0000\u14a9" +
+                    "\u0000\u1dc0\u0000\u14a9\u0000\u1080\u0000\u14a9\u0000\u1e40\u0000\u14a9\u0000\u2340\u0000\u14a9" +
+                    "\u0000\u2380\u0000\u14a9\u0000\u02c0\u0000\u14a9\u0000\u0300\u0000\u14a9\u0000\u0340\u0000\u14a9" +
+                    "\u0000\u0e00\u0000\u14a9\u0000D\u2200\u1129\u0000\u0004\u2200\u0000\u0000\u0008\u2200\u0000" +
+                    "\u0000\u000c\u2200\u0000\u0000\u0010\u2200\u0000\u0000\u0014\u2200\u0000\u0000\u0018\u2200\u0000" +
+                    "\u0000\u001c\u2200\u0000\u0000 \u2200\u0000\u0000$\u2200\u0000\u0000(\u2200\u0000" +
+                    "\u0000\u0000\u2200\u143e\u0000\u0000\u0000\u103e\u0000\u0000\u0000\u0a7d\u0000\u0280\u2a80\u0833"
+    };
+
+    static final double[] NUMERIC_VALUES = {
+                    0.0, 1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0, 9.0, 0.25, 0.5, 0.75, 0.0625, 0.125, 0.1875,
+                    16.0, 10.0, 100.0, 1000.0, 0.00625, 0.025, 0.0375, 0.05, 0.1, 0.15, 0.2, 1.5, 2.5, 3.5, 4.5, 5.5,
+                    6.5, 7.5, 8.5, -0.5, 20.0, 30.0, 40.0, 50.0, 60.0, 70.0, 80.0, 90.0, 10000.0, 17.0, 18.0, 19.0,
+                    0.14285714285714285, 0.1111111111111111, 0.3333333333333333, 0.6666666666666666, 0.4, 0.6, 0.8, 0.16666666666666666, 0.8333333333333334, 0.375, 0.625, 0.875, 11.0, 12.0, 500.0, 5000.0,
+                    50000.0, 100000.0, 13.0, 14.0, 15.0, 21.0, 22.0, 23.0, 24.0, 25.0, 26.0, 27.0, 28.0, 29.0, 31.0, 32.0,
+                    33.0, 34.0, 35.0, 36.0, 37.0, 38.0, 39.0, 41.0, 42.0, 43.0, 44.0, 45.0, 46.0, 47.0, 48.0, 49.0,
+                    100000000.0, 1000000000000.0, 200.0, 300.0, 400.0, 600.0, 700.0, 800.0, 900.0, 2000.0, 3000.0, 4000.0, 6000.0, 7000.0, 8000.0, 9000.0,
+                    20000.0, 30000.0, 40000.0, 60000.0, 70000.0, 80000.0, 90000.0, 0.9166666666666666, 200000.0, 300000.0, 400000.0, 500000.0, 600000.0, 700000.0, 800000.0, 900000.0,
+                    0.08333333333333333, 0.4166666666666667, 0.5833333333333334, 0.003125, 0.0125, 0.015625, 0.03125, 0.046875, 216000.0, 432000.0, 1000000.0, 10000000000.0, 10000000.0, 20000000.0
+    };
+
+    static final String[] DECOMPOSITION_INDEX1 = {
+                    "\u0000\u0001\u0002\u0003\u0004\u0005\u0006\u0007\u0008\u0009\u0000\n\u000b\u000c\u0000\u0000" +
+                    "\u0000\u0000\r\u000e\u000f\u0000\u0010\u0011\u0012\u0013\u0014\u0015\u0016\u0017\u0018\u0019" +
+                    "\u001a\u001b\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u001c\u0000\u0000\u0000\u001d\u001e\u001f !\"" +
+                    "#$%&'()\u0000*+\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000,-\u0000\u0000.\u0000/\u0000\u0000012" +
+                    "3456789:\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000;<=" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000>\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000?@ABCDEFGHIJKL" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000M" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000NO\u0000\u0000\u0000P\u0000\u0000Q\u0000R\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000S\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000TU\u0000\u0000\u0000\u0000VWXYZ[\\]" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000^_\u0000\u0000" +
+                    "\u0000\u0000`ab\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000c\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "defgh\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+    };
+
+    static final String[] DECOMPOSITION_INDEX2 = {
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0001\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0003\u0000\u0006\u0000\u0000\u0000\u0000\u0008" +
+                    "\u0000\u0000\u000b\r\u000f\u0012\u0000\u0000\u0014\u0017\u0019\u0000\u001b\u001f#\u0000" +
+                    "'*-036\u00009<?BEHKNQ" +
+                    "\u0000TWZ]`c\u0000\u0000filor\u0000\u0000" +
+                    "ux{~\u0081\u0084\u0000\u0087\u008a\u008d\u0090\u0093\u0096\u0099\u009c\u009f" +
+                    "\u0000\u00a2\u00a5\u00a8\u00ab\u00ae\u00b1\u0000\u0000\u00b4\u00b7\u00ba\u00bd\u00c0\u0000\u00c3" +
+                    "\u00c6\u00c9\u00cc\u00cf\u00d2\u00d5\u00d8\u00db\u00de\u00e1\u00e4\u00e7\u00ea\u00ed\u00f0\u00f3" +
+                    "\u0000\u0000\u00f6\u00f9\u00fc\u00ff\u0102\u0105\u0108\u010b\u010e\u0111\u0114\u0117\u011a\u011d" +
+                    "\u0120\u0123\u0126\u0129\u012c\u012f\u0000\u0000\u0132\u0135\u0138\u013b\u013e\u0141\u0144\u0147" +
+                    "\u014a\u0000\u014d\u0150\u0153\u0156\u0159\u015c\u0000\u015f\u0162\u0165\u0168\u016b\u016e\u0171" +
+                    "\u0174\u0000\u0000\u0177\u017a\u017d\u0180\u0183\u0186\u0189\u0000\u0000\u018c\u018f\u0192\u0195" +
+                    "\u0198\u019b\u0000\u0000\u019e\u01a1\u01a4\u01a7\u01aa\u01ad\u01b0\u01b3\u01b6\u01b9\u01bc\u01bf" +
+                    "\u01c2\u01c5\u01c8\u01cb\u01ce\u01d1\u0000\u0000\u01d4\u01d7\u01da\u01dd\u01e0\u01e3\u01e6\u01e9" +
+                    "\u01ec\u01ef\u01f2\u01f5\u01f8\u01fb\u01fe\u0201\u0204\u0207\u020a\u020d\u0210\u0213\u0216\u0219" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u021b\u021e\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0221" +
+                    "\u0224\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0227\u022a\u022d\u0230\u0233\u0236\u0239\u023c\u023f\u0242\u0245\u0248" +
+                    "\u024b\u024e\u0251\u0254\u0257\u025a\u025d\u0260\u0263\u0266\u0269\u026c\u026f\u0000\u0272\u0275" +
+                    "\u0278\u027b\u027e\u0281\u0000\u0000\u0284\u0287\u028a\u028d\u0290\u0293\u0296\u0299\u029c\u029f" +
+                    "\u02a2\u02a5\u02a8\u02ab\u02ae\u02b1\u0000\u0000\u02b4\u02b7\u02ba\u02bd\u02c0\u02c3\u02c6\u02c9" +
+                    "\u02cc\u02cf\u02d2\u02d5\u02d8\u02db\u02de\u02e1\u02e4\u02e7\u02ea\u02ed\u02f0\u02f3\u02f6\u02f9" +
+                    "\u02fc\u02ff\u0302\u0305\u0308\u030b\u030e\u0311\u0314\u0317\u031a\u031d\u0000\u0000\u0320\u0323" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0326\u0329\u032c\u032f\u0332\u0335\u0338\u033b\u033e\u0341" +
+                    "\u0344\u0347\u034a\u034d\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0350\u0352\u0354\u0356\u0358\u035a\u035c\u035e\u0360\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0362\u0365\u0368\u036b\u036e\u0371\u0000\u0000" +
+                    "\u0374\u0376\u0378\u037a\u037c\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u037e\u0380\u0000\u0382\u0384\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0387\u0000\u0000\u0000\u0000\u0000\u0389\u0000\u0000\u0000\u038c\u0000" +
+                    "\u0000\u0000\u0000\u0000\u038e\u0391\u0394\u0397\u0399\u039c\u039f\u0000\u03a2\u0000\u03a5\u03a8" +
+                    "\u03ab\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u03ae\u03b1\u03b4\u03b7\u03ba\u03bd" +
+                    "\u03c0\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u03c3\u03c6\u03c9\u03cc\u03cf\u0000" +
+                    "\u03d2\u03d4\u03d6\u03d8\u03db\u03de\u03e0\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u03e2\u03e4\u03e6\u0000\u03e8\u03ea\u0000\u0000\u0000\u03ec\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u03ee\u03f1\u0000\u03f4\u0000\u0000\u0000\u03f7\u0000\u0000\u0000\u0000\u03fa\u03fd\u0400\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0403\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0406\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0409\u040c\u0000\u040f\u0000\u0000\u0000\u0412\u0000\u0000\u0000\u0000\u0415\u0418\u041b\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u041e\u0421\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0424\u0427\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u042a\u042d\u0430\u0433\u0000\u0000\u0436\u0439\u0000\u0000\u043c\u043f\u0442\u0445\u0448\u044b" +
+                    "\u0000\u0000\u044e\u0451\u0454\u0457\u045a\u045d\u0000\u0000\u0460\u0463\u0466\u0469\u046c\u046f" +
+                    "\u0472\u0475\u0478\u047b\u047e\u0481\u0000\u0000\u0484\u0487\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u048a\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u048d\u0490\u0493\u0496\u0499\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u049c\u049f\u04a2\u04a5\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u04a8\u0000\u04ab\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u04ae\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u04b1\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u04b4\u0000\u0000\u04b7\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u04ba\u04bd\u04c0\u04c3\u04c6\u04c9\u04cc\u04cf" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u04d2\u04d5\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u04d8\u04db\u0000\u04de" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u04e1\u0000\u0000\u04e4\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u04e7\u04ea\u04ed\u0000\u0000\u04f0\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u04f3\u0000\u0000\u04f6\u04f9\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u04fc\u04ff\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0502\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0505\u0508\u050b\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u050e\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0511\u0000\u0000\u0000\u0000\u0000\u0000\u0514\u0517\u0000\u051a\u051d\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0520\u0523\u0526\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0529\u0000\u052c\u052f\u0532\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0535\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0538\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u053b\u053e\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0541\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0543\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0546\u0000\u0000" +
+                    "\u0000\u0000\u0549\u0000\u0000\u0000\u0000\u054c\u0000\u0000\u0000\u0000\u054f\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0552\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0555\u0000\u0558\u055b\u055e\u0561\u0564\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0567\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u056a\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u056d\u0000\u0000" +
+                    "\u0000\u0000\u0570\u0000\u0000\u0000\u0000\u0573\u0000\u0000\u0000\u0000\u0576\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0579\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u057c\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u057f\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0581\u0000\u0584\u0000\u0587\u0000\u058a\u0000\u058d\u0000" +
+                    "\u0000\u0000\u0590\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0593\u0000\u0596\u0000\u0000" +
+                    "\u0599\u059c\u0000\u059f\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u05a2\u05a4\u05a6\u0000" +
+                    "\u05a8\u05aa\u05ac\u05ae\u05b0\u05b2\u05b4\u05b6\u05b8\u05ba\u05bc\u0000\u05be\u05c0\u05c2\u05c4" +
+                    "\u05c6\u05c8\u05ca\u05cc\u05ce\u05d0\u05d2\u05d4\u05d6\u05d8\u05da\u05dc\u05de\u05e0\u0000\u05e2" +
+                    "\u05e4\u05e6\u05e8\u05ea\u05ec\u05ee\u05f0\u05f2\u05f4\u05f6\u05f8\u05fa\u05fc\u05fe\u0600\u0602" +
+                    "\u0604\u0606\u0608\u060a\u060c\u060e\u0610\u0612\u0614\u0616\u0618\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u061a\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u061c\u061e\u0620\u0622\u0624" +
+                    "\u0626\u0628\u062a\u062c\u062e\u0630\u0632\u0634\u0636\u0638\u063a\u063c\u063e\u0640\u0642\u0644" +
+                    "\u0646\u0648\u064a\u064c\u064e\u0650\u0652\u0654\u0656\u0658\u065a\u065c\u065e\u0660\u0662\u0664" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0666\u0669\u066c\u066f\u0672\u0675\u0678\u067b\u067e\u0681\u0684\u0687\u068a\u068d\u0690\u0693" +
+                    "\u0696\u0699\u069c\u069f\u06a2\u06a5\u06a8\u06ab\u06ae\u06b1\u06b4\u06b7\u06ba\u06bd\u06c0\u06c3" +
+                    "\u06c6\u06c9\u06cc\u06cf\u06d2\u06d5\u06d8\u06db\u06de\u06e1\u06e4\u06e7\u06ea\u06ed\u06f0\u06f3" +
+                    "\u06f6\u06f9\u06fc\u06ff\u0702\u0705\u0708\u070b\u070e\u0711\u0714\u0717\u071a\u071d\u0720\u0723" +
+                    "\u0726\u0729\u072c\u072f\u0732\u0735\u0738\u073b\u073e\u0741\u0744\u0747\u074a\u074d\u0750\u0753" +
+                    "\u0756\u0759\u075c\u075f\u0762\u0765\u0768\u076b\u076e\u0771\u0774\u0777\u077a\u077d\u0780\u0783" +
+                    "\u0786\u0789\u078c\u078f\u0792\u0795\u0798\u079b\u079e\u07a1\u07a4\u07a7\u07aa\u07ad\u07b0\u07b3" +
+                    "\u07b6\u07b9\u07bc\u07bf\u07c2\u07c5\u07c8\u07cb\u07ce\u07d1\u07d4\u07d7\u07da\u07dd\u07e0\u07e3" +
+                    "\u07e6\u07e9\u07ec\u07ef\u07f2\u07f5\u07f8\u07fb\u07fe\u0801\u0804\u0807\u080a\u080d\u0810\u0813" +
+                    "\u0816\u0819\u081c\u081f\u0822\u0825\u0828\u082b\u082e\u0831\u0834\u0837\u0000\u0000\u0000\u0000" +
+                    "\u083a\u083d\u0840\u0843\u0846\u0849\u084c\u084f\u0852\u0855\u0858\u085b\u085e\u0861\u0864\u0867" +
+                    "\u086a\u086d\u0870\u0873\u0876\u0879\u087c\u087f\u0882\u0885\u0888\u088b\u088e\u0891\u0894\u0897" +
+                    "\u089a\u089d\u08a0\u08a3\u08a6\u08a9\u08ac\u08af\u08b2\u08b5\u08b8\u08bb\u08be\u08c1\u08c4\u08c7" +
+                    "\u08ca\u08cd\u08d0\u08d3\u08d6\u08d9\u08dc\u08df\u08e2\u08e5\u08e8\u08eb\u08ee\u08f1\u08f4\u08f7" +
+                    "\u08fa\u08fd\u0900\u0903\u0906\u0909\u090c\u090f\u0912\u0915\u0918\u091b\u091e\u0921\u0924\u0927" +
+                    "\u092a\u092d\u0930\u0933\u0936\u0939\u093c\u093f\u0942\u0945\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0948\u094b\u094e\u0951\u0954\u0957\u095a\u095d\u0960\u0963\u0966\u0969\u096c\u096f\u0972\u0975" +
+                    "\u0978\u097b\u097e\u0981\u0984\u0987\u0000\u0000\u098a\u098d\u0990\u0993\u0996\u0999\u0000\u0000" +
+                    "\u099c\u099f\u09a2\u09a5\u09a8\u09ab\u09ae\u09b1\u09b4\u09b7\u09ba\u09bd\u09c0\u09c3\u09c6\u09c9" +
+                    "\u09cc\u09cf\u09d2\u09d5\u09d8\u09db\u09de\u09e1\u09e4\u09e7\u09ea\u09ed\u09f0\u09f3\u09f6\u09f9" +
+                    "\u09fc\u09ff\u0a02\u0a05\u0a08\u0a0b\u0000\u0000\u0a0e\u0a11\u0a14\u0a17\u0a1a\u0a1d\u0000\u0000" +
+                    "\u0a20\u0a23\u0a26\u0a29\u0a2c\u0a2f\u0a32\u0a35\u0000\u0a38\u0000\u0a3b\u0000\u0a3e\u0000\u0a41" +
+                    "\u0a44\u0a47\u0a4a\u0a4d\u0a50\u0a53\u0a56\u0a59\u0a5c\u0a5f\u0a62\u0a65\u0a68\u0a6b\u0a6e\u0a71" +
+                    "\u0a74\u0a77\u0a79\u0a7c\u0a7e\u0a81\u0a83\u0a86\u0a88\u0a8b\u0a8d\u0a90\u0a92\u0a95\u0000\u0000" +
+                    "\u0a97\u0a9a\u0a9d\u0aa0\u0aa3\u0aa6\u0aa9\u0aac\u0aaf\u0ab2\u0ab5\u0ab8\u0abb\u0abe\u0ac1\u0ac4" +
+                    "\u0ac7\u0aca\u0acd\u0ad0\u0ad3\u0ad6\u0ad9\u0adc\u0adf\u0ae2\u0ae5\u0ae8\u0aeb\u0aee\u0af1\u0af4" +
+                    "\u0af7\u0afa\u0afd\u0b00\u0b03\u0b06\u0b09\u0b0c\u0b0f\u0b12\u0b15\u0b18\u0b1b\u0b1e\u0b21\u0b24" +
+                    "\u0b27\u0b2a\u0b2d\u0b30\u0b33\u0000\u0b36\u0b39\u0b3c\u0b3f\u0b42\u0b45\u0b47\u0b4a\u0b4d\u0b4f" +
+                    "\u0b52\u0b55\u0b58\u0b5b\u0b5e\u0000\u0b61\u0b64\u0b67\u0b6a\u0b6c\u0b6f\u0b71\u0b74\u0b77\u0b7a" +
+                    "\u0b7d\u0b80\u0b83\u0b86\u0000\u0000\u0b88\u0b8b\u0b8e\u0b91\u0b94\u0b97\u0000\u0b99\u0b9c\u0b9f" +
+                    "\u0ba2\u0ba5\u0ba8\u0bab\u0bad\u0bb0\u0bb3\u0bb6\u0bb9\u0bbc\u0bbf\u0bc2\u0bc4\u0bc7\u0bca\u0bcc" +
+                    "\u0000\u0000\u0bce\u0bd1\u0bd4\u0000\u0bd7\u0bda\u0bdd\u0be0\u0be2\u0be5\u0be7\u0bea\u0bec\u0000" +
+                    "\u0bef\u0bf1\u0bf3\u0bf5\u0bf7\u0bf9\u0bfb\u0bfd\u0bff\u0c01\u0c03\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0c05\u0000\u0000\u0000\u0000\u0000\u0c07\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0c0a\u0c0c\u0c0f\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0c13" +
+                    "\u0000\u0000\u0000\u0c15\u0c18\u0000\u0c1c\u0c1f\u0000\u0000\u0000\u0000\u0c23\u0000\u0c26\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0c29\u0c2c\u0c2f\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0c32\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0c37" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0c39\u0c3b\u0000\u0000\u0c3d\u0c3f\u0c41\u0c43\u0c45\u0c47\u0c49\u0c4b\u0c4d\u0c4f\u0c51\u0c53" +
+                    "\u0c55\u0c57\u0c59\u0c5b\u0c5d\u0c5f\u0c61\u0c63\u0c65\u0c67\u0c69\u0c6b\u0c6d\u0c6f\u0c71\u0000" +
+                    "\u0c73\u0c75\u0c77\u0c79\u0c7b\u0c7d\u0c7f\u0c81\u0c83\u0c85\u0c87\u0c89\u0c8b\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0c8d\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0c90\u0c94\u0c98\u0c9a\u0000\u0c9d\u0ca1\u0ca5\u0000\u0ca7\u0caa\u0cac\u0cae\u0cb0\u0cb2\u0cb4" +
+                    "\u0cb6\u0cb8\u0cba\u0cbc\u0000\u0cbe\u0cc0\u0000\u0000\u0cc3\u0cc5\u0cc7\u0cc9\u0ccb\u0000\u0000" +
+                    "\u0ccd\u0cd0\u0cd4\u0000\u0cd7\u0000\u0cd9\u0000\u0cdb\u0000\u0cdd\u0cdf\u0ce1\u0ce3\u0000\u0ce5" +
+                    "\u0ce7\u0ce9\u0000\u0ceb\u0ced\u0cef\u0cf1\u0cf3\u0cf5\u0cf7\u0000\u0cf9\u0cfd\u0cff\u0d01\u0d03" +
+                    "\u0d05\u0000\u0000\u0000\u0000\u0d07\u0d09\u0d0b\u0d0d\u0d0f\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0d11\u0d15\u0d19\u0d1e\u0d22\u0d26\u0d2a\u0d2e\u0d32\u0d36\u0d3a\u0d3e\u0d42\u0d46\u0d4a\u0d4e" +
+                    "\u0d51\u0d53\u0d56\u0d5a\u0d5d\u0d5f\u0d62\u0d66\u0d6b\u0d6e\u0d70\u0d73\u0d77\u0d79\u0d7b\u0d7d" +
+                    "\u0d7f\u0d81\u0d84\u0d88\u0d8b\u0d8d\u0d90\u0d94\u0d99\u0d9c\u0d9e\u0da1\u0da5\u0da7\u0da9\u0dab" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0dad\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0db1\u0db4\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0db7\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0dba\u0dbd\u0dc0" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0dc3\u0000\u0000\u0000\u0000\u0dc6\u0000\u0000\u0dc9\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0dcc\u0000\u0dcf\u0000\u0000\u0000\u0000\u0000\u0dd2\u0dd5\u0000\u0dd9" +
+                    "\u0ddc\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0de0\u0000\u0000\u0de3\u0000\u0000\u0de6\u0000\u0de9\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0dec\u0000\u0def\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0df2\u0df5\u0df8" +
+                    "\u0dfb\u0dfe\u0000\u0000\u0e01\u0e04\u0000\u0000\u0e07\u0e0a\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0e0d\u0e10\u0000\u0000\u0e13\u0e16\u0000\u0000\u0e19\u0e1c\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0e1f\u0e22\u0e25\u0e28" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0e2b\u0e2e\u0e31\u0e34\u0000\u0000\u0000\u0000\u0000\u0000\u0e37\u0e3a\u0e3d\u0e40\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0e43\u0e45\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0e47\u0e49\u0e4b\u0e4d\u0e4f\u0e51\u0e53\u0e55\u0e57\u0e59\u0e5c\u0e5f\u0e62\u0e65\u0e68\u0e6b" +
+                    "\u0e6e\u0e71\u0e74\u0e77\u0e7a\u0e7e\u0e82\u0e86\u0e8a\u0e8e\u0e92\u0e96\u0e9a\u0e9e\u0ea3\u0ea8" +
+                    "\u0ead\u0eb2\u0eb7\u0ebc\u0ec1\u0ec6\u0ecb\u0ed0\u0ed5\u0ed8\u0edb\u0ede\u0ee1\u0ee4\u0ee7\u0eea" +
+                    "\u0eed\u0ef0\u0ef4\u0ef8\u0efc\u0f00\u0f04\u0f08\u0f0c\u0f10\u0f14\u0f18\u0f1c\u0f20\u0f24\u0f28" +
+                    "\u0f2c\u0f30\u0f34\u0f38\u0f3c\u0f40\u0f44\u0f48\u0f4c\u0f50\u0f54\u0f58\u0f5c\u0f60\u0f64\u0f68" +
+                    "\u0f6c\u0f70\u0f74\u0f78\u0f7c\u0f80\u0f84\u0f86\u0f88\u0f8a\u0f8c\u0f8e\u0f90\u0f92\u0f94\u0f96" +
+                    "\u0f98\u0f9a\u0f9c\u0f9e\u0fa0\u0fa2\u0fa4\u0fa6\u0fa8\u0faa\u0fac\u0fae\u0fb0\u0fb2\u0fb4\u0fb6" +
+                    "\u0fb8\u0fba\u0fbc\u0fbe\u0fc0\u0fc2\u0fc4\u0fc6\u0fc8\u0fca\u0fcc\u0fce\u0fd0\u0fd2\u0fd4\u0fd6" +
+                    "\u0fd8\u0fda\u0fdc\u0fde\u0fe0\u0fe2\u0fe4\u0fe6\u0fe8\u0fea\u0fec\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0fee\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0ff3\u0ff7\u0ffa\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0ffe\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u1001\u1003\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u1005" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u1007" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u1009\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u100b\u100d\u100f\u1011\u1013\u1015\u1017\u1019\u101b\u101d\u101f\u1021\u1023\u1025\u1027\u1029" +
+                    "\u102b\u102d\u102f\u1031\u1033\u1035\u1037\u1039\u103b\u103d\u103f\u1041\u1043\u1045\u1047\u1049" +
+                    "\u104b\u104d\u104f\u1051\u1053\u1055\u1057\u1059\u105b\u105d\u105f\u1061\u1063\u1065\u1067\u1069" +
+                    "\u106b\u106d\u106f\u1071\u1073\u1075\u1077\u1079\u107b\u107d\u107f\u1081\u1083\u1085\u1087\u1089" +
+                    "\u108b\u108d\u108f\u1091\u1093\u1095\u1097\u1099\u109b\u109d\u109f\u10a1\u10a3\u10a5\u10a7\u10a9" +
+                    "\u10ab\u10ad\u10af\u10b1\u10b3\u10b5\u10b7\u10b9\u10bb\u10bd\u10bf\u10c1\u10c3\u10c5\u10c7\u10c9" +
+                    "\u10cb\u10cd\u10cf\u10d1\u10d3\u10d5\u10d7\u10d9\u10db\u10dd\u10df\u10e1\u10e3\u10e5\u10e7\u10e9" +
+                    "\u10eb\u10ed\u10ef\u10f1\u10f3\u10f5\u10f7\u10f9\u10fb\u10fd\u10ff\u1101\u1103\u1105\u1107\u1109" +
+                    "\u110b\u110d\u110f\u1111\u1113\u1115\u1117\u1119\u111b\u111d\u111f\u1121\u1123\u1125\u1127\u1129" +
+                    "\u112b\u112d\u112f\u1131\u1133\u1135\u1137\u1139\u113b\u113d\u113f\u1141\u1143\u1145\u1147\u1149" +
+                    "\u114b\u114d\u114f\u1151\u1153\u1155\u1157\u1159\u115b\u115d\u115f\u1161\u1163\u1165\u1167\u1169" +
+                    "\u116b\u116d\u116f\u1171\u1173\u1175\u1177\u1179\u117b\u117d\u117f\u1181\u1183\u1185\u1187\u1189" +
+                    "\u118b\u118d\u118f\u1191\u1193\u1195\u1197\u1199\u119b\u119d\u119f\u11a1\u11a3\u11a5\u11a7\u11a9" +
+                    "\u11ab\u11ad\u11af\u11b1\u11b3\u11b5\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u11b7\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u11b9\u0000\u11bb\u11bd\u11bf\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u11c1\u0000\u11c4\u0000" +
+                    "\u11c7\u0000\u11ca\u0000\u11cd\u0000\u11d0\u0000\u11d3\u0000\u11d6\u0000\u11d9\u0000\u11dc\u0000" +
+                    "\u11df\u0000\u11e2\u0000\u0000\u11e5\u0000\u11e8\u0000\u11eb\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u11ee\u11f1\u0000\u11f4\u11f7\u0000\u11fa\u11fd\u0000\u1200\u1203\u0000\u1206\u1209\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u120c\u0000\u0000\u0000\u0000\u0000\u0000\u120f\u1212\u0000\u1215\u1218" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u121b\u0000\u121e\u0000" +
+                    "\u1221\u0000\u1224\u0000\u1227\u0000\u122a\u0000\u122d\u0000\u1230\u0000\u1233\u0000\u1236\u0000" +
+                    "\u1239\u0000\u123c\u0000\u0000\u123f\u0000\u1242\u0000\u1245\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u1248\u124b\u0000\u124e\u1251\u0000\u1254\u1257\u0000\u125a\u125d\u0000\u1260\u1263\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u1266\u0000\u0000\u1269\u126c\u126f\u1272\u0000\u0000\u0000\u1275\u1278" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u127b\u127d\u127f\u1281\u1283\u1285\u1287\u1289\u128b\u128d\u128f\u1291\u1293\u1295\u1297" +
+                    "\u1299\u129b\u129d\u129f\u12a1\u12a3\u12a5\u12a7\u12a9\u12ab\u12ad\u12af\u12b1\u12b3\u12b5\u12b7" +
+                    "\u12b9\u12bb\u12bd\u12bf\u12c1\u12c3\u12c5\u12c7\u12c9\u12cb\u12cd\u12cf\u12d1\u12d3\u12d5\u12d7" +
+                    "\u12d9\u12db\u12dd\u12df\u12e1\u12e3\u12e5\u12e7\u12e9\u12eb\u12ed\u12ef\u12f1\u12f3\u12f5\u12f7" +
+                    "\u12f9\u12fb\u12fd\u12ff\u1301\u1303\u1305\u1307\u1309\u130b\u130d\u130f\u1311\u1313\u1315\u1317" +
+                    "\u1319\u131b\u131d\u131f\u1321\u1323\u1325\u1327\u1329\u132b\u132d\u132f\u1331\u1333\u1335\u0000" +
+                    "\u0000\u0000\u1337\u1339\u133b\u133d\u133f\u1341\u1343\u1345\u1347\u1349\u134b\u134d\u134f\u1351" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u1353\u1357\u135b\u135f\u1363\u1367\u136b\u136f\u1373\u1377\u137b\u137f\u1383\u1387\u138b\u1390" +
+                    "\u1395\u139a\u139f\u13a4\u13a9\u13ae\u13b3\u13b8\u13bd\u13c2\u13c7\u13cc\u13d1\u13d6\u13de\u0000" +
+                    "\u13e5\u13e9\u13ed\u13f1\u13f5\u13f9\u13fd\u1401\u1405\u1409\u140d\u1411\u1415\u1419\u141d\u1421" +
+                    "\u1425\u1429\u142d\u1431\u1435\u1439\u143d\u1441\u1445\u1449\u144d\u1451\u1455\u1459\u145d\u1461" +
+                    "\u1465\u1469\u146d\u1471\u1475\u1477\u1479\u147b\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u147d\u1481\u1484\u1487\u148a\u148d\u1490\u1493\u1496\u1499\u149c\u149f\u14a2\u14a5\u14a8\u14ab" +
+                    "\u14ae\u14b0\u14b2\u14b4\u14b6\u14b8\u14ba\u14bc\u14be\u14c0\u14c2\u14c4\u14c6\u14c8\u14ca\u14cd" +
+                    "\u14d0\u14d3\u14d6\u14d9\u14dc\u14df\u14e2\u14e5\u14e8\u14eb\u14ee\u14f1\u14f4\u14fa\u14ff\u0000" +
+                    "\u1502\u1504\u1506\u1508\u150a\u150c\u150e\u1510\u1512\u1514\u1516\u1518\u151a\u151c\u151e\u1520" +
+                    "\u1522\u1524\u1526\u1528\u152a\u152c\u152e\u1530\u1532\u1534\u1536\u1538\u153a\u153c\u153e\u1540" +
+                    "\u1542\u1544\u1546\u1548\u154a\u154c\u154e\u1550\u1552\u1554\u1556\u1558\u155a\u155c\u155e\u1560" +
+                    "\u1562\u1564\u1567\u156a\u156d\u1570\u1573\u1576\u1579\u157c\u157f\u1582\u1585\u1588\u158b\u158e" +
+                    "\u1591\u1594\u1597\u159a\u159d\u15a0\u15a3\u15a6\u15a9\u15ac\u15b0\u15b4\u15b8\u15bb\u15bf\u15c2" +
+                    "\u15c6\u15c8\u15ca\u15cc\u15ce\u15d0\u15d2\u15d4\u15d6\u15d8\u15da\u15dc\u15de\u15e0\u15e2\u15e4" +
+                    "\u15e6\u15e8\u15ea\u15ec\u15ee\u15f0\u15f2\u15f4\u15f6\u15f8\u15fa\u15fc\u15fe\u1600\u1602\u1604" +
+                    "\u1606\u1608\u160a\u160c\u160e\u1610\u1612\u1614\u1616\u1618\u161a\u161c\u161e\u1620\u1622\u1624" +
+                    "\u1627\u162c\u1631\u1636\u163a\u163f\u1643\u1647\u164d\u1652\u1656\u165a\u165e\u1663\u1668\u166c" +
+                    "\u1670\u1673\u1677\u167c\u1681\u1684\u168a\u1691\u1697\u169b\u16a1\u16a7\u16ac\u16b0\u16b4\u16b8" +
+                    "\u16bd\u16c3\u16c8\u16cc\u16d0\u16d4\u16d7\u16da\u16dd\u16e0\u16e4\u16e8\u16ee\u16f2\u16f7\u16fd" +
+                    "\u1701\u1704\u1707\u170d\u1712\u1718\u171c\u1722\u1725\u1729\u172d\u1731\u1735\u1739\u173e\u1742" +
+                    "\u1745\u1749\u174d\u1751\u1756\u175a\u175e\u1762\u1768\u176d\u1770\u1776\u1779\u177e\u1783\u1787" +
+                    "\u178b\u178f\u1794\u1797\u179b\u17a0\u17a3\u17a9\u17ad\u17b0\u17b3\u17b6\u17b9\u17bc\u17bf\u17c2" +
+                    "\u17c5\u17c8\u17cb\u17cf\u17d3\u17d7\u17db\u17df\u17e3\u17e7\u17eb\u17ef\u17f3\u17f7\u17fb\u17ff" +
+                    "\u1803\u1807\u180b\u180e\u1811\u1815\u1818\u181b\u181e\u1822\u1826\u1829\u182c\u182f\u1832\u1835" +
+                    "\u183a\u183d\u1840\u1843\u1846\u1849\u184c\u184f\u1852\u1856\u185b\u185e\u1861\u1864\u1867\u186a" +
+                    "\u186d\u1870\u1874\u1878\u187c\u1880\u1883\u1886\u1889\u188c\u188f\u1892\u1895\u1898\u189b\u189e" +
+                    "\u18a2\u18a6\u18a9\u18ad\u18b1\u18b5\u18b8\u18bc\u18c0\u18c5\u18c8\u18cc\u18d0\u18d4\u18d8\u18de" +
+                    "\u18e5\u18e8\u18eb\u18ee\u18f1\u18f4\u18f7\u18fa\u18fd\u1900\u1903\u1906\u1909\u190c\u190f\u1912" +
+                    "\u1915\u1918\u191b\u1920\u1923\u1926\u1929\u192e\u1932\u1935\u1938\u193b\u193e\u1941\u1944\u1947" +
+                    "\u194a\u194d\u1950\u1954\u1957\u195a\u195e\u1962\u1965\u196a\u196e\u1971\u1974\u1977\u197a\u197e" +
+                    "\u1982\u1985\u1988\u198b\u198e\u1991\u1994\u1997\u199a\u199d\u19a1\u19a5\u19a9\u19ad\u19b1\u19b5" +
+                    "\u19b9\u19bd\u19c1\u19c5\u19c9\u19cd\u19d1\u19d5\u19d9\u19dd\u19e1\u19e5\u19e9\u19ed\u19f1\u19f5" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u19f9\u19fb\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u19fd\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u19ff\u1a01\u1a03\u0000\u0000\u0000\u1a05\u1a07\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u1a09\u1a0b\u1a0d\u1a0f" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u1a11\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u1a13\u1a15\u1a17\u1a19\u1a1b\u1a1d\u1a1f\u1a21\u1a23\u1a25\u1a27\u1a29\u1a2b\u1a2d\u1a2f\u1a31" +
+                    "\u1a33\u1a35\u1a37\u1a39\u1a3b\u1a3d\u1a3f\u1a41\u1a43\u1a45\u1a47\u1a49\u1a4b\u1a4d\u1a4f\u1a51" +
+                    "\u1a53\u1a55\u1a57\u1a59\u1a5b\u1a5d\u1a5f\u1a61\u1a63\u1a65\u1a67\u1a69\u1a6b\u1a6d\u1a6f\u1a71" +
+                    "\u1a73\u1a75\u1a77\u1a79\u1a7b\u1a7d\u1a7f\u1a81\u1a83\u1a85\u1a87\u1a89\u1a8b\u1a8d\u1a8f\u1a91" +
+                    "\u1a93\u1a95\u1a97\u1a99\u1a9b\u1a9d\u1a9f\u1aa1\u1aa3\u1aa5\u1aa7\u1aa9\u1aab\u1aad\u1aaf\u1ab1" +
+                    "\u1ab3\u1ab5\u1ab7\u1ab9\u1abb\u1abd\u1abf\u1ac1\u1ac3\u1ac5\u1ac7\u1ac9\u1acb\u1acd\u1acf\u1ad1" +
+                    "\u1ad3\u1ad5\u1ad7\u1ad9\u1adb\u1add\u1adf\u1ae1\u1ae3\u1ae5\u1ae7\u1ae9\u1aeb\u1aed\u1aef\u1af1" +
+                    "\u1af3\u1af5\u1af7\u1af9\u1afb\u1afd\u1aff\u1b01\u1b03\u1b05\u1b07\u1b09\u1b0b\u1b0d\u1b0f\u1b11" +
+                    "\u1b13\u1b15\u1b17\u1b19\u1b1b\u1b1d\u1b1f\u1b21\u1b23\u1b25\u1b27\u1b29\u1b2b\u1b2d\u1b2f\u1b31" +
+                    "\u1b33\u1b35\u1b37\u1b39\u1b3b\u1b3d\u1b3f\u1b41\u1b43\u1b45\u1b47\u1b49\u1b4b\u1b4d\u1b4f\u1b51" +
+                    "\u1b53\u1b55\u1b57\u1b59\u1b5b\u1b5d\u1b5f\u1b61\u1b63\u1b65\u1b67\u1b69\u1b6b\u1b6d\u1b6f\u1b71" +
+                    "\u1b73\u1b75\u1b77\u1b79\u1b7b\u1b7d\u1b7f\u1b81\u1b83\u1b85\u1b87\u1b89\u1b8b\u1b8d\u1b8f\u1b91" +
+                    "\u1b93\u1b95\u1b97\u1b99\u1b9b\u1b9d\u1b9f\u1ba1\u1ba3\u1ba5\u1ba7\u1ba9\u1bab\u1bad\u1baf\u1bb1" +
+                    "\u1bb3\u1bb5\u1bb7\u1bb9\u1bbb\u1bbd\u1bbf\u1bc1\u1bc3\u1bc5\u1bc7\u1bc9\u1bcb\u1bcd\u1bcf\u1bd1" +
+                    "\u1bd3\u1bd5\u1bd7\u1bd9\u1bdb\u1bdd\u1bdf\u1be1\u1be3\u1be5\u1be7\u1be9\u1beb\u1bed\u1bef\u1bf1" +
+                    "\u1bf3\u1bf5\u1bf7\u1bf9\u1bfb\u1bfd\u1bff\u1c01\u1c03\u1c05\u1c07\u1c09\u1c0b\u1c0d\u1c0f\u1c11" +
+                    "\u1c13\u1c15\u1c17\u1c19\u1c1b\u1c1d\u1c1f\u1c21\u1c23\u1c25\u1c27\u1c29\u1c2b\u1c2d\u0000\u0000" +
+                    "\u1c2f\u0000\u1c31\u0000\u0000\u1c33\u1c35\u1c37\u1c39\u1c3b\u1c3d\u1c3f\u1c41\u1c43\u1c45\u0000" +
+                    "\u1c47\u0000\u1c49\u0000\u0000\u1c4b\u1c4d\u0000\u0000\u0000\u1c4f\u1c51\u1c53\u1c55\u1c57\u1c59" +
+                    "\u1c5b\u1c5d\u1c5f\u1c61\u1c63\u1c65\u1c67\u1c69\u1c6b\u1c6d\u1c6f\u1c71\u1c73\u1c75\u1c77\u1c79" +
+                    "\u1c7b\u1c7d\u1c7f\u1c81\u1c83\u1c85\u1c87\u1c89\u1c8b\u1c8d\u1c8f\u1c91\u1c93\u1c95\u1c97\u1c99" +
+                    "\u1c9b\u1c9d\u1c9f\u1ca1\u1ca3\u1ca5\u1ca7\u1ca9\u1cab\u1cad\u1caf\u1cb1\u1cb3\u1cb5\u1cb7\u1cb9" +
+                    "\u1cbb\u1cbd\u1cbf\u1cc1\u1cc3\u1cc5\u1cc7\u1cc9\u1ccb\u1ccd\u1ccf\u1cd1\u1cd3\u1cd5\u0000\u0000" +
+                    "\u1cd7\u1cd9\u1cdb\u1cdd\u1cdf\u1ce1\u1ce3\u1ce5\u1ce7\u1ce9\u1ceb\u1ced\u1cef\u1cf1\u1cf3\u1cf5" +
+                    "\u1cf7\u1cf9\u1cfb\u1cfd\u1cff\u1d01\u1d03\u1d05\u1d07\u1d09\u1d0b\u1d0d\u1d0f\u1d11\u1d13\u1d15" +
+                    "\u1d17\u1d19\u1d1b\u1d1d\u1d1f\u1d21\u1d23\u1d25\u1d27\u1d29\u1d2b\u1d2d\u1d2f\u1d31\u1d33\u1d35" +
+                    "\u1d37\u1d39\u1d3b\u1d3d\u1d3f\u1d41\u1d43\u1d45\u1d47\u1d49\u1d4b\u1d4d\u1d4f\u1d51\u1d53\u1d55" +
+                    "\u1d57\u1d59\u1d5b\u1d5d\u1d5f\u1d61\u1d63\u1d65\u1d67\u1d69\u1d6b\u1d6d\u1d6f\u1d71\u1d73\u1d75" +
+                    "\u1d77\u1d79\u1d7b\u1d7d\u1d7f\u1d81\u1d83\u1d85\u1d87\u1d89\u1d8b\u1d8d\u1d8f\u1d91\u1d93\u1d95" +
+                    "\u1d97\u1d99\u1d9b\u1d9d\u1d9f\u1da1\u1da3\u1da5\u1da7\u1da9\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u1dab\u1dae\u1db1\u1db4\u1db8\u1dbc\u1dbf\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u1dc2\u1dc5\u1dc8\u1dcb\u1dce\u0000\u0000\u0000\u0000\u0000\u1dd1\u0000\u1dd4" +
+                    "\u1dd7\u1dd9\u1ddb\u1ddd\u1ddf\u1de1\u1de3\u1de5\u1de7\u1de9\u1deb\u1dee\u1df1\u1df4\u1df7\u1dfa" +
+                    "\u1dfd\u1e00\u1e03\u1e06\u1e09\u1e0c\u1e0f\u0000\u1e12\u1e15\u1e18\u1e1b\u1e1e\u0000\u1e21\u0000" +
+                    "\u1e24\u1e27\u0000\u1e2a\u1e2d\u0000\u1e30\u1e33\u1e36\u1e39\u1e3c\u1e3f\u1e42\u1e45\u1e48\u1e4b" +
+                    "\u1e4e\u1e50\u1e52\u1e54\u1e56\u1e58\u1e5a\u1e5c\u1e5e\u1e60\u1e62\u1e64\u1e66\u1e68\u1e6a\u1e6c" +
+                    "\u1e6e\u1e70\u1e72\u1e74\u1e76\u1e78\u1e7a\u1e7c\u1e7e\u1e80\u1e82\u1e84\u1e86\u1e88\u1e8a\u1e8c" +
+                    "\u1e8e\u1e90\u1e92\u1e94\u1e96\u1e98\u1e9a\u1e9c\u1e9e\u1ea0\u1ea2\u1ea4\u1ea6\u1ea8\u1eaa\u1eac" +
+                    "\u1eae\u1eb0\u1eb2\u1eb4\u1eb6\u1eb8\u1eba\u1ebc\u1ebe\u1ec0\u1ec2\u1ec4\u1ec6\u1ec8\u1eca\u1ecc" +
+                    "\u1ece\u1ed0\u1ed2\u1ed4\u1ed6\u1ed8\u1eda\u1edc\u1ede\u1ee0\u1ee2\u1ee4\u1ee6\u1ee8\u1eea\u1eec" +
+                    "\u1eee\u1ef0\u1ef2\u1ef4\u1ef6\u1ef8\u1efa\u1efc\u1efe\u1f00\u1f02\u1f04\u1f06\u1f08\u1f0a\u1f0c" +
+                    "\u1f0e\u1f10\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u1f12\u1f14\u1f16\u1f18\u1f1a\u1f1c\u1f1e\u1f20\u1f22\u1f24\u1f26\u1f28\u1f2a" +
+                    "\u1f2c\u1f2e\u1f30\u1f32\u1f34\u1f36\u1f38\u1f3a\u1f3c\u1f3e\u1f40\u1f43\u1f46\u1f49\u1f4c\u1f4f" +
+                    "\u1f52\u1f55\u1f58\u1f5b\u1f5e\u1f61\u1f64\u1f67\u1f6a\u1f6d\u1f70\u1f73\u1f76\u1f78\u1f7a\u1f7c" +
+                    "\u1f7e\u1f81\u1f84\u1f87\u1f8a\u1f8d\u1f90\u1f93\u1f96\u1f99\u1f9c\u1f9f\u1fa2\u1fa5\u1fa8\u1fab" +
+                    "\u1fae\u1fb1\u1fb4\u1fb7\u1fba\u1fbd\u1fc0\u1fc3\u1fc6\u1fc9\u1fcc\u1fcf\u1fd2\u1fd5\u1fd8\u1fdb" +
+                    "\u1fde\u1fe1\u1fe4\u1fe7\u1fea\u1fed\u1ff0\u1ff3\u1ff6\u1ff9\u1ffc\u1fff\u2002\u2005\u2008\u200b" +
+                    "\u200e\u2011\u2014\u2017\u201a\u201d\u2020\u2023\u2026\u2029\u202c\u202f\u2032\u2035\u2038\u203b" +
+                    "\u203e\u2041\u2044\u2047\u204a\u204d\u2050\u2053\u2056\u2059\u205c\u205f\u2062\u2065\u2068\u206b" +
+                    "\u206e\u2071\u2074\u2077\u207a\u207d\u2080\u2083\u2086\u2089\u208c\u208f\u2092\u2095\u2098\u209c" +
+                    "\u20a0\u20a4\u20a8\u20ac\u20b0\u20b3\u20b6\u20b9\u20bc\u20bf\u20c2\u20c5\u20c8\u20cb\u20ce\u20d1" +
+                    "\u20d4\u20d7\u20da\u20dd\u20e0\u20e3\u20e6\u20e9\u20ec\u20ef\u20f2\u20f5\u20f8\u20fb\u20fe\u2101" +
+                    "\u2104\u2107\u210a\u210d\u2110\u2113\u2116\u2119\u211c\u211f\u2122\u2125\u2128\u212b\u212e\u2131" +
+                    "\u2134\u2137\u213a\u213d\u2140\u2143\u2146\u2149\u214c\u214f\u2152\u2155\u2158\u215b\u215e\u2161" +
+                    "\u2164\u2167\u216a\u216d\u2170\u2173\u2176\u2179\u217c\u217f\u2182\u2185\u2188\u218b\u218e\u2191" +
+                    "\u2194\u2197\u219a\u219d\u21a0\u21a3\u21a6\u21a9\u21ac\u21af\u21b2\u21b5\u21b8\u21bb\u21be\u21c1" +
+                    "\u21c4\u21c7\u21ca\u21cd\u21d0\u21d3\u21d6\u21d9\u21dc\u21df\u21e2\u21e5\u21e8\u21eb\u21ee\u21f1" +
+                    "\u21f4\u21f7\u21fa\u21fd\u2200\u2203\u2206\u2209\u220c\u220f\u2212\u2215\u2218\u221b\u221e\u2221" +
+                    "\u2224\u2227\u222a\u222d\u2230\u2233\u2236\u2239\u223c\u223f\u2242\u2245\u2248\u224b\u224e\u2251" +
+                    "\u2254\u2257\u225a\u225e\u2262\u2266\u2269\u226c\u226f\u2272\u2275\u2278\u227b\u227e\u2281\u2284" +
+                    "\u2287\u228a\u228d\u2290\u2293\u2296\u2299\u229c\u229f\u22a2\u22a5\u22a8\u22ab\u22ae\u22b1\u22b4" +
+                    "\u22b7\u22ba\u22bd\u22c0\u22c3\u22c6\u22c9\u22cc\u22cf\u22d2\u22d5\u22d8\u22db\u22de\u22e1\u22e4" +
+                    "\u22e7\u22ea\u22ed\u22f0\u22f3\u22f6\u22f9\u22fc\u22ff\u2302\u2305\u2308\u230b\u230e\u2311\u2314" +
+                    "\u2317\u231a\u231d\u2320\u2323\u2326\u2329\u232c\u232f\u2332\u2335\u2338\u233b\u233e\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u2341\u2345\u2349\u234d\u2351\u2355\u2359\u235d\u2361\u2365\u2369\u236d\u2371\u2375\u2379\u237d" +
+                    "\u2381\u2385\u2389\u238d\u2391\u2395\u2399\u239d\u23a1\u23a5\u23a9\u23ad\u23b1\u23b5\u23b9\u23bd" +
+                    "\u23c1\u23c5\u23c9\u23cd\u23d1\u23d5\u23d9\u23dd\u23e1\u23e5\u23e9\u23ed\u23f1\u23f5\u23f9\u23fd" +
+                    "\u2401\u2405\u2409\u240d\u2411\u2415\u2419\u241d\u2421\u2425\u2429\u242d\u2431\u2435\u2439\u243d" +
+                    "\u0000\u0000\u2441\u2445\u2449\u244d\u2451\u2455\u2459\u245d\u2461\u2465\u2469\u246d\u2471\u2475" +
+                    "\u2479\u247d\u2481\u2485\u2489\u248d\u2491\u2495\u2499\u249d\u24a1\u24a5\u24a9\u24ad\u24b1\u24b5" +
+                    "\u24b9\u24bd\u24c1\u24c5\u24c9\u24cd\u24d1\u24d5\u24d9\u24dd\u24e1\u24e5\u24e9\u24ed\u24f1\u24f5" +
+                    "\u24f9\u24fd\u2501\u2505\u2509\u250d\u2511\u2515\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u2519\u251d\u2521\u2526\u252b\u2530\u2535\u253a\u253f\u2544\u2548\u255b\u2564\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u2569\u256b\u256d\u256f\u2571\u2573\u2575\u2577\u2579\u257b\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u257d\u257f\u2581\u2583\u2585\u2587\u2589\u258b\u258d\u258f\u2591\u2593\u2595\u2597\u2599\u259b" +
+                    "\u259d\u259f\u25a1\u25a3\u25a5\u0000\u0000\u25a7\u25a9\u25ab\u25ad\u25af\u25b1\u25b3\u25b5\u25b7" +
+                    "\u25b9\u25bb\u25bd\u0000\u25bf\u25c1\u25c3\u25c5\u25c7\u25c9\u25cb\u25cd\u25cf\u25d1\u25d3\u25d5" +
+                    "\u25d7\u25d9\u25db\u25dd\u25df\u25e1\u25e3\u0000\u25e5\u25e7\u25e9\u25eb\u0000\u0000\u0000\u0000" +
+                    "\u25ed\u25f0\u25f3\u0000\u25f6\u0000\u25f9\u25fc\u25ff\u2602\u2605\u2608\u260b\u260e\u2611\u2614" +
+                    "\u2617\u2619\u261b\u261d\u261f\u2621\u2623\u2625\u2627\u2629\u262b\u262d\u262f\u2631\u2633\u2635" +
+                    "\u2637\u2639\u263b\u263d\u263f\u2641\u2643\u2645\u2647\u2649\u264b\u264d\u264f\u2651\u2653\u2655" +
+                    "\u2657\u2659\u265b\u265d\u265f\u2661\u2663\u2665\u2667\u2669\u266b\u266d\u266f\u2671\u2673\u2675" +
+                    "\u2677\u2679\u267b\u267d\u267f\u2681\u2683\u2685\u2687\u2689\u268b\u268d\u268f\u2691\u2693\u2695" +
+                    "\u2697\u2699\u269b\u269d\u269f\u26a1\u26a3\u26a5\u26a7\u26a9\u26ab\u26ad\u26af\u26b1\u26b3\u26b5" +
+                    "\u26b7\u26b9\u26bb\u26bd\u26bf\u26c1\u26c3\u26c5\u26c7\u26c9\u26cb\u26cd\u26cf\u26d1\u26d3\u26d5" +
+                    "\u26d7\u26d9\u26db\u26dd\u26df\u26e1\u26e3\u26e5\u26e7\u26e9\u26eb\u26ed\u26ef\u26f1\u26f3\u26f5" +
+                    "\u26f7\u26f9\u26fb\u26fd\u26ff\u2701\u2704\u2707\u270a\u270d\u2710\u2713\u2716\u0000\u0000\u0000" +
+                    "\u0000\u2719\u271b\u271d\u271f\u2721\u2723\u2725\u2727\u2729\u272b\u272d\u272f\u2731\u2733\u2735" +
+                    "\u2737\u2739\u273b\u273d\u273f\u2741\u2743\u2745\u2747\u2749\u274b\u274d\u274f\u2751\u2753\u2755" +
+                    "\u2757\u2759\u275b\u275d\u275f\u2761\u2763\u2765\u2767\u2769\u276b\u276d\u276f\u2771\u2773\u2775" +
+                    "\u2777\u2779\u277b\u277d\u277f\u2781\u2783\u2785\u2787\u2789\u278b\u278d\u278f\u2791\u2793\u2795" +
+                    "\u2797\u2799\u279b\u279d\u279f\u27a1\u27a3\u27a5\u27a7\u27a9\u27ab\u27ad\u27af\u27b1\u27b3\u27b5" +
+                    "\u27b7\u27b9\u27bb\u27bd\u27bf\u27c1\u27c3\u27c5\u27c7\u27c9\u27cb\u27cd\u27cf\u27d1\u27d3\u27d5" +
+                    "\u27d7\u27d9\u27db\u27dd\u27df\u27e1\u27e3\u27e5\u27e7\u27e9\u27eb\u27ed\u27ef\u27f1\u27f3\u27f5" +
+                    "\u27f7\u27f9\u27fb\u27fd\u27ff\u2801\u2803\u2805\u2807\u2809\u280b\u280d\u280f\u2811\u2813\u2815" +
+                    "\u2817\u2819\u281b\u281d\u281f\u2821\u2823\u2825\u2827\u2829\u282b\u282d\u282f\u2831\u2833\u2835" +
+                    "\u2837\u2839\u283b\u283d\u283f\u2841\u2843\u2845\u2847\u2849\u284b\u284d\u284f\u2851\u2853\u2855" +
+                    "\u2857\u2859\u285b\u285d\u285f\u2861\u2863\u2865\u2867\u2869\u286b\u286d\u286f\u2871\u2873\u2875" +
+                    "\u2877\u2879\u287b\u287d\u287f\u2881\u2883\u2885\u2887\u2889\u288b\u288d\u288f\u2891\u2893\u0000" +
+                    "\u0000\u0000\u2895\u2897\u2899\u289b\u289d\u289f\u0000\u0000\u28a1\u28a3\u28a5\u28a7\u28a9\u28ab" +
+                    "\u0000\u0000\u28ad\u28af\u28b1\u28b3\u28b5\u28b7\u0000\u0000\u28b9\u28bb\u28bd\u0000\u0000\u0000" +
+                    "\u28bf\u28c1\u28c3\u28c5\u28c7\u28c9\u28cb\u0000\u28cd\u28cf\u28d1\u28d3\u28d5\u28d7\u28d9\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u28db\u28dd\u28df\u28e1\u28e3\u0000\u28e5\u28e7\u28e9\u28eb\u28ed\u28ef\u28f1\u28f3\u28f5" +
+                    "\u28f7\u28f9\u28fb\u28fd\u28ff\u2901\u2903\u2905\u2907\u2909\u290b\u290d\u290f\u2911\u2913\u2915" +
+                    "\u2917\u2919\u291b\u291d\u291f\u2921\u2923\u2925\u2927\u2929\u292b\u292d\u292f\u2931\u2933\u2935" +
+                    "\u2937\u0000\u2939\u293b\u293d\u293f\u2941\u2943\u2945\u2947\u2949\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u294b\u0000\u294e\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u2951\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u2954\u2957" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u295a\u295d\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u2960\u2963\u0000\u2966\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u2969\u296c\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u296f\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u2972\u2975" +
+                    "\u2978\u297b\u297e\u2981\u2984\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u2987\u298a\u298d\u2990\u2993" +
+                    "\u2996\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u2999\u299b\u299d\u299f\u29a1\u29a3\u29a5\u29a7\u29a9\u29ab\u29ad\u29af\u29b1\u29b3\u29b5\u29b7" +
+                    "\u29b9\u29bb\u29bd\u29bf\u29c1\u29c3\u29c5\u29c7\u29c9\u29cb\u29cd\u29cf\u29d1\u29d3\u29d5\u29d7" +
+                    "\u29d9\u29db\u29dd\u29df\u29e1\u29e3\u29e5\u29e7\u29e9\u29eb\u29ed\u29ef\u29f1\u29f3\u29f5\u29f7" +
+                    "\u29f9\u29fb\u29fd\u29ff\u2a01\u2a03\u2a05\u2a07\u2a09\u2a0b\u2a0d\u2a0f\u2a11\u2a13\u2a15\u2a17" +
+                    "\u2a19\u2a1b\u2a1d\u2a1f\u2a21\u2a23\u2a25\u2a27\u2a29\u2a2b\u2a2d\u2a2f\u2a31\u2a33\u2a35\u2a37" +
+                    "\u2a39\u2a3b\u2a3d\u2a3f\u2a41\u0000\u2a43\u2a45\u2a47\u2a49\u2a4b\u2a4d\u2a4f\u2a51\u2a53\u2a55" +
+                    "\u2a57\u2a59\u2a5b\u2a5d\u2a5f\u2a61\u2a63\u2a65\u2a67\u2a69\u2a6b\u2a6d\u2a6f\u2a71\u2a73\u2a75" +
+                    "\u2a77\u2a79\u2a7b\u2a7d\u2a7f\u2a81\u2a83\u2a85\u2a87\u2a89\u2a8b\u2a8d\u2a8f\u2a91\u2a93\u2a95" +
+                    "\u2a97\u2a99\u2a9b\u2a9d\u2a9f\u2aa1\u2aa3\u2aa5\u2aa7\u2aa9\u2aab\u2aad\u2aaf\u2ab1\u2ab3\u2ab5" +
+                    "\u2ab7\u2ab9\u2abb\u2abd\u2abf\u2ac1\u2ac3\u2ac5\u2ac7\u2ac9\u2acb\u2acd\u2acf\u0000\u2ad1\u2ad3" +
+                    "\u0000\u0000\u2ad5\u0000\u0000\u2ad7\u2ad9\u0000\u0000\u2adb\u2add\u2adf\u2ae1\u0000\u2ae3\u2ae5" +
+                    "\u2ae7\u2ae9\u2aeb\u2aed\u2aef\u2af1\u2af3\u2af5\u2af7\u2af9\u0000\u2afb\u0000\u2afd\u2aff\u2b01" +
+                    "\u2b03\u2b05\u2b07\u2b09\u0000\u2b0b\u2b0d\u2b0f\u2b11\u2b13\u2b15\u2b17\u2b19\u2b1b\u2b1d\u2b1f" +
+                    "\u2b21\u2b23\u2b25\u2b27\u2b29\u2b2b\u2b2d\u2b2f\u2b31\u2b33\u2b35\u2b37\u2b39\u2b3b\u2b3d\u2b3f" +
+                    "\u2b41\u2b43\u2b45\u2b47\u2b49\u2b4b\u2b4d\u2b4f\u2b51\u2b53\u2b55\u2b57\u2b59\u2b5b\u2b5d\u2b5f" +
+                    "\u2b61\u2b63\u2b65\u2b67\u2b69\u2b6b\u2b6d\u2b6f\u2b71\u2b73\u2b75\u2b77\u2b79\u2b7b\u2b7d\u2b7f" +
+                    "\u2b81\u2b83\u2b85\u2b87\u2b89\u2b8b\u0000\u2b8d\u2b8f\u2b91\u2b93\u0000\u0000\u2b95\u2b97\u2b99" +
+                    "\u2b9b\u2b9d\u2b9f\u2ba1\u2ba3\u0000\u2ba5\u2ba7\u2ba9\u2bab\u2bad\u2baf\u2bb1\u0000\u2bb3\u2bb5" +
+                    "\u2bb7\u2bb9\u2bbb\u2bbd\u2bbf\u2bc1\u2bc3\u2bc5\u2bc7\u2bc9\u2bcb\u2bcd\u2bcf\u2bd1\u2bd3\u2bd5" +
+                    "\u2bd7\u2bd9\u2bdb\u2bdd\u2bdf\u2be1\u2be3\u2be5\u2be7\u2be9\u0000\u2beb\u2bed\u2bef\u2bf1\u0000" +
+                    "\u2bf3\u2bf5\u2bf7\u2bf9\u2bfb\u0000\u2bfd\u0000\u0000\u0000\u2bff\u2c01\u2c03\u2c05\u2c07\u2c09" +
+                    "\u2c0b\u0000\u2c0d\u2c0f\u2c11\u2c13\u2c15\u2c17\u2c19\u2c1b\u2c1d\u2c1f\u2c21\u2c23\u2c25\u2c27" +
+                    "\u2c29\u2c2b\u2c2d\u2c2f\u2c31\u2c33\u2c35\u2c37\u2c39\u2c3b\u2c3d\u2c3f\u2c41\u2c43\u2c45\u2c47" +
+                    "\u2c49\u2c4b\u2c4d\u2c4f\u2c51\u2c53\u2c55\u2c57\u2c59\u2c5b\u2c5d\u2c5f\u2c61\u2c63\u2c65\u2c67" +
+                    "\u2c69\u2c6b\u2c6d\u2c6f\u2c71\u2c73\u2c75\u2c77\u2c79\u2c7b\u2c7d\u2c7f\u2c81\u2c83\u2c85\u2c87" +
+                    "\u2c89\u2c8b\u2c8d\u2c8f\u2c91\u2c93\u2c95\u2c97\u2c99\u2c9b\u2c9d\u2c9f\u2ca1\u2ca3\u2ca5\u2ca7" +
+                    "\u2ca9\u2cab\u2cad\u2caf\u2cb1\u2cb3\u2cb5\u2cb7\u2cb9\u2cbb\u2cbd\u2cbf\u2cc1\u2cc3\u2cc5\u2cc7" +
+                    "\u2cc9\u2ccb\u2ccd\u2ccf\u2cd1\u2cd3\u2cd5\u2cd7\u2cd9\u2cdb\u2cdd\u2cdf\u2ce1\u2ce3\u2ce5\u2ce7" +
+                    "\u2ce9\u2ceb\u2ced\u2cef\u2cf1\u2cf3\u2cf5\u2cf7\u2cf9\u2cfb\u2cfd\u2cff\u2d01\u2d03\u2d05\u2d07" +
+                    "\u2d09\u2d0b\u2d0d\u2d0f\u2d11\u2d13\u2d15\u2d17\u2d19\u2d1b\u2d1d\u2d1f\u2d21\u2d23\u2d25\u2d27" +
+                    "\u2d29\u2d2b\u2d2d\u2d2f\u2d31\u2d33\u2d35\u2d37\u2d39\u2d3b\u2d3d\u2d3f\u2d41\u2d43\u2d45\u2d47" +
+                    "\u2d49\u2d4b\u2d4d\u2d4f\u2d51\u2d53\u2d55\u2d57\u2d59\u2d5b\u2d5d\u2d5f\u2d61\u2d63\u2d65\u2d67" +
+                    "\u2d69\u2d6b\u2d6d\u2d6f\u2d71\u2d73\u2d75\u2d77\u2d79\u2d7b\u2d7d\u2d7f\u2d81\u2d83\u2d85\u2d87" +
+                    "\u2d89\u2d8b\u2d8d\u2d8f\u2d91\u2d93\u2d95\u2d97\u2d99\u2d9b\u2d9d\u2d9f\u2da1\u2da3\u2da5\u2da7" +
+                    "\u2da9\u2dab\u2dad\u2daf\u2db1\u2db3\u2db5\u2db7\u2db9\u2dbb\u2dbd\u2dbf\u2dc1\u2dc3\u2dc5\u2dc7" +
+                    "\u2dc9\u2dcb\u2dcd\u2dcf\u2dd1\u2dd3\u2dd5\u2dd7\u2dd9\u2ddb\u2ddd\u2ddf\u2de1\u2de3\u2de5\u2de7" +
+                    "\u2de9\u2deb\u2ded\u2def\u2df1\u2df3\u2df5\u2df7\u2df9\u2dfb\u2dfd\u2dff\u2e01\u2e03\u2e05\u2e07" +
+                    "\u2e09\u2e0b\u2e0d\u2e0f\u2e11\u2e13\u2e15\u2e17\u2e19\u2e1b\u2e1d\u2e1f\u2e21\u2e23\u2e25\u2e27" +
+                    "\u2e29\u2e2b\u2e2d\u2e2f\u2e31\u2e33\u2e35\u2e37\u2e39\u2e3b\u2e3d\u2e3f\u2e41\u2e43\u2e45\u2e47" +
+                    "\u2e49\u2e4b\u2e4d\u2e4f\u2e51\u2e53\u2e55\u2e57\u2e59\u2e5b\u2e5d\u2e5f\u2e61\u2e63\u2e65\u2e67" +
+                    "\u2e69\u2e6b\u2e6d\u2e6f\u2e71\u2e73\u2e75\u2e77\u2e79\u2e7b\u2e7d\u2e7f\u2e81\u2e83\u2e85\u2e87" +
+                    "\u2e89\u2e8b\u2e8d\u2e8f\u2e91\u2e93\u2e95\u2e97\u2e99\u2e9b\u2e9d\u2e9f\u2ea1\u2ea3\u2ea5\u2ea7" +
+                    "\u2ea9\u2eab\u2ead\u2eaf\u2eb1\u2eb3\u0000\u0000\u2eb5\u2eb7\u2eb9\u2ebb\u2ebd\u2ebf\u2ec1\u2ec3" +
+                    "\u2ec5\u2ec7\u2ec9\u2ecb\u2ecd\u2ecf\u2ed1\u2ed3\u2ed5\u2ed7\u2ed9\u2edb\u2edd\u2edf\u2ee1\u2ee3" +
+                    "\u2ee5\u2ee7\u2ee9\u2eeb\u2eed\u2eef\u2ef1\u2ef3\u2ef5\u2ef7\u2ef9\u2efb\u2efd\u2eff\u2f01\u2f03" +
+                    "\u2f05\u2f07\u2f09\u2f0b\u2f0d\u2f0f\u2f11\u2f13\u2f15\u2f17\u2f19\u2f1b\u2f1d\u2f1f\u2f21\u2f23" +
+                    "\u2f25\u2f27\u2f29\u2f2b\u2f2d\u2f2f\u2f31\u2f33\u2f35\u2f37\u2f39\u2f3b\u2f3d\u2f3f\u2f41\u2f43" +
+                    "\u2f45\u2f47\u2f49\u2f4b\u2f4d\u2f4f\u2f51\u2f53\u2f55\u2f57\u2f59\u2f5b\u2f5d\u2f5f\u2f61\u2f63" +
+                    "\u2f65\u2f67\u2f69\u2f6b\u2f6d\u2f6f\u2f71\u2f73\u2f75\u2f77\u2f79\u2f7b\u2f7d\u2f7f\u2f81\u2f83" +
+                    "\u2f85\u2f87\u2f89\u2f8b\u2f8d\u2f8f\u2f91\u2f93\u2f95\u2f97\u2f99\u2f9b\u2f9d\u2f9f\u2fa1\u2fa3" +
+                    "\u2fa5\u2fa7\u2fa9\u2fab\u2fad\u2faf\u2fb1\u2fb3\u2fb5\u2fb7\u2fb9\u2fbb\u2fbd\u2fbf\u2fc1\u2fc3" +
+                    "\u2fc5\u2fc7\u2fc9\u2fcb\u2fcd\u2fcf\u2fd1\u2fd3\u2fd5\u2fd7\u2fd9\u2fdb\u2fdd\u2fdf\u2fe1\u2fe3" +
+                    "\u2fe5\u2fe7\u2fe9\u2feb\u2fed\u2fef\u2ff1\u2ff3\u2ff5\u2ff7\u2ff9\u2ffb\u2ffd\u2fff\u3001\u3003" +
+                    "\u3005\u3007\u3009\u300b\u300d\u300f\u3011\u3013\u3015\u3017\u3019\u301b\u301d\u301f\u3021\u3023" +
+                    "\u3025\u3027\u3029\u302b\u302d\u302f\u3031\u3033\u3035\u3037\u3039\u303b\u303d\u303f\u3041\u3043" +
+                    "\u3045\u3047\u3049\u304b\u304d\u304f\u3051\u3053\u3055\u3057\u3059\u305b\u305d\u305f\u3061\u3063" +
+                    "\u3065\u3067\u3069\u306b\u306d\u306f\u3071\u3073\u3075\u3077\u3079\u307b\u307d\u307f\u3081\u3083" +
+                    "\u3085\u3087\u3089\u308b\u308d\u308f\u3091\u3093\u3095\u3097\u3099\u309b\u309d\u309f\u30a1\u30a3" +
+                    "\u30a5\u30a7\u30a9\u30ab\u30ad\u30af\u30b1\u30b3\u30b5\u30b7\u30b9\u30bb\u30bd\u30bf\u30c1\u30c3" +
+                    "\u30c5\u30c7\u30c9\u30cb\u30cd\u30cf\u30d1\u30d3\u30d5\u30d7\u30d9\u30db\u30dd\u30df\u30e1\u30e3" +
+                    "\u30e5\u30e7\u30e9\u30eb\u30ed\u30ef\u30f1\u30f3\u30f5\u30f7\u30f9\u30fb\u0000\u0000\u30fd\u30ff" +
+                    "\u3101\u3103\u3105\u3107\u3109\u310b\u310d\u310f\u3111\u3113\u3115\u3117\u3119\u311b\u311d\u311f" +
+                    "\u3121\u3123\u3125\u3127\u3129\u312b\u312d\u312f\u3131\u3133\u3135\u3137\u3139\u313b\u313d\u313f" +
+                    "\u3141\u3143\u3145\u3147\u3149\u314b\u314d\u314f\u3151\u3153\u3155\u3157\u3159\u315b\u315d\u315f" +
+                    "\u3161\u3163\u3165\u3167\u0000\u3169\u316b\u316d\u316f\u3171\u3173\u3175\u3177\u3179\u317b\u317d" +
+                    "\u317f\u3181\u3183\u3185\u3187\u3189\u318b\u318d\u318f\u3191\u3193\u3195\u3197\u3199\u319b\u319d" +
+                    "\u0000\u319f\u31a1\u0000\u31a3\u0000\u0000\u31a5\u0000\u31a7\u31a9\u31ab\u31ad\u31af\u31b1\u31b3" +
+                    "\u31b5\u31b7\u31b9\u0000\u31bb\u31bd\u31bf\u31c1\u0000\u31c3\u0000\u31c5\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u31c7\u0000\u0000\u0000\u0000\u31c9\u0000\u31cb\u0000\u31cd\u0000\u31cf\u31d1\u31d3" +
+                    "\u0000\u31d5\u31d7\u0000\u31d9\u0000\u0000\u31db\u0000\u31dd\u0000\u31df\u0000\u31e1\u0000\u31e3" +
+                    "\u0000\u31e5\u31e7\u0000\u31e9\u0000\u0000\u31eb\u31ed\u31ef\u31f1\u0000\u31f3\u31f5\u31f7\u31f9" +
+                    "\u31fb\u31fd\u31ff\u0000\u3201\u3203\u3205\u3207\u0000\u3209\u320b\u320d\u320f\u0000\u3211\u0000" +
+                    "\u3213\u3215\u3217\u3219\u321b\u321d\u321f\u3221\u3223\u3225\u0000\u3227\u3229\u322b\u322d\u322f" +
+                    "\u3231\u3233\u3235\u3237\u3239\u323b\u323d\u323f\u3241\u3243\u3245\u3247\u0000\u0000\u0000\u0000" +
+                    "\u0000\u3249\u324b\u324d\u0000\u324f\u3251\u3253\u3255\u3257\u0000\u3259\u325b\u325d\u325f\u3261" +
+                    "\u3263\u3265\u3267\u3269\u326b\u326d\u326f\u3271\u3273\u3275\u3277\u3279\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u327b\u327e\u3281\u3284\u3287\u328a\u328d\u3290\u3293\u3296\u3299\u0000\u0000\u0000\u0000\u0000" +
+                    "\u329c\u32a0\u32a4\u32a8\u32ac\u32b0\u32b4\u32b8\u32bc\u32c0\u32c4\u32c8\u32cc\u32d0\u32d4\u32d8" +
+                    "\u32dc\u32e0\u32e4\u32e8\u32ec\u32f0\u32f4\u32f8\u32fc\u3300\u3304\u3308\u330a\u330c\u330f\u0000" +
+                    "\u3312\u3314\u3316\u3318\u331a\u331c\u331e\u3320\u3322\u3324\u3326\u3328\u332a\u332c\u332e\u3330" +
+                    "\u3332\u3334\u3336\u3338\u333a\u333c\u333e\u3340\u3342\u3344\u3346\u3349\u334c\u334f\u3352\u3356" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u3359\u335c\u335f\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u3362\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u3365\u3368\u336b\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u336d\u336f\u3371\u3373\u3375\u3377\u3379\u337b\u337d\u337f\u3381\u3383\u3385\u3387\u3389\u338b" +
+                    "\u338d\u338f\u3391\u3393\u3395\u3397\u3399\u339b\u339d\u339f\u33a1\u33a3\u33a5\u33a7\u33a9\u33ab" +
+                    "\u33ad\u33af\u33b1\u33b3\u33b5\u33b7\u33b9\u33bb\u33bd\u33bf\u33c1\u33c3\u0000\u0000\u0000\u0000" +
+                    "\u33c5\u33c9\u33cd\u33d1\u33d5\u33d9\u33dd\u33e1\u33e5\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u33e9\u33eb\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u33ed\u33ef\u33f1\u33f3\u33f5\u33f7\u33f9\u33fb\u33fd\u33ff\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u3401\u3403\u3405\u3407\u3409\u340b\u340d\u340f\u3411\u3413\u3415\u3417\u3419\u341b\u341d\u341f" +
+                    "\u3421\u3423\u3425\u3427\u3429\u342b\u342d\u342f\u3431\u3433\u3435\u3437\u3439\u343b\u343d\u343f" +
+                    "\u3441\u3443\u3445\u3447\u3449\u344b\u344d\u344f\u3451\u3453\u3455\u3457\u3459\u345b\u345d\u345f" +
+                    "\u3461\u3463\u3465\u3467\u3469\u346b\u346d\u346f\u3471\u3473\u3475\u3477\u3479\u347b\u347d\u347f" +
+                    "\u3481\u3483\u3485\u3487\u3489\u348b\u348d\u348f\u3491\u3493\u3495\u3497\u3499\u349b\u349d\u349f" +
+                    "\u34a1\u34a3\u34a5\u34a7\u34a9\u34ab\u34ad\u34af\u34b1\u34b3\u34b5\u34b7\u34b9\u34bb\u34bd\u34bf" +
+                    "\u34c1\u34c3\u34c5\u34c7\u34c9\u34cb\u34cd\u34cf\u34d1\u34d3\u34d5\u34d7\u34d9\u34db\u34dd\u34df" +
+                    "\u34e1\u34e3\u34e5\u34e7\u34e9\u34eb\u34ed\u34ef\u34f1\u34f3\u34f5\u34f7\u34f9\u34fb\u34fd\u34ff" +
+                    "\u3501\u3503\u3505\u3507\u3509\u350b\u350d\u350f\u3511\u3513\u3515\u3517\u3519\u351b\u351d\u351f" +
+                    "\u3521\u3523\u3525\u3527\u3529\u352b\u352d\u352f\u3531\u3533\u3535\u3537\u3539\u353b\u353d\u353f" +
+                    "\u3541\u3543\u3545\u3547\u3549\u354b\u354d\u354f\u3551\u3553\u3555\u3557\u3559\u355b\u355d\u355f" +
+                    "\u3561\u3563\u3565\u3567\u3569\u356b\u356d\u356f\u3571\u3573\u3575\u3577\u3579\u357b\u357d\u357f" +
+                    "\u3581\u3583\u3585\u3587\u3589\u358b\u358d\u358f\u3591\u3593\u3595\u3597\u3599\u359b\u359d\u359f" +
+                    "\u35a1\u35a3\u35a5\u35a7\u35a9\u35ab\u35ad\u35af\u35b1\u35b3\u35b5\u35b7\u35b9\u35bb\u35bd\u35bf" +
+                    "\u35c1\u35c3\u35c5\u35c7\u35c9\u35cb\u35cd\u35cf\u35d1\u35d3\u35d5\u35d7\u35d9\u35db\u35dd\u35df" +
+                    "\u35e1\u35e3\u35e5\u35e7\u35e9\u35eb\u35ed\u35ef\u35f1\u35f3\u35f5\u35f7\u35f9\u35fb\u35fd\u35ff" +
+                    "\u3601\u3603\u3605\u3607\u3609\u360b\u360d\u360f\u3611\u3613\u3615\u3617\u3619\u361b\u361d\u361f" +
+                    "\u3621\u3623\u3625\u3627\u3629\u362b\u362d\u362f\u3631\u3633\u3635\u3637\u3639\u363b\u363d\u363f" +
+                    "\u3641\u3643\u3645\u3647\u3649\u364b\u364d\u364f\u3651\u3653\u3655\u3657\u3659\u365b\u365d\u365f" +
+                    "\u3661\u3663\u3665\u3667\u3669\u366b\u366d\u366f\u3671\u3673\u3675\u3677\u3679\u367b\u367d\u367f" +
+                    "\u3681\u3683\u3685\u3687\u3689\u368b\u368d\u368f\u3691\u3693\u3695\u3697\u3699\u369b\u369d\u369f" +
+                    "\u36a1\u36a3\u36a5\u36a7\u36a9\u36ab\u36ad\u36af\u36b1\u36b3\u36b5\u36b7\u36b9\u36bb\u36bd\u36bf" +
+                    "\u36c1\u36c3\u36c5\u36c7\u36c9\u36cb\u36cd\u36cf\u36d1\u36d3\u36d5\u36d7\u36d9\u36db\u36dd\u36df" +
+                    "\u36e1\u36e3\u36e5\u36e7\u36e9\u36eb\u36ed\u36ef\u36f1\u36f3\u36f5\u36f7\u36f9\u36fb\u36fd\u36ff" +
+                    "\u3701\u3703\u3705\u3707\u3709\u370b\u370d\u370f\u3711\u3713\u3715\u3717\u3719\u371b\u371d\u371f" +
+                    "\u3721\u3723\u3725\u3727\u3729\u372b\u372d\u372f\u3731\u3733\u3735\u3737\u3739\u373b\u373d\u373f" +
+                    "\u3741\u3743\u3745\u3747\u3749\u374b\u374d\u374f\u3751\u3753\u3755\u3757\u3759\u375b\u375d\u375f" +
+                    "\u3761\u3763\u3765\u3767\u3769\u376b\u376d\u376f\u3771\u3773\u3775\u3777\u3779\u377b\u377d\u377f" +
+                    "\u3781\u3783\u3785\u3787\u3789\u378b\u378d\u378f\u3791\u3793\u3795\u3797\u3799\u379b\u379d\u379f" +
+                    "\u37a1\u37a3\u37a5\u37a7\u37a9\u37ab\u37ad\u37af\u37b1\u37b3\u37b5\u37b7\u37b9\u37bb\u37bd\u37bf" +
+                    "\u37c1\u37c3\u37c5\u37c7\u37c9\u37cb\u37cd\u37cf\u37d1\u37d3\u37d5\u37d7\u37d9\u37db\u37dd\u37df" +
+                    "\u37e1\u37e3\u37e5\u37e7\u37e9\u37eb\u37ed\u37ef\u37f1\u37f3\u37f5\u37f7\u37f9\u37fb\u37fd\u37ff" +
+                    "\u3801\u3803\u3805\u3807\u3809\u380b\u380d\u380f\u3811\u3813\u3815\u3817\u3819\u381b\u381d\u381f" +
+                    "\u3821\u3823\u3825\u3827\u3829\u382b\u382d\u382f\u3831\u3833\u3835\u3837\u3839\u383b\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
+                    "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+    };
+
+    static final String[] DECOMPOSITION_DATA = {
+                    "\u0000\u0000\u0000\u010a\u0000 \u0000\u0201\u0000 \u0000\u0308\u0000\u010e\u0000a" +
+                    "\u0000\u0201\u0000 \u0000\u0304\u0000\u010e\u00002\u0000\u010e\u00003\u0000\u0201" +
+                    "\u0000 \u0000\u0301\u0000\u0101\u0000\u03bc\u0000\u0201\u0000 \u0000\u0327\u0000\u010e" +
+                    "\u00001\u0000\u010e\u0000o\u0000\u0305\u00001\u0000\u2044\u00004\u0000\u0305" +
+                    "\u00001\u0000\u2044\u00002\u0000\u0305\u00003\u0000\u2044\u00004\u0000\u0200" +
+                    "\u0000A\u0000\u0300\u0000\u0200\u0000A\u0000\u0301\u0000\u0200\u0000A\u0000\u0302" +
+                    "\u0000\u0200\u0000A\u0000\u0303\u0000\u0200\u0000A\u0000\u0308\u0000\u0200\u0000A" +
+                    "\u0000\u030a\u0000\u0200\u0000C\u0000\u0327\u0000\u0200\u0000E\u0000\u0300\u0000\u0200" +
+                    "\u0000E\u0000\u0301\u0000\u0200\u0000E\u0000\u0302\u0000\u0200\u0000E\u0000\u0308" +
+                    "\u0000\u0200\u0000I\u0000\u0300\u0000\u0200\u0000I\u0000\u0301\u0000\u0200\u0000I" +
+                    "\u0000\u0302\u0000\u0200\u0000I\u0000\u0308\u0000\u0200\u0000N\u0000\u0303\u0000\u0200" +
+                    "\u0000O\u0000\u0300\u0000\u0200\u0000O\u0000\u0301\u0000\u0200\u0000O\u0000\u0302" +
+                    "\u0000\u0200\u0000O\u0000\u0303\u0000\u0200\u0000O\u0000\u0308\u0000\u0200\u0000U" +
+                    "\u0000\u0300\u0000\u0200\u0000U\u0000\u0301\u0000\u0200\u0000U\u0000\u0302\u0000\u0200" +
+                    "\u0000U\u0000\u0308\u0000\u0200\u0000Y\u0000\u0301\u0000\u0200\u0000a\u0000\u0300" +
+                    "\u0000\u0200\u0000a\u0000\u0301\u0000\u0200\u0000a\u0000\u0302\u0000\u0200\u0000a" +
+                    "\u0000\u0303\u0000\u0200\u0000a\u0000\u0308\u0000\u0200\u0000a\u0000\u030a\u0000\u0200" +
+                    "\u0000c\u0000\u0327\u0000\u0200\u0000e\u0000\u0300\u0000\u0200\u0000e\u0000\u0301" +
+                    "\u0000\u0200\u0000e\u0000\u0302\u0000\u0200\u0000e\u0000\u0308\u0000\u0200\u0000i" +
+                    "\u0000\u0300\u0000\u0200\u0000i\u0000\u0301\u0000\u0200\u0000i\u0000\u0302\u0000\u0200" +
+                    "\u0000i\u0000\u0308\u0000\u0200\u0000n\u0000\u0303\u0000\u0200\u0000o\u0000\u0300" +
+                    "\u0000\u0200\u0000o\u0000\u0301\u0000\u0200\u0000o\u0000\u0302\u0000\u0200\u0000o" +
+                    "\u0000\u0303\u0000\u0200\u0000o\u0000\u0308\u0000\u0200\u0000u\u0000\u0300\u0000\u0200" +
+                    "\u0000u\u0000\u0301\u0000\u0200\u0000u\u0000\u0302\u0000\u0200\u0000u\u0000\u0308" +
+                    "\u0000\u0200\u0000y\u0000\u0301\u0000\u0200\u0000y\u0000\u0308\u0000\u0200\u0000A" +
+                    "\u0000\u0304\u0000\u0200\u0000a\u0000\u0304\u0000\u0200\u0000A\u0000\u0306\u0000\u0200" +
+                    "\u0000a\u0000\u0306\u0000\u0200\u0000A\u0000\u0328\u0000\u0200\u0000a\u0000\u0328" +
+                    "\u0000\u0200\u0000C\u0000\u0301\u0000\u0200\u0000c\u0000\u0301\u0000\u0200\u0000C" +
+                    "\u0000\u0302\u0000\u0200\u0000c\u0000\u0302\u0000\u0200\u0000C\u0000\u0307\u0000\u0200" +
+                    "\u0000c\u0000\u0307\u0000\u0200\u0000C\u0000\u030c\u0000\u0200\u0000c\u0000\u030c" +
+                    "\u0000\u0200\u0000D\u0000\u030c\u0000\u0200\u0000d\u0000\u030c\u0000\u0200\u0000E" +
+                    "\u0000\u0304\u0000\u0200\u0000e\u0000\u0304\u0000\u0200\u0000E\u0000\u0306\u0000\u0200" +
+                    "\u0000e\u0000\u0306\u0000\u0200\u0000E\u0000\u0307\u0000\u0200\u0000e\u0000\u0307" +
+                    "\u0000\u0200\u0000E\u0000\u0328\u0000\u0200\u0000e\u0000\u0328\u0000\u0200\u0000E" +
+                    "\u0000\u030c\u0000\u0200\u0000e\u0000\u030c\u0000\u0200\u0000G\u0000\u0302\u0000\u0200" +
+                    "\u0000g\u0000\u0302\u0000\u0200\u0000G\u0000\u0306\u0000\u0200\u0000g\u0000\u0306" +
+                    "\u0000\u0200\u0000G\u0000\u0307\u0000\u0200\u0000g\u0000\u0307\u0000\u0200\u0000G" +
+                    "\u0000\u0327\u0000\u0200\u0000g\u0000\u0327\u0000\u0200\u0000H\u0000\u0302\u0000\u0200" +
+                    "\u0000h\u0000\u0302\u0000\u0200\u0000I\u0000\u0303\u0000\u0200\u0000i\u0000\u0303" +
+                    "\u0000\u0200\u0000I\u0000\u0304\u0000\u0200\u0000i\u0000\u0304\u0000\u0200\u0000I" +
+                    "\u0000\u0306\u0000\u0200\u0000i\u0000\u0306\u0000\u0200\u0000I\u0000\u0328\u0000\u0200" +
+                    "\u0000i\u0000\u0328\u0000\u0200\u0000I\u0000\u0307\u0000\u0201\u0000I\u0000J" +
+                    "\u0000\u0201\u0000i\u0000j\u0000\u0200\u0000J\u0000\u0302\u0000\u0200\u0000j" +
+                    "\u0000\u0302\u0000\u0200\u0000K\u0000\u0327\u0000\u0200\u0000k\u0000\u0327\u0000\u0200" +
+                    "\u0000L\u0000\u0301\u0000\u0200\u0000l\u0000\u0301\u0000\u0200\u0000L\u0000\u0327" +
+                    "\u0000\u0200\u0000l\u0000\u0327\u0000\u0200\u0000L\u0000\u030c\u0000\u0200\u0000l" +
+                    "\u0000\u030c\u0000\u0201\u0000L\u0000\u00b7\u0000\u0201\u0000l\u0000\u00b7\u0000\u0200" +
+                    "\u0000N\u0000\u0301\u0000\u0200\u0000n\u0000\u0301\u0000\u0200\u0000N\u0000\u0327" +
+                    "\u0000\u0200\u0000n\u0000\u0327\u0000\u0200\u0000N\u0000\u030c\u0000\u0200\u0000n" +
+                    "\u0000\u030c\u0000\u0201\u0000\u02bc\u0000n\u0000\u0200\u0000O\u0000\u0304\u0000\u0200" +
+                    "\u0000o\u0000\u0304\u0000\u0200\u0000O\u0000\u0306\u0000\u0200\u0000o\u0000\u0306" +
+                    "\u0000\u0200\u0000O\u0000\u030b\u0000\u0200\u0000o\u0000\u030b\u0000\u0200\u0000R" +
+                    "\u0000\u0301\u0000\u0200\u0000r\u0000\u0301\u0000\u0200\u0000R\u0000\u0327\u0000\u0200" +
+                    "\u0000r\u0000\u0327\u0000\u0200\u0000R\u0000\u030c\u0000\u0200\u0000r\u0000\u030c" +
+                    "\u0000\u0200\u0000S\u0000\u0301\u0000\u0200\u0000s\u0000\u0301\u0000\u0200\u0000S" +
+                    "\u0000\u0302\u0000\u0200\u0000s\u0000\u0302\u0000\u0200\u0000S\u0000\u0327\u0000\u0200" +
+                    "\u0000s\u0000\u0327\u0000\u0200\u0000S\u0000\u030c\u0000\u0200\u0000s\u0000\u030c" +
+                    "\u0000\u0200\u0000T\u0000\u0327\u0000\u0200\u0000t\u0000\u0327\u0000\u0200\u0000T" +
+                    "\u0000\u030c\u0000\u0200\u0000t\u0000\u030c\u0000\u0200\u0000U\u0000\u0303\u0000\u0200" +
+                    "\u0000u\u0000\u0303\u0000\u0200\u0000U\u0000\u0304\u0000\u0200\u0000u\u0000\u0304" +
+                    "\u0000\u0200\u0000U\u0000\u0306\u0000\u0200\u0000u\u0000\u0306\u0000\u0200\u0000U" +
+                    "\u0000\u030a\u0000\u0200\u0000u\u0000\u030a\u0000\u0200\u0000U\u0000\u030b\u0000\u0200" +
+                    "\u0000u\u0000\u030b\u0000\u0200\u0000U\u0000\u0328\u0000\u0200\u0000u\u0000\u0328" +
+                    "\u0000\u0200\u0000W\u0000\u0302\u0000\u0200\u0000w\u0000\u0302\u0000\u0200\u0000Y" +
+                    "\u0000\u0302\u0000\u0200\u0000y\u0000\u0302\u0000\u0200\u0000Y\u0000\u0308\u0000\u0200" +
+                    "\u0000Z\u0000\u0301\u0000\u0200\u0000z\u0000\u0301\u0000\u0200\u0000Z\u0000\u0307" +
+                    "\u0000\u0200\u0000z\u0000\u0307\u0000\u0200\u0000Z\u0000\u030c\u0000\u0200\u0000z" +
+                    "\u0000\u030c\u0000\u0101\u0000s\u0000\u0200\u0000O\u0000\u031b\u0000\u0200\u0000o" +
+                    "\u0000\u031b\u0000\u0200\u0000U\u0000\u031b\u0000\u0200\u0000u\u0000\u031b\u0000\u0201" +
+                    "\u0000D\u0000\u017d\u0000\u0201\u0000D\u0000\u017e\u0000\u0201\u0000d\u0000\u017e" +
+                    "\u0000\u0201\u0000L\u0000J\u0000\u0201\u0000L\u0000j\u0000\u0201\u0000l" +
+                    "\u0000j\u0000\u0201\u0000N\u0000J\u0000\u0201\u0000N\u0000j\u0000\u0201" +
+                    "\u0000n\u0000j\u0000\u0200\u0000A\u0000\u030c\u0000\u0200\u0000a\u0000\u030c" +
+                    "\u0000\u0200\u0000I\u0000\u030c\u0000\u0200\u0000i\u0000\u030c\u0000\u0200\u0000O" +
+                    "\u0000\u030c\u0000\u0200\u0000o\u0000\u030c\u0000\u0200\u0000U\u0000\u030c\u0000\u0200" +
+                    "\u0000u\u0000\u030c\u0000\u0200\u0000\u00dc\u0000\u0304\u0000\u0200\u0000\u00fc\u0000\u0304" +
+                    "\u0000\u0200\u0000\u00dc\u0000\u0301\u0000\u0200\u0000\u00fc\u0000\u0301\u0000\u0200\u0000\u00dc" +
+                    "\u0000\u030c\u0000\u0200\u0000\u00fc\u0000\u030c\u0000\u0200\u0000\u00dc\u0000\u0300\u0000\u0200" +
+                    "\u0000\u00fc\u0000\u0300\u0000\u0200\u0000\u00c4\u0000\u0304\u0000\u0200\u0000\u00e4\u0000\u0304" +
+                    "\u0000\u0200\u0000\u0226\u0000\u0304\u0000\u0200\u0000\u0227\u0000\u0304\u0000\u0200\u0000\u00c6" +
+                    "\u0000\u0304\u0000\u0200\u0000\u00e6\u0000\u0304\u0000\u0200\u0000G\u0000\u030c\u0000\u0200" +
+                    "\u0000g\u0000\u030c\u0000\u0200\u0000K\u0000\u030c\u0000\u0200\u0000k\u0000\u030c" +
+                    "\u0000\u0200\u0000O\u0000\u0328\u0000\u0200\u0000o\u0000\u0328\u0000\u0200\u0000\u01ea" +
+                    "\u0000\u0304\u0000\u0200\u0000\u01eb\u0000\u0304\u0000\u0200\u0000\u01b7\u0000\u030c\u0000\u0200" +
+                    "\u0000\u0292\u0000\u030c\u0000\u0200\u0000j\u0000\u030c\u0000\u0201\u0000D\u0000Z" +
+                    "\u0000\u0201\u0000D\u0000z\u0000\u0201\u0000d\u0000z\u0000\u0200\u0000G" +
+                    "\u0000\u0301\u0000\u0200\u0000g\u0000\u0301\u0000\u0200\u0000N\u0000\u0300\u0000\u0200" +
+                    "\u0000n\u0000\u0300\u0000\u0200\u0000\u00c5\u0000\u0301\u0000\u0200\u0000\u00e5\u0000\u0301" +
+                    "\u0000\u0200\u0000\u00c6\u0000\u0301\u0000\u0200\u0000\u00e6\u0000\u0301\u0000\u0200\u0000\u00d8" +
+                    "\u0000\u0301\u0000\u0200\u0000\u00f8\u0000\u0301\u0000\u0200\u0000A\u0000\u030f\u0000\u0200" +
+                    "\u0000a\u0000\u030f\u0000\u0200\u0000A\u0000\u0311\u0000\u0200\u0000a\u0000\u0311" +
+                    "\u0000\u0200\u0000E\u0000\u030f\u0000\u0200\u0000e\u0000\u030f\u0000\u0200\u0000E" +
+                    "\u0000\u0311\u0000\u0200\u0000e\u0000\u0311\u0000\u0200\u0000I\u0000\u030f\u0000\u0200" +
+                    "\u0000i\u0000\u030f\u0000\u0200\u0000I\u0000\u0311\u0000\u0200\u0000i\u0000\u0311" +
+                    "\u0000\u0200\u0000O\u0000\u030f\u0000\u0200\u0000o\u0000\u030f\u0000\u0200\u0000O" +
+                    "\u0000\u0311\u0000\u0200\u0000o\u0000\u0311\u0000\u0200\u0000R\u0000\u030f\u0000\u0200" +
+                    "\u0000r\u0000\u030f\u0000\u0200\u0000R\u0000\u0311\u0000\u0200\u0000r\u0000\u0311" +
+                    "\u0000\u0200\u0000U\u0000\u030f\u0000\u0200\u0000u\u0000\u030f\u0000\u0200\u0000U" +
+                    "\u0000\u0311\u0000\u0200\u0000u\u0000\u0311\u0000\u0200\u0000S\u0000\u0326\u0000\u0200" +
+                    "\u0000s\u0000\u0326\u0000\u0200\u0000T\u0000\u0326\u0000\u0200\u0000t\u0000\u0326" +
+                    "\u0000\u0200\u0000H\u0000\u030c\u0000\u0200\u0000h\u0000\u030c\u0000\u0200\u0000A" +
+                    "\u0000\u0307\u0000\u0200\u0000a\u0000\u0307\u0000\u0200\u0000E\u0000\u0327\u0000\u0200" +
+                    "\u0000e\u0000\u0327\u0000\u0200\u0000\u00d6\u0000\u0304\u0000\u0200\u0000\u00f6\u0000\u0304" +
+                    "\u0000\u0200\u0000\u00d5\u0000\u0304\u0000\u0200\u0000\u00f5\u0000\u0304\u0000\u0200\u0000O" +
+                    "\u0000\u0307\u0000\u0200\u0000o\u0000\u0307\u0000\u0200\u0000\u022e\u0000\u0304\u0000\u0200" +
+                    "\u0000\u022f\u0000\u0304\u0000\u0200\u0000Y\u0000\u0304\u0000\u0200\u0000y\u0000\u0304" +
+                    "\u0000\u010e\u0000h\u0000\u010e\u0000\u0266\u0000\u010e\u0000j\u0000\u010e\u0000r" +
+                    "\u0000\u010e\u0000\u0279\u0000\u010e\u0000\u027b\u0000\u010e\u0000\u0281\u0000\u010e\u0000w" +
+                    "\u0000\u010e\u0000y\u0000\u0201\u0000 \u0000\u0306\u0000\u0201\u0000 \u0000\u0307" +
+                    "\u0000\u0201\u0000 \u0000\u030a\u0000\u0201\u0000 \u0000\u0328\u0000\u0201\u0000 " +
+                    "\u0000\u0303\u0000\u0201\u0000 \u0000\u030b\u0000\u010e\u0000\u0263\u0000\u010e\u0000l" +
+                    "\u0000\u010e\u0000s\u0000\u010e\u0000x\u0000\u010e\u0000\u0295\u0000\u0100\u0000\u0300" +
+                    "\u0000\u0100\u0000\u0301\u0000\u0100\u0000\u0313\u0000\u0200\u0000\u0308\u0000\u0301\u0000\u0100" +
+                    "\u0000\u02b9\u0000\u0201\u0000 \u0000\u0345\u0000\u0100\u0000;\u0000\u0201\u0000 " +
+                    "\u0000\u0301\u0000\u0200\u0000\u00a8\u0000\u0301\u0000\u0200\u0000\u0391\u0000\u0301\u0000\u0100" +
+                    "\u0000\u00b7\u0000\u0200\u0000\u0395\u0000\u0301\u0000\u0200\u0000\u0397\u0000\u0301\u0000\u0200" +
+                    "\u0000\u0399\u0000\u0301\u0000\u0200\u0000\u039f\u0000\u0301\u0000\u0200\u0000\u03a5\u0000\u0301" +
+                    "\u0000\u0200\u0000\u03a9\u0000\u0301\u0000\u0200\u0000\u03ca\u0000\u0301\u0000\u0200\u0000\u0399" +
+                    "\u0000\u0308\u0000\u0200\u0000\u03a5\u0000\u0308\u0000\u0200\u0000\u03b1\u0000\u0301\u0000\u0200" +
+                    "\u0000\u03b5\u0000\u0301\u0000\u0200\u0000\u03b7\u0000\u0301\u0000\u0200\u0000\u03b9\u0000\u0301" +
+                    "\u0000\u0200\u0000\u03cb\u0000\u0301\u0000\u0200\u0000\u03b9\u0000\u0308\u0000\u0200\u0000\u03c5" +
+                    "\u0000\u0308\u0000\u0200\u0000\u03bf\u0000\u0301\u0000\u0200\u0000\u03c5\u0000\u0301\u0000\u0200" +
+                    "\u0000\u03c9\u0000\u0301\u0000\u0101\u0000\u03b2\u0000\u0101\u0000\u03b8\u0000\u0101\u0000\u03a5" +
+                    "\u0000\u0200\u0000\u03d2\u0000\u0301\u0000\u0200\u0000\u03d2\u0000\u0308\u0000\u0101\u0000\u03c6" +
+                    "\u0000\u0101\u0000\u03c0\u0000\u0101\u0000\u03ba\u0000\u0101\u0000\u03c1\u0000\u0101\u0000\u03c2" +
+                    "\u0000\u0101\u0000\u0398\u0000\u0101\u0000\u03b5\u0000\u0101\u0000\u03a3\u0000\u0200\u0000\u0415" +
+                    "\u0000\u0300\u0000\u0200\u0000\u0415\u0000\u0308\u0000\u0200\u0000\u0413\u0000\u0301\u0000\u0200" +
+                    "\u0000\u0406\u0000\u0308\u0000\u0200\u0000\u041a\u0000\u0301\u0000\u0200\u0000\u0418\u0000\u0300" +
+                    "\u0000\u0200\u0000\u0423\u0000\u0306\u0000\u0200\u0000\u0418\u0000\u0306\u0000\u0200\u0000\u0438" +
+                    "\u0000\u0306\u0000\u0200\u0000\u0435\u0000\u0300\u0000\u0200\u0000\u0435\u0000\u0308\u0000\u0200" +
+                    "\u0000\u0433\u0000\u0301\u0000\u0200\u0000\u0456\u0000\u0308\u0000\u0200\u0000\u043a\u0000\u0301" +
+                    "\u0000\u0200\u0000\u0438\u0000\u0300\u0000\u0200\u0000\u0443\u0000\u0306\u0000\u0200\u0000\u0474" +
+                    "\u0000\u030f\u0000\u0200\u0000\u0475\u0000\u030f\u0000\u0200\u0000\u0416\u0000\u0306\u0000\u0200" +
+                    "\u0000\u0436\u0000\u0306\u0000\u0200\u0000\u0410\u0000\u0306\u0000\u0200\u0000\u0430\u0000\u0306" +
+                    "\u0000\u0200\u0000\u0410\u0000\u0308\u0000\u0200\u0000\u0430\u0000\u0308\u0000\u0200\u0000\u0415" +
+                    "\u0000\u0306\u0000\u0200\u0000\u0435\u0000\u0306\u0000\u0200\u0000\u04d8\u0000\u0308\u0000\u0200" +
+                    "\u0000\u04d9\u0000\u0308\u0000\u0200\u0000\u0416\u0000\u0308\u0000\u0200\u0000\u0436\u0000\u0308" +
+                    "\u0000\u0200\u0000\u0417\u0000\u0308\u0000\u0200\u0000\u0437\u0000\u0308\u0000\u0200\u0000\u0418" +
+                    "\u0000\u0304\u0000\u0200\u0000\u0438\u0000\u0304\u0000\u0200\u0000\u0418\u0000\u0308\u0000\u0200" +
+                    "\u0000\u0438\u0000\u0308\u0000\u0200\u0000\u041e\u0000\u0308\u0000\u0200\u0000\u043e\u0000\u0308" +
+                    "\u0000\u0200\u0000\u04e8\u0000\u0308\u0000\u0200\u0000\u04e9\u0000\u0308\u0000\u0200\u0000\u042d" +
+                    "\u0000\u0308\u0000\u0200\u0000\u044d\u0000\u0308\u0000\u0200\u0000\u0423\u0000\u0304\u0000\u0200" +
+                    "\u0000\u0443\u0000\u0304\u0000\u0200\u0000\u0423\u0000\u0308\u0000\u0200\u0000\u0443\u0000\u0308" +
+                    "\u0000\u0200\u0000\u0423\u0000\u030b\u0000\u0200\u0000\u0443\u0000\u030b\u0000\u0200\u0000\u0427" +
+                    "\u0000\u0308\u0000\u0200\u0000\u0447\u0000\u0308\u0000\u0200\u0000\u042b\u0000\u0308\u0000\u0200" +
+                    "\u0000\u044b\u0000\u0308\u0000\u0201\u0000\u0565\u0000\u0582\u0000\u0200\u0000\u0627\u0000\u0653" +
+                    "\u0000\u0200\u0000\u0627\u0000\u0654\u0000\u0200\u0000\u0648\u0000\u0654\u0000\u0200\u0000\u0627" +
+                    "\u0000\u0655\u0000\u0200\u0000\u064a\u0000\u0654\u0000\u0201\u0000\u0627\u0000\u0674\u0000\u0201" +
+                    "\u0000\u0648\u0000\u0674\u0000\u0201\u0000\u06c7\u0000\u0674\u0000\u0201\u0000\u064a\u0000\u0674" +
+                    "\u0000\u0200\u0000\u06d5\u0000\u0654\u0000\u0200\u0000\u06c1\u0000\u0654\u0000\u0200\u0000\u06d2" +
+                    "\u0000\u0654\u0000\u0200\u0000\u0928\u0000\u093c\u0000\u0200\u0000\u0930\u0000\u093c\u0000\u0200" +
+                    "\u0000\u0933\u0000\u093c\u0000\u0200\u0000\u0915\u0000\u093c\u0000\u0200\u0000\u0916\u0000\u093c" +
+                    "\u0000\u0200\u0000\u0917\u0000\u093c\u0000\u0200\u0000\u091c\u0000\u093c\u0000\u0200\u0000\u0921" +
+                    "\u0000\u093c\u0000\u0200\u0000\u0922\u0000\u093c\u0000\u0200\u0000\u092b\u0000\u093c\u0000\u0200" +
+                    "\u0000\u092f\u0000\u093c\u0000\u0200\u0000\u09c7\u0000\u09be\u0000\u0200\u0000\u09c7\u0000\u09d7" +
+                    "\u0000\u0200\u0000\u09a1\u0000\u09bc\u0000\u0200\u0000\u09a2\u0000\u09bc\u0000\u0200\u0000\u09af" +
+                    "\u0000\u09bc\u0000\u0200\u0000\u0a32\u0000\u0a3c\u0000\u0200\u0000\u0a38\u0000\u0a3c\u0000\u0200" +
+                    "\u0000\u0a16\u0000\u0a3c\u0000\u0200\u0000\u0a17\u0000\u0a3c\u0000\u0200\u0000\u0a1c\u0000\u0a3c" +
+                    "\u0000\u0200\u0000\u0a2b\u0000\u0a3c\u0000\u0200\u0000\u0b47\u0000\u0b56\u0000\u0200\u0000\u0b47" +
+                    "\u0000\u0b3e\u0000\u0200\u0000\u0b47\u0000\u0b57\u0000\u0200\u0000\u0b21\u0000\u0b3c\u0000\u0200" +
+                    "\u0000\u0b22\u0000\u0b3c\u0000\u0200\u0000\u0b92\u0000\u0bd7\u0000\u0200\u0000\u0bc6\u0000\u0bbe" +
+                    "\u0000\u0200\u0000\u0bc7\u0000\u0bbe\u0000\u0200\u0000\u0bc6\u0000\u0bd7\u0000\u0200\u0000\u0c46" +
+                    "\u0000\u0c56\u0000\u0200\u0000\u0cbf\u0000\u0cd5\u0000\u0200\u0000\u0cc6\u0000\u0cd5\u0000\u0200" +
+                    "\u0000\u0cc6\u0000\u0cd6\u0000\u0200\u0000\u0cc6\u0000\u0cc2\u0000\u0200\u0000\u0cca\u0000\u0cd5" +
+                    "\u0000\u0200\u0000\u0d46\u0000\u0d3e\u0000\u0200\u0000\u0d47\u0000\u0d3e\u0000\u0200\u0000\u0d46" +
+                    "\u0000\u0d57\u0000\u0200\u0000\u0dd9\u0000\u0dca\u0000\u0200\u0000\u0dd9\u0000\u0dcf\u0000\u0200" +
+                    "\u0000\u0ddc\u0000\u0dca\u0000\u0200\u0000\u0dd9\u0000\u0ddf\u0000\u0201\u0000\u0e4d\u0000\u0e32" +
+                    "\u0000\u0201\u0000\u0ecd\u0000\u0eb2\u0000\u0201\u0000\u0eab\u0000\u0e99\u0000\u0201\u0000\u0eab" +
+                    "\u0000\u0ea1\u0000\u010a\u0000\u0f0b\u0000\u0200\u0000\u0f42\u0000\u0fb7\u0000\u0200\u0000\u0f4c" +
+                    "\u0000\u0fb7\u0000\u0200\u0000\u0f51\u0000\u0fb7\u0000\u0200\u0000\u0f56\u0000\u0fb7\u0000\u0200" +
+                    "\u0000\u0f5b\u0000\u0fb7\u0000\u0200\u0000\u0f40\u0000\u0fb5\u0000\u0200\u0000\u0f71\u0000\u0f72" +
+                    "\u0000\u0200\u0000\u0f71\u0000\u0f74\u0000\u0200\u0000\u0fb2\u0000\u0f80\u0000\u0201\u0000\u0fb2" +
+                    "\u0000\u0f81\u0000\u0200\u0000\u0fb3\u0000\u0f80\u0000\u0201\u0000\u0fb3\u0000\u0f81\u0000\u0200" +
+                    "\u0000\u0f71\u0000\u0f80\u0000\u0200\u0000\u0f92\u0000\u0fb7\u0000\u0200\u0000\u0f9c\u0000\u0fb7" +
+                    "\u0000\u0200\u0000\u0fa1\u0000\u0fb7\u0000\u0200\u0000\u0fa6\u0000\u0fb7\u0000\u0200\u0000\u0fab" +
+                    "\u0000\u0fb7\u0000\u0200\u0000\u0f90\u0000\u0fb5\u0000\u0200\u0000\u1025\u0000\u102e\u0000\u010e" +
+                    "\u0000\u10dc\u0000\u0200\u0000\u1b05\u0000\u1b35\u0000\u0200\u0000\u1b07\u0000\u1b35\u0000\u0200" +
+                    "\u0000\u1b09\u0000\u1b35\u0000\u0200\u0000\u1b0b\u0000\u1b35\u0000\u0200\u0000\u1b0d\u0000\u1b35" +
+                    "\u0000\u0200\u0000\u1b11\u0000\u1b35\u0000\u0200\u0000\u1b3a\u0000\u1b35\u0000\u0200\u0000\u1b3c" +
+                    "\u0000\u1b35\u0000\u0200\u0000\u1b3e\u0000\u1b35\u0000\u0200\u0000\u1b3f\u0000\u1b35\u0000\u0200" +
+                    "\u0000\u1b42\u0000\u1b35\u0000\u010e\u0000A\u0000\u010e\u0000\u00c6\u0000\u010e\u0000B" +
+                    "\u0000\u010e\u0000D\u0000\u010e\u0000E\u0000\u010e\u0000\u018e\u0000\u010e\u0000G" +
+                    "\u0000\u010e\u0000H\u0000\u010e\u0000I\u0000\u010e\u0000J\u0000\u010e\u0000K" +
+                    "\u0000\u010e\u0000L\u0000\u010e\u0000M\u0000\u010e\u0000N\u0000\u010e\u0000O" +
+                    "\u0000\u010e\u0000\u0222\u0000\u010e\u0000P\u0000\u010e\u0000R\u0000\u010e\u0000T" +
+                    "\u0000\u010e\u0000U\u0000\u010e\u0000W\u0000\u010e\u0000a\u0000\u010e\u0000\u0250" +
+                    "\u0000\u010e\u0000\u0251\u0000\u010e\u0000\u1d02\u0000\u010e\u0000b\u0000\u010e\u0000d" +
+                    "\u0000\u010e\u0000e\u0000\u010e\u0000\u0259\u0000\u010e\u0000\u025b\u0000\u010e\u0000\u025c" +
+                    "\u0000\u010e\u0000g\u0000\u010e\u0000k\u0000\u010e\u0000m\u0000\u010e\u0000\u014b" +
+                    "\u0000\u010e\u0000o\u0000\u010e\u0000\u0254\u0000\u010e\u0000\u1d16\u0000\u010e\u0000\u1d17" +
+                    "\u0000\u010e\u0000p\u0000\u010e\u0000t\u0000\u010e\u0000u\u0000\u010e\u0000\u1d1d" +
+                    "\u0000\u010e\u0000\u026f\u0000\u010e\u0000v\u0000\u010e\u0000\u1d25\u0000\u010e\u0000\u03b2" +
+                    "\u0000\u010e\u0000\u03b3\u0000\u010e\u0000\u03b4\u0000\u010e\u0000\u03c6\u0000\u010e\u0000\u03c7" +
+                    "\u0000\u010d\u0000i\u0000\u010d\u0000r\u0000\u010d\u0000u\u0000\u010d\u0000v" +
+                    "\u0000\u010d\u0000\u03b2\u0000\u010d\u0000\u03b3\u0000\u010d\u0000\u03c1\u0000\u010d\u0000\u03c6" +
+                    "\u0000\u010d\u0000\u03c7\u0000\u010e\u0000\u043d\u0000\u010e\u0000\u0252\u0000\u010e\u0000c" +
+                    "\u0000\u010e\u0000\u0255\u0000\u010e\u0000\u00f0\u0000\u010e\u0000\u025c\u0000\u010e\u0000f" +
+                    "\u0000\u010e\u0000\u025f\u0000\u010e\u0000\u0261\u0000\u010e\u0000\u0265\u0000\u010e\u0000\u0268" +
+                    "\u0000\u010e\u0000\u0269\u0000\u010e\u0000\u026a\u0000\u010e\u0000\u1d7b\u0000\u010e\u0000\u029d" +
+                    "\u0000\u010e\u0000\u026d\u0000\u010e\u0000\u1d85\u0000\u010e\u0000\u029f\u0000\u010e\u0000\u0271" +
+                    "\u0000\u010e\u0000\u0270\u0000\u010e\u0000\u0272\u0000\u010e\u0000\u0273\u0000\u010e\u0000\u0274" +
+                    "\u0000\u010e\u0000\u0275\u0000\u010e\u0000\u0278\u0000\u010e\u0000\u0282\u0000\u010e\u0000\u0283" +
+                    "\u0000\u010e\u0000\u01ab\u0000\u010e\u0000\u0289\u0000\u010e\u0000\u028a\u0000\u010e\u0000\u1d1c" +
+                    "\u0000\u010e\u0000\u028b\u0000\u010e\u0000\u028c\u0000\u010e\u0000z\u0000\u010e\u0000\u0290" +
+                    "\u0000\u010e\u0000\u0291\u0000\u010e\u0000\u0292\u0000\u010e\u0000\u03b8\u0000\u0200\u0000A" +
+                    "\u0000\u0325\u0000\u0200\u0000a\u0000\u0325\u0000\u0200\u0000B\u0000\u0307\u0000\u0200" +
+                    "\u0000b\u0000\u0307\u0000\u0200\u0000B\u0000\u0323\u0000\u0200\u0000b\u0000\u0323" +
+                    "\u0000\u0200\u0000B\u0000\u0331\u0000\u0200\u0000b\u0000\u0331\u0000\u0200\u0000\u00c7" +
+                    "\u0000\u0301\u0000\u0200\u0000\u00e7\u0000\u0301\u0000\u0200\u0000D\u0000\u0307\u0000\u0200" +
+                    "\u0000d\u0000\u0307\u0000\u0200\u0000D\u0000\u0323\u0000\u0200\u0000d\u0000\u0323" +
+                    "\u0000\u0200\u0000D\u0000\u0331\u0000\u0200\u0000d\u0000\u0331\u0000\u0200\u0000D" +
+                    "\u0000\u0327\u0000\u0200\u0000d\u0000\u0327\u0000\u0200\u0000D\u0000\u032d\u0000\u0200" +
+                    "\u0000d\u0000\u032d\u0000\u0200\u0000\u0112\u0000\u0300\u0000\u0200\u0000\u0113\u0000\u0300" +
+                    "\u0000\u0200\u0000\u0112\u0000\u0301\u0000\u0200\u0000\u0113\u0000\u0301\u0000\u0200\u0000E" +
+                    "\u0000\u032d\u0000\u0200\u0000e\u0000\u032d\u0000\u0200\u0000E\u0000\u0330\u0000\u0200" +
+                    "\u0000e\u0000\u0330\u0000\u0200\u0000\u0228\u0000\u0306\u0000\u0200\u0000\u0229\u0000\u0306" +
+                    "\u0000\u0200\u0000F\u0000\u0307\u0000\u0200\u0000f\u0000\u0307\u0000\u0200\u0000G" +
+                    "\u0000\u0304\u0000\u0200\u0000g\u0000\u0304\u0000\u0200\u0000H\u0000\u0307\u0000\u0200" +
+                    "\u0000h\u0000\u0307\u0000\u0200\u0000H\u0000\u0323\u0000\u0200\u0000h\u0000\u0323" +
+                    "\u0000\u0200\u0000H\u0000\u0308\u0000\u0200\u0000h\u0000\u0308\u0000\u0200\u0000H" +
+                    "\u0000\u0327\u0000\u0200\u0000h\u0000\u0327\u0000\u0200\u0000H\u0000\u032e\u0000\u0200" +
+                    "\u0000h\u0000\u032e\u0000\u0200\u0000I\u0000\u0330\u0000\u0200\u0000i\u0000\u0330" +
+                    "\u0000\u0200\u0000\u00cf\u0000\u0301\u0000\u0200\u0000\u00ef\u0000\u0301\u0000\u0200\u0000K" +
+                    "\u0000\u0301\u0000\u0200\u0000k\u0000\u0301\u0000\u0200\u0000K\u0000\u0323\u0000\u0200" +
+                    "\u0000k\u0000\u0323\u0000\u0200\u0000K\u0000\u0331\u0000\u0200\u0000k\u0000\u0331" +
+                    "\u0000\u0200\u0000L\u0000\u0323\u0000\u0200\u0000l\u0000\u0323\u0000\u0200\u0000\u1e36" +
+                    "\u0000\u0304\u0000\u0200\u0000\u1e37\u0000\u0304\u0000\u0200\u0000L\u0000\u0331\u0000\u0200" +
+                    "\u0000l\u0000\u0331\u0000\u0200\u0000L\u0000\u032d\u0000\u0200\u0000l\u0000\u032d" +
+                    "\u0000\u0200\u0000M\u0000\u0301\u0000\u0200\u0000m\u0000\u0301\u0000\u0200\u0000M" +
+                    "\u0000\u0307\u0000\u0200\u0000m\u0000\u0307\u0000\u0200\u0000M\u0000\u0323\u0000\u0200" +
+                    "\u0000m\u0000\u0323\u0000\u0200\u0000N\u0000\u0307\u0000\u0200\u0000n\u0000\u0307" +
+                    "\u0000\u0200\u0000N\u0000\u0323\u0000\u0200\u0000n\u0000\u0323\u0000\u0200\u0000N" +
+                    "\u0000\u0331\u0000\u0200\u0000n\u0000\u0331\u0000\u0200\u0000N\u0000\u032d\u0000\u0200" +
+                    "\u0000n\u0000\u032d\u0000\u0200\u0000\u00d5\u0000\u0301\u0000\u0200\u0000\u00f5\u0000\u0301" +
+                    "\u0000\u0200\u0000\u00d5\u0000\u0308\u0000\u0200\u0000\u00f5\u0000\u0308\u0000\u0200\u0000\u014c" +
+                    "\u0000\u0300\u0000\u0200\u0000\u014d\u0000\u0300\u0000\u0200\u0000\u014c\u0000\u0301\u0000\u0200" +
+                    "\u0000\u014d\u0000\u0301\u0000\u0200\u0000P\u0000\u0301\u0000\u0200\u0000p\u0000\u0301" +
+                    "\u0000\u0200\u0000P\u0000\u0307\u0000\u0200\u0000p\u0000\u0307\u0000\u0200\u0000R" +
+                    "\u0000\u0307\u0000\u0200\u0000r\u0000\u0307\u0000\u0200\u0000R\u0000\u0323\u0000\u0200" +
+                    "\u0000r\u0000\u0323\u0000\u0200\u0000\u1e5a\u0000\u0304\u0000\u0200\u0000\u1e5b\u0000\u0304" +
+                    "\u0000\u0200\u0000R\u0000\u0331\u0000\u0200\u0000r\u0000\u0331\u0000\u0200\u0000S" +
+                    "\u0000\u0307\u0000\u0200\u0000s\u0000\u0307\u0000\u0200\u0000S\u0000\u0323\u0000\u0200" +
+                    "\u0000s\u0000\u0323\u0000\u0200\u0000\u015a\u0000\u0307\u0000\u0200\u0000\u015b\u0000\u0307" +
+                    "\u0000\u0200\u0000\u0160\u0000\u0307\u0000\u0200\u0000\u0161\u0000\u0307\u0000\u0200\u0000\u1e62" +
+                    "\u0000\u0307\u0000\u0200\u0000\u1e63\u0000\u0307\u0000\u0200\u0000T\u0000\u0307\u0000\u0200" +
+                    "\u0000t\u0000\u0307\u0000\u0200\u0000T\u0000\u0323\u0000\u0200\u0000t\u0000\u0323" +
+                    "\u0000\u0200\u0000T\u0000\u0331\u0000\u0200\u0000t\u0000\u0331\u0000\u0200\u0000T" +
+                    "\u0000\u032d\u0000\u0200\u0000t\u0000\u032d\u0000\u0200\u0000U\u0000\u0324\u0000\u0200" +
+                    "\u0000u\u0000\u0324\u0000\u0200\u0000U\u0000\u0330\u0000\u0200\u0000u\u0000\u0330" +
+                    "\u0000\u0200\u0000U\u0000\u032d\u0000\u0200\u0000u\u0000\u032d\u0000\u0200\u0000\u0168" +
+                    "\u0000\u0301\u0000\u0200\u0000\u0169\u0000\u0301\u0000\u0200\u0000\u016a\u0000\u0308\u0000\u0200" +
+                    "\u0000\u016b\u0000\u0308\u0000\u0200\u0000V\u0000\u0303\u0000\u0200\u0000v\u0000\u0303" +
+                    "\u0000\u0200\u0000V\u0000\u0323\u0000\u0200\u0000v\u0000\u0323\u0000\u0200\u0000W" +
+                    "\u0000\u0300\u0000\u0200\u0000w\u0000\u0300\u0000\u0200\u0000W\u0000\u0301\u0000\u0200" +
+                    "\u0000w\u0000\u0301\u0000\u0200\u0000W\u0000\u0308\u0000\u0200\u0000w\u0000\u0308" +
+                    "\u0000\u0200\u0000W\u0000\u0307\u0000\u0200\u0000w\u0000\u0307\u0000\u0200\u0000W" +
+                    "\u0000\u0323\u0000\u0200\u0000w\u0000\u0323\u0000\u0200\u0000X\u0000\u0307\u0000\u0200" +
+                    "\u0000x\u0000\u0307\u0000\u0200\u0000X\u0000\u0308\u0000\u0200\u0000x\u0000\u0308" +
+                    "\u0000\u0200\u0000Y\u0000\u0307\u0000\u0200\u0000y\u0000\u0307\u0000\u0200\u0000Z" +
+                    "\u0000\u0302\u0000\u0200\u0000z\u0000\u0302\u0000\u0200\u0000Z\u0000\u0323\u0000\u0200" +
+                    "\u0000z\u0000\u0323\u0000\u0200\u0000Z\u0000\u0331\u0000\u0200\u0000z\u0000\u0331" +
+                    "\u0000\u0200\u0000h\u0000\u0331\u0000\u0200\u0000t\u0000\u0308\u0000\u0200\u0000w" +
+                    "\u0000\u030a\u0000\u0200\u0000y\u0000\u030a\u0000\u0201\u0000a\u0000\u02be\u0000\u0200" +
+                    "\u0000\u017f\u0000\u0307\u0000\u0200\u0000A\u0000\u0323\u0000\u0200\u0000a\u0000\u0323" +
+                    "\u0000\u0200\u0000A\u0000\u0309\u0000\u0200\u0000a\u0000\u0309\u0000\u0200\u0000\u00c2" +
+                    "\u0000\u0301\u0000\u0200\u0000\u00e2\u0000\u0301\u0000\u0200\u0000\u00c2\u0000\u0300\u0000\u0200" +
+                    "\u0000\u00e2\u0000\u0300\u0000\u0200\u0000\u00c2\u0000\u0309\u0000\u0200\u0000\u00e2\u0000\u0309" +
+                    "\u0000\u0200\u0000\u00c2\u0000\u0303\u0000\u0200\u0000\u00e2\u0000\u0303\u0000\u0200\u0000\u1ea0" +
+                    "\u0000\u0302\u0000\u0200\u0000\u1ea1\u0000\u0302\u0000\u0200\u0000\u0102\u0000\u0301\u0000\u0200" +
+                    "\u0000\u0103\u0000\u0301\u0000\u0200\u0000\u0102\u0000\u0300\u0000\u0200\u0000\u0103\u0000\u0300" +
+                    "\u0000\u0200\u0000\u0102\u0000\u0309\u0000\u0200\u0000\u0103\u0000\u0309\u0000\u0200\u0000\u0102" +
+                    "\u0000\u0303\u0000\u0200\u0000\u0103\u0000\u0303\u0000\u0200\u0000\u1ea0\u0000\u0306\u0000\u0200" +
+                    "\u0000\u1ea1\u0000\u0306\u0000\u0200\u0000E\u0000\u0323\u0000\u0200\u0000e\u0000\u0323" +
+                    "\u0000\u0200\u0000E\u0000\u0309\u0000\u0200\u0000e\u0000\u0309\u0000\u0200\u0000E" +
+                    "\u0000\u0303\u0000\u0200\u0000e\u0000\u0303\u0000\u0200\u0000\u00ca\u0000\u0301\u0000\u0200" +
+                    "\u0000\u00ea\u0000\u0301\u0000\u0200\u0000\u00ca\u0000\u0300\u0000\u0200\u0000\u00ea\u0000\u0300" +
+                    "\u0000\u0200\u0000\u00ca\u0000\u0309\u0000\u0200\u0000\u00ea\u0000\u0309\u0000\u0200\u0000\u00ca" +
+                    "\u0000\u0303\u0000\u0200\u0000\u00ea\u0000\u0303\u0000\u0200\u0000\u1eb8\u0000\u0302\u0000\u0200" +
+                    "\u0000\u1eb9\u0000\u0302\u0000\u0200\u0000I\u0000\u0309\u0000\u0200\u0000i\u0000\u0309" +
+                    "\u0000\u0200\u0000I\u0000\u0323\u0000\u0200\u0000i\u0000\u0323\u0000\u0200\u0000O" +
+                    "\u0000\u0323\u0000\u0200\u0000o\u0000\u0323\u0000\u0200\u0000O\u0000\u0309\u0000\u0200" +
+                    "\u0000o\u0000\u0309\u0000\u0200\u0000\u00d4\u0000\u0301\u0000\u0200\u0000\u00f4\u0000\u0301" +
+                    "\u0000\u0200\u0000\u00d4\u0000\u0300\u0000\u0200\u0000\u00f4\u0000\u0300\u0000\u0200\u0000\u00d4" +
+                    "\u0000\u0309\u0000\u0200\u0000\u00f4\u0000\u0309\u0000\u0200\u0000\u00d4\u0000\u0303\u0000\u0200" +
+                    "\u0000\u00f4\u0000\u0303\u0000\u0200\u0000\u1ecc\u0000\u0302\u0000\u0200\u0000\u1ecd\u0000\u0302" +
+                    "\u0000\u0200\u0000\u01a0\u0000\u0301\u0000\u0200\u0000\u01a1\u0000\u0301\u0000\u0200\u0000\u01a0" +
+                    "\u0000\u0300\u0000\u0200\u0000\u01a1\u0000\u0300\u0000\u0200\u0000\u01a0\u0000\u0309\u0000\u0200" +
+                    "\u0000\u01a1\u0000\u0309\u0000\u0200\u0000\u01a0\u0000\u0303\u0000\u0200\u0000\u01a1\u0000\u0303" +
+                    "\u0000\u0200\u0000\u01a0\u0000\u0323\u0000\u0200\u0000\u01a1\u0000\u0323\u0000\u0200\u0000U" +
+                    "\u0000\u0323\u0000\u0200\u0000u\u0000\u0323\u0000\u0200\u0000U\u0000\u0309\u0000\u0200" +
+                    "\u0000u\u0000\u0309\u0000\u0200\u0000\u01af\u0000\u0301\u0000\u0200\u0000\u01b0\u0000\u0301" +
+                    "\u0000\u0200\u0000\u01af\u0000\u0300\u0000\u0200\u0000\u01b0\u0000\u0300\u0000\u0200\u0000\u01af" +
+                    "\u0000\u0309\u0000\u0200\u0000\u01b0\u0000\u0309\u0000\u0200\u0000\u01af\u0000\u0303\u0000\u0200" +
+                    "\u0000\u01b0\u0000\u0303\u0000\u0200\u0000\u01af\u0000\u0323\u0000\u0200\u0000\u01b0\u0000\u0323" +
+                    "\u0000\u0200\u0000Y\u0000\u0300\u0000\u0200\u0000y\u0000\u0300\u0000\u0200\u0000Y" +
+                    "\u0000\u0323\u0000\u0200\u0000y\u0000\u0323\u0000\u0200\u0000Y\u0000\u0309\u0000\u0200" +
+                    "\u0000y\u0000\u0309\u0000\u0200\u0000Y\u0000\u0303\u0000\u0200\u0000y\u0000\u0303" +
+                    "\u0000\u0200\u0000\u03b1\u0000\u0313\u0000\u0200\u0000\u03b1\u0000\u0314\u0000\u0200\u0000\u1f00" +
+                    "\u0000\u0300\u0000\u0200\u0000\u1f01\u0000\u0300\u0000\u0200\u0000\u1f00\u0000\u0301\u0000\u0200" +
+                    "\u0000\u1f01\u0000\u0301\u0000\u0200\u0000\u1f00\u0000\u0342\u0000\u0200\u0000\u1f01\u0000\u0342" +
+                    "\u0000\u0200\u0000\u0391\u0000\u0313\u0000\u0200\u0000\u0391\u0000\u0314\u0000\u0200\u0000\u1f08" +
+                    "\u0000\u0300\u0000\u0200\u0000\u1f09\u0000\u0300\u0000\u0200\u0000\u1f08\u0000\u0301\u0000\u0200" +
+                    "\u0000\u1f09\u0000\u0301\u0000\u0200\u0000\u1f08\u0000\u0342\u0000\u0200\u0000\u1f09\u0000\u0342" +
+                    "\u0000\u0200\u0000\u03b5\u0000\u0313\u0000\u0200\u0000\u03b5\u0000\u0314\u0000\u0200\u0000\u1f10" +
+                    "\u0000\u0300\u0000\u0200\u0000\u1f11\u0000\u0300\u0000\u0200\u0000\u1f10\u0000\u0301\u0000\u0200" +
+                    "\u0000\u1f11\u0000\u0301\u0000\u0200\u0000\u0395\u0000\u0313\u0000\u0200\u0000\u0395\u0000\u0314" +
+                    "\u0000\u0200\u0000\u1f18\u0000\u0300\u0000\u0200\u0000\u1f19\u0000\u0300\u0000\u0200\u0000\u1f18" +
+                    "\u0000\u0301\u0000\u0200\u0000\u1f19\u0000\u0301\u0000\u0200\u0000\u03b7\u0000\u0313\u0000\u0200" +
+                    "\u0000\u03b7\u0000\u0314\u0000\u0200\u0000\u1f20\u0000\u0300\u0000\u0200\u0000\u1f21\u0000\u0300" +
+                    "\u0000\u0200\u0000\u1f20\u0000\u0301\u0000\u0200\u0000\u1f21\u0000\u0301\u0000\u0200\u0000\u1f20" +
+                    "\u0000\u0342\u0000\u0200\u0000\u1f21\u0000\u0342\u0000\u0200\u0000\u0397\u0000\u0313\u0000\u0200" +
+                    "\u0000\u0397\u0000\u0314\u0000\u0200\u0000\u1f28\u0000\u0300\u0000\u0200\u0000\u1f29\u0000\u0300" +
+                    "\u0000\u0200\u0000\u1f28\u0000\u0301\u0000\u0200\u0000\u1f29\u0000\u0301\u0000\u0200\u0000\u1f28" +
+                    "\u0000\u0342\u0000\u0200\u0000\u1f29\u0000\u0342\u0000\u0200\u0000\u03b9\u0000\u0313\u0000\u0200" +
+                    "\u0000\u03b9\u0000\u0314\u0000\u0200\u0000\u1f30\u0000\u0300\u0000\u0200\u0000\u1f31\u0000\u0300" +
+                    "\u0000\u0200\u0000\u1f30\u0000\u0301\u0000\u0200\u0000\u1f31\u0000\u0301\u0000\u0200\u0000\u1f30" +
+                    "\u0000\u0342\u0000\u0200\u0000\u1f31\u0000\u0342\u0000\u0200\u0000\u0399\u0000\u0313\u0000\u0200" +
+                    "\u0000\u0399\u0000\u0314\u0000\u0200\u0000\u1f38\u0000\u0300\u0000\u0200\u0000\u1f39\u0000\u0300" +
+                    "\u0000\u0200\u0000\u1f38\u0000\u0301\u0000\u0200\u0000\u1f39\u0000\u0301\u0000\u0200\u0000\u1f38" +
+                    "\u0000\u0342\u0000\u0200\u0000\u1f39\u0000\u0342\u0000\u0200\u0000\u03bf\u0000\u0313\u0000\u0200" +
+                    "\u0000\u03bf\u0000\u0314\u0000\u0200\u0000\u1f40\u0000\u0300\u0000\u0200\u0000\u1f41\u0000\u0300" +
+                    "\u0000\u0200\u0000\u1f40\u0000\u0301\u0000\u0200\u0000\u1f41\u0000\u0301\u0000\u0200\u0000\u039f" +
+                    "\u0000\u0313\u0000\u0200\u0000\u039f\u0000\u0314\u0000\u0200\u0000\u1f48\u0000\u0300\u0000\u0200" +
+                    "\u0000\u1f49\u0000\u0300\u0000\u0200\u0000\u1f48\u0000\u0301\u0000\u0200\u0000\u1f49\u0000\u0301" +
+                    "\u0000\u0200\u0000\u03c5\u0000\u0313\u0000\u0200\u0000\u03c5\u0000\u0314\u0000\u0200\u0000\u1f50" +
+                    "\u0000\u0300\u0000\u0200\u0000\u1f51\u0000\u0300\u0000\u0200\u0000\u1f50\u0000\u0301\u0000\u0200" +
+                    "\u0000\u1f51\u0000\u0301\u0000\u0200\u0000\u1f50\u0000\u0342\u0000\u0200\u0000\u1f51\u0000\u0342" +
+                    "\u0000\u0200\u0000\u03a5\u0000\u0314\u0000\u0200\u0000\u1f59\u0000\u0300\u0000\u0200\u0000\u1f59" +
+                    "\u0000\u0301\u0000\u0200\u0000\u1f59\u0000\u0342\u0000\u0200\u0000\u03c9\u0000\u0313\u0000\u0200" +
+                    "\u0000\u03c9\u0000\u0314\u0000\u0200\u0000\u1f60\u0000\u0300\u0000\u0200\u0000\u1f61\u0000\u0300" +
+                    "\u0000\u0200\u0000\u1f60\u0000\u0301\u0000\u0200\u0000\u1f61\u0000\u0301\u0000\u0200\u0000\u1f60" +
+                    "\u0000\u0342\u0000\u0200\u0000\u1f61\u0000\u0342\u0000\u0200\u0000\u03a9\u0000\u0313\u0000\u0200" +
+                    "\u0000\u03a9\u0000\u0314\u0000\u0200\u0000\u1f68\u0000\u0300\u0000\u0200\u0000\u1f69\u0000\u0300" +
+                    "\u0000\u0200\u0000\u1f68\u0000\u0301\u0000\u0200\u0000\u1f69\u0000\u0301\u0000\u0200\u0000\u1f68" +
+                    "\u0000\u0342\u0000\u0200\u0000\u1f69\u0000\u0342\u0000\u0200\u0000\u03b1\u0000\u0300\u0000\u0100" +
+                    "\u0000\u03ac\u0000\u0200\u0000\u03b5\u0000\u0300\u0000\u0100\u0000\u03ad\u0000\u0200\u0000\u03b7" +
+                    "\u0000\u0300\u0000\u0100\u0000\u03ae\u0000\u0200\u0000\u03b9\u0000\u0300\u0000\u0100\u0000\u03af" +
+                    "\u0000\u0200\u0000\u03bf\u0000\u0300\u0000\u0100\u0000\u03cc\u0000\u0200\u0000\u03c5\u0000\u0300" +
+                    "\u0000\u0100\u0000\u03cd\u0000\u0200\u0000\u03c9\u0000\u0300\u0000\u0100\u0000\u03ce\u0000\u0200" +
+                    "\u0000\u1f00\u0000\u0345\u0000\u0200\u0000\u1f01\u0000\u0345\u0000\u0200\u0000\u1f02\u0000\u0345" +
+                    "\u0000\u0200\u0000\u1f03\u0000\u0345\u0000\u0200\u0000\u1f04\u0000\u0345\u0000\u0200\u0000\u1f05" +
+                    "\u0000\u0345\u0000\u0200\u0000\u1f06\u0000\u0345\u0000\u0200\u0000\u1f07\u0000\u0345\u0000\u0200" +
+                    "\u0000\u1f08\u0000\u0345\u0000\u0200\u0000\u1f09\u0000\u0345\u0000\u0200\u0000\u1f0a\u0000\u0345" +
+                    "\u0000\u0200\u0000\u1f0b\u0000\u0345\u0000\u0200\u0000\u1f0c\u0000\u0345\u0000\u0200\u0000\u1f0d" +
+                    "\u0000\u0345\u0000\u0200\u0000\u1f0e\u0000\u0345\u0000\u0200\u0000\u1f0f\u0000\u0345\u0000\u0200" +
+                    "\u0000\u1f20\u0000\u0345\u0000\u0200\u0000\u1f21\u0000\u0345\u0000\u0200\u0000\u1f22\u0000\u0345" +
+                    "\u0000\u0200\u0000\u1f23\u0000\u0345\u0000\u0200\u0000\u1f24\u0000\u0345\u0000\u0200\u0000\u1f25" +
+                    "\u0000\u0345\u0000\u0200\u0000\u1f26\u0000\u0345\u0000\u0200\u0000\u1f27\u0000\u0345\u0000\u0200" +
+                    "\u0000\u1f28\u0000\u0345\u0000\u0200\u0000\u1f29\u0000\u0345\u0000\u0200\u0000\u1f2a\u0000\u0345" +
+                    "\u0000\u0200\u0000\u1f2b\u0000\u0345\u0000\u0200\u0000\u1f2c\u0000\u0345\u0000\u0200\u0000\u1f2d" +
+                    "\u0000\u0345\u0000\u0200\u0000\u1f2e\u0000\u0345\u0000\u0200\u0000\u1f2f\u0000\u0345\u0000\u0200" +
+                    "\u0000\u1f60\u0000\u0345\u0000\u0200\u0000\u1f61\u0000\u0345\u0000\u0200\u0000\u1f62\u0000\u0345" +
+                    "\u0000\u0200\u0000\u1f63\u0000\u0345\u0000\u0200\u0000\u1f64\u0000\u0345\u0000\u0200\u0000\u1f65" +
+                    "\u0000\u0345\u0000\u0200\u0000\u1f66\u0000\u0345\u0000\u0200\u0000\u1f67\u0000\u0345\u0000\u0200" +
+                    "\u0000\u1f68\u0000\u0345\u0000\u0200\u0000\u1f69\u0000\u0345\u0000\u0200\u0000\u1f6a\u0000\u0345" +
+                    "\u0000\u0200\u0000\u1f6b\u0000\u0345\u0000\u0200\u0000\u1f6c\u0000\u0345\u0000\u0200\u0000\u1f6d" +
+                    "\u0000\u0345\u0000\u0200\u0000\u1f6e\u0000\u0345\u0000\u0200\u0000\u1f6f\u0000\u0345\u0000\u0200" +
+                    "\u0000\u03b1\u0000\u0306\u0000\u0200\u0000\u03b1\u0000\u0304\u0000\u0200\u0000\u1f70\u0000\u0345" +
+                    "\u0000\u0200\u0000\u03b1\u0000\u0345\u0000\u0200\u0000\u03ac\u0000\u0345\u0000\u0200\u0000\u03b1" +
+                    "\u0000\u0342\u0000\u0200\u0000\u1fb6\u0000\u0345\u0000\u0200\u0000\u0391\u0000\u0306\u0000\u0200" +
+                    "\u0000\u0391\u0000\u0304\u0000\u0200\u0000\u0391\u0000\u0300\u0000\u0100\u0000\u0386\u0000\u0200" +
+                    "\u0000\u0391\u0000\u0345\u0000\u0201\u0000 \u0000\u0313\u0000\u0100\u0000\u03b9\u0000\u0201" +
+                    "\u0000 \u0000\u0313\u0000\u0201\u0000 \u0000\u0342\u0000\u0200\u0000\u00a8\u0000\u0342" +
+                    "\u0000\u0200\u0000\u1f74\u0000\u0345\u0000\u0200\u0000\u03b7\u0000\u0345\u0000\u0200\u0000\u03ae" +
+                    "\u0000\u0345\u0000\u0200\u0000\u03b7\u0000\u0342\u0000\u0200\u0000\u1fc6\u0000\u0345\u0000\u0200" +
+                    "\u0000\u0395\u0000\u0300\u0000\u0100\u0000\u0388\u0000\u0200\u0000\u0397\u0000\u0300\u0000\u0100" +
+                    "\u0000\u0389\u0000\u0200\u0000\u0397\u0000\u0345\u0000\u0200\u0000\u1fbf\u0000\u0300\u0000\u0200" +
+                    "\u0000\u1fbf\u0000\u0301\u0000\u0200\u0000\u1fbf\u0000\u0342\u0000\u0200\u0000\u03b9\u0000\u0306" +
+                    "\u0000\u0200\u0000\u03b9\u0000\u0304\u0000\u0200\u0000\u03ca\u0000\u0300\u0000\u0100\u0000\u0390" +
+                    "\u0000\u0200\u0000\u03b9\u0000\u0342\u0000\u0200\u0000\u03ca\u0000\u0342\u0000\u0200\u0000\u0399" +
+                    "\u0000\u0306\u0000\u0200\u0000\u0399\u0000\u0304\u0000\u0200\u0000\u0399\u0000\u0300\u0000\u0100" +
+                    "\u0000\u038a\u0000\u0200\u0000\u1ffe\u0000\u0300\u0000\u0200\u0000\u1ffe\u0000\u0301\u0000\u0200" +
+                    "\u0000\u1ffe\u0000\u0342\u0000\u0200\u0000\u03c5\u0000\u0306\u0000\u0200\u0000\u03c5\u0000\u0304" +
+                    "\u0000\u0200\u0000\u03cb\u0000\u0300\u0000\u0100\u0000\u03b0\u0000\u0200\u0000\u03c1\u0000\u0313" +
+                    "\u0000\u0200\u0000\u03c1\u0000\u0314\u0000\u0200\u0000\u03c5\u0000\u0342\u0000\u0200\u0000\u03cb" +
+                    "\u0000\u0342\u0000\u0200\u0000\u03a5\u0000\u0306\u0000\u0200\u0000\u03a5\u0000\u0304\u0000\u0200" +
+                    "\u0000\u03a5\u0000\u0300\u0000\u0100\u0000\u038e\u0000\u0200\u0000\u03a1\u0000\u0314\u0000\u0200" +
+                    "\u0000\u00a8\u0000\u0300\u0000\u0100\u0000\u0385\u0000\u0100\u0000`\u0000\u0200\u0000\u1f7c" +
+                    "\u0000\u0345\u0000\u0200\u0000\u03c9\u0000\u0345\u0000\u0200\u0000\u03ce\u0000\u0345\u0000\u0200" +
+                    "\u0000\u03c9\u0000\u0342\u0000\u0200\u0000\u1ff6\u0000\u0345\u0000\u0200\u0000\u039f\u0000\u0300" +
+                    "\u0000\u0100\u0000\u038c\u0000\u0200\u0000\u03a9\u0000\u0300\u0000\u0100\u0000\u038f\u0000\u0200" +
+                    "\u0000\u03a9\u0000\u0345\u0000\u0100\u0000\u00b4\u0000\u0201\u0000 \u0000\u0314\u0000\u0100" +
+                    "\u0000\u2002\u0000\u0100\u0000\u2003\u0000\u0101\u0000 \u0000\u0101\u0000 \u0000\u0101" +
+                    "\u0000 \u0000\u0101\u0000 \u0000\u0101\u0000 \u0000\u010a\u0000 \u0000\u0101" +
+                    "\u0000 \u0000\u0101\u0000 \u0000\u0101\u0000 \u0000\u010a\u0000\u2010\u0000\u0201" +
+                    "\u0000 \u0000\u0333\u0000\u0101\u0000.\u0000\u0201\u0000.\u0000.\u0000\u0301" +
+                    "\u0000.\u0000.\u0000.\u0000\u010a\u0000 \u0000\u0201\u0000\u2032\u0000\u2032" +
+                    "\u0000\u0301\u0000\u2032\u0000\u2032\u0000\u2032\u0000\u0201\u0000\u2035\u0000\u2035\u0000\u0301" +
+                    "\u0000\u2035\u0000\u2035\u0000\u2035\u0000\u0201\u0000!\u0000!\u0000\u0201\u0000 " +
+                    "\u0000\u0305\u0000\u0201\u0000?\u0000?\u0000\u0201\u0000?\u0000!\u0000\u0201" +
+                    "\u0000!\u0000?\u0000\u0401\u0000\u2032\u0000\u2032\u0000\u2032\u0000\u2032\u0000\u0101" +
+                    "\u0000 \u0000\u010e\u00000\u0000\u010e\u0000i\u0000\u010e\u00004\u0000\u010e" +
+                    "\u00005\u0000\u010e\u00006\u0000\u010e\u00007\u0000\u010e\u00008\u0000\u010e" +
+                    "\u00009\u0000\u010e\u0000+\u0000\u010e\u0000\u2212\u0000\u010e\u0000=\u0000\u010e" +
+                    "\u0000(\u0000\u010e\u0000)\u0000\u010e\u0000n\u0000\u010d\u00000\u0000\u010d" +
+                    "\u00001\u0000\u010d\u00002\u0000\u010d\u00003\u0000\u010d\u00004\u0000\u010d" +
+                    "\u00005\u0000\u010d\u00006\u0000\u010d\u00007\u0000\u010d\u00008\u0000\u010d" +
+                    "\u00009\u0000\u010d\u0000+\u0000\u010d\u0000\u2212\u0000\u010d\u0000=\u0000\u010d" +
+                    "\u0000(\u0000\u010d\u0000)\u0000\u010d\u0000a\u0000\u010d\u0000e\u0000\u010d" +
+                    "\u0000o\u0000\u010d\u0000x\u0000\u010d\u0000\u0259\u0000\u010d\u0000h\u0000\u010d" +
+                    "\u0000k\u0000\u010d\u0000l\u0000\u010d\u0000m\u0000\u010d\u0000n\u0000\u010d" +
+                    "\u0000p\u0000\u010d\u0000s\u0000\u010d\u0000t\u0000\u0201\u0000R\u0000s" +
+                    "\u0000\u0301\u0000a\u0000/\u0000c\u0000\u0301\u0000a\u0000/\u0000s" +
+                    "\u0000\u0104\u0000C\u0000\u0201\u0000\u00b0\u0000C\u0000\u0301\u0000c\u0000/" +
+                    "\u0000o\u0000\u0301\u0000c\u0000/\u0000u\u0000\u0101\u0000\u0190\u0000\u0201" +
+                    "\u0000\u00b0\u0000F\u0000\u0104\u0000g\u0000\u0104\u0000H\u0000\u0104\u0000H" +
+                    "\u0000\u0104\u0000H\u0000\u0104\u0000h\u0000\u0104\u0000\u0127\u0000\u0104\u0000I" +
+                    "\u0000\u0104\u0000I\u0000\u0104\u0000L\u0000\u0104\u0000l\u0000\u0104\u0000N" +
+                    "\u0000\u0201\u0000N\u0000o\u0000\u0104\u0000P\u0000\u0104\u0000Q\u0000\u0104" +
+                    "\u0000R\u0000\u0104\u0000R\u0000\u0104\u0000R\u0000\u020e\u0000S\u0000M" +
+                    "\u0000\u0301\u0000T\u0000E\u0000L\u0000\u020e\u0000T\u0000M\u0000\u0104" +
+                    "\u0000Z\u0000\u0100\u0000\u03a9\u0000\u0104\u0000Z\u0000\u0100\u0000K\u0000\u0100" +
+                    "\u0000\u00c5\u0000\u0104\u0000B\u0000\u0104\u0000C\u0000\u0104\u0000e\u0000\u0104" +
+                    "\u0000E\u0000\u0104\u0000F\u0000\u0104\u0000M\u0000\u0104\u0000o\u0000\u0101" +
+                    "\u0000\u05d0\u0000\u0101\u0000\u05d1\u0000\u0101\u0000\u05d2\u0000\u0101\u0000\u05d3\u0000\u0104" +
+                    "\u0000i\u0000\u0301\u0000F\u0000A\u0000X\u0000\u0104\u0000\u03c0\u0000\u0104" +
+                    "\u0000\u03b3\u0000\u0104\u0000\u0393\u0000\u0104\u0000\u03a0\u0000\u0104\u0000\u2211\u0000\u0104" +
+                    "\u0000D\u0000\u0104\u0000d\u0000\u0104\u0000e\u0000\u0104\u0000i\u0000\u0104" +
+                    "\u0000j\u0000\u0305\u00001\u0000\u2044\u00007\u0000\u0305\u00001\u0000\u2044" +
+                    "\u00009\u0000\u0405\u00001\u0000\u2044\u00001\u00000\u0000\u0305\u00001" +
+                    "\u0000\u2044\u00003\u0000\u0305\u00002\u0000\u2044\u00003\u0000\u0305\u00001" +
+                    "\u0000\u2044\u00005\u0000\u0305\u00002\u0000\u2044\u00005\u0000\u0305\u00003" +
+                    "\u0000\u2044\u00005\u0000\u0305\u00004\u0000\u2044\u00005\u0000\u0305\u00001" +
+                    "\u0000\u2044\u00006\u0000\u0305\u00005\u0000\u2044\u00006\u0000\u0305\u00001" +
+                    "\u0000\u2044\u00008\u0000\u0305\u00003\u0000\u2044\u00008\u0000\u0305\u00005" +
+                    "\u0000\u2044\u00008\u0000\u0305\u00007\u0000\u2044\u00008\u0000\u0205\u00001" +
+                    "\u0000\u2044\u0000\u0101\u0000I\u0000\u0201\u0000I\u0000I\u0000\u0301\u0000I" +
+                    "\u0000I\u0000I\u0000\u0201\u0000I\u0000V\u0000\u0101\u0000V\u0000\u0201" +
+                    "\u0000V\u0000I\u0000\u0301\u0000V\u0000I\u0000I\u0000\u0401\u0000V" +
+                    "\u0000I\u0000I\u0000I\u0000\u0201\u0000I\u0000X\u0000\u0101\u0000X" +
+                    "\u0000\u0201\u0000X\u0000I\u0000\u0301\u0000X\u0000I\u0000I\u0000\u0101" +
+                    "\u0000L\u0000\u0101\u0000C\u0000\u0101\u0000D\u0000\u0101\u0000M\u0000\u0101" +
+                    "\u0000i\u0000\u0201\u0000i\u0000i\u0000\u0301\u0000i\u0000i\u0000i" +
+                    "\u0000\u0201\u0000i\u0000v\u0000\u0101\u0000v\u0000\u0201\u0000v\u0000i" +
+                    "\u0000\u0301\u0000v\u0000i\u0000i\u0000\u0401\u0000v\u0000i\u0000i" +
+                    "\u0000i\u0000\u0201\u0000i\u0000x\u0000\u0101\u0000x\u0000\u0201\u0000x" +
+                    "\u0000i\u0000\u0301\u0000x\u0000i\u0000i\u0000\u0101\u0000l\u0000\u0101" +
+                    "\u0000c\u0000\u0101\u0000d\u0000\u0101\u0000m\u0000\u0305\u00000\u0000\u2044" +
+                    "\u00003\u0000\u0200\u0000\u2190\u0000\u0338\u0000\u0200\u0000\u2192\u0000\u0338\u0000\u0200" +
+                    "\u0000\u2194\u0000\u0338\u0000\u0200\u0000\u21d0\u0000\u0338\u0000\u0200\u0000\u21d4\u0000\u0338" +
+                    "\u0000\u0200\u0000\u21d2\u0000\u0338\u0000\u0200\u0000\u2203\u0000\u0338\u0000\u0200\u0000\u2208" +
+                    "\u0000\u0338\u0000\u0200\u0000\u220b\u0000\u0338\u0000\u0200\u0000\u2223\u0000\u0338\u0000\u0200" +
+                    "\u0000\u2225\u0000\u0338\u0000\u0201\u0000\u222b\u0000\u222b\u0000\u0301\u0000\u222b\u0000\u222b" +
+                    "\u0000\u222b\u0000\u0201\u0000\u222e\u0000\u222e\u0000\u0301\u0000\u222e\u0000\u222e\u0000\u222e" +
+                    "\u0000\u0200\u0000\u223c\u0000\u0338\u0000\u0200\u0000\u2243\u0000\u0338\u0000\u0200\u0000\u2245" +
+                    "\u0000\u0338\u0000\u0200\u0000\u2248\u0000\u0338\u0000\u0200\u0000=\u0000\u0338\u0000\u0200" +
+                    "\u0000\u2261\u0000\u0338\u0000\u0200\u0000\u224d\u0000\u0338\u0000\u0200\u0000<\u0000\u0338" +
+                    "\u0000\u0200\u0000>\u0000\u0338\u0000\u0200\u0000\u2264\u0000\u0338\u0000\u0200\u0000\u2265" +
+                    "\u0000\u0338\u0000\u0200\u0000\u2272\u0000\u0338\u0000\u0200\u0000\u2273\u0000\u0338\u0000\u0200" +
+                    "\u0000\u2276\u0000\u0338\u0000\u0200\u0000\u2277\u0000\u0338\u0000\u0200\u0000\u227a\u0000\u0338" +
+                    "\u0000\u0200\u0000\u227b\u0000\u0338\u0000\u0200\u0000\u2282\u0000\u0338\u0000\u0200\u0000\u2283" +
+                    "\u0000\u0338\u0000\u0200\u0000\u2286\u0000\u0338\u0000\u0200\u0000\u2287\u0000\u0338\u0000\u0200" +
+                    "\u0000\u22a2\u0000\u0338\u0000\u0200\u0000\u22a8\u0000\u0338\u0000\u0200\u0000\u22a9\u0000\u0338" +
+                    "\u0000\u0200\u0000\u22ab\u0000\u0338\u0000\u0200\u0000\u227c\u0000\u0338\u0000\u0200\u0000\u227d" +
+                    "\u0000\u0338\u0000\u0200\u0000\u2291\u0000\u0338\u0000\u0200\u0000\u2292\u0000\u0338\u0000\u0200" +
+                    "\u0000\u22b2\u0000\u0338\u0000\u0200\u0000\u22b3\u0000\u0338\u0000\u0200\u0000\u22b4\u0000\u0338" +
+                    "\u0000\u0200\u0000\u22b5\u0000\u0338\u0000\u0100\u0000\u3008\u0000\u0100\u0000\u3009\u0000\u0102" +
+                    "\u00001\u0000\u0102\u00002\u0000\u0102\u00003\u0000\u0102\u00004\u0000\u0102" +
+                    "\u00005\u0000\u0102\u00006\u0000\u0102\u00007\u0000\u0102\u00008\u0000\u0102" +
+                    "\u00009\u0000\u0202\u00001\u00000\u0000\u0202\u00001\u00001\u0000\u0202" +
+                    "\u00001\u00002\u0000\u0202\u00001\u00003\u0000\u0202\u00001\u00004" +
+                    "\u0000\u0202\u00001\u00005\u0000\u0202\u00001\u00006\u0000\u0202\u00001" +
+                    "\u00007\u0000\u0202\u00001\u00008\u0000\u0202\u00001\u00009\u0000\u0202" +
+                    "\u00002\u00000\u0000\u0301\u0000(\u00001\u0000)\u0000\u0301\u0000(" +
+                    "\u00002\u0000)\u0000\u0301\u0000(\u00003\u0000)\u0000\u0301\u0000(" +
+                    "\u00004\u0000)\u0000\u0301\u0000(\u00005\u0000)\u0000\u0301\u0000(" +
+                    "\u00006\u0000)\u0000\u0301\u0000(\u00007\u0000)\u0000\u0301\u0000(" +
+                    "\u00008\u0000)\u0000\u0301\u0000(\u00009\u0000)\u0000\u0401\u0000(" +
+                    "\u00001\u00000\u0000)\u0000\u0401\u0000(\u00001\u00001\u0000)" +
+                    "\u0000\u0401\u0000(\u00001\u00002\u0000)\u0000\u0401\u0000(\u00001" +
+                    "\u00003\u0000)\u0000\u0401\u0000(\u00001\u00004\u0000)\u0000\u0401" +
+                    "\u0000(\u00001\u00005\u0000)\u0000\u0401\u0000(\u00001\u00006" +
+                    "\u0000)\u0000\u0401\u0000(\u00001\u00007\u0000)\u0000\u0401\u0000(" +
+                    "\u00001\u00008\u0000)\u0000\u0401\u0000(\u00001\u00009\u0000)" +
+                    "\u0000\u0401\u0000(\u00002\u00000\u0000)\u0000\u0201\u00001\u0000." +
+                    "\u0000\u0201\u00002\u0000.\u0000\u0201\u00003\u0000.\u0000\u0201\u00004" +
+                    "\u0000.\u0000\u0201\u00005\u0000.\u0000\u0201\u00006\u0000.\u0000\u0201" +
+                    "\u00007\u0000.\u0000\u0201\u00008\u0000.\u0000\u0201\u00009\u0000." +
+                    "\u0000\u0301\u00001\u00000\u0000.\u0000\u0301\u00001\u00001\u0000." +
+                    "\u0000\u0301\u00001\u00002\u0000.\u0000\u0301\u00001\u00003\u0000." +
+                    "\u0000\u0301\u00001\u00004\u0000.\u0000\u0301\u00001\u00005\u0000." +
+                    "\u0000\u0301\u00001\u00006\u0000.\u0000\u0301\u00001\u00007\u0000." +
+                    "\u0000\u0301\u00001\u00008\u0000.\u0000\u0301\u00001\u00009\u0000." +
+                    "\u0000\u0301\u00002\u00000\u0000.\u0000\u0301\u0000(\u0000a\u0000)" +
+                    "\u0000\u0301\u0000(\u0000b\u0000)\u0000\u0301\u0000(\u0000c\u0000)" +
+                    "\u0000\u0301\u0000(\u0000d\u0000)\u0000\u0301\u0000(\u0000e\u0000)" +
+                    "\u0000\u0301\u0000(\u0000f\u0000)\u0000\u0301\u0000(\u0000g\u0000)" +
+                    "\u0000\u0301\u0000(\u0000h\u0000)\u0000\u0301\u0000(\u0000i\u0000)" +
+                    "\u0000\u0301\u0000(\u0000j\u0000)\u0000\u0301\u0000(\u0000k\u0000)" +
+                    "\u0000\u0301\u0000(\u0000l\u0000)\u0000\u0301\u0000(\u0000m\u0000)" +
+                    "\u0000\u0301\u0000(\u0000n\u0000)\u0000\u0301\u0000(\u0000o\u0000)" +
+                    "\u0000\u0301\u0000(\u0000p\u0000)\u0000\u0301\u0000(\u0000q\u0000)" +
+                    "\u0000\u0301\u0000(\u0000r\u0000)\u0000\u0301\u0000(\u0000s\u0000)" +
+                    "\u0000\u0301\u0000(\u0000t\u0000)\u0000\u0301\u0000(\u0000u\u0000)" +
+                    "\u0000\u0301\u0000(\u0000v\u0000)\u0000\u0301\u0000(\u0000w\u0000)" +
+                    "\u0000\u0301\u0000(\u0000x\u0000)\u0000\u0301\u0000(\u0000y\u0000)" +
+                    "\u0000\u0301\u0000(\u0000z\u0000)\u0000\u0102\u0000A\u0000\u0102\u0000B" +
+                    "\u0000\u0102\u0000C\u0000\u0102\u0000D\u0000\u0102\u0000E\u0000\u0102\u0000F" +
+                    "\u0000\u0102\u0000G\u0000\u0102\u0000H\u0000\u0102\u0000I\u0000\u0102\u0000J" +
+                    "\u0000\u0102\u0000K\u0000\u0102\u0000L\u0000\u0102\u0000M\u0000\u0102\u0000N" +
+                    "\u0000\u0102\u0000O\u0000\u0102\u0000P\u0000\u0102\u0000Q\u0000\u0102\u0000R" +
+                    "\u0000\u0102\u0000S\u0000\u0102\u0000T\u0000\u0102\u0000U\u0000\u0102\u0000V" +
+                    "\u0000\u0102\u0000W\u0000\u0102\u0000X\u0000\u0102\u0000Y\u0000\u0102\u0000Z" +
+                    "\u0000\u0102\u0000a\u0000\u0102\u0000b\u0000\u0102\u0000c\u0000\u0102\u0000d" +
+                    "\u0000\u0102\u0000e\u0000\u0102\u0000f\u0000\u0102\u0000g\u0000\u0102\u0000h" +
+                    "\u0000\u0102\u0000i\u0000\u0102\u0000j\u0000\u0102\u0000k\u0000\u0102\u0000l" +
+                    "\u0000\u0102\u0000m\u0000\u0102\u0000n\u0000\u0102\u0000o\u0000\u0102\u0000p" +
+                    "\u0000\u0102\u0000q\u0000\u0102\u0000r\u0000\u0102\u0000s\u0000\u0102\u0000t" +
+                    "\u0000\u0102\u0000u\u0000\u0102\u0000v\u0000\u0102\u0000w\u0000\u0102\u0000x" +
+                    "\u0000\u0102\u0000y\u0000\u0102\u0000z\u0000\u0102\u00000\u0000\u0401\u0000\u222b" +
+                    "\u0000\u222b\u0000\u222b\u0000\u222b\u0000\u0301\u0000:\u0000:\u0000=\u0000\u0201" +
+                    "\u0000=\u0000=\u0000\u0301\u0000=\u0000=\u0000=\u0000\u0200\u0000\u2add" +
+                    "\u0000\u0338\u0000\u010d\u0000j\u0000\u010e\u0000V\u0000\u010e\u0000\u2d61\u0000\u0101" +
+                    "\u0000\u6bcd\u0000\u0101\u0000\u9f9f\u0000\u0101\u0000\u4e00\u0000\u0101\u0000\u4e28\u0000\u0101" +
+                    "\u0000\u4e36\u0000\u0101\u0000\u4e3f\u0000\u0101\u0000\u4e59\u0000\u0101\u0000\u4e85\u0000\u0101" +
+                    "\u0000\u4e8c\u0000\u0101\u0000\u4ea0\u0000\u0101\u0000\u4eba\u0000\u0101\u0000\u513f\u0000\u0101" +
+                    "\u0000\u5165\u0000\u0101\u0000\u516b\u0000\u0101\u0000\u5182\u0000\u0101\u0000\u5196\u0000\u0101" +
+                    "\u0000\u51ab\u0000\u0101\u0000\u51e0\u0000\u0101\u0000\u51f5\u0000\u0101\u0000\u5200\u0000\u0101" +
+                    "\u0000\u529b\u0000\u0101\u0000\u52f9\u0000\u0101\u0000\u5315\u0000\u0101\u0000\u531a\u0000\u0101" +
+                    "\u0000\u5338\u0000\u0101\u0000\u5341\u0000\u0101\u0000\u535c\u0000\u0101\u0000\u5369\u0000\u0101" +
+                    "\u0000\u5382\u0000\u0101\u0000\u53b6\u0000\u0101\u0000\u53c8\u0000\u0101\u0000\u53e3\u0000\u0101" +
+                    "\u0000\u56d7\u0000\u0101\u0000\u571f\u0000\u0101\u0000\u58eb\u0000\u0101\u0000\u5902\u0000\u0101" +
+                    "\u0000\u590a\u0000\u0101\u0000\u5915\u0000\u0101\u0000\u5927\u0000\u0101\u0000\u5973\u0000\u0101" +
+                    "\u0000\u5b50\u0000\u0101\u0000\u5b80\u0000\u0101\u0000\u5bf8\u0000\u0101\u0000\u5c0f\u0000\u0101" +
+                    "\u0000\u5c22\u0000\u0101\u0000\u5c38\u0000\u0101\u0000\u5c6e\u0000\u0101\u0000\u5c71\u0000\u0101" +
+                    "\u0000\u5ddb\u0000\u0101\u0000\u5de5\u0000\u0101\u0000\u5df1\u0000\u0101\u0000\u5dfe\u0000\u0101" +
+                    "\u0000\u5e72\u0000\u0101\u0000\u5e7a\u0000\u0101\u0000\u5e7f\u0000\u0101\u0000\u5ef4\u0000\u0101" +
+                    "\u0000\u5efe\u0000\u0101\u0000\u5f0b\u0000\u0101\u0000\u5f13\u0000\u0101\u0000\u5f50\u0000\u0101" +
+                    "\u0000\u5f61\u0000\u0101\u0000\u5f73\u0000\u0101\u0000\u5fc3\u0000\u0101\u0000\u6208\u0000\u0101" +
+                    "\u0000\u6236\u0000\u0101\u0000\u624b\u0000\u0101\u0000\u652f\u0000\u0101\u0000\u6534\u0000\u0101" +
+                    "\u0000\u6587\u0000\u0101\u0000\u6597\u0000\u0101\u0000\u65a4\u0000\u0101\u0000\u65b9\u0000\u0101" +
+                    "\u0000\u65e0\u0000\u0101\u0000\u65e5\u0000\u0101\u0000\u66f0\u0000\u0101\u0000\u6708\u0000\u0101" +
+                    "\u0000\u6728\u0000\u0101\u0000\u6b20\u0000\u0101\u0000\u6b62\u0000\u0101\u0000\u6b79\u0000\u0101" +
+                    "\u0000\u6bb3\u0000\u0101\u0000\u6bcb\u0000\u0101\u0000\u6bd4\u0000\u0101\u0000\u6bdb\u0000\u0101" +
+                    "\u0000\u6c0f\u0000\u0101\u0000\u6c14\u0000\u0101\u0000\u6c34\u0000\u0101\u0000\u706b\u0000\u0101" +
+                    "\u0000\u722a\u0000\u0101\u0000\u7236\u0000\u0101\u0000\u723b\u0000\u0101\u0000\u723f\u0000\u0101" +
+                    "\u0000\u7247\u0000\u0101\u0000\u7259\u0000\u0101\u0000\u725b\u0000\u0101\u0000\u72ac\u0000\u0101" +
+                    "\u0000\u7384\u0000\u0101\u0000\u7389\u0000\u0101\u0000\u74dc\u0000\u0101\u0000\u74e6\u0000\u0101" +
+                    "\u0000\u7518\u0000\u0101\u0000\u751f\u0000\u0101\u0000\u7528\u0000\u0101\u0000\u7530\u0000\u0101" +
+                    "\u0000\u758b\u0000\u0101\u0000\u7592\u0000\u0101\u0000\u7676\u0000\u0101\u0000\u767d\u0000\u0101" +
+                    "\u0000\u76ae\u0000\u0101\u0000\u76bf\u0000\u0101\u0000\u76ee\u0000\u0101\u0000\u77db\u0000\u0101" +
+                    "\u0000\u77e2\u0000\u0101\u0000\u77f3\u0000\u0101\u0000\u793a\u0000\u0101\u0000\u79b8\u0000\u0101" +
+                    "\u0000\u79be\u0000\u0101\u0000\u7a74\u0000\u0101\u0000\u7acb\u0000\u0101\u0000\u7af9\u0000\u0101" +
+                    "\u0000\u7c73\u0000\u0101\u0000\u7cf8\u0000\u0101\u0000\u7f36\u0000\u0101\u0000\u7f51\u0000\u0101" +
+                    "\u0000\u7f8a\u0000\u0101\u0000\u7fbd\u0000\u0101\u0000\u8001\u0000\u0101\u0000\u800c\u0000\u0101" +
+                    "\u0000\u8012\u0000\u0101\u0000\u8033\u0000\u0101\u0000\u807f\u0000\u0101\u0000\u8089\u0000\u0101" +
+                    "\u0000\u81e3\u0000\u0101\u0000\u81ea\u0000\u0101\u0000\u81f3\u0000\u0101\u0000\u81fc\u0000\u0101" +
+                    "\u0000\u820c\u0000\u0101\u0000\u821b\u0000\u0101\u0000\u821f\u0000\u0101\u0000\u826e\u0000\u0101" +
+                    "\u0000\u8272\u0000\u0101\u0000\u8278\u0000\u0101\u0000\u864d\u0000\u0101\u0000\u866b\u0000\u0101" +
+                    "\u0000\u8840\u0000\u0101\u0000\u884c\u0000\u0101\u0000\u8863\u0000\u0101\u0000\u897e\u0000\u0101" +
+                    "\u0000\u898b\u0000\u0101\u0000\u89d2\u0000\u0101\u0000\u8a00\u0000\u0101\u0000\u8c37\u0000\u0101" +
+                    "\u0000\u8c46\u0000\u0101\u0000\u8c55\u0000\u0101\u0000\u8c78\u0000\u0101\u0000\u8c9d\u0000\u0101" +
+                    "\u0000\u8d64\u0000\u0101\u0000\u8d70\u0000\u0101\u0000\u8db3\u0000\u0101\u0000\u8eab\u0000\u0101" +
+                    "\u0000\u8eca\u0000\u0101\u0000\u8f9b\u0000\u0101\u0000\u8fb0\u0000\u0101\u0000\u8fb5\u0000\u0101" +
+                    "\u0000\u9091\u0000\u0101\u0000\u9149\u0000\u0101\u0000\u91c6\u0000\u0101\u0000\u91cc\u0000\u0101" +
+                    "\u0000\u91d1\u0000\u0101\u0000\u9577\u0000\u0101\u0000\u9580\u0000\u0101\u0000\u961c\u0000\u0101" +
+                    "\u0000\u96b6\u0000\u0101\u0000\u96b9\u0000\u0101\u0000\u96e8\u0000\u0101\u0000\u9751\u0000\u0101" +
+                    "\u0000\u975e\u0000\u0101\u0000\u9762\u0000\u0101\u0000\u9769\u0000\u0101\u0000\u97cb\u0000\u0101" +
+                    "\u0000\u97ed\u0000\u0101\u0000\u97f3\u0000\u0101\u0000\u9801\u0000\u0101\u0000\u98a8\u0000\u0101" +
+                    "\u0000\u98db\u0000\u0101\u0000\u98df\u0000\u0101\u0000\u9996\u0000\u0101\u0000\u9999\u0000\u0101" +
+                    "\u0000\u99ac\u0000\u0101\u0000\u9aa8\u0000\u0101\u0000\u9ad8\u0000\u0101\u0000\u9adf\u0000\u0101" +
+                    "\u0000\u9b25\u0000\u0101\u0000\u9b2f\u0000\u0101\u0000\u9b32\u0000\u0101\u0000\u9b3c\u0000\u0101" +
+                    "\u0000\u9b5a\u0000\u0101\u0000\u9ce5\u0000\u0101\u0000\u9e75\u0000\u0101\u0000\u9e7f\u0000\u0101" +
+                    "\u0000\u9ea5\u0000\u0101\u0000\u9ebb\u0000\u0101\u0000\u9ec3\u0000\u0101\u0000\u9ecd\u0000\u0101" +
+                    "\u0000\u9ed1\u0000\u0101\u0000\u9ef9\u0000\u0101\u0000\u9efd\u0000\u0101\u0000\u9f0e\u0000\u0101" +
+                    "\u0000\u9f13\u0000\u0101\u0000\u9f20\u0000\u0101\u0000\u9f3b\u0000\u0101\u0000\u9f4a\u0000\u0101" +
+                    "\u0000\u9f52\u0000\u0101\u0000\u9f8d\u0000\u0101\u0000\u9f9c\u0000\u0101\u0000\u9fa0\u0000\u0110" +
+                    "\u0000 \u0000\u0101\u0000\u3012\u0000\u0101\u0000\u5341\u0000\u0101\u0000\u5344\u0000\u0101" +
+                    "\u0000\u5345\u0000\u0200\u0000\u304b\u0000\u3099\u0000\u0200\u0000\u304d\u0000\u3099\u0000\u0200" +
+                    "\u0000\u304f\u0000\u3099\u0000\u0200\u0000\u3051\u0000\u3099\u0000\u0200\u0000\u3053\u0000\u3099" +
+                    "\u0000\u0200\u0000\u3055\u0000\u3099\u0000\u0200\u0000\u3057\u0000\u3099\u0000\u0200\u0000\u3059" +
+                    "\u0000\u3099\u0000\u0200\u0000\u305b\u0000\u3099\u0000\u0200\u0000\u305d\u0000\u3099\u0000\u0200" +
+                    "\u0000\u305f\u0000\u3099\u0000\u0200\u0000\u3061\u0000\u3099\u0000\u0200\u0000\u3064\u0000\u3099" +
+                    "\u0000\u0200\u0000\u3066\u0000\u3099\u0000\u0200\u0000\u3068\u0000\u3099\u0000\u0200\u0000\u306f" +
+                    "\u0000\u3099\u0000\u0200\u0000\u306f\u0000\u309a\u0000\u0200\u0000\u3072\u0000\u3099\u0000\u0200" +
+                    "\u0000\u3072\u0000\u309a\u0000\u0200\u0000\u3075\u0000\u3099\u0000\u0200\u0000\u3075\u0000\u309a" +
+                    "\u0000\u0200\u0000\u3078\u0000\u3099\u0000\u0200\u0000\u3078\u0000\u309a\u0000\u0200\u0000\u307b" +
+                    "\u0000\u3099\u0000\u0200\u0000\u307b\u0000\u309a\u0000\u0200\u0000\u3046\u0000\u3099\u0000\u0201" +
+                    "\u0000 \u0000\u3099\u0000\u0201\u0000 \u0000\u309a\u0000\u0200\u0000\u309d\u0000\u3099" +
+                    "\u0000\u020f\u0000\u3088\u0000\u308a\u0000\u0200\u0000\u30ab\u0000\u3099\u0000\u0200\u0000\u30ad" +
+                    "\u0000\u3099\u0000\u0200\u0000\u30af\u0000\u3099\u0000\u0200\u0000\u30b1\u0000\u3099\u0000\u0200" +
+                    "\u0000\u30b3\u0000\u3099\u0000\u0200\u0000\u30b5\u0000\u3099\u0000\u0200\u0000\u30b7\u0000\u3099" +
+                    "\u0000\u0200\u0000\u30b9\u0000\u3099\u0000\u0200\u0000\u30bb\u0000\u3099\u0000\u0200\u0000\u30bd" +
+                    "\u0000\u3099\u0000\u0200\u0000\u30bf\u0000\u3099\u0000\u0200\u0000\u30c1\u0000\u3099\u0000\u0200" +
+                    "\u0000\u30c4\u0000\u3099\u0000\u0200\u0000\u30c6\u0000\u3099\u0000\u0200\u0000\u30c8\u0000\u3099" +
+                    "\u0000\u0200\u0000\u30cf\u0000\u3099\u0000\u0200\u0000\u30cf\u0000\u309a\u0000\u0200\u0000\u30d2" +
+                    "\u0000\u3099\u0000\u0200\u0000\u30d2\u0000\u309a\u0000\u0200\u0000\u30d5\u0000\u3099\u0000\u0200" +
+                    "\u0000\u30d5\u0000\u309a\u0000\u0200\u0000\u30d8\u0000\u3099\u0000\u0200\u0000\u30d8\u0000\u309a" +
+                    "\u0000\u0200\u0000\u30db\u0000\u3099\u0000\u0200\u0000\u30db\u0000\u309a\u0000\u0200\u0000\u30a6" +
+                    "\u0000\u3099\u0000\u0200\u0000\u30ef\u0000\u3099\u0000\u0200\u0000\u30f0\u0000\u3099\u0000\u0200" +
+                    "\u0000\u30f1\u0000\u3099\u0000\u0200\u0000\u30f2\u0000\u3099\u0000\u0200\u0000\u30fd\u0000\u3099" +
+                    "\u0000\u020f\u0000\u30b3\u0000\u30c8\u0000\u0101\u0000\u1100\u0000\u0101\u0000\u1101\u0000\u0101" +
+                    "\u0000\u11aa\u0000\u0101\u0000\u1102\u0000\u0101\u0000\u11ac\u0000\u0101\u0000\u11ad\u0000\u0101" +
+                    "\u0000\u1103\u0000\u0101\u0000\u1104\u0000\u0101\u0000\u1105\u0000\u0101\u0000\u11b0\u0000\u0101" +
+                    "\u0000\u11b1\u0000\u0101\u0000\u11b2\u0000\u0101\u0000\u11b3\u0000\u0101\u0000\u11b4\u0000\u0101" +
+                    "\u0000\u11b5\u0000\u0101\u0000\u111a\u0000\u0101\u0000\u1106\u0000\u0101\u0000\u1107\u0000\u0101" +
+                    "\u0000\u1108\u0000\u0101\u0000\u1121\u0000\u0101\u0000\u1109\u0000\u0101\u0000\u110a\u0000\u0101" +
+                    "\u0000\u110b\u0000\u0101\u0000\u110c\u0000\u0101\u0000\u110d\u0000\u0101\u0000\u110e\u0000\u0101" +
+                    "\u0000\u110f\u0000\u0101\u0000\u1110\u0000\u0101\u0000\u1111\u0000\u0101\u0000\u1112\u0000\u0101" +
+                    "\u0000\u1161\u0000\u0101\u0000\u1162\u0000\u0101\u0000\u1163\u0000\u0101\u0000\u1164\u0000\u0101" +
+                    "\u0000\u1165\u0000\u0101\u0000\u1166\u0000\u0101\u0000\u1167\u0000\u0101\u0000\u1168\u0000\u0101" +
+                    "\u0000\u1169\u0000\u0101\u0000\u116a\u0000\u0101\u0000\u116b\u0000\u0101\u0000\u116c\u0000\u0101" +
+                    "\u0000\u116d\u0000\u0101\u0000\u116e\u0000\u0101\u0000\u116f\u0000\u0101\u0000\u1170\u0000\u0101" +
+                    "\u0000\u1171\u0000\u0101\u0000\u1172\u0000\u0101\u0000\u1173\u0000\u0101\u0000\u1174\u0000\u0101" +
+                    "\u0000\u1175\u0000\u0101\u0000\u1160\u0000\u0101\u0000\u1114\u0000\u0101\u0000\u1115\u0000\u0101" +
+                    "\u0000\u11c7\u0000\u0101\u0000\u11c8\u0000\u0101\u0000\u11cc\u0000\u0101\u0000\u11ce\u0000\u0101" +
+                    "\u0000\u11d3\u0000\u0101\u0000\u11d7\u0000\u0101\u0000\u11d9\u0000\u0101\u0000\u111c\u0000\u0101" +
+                    "\u0000\u11dd\u0000\u0101\u0000\u11df\u0000\u0101\u0000\u111d\u0000\u0101\u0000\u111e\u0000\u0101" +
+                    "\u0000\u1120\u0000\u0101\u0000\u1122\u0000\u0101\u0000\u1123\u0000\u0101\u0000\u1127\u0000\u0101" +
+                    "\u0000\u1129\u0000\u0101\u0000\u112b\u0000\u0101\u0000\u112c\u0000\u0101\u0000\u112d\u0000\u0101" +
+                    "\u0000\u112e\u0000\u0101\u0000\u112f\u0000\u0101\u0000\u1132\u0000\u0101\u0000\u1136\u0000\u0101" +
+                    "\u0000\u1140\u0000\u0101\u0000\u1147\u0000\u0101\u0000\u114c\u0000\u0101\u0000\u11f1\u0000\u0101" +
+                    "\u0000\u11f2\u0000\u0101\u0000\u1157\u0000\u0101\u0000\u1158\u0000\u0101\u0000\u1159\u0000\u0101" +
+                    "\u0000\u1184\u0000\u0101\u0000\u1185\u0000\u0101\u0000\u1188\u0000\u0101\u0000\u1191\u0000\u0101" +
+                    "\u0000\u1192\u0000\u0101\u0000\u1194\u0000\u0101\u0000\u119e\u0000\u0101\u0000\u11a1\u0000\u010e" +
+                    "\u0000\u4e00\u0000\u010e\u0000\u4e8c\u0000\u010e\u0000\u4e09\u0000\u010e\u0000\u56db\u0000\u010e" +
+                    "\u0000\u4e0a\u0000\u010e\u0000\u4e2d\u0000\u010e\u0000\u4e0b\u0000\u010e\u0000\u7532\u0000\u010e" +
+                    "\u0000\u4e59\u0000\u010e\u0000\u4e19\u0000\u010e\u0000\u4e01\u0000\u010e\u0000\u5929\u0000\u010e" +
+                    "\u0000\u5730\u0000\u010e\u0000\u4eba\u0000\u0301\u0000(\u0000\u1100\u0000)\u0000\u0301" +
+                    "\u0000(\u0000\u1102\u0000)\u0000\u0301\u0000(\u0000\u1103\u0000)\u0000\u0301" +
+                    "\u0000(\u0000\u1105\u0000)\u0000\u0301\u0000(\u0000\u1106\u0000)\u0000\u0301" +
+                    "\u0000(\u0000\u1107\u0000)\u0000\u0301\u0000(\u0000\u1109\u0000)\u0000\u0301" +
+                    "\u0000(\u0000\u110b\u0000)\u0000\u0301\u0000(\u0000\u110c\u0000)\u0000\u0301" +
+                    "\u0000(\u0000\u110e\u0000)\u0000\u0301\u0000(\u0000\u110f\u0000)\u0000\u0301" +
+                    "\u0000(\u0000\u1110\u0000)\u0000\u0301\u0000(\u0000\u1111\u0000)\u0000\u0301" +
+                    "\u0000(\u0000\u1112\u0000)\u0000\u0401\u0000(\u0000\u1100\u0000\u1161\u0000)" +
+                    "\u0000\u0401\u0000(\u0000\u1102\u0000\u1161\u0000)\u0000\u0401\u0000(\u0000\u1103" +
+                    "\u0000\u1161\u0000)\u0000\u0401\u0000(\u0000\u1105\u0000\u1161\u0000)\u0000\u0401" +
+                    "\u0000(\u0000\u1106\u0000\u1161\u0000)\u0000\u0401\u0000(\u0000\u1107\u0000\u1161" +
+                    "\u0000)\u0000\u0401\u0000(\u0000\u1109\u0000\u1161\u0000)\u0000\u0401\u0000(" +
+                    "\u0000\u110b\u0000\u1161\u0000)\u0000\u0401\u0000(\u0000\u110c\u0000\u1161\u0000)" +
+                    "\u0000\u0401\u0000(\u0000\u110e\u0000\u1161\u0000)\u0000\u0401\u0000(\u0000\u110f" +
+                    "\u0000\u1161\u0000)\u0000\u0401\u0000(\u0000\u1110\u0000\u1161\u0000)\u0000\u0401" +
+                    "\u0000(\u0000\u1111\u0000\u1161\u0000)\u0000\u0401\u0000(\u0000\u1112\u0000\u1161" +
+                    "\u0000)\u0000\u0401\u0000(\u0000\u110c\u0000\u116e\u0000)\u0000\u0701\u0000(" +
+                    "\u0000\u110b\u0000\u1169\u0000\u110c\u0000\u1165\u0000\u11ab\u0000)\u0000\u0601\u0000(" +
+                    "\u0000\u110b\u0000\u1169\u0000\u1112\u0000\u116e\u0000)\u0000\u0301\u0000(\u0000\u4e00" +
+                    "\u0000)\u0000\u0301\u0000(\u0000\u4e8c\u0000)\u0000\u0301\u0000(\u0000\u4e09" +
+                    "\u0000)\u0000\u0301\u0000(\u0000\u56db\u0000)\u0000\u0301\u0000(\u0000\u4e94" +
+                    "\u0000)\u0000\u0301\u0000(\u0000\u516d\u0000)\u0000\u0301\u0000(\u0000\u4e03" +
+                    "\u0000)\u0000\u0301\u0000(\u0000\u516b\u0000)\u0000\u0301\u0000(\u0000\u4e5d" +
+                    "\u0000)\u0000\u0301\u0000(\u0000\u5341\u0000)\u0000\u0301\u0000(\u0000\u6708" +
+                    "\u0000)\u0000\u0301\u0000(\u0000\u706b\u0000)\u0000\u0301\u0000(\u0000\u6c34" +
+                    "\u0000)\u0000\u0301\u0000(\u0000\u6728\u0000)\u0000\u0301\u0000(\u0000\u91d1" +
+                    "\u0000)\u0000\u0301\u0000(\u0000\u571f\u0000)\u0000\u0301\u0000(\u0000\u65e5" +
+                    "\u0000)\u0000\u0301\u0000(\u0000\u682a\u0000)\u0000\u0301\u0000(\u0000\u6709" +
+                    "\u0000)\u0000\u0301\u0000(\u0000\u793e\u0000)\u0000\u0301\u0000(\u0000\u540d" +
+                    "\u0000)\u0000\u0301\u0000(\u0000\u7279\u0000)\u0000\u0301\u0000(\u0000\u8ca1" +
+                    "\u0000)\u0000\u0301\u0000(\u0000\u795d\u0000)\u0000\u0301\u0000(\u0000\u52b4" +
+                    "\u0000)\u0000\u0301\u0000(\u0000\u4ee3\u0000)\u0000\u0301\u0000(\u0000\u547c" +
+                    "\u0000)\u0000\u0301\u0000(\u0000\u5b66\u0000)\u0000\u0301\u0000(\u0000\u76e3" +
+                    "\u0000)\u0000\u0301\u0000(\u0000\u4f01\u0000)\u0000\u0301\u0000(\u0000\u8cc7" +
+                    "\u0000)\u0000\u0301\u0000(\u0000\u5354\u0000)\u0000\u0301\u0000(\u0000\u796d" +
+                    "\u0000)\u0000\u0301\u0000(\u0000\u4f11\u0000)\u0000\u0301\u0000(\u0000\u81ea" +
+                    "\u0000)\u0000\u0301\u0000(\u0000\u81f3\u0000)\u0000\u0102\u0000\u554f\u0000\u0102" +
+                    "\u0000\u5e7c\u0000\u0102\u0000\u6587\u0000\u0102\u0000\u7b8f\u0000\u030c\u0000P\u0000T" +
+                    "\u0000E\u0000\u0202\u00002\u00001\u0000\u0202\u00002\u00002\u0000\u0202" +
+                    "\u00002\u00003\u0000\u0202\u00002\u00004\u0000\u0202\u00002\u00005" +
+                    "\u0000\u0202\u00002\u00006\u0000\u0202\u00002\u00007\u0000\u0202\u00002" +
+                    "\u00008\u0000\u0202\u00002\u00009\u0000\u0202\u00003\u00000\u0000\u0202" +
+                    "\u00003\u00001\u0000\u0202\u00003\u00002\u0000\u0202\u00003\u00003" +
+                    "\u0000\u0202\u00003\u00004\u0000\u0202\u00003\u00005\u0000\u0102\u0000\u1100" +
+                    "\u0000\u0102\u0000\u1102\u0000\u0102\u0000\u1103\u0000\u0102\u0000\u1105\u0000\u0102\u0000\u1106" +
+                    "\u0000\u0102\u0000\u1107\u0000\u0102\u0000\u1109\u0000\u0102\u0000\u110b\u0000\u0102\u0000\u110c" +
+                    "\u0000\u0102\u0000\u110e\u0000\u0102\u0000\u110f\u0000\u0102\u0000\u1110\u0000\u0102\u0000\u1111" +
+                    "\u0000\u0102\u0000\u1112\u0000\u0202\u0000\u1100\u0000\u1161\u0000\u0202\u0000\u1102\u0000\u1161" +
+                    "\u0000\u0202\u0000\u1103\u0000\u1161\u0000\u0202\u0000\u1105\u0000\u1161\u0000\u0202\u0000\u1106" +
+                    "\u0000\u1161\u0000\u0202\u0000\u1107\u0000\u1161\u0000\u0202\u0000\u1109\u0000\u1161\u0000\u0202" +
+                    "\u0000\u110b\u0000\u1161\u0000\u0202\u0000\u110c\u0000\u1161\u0000\u0202\u0000\u110e\u0000\u1161" +
+                    "\u0000\u0202\u0000\u110f\u0000\u1161\u0000\u0202\u0000\u1110\u0000\u1161\u0000\u0202\u0000\u1111" +
+                    "\u0000\u1161\u0000\u0202\u0000\u1112\u0000\u1161\u0000\u0502\u0000\u110e\u0000\u1161\u0000\u11b7" +
+                    "\u0000\u1100\u0000\u1169\u0000\u0402\u0000\u110c\u0000\u116e\u0000\u110b\u0000\u1174\u0000\u0202" +
+                    "\u0000\u110b\u0000\u116e\u0000\u0102\u0000\u4e00\u0000\u0102\u0000\u4e8c\u0000\u0102\u0000\u4e09" +
+                    "\u0000\u0102\u0000\u56db\u0000\u0102\u0000\u4e94\u0000\u0102\u0000\u516d\u0000\u0102\u0000\u4e03" +
+                    "\u0000\u0102\u0000\u516b\u0000\u0102\u0000\u4e5d\u0000\u0102\u0000\u5341\u0000\u0102\u0000\u6708" +
+                    "\u0000\u0102\u0000\u706b\u0000\u0102\u0000\u6c34\u0000\u0102\u0000\u6728\u0000\u0102\u0000\u91d1" +
+                    "\u0000\u0102\u0000\u571f\u0000\u0102\u0000\u65e5\u0000\u0102\u0000\u682a\u0000\u0102\u0000\u6709" +
+                    "\u0000\u0102\u0000\u793e\u0000\u0102\u0000\u540d\u0000\u0102\u0000\u7279\u0000\u0102\u0000\u8ca1" +
+                    "\u0000\u0102\u0000\u795d\u0000\u0102\u0000\u52b4\u0000\u0102\u0000\u79d8\u0000\u0102\u0000\u7537" +
+                    "\u0000\u0102\u0000\u5973\u0000\u0102\u0000\u9069\u0000\u0102\u0000\u512a\u0000\u0102\u0000\u5370" +
+                    "\u0000\u0102\u0000\u6ce8\u0000\u0102\u0000\u9805\u0000\u0102\u0000\u4f11\u0000\u0102\u0000\u5199" +
+                    "\u0000\u0102\u0000\u6b63\u0000\u0102\u0000\u4e0a\u0000\u0102\u0000\u4e2d\u0000\u0102\u0000\u4e0b" +
+                    "\u0000\u0102\u0000\u5de6\u0000\u0102\u0000\u53f3\u0000\u0102\u0000\u533b\u0000\u0102\u0000\u5b97" +
+                    "\u0000\u0102\u0000\u5b66\u0000\u0102\u0000\u76e3\u0000\u0102\u0000\u4f01\u0000\u0102\u0000\u8cc7" +
+                    "\u0000\u0102\u0000\u5354\u0000\u0102\u0000\u591c\u0000\u0202\u00003\u00006\u0000\u0202" +
+                    "\u00003\u00007\u0000\u0202\u00003\u00008\u0000\u0202\u00003\u00009" +
+                    "\u0000\u0202\u00004\u00000\u0000\u0202\u00004\u00001\u0000\u0202\u00004" +
+                    "\u00002\u0000\u0202\u00004\u00003\u0000\u0202\u00004\u00004\u0000\u0202" +
+                    "\u00004\u00005\u0000\u0202\u00004\u00006\u0000\u0202\u00004\u00007" +
+                    "\u0000\u0202\u00004\u00008\u0000\u0202\u00004\u00009\u0000\u0202\u00005" +
+                    "\u00000\u0000\u0201\u00001\u0000\u6708\u0000\u0201\u00002\u0000\u6708\u0000\u0201" +
+                    "\u00003\u0000\u6708\u0000\u0201\u00004\u0000\u6708\u0000\u0201\u00005\u0000\u6708" +
+                    "\u0000\u0201\u00006\u0000\u6708\u0000\u0201\u00007\u0000\u6708\u0000\u0201\u00008" +
+                    "\u0000\u6708\u0000\u0201\u00009\u0000\u6708\u0000\u0301\u00001\u00000\u0000\u6708" +
+                    "\u0000\u0301\u00001\u00001\u0000\u6708\u0000\u0301\u00001\u00002\u0000\u6708" +
+                    "\u0000\u020c\u0000H\u0000g\u0000\u030c\u0000e\u0000r\u0000g\u0000\u020c" +
+                    "\u0000e\u0000V\u0000\u030c\u0000L\u0000T\u0000D\u0000\u0102\u0000\u30a2" +
+                    "\u0000\u0102\u0000\u30a4\u0000\u0102\u0000\u30a6\u0000\u0102\u0000\u30a8\u0000\u0102\u0000\u30aa" +
+                    "\u0000\u0102\u0000\u30ab\u0000\u0102\u0000\u30ad\u0000\u0102\u0000\u30af\u0000\u0102\u0000\u30b1" +
+                    "\u0000\u0102\u0000\u30b3\u0000\u0102\u0000\u30b5\u0000\u0102\u0000\u30b7\u0000\u0102\u0000\u30b9" +
+                    "\u0000\u0102\u0000\u30bb\u0000\u0102\u0000\u30bd\u0000\u0102\u0000\u30bf\u0000\u0102\u0000\u30c1" +
+                    "\u0000\u0102\u0000\u30c4\u0000\u0102\u0000\u30c6\u0000\u0102\u0000\u30c8\u0000\u0102\u0000\u30ca" +
+                    "\u0000\u0102\u0000\u30cb\u0000\u0102\u0000\u30cc\u0000\u0102\u0000\u30cd\u0000\u0102\u0000\u30ce" +
+                    "\u0000\u0102\u0000\u30cf\u0000\u0102\u0000\u30d2\u0000\u0102\u0000\u30d5\u0000\u0102\u0000\u30d8" +
+                    "\u0000\u0102\u0000\u30db\u0000\u0102\u0000\u30de\u0000\u0102\u0000\u30df\u0000\u0102\u0000\u30e0" +
+                    "\u0000\u0102\u0000\u30e1\u0000\u0102\u0000\u30e2\u0000\u0102\u0000\u30e4\u0000\u0102\u0000\u30e6" +
+                    "\u0000\u0102\u0000\u30e8\u0000\u0102\u0000\u30e9\u0000\u0102\u0000\u30ea\u0000\u0102\u0000\u30eb" +
+                    "\u0000\u0102\u0000\u30ec\u0000\u0102\u0000\u30ed\u0000\u0102\u0000\u30ef\u0000\u0102\u0000\u30f0" +
+                    "\u0000\u0102\u0000\u30f1\u0000\u0102\u0000\u30f2\u0000\u020c\u0000\u4ee4\u0000\u548c\u0000\u040c" +
+                    "\u0000\u30a2\u0000\u30d1\u0000\u30fc\u0000\u30c8\u0000\u040c\u0000\u30a2\u0000\u30eb\u0000\u30d5" +
+                    "\u0000\u30a1\u0000\u040c\u0000\u30a2\u0000\u30f3\u0000\u30da\u0000\u30a2\u0000\u030c\u0000\u30a2" +
+                    "\u0000\u30fc\u0000\u30eb\u0000\u040c\u0000\u30a4\u0000\u30cb\u0000\u30f3\u0000\u30b0\u0000\u030c" +
+                    "\u0000\u30a4\u0000\u30f3\u0000\u30c1\u0000\u030c\u0000\u30a6\u0000\u30a9\u0000\u30f3\u0000\u050c" +
+                    "\u0000\u30a8\u0000\u30b9\u0000\u30af\u0000\u30fc\u0000\u30c9\u0000\u040c\u0000\u30a8\u0000\u30fc" +
+                    "\u0000\u30ab\u0000\u30fc\u0000\u030c\u0000\u30aa\u0000\u30f3\u0000\u30b9\u0000\u030c\u0000\u30aa" +
+                    "\u0000\u30fc\u0000\u30e0\u0000\u030c\u0000\u30ab\u0000\u30a4\u0000\u30ea\u0000\u040c\u0000\u30ab" +
+                    "\u0000\u30e9\u0000\u30c3\u0000\u30c8\u0000\u040c\u0000\u30ab\u0000\u30ed\u0000\u30ea\u0000\u30fc" +
+                    "\u0000\u030c\u0000\u30ac\u0000\u30ed\u0000\u30f3\u0000\u030c\u0000\u30ac\u0000\u30f3\u0000\u30de" +
+                    "\u0000\u020c\u0000\u30ae\u0000\u30ac\u0000\u030c\u0000\u30ae\u0000\u30cb\u0000\u30fc\u0000\u040c" +
+                    "\u0000\u30ad\u0000\u30e5\u0000\u30ea\u0000\u30fc\u0000\u040c\u0000\u30ae\u0000\u30eb\u0000\u30c0" +
+                    "\u0000\u30fc\u0000\u020c\u0000\u30ad\u0000\u30ed\u0000\u050c\u0000\u30ad\u0000\u30ed\u0000\u30b0" +
+                    "\u0000\u30e9\u0000\u30e0\u0000\u060c\u0000\u30ad\u0000\u30ed\u0000\u30e1\u0000\u30fc\u0000\u30c8" +
+                    "\u0000\u30eb\u0000\u050c\u0000\u30ad\u0000\u30ed\u0000\u30ef\u0000\u30c3\u0000\u30c8\u0000\u030c" +
+                    "\u0000\u30b0\u0000\u30e9\u0000\u30e0\u0000\u050c\u0000\u30b0\u0000\u30e9\u0000\u30e0\u0000\u30c8" +
+                    "\u0000\u30f3\u0000\u050c\u0000\u30af\u0000\u30eb\u0000\u30bc\u0000\u30a4\u0000\u30ed\u0000\u040c" +
+                    "\u0000\u30af\u0000\u30ed\u0000\u30fc\u0000\u30cd\u0000\u030c\u0000\u30b1\u0000\u30fc\u0000\u30b9" +
+                    "\u0000\u030c\u0000\u30b3\u0000\u30eb\u0000\u30ca\u0000\u030c\u0000\u30b3\u0000\u30fc\u0000\u30dd" +
+                    "\u0000\u040c\u0000\u30b5\u0000\u30a4\u0000\u30af\u0000\u30eb\u0000\u050c\u0000\u30b5\u0000\u30f3" +
+                    "\u0000\u30c1\u0000\u30fc\u0000\u30e0\u0000\u040c\u0000\u30b7\u0000\u30ea\u0000\u30f3\u0000\u30b0" +
+                    "\u0000\u030c\u0000\u30bb\u0000\u30f3\u0000\u30c1\u0000\u030c\u0000\u30bb\u0000\u30f3\u0000\u30c8" +
+                    "\u0000\u030c\u0000\u30c0\u0000\u30fc\u0000\u30b9\u0000\u020c\u0000\u30c7\u0000\u30b7\u0000\u020c" +
+                    "\u0000\u30c9\u0000\u30eb\u0000\u020c\u0000\u30c8\u0000\u30f3\u0000\u020c\u0000\u30ca\u0000\u30ce" +
+                    "\u0000\u030c\u0000\u30ce\u0000\u30c3\u0000\u30c8\u0000\u030c\u0000\u30cf\u0000\u30a4\u0000\u30c4" +
+                    "\u0000\u050c\u0000\u30d1\u0000\u30fc\u0000\u30bb\u0000\u30f3\u0000\u30c8\u0000\u030c\u0000\u30d1" +
+                    "\u0000\u30fc\u0000\u30c4\u0000\u040c\u0000\u30d0\u0000\u30fc\u0000\u30ec\u0000\u30eb\u0000\u050c" +
+                    "\u0000\u30d4\u0000\u30a2\u0000\u30b9\u0000\u30c8\u0000\u30eb\u0000\u030c\u0000\u30d4\u0000\u30af" +
+                    "\u0000\u30eb\u0000\u020c\u0000\u30d4\u0000\u30b3\u0000\u020c\u0000\u30d3\u0000\u30eb\u0000\u050c" +
+                    "\u0000\u30d5\u0000\u30a1\u0000\u30e9\u0000\u30c3\u0000\u30c9\u0000\u040c\u0000\u30d5\u0000\u30a3" +
+                    "\u0000\u30fc\u0000\u30c8\u0000\u050c\u0000\u30d6\u0000\u30c3\u0000\u30b7\u0000\u30a7\u0000\u30eb" +
+                    "\u0000\u030c\u0000\u30d5\u0000\u30e9\u0000\u30f3\u0000\u050c\u0000\u30d8\u0000\u30af\u0000\u30bf" +
+                    "\u0000\u30fc\u0000\u30eb\u0000\u020c\u0000\u30da\u0000\u30bd\u0000\u030c\u0000\u30da\u0000\u30cb" +
+                    "\u0000\u30d2\u0000\u030c\u0000\u30d8\u0000\u30eb\u0000\u30c4\u0000\u030c\u0000\u30da\u0000\u30f3" +
+                    "\u0000\u30b9\u0000\u030c\u0000\u30da\u0000\u30fc\u0000\u30b8\u0000\u030c\u0000\u30d9\u0000\u30fc" +
+                    "\u0000\u30bf\u0000\u040c\u0000\u30dd\u0000\u30a4\u0000\u30f3\u0000\u30c8\u0000\u030c\u0000\u30dc" +
+                    "\u0000\u30eb\u0000\u30c8\u0000\u020c\u0000\u30db\u0000\u30f3\u0000\u030c\u0000\u30dd\u0000\u30f3" +
+                    "\u0000\u30c9\u0000\u030c\u0000\u30db\u0000\u30fc\u0000\u30eb\u0000\u030c\u0000\u30db\u0000\u30fc" +
+                    "\u0000\u30f3\u0000\u040c\u0000\u30de\u0000\u30a4\u0000\u30af\u0000\u30ed\u0000\u030c\u0000\u30de" +
+                    "\u0000\u30a4\u0000\u30eb\u0000\u030c\u0000\u30de\u0000\u30c3\u0000\u30cf\u0000\u030c\u0000\u30de" +
+                    "\u0000\u30eb\u0000\u30af\u0000\u050c\u0000\u30de\u0000\u30f3\u0000\u30b7\u0000\u30e7\u0000\u30f3" +
+                    "\u0000\u040c\u0000\u30df\u0000\u30af\u0000\u30ed\u0000\u30f3\u0000\u020c\u0000\u30df\u0000\u30ea" +
+                    "\u0000\u050c\u0000\u30df\u0000\u30ea\u0000\u30d0\u0000\u30fc\u0000\u30eb\u0000\u020c\u0000\u30e1" +
+                    "\u0000\u30ac\u0000\u040c\u0000\u30e1\u0000\u30ac\u0000\u30c8\u0000\u30f3\u0000\u040c\u0000\u30e1" +
+                    "\u0000\u30fc\u0000\u30c8\u0000\u30eb\u0000\u030c\u0000\u30e4\u0000\u30fc\u0000\u30c9\u0000\u030c" +
+                    "\u0000\u30e4\u0000\u30fc\u0000\u30eb\u0000\u030c\u0000\u30e6\u0000\u30a2\u0000\u30f3\u0000\u040c" +
+                    "\u0000\u30ea\u0000\u30c3\u0000\u30c8\u0000\u30eb\u0000\u020c\u0000\u30ea\u0000\u30e9\u0000\u030c" +
+                    "\u0000\u30eb\u0000\u30d4\u0000\u30fc\u0000\u040c\u0000\u30eb\u0000\u30fc\u0000\u30d6\u0000\u30eb" +
+                    "\u0000\u020c\u0000\u30ec\u0000\u30e0\u0000\u050c\u0000\u30ec\u0000\u30f3\u0000\u30c8\u0000\u30b2" +
+                    "\u0000\u30f3\u0000\u030c\u0000\u30ef\u0000\u30c3\u0000\u30c8\u0000\u0201\u00000\u0000\u70b9" +
+                    "\u0000\u0201\u00001\u0000\u70b9\u0000\u0201\u00002\u0000\u70b9\u0000\u0201\u00003" +
+                    "\u0000\u70b9\u0000\u0201\u00004\u0000\u70b9\u0000\u0201\u00005\u0000\u70b9\u0000\u0201" +
+                    "\u00006\u0000\u70b9\u0000\u0201\u00007\u0000\u70b9\u0000\u0201\u00008\u0000\u70b9" +
+                    "\u0000\u0201\u00009\u0000\u70b9\u0000\u0301\u00001\u00000\u0000\u70b9\u0000\u0301" +
+                    "\u00001\u00001\u0000\u70b9\u0000\u0301\u00001\u00002\u0000\u70b9\u0000\u0301" +
+                    "\u00001\u00003\u0000\u70b9\u0000\u0301\u00001\u00004\u0000\u70b9\u0000\u0301" +
+                    "\u00001\u00005\u0000\u70b9\u0000\u0301\u00001\u00006\u0000\u70b9\u0000\u0301" +
+                    "\u00001\u00007\u0000\u70b9\u0000\u0301\u00001\u00008\u0000\u70b9\u0000\u0301" +
+                    "\u00001\u00009\u0000\u70b9\u0000\u0301\u00002\u00000\u0000\u70b9\u0000\u0301" +
+                    "\u00002\u00001\u0000\u70b9\u0000\u0301\u00002\u00002\u0000\u70b9\u0000\u0301" +
+                    "\u00002\u00003\u0000\u70b9\u0000\u0301\u00002\u00004\u0000\u70b9\u0000\u030c" +
+                    "\u0000h\u0000P\u0000a\u0000\u020c\u0000d\u0000a\u0000\u020c\u0000A" +
+                    "\u0000U\u0000\u030c\u0000b\u0000a\u0000r\u0000\u020c\u0000o\u0000V" +
+                    "\u0000\u020c\u0000p\u0000c\u0000\u020c\u0000d\u0000m\u0000\u030c\u0000d" +
+                    "\u0000m\u0000\u00b2\u0000\u030c\u0000d\u0000m\u0000\u00b3\u0000\u020c\u0000I" +
+                    "\u0000U\u0000\u020c\u0000\u5e73\u0000\u6210\u0000\u020c\u0000\u662d\u0000\u548c\u0000\u020c" +
+                    "\u0000\u5927\u0000\u6b63\u0000\u020c\u0000\u660e\u0000\u6cbb\u0000\u040c\u0000\u682a\u0000\u5f0f" +
+                    "\u0000\u4f1a\u0000\u793e\u0000\u020c\u0000p\u0000A\u0000\u020c\u0000n\u0000A" +
+                    "\u0000\u020c\u0000\u03bc\u0000A\u0000\u020c\u0000m\u0000A\u0000\u020c\u0000k" +
+                    "\u0000A\u0000\u020c\u0000K\u0000B\u0000\u020c\u0000M\u0000B\u0000\u020c" +
+                    "\u0000G\u0000B\u0000\u030c\u0000c\u0000a\u0000l\u0000\u040c\u0000k" +
+                    "\u0000c\u0000a\u0000l\u0000\u020c\u0000p\u0000F\u0000\u020c\u0000n" +
+                    "\u0000F\u0000\u020c\u0000\u03bc\u0000F\u0000\u020c\u0000\u03bc\u0000g\u0000\u020c" +
+                    "\u0000m\u0000g\u0000\u020c\u0000k\u0000g\u0000\u020c\u0000H\u0000z" +
+                    "\u0000\u030c\u0000k\u0000H\u0000z\u0000\u030c\u0000M\u0000H\u0000z" +
+                    "\u0000\u030c\u0000G\u0000H\u0000z\u0000\u030c\u0000T\u0000H\u0000z" +
+                    "\u0000\u020c\u0000\u03bc\u0000\u2113\u0000\u020c\u0000m\u0000\u2113\u0000\u020c\u0000d" +
+                    "\u0000\u2113\u0000\u020c\u0000k\u0000\u2113\u0000\u020c\u0000f\u0000m\u0000\u020c" +
+                    "\u0000n\u0000m\u0000\u020c\u0000\u03bc\u0000m\u0000\u020c\u0000m\u0000m" +
+                    "\u0000\u020c\u0000c\u0000m\u0000\u020c\u0000k\u0000m\u0000\u030c\u0000m" +
+                    "\u0000m\u0000\u00b2\u0000\u030c\u0000c\u0000m\u0000\u00b2\u0000\u020c\u0000m" +
+                    "\u0000\u00b2\u0000\u030c\u0000k\u0000m\u0000\u00b2\u0000\u030c\u0000m\u0000m" +
+                    "\u0000\u00b3\u0000\u030c\u0000c\u0000m\u0000\u00b3\u0000\u020c\u0000m\u0000\u00b3" +
+                    "\u0000\u030c\u0000k\u0000m\u0000\u00b3\u0000\u030c\u0000m\u0000\u2215\u0000s" +
+                    "\u0000\u040c\u0000m\u0000\u2215\u0000s\u0000\u00b2\u0000\u020c\u0000P\u0000a" +
+                    "\u0000\u030c\u0000k\u0000P\u0000a\u0000\u030c\u0000M\u0000P\u0000a" +
+                    "\u0000\u030c\u0000G\u0000P\u0000a\u0000\u030c\u0000r\u0000a\u0000d" +
+                    "\u0000\u050c\u0000r\u0000a\u0000d\u0000\u2215\u0000s\u0000\u060c\u0000r" +
+                    "\u0000a\u0000d\u0000\u2215\u0000s\u0000\u00b2\u0000\u020c\u0000p\u0000s" +
+                    "\u0000\u020c\u0000n\u0000s\u0000\u020c\u0000\u03bc\u0000s\u0000\u020c\u0000m" +
+                    "\u0000s\u0000\u020c\u0000p\u0000V\u0000\u020c\u0000n\u0000V\u0000\u020c" +
+                    "\u0000\u03bc\u0000V\u0000\u020c\u0000m\u0000V\u0000\u020c\u0000k\u0000V" +
+                    "\u0000\u020c\u0000M\u0000V\u0000\u020c\u0000p\u0000W\u0000\u020c\u0000n" +
+                    "\u0000W\u0000\u020c\u0000\u03bc\u0000W\u0000\u020c\u0000m\u0000W\u0000\u020c" +
+                    "\u0000k\u0000W\u0000\u020c\u0000M\u0000W\u0000\u020c\u0000k\u0000\u03a9" +
+                    "\u0000\u020c\u0000M\u0000\u03a9\u0000\u040c\u0000a\u0000.\u0000m\u0000." +
+                    "\u0000\u020c\u0000B\u0000q\u0000\u020c\u0000c\u0000c\u0000\u020c\u0000c" +
+                    "\u0000d\u0000\u040c\u0000C\u0000\u2215\u0000k\u0000g\u0000\u030c\u0000C" +
+                    "\u0000o\u0000.\u0000\u020c\u0000d\u0000B\u0000\u020c\u0000G\u0000y" +
+                    "\u0000\u020c\u0000h\u0000a\u0000\u020c\u0000H\u0000P\u0000\u020c\u0000i" +
+                    "\u0000n\u0000\u020c\u0000K\u0000K\u0000\u020c\u0000K\u0000M\u0000\u020c" +
+                    "\u0000k\u0000t\u0000\u020c\u0000l\u0000m\u0000\u020c\u0000l\u0000n" +
+                    "\u0000\u030c\u0000l\u0000o\u0000g\u0000\u020c\u0000l\u0000x\u0000\u020c" +
+                    "\u0000m\u0000b\u0000\u030c\u0000m\u0000i\u0000l\u0000\u030c\u0000m" +
+                    "\u0000o\u0000l\u0000\u020c\u0000P\u0000H\u0000\u040c\u0000p\u0000." +
+                    "\u0000m\u0000.\u0000\u030c\u0000P\u0000P\u0000M\u0000\u020c\u0000P" +
+                    "\u0000R\u0000\u020c\u0000s\u0000r\u0000\u020c\u0000S\u0000v\u0000\u020c" +
+                    "\u0000W\u0000b\u0000\u030c\u0000V\u0000\u2215\u0000m\u0000\u030c\u0000A" +
+                    "\u0000\u2215\u0000m\u0000\u0201\u00001\u0000\u65e5\u0000\u0201\u00002\u0000\u65e5" +
+                    "\u0000\u0201\u00003\u0000\u65e5\u0000\u0201\u00004\u0000\u65e5\u0000\u0201\u00005" +
+                    "\u0000\u65e5\u0000\u0201\u00006\u0000\u65e5\u0000\u0201\u00007\u0000\u65e5\u0000\u0201" +
+                    "\u00008\u0000\u65e5\u0000\u0201\u00009\u0000\u65e5\u0000\u0301\u00001\u00000" +
+                    "\u0000\u65e5\u0000\u0301\u00001\u00001\u0000\u65e5\u0000\u0301\u00001\u00002" +
+                    "\u0000\u65e5\u0000\u0301\u00001\u00003\u0000\u65e5\u0000\u0301\u00001\u00004" +
+                    "\u0000\u65e5\u0000\u0301\u00001\u00005\u0000\u65e5\u0000\u0301\u00001\u00006" +
+                    "\u0000\u65e5\u0000\u0301\u00001\u00007\u0000\u65e5\u0000\u0301\u00001\u00008" +
+                    "\u0000\u65e5\u0000\u0301\u00001\u00009\u0000\u65e5\u0000\u0301\u00002\u00000" +
+                    "\u0000\u65e5\u0000\u0301\u00002\u00001\u0000\u65e5\u0000\u0301\u00002\u00002" +
+                    "\u0000\u65e5\u0000\u0301\u00002\u00003\u0000\u65e5\u0000\u0301\u00002\u00004" +
+                    "\u0000\u65e5\u0000\u0301\u00002\u00005\u0000\u65e5\u0000\u0301\u00002\u00006" +
+                    "\u0000\u65e5\u0000\u0301\u00002\u00007\u0000\u65e5\u0000\u0301\u00002\u00008" +
+                    "\u0000\u65e5\u0000\u0301\u00002\u00009\u0000\u65e5\u0000\u0301\u00003\u00000" +
+                    "\u0000\u65e5\u0000\u0301\u00003\u00001\u0000\u65e5\u0000\u030c\u0000g\u0000a" +
+                    "\u0000l\u0000\u010e\u0000\u044a\u0000\u010e\u0000\u044c\u0000\u010e\u0000\ua76f\u0000\u010e" +
+                    "\u0000C\u0000\u010e\u0000F\u0000\u010e\u0000Q\u0000\u010e\u0000\u0126\u0000\u010e" +
+                    "\u0000\u0153\u0000\u010e\u0000\ua727\u0000\u010e\u0000\uab37\u0000\u010e\u0000\u026b\u0000\u010e" +
+                    "\u0000\uab52\u0000\u010e\u0000\u028d\u0000\u0100\u0000\u8c48\u0000\u0100\u0000\u66f4\u0000\u0100" +
+                    "\u0000\u8eca\u0000\u0100\u0000\u8cc8\u0000\u0100\u0000\u6ed1\u0000\u0100\u0000\u4e32\u0000\u0100" +
+                    "\u0000\u53e5\u0000\u0100\u0000\u9f9c\u0000\u0100\u0000\u9f9c\u0000\u0100\u0000\u5951\u0000\u0100" +
+                    "\u0000\u91d1\u0000\u0100\u0000\u5587\u0000\u0100\u0000\u5948\u0000\u0100\u0000\u61f6\u0000\u0100" +
+                    "\u0000\u7669\u0000\u0100\u0000\u7f85\u0000\u0100\u0000\u863f\u0000\u0100\u0000\u87ba\u0000\u0100" +
+                    "\u0000\u88f8\u0000\u0100\u0000\u908f\u0000\u0100\u0000\u6a02\u0000\u0100\u0000\u6d1b\u0000\u0100" +
+                    "\u0000\u70d9\u0000\u0100\u0000\u73de\u0000\u0100\u0000\u843d\u0000\u0100\u0000\u916a\u0000\u0100" +
+                    "\u0000\u99f1\u0000\u0100\u0000\u4e82\u0000\u0100\u0000\u5375\u0000\u0100\u0000\u6b04\u0000\u0100" +
+                    "\u0000\u721b\u0000\u0100\u0000\u862d\u0000\u0100\u0000\u9e1e\u0000\u0100\u0000\u5d50\u0000\u0100" +
+                    "\u0000\u6feb\u0000\u0100\u0000\u85cd\u0000\u0100\u0000\u8964\u0000\u0100\u0000\u62c9\u0000\u0100" +
+                    "\u0000\u81d8\u0000\u0100\u0000\u881f\u0000\u0100\u0000\u5eca\u0000\u0100\u0000\u6717\u0000\u0100" +
+                    "\u0000\u6d6a\u0000\u0100\u0000\u72fc\u0000\u0100\u0000\u90ce\u0000\u0100\u0000\u4f86\u0000\u0100" +
+                    "\u0000\u51b7\u0000\u0100\u0000\u52de\u0000\u0100\u0000\u64c4\u0000\u0100\u0000\u6ad3\u0000\u0100" +
+                    "\u0000\u7210\u0000\u0100\u0000\u76e7\u0000\u0100\u0000\u8001\u0000\u0100\u0000\u8606\u0000\u0100" +
+                    "\u0000\u865c\u0000\u0100\u0000\u8def\u0000\u0100\u0000\u9732\u0000\u0100\u0000\u9b6f\u0000\u0100" +
+                    "\u0000\u9dfa\u0000\u0100\u0000\u788c\u0000\u0100\u0000\u797f\u0000\u0100\u0000\u7da0\u0000\u0100" +
+                    "\u0000\u83c9\u0000\u0100\u0000\u9304\u0000\u0100\u0000\u9e7f\u0000\u0100\u0000\u8ad6\u0000\u0100" +
+                    "\u0000\u58df\u0000\u0100\u0000\u5f04\u0000\u0100\u0000\u7c60\u0000\u0100\u0000\u807e\u0000\u0100" +
+                    "\u0000\u7262\u0000\u0100\u0000\u78ca\u0000\u0100\u0000\u8cc2\u0000\u0100\u0000\u96f7\u0000\u0100" +
+                    "\u0000\u58d8\u0000\u0100\u0000\u5c62\u0000\u0100\u0000\u6a13\u0000\u0100\u0000\u6dda\u0000\u0100" +
+                    "\u0000\u6f0f\u0000\u0100\u0000\u7d2f\u0000\u0100\u0000\u7e37\u0000\u0100\u0000\u964b\u0000\u0100" +
+                    "\u0000\u52d2\u0000\u0100\u0000\u808b\u0000\u0100\u0000\u51dc\u0000\u0100\u0000\u51cc\u0000\u0100" +
+                    "\u0000\u7a1c\u0000\u0100\u0000\u7dbe\u0000\u0100\u0000\u83f1\u0000\u0100\u0000\u9675\u0000\u0100" +
+                    "\u0000\u8b80\u0000\u0100\u0000\u62cf\u0000\u0100\u0000\u6a02\u0000\u0100\u0000\u8afe\u0000\u0100" +
+                    "\u0000\u4e39\u0000\u0100\u0000\u5be7\u0000\u0100\u0000\u6012\u0000\u0100\u0000\u7387\u0000\u0100" +
+                    "\u0000\u7570\u0000\u0100\u0000\u5317\u0000\u0100\u0000\u78fb\u0000\u0100\u0000\u4fbf\u0000\u0100" +
+                    "\u0000\u5fa9\u0000\u0100\u0000\u4e0d\u0000\u0100\u0000\u6ccc\u0000\u0100\u0000\u6578\u0000\u0100" +
+                    "\u0000\u7d22\u0000\u0100\u0000\u53c3\u0000\u0100\u0000\u585e\u0000\u0100\u0000\u7701\u0000\u0100" +
+                    "\u0000\u8449\u0000\u0100\u0000\u8aaa\u0000\u0100\u0000\u6bba\u0000\u0100\u0000\u8fb0\u0000\u0100" +
+                    "\u0000\u6c88\u0000\u0100\u0000\u62fe\u0000\u0100\u0000\u82e5\u0000\u0100\u0000\u63a0\u0000\u0100" +
+                    "\u0000\u7565\u0000\u0100\u0000\u4eae\u0000\u0100\u0000\u5169\u0000\u0100\u0000\u51c9\u0000\u0100" +
+                    "\u0000\u6881\u0000\u0100\u0000\u7ce7\u0000\u0100\u0000\u826f\u0000\u0100\u0000\u8ad2\u0000\u0100" +
+                    "\u0000\u91cf\u0000\u0100\u0000\u52f5\u0000\u0100\u0000\u5442\u0000\u0100\u0000\u5973\u0000\u0100" +
+                    "\u0000\u5eec\u0000\u0100\u0000\u65c5\u0000\u0100\u0000\u6ffe\u0000\u0100\u0000\u792a\u0000\u0100" +
+                    "\u0000\u95ad\u0000\u0100\u0000\u9a6a\u0000\u0100\u0000\u9e97\u0000\u0100\u0000\u9ece\u0000\u0100" +
+                    "\u0000\u529b\u0000\u0100\u0000\u66c6\u0000\u0100\u0000\u6b77\u0000\u0100\u0000\u8f62\u0000\u0100" +
+                    "\u0000\u5e74\u0000\u0100\u0000\u6190\u0000\u0100\u0000\u6200\u0000\u0100\u0000\u649a\u0000\u0100" +
+                    "\u0000\u6f23\u0000\u0100\u0000\u7149\u0000\u0100\u0000\u7489\u0000\u0100\u0000\u79ca\u0000\u0100" +
+                    "\u0000\u7df4\u0000\u0100\u0000\u806f\u0000\u0100\u0000\u8f26\u0000\u0100\u0000\u84ee\u0000\u0100" +
+                    "\u0000\u9023\u0000\u0100\u0000\u934a\u0000\u0100\u0000\u5217\u0000\u0100\u0000\u52a3\u0000\u0100" +
+                    "\u0000\u54bd\u0000\u0100\u0000\u70c8\u0000\u0100\u0000\u88c2\u0000\u0100\u0000\u8aaa\u0000\u0100" +
+                    "\u0000\u5ec9\u0000\u0100\u0000\u5ff5\u0000\u0100\u0000\u637b\u0000\u0100\u0000\u6bae\u0000\u0100" +
+                    "\u0000\u7c3e\u0000\u0100\u0000\u7375\u0000\u0100\u0000\u4ee4\u0000\u0100\u0000\u56f9\u0000\u0100" +
+                    "\u0000\u5be7\u0000\u0100\u0000\u5dba\u0000\u0100\u0000\u601c\u0000\u0100\u0000\u73b2\u0000\u0100" +
+                    "\u0000\u7469\u0000\u0100\u0000\u7f9a\u0000\u0100\u0000\u8046\u0000\u0100\u0000\u9234\u0000\u0100" +
+                    "\u0000\u96f6\u0000\u0100\u0000\u9748\u0000\u0100\u0000\u9818\u0000\u0100\u0000\u4f8b\u0000\u0100" +
+                    "\u0000\u79ae\u0000\u0100\u0000\u91b4\u0000\u0100\u0000\u96b8\u0000\u0100\u0000\u60e1\u0000\u0100" +
+                    "\u0000\u4e86\u0000\u0100\u0000\u50da\u0000\u0100\u0000\u5bee\u0000\u0100\u0000\u5c3f\u0000\u0100" +
+                    "\u0000\u6599\u0000\u0100\u0000\u6a02\u0000\u0100\u0000\u71ce\u0000\u0100\u0000\u7642\u0000\u0100" +
+                    "\u0000\u84fc\u0000\u0100\u0000\u907c\u0000\u0100\u0000\u9f8d\u0000\u0100\u0000\u6688\u0000\u0100" +
+                    "\u0000\u962e\u0000\u0100\u0000\u5289\u0000\u0100\u0000\u677b\u0000\u0100\u0000\u67f3\u0000\u0100" +
+                    "\u0000\u6d41\u0000\u0100\u0000\u6e9c\u0000\u0100\u0000\u7409\u0000\u0100\u0000\u7559\u0000\u0100" +
+                    "\u0000\u786b\u0000\u0100\u0000\u7d10\u0000\u0100\u0000\u985e\u0000\u0100\u0000\u516d\u0000\u0100" +
+                    "\u0000\u622e\u0000\u0100\u0000\u9678\u0000\u0100\u0000\u502b\u0000\u0100\u0000\u5d19\u0000\u0100" +
+                    "\u0000\u6dea\u0000\u0100\u0000\u8f2a\u0000\u0100\u0000\u5f8b\u0000\u0100\u0000\u6144\u0000\u0100" +
+                    "\u0000\u6817\u0000\u0100\u0000\u7387\u0000\u0100\u0000\u9686\u0000\u0100\u0000\u5229\u0000\u0100" +
+                    "\u0000\u540f\u0000\u0100\u0000\u5c65\u0000\u0100\u0000\u6613\u0000\u0100\u0000\u674e\u0000\u0100" +
+                    "\u0000\u68a8\u0000\u0100\u0000\u6ce5\u0000\u0100\u0000\u7406\u0000\u0100\u0000\u75e2\u0000\u0100" +
+                    "\u0000\u7f79\u0000\u0100\u0000\u88cf\u0000\u0100\u0000\u88e1\u0000\u0100\u0000\u91cc\u0000\u0100" +
+                    "\u0000\u96e2\u0000\u0100\u0000\u533f\u0000\u0100\u0000\u6eba\u0000\u0100\u0000\u541d\u0000\u0100" +
+                    "\u0000\u71d0\u0000\u0100\u0000\u7498\u0000\u0100\u0000\u85fa\u0000\u0100\u0000\u96a3\u0000\u0100" +
+                    "\u0000\u9c57\u0000\u0100\u0000\u9e9f\u0000\u0100\u0000\u6797\u0000\u0100\u0000\u6dcb\u0000\u0100" +
+                    "\u0000\u81e8\u0000\u0100\u0000\u7acb\u0000\u0100\u0000\u7b20\u0000\u0100\u0000\u7c92\u0000\u0100" +
+                    "\u0000\u72c0\u0000\u0100\u0000\u7099\u0000\u0100\u0000\u8b58\u0000\u0100\u0000\u4ec0\u0000\u0100" +
+                    "\u0000\u8336\u0000\u0100\u0000\u523a\u0000\u0100\u0000\u5207\u0000\u0100\u0000\u5ea6\u0000\u0100" +
+                    "\u0000\u62d3\u0000\u0100\u0000\u7cd6\u0000\u0100\u0000\u5b85\u0000\u0100\u0000\u6d1e\u0000\u0100" +
+                    "\u0000\u66b4\u0000\u0100\u0000\u8f3b\u0000\u0100\u0000\u884c\u0000\u0100\u0000\u964d\u0000\u0100" +
+                    "\u0000\u898b\u0000\u0100\u0000\u5ed3\u0000\u0100\u0000\u5140\u0000\u0100\u0000\u55c0\u0000\u0100" +
+                    "\u0000\u585a\u0000\u0100\u0000\u6674\u0000\u0100\u0000\u51de\u0000\u0100\u0000\u732a\u0000\u0100" +
+                    "\u0000\u76ca\u0000\u0100\u0000\u793c\u0000\u0100\u0000\u795e\u0000\u0100\u0000\u7965\u0000\u0100" +
+                    "\u0000\u798f\u0000\u0100\u0000\u9756\u0000\u0100\u0000\u7cbe\u0000\u0100\u0000\u7fbd\u0000\u0100" +
+                    "\u0000\u8612\u0000\u0100\u0000\u8af8\u0000\u0100\u0000\u9038\u0000\u0100\u0000\u90fd\u0000\u0100" +
+                    "\u0000\u98ef\u0000\u0100\u0000\u98fc\u0000\u0100\u0000\u9928\u0000\u0100\u0000\u9db4\u0000\u0100" +
+                    "\u0000\u90de\u0000\u0100\u0000\u96b7\u0000\u0100\u0000\u4fae\u0000\u0100\u0000\u50e7\u0000\u0100" +
+                    "\u0000\u514d\u0000\u0100\u0000\u52c9\u0000\u0100\u0000\u52e4\u0000\u0100\u0000\u5351\u0000\u0100" +
+                    "\u0000\u559d\u0000\u0100\u0000\u5606\u0000\u0100\u0000\u5668\u0000\u0100\u0000\u5840\u0000\u0100" +
+                    "\u0000\u58a8\u0000\u0100\u0000\u5c64\u0000\u0100\u0000\u5c6e\u0000\u0100\u0000\u6094\u0000\u0100" +
+                    "\u0000\u6168\u0000\u0100\u0000\u618e\u0000\u0100\u0000\u61f2\u0000\u0100\u0000\u654f\u0000\u0100" +
+                    "\u0000\u65e2\u0000\u0100\u0000\u6691\u0000\u0100\u0000\u6885\u0000\u0100\u0000\u6d77\u0000\u0100" +
+                    "\u0000\u6e1a\u0000\u0100\u0000\u6f22\u0000\u0100\u0000\u716e\u0000\u0100\u0000\u722b\u0000\u0100" +
+                    "\u0000\u7422\u0000\u0100\u0000\u7891\u0000\u0100\u0000\u793e\u0000\u0100\u0000\u7949\u0000\u0100" +
+                    "\u0000\u7948\u0000\u0100\u0000\u7950\u0000\u0100\u0000\u7956\u0000\u0100\u0000\u795d\u0000\u0100" +
+                    "\u0000\u798d\u0000\u0100\u0000\u798e\u0000\u0100\u0000\u7a40\u0000\u0100\u0000\u7a81\u0000\u0100" +
+                    "\u0000\u7bc0\u0000\u0100\u0000\u7df4\u0000\u0100\u0000\u7e09\u0000\u0100\u0000\u7e41\u0000\u0100" +
+                    "\u0000\u7f72\u0000\u0100\u0000\u8005\u0000\u0100\u0000\u81ed\u0000\u0100\u0000\u8279\u0000\u0100" +
+                    "\u0000\u8279\u0000\u0100\u0000\u8457\u0000\u0100\u0000\u8910\u0000\u0100\u0000\u8996\u0000\u0100" +
+                    "\u0000\u8b01\u0000\u0100\u0000\u8b39\u0000\u0100\u0000\u8cd3\u0000\u0100\u0000\u8d08\u0000\u0100" +
+                    "\u0000\u8fb6\u0000\u0100\u0000\u9038\u0000\u0100\u0000\u96e3\u0000\u0100\u0000\u97ff\u0000\u0100" +
+                    "\u0000\u983b\u0000\u0100\u0000\u6075\u0000\u0100\u0002\u42ee\u0000\u0100\u0000\u8218\u0000\u0100" +
+                    "\u0000\u4e26\u0000\u0100\u0000\u51b5\u0000\u0100\u0000\u5168\u0000\u0100\u0000\u4f80\u0000\u0100" +
+                    "\u0000\u5145\u0000\u0100\u0000\u5180\u0000\u0100\u0000\u52c7\u0000\u0100\u0000\u52fa\u0000\u0100" +
+                    "\u0000\u559d\u0000\u0100\u0000\u5555\u0000\u0100\u0000\u5599\u0000\u0100\u0000\u55e2\u0000\u0100" +
+                    "\u0000\u585a\u0000\u0100\u0000\u58b3\u0000\u0100\u0000\u5944\u0000\u0100\u0000\u5954\u0000\u0100" +
+                    "\u0000\u5a62\u0000\u0100\u0000\u5b28\u0000\u0100\u0000\u5ed2\u0000\u0100\u0000\u5ed9\u0000\u0100" +
+                    "\u0000\u5f69\u0000\u0100\u0000\u5fad\u0000\u0100\u0000\u60d8\u0000\u0100\u0000\u614e\u0000\u0100" +
+                    "\u0000\u6108\u0000\u0100\u0000\u618e\u0000\u0100\u0000\u6160\u0000\u0100\u0000\u61f2\u0000\u0100" +
+                    "\u0000\u6234\u0000\u0100\u0000\u63c4\u0000\u0100\u0000\u641c\u0000\u0100\u0000\u6452\u0000\u0100" +
+                    "\u0000\u6556\u0000\u0100\u0000\u6674\u0000\u0100\u0000\u6717\u0000\u0100\u0000\u671b\u0000\u0100" +
+                    "\u0000\u6756\u0000\u0100\u0000\u6b79\u0000\u0100\u0000\u6bba\u0000\u0100\u0000\u6d41\u0000\u0100" +
+                    "\u0000\u6edb\u0000\u0100\u0000\u6ecb\u0000\u0100\u0000\u6f22\u0000\u0100\u0000\u701e\u0000\u0100" +
+                    "\u0000\u716e\u0000\u0100\u0000\u77a7\u0000\u0100\u0000\u7235\u0000\u0100\u0000\u72af\u0000\u0100" +
+                    "\u0000\u732a\u0000\u0100\u0000\u7471\u0000\u0100\u0000\u7506\u0000\u0100\u0000\u753b\u0000\u0100" +
+                    "\u0000\u761d\u0000\u0100\u0000\u761f\u0000\u0100\u0000\u76ca\u0000\u0100\u0000\u76db\u0000\u0100" +
+                    "\u0000\u76f4\u0000\u0100\u0000\u774a\u0000\u0100\u0000\u7740\u0000\u0100\u0000\u78cc\u0000\u0100" +
+                    "\u0000\u7ab1\u0000\u0100\u0000\u7bc0\u0000\u0100\u0000\u7c7b\u0000\u0100\u0000\u7d5b\u0000\u0100" +
+                    "\u0000\u7df4\u0000\u0100\u0000\u7f3e\u0000\u0100\u0000\u8005\u0000\u0100\u0000\u8352\u0000\u0100" +
+                    "\u0000\u83ef\u0000\u0100\u0000\u8779\u0000\u0100\u0000\u8941\u0000\u0100\u0000\u8986\u0000\u0100" +
+                    "\u0000\u8996\u0000\u0100\u0000\u8abf\u0000\u0100\u0000\u8af8\u0000\u0100\u0000\u8acb\u0000\u0100" +
+                    "\u0000\u8b01\u0000\u0100\u0000\u8afe\u0000\u0100\u0000\u8aed\u0000\u0100\u0000\u8b39\u0000\u0100" +
+                    "\u0000\u8b8a\u0000\u0100\u0000\u8d08\u0000\u0100\u0000\u8f38\u0000\u0100\u0000\u9072\u0000\u0100" +
+                    "\u0000\u9199\u0000\u0100\u0000\u9276\u0000\u0100\u0000\u967c\u0000\u0100\u0000\u96e3\u0000\u0100" +
+                    "\u0000\u9756\u0000\u0100\u0000\u97db\u0000\u0100\u0000\u97ff\u0000\u0100\u0000\u980b\u0000\u0100" +
+                    "\u0000\u983b\u0000\u0100\u0000\u9b12\u0000\u0100\u0000\u9f9c\u0000\u0100\u0002\u284a\u0000\u0100" +
+                    "\u0002\u2844\u0000\u0100\u0002\u33d5\u0000\u0100\u0000\u3b9d\u0000\u0100\u0000\u4018\u0000\u0100" +
+                    "\u0000\u4039\u0000\u0100\u0002\u5249\u0000\u0100\u0002\u5cd0\u0000\u0100\u0002\u7ed3\u0000\u0100" +
+                    "\u0000\u9f43\u0000\u0100\u0000\u9f8e\u0000\u0201\u0000f\u0000f\u0000\u0201\u0000f" +
+                    "\u0000i\u0000\u0201\u0000f\u0000l\u0000\u0301\u0000f\u0000f\u0000i" +
+                    "\u0000\u0301\u0000f\u0000f\u0000l\u0000\u0201\u0000\u017f\u0000t\u0000\u0201" +
+                    "\u0000s\u0000t\u0000\u0201\u0000\u0574\u0000\u0576\u0000\u0201\u0000\u0574\u0000\u0565" +
+                    "\u0000\u0201\u0000\u0574\u0000\u056b\u0000\u0201\u0000\u057e\u0000\u0576\u0000\u0201\u0000\u0574" +
+                    "\u0000\u056d\u0000\u0200\u0000\u05d9\u0000\u05b4\u0000\u0200\u0000\u05f2\u0000\u05b7\u0000\u0104" +
+                    "\u0000\u05e2\u0000\u0104\u0000\u05d0\u0000\u0104\u0000\u05d3\u0000\u0104\u0000\u05d4\u0000\u0104" +
+                    "\u0000\u05db\u0000\u0104\u0000\u05dc\u0000\u0104\u0000\u05dd\u0000\u0104\u0000\u05e8\u0000\u0104" +
+                    "\u0000\u05ea\u0000\u0104\u0000+\u0000\u0200\u0000\u05e9\u0000\u05c1\u0000\u0200\u0000\u05e9" +
+                    "\u0000\u05c2\u0000\u0200\u0000\ufb49\u0000\u05c1\u0000\u0200\u0000\ufb49\u0000\u05c2\u0000\u0200" +
+                    "\u0000\u05d0\u0000\u05b7\u0000\u0200\u0000\u05d0\u0000\u05b8\u0000\u0200\u0000\u05d0\u0000\u05bc" +
+                    "\u0000\u0200\u0000\u05d1\u0000\u05bc\u0000\u0200\u0000\u05d2\u0000\u05bc\u0000\u0200\u0000\u05d3" +
+                    "\u0000\u05bc\u0000\u0200\u0000\u05d4\u0000\u05bc\u0000\u0200\u0000\u05d5\u0000\u05bc\u0000\u0200" +
+                    "\u0000\u05d6\u0000\u05bc\u0000\u0200\u0000\u05d8\u0000\u05bc\u0000\u0200\u0000\u05d9\u0000\u05bc" +
+                    "\u0000\u0200\u0000\u05da\u0000\u05bc\u0000\u0200\u0000\u05db\u0000\u05bc\u0000\u0200\u0000\u05dc" +
+                    "\u0000\u05bc\u0000\u0200\u0000\u05de\u0000\u05bc\u0000\u0200\u0000\u05e0\u0000\u05bc\u0000\u0200" +
+                    "\u0000\u05e1\u0000\u05bc\u0000\u0200\u0000\u05e3\u0000\u05bc\u0000\u0200\u0000\u05e4\u0000\u05bc" +
+                    "\u0000\u0200\u0000\u05e6\u0000\u05bc\u0000\u0200\u0000\u05e7\u0000\u05bc\u0000\u0200\u0000\u05e8" +
+                    "\u0000\u05bc\u0000\u0200\u0000\u05e9\u0000\u05bc\u0000\u0200\u0000\u05ea\u0000\u05bc\u0000\u0200" +
+                    "\u0000\u05d5\u0000\u05b9\u0000\u0200\u0000\u05d1\u0000\u05bf\u0000\u0200\u0000\u05db\u0000\u05bf" +
+                    "\u0000\u0200\u0000\u05e4\u0000\u05bf\u0000\u0201\u0000\u05d0\u0000\u05dc\u0000\u0107\u0000\u0671" +
+                    "\u0000\u0103\u0000\u0671\u0000\u0107\u0000\u067b\u0000\u0103\u0000\u067b\u0000\u0106\u0000\u067b" +
+                    "\u0000\u0108\u0000\u067b\u0000\u0107\u0000\u067e\u0000\u0103\u0000\u067e\u0000\u0106\u0000\u067e" +
+                    "\u0000\u0108\u0000\u067e\u0000\u0107\u0000\u0680\u0000\u0103\u0000\u0680\u0000\u0106\u0000\u0680" +
+                    "\u0000\u0108\u0000\u0680\u0000\u0107\u0000\u067a\u0000\u0103\u0000\u067a\u0000\u0106\u0000\u067a" +
+                    "\u0000\u0108\u0000\u067a\u0000\u0107\u0000\u067f\u0000\u0103\u0000\u067f\u0000\u0106\u0000\u067f" +
+                    "\u0000\u0108\u0000\u067f\u0000\u0107\u0000\u0679\u0000\u0103\u0000\u0679\u0000\u0106\u0000\u0679" +
+                    "\u0000\u0108\u0000\u0679\u0000\u0107\u0000\u06a4\u0000\u0103\u0000\u06a4\u0000\u0106\u0000\u06a4" +
+                    "\u0000\u0108\u0000\u06a4\u0000\u0107\u0000\u06a6\u0000\u0103\u0000\u06a6\u0000\u0106\u0000\u06a6" +
+                    "\u0000\u0108\u0000\u06a6\u0000\u0107\u0000\u0684\u0000\u0103\u0000\u0684\u0000\u0106\u0000\u0684" +
+                    "\u0000\u0108\u0000\u0684\u0000\u0107\u0000\u0683\u0000\u0103\u0000\u0683\u0000\u0106\u0000\u0683" +
+                    "\u0000\u0108\u0000\u0683\u0000\u0107\u0000\u0686\u0000\u0103\u0000\u0686\u0000\u0106\u0000\u0686" +
+                    "\u0000\u0108\u0000\u0686\u0000\u0107\u0000\u0687\u0000\u0103\u0000\u0687\u0000\u0106\u0000\u0687" +
+                    "\u0000\u0108\u0000\u0687\u0000\u0107\u0000\u068d\u0000\u0103\u0000\u068d\u0000\u0107\u0000\u068c" +
+                    "\u0000\u0103\u0000\u068c\u0000\u0107\u0000\u068e\u0000\u0103\u0000\u068e\u0000\u0107\u0000\u0688" +
+                    "\u0000\u0103\u0000\u0688\u0000\u0107\u0000\u0698\u0000\u0103\u0000\u0698\u0000\u0107\u0000\u0691" +
+                    "\u0000\u0103\u0000\u0691\u0000\u0107\u0000\u06a9\u0000\u0103\u0000\u06a9\u0000\u0106\u0000\u06a9" +
+                    "\u0000\u0108\u0000\u06a9\u0000\u0107\u0000\u06af\u0000\u0103\u0000\u06af\u0000\u0106\u0000\u06af" +
+                    "\u0000\u0108\u0000\u06af\u0000\u0107\u0000\u06b3\u0000\u0103\u0000\u06b3\u0000\u0106\u0000\u06b3" +
+                    "\u0000\u0108\u0000\u06b3\u0000\u0107\u0000\u06b1\u0000\u0103\u0000\u06b1\u0000\u0106\u0000\u06b1" +
+                    "\u0000\u0108\u0000\u06b1\u0000\u0107\u0000\u06ba\u0000\u0103\u0000\u06ba\u0000\u0107\u0000\u06bb" +
+                    "\u0000\u0103\u0000\u06bb\u0000\u0106\u0000\u06bb\u0000\u0108\u0000\u06bb\u0000\u0107\u0000\u06c0" +
+                    "\u0000\u0103\u0000\u06c0\u0000\u0107\u0000\u06c1\u0000\u0103\u0000\u06c1\u0000\u0106\u0000\u06c1" +
+                    "\u0000\u0108\u0000\u06c1\u0000\u0107\u0000\u06be\u0000\u0103\u0000\u06be\u0000\u0106\u0000\u06be" +
+                    "\u0000\u0108\u0000\u06be\u0000\u0107\u0000\u06d2\u0000\u0103\u0000\u06d2\u0000\u0107\u0000\u06d3" +
+                    "\u0000\u0103\u0000\u06d3\u0000\u0107\u0000\u06ad\u0000\u0103\u0000\u06ad\u0000\u0106\u0000\u06ad" +
+                    "\u0000\u0108\u0000\u06ad\u0000\u0107\u0000\u06c7\u0000\u0103\u0000\u06c7\u0000\u0107\u0000\u06c6" +
+                    "\u0000\u0103\u0000\u06c6\u0000\u0107\u0000\u06c8\u0000\u0103\u0000\u06c8\u0000\u0107\u0000\u0677" +
+                    "\u0000\u0107\u0000\u06cb\u0000\u0103\u0000\u06cb\u0000\u0107\u0000\u06c5\u0000\u0103\u0000\u06c5" +
+                    "\u0000\u0107\u0000\u06c9\u0000\u0103\u0000\u06c9\u0000\u0107\u0000\u06d0\u0000\u0103\u0000\u06d0" +
+                    "\u0000\u0106\u0000\u06d0\u0000\u0108\u0000\u06d0\u0000\u0106\u0000\u0649\u0000\u0108\u0000\u0649" +
+                    "\u0000\u0207\u0000\u0626\u0000\u0627\u0000\u0203\u0000\u0626\u0000\u0627\u0000\u0207\u0000\u0626" +
+                    "\u0000\u06d5\u0000\u0203\u0000\u0626\u0000\u06d5\u0000\u0207\u0000\u0626\u0000\u0648\u0000\u0203" +
+                    "\u0000\u0626\u0000\u0648\u0000\u0207\u0000\u0626\u0000\u06c7\u0000\u0203\u0000\u0626\u0000\u06c7" +
+                    "\u0000\u0207\u0000\u0626\u0000\u06c6\u0000\u0203\u0000\u0626\u0000\u06c6\u0000\u0207\u0000\u0626" +
+                    "\u0000\u06c8\u0000\u0203\u0000\u0626\u0000\u06c8\u0000\u0207\u0000\u0626\u0000\u06d0\u0000\u0203" +
+                    "\u0000\u0626\u0000\u06d0\u0000\u0206\u0000\u0626\u0000\u06d0\u0000\u0207\u0000\u0626\u0000\u0649" +
+                    "\u0000\u0203\u0000\u0626\u0000\u0649\u0000\u0206\u0000\u0626\u0000\u0649\u0000\u0107\u0000\u06cc" +
+                    "\u0000\u0103\u0000\u06cc\u0000\u0106\u0000\u06cc\u0000\u0108\u0000\u06cc\u0000\u0207\u0000\u0626" +
+                    "\u0000\u062c\u0000\u0207\u0000\u0626\u0000\u062d\u0000\u0207\u0000\u0626\u0000\u0645\u0000\u0207" +
+                    "\u0000\u0626\u0000\u0649\u0000\u0207\u0000\u0626\u0000\u064a\u0000\u0207\u0000\u0628\u0000\u062c" +
+                    "\u0000\u0207\u0000\u0628\u0000\u062d\u0000\u0207\u0000\u0628\u0000\u062e\u0000\u0207\u0000\u0628" +
+                    "\u0000\u0645\u0000\u0207\u0000\u0628\u0000\u0649\u0000\u0207\u0000\u0628\u0000\u064a\u0000\u0207" +
+                    "\u0000\u062a\u0000\u062c\u0000\u0207\u0000\u062a\u0000\u062d\u0000\u0207\u0000\u062a\u0000\u062e" +
+                    "\u0000\u0207\u0000\u062a\u0000\u0645\u0000\u0207\u0000\u062a\u0000\u0649\u0000\u0207\u0000\u062a" +
+                    "\u0000\u064a\u0000\u0207\u0000\u062b\u0000\u062c\u0000\u0207\u0000\u062b\u0000\u0645\u0000\u0207" +
+                    "\u0000\u062b\u0000\u0649\u0000\u0207\u0000\u062b\u0000\u064a\u0000\u0207\u0000\u062c\u0000\u062d" +
+                    "\u0000\u0207\u0000\u062c\u0000\u0645\u0000\u0207\u0000\u062d\u0000\u062c\u0000\u0207\u0000\u062d" +
+                    "\u0000\u0645\u0000\u0207\u0000\u062e\u0000\u062c\u0000\u0207\u0000\u062e\u0000\u062d\u0000\u0207" +
+                    "\u0000\u062e\u0000\u0645\u0000\u0207\u0000\u0633\u0000\u062c\u0000\u0207\u0000\u0633\u0000\u062d" +
+                    "\u0000\u0207\u0000\u0633\u0000\u062e\u0000\u0207\u0000\u0633\u0000\u0645\u0000\u0207\u0000\u0635" +
+                    "\u0000\u062d\u0000\u0207\u0000\u0635\u0000\u0645\u0000\u0207\u0000\u0636\u0000\u062c\u0000\u0207" +
+                    "\u0000\u0636\u0000\u062d\u0000\u0207\u0000\u0636\u0000\u062e\u0000\u0207\u0000\u0636\u0000\u0645" +
+                    "\u0000\u0207\u0000\u0637\u0000\u062d\u0000\u0207\u0000\u0637\u0000\u0645\u0000\u0207\u0000\u0638" +
+                    "\u0000\u0645\u0000\u0207\u0000\u0639\u0000\u062c\u0000\u0207\u0000\u0639\u0000\u0645\u0000\u0207" +
+                    "\u0000\u063a\u0000\u062c\u0000\u0207\u0000\u063a\u0000\u0645\u0000\u0207\u0000\u0641\u0000\u062c" +
+                    "\u0000\u0207\u0000\u0641\u0000\u062d\u0000\u0207\u0000\u0641\u0000\u062e\u0000\u0207\u0000\u0641" +
+                    "\u0000\u0645\u0000\u0207\u0000\u0641\u0000\u0649\u0000\u0207\u0000\u0641\u0000\u064a\u0000\u0207" +
+                    "\u0000\u0642\u0000\u062d\u0000\u0207\u0000\u0642\u0000\u0645\u0000\u0207\u0000\u0642\u0000\u0649" +
+                    "\u0000\u0207\u0000\u0642\u0000\u064a\u0000\u0207\u0000\u0643\u0000\u0627\u0000\u0207\u0000\u0643" +
+                    "\u0000\u062c\u0000\u0207\u0000\u0643\u0000\u062d\u0000\u0207\u0000\u0643\u0000\u062e\u0000\u0207" +
+                    "\u0000\u0643\u0000\u0644\u0000\u0207\u0000\u0643\u0000\u0645\u0000\u0207\u0000\u0643\u0000\u0649" +
+                    "\u0000\u0207\u0000\u0643\u0000\u064a\u0000\u0207\u0000\u0644\u0000\u062c\u0000\u0207\u0000\u0644" +
+                    "\u0000\u062d\u0000\u0207\u0000\u0644\u0000\u062e\u0000\u0207\u0000\u0644\u0000\u0645\u0000\u0207" +
+                    "\u0000\u0644\u0000\u0649\u0000\u0207\u0000\u0644\u0000\u064a\u0000\u0207\u0000\u0645\u0000\u062c" +
+                    "\u0000\u0207\u0000\u0645\u0000\u062d\u0000\u0207\u0000\u0645\u0000\u062e\u0000\u0207\u0000\u0645" +
+                    "\u0000\u0645\u0000\u0207\u0000\u0645\u0000\u0649\u0000\u0207\u0000\u0645\u0000\u064a\u0000\u0207" +
+                    "\u0000\u0646\u0000\u062c\u0000\u0207\u0000\u0646\u0000\u062d\u0000\u0207\u0000\u0646\u0000\u062e" +
+                    "\u0000\u0207\u0000\u0646\u0000\u0645\u0000\u0207\u0000\u0646\u0000\u0649\u0000\u0207\u0000\u0646" +
+                    "\u0000\u064a\u0000\u0207\u0000\u0647\u0000\u062c\u0000\u0207\u0000\u0647\u0000\u0645\u0000\u0207" +
+                    "\u0000\u0647\u0000\u0649\u0000\u0207\u0000\u0647\u0000\u064a\u0000\u0207\u0000\u064a\u0000\u062c" +
+                    "\u0000\u0207\u0000\u064a\u0000\u062d\u0000\u0207\u0000\u064a\u0000\u062e\u0000\u0207\u0000\u064a" +
+                    "\u0000\u0645\u0000\u0207\u0000\u064a\u0000\u0649\u0000\u0207\u0000\u064a\u0000\u064a\u0000\u0207" +
+                    "\u0000\u0630\u0000\u0670\u0000\u0207\u0000\u0631\u0000\u0670\u0000\u0207\u0000\u0649\u0000\u0670" +
+                    "\u0000\u0307\u0000 \u0000\u064c\u0000\u0651\u0000\u0307\u0000 \u0000\u064d\u0000\u0651" +
+                    "\u0000\u0307\u0000 \u0000\u064e\u0000\u0651\u0000\u0307\u0000 \u0000\u064f\u0000\u0651" +
+                    "\u0000\u0307\u0000 \u0000\u0650\u0000\u0651\u0000\u0307\u0000 \u0000\u0651\u0000\u0670" +
+                    "\u0000\u0203\u0000\u0626\u0000\u0631\u0000\u0203\u0000\u0626\u0000\u0632\u0000\u0203\u0000\u0626" +
+                    "\u0000\u0645\u0000\u0203\u0000\u0626\u0000\u0646\u0000\u0203\u0000\u0626\u0000\u0649\u0000\u0203" +
+                    "\u0000\u0626\u0000\u064a\u0000\u0203\u0000\u0628\u0000\u0631\u0000\u0203\u0000\u0628\u0000\u0632" +
+                    "\u0000\u0203\u0000\u0628\u0000\u0645\u0000\u0203\u0000\u0628\u0000\u0646\u0000\u0203\u0000\u0628" +
+                    "\u0000\u0649\u0000\u0203\u0000\u0628\u0000\u064a\u0000\u0203\u0000\u062a\u0000\u0631\u0000\u0203" +
+                    "\u0000\u062a\u0000\u0632\u0000\u0203\u0000\u062a\u0000\u0645\u0000\u0203\u0000\u062a\u0000\u0646" +
+                    "\u0000\u0203\u0000\u062a\u0000\u0649\u0000\u0203\u0000\u062a\u0000\u064a\u0000\u0203\u0000\u062b" +
+                    "\u0000\u0631\u0000\u0203\u0000\u062b\u0000\u0632\u0000\u0203\u0000\u062b\u0000\u0645\u0000\u0203" +
+                    "\u0000\u062b\u0000\u0646\u0000\u0203\u0000\u062b\u0000\u0649\u0000\u0203\u0000\u062b\u0000\u064a" +
+                    "\u0000\u0203\u0000\u0641\u0000\u0649\u0000\u0203\u0000\u0641\u0000\u064a\u0000\u0203\u0000\u0642" +
+                    "\u0000\u0649\u0000\u0203\u0000\u0642\u0000\u064a\u0000\u0203\u0000\u0643\u0000\u0627\u0000\u0203" +
+                    "\u0000\u0643\u0000\u0644\u0000\u0203\u0000\u0643\u0000\u0645\u0000\u0203\u0000\u0643\u0000\u0649" +
+                    "\u0000\u0203\u0000\u0643\u0000\u064a\u0000\u0203\u0000\u0644\u0000\u0645\u0000\u0203\u0000\u0644" +
+                    "\u0000\u0649\u0000\u0203\u0000\u0644\u0000\u064a\u0000\u0203\u0000\u0645\u0000\u0627\u0000\u0203" +
+                    "\u0000\u0645\u0000\u0645\u0000\u0203\u0000\u0646\u0000\u0631\u0000\u0203\u0000\u0646\u0000\u0632" +
+                    "\u0000\u0203\u0000\u0646\u0000\u0645\u0000\u0203\u0000\u0646\u0000\u0646\u0000\u0203\u0000\u0646" +
+                    "\u0000\u0649\u0000\u0203\u0000\u0646\u0000\u064a\u0000\u0203\u0000\u0649\u0000\u0670\u0000\u0203" +
+                    "\u0000\u064a\u0000\u0631\u0000\u0203\u0000\u064a\u0000\u0632\u0000\u0203\u0000\u064a\u0000\u0645" +
+                    "\u0000\u0203\u0000\u064a\u0000\u0646\u0000\u0203\u0000\u064a\u0000\u0649\u0000\u0203\u0000\u064a" +
+                    "\u0000\u064a\u0000\u0206\u0000\u0626\u0000\u062c\u0000\u0206\u0000\u0626\u0000\u062d\u0000\u0206" +
+                    "\u0000\u0626\u0000\u062e\u0000\u0206\u0000\u0626\u0000\u0645\u0000\u0206\u0000\u0626\u0000\u0647" +
+                    "\u0000\u0206\u0000\u0628\u0000\u062c\u0000\u0206\u0000\u0628\u0000\u062d\u0000\u0206\u0000\u0628" +
+                    "\u0000\u062e\u0000\u0206\u0000\u0628\u0000\u0645\u0000\u0206\u0000\u0628\u0000\u0647\u0000\u0206" +
+                    "\u0000\u062a\u0000\u062c\u0000\u0206\u0000\u062a\u0000\u062d\u0000\u0206\u0000\u062a\u0000\u062e" +
+                    "\u0000\u0206\u0000\u062a\u0000\u0645\u0000\u0206\u0000\u062a\u0000\u0647\u0000\u0206\u0000\u062b" +
+                    "\u0000\u0645\u0000\u0206\u0000\u062c\u0000\u062d\u0000\u0206\u0000\u062c\u0000\u0645\u0000\u0206" +
+                    "\u0000\u062d\u0000\u062c\u0000\u0206\u0000\u062d\u0000\u0645\u0000\u0206\u0000\u062e\u0000\u062c" +
+                    "\u0000\u0206\u0000\u062e\u0000\u0645\u0000\u0206\u0000\u0633\u0000\u062c\u0000\u0206\u0000\u0633" +
+                    "\u0000\u062d\u0000\u0206\u0000\u0633\u0000\u062e\u0000\u0206\u0000\u0633\u0000\u0645\u0000\u0206" +
+                    "\u0000\u0635\u0000\u062d\u0000\u0206\u0000\u0635\u0000\u062e\u0000\u0206\u0000\u0635\u0000\u0645" +
+                    "\u0000\u0206\u0000\u0636\u0000\u062c\u0000\u0206\u0000\u0636\u0000\u062d\u0000\u0206\u0000\u0636" +
+                    "\u0000\u062e\u0000\u0206\u0000\u0636\u0000\u0645\u0000\u0206\u0000\u0637\u0000\u062d\u0000\u0206" +
+                    "\u0000\u0638\u0000\u0645\u0000\u0206\u0000\u0639\u0000\u062c\u0000\u0206\u0000\u0639\u0000\u0645" +
+                    "\u0000\u0206\u0000\u063a\u0000\u062c\u0000\u0206\u0000\u063a\u0000\u0645\u0000\u0206\u0000\u0641" +
+                    "\u0000\u062c\u0000\u0206\u0000\u0641\u0000\u062d\u0000\u0206\u0000\u0641\u0000\u062e\u0000\u0206" +
+                    "\u0000\u0641\u0000\u0645\u0000\u0206\u0000\u0642\u0000\u062d\u0000\u0206\u0000\u0642\u0000\u0645" +
+                    "\u0000\u0206\u0000\u0643\u0000\u062c\u0000\u0206\u0000\u0643\u0000\u062d\u0000\u0206\u0000\u0643" +
+                    "\u0000\u062e\u0000\u0206\u0000\u0643\u0000\u0644\u0000\u0206\u0000\u0643\u0000\u0645\u0000\u0206" +
+                    "\u0000\u0644\u0000\u062c\u0000\u0206\u0000\u0644\u0000\u062d\u0000\u0206\u0000\u0644\u0000\u062e" +
+                    "\u0000\u0206\u0000\u0644\u0000\u0645\u0000\u0206\u0000\u0644\u0000\u0647\u0000\u0206\u0000\u0645" +
+                    "\u0000\u062c\u0000\u0206\u0000\u0645\u0000\u062d\u0000\u0206\u0000\u0645\u0000\u062e\u0000\u0206" +
+                    "\u0000\u0645\u0000\u0645\u0000\u0206\u0000\u0646\u0000\u062c\u0000\u0206\u0000\u0646\u0000\u062d" +
+                    "\u0000\u0206\u0000\u0646\u0000\u062e\u0000\u0206\u0000\u0646\u0000\u0645\u0000\u0206\u0000\u0646" +
+                    "\u0000\u0647\u0000\u0206\u0000\u0647\u0000\u062c\u0000\u0206\u0000\u0647\u0000\u0645\u0000\u0206" +
+                    "\u0000\u0647\u0000\u0670\u0000\u0206\u0000\u064a\u0000\u062c\u0000\u0206\u0000\u064a\u0000\u062d" +
+                    "\u0000\u0206\u0000\u064a\u0000\u062e\u0000\u0206\u0000\u064a\u0000\u0645\u0000\u0206\u0000\u064a" +
+                    "\u0000\u0647\u0000\u0208\u0000\u0626\u0000\u0645\u0000\u0208\u0000\u0626\u0000\u0647\u0000\u0208" +
+                    "\u0000\u0628\u0000\u0645\u0000\u0208\u0000\u0628\u0000\u0647\u0000\u0208\u0000\u062a\u0000\u0645" +
+                    "\u0000\u0208\u0000\u062a\u0000\u0647\u0000\u0208\u0000\u062b\u0000\u0645\u0000\u0208\u0000\u062b" +
+                    "\u0000\u0647\u0000\u0208\u0000\u0633\u0000\u0645\u0000\u0208\u0000\u0633\u0000\u0647\u0000\u0208" +
+                    "\u0000\u0634\u0000\u0645\u0000\u0208\u0000\u0634\u0000\u0647\u0000\u0208\u0000\u0643\u0000\u0644" +
+                    "\u0000\u0208\u0000\u0643\u0000\u0645\u0000\u0208\u0000\u0644\u0000\u0645\u0000\u0208\u0000\u0646" +
+                    "\u0000\u0645\u0000\u0208\u0000\u0646\u0000\u0647\u0000\u0208\u0000\u064a\u0000\u0645\u0000\u0208" +
+                    "\u0000\u064a\u0000\u0647\u0000\u0308\u0000\u0640\u0000\u064e\u0000\u0651\u0000\u0308\u0000\u0640" +
+                    "\u0000\u064f\u0000\u0651\u0000\u0308\u0000\u0640\u0000\u0650\u0000\u0651\u0000\u0207\u0000\u0637" +
+                    "\u0000\u0649\u0000\u0207\u0000\u0637\u0000\u064a\u0000\u0207\u0000\u0639\u0000\u0649\u0000\u0207" +
+                    "\u0000\u0639\u0000\u064a\u0000\u0207\u0000\u063a\u0000\u0649\u0000\u0207\u0000\u063a\u0000\u064a" +
+                    "\u0000\u0207\u0000\u0633\u0000\u0649\u0000\u0207\u0000\u0633\u0000\u064a\u0000\u0207\u0000\u0634" +
+                    "\u0000\u0649\u0000\u0207\u0000\u0634\u0000\u064a\u0000\u0207\u0000\u062d\u0000\u0649\u0000\u0207" +
+                    "\u0000\u062d\u0000\u064a\u0000\u0207\u0000\u062c\u0000\u0649\u0000\u0207\u0000\u062c\u0000\u064a" +
+                    "\u0000\u0207\u0000\u062e\u0000\u0649\u0000\u0207\u0000\u062e\u0000\u064a\u0000\u0207\u0000\u0635" +
+                    "\u0000\u0649\u0000\u0207\u0000\u0635\u0000\u064a\u0000\u0207\u0000\u0636\u0000\u0649\u0000\u0207" +
+                    "\u0000\u0636\u0000\u064a\u0000\u0207\u0000\u0634\u0000\u062c\u0000\u0207\u0000\u0634\u0000\u062d" +
+                    "\u0000\u0207\u0000\u0634\u0000\u062e\u0000\u0207\u0000\u0634\u0000\u0645\u0000\u0207\u0000\u0634" +
+                    "\u0000\u0631\u0000\u0207\u0000\u0633\u0000\u0631\u0000\u0207\u0000\u0635\u0000\u0631\u0000\u0207" +
+                    "\u0000\u0636\u0000\u0631\u0000\u0203\u0000\u0637\u0000\u0649\u0000\u0203\u0000\u0637\u0000\u064a" +
+                    "\u0000\u0203\u0000\u0639\u0000\u0649\u0000\u0203\u0000\u0639\u0000\u064a\u0000\u0203\u0000\u063a" +
+                    "\u0000\u0649\u0000\u0203\u0000\u063a\u0000\u064a\u0000\u0203\u0000\u0633\u0000\u0649\u0000\u0203" +
+                    "\u0000\u0633\u0000\u064a\u0000\u0203\u0000\u0634\u0000\u0649\u0000\u0203\u0000\u0634\u0000\u064a" +
+                    "\u0000\u0203\u0000\u062d\u0000\u0649\u0000\u0203\u0000\u062d\u0000\u064a\u0000\u0203\u0000\u062c" +
+                    "\u0000\u0649\u0000\u0203\u0000\u062c\u0000\u064a\u0000\u0203\u0000\u062e\u0000\u0649\u0000\u0203" +
+                    "\u0000\u062e\u0000\u064a\u0000\u0203\u0000\u0635\u0000\u0649\u0000\u0203\u0000\u0635\u0000\u064a" +
+                    "\u0000\u0203\u0000\u0636\u0000\u0649\u0000\u0203\u0000\u0636\u0000\u064a\u0000\u0203\u0000\u0634" +
+                    "\u0000\u062c\u0000\u0203\u0000\u0634\u0000\u062d\u0000\u0203\u0000\u0634\u0000\u062e\u0000\u0203" +
+                    "\u0000\u0634\u0000\u0645\u0000\u0203\u0000\u0634\u0000\u0631\u0000\u0203\u0000\u0633\u0000\u0631" +
+                    "\u0000\u0203\u0000\u0635\u0000\u0631\u0000\u0203\u0000\u0636\u0000\u0631\u0000\u0206\u0000\u0634" +
+                    "\u0000\u062c\u0000\u0206\u0000\u0634\u0000\u062d\u0000\u0206\u0000\u0634\u0000\u062e\u0000\u0206" +
+                    "\u0000\u0634\u0000\u0645\u0000\u0206\u0000\u0633\u0000\u0647\u0000\u0206\u0000\u0634\u0000\u0647" +
+                    "\u0000\u0206\u0000\u0637\u0000\u0645\u0000\u0208\u0000\u0633\u0000\u062c\u0000\u0208\u0000\u0633" +
+                    "\u0000\u062d\u0000\u0208\u0000\u0633\u0000\u062e\u0000\u0208\u0000\u0634\u0000\u062c\u0000\u0208" +
+                    "\u0000\u0634\u0000\u062d\u0000\u0208\u0000\u0634\u0000\u062e\u0000\u0208\u0000\u0637\u0000\u0645" +
+                    "\u0000\u0208\u0000\u0638\u0000\u0645\u0000\u0203\u0000\u0627\u0000\u064b\u0000\u0207\u0000\u0627" +
+                    "\u0000\u064b\u0000\u0306\u0000\u062a\u0000\u062c\u0000\u0645\u0000\u0303\u0000\u062a\u0000\u062d" +
+                    "\u0000\u062c\u0000\u0306\u0000\u062a\u0000\u062d\u0000\u062c\u0000\u0306\u0000\u062a\u0000\u062d" +
+                    "\u0000\u0645\u0000\u0306\u0000\u062a\u0000\u062e\u0000\u0645\u0000\u0306\u0000\u062a\u0000\u0645" +
+                    "\u0000\u062c\u0000\u0306\u0000\u062a\u0000\u0645\u0000\u062d\u0000\u0306\u0000\u062a\u0000\u0645" +
+                    "\u0000\u062e\u0000\u0303\u0000\u062c\u0000\u0645\u0000\u062d\u0000\u0306\u0000\u062c\u0000\u0645" +
+                    "\u0000\u062d\u0000\u0303\u0000\u062d\u0000\u0645\u0000\u064a\u0000\u0303\u0000\u062d\u0000\u0645" +
+                    "\u0000\u0649\u0000\u0306\u0000\u0633\u0000\u062d\u0000\u062c\u0000\u0306\u0000\u0633\u0000\u062c" +
+                    "\u0000\u062d\u0000\u0303\u0000\u0633\u0000\u062c\u0000\u0649\u0000\u0303\u0000\u0633\u0000\u0645" +
+                    "\u0000\u062d\u0000\u0306\u0000\u0633\u0000\u0645\u0000\u062d\u0000\u0306\u0000\u0633\u0000\u0645" +
+                    "\u0000\u062c\u0000\u0303\u0000\u0633\u0000\u0645\u0000\u0645\u0000\u0306\u0000\u0633\u0000\u0645" +
+                    "\u0000\u0645\u0000\u0303\u0000\u0635\u0000\u062d\u0000\u062d\u0000\u0306\u0000\u0635\u0000\u062d" +
+                    "\u0000\u062d\u0000\u0303\u0000\u0635\u0000\u0645\u0000\u0645\u0000\u0303\u0000\u0634\u0000\u062d" +
+                    "\u0000\u0645\u0000\u0306\u0000\u0634\u0000\u062d\u0000\u0645\u0000\u0303\u0000\u0634\u0000\u062c" +
+                    "\u0000\u064a\u0000\u0303\u0000\u0634\u0000\u0645\u0000\u062e\u0000\u0306\u0000\u0634\u0000\u0645" +
+                    "\u0000\u062e\u0000\u0303\u0000\u0634\u0000\u0645\u0000\u0645\u0000\u0306\u0000\u0634\u0000\u0645" +
+                    "\u0000\u0645\u0000\u0303\u0000\u0636\u0000\u062d\u0000\u0649\u0000\u0303\u0000\u0636\u0000\u062e" +
+                    "\u0000\u0645\u0000\u0306\u0000\u0636\u0000\u062e\u0000\u0645\u0000\u0303\u0000\u0637\u0000\u0645" +
+                    "\u0000\u062d\u0000\u0306\u0000\u0637\u0000\u0645\u0000\u062d\u0000\u0306\u0000\u0637\u0000\u0645" +
+                    "\u0000\u0645\u0000\u0303\u0000\u0637\u0000\u0645\u0000\u064a\u0000\u0303\u0000\u0639\u0000\u062c" +
+                    "\u0000\u0645\u0000\u0303\u0000\u0639\u0000\u0645\u0000\u0645\u0000\u0306\u0000\u0639\u0000\u0645" +
+                    "\u0000\u0645\u0000\u0303\u0000\u0639\u0000\u0645\u0000\u0649\u0000\u0303\u0000\u063a\u0000\u0645" +
+                    "\u0000\u0645\u0000\u0303\u0000\u063a\u0000\u0645\u0000\u064a\u0000\u0303\u0000\u063a\u0000\u0645" +
+                    "\u0000\u0649\u0000\u0303\u0000\u0641\u0000\u062e\u0000\u0645\u0000\u0306\u0000\u0641\u0000\u062e" +
+                    "\u0000\u0645\u0000\u0303\u0000\u0642\u0000\u0645\u0000\u062d\u0000\u0303\u0000\u0642\u0000\u0645" +
+                    "\u0000\u0645\u0000\u0303\u0000\u0644\u0000\u062d\u0000\u0645\u0000\u0303\u0000\u0644\u0000\u062d" +
+                    "\u0000\u064a\u0000\u0303\u0000\u0644\u0000\u062d\u0000\u0649\u0000\u0306\u0000\u0644\u0000\u062c" +
+                    "\u0000\u062c\u0000\u0303\u0000\u0644\u0000\u062c\u0000\u062c\u0000\u0303\u0000\u0644\u0000\u062e" +
+                    "\u0000\u0645\u0000\u0306\u0000\u0644\u0000\u062e\u0000\u0645\u0000\u0303\u0000\u0644\u0000\u0645" +
+                    "\u0000\u062d\u0000\u0306\u0000\u0644\u0000\u0645\u0000\u062d\u0000\u0306\u0000\u0645\u0000\u062d" +
+                    "\u0000\u062c\u0000\u0306\u0000\u0645\u0000\u062d\u0000\u0645\u0000\u0303\u0000\u0645\u0000\u062d" +
+                    "\u0000\u064a\u0000\u0306\u0000\u0645\u0000\u062c\u0000\u062d\u0000\u0306\u0000\u0645\u0000\u062c" +
+                    "\u0000\u0645\u0000\u0306\u0000\u0645\u0000\u062e\u0000\u062c\u0000\u0306\u0000\u0645\u0000\u062e" +
+                    "\u0000\u0645\u0000\u0306\u0000\u0645\u0000\u062c\u0000\u062e\u0000\u0306\u0000\u0647\u0000\u0645" +
+                    "\u0000\u062c\u0000\u0306\u0000\u0647\u0000\u0645\u0000\u0645\u0000\u0306\u0000\u0646\u0000\u062d" +
+                    "\u0000\u0645\u0000\u0303\u0000\u0646\u0000\u062d\u0000\u0649\u0000\u0303\u0000\u0646\u0000\u062c" +
+                    "\u0000\u0645\u0000\u0306\u0000\u0646\u0000\u062c\u0000\u0645\u0000\u0303\u0000\u0646\u0000\u062c" +
+                    "\u0000\u0649\u0000\u0303\u0000\u0646\u0000\u0645\u0000\u064a\u0000\u0303\u0000\u0646\u0000\u0645" +
+                    "\u0000\u0649\u0000\u0303\u0000\u064a\u0000\u0645\u0000\u0645\u0000\u0306\u0000\u064a\u0000\u0645" +
+                    "\u0000\u0645\u0000\u0303\u0000\u0628\u0000\u062e\u0000\u064a\u0000\u0303\u0000\u062a\u0000\u062c" +
+                    "\u0000\u064a\u0000\u0303\u0000\u062a\u0000\u062c\u0000\u0649\u0000\u0303\u0000\u062a\u0000\u062e" +
+                    "\u0000\u064a\u0000\u0303\u0000\u062a\u0000\u062e\u0000\u0649\u0000\u0303\u0000\u062a\u0000\u0645" +
+                    "\u0000\u064a\u0000\u0303\u0000\u062a\u0000\u0645\u0000\u0649\u0000\u0303\u0000\u062c\u0000\u0645" +
+                    "\u0000\u064a\u0000\u0303\u0000\u062c\u0000\u062d\u0000\u0649\u0000\u0303\u0000\u062c\u0000\u0645" +
+                    "\u0000\u0649\u0000\u0303\u0000\u0633\u0000\u062e\u0000\u0649\u0000\u0303\u0000\u0635\u0000\u062d" +
+                    "\u0000\u064a\u0000\u0303\u0000\u0634\u0000\u062d\u0000\u064a\u0000\u0303\u0000\u0636\u0000\u062d" +
+                    "\u0000\u064a\u0000\u0303\u0000\u0644\u0000\u062c\u0000\u064a\u0000\u0303\u0000\u0644\u0000\u0645" +
+                    "\u0000\u064a\u0000\u0303\u0000\u064a\u0000\u062d\u0000\u064a\u0000\u0303\u0000\u064a\u0000\u062c" +
+                    "\u0000\u064a\u0000\u0303\u0000\u064a\u0000\u0645\u0000\u064a\u0000\u0303\u0000\u0645\u0000\u0645" +
+                    "\u0000\u064a\u0000\u0303\u0000\u0642\u0000\u0645\u0000\u064a\u0000\u0303\u0000\u0646\u0000\u062d" +
+                    "\u0000\u064a\u0000\u0306\u0000\u0642\u0000\u0645\u0000\u062d\u0000\u0306\u0000\u0644\u0000\u062d" +
+                    "\u0000\u0645\u0000\u0303\u0000\u0639\u0000\u0645\u0000\u064a\u0000\u0303\u0000\u0643\u0000\u0645" +
+                    "\u0000\u064a\u0000\u0306\u0000\u0646\u0000\u062c\u0000\u062d\u0000\u0303\u0000\u0645\u0000\u062e" +
+                    "\u0000\u064a\u0000\u0306\u0000\u0644\u0000\u062c\u0000\u0645\u0000\u0303\u0000\u0643\u0000\u0645" +
+                    "\u0000\u0645\u0000\u0303\u0000\u0644\u0000\u062c\u0000\u0645\u0000\u0303\u0000\u0646\u0000\u062c" +
+                    "\u0000\u062d\u0000\u0303\u0000\u062c\u0000\u062d\u0000\u064a\u0000\u0303\u0000\u062d\u0000\u062c" +
+                    "\u0000\u064a\u0000\u0303\u0000\u0645\u0000\u062c\u0000\u064a\u0000\u0303\u0000\u0641\u0000\u0645" +
+                    "\u0000\u064a\u0000\u0303\u0000\u0628\u0000\u062d\u0000\u064a\u0000\u0306\u0000\u0643\u0000\u0645" +
+                    "\u0000\u0645\u0000\u0306\u0000\u0639\u0000\u062c\u0000\u0645\u0000\u0306\u0000\u0635\u0000\u0645" +
+                    "\u0000\u0645\u0000\u0303\u0000\u0633\u0000\u062e\u0000\u064a\u0000\u0303\u0000\u0646\u0000\u062c" +
+                    "\u0000\u064a\u0000\u0307\u0000\u0635\u0000\u0644\u0000\u06d2\u0000\u0307\u0000\u0642\u0000\u0644" +
+                    "\u0000\u06d2\u0000\u0407\u0000\u0627\u0000\u0644\u0000\u0644\u0000\u0647\u0000\u0407\u0000\u0627" +
+                    "\u0000\u0643\u0000\u0628\u0000\u0631\u0000\u0407\u0000\u0645\u0000\u062d\u0000\u0645\u0000\u062f" +
+                    "\u0000\u0407\u0000\u0635\u0000\u0644\u0000\u0639\u0000\u0645\u0000\u0407\u0000\u0631\u0000\u0633" +
+                    "\u0000\u0648\u0000\u0644\u0000\u0407\u0000\u0639\u0000\u0644\u0000\u064a\u0000\u0647\u0000\u0407" +
+                    "\u0000\u0648\u0000\u0633\u0000\u0644\u0000\u0645\u0000\u0307\u0000\u0635\u0000\u0644\u0000\u0649" +
+                    "\u0000\u1207\u0000\u0635\u0000\u0644\u0000\u0649\u0000 \u0000\u0627\u0000\u0644\u0000\u0644" +
+                    "\u0000\u0647\u0000 \u0000\u0639\u0000\u0644\u0000\u064a\u0000\u0647\u0000 \u0000\u0648" +
+                    "\u0000\u0633\u0000\u0644\u0000\u0645\u0000\u0807\u0000\u062c\u0000\u0644\u0000 \u0000\u062c" +
+                    "\u0000\u0644\u0000\u0627\u0000\u0644\u0000\u0647\u0000\u0407\u0000\u0631\u0000\u06cc\u0000\u0627" +
+                    "\u0000\u0644\u0000\u010f\u0000,\u0000\u010f\u0000\u3001\u0000\u010f\u0000\u3002\u0000\u010f" +
+                    "\u0000:\u0000\u010f\u0000;\u0000\u010f\u0000!\u0000\u010f\u0000?\u0000\u010f" +
+                    "\u0000\u3016\u0000\u010f\u0000\u3017\u0000\u010f\u0000\u2026\u0000\u010f\u0000\u2025\u0000\u010f" +
+                    "\u0000\u2014\u0000\u010f\u0000\u2013\u0000\u010f\u0000_\u0000\u010f\u0000_\u0000\u010f" +
+                    "\u0000(\u0000\u010f\u0000)\u0000\u010f\u0000{\u0000\u010f\u0000}\u0000\u010f" +
+                    "\u0000\u3014\u0000\u010f\u0000\u3015\u0000\u010f\u0000\u3010\u0000\u010f\u0000\u3011\u0000\u010f" +
+                    "\u0000\u300a\u0000\u010f\u0000\u300b\u0000\u010f\u0000\u3008\u0000\u010f\u0000\u3009\u0000\u010f" +
+                    "\u0000\u300c\u0000\u010f\u0000\u300d\u0000\u010f\u0000\u300e\u0000\u010f\u0000\u300f\u0000\u010f" +
+                    "\u0000[\u0000\u010f\u0000]\u0000\u0101\u0000\u203e\u0000\u0101\u0000\u203e\u0000\u0101" +
+                    "\u0000\u203e\u0000\u0101\u0000\u203e\u0000\u0101\u0000_\u0000\u0101\u0000_\u0000\u0101" +
+                    "\u0000_\u0000\u010b\u0000,\u0000\u010b\u0000\u3001\u0000\u010b\u0000.\u0000\u010b" +
+                    "\u0000;\u0000\u010b\u0000:\u0000\u010b\u0000?\u0000\u010b\u0000!\u0000\u010b" +
+                    "\u0000\u2014\u0000\u010b\u0000(\u0000\u010b\u0000)\u0000\u010b\u0000{\u0000\u010b" +
+                    "\u0000}\u0000\u010b\u0000\u3014\u0000\u010b\u0000\u3015\u0000\u010b\u0000#\u0000\u010b" +
+                    "\u0000&\u0000\u010b\u0000*\u0000\u010b\u0000+\u0000\u010b\u0000-\u0000\u010b" +
+                    "\u0000<\u0000\u010b\u0000>\u0000\u010b\u0000=\u0000\u010b\u0000\\\u0000\u010b" +
+                    "\u0000$\u0000\u010b\u0000%\u0000\u010b\u0000@\u0000\u0207\u0000 \u0000\u064b" +
+                    "\u0000\u0208\u0000\u0640\u0000\u064b\u0000\u0207\u0000 \u0000\u064c\u0000\u0207\u0000 " +
+                    "\u0000\u064d\u0000\u0207\u0000 \u0000\u064e\u0000\u0208\u0000\u0640\u0000\u064e\u0000\u0207" +
+                    "\u0000 \u0000\u064f\u0000\u0208\u0000\u0640\u0000\u064f\u0000\u0207\u0000 \u0000\u0650" +
+                    "\u0000\u0208\u0000\u0640\u0000\u0650\u0000\u0207\u0000 \u0000\u0651\u0000\u0208\u0000\u0640" +
+                    "\u0000\u0651\u0000\u0207\u0000 \u0000\u0652\u0000\u0208\u0000\u0640\u0000\u0652\u0000\u0107" +
+                    "\u0000\u0621\u0000\u0107\u0000\u0622\u0000\u0103\u0000\u0622\u0000\u0107\u0000\u0623\u0000\u0103" +
+                    "\u0000\u0623\u0000\u0107\u0000\u0624\u0000\u0103\u0000\u0624\u0000\u0107\u0000\u0625\u0000\u0103" +
+                    "\u0000\u0625\u0000\u0107\u0000\u0626\u0000\u0103\u0000\u0626\u0000\u0106\u0000\u0626\u0000\u0108" +
+                    "\u0000\u0626\u0000\u0107\u0000\u0627\u0000\u0103\u0000\u0627\u0000\u0107\u0000\u0628\u0000\u0103" +
+                    "\u0000\u0628\u0000\u0106\u0000\u0628\u0000\u0108\u0000\u0628\u0000\u0107\u0000\u0629\u0000\u0103" +
+                    "\u0000\u0629\u0000\u0107\u0000\u062a\u0000\u0103\u0000\u062a\u0000\u0106\u0000\u062a\u0000\u0108" +
+                    "\u0000\u062a\u0000\u0107\u0000\u062b\u0000\u0103\u0000\u062b\u0000\u0106\u0000\u062b\u0000\u0108" +
+                    "\u0000\u062b\u0000\u0107\u0000\u062c\u0000\u0103\u0000\u062c\u0000\u0106\u0000\u062c\u0000\u0108" +
+                    "\u0000\u062c\u0000\u0107\u0000\u062d\u0000\u0103\u0000\u062d\u0000\u0106\u0000\u062d\u0000\u0108" +
+                    "\u0000\u062d\u0000\u0107\u0000\u062e\u0000\u0103\u0000\u062e\u0000\u0106\u0000\u062e\u0000\u0108" +
+                    "\u0000\u062e\u0000\u0107\u0000\u062f\u0000\u0103\u0000\u062f\u0000\u0107\u0000\u0630\u0000\u0103" +
+                    "\u0000\u0630\u0000\u0107\u0000\u0631\u0000\u0103\u0000\u0631\u0000\u0107\u0000\u0632\u0000\u0103" +
+                    "\u0000\u0632\u0000\u0107\u0000\u0633\u0000\u0103\u0000\u0633\u0000\u0106\u0000\u0633\u0000\u0108" +
+                    "\u0000\u0633\u0000\u0107\u0000\u0634\u0000\u0103\u0000\u0634\u0000\u0106\u0000\u0634\u0000\u0108" +
+                    "\u0000\u0634\u0000\u0107\u0000\u0635\u0000\u0103\u0000\u0635\u0000\u0106\u0000\u0635\u0000\u0108" +
+                    "\u0000\u0635\u0000\u0107\u0000\u0636\u0000\u0103\u0000\u0636\u0000\u0106\u0000\u0636\u0000\u0108" +
+                    "\u0000\u0636\u0000\u0107\u0000\u0637\u0000\u0103\u0000\u0637\u0000\u0106\u0000\u0637\u0000\u0108" +
+                    "\u0000\u0637\u0000\u0107\u0000\u0638\u0000\u0103\u0000\u0638\u0000\u0106\u0000\u0638\u0000\u0108" +
+                    "\u0000\u0638\u0000\u0107\u0000\u0639\u0000\u0103\u0000\u0639\u0000\u0106\u0000\u0639\u0000\u0108" +
+                    "\u0000\u0639\u0000\u0107\u0000\u063a\u0000\u0103\u0000\u063a\u0000\u0106\u0000\u063a\u0000\u0108" +
+                    "\u0000\u063a\u0000\u0107\u0000\u0641\u0000\u0103\u0000\u0641\u0000\u0106\u0000\u0641\u0000\u0108" +
+                    "\u0000\u0641\u0000\u0107\u0000\u0642\u0000\u0103\u0000\u0642\u0000\u0106\u0000\u0642\u0000\u0108" +
+                    "\u0000\u0642\u0000\u0107\u0000\u0643\u0000\u0103\u0000\u0643\u0000\u0106\u0000\u0643\u0000\u0108" +
+                    "\u0000\u0643\u0000\u0107\u0000\u0644\u0000\u0103\u0000\u0644\u0000\u0106\u0000\u0644\u0000\u0108" +
+                    "\u0000\u0644\u0000\u0107\u0000\u0645\u0000\u0103\u0000\u0645\u0000\u0106\u0000\u0645\u0000\u0108" +
+                    "\u0000\u0645\u0000\u0107\u0000\u0646\u0000\u0103\u0000\u0646\u0000\u0106\u0000\u0646\u0000\u0108" +
+                    "\u0000\u0646\u0000\u0107\u0000\u0647\u0000\u0103\u0000\u0647\u0000\u0106\u0000\u0647\u0000\u0108" +
+                    "\u0000\u0647\u0000\u0107\u0000\u0648\u0000\u0103\u0000\u0648\u0000\u0107\u0000\u0649\u0000\u0103" +
+                    "\u0000\u0649\u0000\u0107\u0000\u064a\u0000\u0103\u0000\u064a\u0000\u0106\u0000\u064a\u0000\u0108" +
+                    "\u0000\u064a\u0000\u0207\u0000\u0644\u0000\u0622\u0000\u0203\u0000\u0644\u0000\u0622\u0000\u0207" +
+                    "\u0000\u0644\u0000\u0623\u0000\u0203\u0000\u0644\u0000\u0623\u0000\u0207\u0000\u0644\u0000\u0625" +
+                    "\u0000\u0203\u0000\u0644\u0000\u0625\u0000\u0207\u0000\u0644\u0000\u0627\u0000\u0203\u0000\u0644" +
+                    "\u0000\u0627\u0000\u0110\u0000!\u0000\u0110\u0000\"\u0000\u0110\u0000#\u0000\u0110" +
+                    "\u0000$\u0000\u0110\u0000%\u0000\u0110\u0000&\u0000\u0110\u0000'\u0000\u0110" +
+                    "\u0000(\u0000\u0110\u0000)\u0000\u0110\u0000*\u0000\u0110\u0000+\u0000\u0110" +
+                    "\u0000,\u0000\u0110\u0000-\u0000\u0110\u0000.\u0000\u0110\u0000/\u0000\u0110" +
+                    "\u00000\u0000\u0110\u00001\u0000\u0110\u00002\u0000\u0110\u00003\u0000\u0110" +
+                    "\u00004\u0000\u0110\u00005\u0000\u0110\u00006\u0000\u0110\u00007\u0000\u0110" +
+                    "\u00008\u0000\u0110\u00009\u0000\u0110\u0000:\u0000\u0110\u0000;\u0000\u0110" +
+                    "\u0000<\u0000\u0110\u0000=\u0000\u0110\u0000>\u0000\u0110\u0000?\u0000\u0110" +
+                    "\u0000@\u0000\u0110\u0000A\u0000\u0110\u0000B\u0000\u0110\u0000C\u0000\u0110" +
+                    "\u0000D\u0000\u0110\u0000E\u0000\u0110\u0000F\u0000\u0110\u0000G\u0000\u0110" +
+                    "\u0000H\u0000\u0110\u0000I\u0000\u0110\u0000J\u0000\u0110\u0000K\u0000\u0110" +
+                    "\u0000L\u0000\u0110\u0000M\u0000\u0110\u0000N\u0000\u0110\u0000O\u0000\u0110" +
+                    "\u0000P\u0000\u0110\u0000Q\u0000\u0110\u0000R\u0000\u0110\u0000S\u0000\u0110" +
+                    "\u0000T\u0000\u0110\u0000U\u0000\u0110\u0000V\u0000\u0110\u0000W\u0000\u0110" +
+                    "\u0000X\u0000\u0110\u0000Y\u0000\u0110\u0000Z\u0000\u0110\u0000[\u0000\u0110" +
+                    "\u0000\\\u0000\u0110\u0000]\u0000\u0110\u0000^\u0000\u0110\u0000_\u0000\u0110" +
+                    "\u0000`\u0000\u0110\u0000a\u0000\u0110\u0000b\u0000\u0110\u0000c\u0000\u0110" +
+                    "\u0000d\u0000\u0110\u0000e\u0000\u0110\u0000f\u0000\u0110\u0000g\u0000\u0110" +
+                    "\u0000h\u0000\u0110\u0000i\u0000\u0110\u0000j\u0000\u0110\u0000k\u0000\u0110" +
+                    "\u0000l\u0000\u0110\u0000m\u0000\u0110\u0000n\u0000\u0110\u0000o\u0000\u0110" +
+                    "\u0000p\u0000\u0110\u0000q\u0000\u0110\u0000r\u0000\u0110\u0000s\u0000\u0110" +
+                    "\u0000t\u0000\u0110\u0000u\u0000\u0110\u0000v\u0000\u0110\u0000w\u0000\u0110" +
+                    "\u0000x\u0000\u0110\u0000y\u0000\u0110\u0000z\u0000\u0110\u0000{\u0000\u0110" +
+                    "\u0000|\u0000\u0110\u0000}\u0000\u0110\u0000~\u0000\u0110\u0000\u2985\u0000\u0110" +
+                    "\u0000\u2986\u0000\u0109\u0000\u3002\u0000\u0109\u0000\u300c\u0000\u0109\u0000\u300d\u0000\u0109" +
+                    "\u0000\u3001\u0000\u0109\u0000\u30fb\u0000\u0109\u0000\u30f2\u0000\u0109\u0000\u30a1\u0000\u0109" +
+                    "\u0000\u30a3\u0000\u0109\u0000\u30a5\u0000\u0109\u0000\u30a7\u0000\u0109\u0000\u30a9\u0000\u0109" +
+                    "\u0000\u30e3\u0000\u0109\u0000\u30e5\u0000\u0109\u0000\u30e7\u0000\u0109\u0000\u30c3\u0000\u0109" +
+                    "\u0000\u30fc\u0000\u0109\u0000\u30a2\u0000\u0109\u0000\u30a4\u0000\u0109\u0000\u30a6\u0000\u0109" +
+                    "\u0000\u30a8\u0000\u0109\u0000\u30aa\u0000\u0109\u0000\u30ab\u0000\u0109\u0000\u30ad\u0000\u0109" +
+                    "\u0000\u30af\u0000\u0109\u0000\u30b1\u0000\u0109\u0000\u30b3\u0000\u0109\u0000\u30b5\u0000\u0109" +
+                    "\u0000\u30b7\u0000\u0109\u0000\u30b9\u0000\u0109\u0000\u30bb\u0000\u0109\u0000\u30bd\u0000\u0109" +
+                    "\u0000\u30bf\u0000\u0109\u0000\u30c1\u0000\u0109\u0000\u30c4\u0000\u0109\u0000\u30c6\u0000\u0109" +
+                    "\u0000\u30c8\u0000\u0109\u0000\u30ca\u0000\u0109\u0000\u30cb\u0000\u0109\u0000\u30cc\u0000\u0109" +
+                    "\u0000\u30cd\u0000\u0109\u0000\u30ce\u0000\u0109\u0000\u30cf\u0000\u0109\u0000\u30d2\u0000\u0109" +
+                    "\u0000\u30d5\u0000\u0109\u0000\u30d8\u0000\u0109\u0000\u30db\u0000\u0109\u0000\u30de\u0000\u0109" +
+                    "\u0000\u30df\u0000\u0109\u0000\u30e0\u0000\u0109\u0000\u30e1\u0000\u0109\u0000\u30e2\u0000\u0109" +
+                    "\u0000\u30e4\u0000\u0109\u0000\u30e6\u0000\u0109\u0000\u30e8\u0000\u0109\u0000\u30e9\u0000\u0109" +
+                    "\u0000\u30ea\u0000\u0109\u0000\u30eb\u0000\u0109\u0000\u30ec\u0000\u0109\u0000\u30ed\u0000\u0109" +
+                    "\u0000\u30ef\u0000\u0109\u0000\u30f3\u0000\u0109\u0000\u3099\u0000\u0109\u0000\u309a\u0000\u0109" +
+                    "\u0000\u3164\u0000\u0109\u0000\u3131\u0000\u0109\u0000\u3132\u0000\u0109\u0000\u3133\u0000\u0109" +
+                    "\u0000\u3134\u0000\u0109\u0000\u3135\u0000\u0109\u0000\u3136\u0000\u0109\u0000\u3137\u0000\u0109" +
+                    "\u0000\u3138\u0000\u0109\u0000\u3139\u0000\u0109\u0000\u313a\u0000\u0109\u0000\u313b\u0000\u0109" +
+                    "\u0000\u313c\u0000\u0109\u0000\u313d\u0000\u0109\u0000\u313e\u0000\u0109\u0000\u313f\u0000\u0109" +
+                    "\u0000\u3140\u0000\u0109\u0000\u3141\u0000\u0109\u0000\u3142\u0000\u0109\u0000\u3143\u0000\u0109" +
+                    "\u0000\u3144\u0000\u0109\u0000\u3145\u0000\u0109\u0000\u3146\u0000\u0109\u0000\u3147\u0000\u0109" +
+                    "\u0000\u3148\u0000\u0109\u0000\u3149\u0000\u0109\u0000\u314a\u0000\u0109\u0000\u314b\u0000\u0109" +
+                    "\u0000\u314c\u0000\u0109\u0000\u314d\u0000\u0109\u0000\u314e\u0000\u0109\u0000\u314f\u0000\u0109" +
+                    "\u0000\u3150\u0000\u0109\u0000\u3151\u0000\u0109\u0000\u3152\u0000\u0109\u0000\u3153\u0000\u0109" +
+                    "\u0000\u3154\u0000\u0109\u0000\u3155\u0000\u0109\u0000\u3156\u0000\u0109\u0000\u3157\u0000\u0109" +
+                    "\u0000\u3158\u0000\u0109\u0000\u3159\u0000\u0109\u0000\u315a\u0000\u0109\u0000\u315b\u0000\u0109" +
+                    "\u0000\u315c\u0000\u0109\u0000\u315d\u0000\u0109\u0000\u315e\u0000\u0109\u0000\u315f\u0000\u0109" +
+                    "\u0000\u3160\u0000\u0109\u0000\u3161\u0000\u0109\u0000\u3162\u0000\u0109\u0000\u3163\u0000\u0110" +
+                    "\u0000\u00a2\u0000\u0110\u0000\u00a3\u0000\u0110\u0000\u00ac\u0000\u0110\u0000\u00af\u0000\u0110" +
+                    "\u0000\u00a6\u0000\u0110\u0000\u00a5\u0000\u0110\u0000\u20a9\u0000\u0109\u0000\u2502\u0000\u0109" +
+                    "\u0000\u2190\u0000\u0109\u0000\u2191\u0000\u0109\u0000\u2192\u0000\u0109\u0000\u2193\u0000\u0109" +
+                    "\u0000\u25a0\u0000\u0109\u0000\u25cb\u0000\u010e\u0000\u02d0\u0000\u010e\u0000\u02d1\u0000\u010e" +
+                    "\u0000\u00e6\u0000\u010e\u0000\u0299\u0000\u010e\u0000\u0253\u0000\u010e\u0000\u02a3\u0000\u010e" +
+                    "\u0000\uab66\u0000\u010e\u0000\u02a5\u0000\u010e\u0000\u02a4\u0000\u010e\u0000\u0256\u0000\u010e" +
+                    "\u0000\u0257\u0000\u010e\u0000\u1d91\u0000\u010e\u0000\u0258\u0000\u010e\u0000\u025e\u0000\u010e" +
+                    "\u0000\u02a9\u0000\u010e\u0000\u0264\u0000\u010e\u0000\u0262\u0000\u010e\u0000\u0260\u0000\u010e" +
+                    "\u0000\u029b\u0000\u010e\u0000\u0127\u0000\u010e\u0000\u029c\u0000\u010e\u0000\u0267\u0000\u010e" +
+                    "\u0000\u0284\u0000\u010e\u0000\u02aa\u0000\u010e\u0000\u02ab\u0000\u010e\u0000\u026c\u0000\u010e" +
+                    "\u0001\udf04\u0000\u010e\u0000\ua78e\u0000\u010e\u0000\u026e\u0000\u010e\u0001\udf05\u0000\u010e" +
+                    "\u0000\u028e\u0000\u010e\u0001\udf06\u0000\u010e\u0000\u00f8\u0000\u010e\u0000\u0276\u0000\u010e" +
+                    "\u0000\u0277\u0000\u010e\u0000q\u0000\u010e\u0000\u027a\u0000\u010e\u0001\udf08\u0000\u010e" +
+                    "\u0000\u027d\u0000\u010e\u0000\u027e\u0000\u010e\u0000\u0280\u0000\u010e\u0000\u02a8\u0000\u010e" +
+                    "\u0000\u02a6\u0000\u010e\u0000\uab67\u0000\u010e\u0000\u02a7\u0000\u010e\u0000\u0288\u0000\u010e" +
+                    "\u0000\u2c71\u0000\u010e\u0000\u028f\u0000\u010e\u0000\u02a1\u0000\u010e\u0000\u02a2\u0000\u010e" +
+                    "\u0000\u0298\u0000\u010e\u0000\u01c0\u0000\u010e\u0000\u01c1\u0000\u010e\u0000\u01c2\u0000\u010e" +
+                    "\u0001\udf0a\u0000\u010e\u0001\udf1e\u0000\u0200\u0001\u1099\u0001\u10ba\u0000\u0200\u0001\u109b" +
+                    "\u0001\u10ba\u0000\u0200\u0001\u10a5\u0001\u10ba\u0000\u0200\u0001\u1131\u0001\u1127\u0000\u0200" +
+                    "\u0001\u1132\u0001\u1127\u0000\u0200\u0001\u1347\u0001\u133e\u0000\u0200\u0001\u1347\u0001\u1357" +
+                    "\u0000\u0200\u0001\u14b9\u0001\u14ba\u0000\u0200\u0001\u14b9\u0001\u14b0\u0000\u0200\u0001\u14b9" +
+                    "\u0001\u14bd\u0000\u0200\u0001\u15b8\u0001\u15af\u0000\u0200\u0001\u15b9\u0001\u15af\u0000\u0200" +
+                    "\u0001\u1935\u0001\u1930\u0000\u0200\u0001\ud157\u0001\ud165\u0000\u0200\u0001\ud158\u0001\ud165" +
+                    "\u0000\u0200\u0001\ud15f\u0001\ud16e\u0000\u0200\u0001\ud15f\u0001\ud16f\u0000\u0200\u0001\ud15f" +
+                    "\u0001\ud170\u0000\u0200\u0001\ud15f\u0001\ud171\u0000\u0200\u0001\ud15f\u0001\ud172\u0000\u0200" +
+                    "\u0001\ud1b9\u0001\ud165\u0000\u0200\u0001\ud1ba\u0001\ud165\u0000\u0200\u0001\ud1bb\u0001\ud16e" +
+                    "\u0000\u0200\u0001\ud1bc\u0001\ud16e\u0000\u0200\u0001\ud1bb\u0001\ud16f\u0000\u0200\u0001\ud1bc" +
+                    "\u0001\ud16f\u0000\u0104\u0000A\u0000\u0104\u0000B\u0000\u0104\u0000C\u0000\u0104" +
+                    "\u0000D\u0000\u0104\u0000E\u0000\u0104\u0000F\u0000\u0104\u0000G\u0000\u0104" +
+                    "\u0000H\u0000\u0104\u0000I\u0000\u0104\u0000J\u0000\u0104\u0000K\u0000\u0104" +
+                    "\u0000L\u0000\u0104\u0000M\u0000\u0104\u0000N\u0000\u0104\u0000O\u0000\u0104" +
+                    "\u0000P\u0000\u0104\u0000Q\u0000\u0104\u0000R\u0000\u0104\u0000S\u0000\u0104" +
+                    "\u0000T\u0000\u0104\u0000U\u0000\u0104\u0000V\u0000\u0104\u0000W\u0000\u0104" +
+                    "\u0000X\u0000\u0104\u0000Y\u0000\u0104\u0000Z\u0000\u0104\u0000a\u0000\u0104" +
+                    "\u0000b\u0000\u0104\u0000c\u0000\u0104\u0000d\u0000\u0104\u0000e\u0000\u0104" +
+                    "\u0000f\u0000\u0104\u0000g\u0000\u0104\u0000h\u0000\u0104\u0000i\u0000\u0104" +
+                    "\u0000j\u0000\u0104\u0000k\u0000\u0104\u0000l\u0000\u0104\u0000m\u0000\u0104" +
+                    "\u0000n\u0000\u0104\u0000o\u0000\u0104\u0000p\u0000\u0104\u0000q\u0000\u0104" +
+                    "\u0000r\u0000\u0104\u0000s\u0000\u0104\u0000t\u0000\u0104\u0000u\u0000\u0104" +
+                    "\u0000v\u0000\u0104\u0000w\u0000\u0104\u0000x\u0000\u0104\u0000y\u0000\u0104" +
+                    "\u0000z\u0000\u0104\u0000A\u0000\u0104\u0000B\u0000\u0104\u0000C\u0000\u0104" +
+                    "\u0000D\u0000\u0104\u0000E\u0000\u0104\u0000F\u0000\u0104\u0000G\u0000\u0104" +
+                    "\u0000H\u0000\u0104\u0000I\u0000\u0104\u0000J\u0000\u0104\u0000K\u0000\u0104" +
+                    "\u0000L\u0000\u0104\u0000M\u0000\u0104\u0000N\u0000\u0104\u0000O\u0000\u0104" +
+                    "\u0000P\u0000\u0104\u0000Q\u0000\u0104\u0000R\u0000\u0104\u0000S\u0000\u0104" +
+                    "\u0000T\u0000\u0104\u0000U\u0000\u0104\u0000V\u0000\u0104\u0000W\u0000\u0104" +
+                    "\u0000X\u0000\u0104\u0000Y\u0000\u0104\u0000Z\u0000\u0104\u0000a\u0000\u0104" +
+                    "\u0000b\u0000\u0104\u0000c\u0000\u0104\u0000d\u0000\u0104\u0000e\u0000\u0104" +
+                    "\u0000f\u0000\u0104\u0000g\u0000\u0104\u0000i\u0000\u0104\u0000j\u0000\u0104" +
+                    "\u0000k\u0000\u0104\u0000l\u0000\u0104\u0000m\u0000\u0104\u0000n\u0000\u0104" +
+                    "\u0000o\u0000\u0104\u0000p\u0000\u0104\u0000q\u0000\u0104\u0000r\u0000\u0104" +
+                    "\u0000s\u0000\u0104\u0000t\u0000\u0104\u0000u\u0000\u0104\u0000v\u0000\u0104" +
+                    "\u0000w\u0000\u0104\u0000x\u0000\u0104\u0000y\u0000\u0104\u0000z\u0000\u0104" +
+                    "\u0000A\u0000\u0104\u0000B\u0000\u0104\u0000C\u0000\u0104\u0000D\u0000\u0104" +
+                    "\u0000E\u0000\u0104\u0000F\u0000\u0104\u0000G\u0000\u0104\u0000H\u0000\u0104" +
+                    "\u0000I\u0000\u0104\u0000J\u0000\u0104\u0000K\u0000\u0104\u0000L\u0000\u0104" +
+                    "\u0000M\u0000\u0104\u0000N\u0000\u0104\u0000O\u0000\u0104\u0000P\u0000\u0104" +
+                    "\u0000Q\u0000\u0104\u0000R\u0000\u0104\u0000S\u0000\u0104\u0000T\u0000\u0104" +
+                    "\u0000U\u0000\u0104\u0000V\u0000\u0104\u0000W\u0000\u0104\u0000X\u0000\u0104" +
+                    "\u0000Y\u0000\u0104\u0000Z\u0000\u0104\u0000a\u0000\u0104\u0000b\u0000\u0104" +
+                    "\u0000c\u0000\u0104\u0000d\u0000\u0104\u0000e\u0000\u0104\u0000f\u0000\u0104" +
+                    "\u0000g\u0000\u0104\u0000h\u0000\u0104\u0000i\u0000\u0104\u0000j\u0000\u0104" +
+                    "\u0000k\u0000\u0104\u0000l\u0000\u0104\u0000m\u0000\u0104\u0000n\u0000\u0104" +
+                    "\u0000o\u0000\u0104\u0000p\u0000\u0104\u0000q\u0000\u0104\u0000r\u0000\u0104" +
+                    "\u0000s\u0000\u0104\u0000t\u0000\u0104\u0000u\u0000\u0104\u0000v\u0000\u0104" +
+                    "\u0000w\u0000\u0104\u0000x\u0000\u0104\u0000y\u0000\u0104\u0000z\u0000\u0104" +
+                    "\u0000A\u0000\u0104\u0000C\u0000\u0104\u0000D\u0000\u0104\u0000G\u0000\u0104" +
+                    "\u0000J\u0000\u0104\u0000K\u0000\u0104\u0000N\u0000\u0104\u0000O\u0000\u0104" +
+                    "\u0000P\u0000\u0104\u0000Q\u0000\u0104\u0000S\u0000\u0104\u0000T\u0000\u0104" +
+                    "\u0000U\u0000\u0104\u0000V\u0000\u0104\u0000W\u0000\u0104\u0000X\u0000\u0104" +
+                    "\u0000Y\u0000\u0104\u0000Z\u0000\u0104\u0000a\u0000\u0104\u0000b\u0000\u0104" +
+                    "\u0000c\u0000\u0104\u0000d\u0000\u0104\u0000f\u0000\u0104\u0000h\u0000\u0104" +
+                    "\u0000i\u0000\u0104\u0000j\u0000\u0104\u0000k\u0000\u0104\u0000l\u0000\u0104" +
+                    "\u0000m\u0000\u0104\u0000n\u0000\u0104\u0000p\u0000\u0104\u0000q\u0000\u0104" +
+                    "\u0000r\u0000\u0104\u0000s\u0000\u0104\u0000t\u0000\u0104\u0000u\u0000\u0104" +
+                    "\u0000v\u0000\u0104\u0000w\u0000\u0104\u0000x\u0000\u0104\u0000y\u0000\u0104" +
+                    "\u0000z\u0000\u0104\u0000A\u0000\u0104\u0000B\u0000\u0104\u0000C\u0000\u0104" +
+                    "\u0000D\u0000\u0104\u0000E\u0000\u0104\u0000F\u0000\u0104\u0000G\u0000\u0104" +
+                    "\u0000H\u0000\u0104\u0000I\u0000\u0104\u0000J\u0000\u0104\u0000K\u0000\u0104" +
+                    "\u0000L\u0000\u0104\u0000M\u0000\u0104\u0000N\u0000\u0104\u0000O\u0000\u0104" +
+                    "\u0000P\u0000\u0104\u0000Q\u0000\u0104\u0000R\u0000\u0104\u0000S\u0000\u0104" +
+                    "\u0000T\u0000\u0104\u0000U\u0000\u0104\u0000V\u0000\u0104\u0000W\u0000\u0104" +
+                    "\u0000X\u0000\u0104\u0000Y\u0000\u0104\u0000Z\u0000\u0104\u0000a\u0000\u0104" +
+                    "\u0000b\u0000\u0104\u0000c\u0000\u0104\u0000d\u0000\u0104\u0000e\u0000\u0104" +
+                    "\u0000f\u0000\u0104\u0000g\u0000\u0104\u0000h\u0000\u0104\u0000i\u0000\u0104" +
+                    "\u0000j\u0000\u0104\u0000k\u0000\u0104\u0000l\u0000\u0104\u0000m\u0000\u0104" +
+                    "\u0000n\u0000\u0104\u0000o\u0000\u0104\u0000p\u0000\u0104\u0000q\u0000\u0104" +
+                    "\u0000r\u0000\u0104\u0000s\u0000\u0104\u0000t\u0000\u0104\u0000u\u0000\u0104" +
+                    "\u0000v\u0000\u0104\u0000w\u0000\u0104\u0000x\u0000\u0104\u0000y\u0000\u0104" +
+                    "\u0000z\u0000\u0104\u0000A\u0000\u0104\u0000B\u0000\u0104\u0000D\u0000\u0104" +
+                    "\u0000E\u0000\u0104\u0000F\u0000\u0104\u0000G\u0000\u0104\u0000J\u0000\u0104" +
+                    "\u0000K\u0000\u0104\u0000L\u0000\u0104\u0000M\u0000\u0104\u0000N\u0000\u0104" +
+                    "\u0000O\u0000\u0104\u0000P\u0000\u0104\u0000Q\u0000\u0104\u0000S\u0000\u0104" +
+                    "\u0000T\u0000\u0104\u0000U\u0000\u0104\u0000V\u0000\u0104\u0000W\u0000\u0104" +
+                    "\u0000X\u0000\u0104\u0000Y\u0000\u0104\u0000a\u0000\u0104\u0000b\u0000\u0104" +
+                    "\u0000c\u0000\u0104\u0000d\u0000\u0104\u0000e\u0000\u0104\u0000f\u0000\u0104" +
+                    "\u0000g\u0000\u0104\u0000h\u0000\u0104\u0000i\u0000\u0104\u0000j\u0000\u0104" +
+                    "\u0000k\u0000\u0104\u0000l\u0000\u0104\u0000m\u0000\u0104\u0000n\u0000\u0104" +
+                    "\u0000o\u0000\u0104\u0000p\u0000\u0104\u0000q\u0000\u0104\u0000r\u0000\u0104" +
+                    "\u0000s\u0000\u0104\u0000t\u0000\u0104\u0000u\u0000\u0104\u0000v\u0000\u0104" +
+                    "\u0000w\u0000\u0104\u0000x\u0000\u0104\u0000y\u0000\u0104\u0000z\u0000\u0104" +
+                    "\u0000A\u0000\u0104\u0000B\u0000\u0104\u0000D\u0000\u0104\u0000E\u0000\u0104" +
+                    "\u0000F\u0000\u0104\u0000G\u0000\u0104\u0000I\u0000\u0104\u0000J\u0000\u0104" +
+                    "\u0000K\u0000\u0104\u0000L\u0000\u0104\u0000M\u0000\u0104\u0000O\u0000\u0104" +
+                    "\u0000S\u0000\u0104\u0000T\u0000\u0104\u0000U\u0000\u0104\u0000V\u0000\u0104" +
+                    "\u0000W\u0000\u0104\u0000X\u0000\u0104\u0000Y\u0000\u0104\u0000a\u0000\u0104" +
+                    "\u0000b\u0000\u0104\u0000c\u0000\u0104\u0000d\u0000\u0104\u0000e\u0000\u0104" +
+                    "\u0000f\u0000\u0104\u0000g\u0000\u0104\u0000h\u0000\u0104\u0000i\u0000\u0104" +
+                    "\u0000j\u0000\u0104\u0000k\u0000\u0104\u0000l\u0000\u0104\u0000m\u0000\u0104" +
+                    "\u0000n\u0000\u0104\u0000o\u0000\u0104\u0000p\u0000\u0104\u0000q\u0000\u0104" +
+                    "\u0000r\u0000\u0104\u0000s\u0000\u0104\u0000t\u0000\u0104\u0000u\u0000\u0104" +
+                    "\u0000v\u0000\u0104\u0000w\u0000\u0104\u0000x\u0000\u0104\u0000y\u0000\u0104" +
+                    "\u0000z\u0000\u0104\u0000A\u0000\u0104\u0000B\u0000\u0104\u0000C\u0000\u0104" +
+                    "\u0000D\u0000\u0104\u0000E\u0000\u0104\u0000F\u0000\u0104\u0000G\u0000\u0104" +
+                    "\u0000H\u0000\u0104\u0000I\u0000\u0104\u0000J\u0000\u0104\u0000K\u0000\u0104" +
+                    "\u0000L\u0000\u0104\u0000M\u0000\u0104\u0000N\u0000\u0104\u0000O\u0000\u0104" +
+                    "\u0000P\u0000\u0104\u0000Q\u0000\u0104\u0000R\u0000\u0104\u0000S\u0000\u0104" +
+                    "\u0000T\u0000\u0104\u0000U\u0000\u0104\u0000V\u0000\u0104\u0000W\u0000\u0104" +
+                    "\u0000X\u0000\u0104\u0000Y\u0000\u0104\u0000Z\u0000\u0104\u0000a\u0000\u0104" +
+                    "\u0000b\u0000\u0104\u0000c\u0000\u0104\u0000d\u0000\u0104\u0000e\u0000\u0104" +
+                    "\u0000f\u0000\u0104\u0000g\u0000\u0104\u0000h\u0000\u0104\u0000i\u0000\u0104" +
+                    "\u0000j\u0000\u0104\u0000k\u0000\u0104\u0000l\u0000\u0104\u0000m\u0000\u0104" +
+                    "\u0000n\u0000\u0104\u0000o\u0000\u0104\u0000p\u0000\u0104\u0000q\u0000\u0104" +
+                    "\u0000r\u0000\u0104\u0000s\u0000\u0104\u0000t\u0000\u0104\u0000u\u0000\u0104" +
+                    "\u0000v\u0000\u0104\u0000w\u0000\u0104\u0000x\u0000\u0104\u0000y\u0000\u0104" +
+                    "\u0000z\u0000\u0104\u0000A\u0000\u0104\u0000B\u0000\u0104\u0000C\u0000\u0104" +
+                    "\u0000D\u0000\u0104\u0000E\u0000\u0104\u0000F\u0000\u0104\u0000G\u0000\u0104" +
+                    "\u0000H\u0000\u0104\u0000I\u0000\u0104\u0000J\u0000\u0104\u0000K\u0000\u0104" +
+                    "\u0000L\u0000\u0104\u0000M\u0000\u0104\u0000N\u0000\u0104\u0000O\u0000\u0104" +
+                    "\u0000P\u0000\u0104\u0000Q\u0000\u0104\u0000R\u0000\u0104\u0000S\u0000\u0104" +
+                    "\u0000T\u0000\u0104\u0000U\u0000\u0104\u0000V\u0000\u0104\u0000W\u0000\u0104" +
+                    "\u0000X\u0000\u0104\u0000Y\u0000\u0104\u0000Z\u0000\u0104\u0000a\u0000\u0104" +
+                    "\u0000b\u0000\u0104\u0000c\u0000\u0104\u0000d\u0000\u0104\u0000e\u0000\u0104" +
+                    "\u0000f\u0000\u0104\u0000g\u0000\u0104\u0000h\u0000\u0104\u0000i\u0000\u0104" +
+                    "\u0000j\u0000\u0104\u0000k\u0000\u0104\u0000l\u0000\u0104\u0000m\u0000\u0104" +
+                    "\u0000n\u0000\u0104\u0000o\u0000\u0104\u0000p\u0000\u0104\u0000q\u0000\u0104" +
+                    "\u0000r\u0000\u0104\u0000s\u0000\u0104\u0000t\u0000\u0104\u0000u\u0000\u0104" +
+                    "\u0000v\u0000\u0104\u0000w\u0000\u0104\u0000x\u0000\u0104\u0000y\u0000\u0104" +
+                    "\u0000z\u0000\u0104\u0000A\u0000\u0104\u0000B\u0000\u0104\u0000C\u0000\u0104" +
+                    "\u0000D\u0000\u0104\u0000E\u0000\u0104\u0000F\u0000\u0104\u0000G\u0000\u0104" +
+                    "\u0000H\u0000\u0104\u0000I\u0000\u0104\u0000J\u0000\u0104\u0000K\u0000\u0104" +
+                    "\u0000L\u0000\u0104\u0000M\u0000\u0104\u0000N\u0000\u0104\u0000O\u0000\u0104" +
+                    "\u0000P\u0000\u0104\u0000Q\u0000\u0104\u0000R\u0000\u0104\u0000S\u0000\u0104" +
+                    "\u0000T\u0000\u0104\u0000U\u0000\u0104\u0000V\u0000\u0104\u0000W\u0000\u0104" +
+                    "\u0000X\u0000\u0104\u0000Y\u0000\u0104\u0000Z\u0000\u0104\u0000a\u0000\u0104" +
+                    "\u0000b\u0000\u0104\u0000c\u0000\u0104\u0000d\u0000\u0104\u0000e\u0000\u0104" +
+                    "\u0000f\u0000\u0104\u0000g\u0000\u0104\u0000h\u0000\u0104\u0000i\u0000\u0104" +
+                    "\u0000j\u0000\u0104\u0000k\u0000\u0104\u0000l\u0000\u0104\u0000m\u0000\u0104" +
+                    "\u0000n\u0000\u0104\u0000o\u0000\u0104\u0000p\u0000\u0104\u0000q\u0000\u0104" +
+                    "\u0000r\u0000\u0104\u0000s\u0000\u0104\u0000t\u0000\u0104\u0000u\u0000\u0104" +
+                    "\u0000v\u0000\u0104\u0000w\u0000\u0104\u0000x\u0000\u0104\u0000y\u0000\u0104" +
+                    "\u0000z\u0000\u0104\u0000A\u0000\u0104\u0000B\u0000\u0104\u0000C\u0000\u0104" +
+                    "\u0000D\u0000\u0104\u0000E\u0000\u0104\u0000F\u0000\u0104\u0000G\u0000\u0104" +
+                    "\u0000H\u0000\u0104\u0000I\u0000\u0104\u0000J\u0000\u0104\u0000K\u0000\u0104" +
+                    "\u0000L\u0000\u0104\u0000M\u0000\u0104\u0000N\u0000\u0104\u0000O\u0000\u0104" +
+                    "\u0000P\u0000\u0104\u0000Q\u0000\u0104\u0000R\u0000\u0104\u0000S\u0000\u0104" +
+                    "\u0000T\u0000\u0104\u0000U\u0000\u0104\u0000V\u0000\u0104\u0000W\u0000\u0104" +
+                    "\u0000X\u0000\u0104\u0000Y\u0000\u0104\u0000Z\u0000\u0104\u0000a\u0000\u0104" +
+                    "\u0000b\u0000\u0104\u0000c\u0000\u0104\u0000d\u0000\u0104\u0000e\u0000\u0104" +
+                    "\u0000f\u0000\u0104\u0000g\u0000\u0104\u0000h\u0000\u0104\u0000i\u0000\u0104" +
+                    "\u0000j\u0000\u0104\u0000k\u0000\u0104\u0000l\u0000\u0104\u0000m\u0000\u0104" +
+                    "\u0000n\u0000\u0104\u0000o\u0000\u0104\u0000p\u0000\u0104\u0000q\u0000\u0104" +
+                    "\u0000r\u0000\u0104\u0000s\u0000\u0104\u0000t\u0000\u0104\u0000u\u0000\u0104" +
+                    "\u0000v\u0000\u0104\u0000w\u0000\u0104\u0000x\u0000\u0104\u0000y\u0000\u0104" +
+                    "\u0000z\u0000\u0104\u0000A\u0000\u0104\u0000B\u0000\u0104\u0000C\u0000\u0104" +
+                    "\u0000D\u0000\u0104\u0000E\u0000\u0104\u0000F\u0000\u0104\u0000G\u0000\u0104" +
+                    "\u0000H\u0000\u0104\u0000I\u0000\u0104\u0000J\u0000\u0104\u0000K\u0000\u0104" +
+                    "\u0000L\u0000\u0104\u0000M\u0000\u0104\u0000N\u0000\u0104\u0000O\u0000\u0104" +
+                    "\u0000P\u0000\u0104\u0000Q\u0000\u0104\u0000R\u0000\u0104\u0000S\u0000\u0104" +
+                    "\u0000T\u0000\u0104\u0000U\u0000\u0104\u0000V\u0000\u0104\u0000W\u0000\u0104" +
+                    "\u0000X\u0000\u0104\u0000Y\u0000\u0104\u0000Z\u0000\u0104\u0000a\u0000\u0104" +
+                    "\u0000b\u0000\u0104\u0000c\u0000\u0104\u0000d\u0000\u0104\u0000e\u0000\u0104" +
+                    "\u0000f\u0000\u0104\u0000g\u0000\u0104\u0000h\u0000\u0104\u0000i\u0000\u0104" +
+                    "\u0000j\u0000\u0104\u0000k\u0000\u0104\u0000l\u0000\u0104\u0000m\u0000\u0104" +
+                    "\u0000n\u0000\u0104\u0000o\u0000\u0104\u0000p\u0000\u0104\u0000q\u0000\u0104" +
+                    "\u0000r\u0000\u0104\u0000s\u0000\u0104\u0000t\u0000\u0104\u0000u\u0000\u0104" +
+                    "\u0000v\u0000\u0104\u0000w\u0000\u0104\u0000x\u0000\u0104\u0000y\u0000\u0104" +
+                    "\u0000z\u0000\u0104\u0000A\u0000\u0104\u0000B\u0000\u0104\u0000C\u0000\u0104" +
+                    "\u0000D\u0000\u0104\u0000E\u0000\u0104\u0000F\u0000\u0104\u0000G\u0000\u0104" +
+                    "\u0000H\u0000\u0104\u0000I\u0000\u0104\u0000J\u0000\u0104\u0000K\u0000\u0104" +
+                    "\u0000L\u0000\u0104\u0000M\u0000\u0104\u0000N\u0000\u0104\u0000O\u0000\u0104" +
+                    "\u0000P\u0000\u0104\u0000Q\u0000\u0104\u0000R\u0000\u0104\u0000S\u0000\u0104" +
+                    "\u0000T\u0000\u0104\u0000U\u0000\u0104\u0000V\u0000\u0104\u0000W\u0000\u0104" +
+                    "\u0000X\u0000\u0104\u0000Y\u0000\u0104\u0000Z\u0000\u0104\u0000a\u0000\u0104" +
+                    "\u0000b\u0000\u0104\u0000c\u0000\u0104\u0000d\u0000\u0104\u0000e\u0000\u0104" +
+                    "\u0000f\u0000\u0104\u0000g\u0000\u0104\u0000h\u0000\u0104\u0000i\u0000\u0104" +
+                    "\u0000j\u0000\u0104\u0000k\u0000\u0104\u0000l\u0000\u0104\u0000m\u0000\u0104" +
+                    "\u0000n\u0000\u0104\u0000o\u0000\u0104\u0000p\u0000\u0104\u0000q\u0000\u0104" +
+                    "\u0000r\u0000\u0104\u0000s\u0000\u0104\u0000t\u0000\u0104\u0000u\u0000\u0104" +
+                    "\u0000v\u0000\u0104\u0000w\u0000\u0104\u0000x\u0000\u0104\u0000y\u0000\u0104" +
+                    "\u0000z\u0000\u0104\u0000\u0131\u0000\u0104\u0000\u0237\u0000\u0104\u0000\u0391\u0000\u0104" +
+                    "\u0000\u0392\u0000\u0104\u0000\u0393\u0000\u0104\u0000\u0394\u0000\u0104\u0000\u0395\u0000\u0104" +
+                    "\u0000\u0396\u0000\u0104\u0000\u0397\u0000\u0104\u0000\u0398\u0000\u0104\u0000\u0399\u0000\u0104" +
+                    "\u0000\u039a\u0000\u0104\u0000\u039b\u0000\u0104\u0000\u039c\u0000\u0104\u0000\u039d\u0000\u0104" +
+                    "\u0000\u039e\u0000\u0104\u0000\u039f\u0000\u0104\u0000\u03a0\u0000\u0104\u0000\u03a1\u0000\u0104" +
+                    "\u0000\u03f4\u0000\u0104\u0000\u03a3\u0000\u0104\u0000\u03a4\u0000\u0104\u0000\u03a5\u0000\u0104" +
+                    "\u0000\u03a6\u0000\u0104\u0000\u03a7\u0000\u0104\u0000\u03a8\u0000\u0104\u0000\u03a9\u0000\u0104" +
+                    "\u0000\u2207\u0000\u0104\u0000\u03b1\u0000\u0104\u0000\u03b2\u0000\u0104\u0000\u03b3\u0000\u0104" +
+                    "\u0000\u03b4\u0000\u0104\u0000\u03b5\u0000\u0104\u0000\u03b6\u0000\u0104\u0000\u03b7\u0000\u0104" +
+                    "\u0000\u03b8\u0000\u0104\u0000\u03b9\u0000\u0104\u0000\u03ba\u0000\u0104\u0000\u03bb\u0000\u0104" +
+                    "\u0000\u03bc\u0000\u0104\u0000\u03bd\u0000\u0104\u0000\u03be\u0000\u0104\u0000\u03bf\u0000\u0104" +
+                    "\u0000\u03c0\u0000\u0104\u0000\u03c1\u0000\u0104\u0000\u03c2\u0000\u0104\u0000\u03c3\u0000\u0104" +
+                    "\u0000\u03c4\u0000\u0104\u0000\u03c5\u0000\u0104\u0000\u03c6\u0000\u0104\u0000\u03c7\u0000\u0104" +
+                    "\u0000\u03c8\u0000\u0104\u0000\u03c9\u0000\u0104\u0000\u2202\u0000\u0104\u0000\u03f5\u0000\u0104" +
+                    "\u0000\u03d1\u0000\u0104\u0000\u03f0\u0000\u0104\u0000\u03d5\u0000\u0104\u0000\u03f1\u0000\u0104" +
+                    "\u0000\u03d6\u0000\u0104\u0000\u0391\u0000\u0104\u0000\u0392\u0000\u0104\u0000\u0393\u0000\u0104" +
+                    "\u0000\u0394\u0000\u0104\u0000\u0395\u0000\u0104\u0000\u0396\u0000\u0104\u0000\u0397\u0000\u0104" +
+                    "\u0000\u0398\u0000\u0104\u0000\u0399\u0000\u0104\u0000\u039a\u0000\u0104\u0000\u039b\u0000\u0104" +
+                    "\u0000\u039c\u0000\u0104\u0000\u039d\u0000\u0104\u0000\u039e\u0000\u0104\u0000\u039f\u0000\u0104" +
+                    "\u0000\u03a0\u0000\u0104\u0000\u03a1\u0000\u0104\u0000\u03f4\u0000\u0104\u0000\u03a3\u0000\u0104" +
+                    "\u0000\u03a4\u0000\u0104\u0000\u03a5\u0000\u0104\u0000\u03a6\u0000\u0104\u0000\u03a7\u0000\u0104" +
+                    "\u0000\u03a8\u0000\u0104\u0000\u03a9\u0000\u0104\u0000\u2207\u0000\u0104\u0000\u03b1\u0000\u0104" +
+                    "\u0000\u03b2\u0000\u0104\u0000\u03b3\u0000\u0104\u0000\u03b4\u0000\u0104\u0000\u03b5\u0000\u0104" +
+                    "\u0000\u03b6\u0000\u0104\u0000\u03b7\u0000\u0104\u0000\u03b8\u0000\u0104\u0000\u03b9\u0000\u0104" +
+                    "\u0000\u03ba\u0000\u0104\u0000\u03bb\u0000\u0104\u0000\u03bc\u0000\u0104\u0000\u03bd\u0000\u0104" +
+                    "\u0000\u03be\u0000\u0104\u0000\u03bf\u0000\u0104\u0000\u03c0\u0000\u0104\u0000\u03c1\u0000\u0104" +
+                    "\u0000\u03c2\u0000\u0104\u0000\u03c3\u0000\u0104\u0000\u03c4\u0000\u0104\u0000\u03c5\u0000\u0104" +
+                    "\u0000\u03c6\u0000\u0104\u0000\u03c7\u0000\u0104\u0000\u03c8\u0000\u0104\u0000\u03c9\u0000\u0104" +
+                    "\u0000\u2202\u0000\u0104\u0000\u03f5\u0000\u0104\u0000\u03d1\u0000\u0104\u0000\u03f0\u0000\u0104" +
+                    "\u0000\u03d5\u0000\u0104\u0000\u03f1\u0000\u0104\u0000\u03d6\u0000\u0104\u0000\u0391\u0000\u0104" +
+                    "\u0000\u0392\u0000\u0104\u0000\u0393\u0000\u0104\u0000\u0394\u0000\u0104\u0000\u0395\u0000\u0104" +
+                    "\u0000\u0396\u0000\u0104\u0000\u0397\u0000\u0104\u0000\u0398\u0000\u0104\u0000\u0399\u0000\u0104" +
+                    "\u0000\u039a\u0000\u0104\u0000\u039b\u0000\u0104\u0000\u039c\u0000\u0104\u0000\u039d\u0000\u0104" +
+                    "\u0000\u039e\u0000\u0104\u0000\u039f\u0000\u0104\u0000\u03a0\u0000\u0104\u0000\u03a1\u0000\u0104" +
+                    "\u0000\u03f4\u0000\u0104\u0000\u03a3\u0000\u0104\u0000\u03a4\u0000\u0104\u0000\u03a5\u0000\u0104" +
+                    "\u0000\u03a6\u0000\u0104\u0000\u03a7\u0000\u0104\u0000\u03a8\u0000\u0104\u0000\u03a9\u0000\u0104" +
+                    "\u0000\u2207\u0000\u0104\u0000\u03b1\u0000\u0104\u0000\u03b2\u0000\u0104\u0000\u03b3\u0000\u0104" +
+                    "\u0000\u03b4\u0000\u0104\u0000\u03b5\u0000\u0104\u0000\u03b6\u0000\u0104\u0000\u03b7\u0000\u0104" +
+                    "\u0000\u03b8\u0000\u0104\u0000\u03b9\u0000\u0104\u0000\u03ba\u0000\u0104\u0000\u03bb\u0000\u0104" +
+                    "\u0000\u03bc\u0000\u0104\u0000\u03bd\u0000\u0104\u0000\u03be\u0000\u0104\u0000\u03bf\u0000\u0104" +
+                    "\u0000\u03c0\u0000\u0104\u0000\u03c1\u0000\u0104\u0000\u03c2\u0000\u0104\u0000\u03c3\u0000\u0104" +
+                    "\u0000\u03c4\u0000\u0104\u0000\u03c5\u0000\u0104\u0000\u03c6\u0000\u0104\u0000\u03c7\u0000\u0104" +
+                    "\u0000\u03c8\u0000\u0104\u0000\u03c9\u0000\u0104\u0000\u2202\u0000\u0104\u0000\u03f5\u0000\u0104" +
+                    "\u0000\u03d1\u0000\u0104\u0000\u03f0\u0000\u0104\u0000\u03d5\u0000\u0104\u0000\u03f1\u0000\u0104" +
+                    "\u0000\u03d6\u0000\u0104\u0000\u0391\u0000\u0104\u0000\u0392\u0000\u0104\u0000\u0393\u0000\u0104" +
+                    "\u0000\u0394\u0000\u0104\u0000\u0395\u0000\u0104\u0000\u0396\u0000\u0104\u0000\u0397\u0000\u0104" +
+                    "\u0000\u0398\u0000\u0104\u0000\u0399\u0000\u0104\u0000\u039a\u0000\u0104\u0000\u039b\u0000\u0104" +
+                    "\u0000\u039c\u0000\u0104\u0000\u039d\u0000\u0104\u0000\u039e\u0000\u0104\u0000\u039f\u0000\u0104" +
+                    "\u0000\u03a0\u0000\u0104\u0000\u03a1\u0000\u0104\u0000\u03f4\u0000\u0104\u0000\u03a3\u0000\u0104" +
+                    "\u0000\u03a4\u0000\u0104\u0000\u03a5\u0000\u0104\u0000\u03a6\u0000\u0104\u0000\u03a7\u0000\u0104" +
+                    "\u0000\u03a8\u0000\u0104\u0000\u03a9\u0000\u0104\u0000\u2207\u0000\u0104\u0000\u03b1\u0000\u0104" +
+                    "\u0000\u03b2\u0000\u0104\u0000\u03b3\u0000\u0104\u0000\u03b4\u0000\u0104\u0000\u03b5\u0000\u0104" +
+                    "\u0000\u03b6\u0000\u0104\u0000\u03b7\u0000\u0104\u0000\u03b8\u0000\u0104\u0000\u03b9\u0000\u0104" +
+                    "\u0000\u03ba\u0000\u0104\u0000\u03bb\u0000\u0104\u0000\u03bc\u0000\u0104\u0000\u03bd\u0000\u0104" +
+                    "\u0000\u03be\u0000\u0104\u0000\u03bf\u0000\u0104\u0000\u03c0\u0000\u0104\u0000\u03c1\u0000\u0104" +
+                    "\u0000\u03c2\u0000\u0104\u0000\u03c3\u0000\u0104\u0000\u03c4\u0000\u0104\u0000\u03c5\u0000\u0104" +
+                    "\u0000\u03c6\u0000\u0104\u0000\u03c7\u0000\u0104\u0000\u03c8\u0000\u0104\u0000\u03c9\u0000\u0104" +
+                    "\u0000\u2202\u0000\u0104\u0000\u03f5\u0000\u0104\u0000\u03d1\u0000\u0104\u0000\u03f0\u0000\u0104" +
+                    "\u0000\u03d5\u0000\u0104\u0000\u03f1\u0000\u0104\u0000\u03d6\u0000\u0104\u0000\u0391\u0000\u0104" +
+                    "\u0000\u0392\u0000\u0104\u0000\u0393\u0000\u0104\u0000\u0394\u0000\u0104\u0000\u0395\u0000\u0104" +
+                    "\u0000\u0396\u0000\u0104\u0000\u0397\u0000\u0104\u0000\u0398\u0000\u0104\u0000\u0399\u0000\u0104" +
+                    "\u0000\u039a\u0000\u0104\u0000\u039b\u0000\u0104\u0000\u039c\u0000\u0104\u0000\u039d\u0000\u0104" +
+                    "\u0000\u039e\u0000\u0104\u0000\u039f\u0000\u0104\u0000\u03a0\u0000\u0104\u0000\u03a1\u0000\u0104" +
+                    "\u0000\u03f4\u0000\u0104\u0000\u03a3\u0000\u0104\u0000\u03a4\u0000\u0104\u0000\u03a5\u0000\u0104" +
+                    "\u0000\u03a6\u0000\u0104\u0000\u03a7\u0000\u0104\u0000\u03a8\u0000\u0104\u0000\u03a9\u0000\u0104" +
+                    "\u0000\u2207\u0000\u0104\u0000\u03b1\u0000\u0104\u0000\u03b2\u0000\u0104\u0000\u03b3\u0000\u0104" +
+                    "\u0000\u03b4\u0000\u0104\u0000\u03b5\u0000\u0104\u0000\u03b6\u0000\u0104\u0000\u03b7\u0000\u0104" +
+                    "\u0000\u03b8\u0000\u0104\u0000\u03b9\u0000\u0104\u0000\u03ba\u0000\u0104\u0000\u03bb\u0000\u0104" +
+                    "\u0000\u03bc\u0000\u0104\u0000\u03bd\u0000\u0104\u0000\u03be\u0000\u0104\u0000\u03bf\u0000\u0104" +
+                    "\u0000\u03c0\u0000\u0104\u0000\u03c1\u0000\u0104\u0000\u03c2\u0000\u0104\u0000\u03c3\u0000\u0104" +
+                    "\u0000\u03c4\u0000\u0104\u0000\u03c5\u0000\u0104\u0000\u03c6\u0000\u0104\u0000\u03c7\u0000\u0104" +
+                    "\u0000\u03c8\u0000\u0104\u0000\u03c9\u0000\u0104\u0000\u2202\u0000\u0104\u0000\u03f5\u0000\u0104" +
+                    "\u0000\u03d1\u0000\u0104\u0000\u03f0\u0000\u0104\u0000\u03d5\u0000\u0104\u0000\u03f1\u0000\u0104" +
+                    "\u0000\u03d6\u0000\u0104\u0000\u03dc\u0000\u0104\u0000\u03dd\u0000\u0104\u00000\u0000\u0104" +
+                    "\u00001\u0000\u0104\u00002\u0000\u0104\u00003\u0000\u0104\u00004\u0000\u0104" +
+                    "\u00005\u0000\u0104\u00006\u0000\u0104\u00007\u0000\u0104\u00008\u0000\u0104" +
+                    "\u00009\u0000\u0104\u00000\u0000\u0104\u00001\u0000\u0104\u00002\u0000\u0104" +
+                    "\u00003\u0000\u0104\u00004\u0000\u0104\u00005\u0000\u0104\u00006\u0000\u0104" +
+                    "\u00007\u0000\u0104\u00008\u0000\u0104\u00009\u0000\u0104\u00000\u0000\u0104" +
+                    "\u00001\u0000\u0104\u00002\u0000\u0104\u00003\u0000\u0104\u00004\u0000\u0104" +
+                    "\u00005\u0000\u0104\u00006\u0000\u0104\u00007\u0000\u0104\u00008\u0000\u0104" +
+                    "\u00009\u0000\u0104\u00000\u0000\u0104\u00001\u0000\u0104\u00002\u0000\u0104" +
+                    "\u00003\u0000\u0104\u00004\u0000\u0104\u00005\u0000\u0104\u00006\u0000\u0104" +
+                    "\u00007\u0000\u0104\u00008\u0000\u0104\u00009\u0000\u0104\u00000\u0000\u0104" +
+                    "\u00001\u0000\u0104\u00002\u0000\u0104\u00003\u0000\u0104\u00004\u0000\u0104" +
+                    "\u00005\u0000\u0104\u00006\u0000\u0104\u00007\u0000\u0104\u00008\u0000\u0104" +
+                    "\u00009\u0000\u0104\u0000\u0627\u0000\u0104\u0000\u0628\u0000\u0104\u0000\u062c\u0000\u0104" +
+                    "\u0000\u062f\u0000\u0104\u0000\u0648\u0000\u0104\u0000\u0632\u0000\u0104\u0000\u062d\u0000\u0104" +
+                    "\u0000\u0637\u0000\u0104\u0000\u064a\u0000\u0104\u0000\u0643\u0000\u0104\u0000\u0644\u0000\u0104" +
+                    "\u0000\u0645\u0000\u0104\u0000\u0646\u0000\u0104\u0000\u0633\u0000\u0104\u0000\u0639\u0000\u0104" +
+                    "\u0000\u0641\u0000\u0104\u0000\u0635\u0000\u0104\u0000\u0642\u0000\u0104\u0000\u0631\u0000\u0104" +
+                    "\u0000\u0634\u0000\u0104\u0000\u062a\u0000\u0104\u0000\u062b\u0000\u0104\u0000\u062e\u0000\u0104" +
+                    "\u0000\u0630\u0000\u0104\u0000\u0636\u0000\u0104\u0000\u0638\u0000\u0104\u0000\u063a\u0000\u0104" +
+                    "\u0000\u066e\u0000\u0104\u0000\u06ba\u0000\u0104\u0000\u06a1\u0000\u0104\u0000\u066f\u0000\u0104" +
+                    "\u0000\u0628\u0000\u0104\u0000\u062c\u0000\u0104\u0000\u0647\u0000\u0104\u0000\u062d\u0000\u0104" +
+                    "\u0000\u064a\u0000\u0104\u0000\u0643\u0000\u0104\u0000\u0644\u0000\u0104\u0000\u0645\u0000\u0104" +
+                    "\u0000\u0646\u0000\u0104\u0000\u0633\u0000\u0104\u0000\u0639\u0000\u0104\u0000\u0641\u0000\u0104" +
+                    "\u0000\u0635\u0000\u0104\u0000\u0642\u0000\u0104\u0000\u0634\u0000\u0104\u0000\u062a\u0000\u0104" +
+                    "\u0000\u062b\u0000\u0104\u0000\u062e\u0000\u0104\u0000\u0636\u0000\u0104\u0000\u063a\u0000\u0104" +
+                    "\u0000\u062c\u0000\u0104\u0000\u062d\u0000\u0104\u0000\u064a\u0000\u0104\u0000\u0644\u0000\u0104" +
+                    "\u0000\u0646\u0000\u0104\u0000\u0633\u0000\u0104\u0000\u0639\u0000\u0104\u0000\u0635\u0000\u0104" +
+                    "\u0000\u0642\u0000\u0104\u0000\u0634\u0000\u0104\u0000\u062e\u0000\u0104\u0000\u0636\u0000\u0104" +
+                    "\u0000\u063a\u0000\u0104\u0000\u06ba\u0000\u0104\u0000\u066f\u0000\u0104\u0000\u0628\u0000\u0104" +
+                    "\u0000\u062c\u0000\u0104\u0000\u0647\u0000\u0104\u0000\u062d\u0000\u0104\u0000\u0637\u0000\u0104" +
+                    "\u0000\u064a\u0000\u0104\u0000\u0643\u0000\u0104\u0000\u0645\u0000\u0104\u0000\u0646\u0000\u0104" +
+                    "\u0000\u0633\u0000\u0104\u0000\u0639\u0000\u0104\u0000\u0641\u0000\u0104\u0000\u0635\u0000\u0104" +
+                    "\u0000\u0642\u0000\u0104\u0000\u0634\u0000\u0104\u0000\u062a\u0000\u0104\u0000\u062b\u0000\u0104" +
+                    "\u0000\u062e\u0000\u0104\u0000\u0636\u0000\u0104\u0000\u0638\u0000\u0104\u0000\u063a\u0000\u0104" +
+                    "\u0000\u066e\u0000\u0104\u0000\u06a1\u0000\u0104\u0000\u0627\u0000\u0104\u0000\u0628\u0000\u0104" +
+                    "\u0000\u062c\u0000\u0104\u0000\u062f\u0000\u0104\u0000\u0647\u0000\u0104\u0000\u0648\u0000\u0104" +
+                    "\u0000\u0632\u0000\u0104\u0000\u062d\u0000\u0104\u0000\u0637\u0000\u0104\u0000\u064a\u0000\u0104" +
+                    "\u0000\u0644\u0000\u0104\u0000\u0645\u0000\u0104\u0000\u0646\u0000\u0104\u0000\u0633\u0000\u0104" +
+                    "\u0000\u0639\u0000\u0104\u0000\u0641\u0000\u0104\u0000\u0635\u0000\u0104\u0000\u0642\u0000\u0104" +
+                    "\u0000\u0631\u0000\u0104\u0000\u0634\u0000\u0104\u0000\u062a\u0000\u0104\u0000\u062b\u0000\u0104" +
+                    "\u0000\u062e\u0000\u0104\u0000\u0630\u0000\u0104\u0000\u0636\u0000\u0104\u0000\u0638\u0000\u0104" +
+                    "\u0000\u063a\u0000\u0104\u0000\u0628\u0000\u0104\u0000\u062c\u0000\u0104\u0000\u062f\u0000\u0104" +
+                    "\u0000\u0648\u0000\u0104\u0000\u0632\u0000\u0104\u0000\u062d\u0000\u0104\u0000\u0637\u0000\u0104" +
+                    "\u0000\u064a\u0000\u0104\u0000\u0644\u0000\u0104\u0000\u0645\u0000\u0104\u0000\u0646\u0000\u0104" +
+                    "\u0000\u0633\u0000\u0104\u0000\u0639\u0000\u0104\u0000\u0641\u0000\u0104\u0000\u0635\u0000\u0104" +
+                    "\u0000\u0642\u0000\u0104\u0000\u0631\u0000\u0104\u0000\u0634\u0000\u0104\u0000\u062a\u0000\u0104" +
+                    "\u0000\u062b\u0000\u0104\u0000\u062e\u0000\u0104\u0000\u0630\u0000\u0104\u0000\u0636\u0000\u0104" +
+                    "\u0000\u0638\u0000\u0104\u0000\u063a\u0000\u0201\u00000\u0000.\u0000\u0201\u00000" +
+                    "\u0000,\u0000\u0201\u00001\u0000,\u0000\u0201\u00002\u0000,\u0000\u0201" +
+                    "\u00003\u0000,\u0000\u0201\u00004\u0000,\u0000\u0201\u00005\u0000," +
+                    "\u0000\u0201\u00006\u0000,\u0000\u0201\u00007\u0000,\u0000\u0201\u00008" +
+                    "\u0000,\u0000\u0201\u00009\u0000,\u0000\u0301\u0000(\u0000A\u0000)" +
+                    "\u0000\u0301\u0000(\u0000B\u0000)\u0000\u0301\u0000(\u0000C\u0000)" +
+                    "\u0000\u0301\u0000(\u0000D\u0000)\u0000\u0301\u0000(\u0000E\u0000)" +
+                    "\u0000\u0301\u0000(\u0000F\u0000)\u0000\u0301\u0000(\u0000G\u0000)" +
+                    "\u0000\u0301\u0000(\u0000H\u0000)\u0000\u0301\u0000(\u0000I\u0000)" +
+                    "\u0000\u0301\u0000(\u0000J\u0000)\u0000\u0301\u0000(\u0000K\u0000)" +
+                    "\u0000\u0301\u0000(\u0000L\u0000)\u0000\u0301\u0000(\u0000M\u0000)" +
+                    "\u0000\u0301\u0000(\u0000N\u0000)\u0000\u0301\u0000(\u0000O\u0000)" +
+                    "\u0000\u0301\u0000(\u0000P\u0000)\u0000\u0301\u0000(\u0000Q\u0000)" +
+                    "\u0000\u0301\u0000(\u0000R\u0000)\u0000\u0301\u0000(\u0000S\u0000)" +
+                    "\u0000\u0301\u0000(\u0000T\u0000)\u0000\u0301\u0000(\u0000U\u0000)" +
+                    "\u0000\u0301\u0000(\u0000V\u0000)\u0000\u0301\u0000(\u0000W\u0000)" +
+                    "\u0000\u0301\u0000(\u0000X\u0000)\u0000\u0301\u0000(\u0000Y\u0000)" +
+                    "\u0000\u0301\u0000(\u0000Z\u0000)\u0000\u0301\u0000\u3014\u0000S\u0000\u3015" +
+                    "\u0000\u0102\u0000C\u0000\u0102\u0000R\u0000\u0202\u0000C\u0000D\u0000\u0202" +
+                    "\u0000W\u0000Z\u0000\u010c\u0000A\u0000\u010c\u0000B\u0000\u010c\u0000C" +
+                    "\u0000\u010c\u0000D\u0000\u010c\u0000E\u0000\u010c\u0000F\u0000\u010c\u0000G" +
+                    "\u0000\u010c\u0000H\u0000\u010c\u0000I\u0000\u010c\u0000J\u0000\u010c\u0000K" +
+                    "\u0000\u010c\u0000L\u0000\u010c\u0000M\u0000\u010c\u0000N\u0000\u010c\u0000O" +
+                    "\u0000\u010c\u0000P\u0000\u010c\u0000Q\u0000\u010c\u0000R\u0000\u010c\u0000S" +
+                    "\u0000\u010c\u0000T\u0000\u010c\u0000U\u0000\u010c\u0000V\u0000\u010c\u0000W" +
+                    "\u0000\u010c\u0000X\u0000\u010c\u0000Y\u0000\u010c\u0000Z\u0000\u020c\u0000H" +
+                    "\u0000V\u0000\u020c\u0000M\u0000V\u0000\u020c\u0000S\u0000D\u0000\u020c" +
+                    "\u0000S\u0000S\u0000\u030c\u0000P\u0000P\u0000V\u0000\u020c\u0000W" +
+                    "\u0000C\u0000\u020e\u0000M\u0000C\u0000\u020e\u0000M\u0000D\u0000\u020e" +
+                    "\u0000M\u0000R\u0000\u020c\u0000D\u0000J\u0000\u020c\u0000\u307b\u0000\u304b" +
+                    "\u0000\u020c\u0000\u30b3\u0000\u30b3\u0000\u010c\u0000\u30b5\u0000\u010c\u0000\u624b\u0000\u010c" +
+                    "\u0000\u5b57\u0000\u010c\u0000\u53cc\u0000\u010c\u0000\u30c7\u0000\u010c\u0000\u4e8c\u0000\u010c" +
+                    "\u0000\u591a\u0000\u010c\u0000\u89e3\u0000\u010c\u0000\u5929\u0000\u010c\u0000\u4ea4\u0000\u010c" +
+                    "\u0000\u6620\u0000\u010c\u0000\u7121\u0000\u010c\u0000\u6599\u0000\u010c\u0000\u524d\u0000\u010c" +
+                    "\u0000\u5f8c\u0000\u010c\u0000\u518d\u0000\u010c\u0000\u65b0\u0000\u010c\u0000\u521d\u0000\u010c" +
+                    "\u0000\u7d42\u0000\u010c\u0000\u751f\u0000\u010c\u0000\u8ca9\u0000\u010c\u0000\u58f0\u0000\u010c" +
+                    "\u0000\u5439\u0000\u010c\u0000\u6f14\u0000\u010c\u0000\u6295\u0000\u010c\u0000\u6355\u0000\u010c" +
+                    "\u0000\u4e00\u0000\u010c\u0000\u4e09\u0000\u010c\u0000\u904a\u0000\u010c\u0000\u5de6\u0000\u010c" +
+                    "\u0000\u4e2d\u0000\u010c\u0000\u53f3\u0000\u010c\u0000\u6307\u0000\u010c\u0000\u8d70\u0000\u010c" +
+                    "\u0000\u6253\u0000\u010c\u0000\u7981\u0000\u010c\u0000\u7a7a\u0000\u010c\u0000\u5408\u0000\u010c" +
+                    "\u0000\u6e80\u0000\u010c\u0000\u6709\u0000\u010c\u0000\u6708\u0000\u010c\u0000\u7533\u0000\u010c" +
+                    "\u0000\u5272\u0000\u010c\u0000\u55b6\u0000\u010c\u0000\u914d\u0000\u0301\u0000\u3014\u0000\u672c" +
+                    "\u0000\u3015\u0000\u0301\u0000\u3014\u0000\u4e09\u0000\u3015\u0000\u0301\u0000\u3014\u0000\u4e8c" +
+                    "\u0000\u3015\u0000\u0301\u0000\u3014\u0000\u5b89\u0000\u3015\u0000\u0301\u0000\u3014\u0000\u70b9" +
+                    "\u0000\u3015\u0000\u0301\u0000\u3014\u0000\u6253\u0000\u3015\u0000\u0301\u0000\u3014\u0000\u76d7" +
+                    "\u0000\u3015\u0000\u0301\u0000\u3014\u0000\u52dd\u0000\u3015\u0000\u0301\u0000\u3014\u0000\u6557" +
+                    "\u0000\u3015\u0000\u0102\u0000\u5f97\u0000\u0102\u0000\u53ef\u0000\u0104\u00000\u0000\u0104" +
+                    "\u00001\u0000\u0104\u00002\u0000\u0104\u00003\u0000\u0104\u00004\u0000\u0104" +
+                    "\u00005\u0000\u0104\u00006\u0000\u0104\u00007\u0000\u0104\u00008\u0000\u0104" +
+                    "\u00009\u0000\u0100\u0000\u4e3d\u0000\u0100\u0000\u4e38\u0000\u0100\u0000\u4e41\u0000\u0100" +
+                    "\u0002\u0122\u0000\u0100\u0000\u4f60\u0000\u0100\u0000\u4fae\u0000\u0100\u0000\u4fbb\u0000\u0100" +
+                    "\u0000\u5002\u0000\u0100\u0000\u507a\u0000\u0100\u0000\u5099\u0000\u0100\u0000\u50e7\u0000\u0100" +
+                    "\u0000\u50cf\u0000\u0100\u0000\u349e\u0000\u0100\u0002\u063a\u0000\u0100\u0000\u514d\u0000\u0100" +
+                    "\u0000\u5154\u0000\u0100\u0000\u5164\u0000\u0100\u0000\u5177\u0000\u0100\u0002\u051c\u0000\u0100" +
+                    "\u0000\u34b9\u0000\u0100\u0000\u5167\u0000\u0100\u0000\u518d\u0000\u0100\u0002\u054b\u0000\u0100" +
+                    "\u0000\u5197\u0000\u0100\u0000\u51a4\u0000\u0100\u0000\u4ecc\u0000\u0100\u0000\u51ac\u0000\u0100" +
+                    "\u0000\u51b5\u0000\u0100\u0002\u91df\u0000\u0100\u0000\u51f5\u0000\u0100\u0000\u5203\u0000\u0100" +
+                    "\u0000\u34df\u0000\u0100\u0000\u523b\u0000\u0100\u0000\u5246\u0000\u0100\u0000\u5272\u0000\u0100" +
+                    "\u0000\u5277\u0000\u0100\u0000\u3515\u0000\u0100\u0000\u52c7\u0000\u0100\u0000\u52c9\u0000\u0100" +
+                    "\u0000\u52e4\u0000\u0100\u0000\u52fa\u0000\u0100\u0000\u5305\u0000\u0100\u0000\u5306\u0000\u0100" +
+                    "\u0000\u5317\u0000\u0100\u0000\u5349\u0000\u0100\u0000\u5351\u0000\u0100\u0000\u535a\u0000\u0100" +
+                    "\u0000\u5373\u0000\u0100\u0000\u537d\u0000\u0100\u0000\u537f\u0000\u0100\u0000\u537f\u0000\u0100" +
+                    "\u0000\u537f\u0000\u0100\u0002\u0a2c\u0000\u0100\u0000\u7070\u0000\u0100\u0000\u53ca\u0000\u0100" +
+                    "\u0000\u53df\u0000\u0100\u0002\u0b63\u0000\u0100\u0000\u53eb\u0000\u0100\u0000\u53f1\u0000\u0100" +
+                    "\u0000\u5406\u0000\u0100\u0000\u549e\u0000\u0100\u0000\u5438\u0000\u0100\u0000\u5448\u0000\u0100" +
+                    "\u0000\u5468\u0000\u0100\u0000\u54a2\u0000\u0100\u0000\u54f6\u0000\u0100\u0000\u5510\u0000\u0100" +
+                    "\u0000\u5553\u0000\u0100\u0000\u5563\u0000\u0100\u0000\u5584\u0000\u0100\u0000\u5584\u0000\u0100" +
+                    "\u0000\u5599\u0000\u0100\u0000\u55ab\u0000\u0100\u0000\u55b3\u0000\u0100\u0000\u55c2\u0000\u0100" +
+                    "\u0000\u5716\u0000\u0100\u0000\u5606\u0000\u0100\u0000\u5717\u0000\u0100\u0000\u5651\u0000\u0100" +
+                    "\u0000\u5674\u0000\u0100\u0000\u5207\u0000\u0100\u0000\u58ee\u0000\u0100\u0000\u57ce\u0000\u0100" +
+                    "\u0000\u57f4\u0000\u0100\u0000\u580d\u0000\u0100\u0000\u578b\u0000\u0100\u0000\u5832\u0000\u0100" +
+                    "\u0000\u5831\u0000\u0100\u0000\u58ac\u0000\u0100\u0002\u14e4\u0000\u0100\u0000\u58f2\u0000\u0100" +
+                    "\u0000\u58f7\u0000\u0100\u0000\u5906\u0000\u0100\u0000\u591a\u0000\u0100\u0000\u5922\u0000\u0100" +
+                    "\u0000\u5962\u0000\u0100\u0002\u16a8\u0000\u0100\u0002\u16ea\u0000\u0100\u0000\u59ec\u0000\u0100" +
+                    "\u0000\u5a1b\u0000\u0100\u0000\u5a27\u0000\u0100\u0000\u59d8\u0000\u0100\u0000\u5a66\u0000\u0100" +
+                    "\u0000\u36ee\u0000\u0100\u0000\u36fc\u0000\u0100\u0000\u5b08\u0000\u0100\u0000\u5b3e\u0000\u0100" +
+                    "\u0000\u5b3e\u0000\u0100\u0002\u19c8\u0000\u0100\u0000\u5bc3\u0000\u0100\u0000\u5bd8\u0000\u0100" +
+                    "\u0000\u5be7\u0000\u0100\u0000\u5bf3\u0000\u0100\u0002\u1b18\u0000\u0100\u0000\u5bff\u0000\u0100" +
+                    "\u0000\u5c06\u0000\u0100\u0000\u5f53\u0000\u0100\u0000\u5c22\u0000\u0100\u0000\u3781\u0000\u0100" +
+                    "\u0000\u5c60\u0000\u0100\u0000\u5c6e\u0000\u0100\u0000\u5cc0\u0000\u0100\u0000\u5c8d\u0000\u0100" +
+                    "\u0002\u1de4\u0000\u0100\u0000\u5d43\u0000\u0100\u0002\u1de6\u0000\u0100\u0000\u5d6e\u0000\u0100" +
+                    "\u0000\u5d6b\u0000\u0100\u0000\u5d7c\u0000\u0100\u0000\u5de1\u0000\u0100\u0000\u5de2\u0000\u0100" +
+                    "\u0000\u382f\u0000\u0100\u0000\u5dfd\u0000\u0100\u0000\u5e28\u0000\u0100\u0000\u5e3d\u0000\u0100" +
+                    "\u0000\u5e69\u0000\u0100\u0000\u3862\u0000\u0100\u0002\u2183\u0000\u0100\u0000\u387c\u0000\u0100" +
+                    "\u0000\u5eb0\u0000\u0100\u0000\u5eb3\u0000\u0100\u0000\u5eb6\u0000\u0100\u0000\u5eca\u0000\u0100" +
+                    "\u0002\ua392\u0000\u0100\u0000\u5efe\u0000\u0100\u0002\u2331\u0000\u0100\u0002\u2331\u0000\u0100" +
+                    "\u0000\u8201\u0000\u0100\u0000\u5f22\u0000\u0100\u0000\u5f22\u0000\u0100\u0000\u38c7\u0000\u0100" +
+                    "\u0002\u32b8\u0000\u0100\u0002\u61da\u0000\u0100\u0000\u5f62\u0000\u0100\u0000\u5f6b\u0000\u0100" +
+                    "\u0000\u38e3\u0000\u0100\u0000\u5f9a\u0000\u0100\u0000\u5fcd\u0000\u0100\u0000\u5fd7\u0000\u0100" +
+                    "\u0000\u5ff9\u0000\u0100\u0000\u6081\u0000\u0100\u0000\u393a\u0000\u0100\u0000\u391c\u0000\u0100" +
+                    "\u0000\u6094\u0000\u0100\u0002\u26d4\u0000\u0100\u0000\u60c7\u0000\u0100\u0000\u6148\u0000\u0100" +
+                    "\u0000\u614c\u0000\u0100\u0000\u614e\u0000\u0100\u0000\u614c\u0000\u0100\u0000\u617a\u0000\u0100" +
+                    "\u0000\u618e\u0000\u0100\u0000\u61b2\u0000\u0100\u0000\u61a4\u0000\u0100\u0000\u61af\u0000\u0100" +
+                    "\u0000\u61de\u0000\u0100\u0000\u61f2\u0000\u0100\u0000\u61f6\u0000\u0100\u0000\u6210\u0000\u0100" +
+                    "\u0000\u621b\u0000\u0100\u0000\u625d\u0000\u0100\u0000\u62b1\u0000\u0100\u0000\u62d4\u0000\u0100" +
+                    "\u0000\u6350\u0000\u0100\u0002\u2b0c\u0000\u0100\u0000\u633d\u0000\u0100\u0000\u62fc\u0000\u0100" +
+                    "\u0000\u6368\u0000\u0100\u0000\u6383\u0000\u0100\u0000\u63e4\u0000\u0100\u0002\u2bf1\u0000\u0100" +
+                    "\u0000\u6422\u0000\u0100\u0000\u63c5\u0000\u0100\u0000\u63a9\u0000\u0100\u0000\u3a2e\u0000\u0100" +
+                    "\u0000\u6469\u0000\u0100\u0000\u647e\u0000\u0100\u0000\u649d\u0000\u0100\u0000\u6477\u0000\u0100" +
+                    "\u0000\u3a6c\u0000\u0100\u0000\u654f\u0000\u0100\u0000\u656c\u0000\u0100\u0002\u300a\u0000\u0100" +
+                    "\u0000\u65e3\u0000\u0100\u0000\u66f8\u0000\u0100\u0000\u6649\u0000\u0100\u0000\u3b19\u0000\u0100" +
+                    "\u0000\u6691\u0000\u0100\u0000\u3b08\u0000\u0100\u0000\u3ae4\u0000\u0100\u0000\u5192\u0000\u0100" +
+                    "\u0000\u5195\u0000\u0100\u0000\u6700\u0000\u0100\u0000\u669c\u0000\u0100\u0000\u80ad\u0000\u0100" +
+                    "\u0000\u43d9\u0000\u0100\u0000\u6717\u0000\u0100\u0000\u671b\u0000\u0100\u0000\u6721\u0000\u0100" +
+                    "\u0000\u675e\u0000\u0100\u0000\u6753\u0000\u0100\u0002\u33c3\u0000\u0100\u0000\u3b49\u0000\u0100" +
+                    "\u0000\u67fa\u0000\u0100\u0000\u6785\u0000\u0100\u0000\u6852\u0000\u0100\u0000\u6885\u0000\u0100" +
+                    "\u0002\u346d\u0000\u0100\u0000\u688e\u0000\u0100\u0000\u681f\u0000\u0100\u0000\u6914\u0000\u0100" +
+                    "\u0000\u3b9d\u0000\u0100\u0000\u6942\u0000\u0100\u0000\u69a3\u0000\u0100\u0000\u69ea\u0000\u0100" +
+                    "\u0000\u6aa8\u0000\u0100\u0002\u36a3\u0000\u0100\u0000\u6adb\u0000\u0100\u0000\u3c18\u0000\u0100" +
+                    "\u0000\u6b21\u0000\u0100\u0002\u38a7\u0000\u0100\u0000\u6b54\u0000\u0100\u0000\u3c4e\u0000\u0100" +
+                    "\u0000\u6b72\u0000\u0100\u0000\u6b9f\u0000\u0100\u0000\u6bba\u0000\u0100\u0000\u6bbb\u0000\u0100" +
+                    "\u0002\u3a8d\u0000\u0100\u0002\u1d0b\u0000\u0100\u0002\u3afa\u0000\u0100\u0000\u6c4e\u0000\u0100" +
+                    "\u0002\u3cbc\u0000\u0100\u0000\u6cbf\u0000\u0100\u0000\u6ccd\u0000\u0100\u0000\u6c67\u0000\u0100" +
+                    "\u0000\u6d16\u0000\u0100\u0000\u6d3e\u0000\u0100\u0000\u6d77\u0000\u0100\u0000\u6d41\u0000\u0100" +
+                    "\u0000\u6d69\u0000\u0100\u0000\u6d78\u0000\u0100\u0000\u6d85\u0000\u0100\u0002\u3d1e\u0000\u0100" +
+                    "\u0000\u6d34\u0000\u0100\u0000\u6e2f\u0000\u0100\u0000\u6e6e\u0000\u0100\u0000\u3d33\u0000\u0100" +
+                    "\u0000\u6ecb\u0000\u0100\u0000\u6ec7\u0000\u0100\u0002\u3ed1\u0000\u0100\u0000\u6df9\u0000\u0100" +
+                    "\u0000\u6f6e\u0000\u0100\u0002\u3f5e\u0000\u0100\u0002\u3f8e\u0000\u0100\u0000\u6fc6\u0000\u0100" +
+                    "\u0000\u7039\u0000\u0100\u0000\u701e\u0000\u0100\u0000\u701b\u0000\u0100\u0000\u3d96\u0000\u0100" +
+                    "\u0000\u704a\u0000\u0100\u0000\u707d\u0000\u0100\u0000\u7077\u0000\u0100\u0000\u70ad\u0000\u0100" +
+                    "\u0002\u0525\u0000\u0100\u0000\u7145\u0000\u0100\u0002\u4263\u0000\u0100\u0000\u719c\u0000\u0100" +
+                    "\u0002\u43ab\u0000\u0100\u0000\u7228\u0000\u0100\u0000\u7235\u0000\u0100\u0000\u7250\u0000\u0100" +
+                    "\u0002\u4608\u0000\u0100\u0000\u7280\u0000\u0100\u0000\u7295\u0000\u0100\u0002\u4735\u0000\u0100" +
+                    "\u0002\u4814\u0000\u0100\u0000\u737a\u0000\u0100\u0000\u738b\u0000\u0100\u0000\u3eac\u0000\u0100" +
+                    "\u0000\u73a5\u0000\u0100\u0000\u3eb8\u0000\u0100\u0000\u3eb8\u0000\u0100\u0000\u7447\u0000\u0100" +
+                    "\u0000\u745c\u0000\u0100\u0000\u7471\u0000\u0100\u0000\u7485\u0000\u0100\u0000\u74ca\u0000\u0100" +
+                    "\u0000\u3f1b\u0000\u0100\u0000\u7524\u0000\u0100\u0002\u4c36\u0000\u0100\u0000\u753e\u0000\u0100" +
+                    "\u0002\u4c92\u0000\u0100\u0000\u7570\u0000\u0100\u0002\u219f\u0000\u0100\u0000\u7610\u0000\u0100" +
+                    "\u0002\u4fa1\u0000\u0100\u0002\u4fb8\u0000\u0100\u0002\u5044\u0000\u0100\u0000\u3ffc\u0000\u0100" +
+                    "\u0000\u4008\u0000\u0100\u0000\u76f4\u0000\u0100\u0002\u50f3\u0000\u0100\u0002\u50f2\u0000\u0100" +
+                    "\u0002\u5119\u0000\u0100\u0002\u5133\u0000\u0100\u0000\u771e\u0000\u0100\u0000\u771f\u0000\u0100" +
+                    "\u0000\u771f\u0000\u0100\u0000\u774a\u0000\u0100\u0000\u4039\u0000\u0100\u0000\u778b\u0000\u0100" +
+                    "\u0000\u4046\u0000\u0100\u0000\u4096\u0000\u0100\u0002\u541d\u0000\u0100\u0000\u784e\u0000\u0100" +
+                    "\u0000\u788c\u0000\u0100\u0000\u78cc\u0000\u0100\u0000\u40e3\u0000\u0100\u0002\u5626\u0000\u0100" +
+                    "\u0000\u7956\u0000\u0100\u0002\u569a\u0000\u0100\u0002\u56c5\u0000\u0100\u0000\u798f\u0000\u0100" +
+                    "\u0000\u79eb\u0000\u0100\u0000\u412f\u0000\u0100\u0000\u7a40\u0000\u0100\u0000\u7a4a\u0000\u0100" +
+                    "\u0000\u7a4f\u0000\u0100\u0002\u597c\u0000\u0100\u0002\u5aa7\u0000\u0100\u0002\u5aa7\u0000\u0100" +
+                    "\u0000\u7aee\u0000\u0100\u0000\u4202\u0000\u0100\u0002\u5bab\u0000\u0100\u0000\u7bc6\u0000\u0100" +
+                    "\u0000\u7bc9\u0000\u0100\u0000\u4227\u0000\u0100\u0002\u5c80\u0000\u0100\u0000\u7cd2\u0000\u0100" +
+                    "\u0000\u42a0\u0000\u0100\u0000\u7ce8\u0000\u0100\u0000\u7ce3\u0000\u0100\u0000\u7d00\u0000\u0100" +
+                    "\u0002\u5f86\u0000\u0100\u0000\u7d63\u0000\u0100\u0000\u4301\u0000\u0100\u0000\u7dc7\u0000\u0100" +
+                    "\u0000\u7e02\u0000\u0100\u0000\u7e45\u0000\u0100\u0000\u4334\u0000\u0100\u0002\u6228\u0000\u0100" +
+                    "\u0002\u6247\u0000\u0100\u0000\u4359\u0000\u0100\u0002\u62d9\u0000\u0100\u0000\u7f7a\u0000\u0100" +
+                    "\u0002\u633e\u0000\u0100\u0000\u7f95\u0000\u0100\u0000\u7ffa\u0000\u0100\u0000\u8005\u0000\u0100" +
+                    "\u0002\u64da\u0000\u0100\u0002\u6523\u0000\u0100\u0000\u8060\u0000\u0100\u0002\u65a8\u0000\u0100" +
+                    "\u0000\u8070\u0000\u0100\u0002\u335f\u0000\u0100\u0000\u43d5\u0000\u0100\u0000\u80b2\u0000\u0100" +
+                    "\u0000\u8103\u0000\u0100\u0000\u440b\u0000\u0100\u0000\u813e\u0000\u0100\u0000\u5ab5\u0000\u0100" +
+                    "\u0002\u67a7\u0000\u0100\u0002\u67b5\u0000\u0100\u0002\u3393\u0000\u0100\u0002\u339c\u0000\u0100" +
+                    "\u0000\u8201\u0000\u0100\u0000\u8204\u0000\u0100\u0000\u8f9e\u0000\u0100\u0000\u446b\u0000\u0100" +
+                    "\u0000\u8291\u0000\u0100\u0000\u828b\u0000\u0100\u0000\u829d\u0000\u0100\u0000\u52b3\u0000\u0100" +
+                    "\u0000\u82b1\u0000\u0100\u0000\u82b3\u0000\u0100\u0000\u82bd\u0000\u0100\u0000\u82e6\u0000\u0100" +
+                    "\u0002\u6b3c\u0000\u0100\u0000\u82e5\u0000\u0100\u0000\u831d\u0000\u0100\u0000\u8363\u0000\u0100" +
+                    "\u0000\u83ad\u0000\u0100\u0000\u8323\u0000\u0100\u0000\u83bd\u0000\u0100\u0000\u83e7\u0000\u0100" +
+                    "\u0000\u8457\u0000\u0100\u0000\u8353\u0000\u0100\u0000\u83ca\u0000\u0100\u0000\u83cc\u0000\u0100" +
+                    "\u0000\u83dc\u0000\u0100\u0002\u6c36\u0000\u0100\u0002\u6d6b\u0000\u0100\u0002\u6cd5\u0000\u0100" +
+                    "\u0000\u452b\u0000\u0100\u0000\u84f1\u0000\u0100\u0000\u84f3\u0000\u0100\u0000\u8516\u0000\u0100" +
+                    "\u0002\u73ca\u0000\u0100\u0000\u8564\u0000\u0100\u0002\u6f2c\u0000\u0100\u0000\u455d\u0000\u0100" +
+                    "\u0000\u4561\u0000\u0100\u0002\u6fb1\u0000\u0100\u0002\u70d2\u0000\u0100\u0000\u456b\u0000\u0100" +
+                    "\u0000\u8650\u0000\u0100\u0000\u865c\u0000\u0100\u0000\u8667\u0000\u0100\u0000\u8669\u0000\u0100" +
+                    "\u0000\u86a9\u0000\u0100\u0000\u8688\u0000\u0100\u0000\u870e\u0000\u0100\u0000\u86e2\u0000\u0100" +
+                    "\u0000\u8779\u0000\u0100\u0000\u8728\u0000\u0100\u0000\u876b\u0000\u0100\u0000\u8786\u0000\u0100" +
+                    "\u0000\u45d7\u0000\u0100\u0000\u87e1\u0000\u0100\u0000\u8801\u0000\u0100\u0000\u45f9\u0000\u0100" +
+                    "\u0000\u8860\u0000\u0100\u0000\u8863\u0000\u0100\u0002\u7667\u0000\u0100\u0000\u88d7\u0000\u0100" +
+                    "\u0000\u88de\u0000\u0100\u0000\u4635\u0000\u0100\u0000\u88fa\u0000\u0100\u0000\u34bb\u0000\u0100" +
+                    "\u0002\u78ae\u0000\u0100\u0002\u7966\u0000\u0100\u0000\u46be\u0000\u0100\u0000\u46c7\u0000\u0100" +
+                    "\u0000\u8aa0\u0000\u0100\u0000\u8aed\u0000\u0100\u0000\u8b8a\u0000\u0100\u0000\u8c55\u0000\u0100" +
+                    "\u0002\u7ca8\u0000\u0100\u0000\u8cab\u0000\u0100\u0000\u8cc1\u0000\u0100\u0000\u8d1b\u0000\u0100" +
+                    "\u0000\u8d77\u0000\u0100\u0002\u7f2f\u0000\u0100\u0002\u0804\u0000\u0100\u0000\u8dcb\u0000\u0100" +
+                    "\u0000\u8dbc\u0000\u0100\u0000\u8df0\u0000\u0100\u0002\u08de\u0000\u0100\u0000\u8ed4\u0000\u0100" +
+                    "\u0000\u8f38\u0000\u0100\u0002\u85d2\u0000\u0100\u0002\u85ed\u0000\u0100\u0000\u9094\u0000\u0100" +
+                    "\u0000\u90f1\u0000\u0100\u0000\u9111\u0000\u0100\u0002\u872e\u0000\u0100\u0000\u911b\u0000\u0100" +
+                    "\u0000\u9238\u0000\u0100\u0000\u92d7\u0000\u0100\u0000\u92d8\u0000\u0100\u0000\u927c\u0000\u0100" +
+                    "\u0000\u93f9\u0000\u0100\u0000\u9415\u0000\u0100\u0002\u8bfa\u0000\u0100\u0000\u958b\u0000\u0100" +
+                    "\u0000\u4995\u0000\u0100\u0000\u95b7\u0000\u0100\u0002\u8d77\u0000\u0100\u0000\u49e6\u0000\u0100" +
+                    "\u0000\u96c3\u0000\u0100\u0000\u5db2\u0000\u0100\u0000\u9723\u0000\u0100\u0002\u9145\u0000\u0100" +
+                    "\u0002\u921a\u0000\u0100\u0000\u4a6e\u0000\u0100\u0000\u4a76\u0000\u0100\u0000\u97e0\u0000\u0100" +
+                    "\u0002\u940a\u0000\u0100\u0000\u4ab2\u0000\u0100\u0002\u9496\u0000\u0100\u0000\u980b\u0000\u0100" +
+                    "\u0000\u980b\u0000\u0100\u0000\u9829\u0000\u0100\u0002\u95b6\u0000\u0100\u0000\u98e2\u0000\u0100" +
+                    "\u0000\u4b33\u0000\u0100\u0000\u9929\u0000\u0100\u0000\u99a7\u0000\u0100\u0000\u99c2\u0000\u0100" +
+                    "\u0000\u99fe\u0000\u0100\u0000\u4bce\u0000\u0100\u0002\u9b30\u0000\u0100\u0000\u9b12\u0000\u0100" +
+                    "\u0000\u9c40\u0000\u0100\u0000\u9cfd\u0000\u0100\u0000\u4cce\u0000\u0100\u0000\u4ced\u0000\u0100" +
+                    "\u0000\u9d67\u0000\u0100\u0002\ua0ce\u0000\u0100\u0000\u4cf8\u0000\u0100\u0002\ua105\u0000\u0100" +
+                    "\u0002\ua20e\u0000\u0100\u0002\ua291\u0000\u0100\u0000\u9ebb\u0000\u0100\u0000\u4d56\u0000\u0100" +
+                    "\u0000\u9ef9\u0000\u0100\u0000\u9efe\u0000\u0100\u0000\u9f05\u0000\u0100\u0000\u9f0f\u0000\u0100" +
+                    "\u0000\u9f16\u0000\u0100\u0000\u9f3b\u0000\u0100\u0002\ua600"
+    };
+
+    // sorted (first << 21 | last) pairs of the primary composites in COMPOSITION_VALUES
+    static final String[] COMPOSITION_KEYS = {
+                    "\u0000\u0000\u0780\u0338\u0000\u0000\u07a0\u0338\u0000\u0000\u07c0\u0338\u0000\u0000\u0820\u0300" +
+                    "\u0000\u0000\u0820\u0301\u0000\u0000\u0820\u0302\u0000\u0000\u0820\u0303\u0000\u0000\u0820\u0304" +
+                    "\u0000\u0000\u0820\u0306\u0000\u0000\u0820\u0307\u0000\u0000\u0820\u0308\u0000\u0000\u0820\u0309" +
+                    "\u0000\u0000\u0820\u030a\u0000\u0000\u0820\u030c\u0000\u0000\u0820\u030f\u0000\u0000\u0820\u0311" +
+                    "\u0000\u0000\u0820\u0323\u0000\u0000\u0820\u0325\u0000\u0000\u0820\u0328\u0000\u0000\u0840\u0307" +
+                    "\u0000\u0000\u0840\u0323\u0000\u0000\u0840\u0331\u0000\u0000\u0860\u0301\u0000\u0000\u0860\u0302" +
+                    "\u0000\u0000\u0860\u0307\u0000\u0000\u0860\u030c\u0000\u0000\u0860\u0327\u0000\u0000\u0880\u0307" +
+                    "\u0000\u0000\u0880\u030c\u0000\u0000\u0880\u0323\u0000\u0000\u0880\u0327\u0000\u0000\u0880\u032d" +
+                    "\u0000\u0000\u0880\u0331\u0000\u0000\u08a0\u0300\u0000\u0000\u08a0\u0301\u0000\u0000\u08a0\u0302" +
+                    "\u0000\u0000\u08a0\u0303\u0000\u0000\u08a0\u0304\u0000\u0000\u08a0\u0306\u0000\u0000\u08a0\u0307" +
+                    "\u0000\u0000\u08a0\u0308\u0000\u0000\u08a0\u0309\u0000\u0000\u08a0\u030c\u0000\u0000\u08a0\u030f" +
+                    "\u0000\u0000\u08a0\u0311\u0000\u0000\u08a0\u0323\u0000\u0000\u08a0\u0327\u0000\u0000\u08a0\u0328" +
+                    "\u0000\u0000\u08a0\u032d\u0000\u0000\u08a0\u0330\u0000\u0000\u08c0\u0307\u0000\u0000\u08e0\u0301" +
+                    "\u0000\u0000\u08e0\u0302\u0000\u0000\u08e0\u0304\u0000\u0000\u08e0\u0306\u0000\u0000\u08e0\u0307" +
+                    "\u0000\u0000\u08e0\u030c\u0000\u0000\u08e0\u0327\u0000\u0000\u0900\u0302\u0000\u0000\u0900\u0307" +
+                    "\u0000\u0000\u0900\u0308\u0000\u0000\u0900\u030c\u0000\u0000\u0900\u0323\u0000\u0000\u0900\u0327" +
+                    "\u0000\u0000\u0900\u032e\u0000\u0000\u0920\u0300\u0000\u0000\u0920\u0301\u0000\u0000\u0920\u0302" +
+                    "\u0000\u0000\u0920\u0303\u0000\u0000\u0920\u0304\u0000\u0000\u0920\u0306\u0000\u0000\u0920\u0307" +
+                    "\u0000\u0000\u0920\u0308\u0000\u0000\u0920\u0309\u0000\u0000\u0920\u030c\u0000\u0000\u0920\u030f" +
+                    "\u0000\u0000\u0920\u0311\u0000\u0000\u0920\u0323\u0000\u0000\u0920\u0328\u0000\u0000\u0920\u0330" +
+                    "\u0000\u0000\u0940\u0302\u0000\u0000\u0960\u0301\u0000\u0000\u0960\u030c\u0000\u0000\u0960\u0323" +
+                    "\u0000\u0000\u0960\u0327\u0000\u0000\u0960\u0331\u0000\u0000\u0980\u0301\u0000\u0000\u0980\u030c" +
+                    "\u0000\u0000\u0980\u0323\u0000\u0000\u0980\u0327\u0000\u0000\u0980\u032d\u0000\u0000\u0980\u0331" +
+                    "\u0000\u0000\u09a0\u0301\u0000\u0000\u09a0\u0307\u0000\u0000\u09a0\u0323\u0000\u0000\u09c0\u0300" +
+                    "\u0000\u0000\u09c0\u0301\u0000\u0000\u09c0\u0303\u0000\u0000\u09c0\u0307\u0000\u0000\u09c0\u030c" +
+                    "\u0000\u0000\u09c0\u0323\u0000\u0000\u09c0\u0327\u0000\u0000\u09c0\u032d\u0000\u0000\u09c0\u0331" +
+                    "\u0000\u0000\u09e0\u0300\u0000\u0000\u09e0\u0301\u0000\u0000\u09e0\u0302\u0000\u0000\u09e0\u0303" +
+                    "\u0000\u0000\u09e0\u0304\u0000\u0000\u09e0\u0306\u0000\u0000\u09e0\u0307\u0000\u0000\u09e0\u0308" +
+                    "\u0000\u0000\u09e0\u0309\u0000\u0000\u09e0\u030b\u0000\u0000\u09e0\u030c\u0000\u0000\u09e0\u030f" +
+                    "\u0000\u0000\u09e0\u0311\u0000\u0000\u09e0\u031b\u0000\u0000\u09e0\u0323\u0000\u0000\u09e0\u0328" +
+                    "\u0000\u0000\u0a00\u0301\u0000\u0000\u0a00\u0307\u0000\u0000\u0a40\u0301\u0000\u0000\u0a40\u0307" +
+                    "\u0000\u0000\u0a40\u030c\u0000\u0000\u0a40\u030f\u0000\u0000\u0a40\u0311\u0000\u0000\u0a40\u0323" +
+                    "\u0000\u0000\u0a40\u0327\u0000\u0000\u0a40\u0331\u0000\u0000\u0a60\u0301\u0000\u0000\u0a60\u0302" +
+                    "\u0000\u0000\u0a60\u0307\u0000\u0000\u0a60\u030c\u0000\u0000\u0a60\u0323\u0000\u0000\u0a60\u0326" +
+                    "\u0000\u0000\u0a60\u0327\u0000\u0000\u0a80\u0307\u0000\u0000\u0a80\u030c\u0000\u0000\u0a80\u0323" +
+                    "\u0000\u0000\u0a80\u0326\u0000\u0000\u0a80\u0327\u0000\u0000\u0a80\u032d\u0000\u0000\u0a80\u0331" +
+                    "\u0000\u0000\u0aa0\u0300\u0000\u0000\u0aa0\u0301\u0000\u0000\u0aa0\u0302\u0000\u0000\u0aa0\u0303" +
+                    "\u0000\u0000\u0aa0\u0304\u0000\u0000\u0aa0\u0306\u0000\u0000\u0aa0\u0308\u0000\u0000\u0aa0\u0309" +
+                    "\u0000\u0000\u0aa0\u030a\u0000\u0000\u0aa0\u030b\u0000\u0000\u0aa0\u030c\u0000\u0000\u0aa0\u030f" +
+                    "\u0000\u0000\u0aa0\u0311\u0000\u0000\u0aa0\u031b\u0000\u0000\u0aa0\u0323\u0000\u0000\u0aa0\u0324" +
+                    "\u0000\u0000\u0aa0\u0328\u0000\u0000\u0aa0\u032d\u0000\u0000\u0aa0\u0330\u0000\u0000\u0ac0\u0303" +
+                    "\u0000\u0000\u0ac0\u0323\u0000\u0000\u0ae0\u0300\u0000\u0000\u0ae0\u0301\u0000\u0000\u0ae0\u0302" +
+                    "\u0000\u0000\u0ae0\u0307\u0000\u0000\u0ae0\u0308\u0000\u0000\u0ae0\u0323\u0000\u0000\u0b00\u0307" +
+                    "\u0000\u0000\u0b00\u0308\u0000\u0000\u0b20\u0300\u0000\u0000\u0b20\u0301\u0000\u0000\u0b20\u0302" +
+                    "\u0000\u0000\u0b20\u0303\u0000\u0000\u0b20\u0304\u0000\u0000\u0b20\u0307\u0000\u0000\u0b20\u0308" +
+                    "\u0000\u0000\u0b20\u0309\u0000\u0000\u0b20\u0323\u0000\u0000\u0b40\u0301\u0000\u0000\u0b40\u0302" +
+                    "\u0000\u0000\u0b40\u0307\u0000\u0000\u0b40\u030c\u0000\u0000\u0b40\u0323\u0000\u0000\u0b40\u0331" +
+                    "\u0000\u0000\u0c20\u0300\u0000\u0000\u0c20\u0301\u0000\u0000\u0c20\u0302\u0000\u0000\u0c20\u0303" +
+                    "\u0000\u0000\u0c20\u0304\u0000\u0000\u0c20\u0306\u0000\u0000\u0c20\u0307\u0000\u0000\u0c20\u0308" +
+                    "\u0000\u0000\u0c20\u0309\u0000\u0000\u0c20\u030a\u0000\u0000\u0c20\u030c\u0000\u0000\u0c20\u030f" +
+                    "\u0000\u0000\u0c20\u0311\u0000\u0000\u0c20\u0323\u0000\u0000\u0c20\u0325\u0000\u0000\u0c20\u0328" +
+                    "\u0000\u0000\u0c40\u0307\u0000\u0000\u0c40\u0323\u0000\u0000\u0c40\u0331\u0000\u0000\u0c60\u0301" +
+                    "\u0000\u0000\u0c60\u0302\u0000\u0000\u0c60\u0307\u0000\u0000\u0c60\u030c\u0000\u0000\u0c60\u0327" +
+                    "\u0000\u0000\u0c80\u0307\u0000\u0000\u0c80\u030c\u0000\u0000\u0c80\u0323\u0000\u0000\u0c80\u0327" +
+                    "\u0000\u0000\u0c80\u032d\u0000\u0000\u0c80\u0331\u0000\u0000\u0ca0\u0300\u0000\u0000\u0ca0\u0301" +
+                    "\u0000\u0000\u0ca0\u0302\u0000\u0000\u0ca0\u0303\u0000\u0000\u0ca0\u0304\u0000\u0000\u0ca0\u0306" +
+                    "\u0000\u0000\u0ca0\u0307\u0000\u0000\u0ca0\u0308\u0000\u0000\u0ca0\u0309\u0000\u0000\u0ca0\u030c" +
+                    "\u0000\u0000\u0ca0\u030f\u0000\u0000\u0ca0\u0311\u0000\u0000\u0ca0\u0323\u0000\u0000\u0ca0\u0327" +
+                    "\u0000\u0000\u0ca0\u0328\u0000\u0000\u0ca0\u032d\u0000\u0000\u0ca0\u0330\u0000\u0000\u0cc0\u0307" +
+                    "\u0000\u0000\u0ce0\u0301\u0000\u0000\u0ce0\u0302\u0000\u0000\u0ce0\u0304\u0000\u0000\u0ce0\u0306" +
+                    "\u0000\u0000\u0ce0\u0307\u0000\u0000\u0ce0\u030c\u0000\u0000\u0ce0\u0327\u0000\u0000\u0d00\u0302" +
+                    "\u0000\u0000\u0d00\u0307\u0000\u0000\u0d00\u0308\u0000\u0000\u0d00\u030c\u0000\u0000\u0d00\u0323" +
+                    "\u0000\u0000\u0d00\u0327\u0000\u0000\u0d00\u032e\u0000\u0000\u0d00\u0331\u0000\u0000\u0d20\u0300" +
+                    "\u0000\u0000\u0d20\u0301\u0000\u0000\u0d20\u0302\u0000\u0000\u0d20\u0303\u0000\u0000\u0d20\u0304" +
+                    "\u0000\u0000\u0d20\u0306\u0000\u0000\u0d20\u0308\u0000\u0000\u0d20\u0309\u0000\u0000\u0d20\u030c" +
+                    "\u0000\u0000\u0d20\u030f\u0000\u0000\u0d20\u0311\u0000\u0000\u0d20\u0323\u0000\u0000\u0d20\u0328" +
+                    "\u0000\u0000\u0d20\u0330\u0000\u0000\u0d40\u0302\u0000\u0000\u0d40\u030c\u0000\u0000\u0d60\u0301" +
+                    "\u0000\u0000\u0d60\u030c\u0000\u0000\u0d60\u0323\u0000\u0000\u0d60\u0327\u0000\u0000\u0d60\u0331" +
+                    "\u0000\u0000\u0d80\u0301\u0000\u0000\u0d80\u030c\u0000\u0000\u0d80\u0323\u0000\u0000\u0d80\u0327" +
+                    "\u0000\u0000\u0d80\u032d\u0000\u0000\u0d80\u0331\u0000\u0000\u0da0\u0301\u0000\u0000\u0da0\u0307" +
+                    "\u0000\u0000\u0da0\u0323\u0000\u0000\u0dc0\u0300\u0000\u0000\u0dc0\u0301\u0000\u0000\u0dc0\u0303" +
+                    "\u0000\u0000\u0dc0\u0307\u0000\u0000\u0dc0\u030c\u0000\u0000\u0dc0\u0323\u0000\u0000\u0dc0\u0327" +
+                    "\u0000\u0000\u0dc0\u032d\u0000\u0000\u0dc0\u0331\u0000\u0000\u0de0\u0300\u0000\u0000\u0de0\u0301" +
+                    "\u0000\u0000\u0de0\u0302\u0000\u0000\u0de0\u0303\u0000\u0000\u0de0\u0304\u0000\u0000\u0de0\u0306" +
+                    "\u0000\u0000\u0de0\u0307\u0000\u0000\u0de0\u0308\u0000\u0000\u0de0\u0309\u0000\u0000\u0de0\u030b" +
+                    "\u0000\u0000\u0de0\u030c\u0000\u0000\u0de0\u030f\u0000\u0000\u0de0\u0311\u0000\u0000\u0de0\u031b" +
+                    "\u0000\u0000\u0de0\u0323\u0000\u0000\u0de0\u0328\u0000\u0000\u0e00\u0301\u0000\u0000\u0e00\u0307" +
+                    "\u0000\u0000\u0e40\u0301\u0000\u0000\u0e40\u0307\u0000\u0000\u0e40\u030c\u0000\u0000\u0e40\u030f" +
+                    "\u0000\u0000\u0e40\u0311\u0000\u0000\u0e40\u0323\u0000\u0000\u0e40\u0327\u0000\u0000\u0e40\u0331" +
+                    "\u0000\u0000\u0e60\u0301\u0000\u0000\u0e60\u0302\u0000\u0000\u0e60\u0307\u0000\u0000\u0e60\u030c" +
+                    "\u0000\u0000\u0e60\u0323\u0000\u0000\u0e60\u0326\u0000\u0000\u0e60\u0327\u0000\u0000\u0e80\u0307" +
+                    "\u0000\u0000\u0e80\u0308\u0000\u0000\u0e80\u030c\u0000\u0000\u0e80\u0323\u0000\u0000\u0e80\u0326" +
+                    "\u0000\u0000\u0e80\u0327\u0000\u0000\u0e80\u032d\u0000\u0000\u0e80\u0331\u0000\u0000\u0ea0\u0300" +
+                    "\u0000\u0000\u0ea0\u0301\u0000\u0000\u0ea0\u0302\u0000\u0000\u0ea0\u0303\u0000\u0000\u0ea0\u0304" +
+                    "\u0000\u0000\u0ea0\u0306\u0000\u0000\u0ea0\u0308\u0000\u0000\u0ea0\u0309\u0000\u0000\u0ea0\u030a" +
+                    "\u0000\u0000\u0ea0\u030b\u0000\u0000\u0ea0\u030c\u0000\u0000\u0ea0\u030f\u0000\u0000\u0ea0\u0311" +
+                    "\u0000\u0000\u0ea0\u031b\u0000\u0000\u0ea0\u0323\u0000\u0000\u0ea0\u0324\u0000\u0000\u0ea0\u0328" +
+                    "\u0000\u0000\u0ea0\u032d\u0000\u0000\u0ea0\u0330\u0000\u0000\u0ec0\u0303\u0000\u0000\u0ec0\u0323" +
+                    "\u0000\u0000\u0ee0\u0300\u0000\u0000\u0ee0\u0301\u0000\u0000\u0ee0\u0302\u0000\u0000\u0ee0\u0307" +
+                    "\u0000\u0000\u0ee0\u0308\u0000\u0000\u0ee0\u030a\u0000\u0000\u0ee0\u0323\u0000\u0000\u0f00\u0307" +
+                    "\u0000\u0000\u0f00\u0308\u0000\u0000\u0f20\u0300\u0000\u0000\u0f20\u0301\u0000\u0000\u0f20\u0302" +
+                    "\u0000\u0000\u0f20\u0303\u0000\u0000\u0f20\u0304\u0000\u0000\u0f20\u0307\u0000\u0000\u0f20\u0308" +
+                    "\u0000\u0000\u0f20\u0309\u0000\u0000\u0f20\u030a\u0000\u0000\u0f20\u0323\u0000\u0000\u0f40\u0301" +
+                    "\u0000\u0000\u0f40\u0302\u0000\u0000\u0f40\u0307\u0000\u0000\u0f40\u030c\u0000\u0000\u0f40\u0323" +
+                    "\u0000\u0000\u0f40\u0331\u0000\u0000\u1500\u0300\u0000\u0000\u1500\u0301\u0000\u0000\u1500\u0342" +
+                    "\u0000\u0000\u1840\u0300\u0000\u0000\u1840\u0301\u0000\u0000\u1840\u0303\u0000\u0000\u1840\u0309" +
+                    "\u0000\u0000\u1880\u0304\u0000\u0000\u18a0\u0301\u0000\u0000\u18c0\u0301\u0000\u0000\u18c0\u0304" +
+                    "\u0000\u0000\u18e0\u0301\u0000\u0000\u1940\u0300\u0000\u0000\u1940\u0301\u0000\u0000\u1940\u0303" +
+                    "\u0000\u0000\u1940\u0309\u0000\u0000\u19e0\u0301\u0000\u0000\u1a80\u0300\u0000\u0000\u1a80\u0301" +
+                    "\u0000\u0000\u1a80\u0303\u0000\u0000\u1a80\u0309\u0000\u0000\u1aa0\u0301\u0000\u0000\u1aa0\u0304" +
+                    "\u0000\u0000\u1aa0\u0308\u0000\u0000\u1ac0\u0304\u0000\u0000\u1b00\u0301\u0000\u0000\u1b80\u0300" +
+                    "\u0000\u0000\u1b80\u0301\u0000\u0000\u1b80\u0304\u0000\u0000\u1b80\u030c\u0000\u0000\u1c40\u0300" +
+                    "\u0000\u0000\u1c40\u0301\u0000\u0000\u1c40\u0303\u0000\u0000\u1c40\u0309\u0000\u0000\u1c80\u0304" +
+                    "\u0000\u0000\u1ca0\u0301\u0000\u0000\u1cc0\u0301\u0000\u0000\u1cc0\u0304\u0000\u0000\u1ce0\u0301" +
+                    "\u0000\u0000\u1d40\u0300\u0000\u0000\u1d40\u0301\u0000\u0000\u1d40\u0303\u0000\u0000\u1d40\u0309" +
+                    "\u0000\u0000\u1de0\u0301\u0000\u0000\u1e80\u0300\u0000\u0000\u1e80\u0301\u0000\u0000\u1e80\u0303" +
+                    "\u0000\u0000\u1e80\u0309\u0000\u0000\u1ea0\u0301\u0000\u0000\u1ea0\u0304\u0000\u0000\u1ea0\u0308" +
+                    "\u0000\u0000\u1ec0\u0304\u0000\u0000\u1f00\u0301\u0000\u0000\u1f80\u0300\u0000\u0000\u1f80\u0301" +
+                    "\u0000\u0000\u1f80\u0304\u0000\u0000\u1f80\u030c\u0000\u0000\u2040\u0300\u0000\u0000\u2040\u0301" +
+                    "\u0000\u0000\u2040\u0303\u0000\u0000\u2040\u0309\u0000\u0000\u2060\u0300\u0000\u0000\u2060\u0301" +
+                    "\u0000\u0000\u2060\u0303\u0000\u0000\u2060\u0309\u0000\u0000\u2240\u0300\u0000\u0000\u2240\u0301" +
+                    "\u0000\u0000\u2260\u0300\u0000\u0000\u2260\u0301\u0000\u0000\u2980\u0300\u0000\u0000\u2980\u0301" +
+                    "\u0000\u0000\u29a0\u0300\u0000\u0000\u29a0\u0301\u0000\u0000\u2b40\u0307\u0000\u0000\u2b60\u0307" +
+                    "\u0000\u0000\u2c00\u0307\u0000\u0000\u2c20\u0307\u0000\u0000\u2d00\u0301\u0000\u0000\u2d20\u0301" +
+                    "\u0000\u0000\u2d40\u0308\u0000\u0000\u2d60\u0308\u0000\u0000\u2fe0\u0307\u0000\u0000\u3400\u0300" +
+                    "\u0000\u0000\u3400\u0301\u0000\u0000\u3400\u0303\u0000\u0000\u3400\u0309\u0000\u0000\u3400\u0323" +
+                    "\u0000\u0000\u3420\u0300\u0000\u0000\u3420\u0301\u0000\u0000\u3420\u0303\u0000\u0000\u3420\u0309" +
+                    "\u0000\u0000\u3420\u0323\u0000\u0000\u35e0\u0300\u0000\u0000\u35e0\u0301\u0000\u0000\u35e0\u0303" +
+                    "\u0000\u0000\u35e0\u0309\u0000\u0000\u35e0\u0323\u0000\u0000\u3600\u0300\u0000\u0000\u3600\u0301" +
+                    "\u0000\u0000\u3600\u0303\u0000\u0000\u3600\u0309\u0000\u0000\u3600\u0323\u0000\u0000\u36e0\u030c" +
+                    "\u0000\u0000\u3d40\u0304\u0000\u0000\u3d60\u0304\u0000\u0000\u44c0\u0304\u0000\u0000\u44e0\u0304" +
+                    "\u0000\u0000\u4500\u0306\u0000\u0000\u4520\u0306\u0000\u0000\u45c0\u0304\u0000\u0000\u45e0\u0304" +
+                    "\u0000\u0000\u5240\u030c\u0000\u0000\u7220\u0300\u0000\u0000\u7220\u0301\u0000\u0000\u7220\u0304" +
+                    "\u0000\u0000\u7220\u0306\u0000\u0000\u7220\u0313\u0000\u0000\u7220\u0314\u0000\u0000\u7220\u0345" +
+                    "\u0000\u0000\u72a0\u0300\u0000\u0000\u72a0\u0301\u0000\u0000\u72a0\u0313\u0000\u0000\u72a0\u0314" +
+                    "\u0000\u0000\u72e0\u0300\u0000\u0000\u72e0\u0301\u0000\u0000\u72e0\u0313\u0000\u0000\u72e0\u0314" +
+                    "\u0000\u0000\u72e0\u0345\u0000\u0000\u7320\u0300\u0000\u0000\u7320\u0301\u0000\u0000\u7320\u0304" +
+                    "\u0000\u0000\u7320\u0306\u0000\u0000\u7320\u0308\u0000\u0000\u7320\u0313\u0000\u0000\u7320\u0314" +
+                    "\u0000\u0000\u73e0\u0300\u0000\u0000\u73e0\u0301\u0000\u0000\u73e0\u0313\u0000\u0000\u73e0\u0314" +
+                    "\u0000\u0000\u7420\u0314\u0000\u0000\u74a0\u0300\u0000\u0000\u74a0\u0301\u0000\u0000\u74a0\u0304" +
+                    "\u0000\u0000\u74a0\u0306\u0000\u0000\u74a0\u0308\u0000\u0000\u74a0\u0314\u0000\u0000\u7520\u0300" +
+                    "\u0000\u0000\u7520\u0301\u0000\u0000\u7520\u0313\u0000\u0000\u7520\u0314\u0000\u0000\u7520\u0345" +
+                    "\u0000\u0000\u7580\u0345\u0000\u0000\u75c0\u0345\u0000\u0000\u7620\u0300\u0000\u0000\u7620\u0301" +
+                    "\u0000\u0000\u7620\u0304\u0000\u0000\u7620\u0306\u0000\u0000\u7620\u0313\u0000\u0000\u7620\u0314" +
+                    "\u0000\u0000\u7620\u0342\u0000\u0000\u7620\u0345\u0000\u0000\u76a0\u0300\u0000\u0000\u76a0\u0301" +
+                    "\u0000\u0000\u76a0\u0313\u0000\u0000\u76a0\u0314\u0000\u0000\u76e0\u0300\u0000\u0000\u76e0\u0301" +
+                    "\u0000\u0000\u76e0\u0313\u0000\u0000\u76e0\u0314\u0000\u0000\u76e0\u0342\u0000\u0000\u76e0\u0345" +
+                    "\u0000\u0000\u7720\u0300\u0000\u0000\u7720\u0301\u0000\u0000\u7720\u0304\u0000\u0000\u7720\u0306" +
+                    "\u0000\u0000\u7720\u0308\u0000\u0000\u7720\u0313\u0000\u0000\u7720\u0314\u0000\u0000\u7720\u0342" +
+                    "\u0000\u0000\u77e0\u0300\u0000\u0000\u77e0\u0301\u0000\u0000\u77e0\u0313\u0000\u0000\u77e0\u0314" +
+                    "\u0000\u0000\u7820\u0313\u0000\u0000\u7820\u0314\u0000\u0000\u78a0\u0300\u0000\u0000\u78a0\u0301" +
+                    "\u0000\u0000\u78a0\u0304\u0000\u0000\u78a0\u0306\u0000\u0000\u78a0\u0308\u0000\u0000\u78a0\u0313" +
+                    "\u0000\u0000\u78a0\u0314\u0000\u0000\u78a0\u0342\u0000\u0000\u7920\u0300\u0000\u0000\u7920\u0301" +
+                    "\u0000\u0000\u7920\u0313\u0000\u0000\u7920\u0314\u0000\u0000\u7920\u0342\u0000\u0000\u7920\u0345" +
+                    "\u0000\u0000\u7940\u0300\u0000\u0000\u7940\u0301\u0000\u0000\u7940\u0342\u0000\u0000\u7960\u0300" +
+                    "\u0000\u0000\u7960\u0301\u0000\u0000\u7960\u0342\u0000\u0000\u79c0\u0345\u0000\u0000\u7a40\u0301" +
+                    "\u0000\u0000\u7a40\u0308\u0000\u0000\u80c0\u0308\u0000\u0000\u8200\u0306\u0000\u0000\u8200\u0308" +
+                    "\u0000\u0000\u8260\u0301\u0000\u0000\u82a0\u0300\u0000\u0000\u82a0\u0306\u0000\u0000\u82a0\u0308" +
+                    "\u0000\u0000\u82c0\u0306\u0000\u0000\u82c0\u0308\u0000\u0000\u82e0\u0308\u0000\u0000\u8300\u0300" +
+                    "\u0000\u0000\u8300\u0304\u0000\u0000\u8300\u0306\u0000\u0000\u8300\u0308\u0000\u0000\u8340\u0301" +
+                    "\u0000\u0000\u83c0\u0308\u0000\u0000\u8460\u0304\u0000\u0000\u8460\u0306\u0000\u0000\u8460\u0308" +
+                    "\u0000\u0000\u8460\u030b\u0000\u0000\u84e0\u0308\u0000\u0000\u8560\u0308\u0000\u0000\u85a0\u0308" +
+                    "\u0000\u0000\u8600\u0306\u0000\u0000\u8600\u0308\u0000\u0000\u8660\u0301\u0000\u0000\u86a0\u0300" +
+                    "\u0000\u0000\u86a0\u0306\u0000\u0000\u86a0\u0308\u0000\u0000\u86c0\u0306\u0000\u0000\u86c0\u0308" +
+                    "\u0000\u0000\u86e0\u0308\u0000\u0000\u8700\u0300\u0000\u0000\u8700\u0304\u0000\u0000\u8700\u0306" +
+                    "\u0000\u0000\u8700\u0308\u0000\u0000\u8740\u0301\u0000\u0000\u87c0\u0308\u0000\u0000\u8860\u0304" +
+                    "\u0000\u0000\u8860\u0306\u0000\u0000\u8860\u0308\u0000\u0000\u8860\u030b\u0000\u0000\u88e0\u0308" +
+                    "\u0000\u0000\u8960\u0308\u0000\u0000\u89a0\u0308\u0000\u0000\u8ac0\u0308\u0000\u0000\u8e80\u030f" +
+                    "\u0000\u0000\u8ea0\u030f\u0000\u0000\u9b00\u0308\u0000\u0000\u9b20\u0308\u0000\u0000\u9d00\u0308" +
+                    "\u0000\u0000\u9d20\u0308\u0000\u0000\uc4e0\u0653\u0000\u0000\uc4e0\u0654\u0000\u0000\uc4e0\u0655" +
+                    "\u0000\u0000\uc900\u0654\u0000\u0000\uc940\u0654\u0000\u0000\ud820\u0654\u0000\u0000\uda40\u0654" +
+                    "\u0000\u0000\udaa0\u0654\u0000\u0001\u2500\u093c\u0000\u0001\u2600\u093c\u0000\u0001\u2660\u093c" +
+                    "\u0000\u0001\u38e0\u09be\u0000\u0001\u38e0\u09d7\u0000\u0001\u68e0\u0b3e\u0000\u0001\u68e0\u0b56" +
+                    "\u0000\u0001\u68e0\u0b57\u0000\u0001\u7240\u0bd7\u0000\u0001\u78c0\u0bbe\u0000\u0001\u78c0\u0bd7" +
+                    "\u0000\u0001\u78e0\u0bbe\u0000\u0001\u88c0\u0c56\u0000\u0001\u97e0\u0cd5\u0000\u0001\u98c0\u0cc2" +
+                    "\u0000\u0001\u98c0\u0cd5\u0000\u0001\u98c0\u0cd6\u0000\u0001\u9940\u0cd5\u0000\u0001\ua8c0\u0d3e" +
+                    "\u0000\u0001\ua8c0\u0d57\u0000\u0001\ua8e0\u0d3e\u0000\u0001\ubb20\u0dca\u0000\u0001\ubb20\u0dcf" +
+                    "\u0000\u0001\ubb20\u0ddf\u0000\u0001\ubb80\u0dca\u0000\u0002\u04a0\u102e\u0000\u0003\u60a0\u1b35" +
+                    "\u0000\u0003\u60e0\u1b35\u0000\u0003\u6120\u1b35\u0000\u0003\u6160\u1b35\u0000\u0003\u61a0\u1b35" +
+                    "\u0000\u0003\u6220\u1b35\u0000\u0003\u6740\u1b35\u0000\u0003\u6780\u1b35\u0000\u0003\u67c0\u1b35" +
+                    "\u0000\u0003\u67e0\u1b35\u0000\u0003\u6840\u1b35\u0000\u0003\uc6c0\u0304\u0000\u0003\uc6e0\u0304" +
+                    "\u0000\u0003\ucb40\u0304\u0000\u0003\ucb60\u0304\u0000\u0003\ucc40\u0307\u0000\u0003\ucc60\u0307" +
+                    "\u0000\u0003\ud400\u0302\u0000\u0003\ud400\u0306\u0000\u0003\ud420\u0302\u0000\u0003\ud420\u0306" +
+                    "\u0000\u0003\ud700\u0302\u0000\u0003\ud720\u0302\u0000\u0003\ud980\u0302\u0000\u0003\ud9a0\u0302" +
+                    "\u0000\u0003\ue000\u0300\u0000\u0003\ue000\u0301\u0000\u0003\ue000\u0342\u0000\u0003\ue000\u0345" +
+                    "\u0000\u0003\ue020\u0300\u0000\u0003\ue020\u0301\u0000\u0003\ue020\u0342\u0000\u0003\ue020\u0345" +
+                    "\u0000\u0003\ue040\u0345\u0000\u0003\ue060\u0345\u0000\u0003\ue080\u0345\u0000\u0003\ue0a0\u0345" +
+                    "\u0000\u0003\ue0c0\u0345\u0000\u0003\ue0e0\u0345\u0000\u0003\ue100\u0300\u0000\u0003\ue100\u0301" +
+                    "\u0000\u0003\ue100\u0342\u0000\u0003\ue100\u0345\u0000\u0003\ue120\u0300\u0000\u0003\ue120\u0301" +
+                    "\u0000\u0003\ue120\u0342\u0000\u0003\ue120\u0345\u0000\u0003\ue140\u0345\u0000\u0003\ue160\u0345" +
+                    "\u0000\u0003\ue180\u0345\u0000\u0003\ue1a0\u0345\u0000\u0003\ue1c0\u0345\u0000\u0003\ue1e0\u0345" +
+                    "\u0000\u0003\ue200\u0300\u0000\u0003\ue200\u0301\u0000\u0003\ue220\u0300\u0000\u0003\ue220\u0301" +
+                    "\u0000\u0003\ue300\u0300\u0000\u0003\ue300\u0301\u0000\u0003\ue320\u0300\u0000\u0003\ue320\u0301" +
+                    "\u0000\u0003\ue400\u0300\u0000\u0003\ue400\u0301\u0000\u0003\ue400\u0342\u0000\u0003\ue400\u0345" +
+                    "\u0000\u0003\ue420\u0300\u0000\u0003\ue420\u0301\u0000\u0003\ue420\u0342\u0000\u0003\ue420\u0345" +
+                    "\u0000\u0003\ue440\u0345\u0000\u0003\ue460\u0345\u0000\u0003\ue480\u0345\u0000\u0003\ue4a0\u0345" +
+                    "\u0000\u0003\ue4c0\u0345\u0000\u0003\ue4e0\u0345\u0000\u0003\ue500\u0300\u0000\u0003\ue500\u0301" +
+                    "\u0000\u0003\ue500\u0342\u0000\u0003\ue500\u0345\u0000\u0003\ue520\u0300\u0000\u0003\ue520\u0301" +
+                    "\u0000\u0003\ue520\u0342\u0000\u0003\ue520\u0345\u0000\u0003\ue540\u0345\u0000\u0003\ue560\u0345" +
+                    "\u0000\u0003\ue580\u0345\u0000\u0003\ue5a0\u0345\u0000\u0003\ue5c0\u0345\u0000\u0003\ue5e0\u0345" +
+                    "\u0000\u0003\ue600\u0300\u0000\u0003\ue600\u0301\u0000\u0003\ue600\u0342\u0000\u0003\ue620\u0300" +
+                    "\u0000\u0003\ue620\u0301\u0000\u0003\ue620\u0342\u0000\u0003\ue700\u0300\u0000\u0003\ue700\u0301" +
+                    "\u0000\u0003\ue700\u0342\u0000\u0003\ue720\u0300\u0000\u0003\ue720\u0301\u0000\u0003\ue720\u0342" +
+                    "\u0000\u0003\ue800\u0300\u0000\u0003\ue800\u0301\u0000\u0003\ue820\u0300\u0000\u0003\ue820\u0301" +
+                    "\u0000\u0003\ue900\u0300\u0000\u0003\ue900\u0301\u0000\u0003\ue920\u0300\u0000\u0003\ue920\u0301" +
+                    "\u0000\u0003\uea00\u0300\u0000\u0003\uea00\u0301\u0000\u0003\uea00\u0342\u0000\u0003\uea20\u0300" +
+                    "\u0000\u0003\uea20\u0301\u0000\u0003\uea20\u0342\u0000\u0003\ueb20\u0300\u0000\u0003\ueb20\u0301" +
+                    "\u0000\u0003\ueb20\u0342\u0000\u0003\uec00\u0300\u0000\u0003\uec00\u0301\u0000\u0003\uec00\u0342" +
+                    "\u0000\u0003\uec00\u0345\u0000\u0003\uec20\u0300\u0000\u0003\uec20\u0301\u0000\u0003\uec20\u0342" +
+                    "\u0000\u0003\uec20\u0345\u0000\u0003\uec40\u0345\u0000\u0003\uec60\u0345\u0000\u0003\uec80\u0345" +
+                    "\u0000\u0003\ueca0\u0345\u0000\u0003\uecc0\u0345\u0000\u0003\uece0\u0345\u0000\u0003\ued00\u0300" +
+                    "\u0000\u0003\ued00\u0301\u0000\u0003\ued00\u0342\u0000\u0003\ued00\u0345\u0000\u0003\ued20\u0300" +
+                    "\u0000\u0003\ued20\u0301\u0000\u0003\ued20\u0342\u0000\u0003\ued20\u0345\u0000\u0003\ued40\u0345" +
+                    "\u0000\u0003\ued60\u0345\u0000\u0003\ued80\u0345\u0000\u0003\ueda0\u0345\u0000\u0003\uedc0\u0345" +
+                    "\u0000\u0003\uede0\u0345\u0000\u0003\uee00\u0345\u0000\u0003\uee80\u0345\u0000\u0003\uef80\u0345" +
+                    "\u0000\u0003\uf6c0\u0345\u0000\u0003\uf7e0\u0300\u0000\u0003\uf7e0\u0301\u0000\u0003\uf7e0\u0342" +
+                    "\u0000\u0003\uf8c0\u0345\u0000\u0003\ufec0\u0345\u0000\u0003\uffc0\u0300\u0000\u0003\uffc0\u0301" +
+                    "\u0000\u0003\uffc0\u0342\u0000\u0004\u3200\u0338\u0000\u0004\u3240\u0338\u0000\u0004\u3280\u0338" +
+                    "\u0000\u0004\u3a00\u0338\u0000\u0004\u3a40\u0338\u0000\u0004\u3a80\u0338\u0000\u0004\u4060\u0338" +
+                    "\u0000\u0004\u4100\u0338\u0000\u0004\u4160\u0338\u0000\u0004\u4460\u0338\u0000\u0004\u44a0\u0338" +
+                    "\u0000\u0004\u4780\u0338\u0000\u0004\u4860\u0338\u0000\u0004\u48a0\u0338\u0000\u0004\u4900\u0338" +
+                    "\u0000\u0004\u49a0\u0338\u0000\u0004\u4c20\u0338\u0000\u0004\u4c80\u0338\u0000\u0004\u4ca0\u0338" +
+                    "\u0000\u0004\u4e40\u0338\u0000\u0004\u4e60\u0338\u0000\u0004\u4ec0\u0338\u0000\u0004\u4ee0\u0338" +
+                    "\u0000\u0004\u4f40\u0338\u0000\u0004\u4f60\u0338\u0000\u0004\u4f80\u0338\u0000\u0004\u4fa0\u0338" +
+                    "\u0000\u0004\u5040\u0338\u0000\u0004\u5060\u0338\u0000\u0004\u50c0\u0338\u0000\u0004\u50e0\u0338" +
+                    "\u0000\u0004\u5220\u0338\u0000\u0004\u5240\u0338\u0000\u0004\u5440\u0338\u0000\u0004\u5500\u0338" +
+                    "\u0000\u0004\u5520\u0338\u0000\u0004\u5560\u0338\u0000\u0004\u5640\u0338\u0000\u0004\u5660\u0338" +
+                    "\u0000\u0004\u5680\u0338\u0000\u0004\u56a0\u0338\u0000\u0006\u08c0\u3099\u0000\u0006\u0960\u3099" +
+                    "\u0000\u0006\u09a0\u3099\u0000\u0006\u09e0\u3099\u0000\u0006\u0a20\u3099\u0000\u0006\u0a60\u3099" +
+                    "\u0000\u0006\u0aa0\u3099\u0000\u0006\u0ae0\u3099\u0000\u0006\u0b20\u3099\u0000\u0006\u0b60\u3099" +
+                    "\u0000\u0006\u0ba0\u3099\u0000\u0006\u0be0\u3099\u0000\u0006\u0c20\u3099\u0000\u0006\u0c80\u3099" +
+                    "\u0000\u0006\u0cc0\u3099\u0000\u0006\u0d00\u3099\u0000\u0006\u0de0\u3099\u0000\u0006\u0de0\u309a" +
+                    "\u0000\u0006\u0e40\u3099\u0000\u0006\u0e40\u309a\u0000\u0006\u0ea0\u3099\u0000\u0006\u0ea0\u309a" +
+                    "\u0000\u0006\u0f00\u3099\u0000\u0006\u0f00\u309a\u0000\u0006\u0f60\u3099\u0000\u0006\u0f60\u309a" +
+                    "\u0000\u0006\u13a0\u3099\u0000\u0006\u14c0\u3099\u0000\u0006\u1560\u3099\u0000\u0006\u15a0\u3099" +
+                    "\u0000\u0006\u15e0\u3099\u0000\u0006\u1620\u3099\u0000\u0006\u1660\u3099\u0000\u0006\u16a0\u3099" +
+                    "\u0000\u0006\u16e0\u3099\u0000\u0006\u1720\u3099\u0000\u0006\u1760\u3099\u0000\u0006\u17a0\u3099" +
+                    "\u0000\u0006\u17e0\u3099\u0000\u0006\u1820\u3099\u0000\u0006\u1880\u3099\u0000\u0006\u18c0\u3099" +
+                    "\u0000\u0006\u1900\u3099\u0000\u0006\u19e0\u3099\u0000\u0006\u19e0\u309a\u0000\u0006\u1a40\u3099" +
+                    "\u0000\u0006\u1a40\u309a\u0000\u0006\u1aa0\u3099\u0000\u0006\u1aa0\u309a\u0000\u0006\u1b00\u3099" +
+                    "\u0000\u0006\u1b00\u309a\u0000\u0006\u1b60\u3099\u0000\u0006\u1b60\u309a\u0000\u0006\u1de0\u3099" +
+                    "\u0000\u0006\u1e00\u3099\u0000\u0006\u1e20\u3099\u0000\u0006\u1e40\u3099\u0000\u0006\u1fa0\u3099" +
+                    "\u0000\"\u1321\u10ba\u0000\"\u1361\u10ba\u0000\"\u14a1\u10ba\u0000\"\u2621\u1127" +
+                    "\u0000\"\u2641\u1127\u0000\"\u68e1\u133e\u0000\"\u68e1\u1357\u0000\"\u9721\u14b0" +
+                    "\u0000\"\u9721\u14ba\u0000\"\u9721\u14bd\u0000\"\ub701\u15af\u0000\"\ub721\u15af" +
+                    "\u0000#\u26a1\u1930"
+    };
+
+    static final String[] COMPOSITION_VALUES = {
+                    "\u0000\u226e\u0000\u2260\u0000\u226f\u0000\u00c0\u0000\u00c1\u0000\u00c2\u0000\u00c3\u0000\u0100" +
+                    "\u0000\u0102\u0000\u0226\u0000\u00c4\u0000\u1ea2\u0000\u00c5\u0000\u01cd\u0000\u0200\u0000\u0202" +
+                    "\u0000\u1ea0\u0000\u1e00\u0000\u0104\u0000\u1e02\u0000\u1e04\u0000\u1e06\u0000\u0106\u0000\u0108" +
+                    "\u0000\u010a\u0000\u010c\u0000\u00c7\u0000\u1e0a\u0000\u010e\u0000\u1e0c\u0000\u1e10\u0000\u1e12" +
+                    "\u0000\u1e0e\u0000\u00c8\u0000\u00c9\u0000\u00ca\u0000\u1ebc\u0000\u0112\u0000\u0114\u0000\u0116" +
+                    "\u0000\u00cb\u0000\u1eba\u0000\u011a\u0000\u0204\u0000\u0206\u0000\u1eb8\u0000\u0228\u0000\u0118" +
+                    "\u0000\u1e18\u0000\u1e1a\u0000\u1e1e\u0000\u01f4\u0000\u011c\u0000\u1e20\u0000\u011e\u0000\u0120" +
+                    "\u0000\u01e6\u0000\u0122\u0000\u0124\u0000\u1e22\u0000\u1e26\u0000\u021e\u0000\u1e24\u0000\u1e28" +
+                    "\u0000\u1e2a\u0000\u00cc\u0000\u00cd\u0000\u00ce\u0000\u0128\u0000\u012a\u0000\u012c\u0000\u0130" +
+                    "\u0000\u00cf\u0000\u1ec8\u0000\u01cf\u0000\u0208\u0000\u020a\u0000\u1eca\u0000\u012e\u0000\u1e2c" +
+                    "\u0000\u0134\u0000\u1e30\u0000\u01e8\u0000\u1e32\u0000\u0136\u0000\u1e34\u0000\u0139\u0000\u013d" +
+                    "\u0000\u1e36\u0000\u013b\u0000\u1e3c\u0000\u1e3a\u0000\u1e3e\u0000\u1e40\u0000\u1e42\u0000\u01f8" +
+                    "\u0000\u0143\u0000\u00d1\u0000\u1e44\u0000\u0147\u0000\u1e46\u0000\u0145\u0000\u1e4a\u0000\u1e48" +
+                    "\u0000\u00d2\u0000\u00d3\u0000\u00d4\u0000\u00d5\u0000\u014c\u0000\u014e\u0000\u022e\u0000\u00d6" +
+                    "\u0000\u1ece\u0000\u0150\u0000\u01d1\u0000\u020c\u0000\u020e\u0000\u01a0\u0000\u1ecc\u0000\u01ea" +
+                    "\u0000\u1e54\u0000\u1e56\u0000\u0154\u0000\u1e58\u0000\u0158\u0000\u0210\u0000\u0212\u0000\u1e5a" +
+                    "\u0000\u0156\u0000\u1e5e\u0000\u015a\u0000\u015c\u0000\u1e60\u0000\u0160\u0000\u1e62\u0000\u0218" +
+                    "\u0000\u015e\u0000\u1e6a\u0000\u0164\u0000\u1e6c\u0000\u021a\u0000\u0162\u0000\u1e70\u0000\u1e6e" +
+                    "\u0000\u00d9\u0000\u00da\u0000\u00db\u0000\u0168\u0000\u016a\u0000\u016c\u0000\u00dc\u0000\u1ee6" +
+                    "\u0000\u016e\u0000\u0170\u0000\u01d3\u0000\u0214\u0000\u0216\u0000\u01af\u0000\u1ee4\u0000\u1e72" +
+                    "\u0000\u0172\u0000\u1e76\u0000\u1e74\u0000\u1e7c\u0000\u1e7e\u0000\u1e80\u0000\u1e82\u0000\u0174" +
+                    "\u0000\u1e86\u0000\u1e84\u0000\u1e88\u0000\u1e8a\u0000\u1e8c\u0000\u1ef2\u0000\u00dd\u0000\u0176" +
+                    "\u0000\u1ef8\u0000\u0232\u0000\u1e8e\u0000\u0178\u0000\u1ef6\u0000\u1ef4\u0000\u0179\u0000\u1e90" +
+                    "\u0000\u017b\u0000\u017d\u0000\u1e92\u0000\u1e94\u0000\u00e0\u0000\u00e1\u0000\u00e2\u0000\u00e3" +
+                    "\u0000\u0101\u0000\u0103\u0000\u0227\u0000\u00e4\u0000\u1ea3\u0000\u00e5\u0000\u01ce\u0000\u0201" +
+                    "\u0000\u0203\u0000\u1ea1\u0000\u1e01\u0000\u0105\u0000\u1e03\u0000\u1e05\u0000\u1e07\u0000\u0107" +
+                    "\u0000\u0109\u0000\u010b\u0000\u010d\u0000\u00e7\u0000\u1e0b\u0000\u010f\u0000\u1e0d\u0000\u1e11" +
+                    "\u0000\u1e13\u0000\u1e0f\u0000\u00e8\u0000\u00e9\u0000\u00ea\u0000\u1ebd\u0000\u0113\u0000\u0115" +
+                    "\u0000\u0117\u0000\u00eb\u0000\u1ebb\u0000\u011b\u0000\u0205\u0000\u0207\u0000\u1eb9\u0000\u0229" +
+                    "\u0000\u0119\u0000\u1e19\u0000\u1e1b\u0000\u1e1f\u0000\u01f5\u0000\u011d\u0000\u1e21\u0000\u011f" +
+                    "\u0000\u0121\u0000\u01e7\u0000\u0123\u0000\u0125\u0000\u1e23\u0000\u1e27\u0000\u021f\u0000\u1e25" +
+                    "\u0000\u1e29\u0000\u1e2b\u0000\u1e96\u0000\u00ec\u0000\u00ed\u0000\u00ee\u0000\u0129\u0000\u012b" +
+                    "\u0000\u012d\u0000\u00ef\u0000\u1ec9\u0000\u01d0\u0000\u0209\u0000\u020b\u0000\u1ecb\u0000\u012f" +
+                    "\u0000\u1e2d\u0000\u0135\u0000\u01f0\u0000\u1e31\u0000\u01e9\u0000\u1e33\u0000\u0137\u0000\u1e35" +
+                    "\u0000\u013a\u0000\u013e\u0000\u1e37\u0000\u013c\u0000\u1e3d\u0000\u1e3b\u0000\u1e3f\u0000\u1e41" +
+                    "\u0000\u1e43\u0000\u01f9\u0000\u0144\u0000\u00f1\u0000\u1e45\u0000\u0148\u0000\u1e47\u0000\u0146" +
+                    "\u0000\u1e4b\u0000\u1e49\u0000\u00f2\u0000\u00f3\u0000\u00f4\u0000\u00f5\u0000\u014d\u0000\u014f" +
+                    "\u0000\u022f\u0000\u00f6\u0000\u1ecf\u0000\u0151\u0000\u01d2\u0000\u020d\u0000\u020f\u0000\u01a1" +
+                    "\u0000\u1ecd\u0000\u01eb\u0000\u1e55\u0000\u1e57\u0000\u0155\u0000\u1e59\u0000\u0159\u0000\u0211" +
+                    "\u0000\u0213\u0000\u1e5b\u0000\u0157\u0000\u1e5f\u0000\u015b\u0000\u015d\u0000\u1e61\u0000\u0161" +
+                    "\u0000\u1e63\u0000\u0219\u0000\u015f\u0000\u1e6b\u0000\u1e97\u0000\u0165\u0000\u1e6d\u0000\u021b" +
+                    "\u0000\u0163\u0000\u1e71\u0000\u1e6f\u0000\u00f9\u0000\u00fa\u0000\u00fb\u0000\u0169\u0000\u016b" +
+                    "\u0000\u016d\u0000\u00fc\u0000\u1ee7\u0000\u016f\u0000\u0171\u0000\u01d4\u0000\u0215\u0000\u0217" +
+                    "\u0000\u01b0\u0000\u1ee5\u0000\u1e73\u0000\u0173\u0000\u1e77\u0000\u1e75\u0000\u1e7d\u0000\u1e7f" +
+                    "\u0000\u1e81\u0000\u1e83\u0000\u0175\u0000\u1e87\u0000\u1e85\u0000\u1e98\u0000\u1e89\u0000\u1e8b" +
+                    "\u0000\u1e8d\u0000\u1ef3\u0000\u00fd\u0000\u0177\u0000\u1ef9\u0000\u0233\u0000\u1e8f\u0000\u00ff" +
+                    "\u0000\u1ef7\u0000\u1e99\u0000\u1ef5\u0000\u017a\u0000\u1e91\u0000\u017c\u0000\u017e\u0000\u1e93" +
+                    "\u0000\u1e95\u0000\u1fed\u0000\u0385\u0000\u1fc1\u0000\u1ea6\u0000\u1ea4\u0000\u1eaa\u0000\u1ea8" +
+                    "\u0000\u01de\u0000\u01fa\u0000\u01fc\u0000\u01e2\u0000\u1e08\u0000\u1ec0\u0000\u1ebe\u0000\u1ec4" +
+                    "\u0000\u1ec2\u0000\u1e2e\u0000\u1ed2\u0000\u1ed0\u0000\u1ed6\u0000\u1ed4\u0000\u1e4c\u0000\u022c" +
+                    "\u0000\u1e4e\u0000\u022a\u0000\u01fe\u0000\u01db\u0000\u01d7\u0000\u01d5\u0000\u01d9\u0000\u1ea7" +
+                    "\u0000\u1ea5\u0000\u1eab\u0000\u1ea9\u0000\u01df\u0000\u01fb\u0000\u01fd\u0000\u01e3\u0000\u1e09" +
+                    "\u0000\u1ec1\u0000\u1ebf\u0000\u1ec5\u0000\u1ec3\u0000\u1e2f\u0000\u1ed3\u0000\u1ed1\u0000\u1ed7" +
+                    "\u0000\u1ed5\u0000\u1e4d\u0000\u022d\u0000\u1e4f\u0000\u022b\u0000\u01ff\u0000\u01dc\u0000\u01d8" +
+                    "\u0000\u01d6\u0000\u01da\u0000\u1eb0\u0000\u1eae\u0000\u1eb4\u0000\u1eb2\u0000\u1eb1\u0000\u1eaf" +
+                    "\u0000\u1eb5\u0000\u1eb3\u0000\u1e14\u0000\u1e16\u0000\u1e15\u0000\u1e17\u0000\u1e50\u0000\u1e52" +
+                    "\u0000\u1e51\u0000\u1e53\u0000\u1e64\u0000\u1e65\u0000\u1e66\u0000\u1e67\u0000\u1e78\u0000\u1e79" +
+                    "\u0000\u1e7a\u0000\u1e7b\u0000\u1e9b\u0000\u1edc\u0000\u1eda\u0000\u1ee0\u0000\u1ede\u0000\u1ee2" +
+                    "\u0000\u1edd\u0000\u1edb\u0000\u1ee1\u0000\u1edf\u0000\u1ee3\u0000\u1eea\u0000\u1ee8\u0000\u1eee" +
+                    "\u0000\u1eec\u0000\u1ef0\u0000\u1eeb\u0000\u1ee9\u0000\u1eef\u0000\u1eed\u0000\u1ef1\u0000\u01ee" +
+                    "\u0000\u01ec\u0000\u01ed\u0000\u01e0\u0000\u01e1\u0000\u1e1c\u0000\u1e1d\u0000\u0230\u0000\u0231" +
+                    "\u0000\u01ef\u0000\u1fba\u0000\u0386\u0000\u1fb9\u0000\u1fb8\u0000\u1f08\u0000\u1f09\u0000\u1fbc" +
+                    "\u0000\u1fc8\u0000\u0388\u0000\u1f18\u0000\u1f19\u0000\u1fca\u0000\u0389\u0000\u1f28\u0000\u1f29" +
+                    "\u0000\u1fcc\u0000\u1fda\u0000\u038a\u0000\u1fd9\u0000\u1fd8\u0000\u03aa\u0000\u1f38\u0000\u1f39" +
+                    "\u0000\u1ff8\u0000\u038c\u0000\u1f48\u0000\u1f49\u0000\u1fec\u0000\u1fea\u0000\u038e\u0000\u1fe9" +
+                    "\u0000\u1fe8\u0000\u03ab\u0000\u1f59\u0000\u1ffa\u0000\u038f\u0000\u1f68\u0000\u1f69\u0000\u1ffc" +
+                    "\u0000\u1fb4\u0000\u1fc4\u0000\u1f70\u0000\u03ac\u0000\u1fb1\u0000\u1fb0\u0000\u1f00\u0000\u1f01" +
+                    "\u0000\u1fb6\u0000\u1fb3\u0000\u1f72\u0000\u03ad\u0000\u1f10\u0000\u1f11\u0000\u1f74\u0000\u03ae" +
+                    "\u0000\u1f20\u0000\u1f21\u0000\u1fc6\u0000\u1fc3\u0000\u1f76\u0000\u03af\u0000\u1fd1\u0000\u1fd0" +
+                    "\u0000\u03ca\u0000\u1f30\u0000\u1f31\u0000\u1fd6\u0000\u1f78\u0000\u03cc\u0000\u1f40\u0000\u1f41" +
+                    "\u0000\u1fe4\u0000\u1fe5\u0000\u1f7a\u0000\u03cd\u0000\u1fe1\u0000\u1fe0\u0000\u03cb\u0000\u1f50" +
+                    "\u0000\u1f51\u0000\u1fe6\u0000\u1f7c\u0000\u03ce\u0000\u1f60\u0000\u1f61\u0000\u1ff6\u0000\u1ff3" +
+                    "\u0000\u1fd2\u0000\u0390\u0000\u1fd7\u0000\u1fe2\u0000\u03b0\u0000\u1fe7\u0000\u1ff4\u0000\u03d3" +
+                    "\u0000\u03d4\u0000\u0407\u0000\u04d0\u0000\u04d2\u0000\u0403\u0000\u0400\u0000\u04d6\u0000\u0401" +
+                    "\u0000\u04c1\u0000\u04dc\u0000\u04de\u0000\u040d\u0000\u04e2\u0000\u0419\u0000\u04e4\u0000\u040c" +
+                    "\u0000\u04e6\u0000\u04ee\u0000\u040e\u0000\u04f0\u0000\u04f2\u0000\u04f4\u0000\u04f8\u0000\u04ec" +
+                    "\u0000\u04d1\u0000\u04d3\u0000\u0453\u0000\u0450\u0000\u04d7\u0000\u0451\u0000\u04c2\u0000\u04dd" +
+                    "\u0000\u04df\u0000\u045d\u0000\u04e3\u0000\u0439\u0000\u04e5\u0000\u045c\u0000\u04e7\u0000\u04ef" +
+                    "\u0000\u045e\u0000\u04f1\u0000\u04f3\u0000\u04f5\u0000\u04f9\u0000\u04ed\u0000\u0457\u0000\u0476" +
+                    "\u0000\u0477\u0000\u04da\u0000\u04db\u0000\u04ea\u0000\u04eb\u0000\u0622\u0000\u0623\u0000\u0625" +
+                    "\u0000\u0624\u0000\u0626\u0000\u06c2\u0000\u06d3\u0000\u06c0\u0000\u0929\u0000\u0931\u0000\u0934" +
+                    "\u0000\u09cb\u0000\u09cc\u0000\u0b4b\u0000\u0b48\u0000\u0b4c\u0000\u0b94\u0000\u0bca\u0000\u0bcc" +
+                    "\u0000\u0bcb\u0000\u0c48\u0000\u0cc0\u0000\u0cca\u0000\u0cc7\u0000\u0cc8\u0000\u0ccb\u0000\u0d4a" +
+                    "\u0000\u0d4c\u0000\u0d4b\u0000\u0dda\u0000\u0ddc\u0000\u0dde\u0000\u0ddd\u0000\u1026\u0000\u1b06" +
+                    "\u0000\u1b08\u0000\u1b0a\u0000\u1b0c\u0000\u1b0e\u0000\u1b12\u0000\u1b3b\u0000\u1b3d\u0000\u1b40" +
+                    "\u0000\u1b41\u0000\u1b43\u0000\u1e38\u0000\u1e39\u0000\u1e5c\u0000\u1e5d\u0000\u1e68\u0000\u1e69" +
+                    "\u0000\u1eac\u0000\u1eb6\u0000\u1ead\u0000\u1eb7\u0000\u1ec6\u0000\u1ec7\u0000\u1ed8\u0000\u1ed9" +
+                    "\u0000\u1f02\u0000\u1f04\u0000\u1f06\u0000\u1f80\u0000\u1f03\u0000\u1f05\u0000\u1f07\u0000\u1f81" +
+                    "\u0000\u1f82\u0000\u1f83\u0000\u1f84\u0000\u1f85\u0000\u1f86\u0000\u1f87\u0000\u1f0a\u0000\u1f0c" +
+                    "\u0000\u1f0e\u0000\u1f88\u0000\u1f0b\u0000\u1f0d\u0000\u1f0f\u0000\u1f89\u0000\u1f8a\u0000\u1f8b" +
+                    "\u0000\u1f8c\u0000\u1f8d\u0000\u1f8e\u0000\u1f8f\u0000\u1f12\u0000\u1f14\u0000\u1f13\u0000\u1f15" +
+                    "\u0000\u1f1a\u0000\u1f1c\u0000\u1f1b\u0000\u1f1d\u0000\u1f22\u0000\u1f24\u0000\u1f26\u0000\u1f90" +
+                    "\u0000\u1f23\u0000\u1f25\u0000\u1f27\u0000\u1f91\u0000\u1f92\u0000\u1f93\u0000\u1f94\u0000\u1f95" +
+                    "\u0000\u1f96\u0000\u1f97\u0000\u1f2a\u0000\u1f2c\u0000\u1f2e\u0000\u1f98\u0000\u1f2b\u0000\u1f2d" +
+                    "\u0000\u1f2f\u0000\u1f99\u0000\u1f9a\u0000\u1f9b\u0000\u1f9c\u0000\u1f9d\u0000\u1f9e\u0000\u1f9f" +
+                    "\u0000\u1f32\u0000\u1f34\u0000\u1f36\u0000\u1f33\u0000\u1f35\u0000\u1f37\u0000\u1f3a\u0000\u1f3c" +
+                    "\u0000\u1f3e\u0000\u1f3b\u0000\u1f3d\u0000\u1f3f\u0000\u1f42\u0000\u1f44\u0000\u1f43\u0000\u1f45" +
+                    "\u0000\u1f4a\u0000\u1f4c\u0000\u1f4b\u0000\u1f4d\u0000\u1f52\u0000\u1f54\u0000\u1f56\u0000\u1f53" +
+                    "\u0000\u1f55\u0000\u1f57\u0000\u1f5b\u0000\u1f5d\u0000\u1f5f\u0000\u1f62\u0000\u1f64\u0000\u1f66" +
+                    "\u0000\u1fa0\u0000\u1f63\u0000\u1f65\u0000\u1f67\u0000\u1fa1\u0000\u1fa2\u0000\u1fa3\u0000\u1fa4" +
+                    "\u0000\u1fa5\u0000\u1fa6\u0000\u1fa7\u0000\u1f6a\u0000\u1f6c\u0000\u1f6e\u0000\u1fa8\u0000\u1f6b" +
+                    "\u0000\u1f6d\u0000\u1f6f\u0000\u1fa9\u0000\u1faa\u0000\u1fab\u0000\u1fac\u0000\u1fad\u0000\u1fae" +
+                    "\u0000\u1faf\u0000\u1fb2\u0000\u1fc2\u0000\u1ff2\u0000\u1fb7\u0000\u1fcd\u0000\u1fce\u0000\u1fcf" +
+                    "\u0000\u1fc7\u0000\u1ff7\u0000\u1fdd\u0000\u1fde\u0000\u1fdf\u0000\u219a\u0000\u219b\u0000\u21ae" +
+                    "\u0000\u21cd\u0000\u21cf\u0000\u21ce\u0000\u2204\u0000\u2209\u0000\u220c\u0000\u2224\u0000\u2226" +
+                    "\u0000\u2241\u0000\u2244\u0000\u2247\u0000\u2249\u0000\u226d\u0000\u2262\u0000\u2270\u0000\u2271" +
+                    "\u0000\u2274\u0000\u2275\u0000\u2278\u0000\u2279\u0000\u2280\u0000\u2281\u0000\u22e0\u0000\u22e1" +
+                    "\u0000\u2284\u0000\u2285\u0000\u2288\u0000\u2289\u0000\u22e2\u0000\u22e3\u0000\u22ac\u0000\u22ad" +
+                    "\u0000\u22ae\u0000\u22af\u0000\u22ea\u0000\u22eb\u0000\u22ec\u0000\u22ed\u0000\u3094\u0000\u304c" +
+                    "\u0000\u304e\u0000\u3050\u0000\u3052\u0000\u3054\u0000\u3056\u0000\u3058\u0000\u305a\u0000\u305c" +
+                    "\u0000\u305e\u0000\u3060\u0000\u3062\u0000\u3065\u0000\u3067\u0000\u3069\u0000\u3070\u0000\u3071" +
+                    "\u0000\u3073\u0000\u3074\u0000\u3076\u0000\u3077\u0000\u3079\u0000\u307a\u0000\u307c\u0000\u307d" +
+                    "\u0000\u309e\u0000\u30f4\u0000\u30ac\u0000\u30ae\u0000\u30b0\u0000\u30b2\u0000\u30b4\u0000\u30b6" +
+                    "\u0000\u30b8\u0000\u30ba\u0000\u30bc\u0000\u30be\u0000\u30c0\u0000\u30c2\u0000\u30c5\u0000\u30c7" +
+                    "\u0000\u30c9\u0000\u30d0\u0000\u30d1\u0000\u30d3\u0000\u30d4\u0000\u30d6\u0000\u30d7\u0000\u30d9" +
+                    "\u0000\u30da\u0000\u30dc\u0000\u30dd\u0000\u30f7\u0000\u30f8\u0000\u30f9\u0000\u30fa\u0000\u30fe" +
+                    "\u0001\u109a\u0001\u109c\u0001\u10ab\u0001\u112e\u0001\u112f\u0001\u134b\u0001\u134c\u0001\u14bc" +
+                    "\u0001\u14bb\u0001\u14be\u0001\u15ba\u0001\u15bb\u0001\u1938"
+    };
+
+    // pairs of code points and their corrected decomposition in Unicode 3.2.0
+    static final int[] NORMALIZATION_3_2_0 = {
+                    0x2F868, 0x2136A, 0x2F874, 0x5F33, 0x2F91F, 0x43AB, 0x2F95F, 0x7AAE,
+                    0x2F9BF, 0x4D57
+    };
+
+    static final String[] ALIAS_NAMES = {
+                    "ACK", "ACKNOWLEDGE", "ALERT", "ALM",
+                    "APC", "APPLICATION PROGRAM COMMAND", "BACKSPACE", "BEL",
+                    "BOM", "BPH", "BREAK PERMITTED HERE", "BS",
+                    "BYTE ORDER MARK", "BYZANTINE MUSICAL SYMBOL FTHORA SKLIRON CHROMA VASIS", "CAN", "CANCEL",
+                    "CANCEL CHARACTER", "CARRIAGE RETURN", "CCH", "CGJ",
+                    "CHARACTER TABULATION", "CHARACTER TABULATION SET", "CHARACTER TABULATION WITH JUSTIFICATION", "CONTROL SEQUENCE INTRODUCER",
+                    "CR", "CSI", "CUNEIFORM SIGN NU11 OVER NU11 BUR OVER BUR", "CUNEIFORM SIGN NU11 TENU",
+                    "DATA LINK ESCAPE", "DC1", "DC2", "DC3",
+                    "DC4", "DCS", "DEL", "DELETE",
+                    "DEVICE CONTROL FOUR", "DEVICE CONTROL ONE", "DEVICE CONTROL STRING", "DEVICE CONTROL THREE",
+                    "DEVICE CONTROL TWO", "DLE", "END OF GUARDED AREA", "END OF LINE",
+                    "END OF MEDIUM", "END OF PROTECTED AREA", "END OF SELECTED AREA", "END OF TEXT",
+                    "END OF TRANSMISSION", "END OF TRANSMISSION BLOCK", "ENQ", "ENQUIRY",
+                    "EOL", "EOM", "EOT", "EPA",
+                    "ESA", "ESC", "ESCAPE", "ETB",
+                    "ETX", "FF", "FILE SEPARATOR", "FORM FEED",
+                    "FS", "FSI", "FVS1", "FVS2",
+                    "FVS3", "FVS4", "GROUP SEPARATOR", "GS",
+                    "HANGUL JONGSEONG SSANGYESIEUNG", "HANGUL JONGSEONG YESIEUNG-KHIEUKH", "HANGUL JONGSEONG YESIEUNG-KIYEOK", "HANGUL JONGSEONG YESIEUNG-SSANGKIYEOK",
+                    "HENTAIGANA LETTER E-1", "HIGH OCTET PRESET", "HOP", "HORIZONTAL TABULATION",
+                    "HORIZONTAL TABULATION SET", "HORIZONTAL TABULATION WITH JUSTIFICATION", "HT", "HTJ",
+                    "HTS", "IND", "INDEX", "INFORMATION SEPARATOR FOUR",
+                    "INFORMATION SEPARATOR ONE", "INFORMATION SEPARATOR THREE", "INFORMATION SEPARATOR TWO", "KANNADA LETTER LLLA",
+                    "LAO LETTER FO FAY", "LAO LETTER FO FON", "LAO LETTER LO", "LAO LETTER RO",
+                    "LATIN CAPITAL LETTER GHA", "LATIN SMALL LETTER GHA", "LEFTWARDS TRIANGLE-HEADED ARROW WITH DOUBLE VERTICAL STROKE", "LF",
+                    "LINE FEED", "LINE TABULATION", "LINE TABULATION SET", "LOCKING-SHIFT ONE",
+                    "LOCKING-SHIFT ZERO", "LRE", "LRI", "LRM",
+                    "LRO", "MEDEFAIDRIN CAPITAL LETTER H", "MEDEFAIDRIN CAPITAL LETTER NG", "MEDEFAIDRIN SMALL LETTER H",
+                    "MEDEFAIDRIN SMALL LETTER NG", "MESSAGE WAITING", "MICR DASH SYMBOL", "MICR ON US SYMBOL",
+                    "MMSP", "MVS", "MW", "MYANMAR LETTER KHAMTI LLA",
+                    "NAK", "NBH", "NBSP", "NEGATIVE ACKNOWLEDGE",
+                    "NEL", "NEW LINE", "NEXT LINE", "NL",
+                    "NNBSP", "NO BREAK HERE", "NUL", "NULL",
+                    "OPERATING SYSTEM COMMAND", "OSC", "PAD", "PADDING CHARACTER",
+                    "PARTIAL LINE BACKWARD", "PARTIAL LINE DOWN", "PARTIAL LINE FORWARD", "PARTIAL LINE UP",
+                    "PDF", "PDI", "PLD", "PLU",
+                    "PM", "PRESENTATION FORM FOR VERTICAL RIGHT WHITE LENTICULAR BRACKET", "PRIVACY MESSAGE", "PRIVATE USE ONE",
+                    "PRIVATE USE TWO", "PRIVATE USE-1", "PRIVATE USE-2", "PU1",
+                    "PU2", "RECORD SEPARATOR", "REVERSE INDEX", "REVERSE LINE FEED",
+                    "RI", "RIGHTWARDS TRIANGLE-HEADED ARROW WITH DOUBLE VERTICAL STROKE", "RLE", "RLI",
+                    "RLM", "RLO", "RS", "SCI",
+                    "SET TRANSMIT STATE", "SGC", "SHIFT IN", "SHIFT OUT",
+                    "SHY", "SI", "SINGLE CHARACTER INTRODUCER", "SINGLE GRAPHIC CHARACTER INTRODUCER",
+                    "SINGLE SHIFT THREE", "SINGLE SHIFT TWO", "SINGLE-SHIFT-2", "SINGLE-SHIFT-3",
+                    "SO", "SOH", "SOS", "SP",
+                    "SPA", "SS2", "SS3", "SSA",
+                    "ST", "START OF GUARDED AREA", "START OF HEADING", "START OF PROTECTED AREA",
+                    "START OF SELECTED AREA", "START OF STRING", "START OF TEXT", "STRING TERMINATOR",
+                    "STS", "STX", "SUB", "SUBSTITUTE",
+                    "SYN", "SYNCHRONOUS IDLE", "SYRIAC SUBLINEAR COLON SKEWED LEFT", "TAB",
+                    "TIBETAN MARK BKA- SHOG GI MGO RGYAN", "UNIT SEPARATOR", "US", "VERTICAL TABULATION",
+                    "VERTICAL TABULATION SET", "VS1", "VS10", "VS100",
+                    "VS101", "VS102", "VS103", "VS104",
+                    "VS105", "VS106", "VS107", "VS108",
+                    "VS109", "VS11", "VS110", "VS111",
+                    "VS112", "VS113", "VS114", "VS115",
+                    "VS116", "VS117", "VS118", "VS119",
+                    "VS12", "VS120", "VS121", "VS122",
+                    "VS123", "VS124", "VS125", "VS126",
+                    "VS127", "VS128", "VS129", "VS13",
+                    "VS130", "VS131", "VS132", "VS133",
+                    "VS134", "VS135", "VS136", "VS137",
+                    "VS138", "VS139", "VS14", "VS140",
+                    "VS141", "VS142", "VS143", "VS144",
+                    "VS145", "VS146", "VS147", "VS148",
+                    "VS149", "VS15", "VS150", "VS151",
+                    "VS152", "VS153", "VS154", "VS155",
+                    "VS156", "VS157", "VS158", "VS159",
+                    "VS16", "VS160", "VS161", "VS162",
+                    "VS163", "VS164", "VS165", "VS166",
+                    "VS167", "VS168", "VS169", "VS17",
+                    "VS170", "VS171", "VS172", "VS173",
+                    "VS174", "VS175", "VS176", "VS177",
+                    "VS178", "VS179", "VS18", "VS180",
+                    "VS181", "VS182", "VS183", "VS184",
+                    "VS185", "VS186", "VS187", "VS188",
+                    "VS189", "VS19", "VS190", "VS191",
+                    "VS192", "VS193", "VS194", "VS195",
+                    "VS196", "VS197", "VS198", "VS199",
+                    "VS2", "VS20", "VS200", "VS201",
+                    "VS202", "VS203", "VS204", "VS205",
+                    "VS206", "VS207", "VS208", "VS209",
+                    "VS21", "VS210", "VS211", "VS212",
+                    "VS213", "VS214", "VS215", "VS216",
+                    "VS217", "VS218", "VS219", "VS22",
+                    "VS220", "VS221", "VS222", "VS223",
+                    "VS224", "VS225", "VS226", "VS227",
+                    "VS228", "VS229", "VS23", "VS230",
+                    "VS231", "VS232", "VS233", "VS234",
+                    "VS235", "VS236", "VS237", "VS238",
+                    "VS239", "VS24", "VS240", "VS241",
+                    "VS242", "VS243", "VS244", "VS245",
+                    "VS246", "VS247", "VS248", "VS249",
+                    "VS25", "VS250", "VS251", "VS252",
+                    "VS253", "VS254", "VS255", "VS256",
+                    "VS26", "VS27", "VS28", "VS29",
+                    "VS3", "VS30", "VS31", "VS32",
+                    "VS33", "VS34", "VS35", "VS36",
+                    "VS37", "VS38", "VS39", "VS4",
+                    "VS40", "VS41", "VS42", "VS43",
+                    "VS44", "VS45", "VS46", "VS47",
+                    "VS48", "VS49", "VS5", "VS50",
+                    "VS51", "VS52", "VS53", "VS54",
+                    "VS55", "VS56", "VS57", "VS58",
+                    "VS59", "VS6", "VS60", "VS61",
+                    "VS62", "VS63", "VS64", "VS65",
+                    "VS66", "VS67", "VS68", "VS69",
+                    "VS7", "VS70", "VS71", "VS72",
+                    "VS73", "VS74", "VS75", "VS76",
+                    "VS77", "VS78", "VS79", "VS8",
+                    "VS80", "VS81", "VS82", "VS83",
+                    "VS84", "VS85", "VS86", "VS87",
+                    "VS88", "VS89", "VS9", "VS90",
+                    "VS91", "VS92", "VS93", "VS94",
+                    "VS95", "VS96", "VS97", "VS98",
+                    "VS99", "VT", "VTS", "WEIERSTRASS ELLIPTIC FUNCTION",
+                    "WJ", "YI SYLLABLE ITERATION MARK", "ZWJ", "ZWNBSP",
+                    "ZWNJ", "ZWSP"
+    };
+
+    static final int[] ALIAS_CODEPOINTS = {
+                    0x6, 0x6, 0x7, 0x61C, 0x9F, 0x9F, 0x8, 0x7, 0xFEFF, 0x82, 0x82, 0x8, 0xFEFF, 0x1D0C5, 0x18, 0x18,
+                    0x94, 0xD, 0x94, 0x34F, 0x9, 0x88, 0x89, 0x9B, 0xD, 0x9B, 0x122D5, 0x122D4, 0x10, 0x11, 0x12, 0x13,
+                    0x14, 0x90, 0x7F, 0x7F, 0x14, 0x11, 0x90, 0x13, 0x12, 0x10, 0x97, 0xA, 0x19, 0x97, 0x87, 0x3,
+                    0x4, 0x17, 0x5, 0x5, 0xA, 0x19, 0x4, 0x97, 0x87, 0x1B, 0x1B, 0x17, 0x3, 0xC, 0x1C, 0xC,
+                    0x1C, 0x2068, 0x180B, 0x180C, 0x180D, 0x180F, 0x1D, 0x1D, 0x11EE, 0x11EF, 0x11EC, 0x11ED, 0x1B001, 0x81, 0x81, 0x9,
+                    0x88, 0x89, 0x9, 0x89, 0x88, 0x84, 0x84, 0x1C, 0x1F, 0x1D, 0x1E, 0xCDE, 0xE9F, 0xE9D, 0xEA5, 0xEA3,
+                    0x1A2, 0x1A3, 0x2B7A, 0xA, 0xA, 0xB, 0x8A, 0xE, 0xF, 0x202A, 0x2066, 0x200E, 0x202D, 0x16E56, 0x16E57, 0x16E76,
+                    0x16E77, 0x95, 0x2449, 0x2448, 0x205F, 0x180E, 0x95, 0xAA6E, 0x15, 0x83, 0xA0, 0x15, 0x85, 0xA, 0x85, 0xA,
+                    0x202F, 0x83, 0x0, 0x0, 0x9D, 0x9D, 0x80, 0x80, 0x8C, 0x8B, 0x8B, 0x8C, 0x202C, 0x2069, 0x8B, 0x8C,
+                    0x9E, 0xFE18, 0x9E, 0x91, 0x92, 0x91, 0x92, 0x91, 0x92, 0x1E, 0x8D, 0x8D, 0x8D, 0x2B7C, 0x202B, 0x2067,
+                    0x200F, 0x202E, 0x1E, 0x9A, 0x93, 0x99, 0xF, 0xE, 0xAD, 0xF, 0x9A, 0x99, 0x8F, 0x8E, 0x8E, 0x8F,
+                    0xE, 0x1, 0x98, 0x20, 0x96, 0x8E, 0x8F, 0x86, 0x9C, 0x96, 0x1, 0x96, 0x86, 0x98, 0x2, 0x9C,
+                    0x93, 0x2, 0x1A, 0x1A, 0x16, 0x16, 0x709, 0x9, 0xFD0, 0x1F, 0x1F, 0xB, 0x8A, 0xFE00, 0xFE09, 0xE0153,
+                    0xE0154, 0xE0155, 0xE0156, 0xE0157, 0xE0158, 0xE0159, 0xE015A, 0xE015B, 0xE015C, 0xFE0A, 0xE015D, 0xE015E, 0xE015F, 0xE0160, 0xE0161, 0xE0162,
+                    0xE0163, 0xE0164, 0xE0165, 0xE0166, 0xFE0B, 0xE0167, 0xE0168, 0xE0169, 0xE016A, 0xE016B, 0xE016C, 0xE016D, 0xE016E, 0xE016F, 0xE0170, 0xFE0C,
+                    0xE0171, 0xE0172, 0xE0173, 0xE0174, 0xE0175, 0xE0176, 0xE0177, 0xE0178, 0xE0179, 0xE017A, 0xFE0D, 0xE017B, 0xE017C, 0xE017D, 0xE017E, 0xE017F,
+                    0xE0180, 0xE0181, 0xE0182, 0xE0183, 0xE0184, 0xFE0E, 0xE0185, 0xE0186, 0xE0187, 0xE0188, 0xE0189, 0xE018A, 0xE018B, 0xE018C, 0xE018D, 0xE018E,
+                    0xFE0F, 0xE018F, 0xE0190, 0xE0191, 0xE0192, 0xE0193, 0xE0194, 0xE0195, 0xE0196, 0xE0197, 0xE0198, 0xE0100, 0xE0199, 0xE019A, 0xE019B, 0xE019C,
+                    0xE019D, 0xE019E, 0xE019F, 0xE01A0, 0xE01A1, 0xE01A2, 0xE0101, 0xE01A3, 0xE01A4, 0xE01A5, 0xE01A6, 0xE01A7, 0xE01A8, 0xE01A9, 0xE01AA, 0xE01AB,
+                    0xE01AC, 0xE0102, 0xE01AD, 0xE01AE, 0xE01AF, 0xE01B0, 0xE01B1, 0xE01B2, 0xE01B3, 0xE01B4, 0xE01B5, 0xE01B6, 0xFE01, 0xE0103, 0xE01B7, 0xE01B8,
+                    0xE01B9, 0xE01BA, 0xE01BB, 0xE01BC, 0xE01BD, 0xE01BE, 0xE01BF, 0xE01C0, 0xE0104, 0xE01C1, 0xE01C2, 0xE01C3, 0xE01C4, 0xE01C5, 0xE01C6, 0xE01C7,
+                    0xE01C8, 0xE01C9, 0xE01CA, 0xE0105, 0xE01CB, 0xE01CC, 0xE01CD, 0xE01CE, 0xE01CF, 0xE01D0, 0xE01D1, 0xE01D2, 0xE01D3, 0xE01D4, 0xE0106, 0xE01D5,
+                    0xE01D6, 0xE01D7, 0xE01D8, 0xE01D9, 0xE01DA, 0xE01DB, 0xE01DC, 0xE01DD, 0xE01DE, 0xE0107, 0xE01DF, 0xE01E0, 0xE01E1, 0xE01E2, 0xE01E3, 0xE01E4,
+                    0xE01E5, 0xE01E6, 0xE01E7, 0xE01E8, 0xE0108, 0xE01E9, 0xE01EA, 0xE01EB, 0xE01EC, 0xE01ED, 0xE01EE, 0xE01EF, 0xE0109, 0xE010A, 0xE010B, 0xE010C,
+                    0xFE02, 0xE010D, 0xE010E, 0xE010F, 0xE0110, 0xE0111, 0xE0112, 0xE0113, 0xE0114, 0xE0115, 0xE0116, 0xFE03, 0xE0117, 0xE0118, 0xE0119, 0xE011A,
+                    0xE011B, 0xE011C, 0xE011D, 0xE011E, 0xE011F, 0xE0120, 0xFE04, 0xE0121, 0xE0122, 0xE0123, 0xE0124, 0xE0125, 0xE0126, 0xE0127, 0xE0128, 0xE0129,
+                    0xE012A, 0xFE05, 0xE012B, 0xE012C, 0xE012D, 0xE012E, 0xE012F, 0xE0130, 0xE0131, 0xE0132, 0xE0133, 0xE0134, 0xFE06, 0xE0135, 0xE0136, 0xE0137,
+                    0xE0138, 0xE0139, 0xE013A, 0xE013B, 0xE013C, 0xE013D, 0xE013E, 0xFE07, 0xE013F, 0xE0140, 0xE0141, 0xE0142, 0xE0143, 0xE0144, 0xE0145, 0xE0146,
+                    0xE0147, 0xE0148, 0xFE08, 0xE0149, 0xE014A, 0xE014B, 0xE014C, 0xE014D, 0xE014E, 0xE014F, 0xE0150, 0xE0151, 0xE0152, 0xB, 0x8A, 0x2118,
+                    0x2060, 0xA015, 0x200D, 0xFEFF, 0x200C, 0x200B
+    };
+
+    static final String[] NAMED_SEQUENCE_NAMES = {
+                    "ARABIC SEQUENCE NOON WITH KEHEH", "ARABIC SEQUENCE YEH WITH HAMZA ABOVE WITH AE", "ARABIC SEQUENCE YEH WITH HAMZA ABOVE WITH ALEF",
+                    "ARABIC SEQUENCE YEH WITH HAMZA ABOVE WITH ALEF MAKSURA", "ARABIC SEQUENCE YEH WITH HAMZA ABOVE WITH E", "ARABIC SEQUENCE YEH WITH HAMZA ABOVE WITH OE",
+                    "ARABIC SEQUENCE YEH WITH HAMZA ABOVE WITH U", "ARABIC SEQUENCE YEH WITH HAMZA ABOVE WITH WAW", "ARABIC SEQUENCE YEH WITH HAMZA ABOVE WITH YU",
+                    "BENGALI LETTER KHINYA", "BENGALI SEQUENCE FOR LETTER RHA", "BENGALI SEQUENCE FOR LETTER RRA",
+                    "BENGALI SEQUENCE FOR LETTER YYA", "DEVANAGARI SEQUENCE FOR LETTER DDDHA", "DEVANAGARI SEQUENCE FOR LETTER FA",
+                    "DEVANAGARI SEQUENCE FOR LETTER GHHA", "DEVANAGARI SEQUENCE FOR LETTER KHHA", "DEVANAGARI SEQUENCE FOR LETTER QA",
+                    "DEVANAGARI SEQUENCE FOR LETTER RHA", "DEVANAGARI SEQUENCE FOR LETTER YYA", "DEVANAGARI SEQUENCE FOR LETTER ZA",
+                    "GEORGIAN LETTER U-BRJGU", "GURMUKHI SEQUENCE FOR LETTER FA", "GURMUKHI SEQUENCE FOR LETTER GHHA",
+                    "GURMUKHI SEQUENCE FOR LETTER KHHA", "GURMUKHI SEQUENCE FOR LETTER LLA", "GURMUKHI SEQUENCE FOR LETTER SHA",
+                    "GURMUKHI SEQUENCE FOR LETTER ZA", "HIRAGANA LETTER BIDAKUON NGA", "HIRAGANA LETTER BIDAKUON NGE",
+                    "HIRAGANA LETTER BIDAKUON NGI", "HIRAGANA LETTER BIDAKUON NGO", "HIRAGANA LETTER BIDAKUON NGU",
+                    "KATAKANA LETTER AINU CE", "KATAKANA LETTER AINU P", "KATAKANA LETTER AINU TO",
+                    "KATAKANA LETTER AINU TU", "KATAKANA LETTER BIDAKUON NGA", "KATAKANA LETTER BIDAKUON NGE",
+                    "KATAKANA LETTER BIDAKUON NGI", "KATAKANA LETTER BIDAKUON NGO", "KATAKANA LETTER BIDAKUON NGU",
+                    "KEYCAP ASTERISK", "KEYCAP DIGIT EIGHT", "KEYCAP DIGIT FIVE",
+                    "KEYCAP DIGIT FOUR", "KEYCAP DIGIT NINE", "KEYCAP DIGIT ONE",
+                    "KEYCAP DIGIT SEVEN", "KEYCAP DIGIT SIX", "KEYCAP DIGIT THREE",
+                    "KEYCAP DIGIT TWO", "KEYCAP DIGIT ZERO", "KEYCAP NUMBER SIGN",
+                    "KHMER CONSONANT SIGN COENG BA", "KHMER CONSONANT SIGN COENG CA", "KHMER CONSONANT SIGN COENG CHA",
+                    "KHMER CONSONANT SIGN COENG CHO", "KHMER CONSONANT SIGN COENG CO", "KHMER CONSONANT SIGN COENG DA",
+                    "KHMER CONSONANT SIGN COENG DO", "KHMER CONSONANT SIGN COENG HA", "KHMER CONSONANT SIGN COENG KA",
+                    "KHMER CONSONANT SIGN COENG KHA", "KHMER CONSONANT SIGN COENG KHO", "KHMER CONSONANT SIGN COENG KO",
+                    "KHMER CONSONANT SIGN COENG LA", "KHMER CONSONANT SIGN COENG LO", "KHMER CONSONANT SIGN COENG MO",
+                    "KHMER CONSONANT SIGN COENG NA", "KHMER CONSONANT SIGN COENG NGO", "KHMER CONSONANT SIGN COENG NO",
+                    "KHMER CONSONANT SIGN COENG NYO", "KHMER CONSONANT SIGN COENG PHA", "KHMER CONSONANT SIGN COENG PHO",
+                    "KHMER CONSONANT SIGN COENG PO", "KHMER CONSONANT SIGN COENG RO", "KHMER CONSONANT SIGN COENG SA",
+                    "KHMER CONSONANT SIGN COENG SHA", "KHMER CONSONANT SIGN COENG SSA", "KHMER CONSONANT SIGN COENG TA",
+                    "KHMER CONSONANT SIGN COENG THA", "KHMER CONSONANT SIGN COENG THO", "KHMER CONSONANT SIGN COENG TO",
+                    "KHMER CONSONANT SIGN COENG TTHA", "KHMER CONSONANT SIGN COENG TTHO", "KHMER CONSONANT SIGN COENG VO",
+                    "KHMER CONSONANT SIGN COENG YO", "KHMER INDEPENDENT VOWEL SIGN COENG QE", "KHMER INDEPENDENT VOWEL SIGN COENG QU",
+                    "KHMER INDEPENDENT VOWEL SIGN COENG RY", "KHMER INDEPENDENT VOWEL SIGN COENG RYY", "KHMER VOWEL SIGN AAM",
+                    "KHMER VOWEL SIGN COENG QA", "KHMER VOWEL SIGN OM", "LATIN CAPITAL LETTER A WITH MACRON AND GRAVE",
+                    "LATIN CAPITAL LETTER A WITH OGONEK AND ACUTE", "LATIN CAPITAL LETTER A WITH OGONEK AND TILDE", "LATIN CAPITAL LETTER E WITH CIRCUMFLEX AND CARON",
+                    "LATIN CAPITAL LETTER E WITH CIRCUMFLEX AND MACRON", "LATIN CAPITAL LETTER E WITH DOT ABOVE AND ACUTE", "LATIN CAPITAL LETTER E WITH DOT ABOVE AND TILDE",
+                    "LATIN CAPITAL LETTER E WITH OGONEK AND ACUTE", "LATIN CAPITAL LETTER E WITH OGONEK AND TILDE", "LATIN CAPITAL LETTER E WITH VERTICAL LINE BELOW",
+                    "LATIN CAPITAL LETTER E WITH VERTICAL LINE BELOW AND ACUTE", "LATIN CAPITAL LETTER E WITH VERTICAL LINE BELOW AND GRAVE", "LATIN CAPITAL LETTER I WITH MACRON AND GRAVE",
+                    "LATIN CAPITAL LETTER I WITH OGONEK AND ACUTE", "LATIN CAPITAL LETTER I WITH OGONEK AND TILDE", "LATIN CAPITAL LETTER J WITH TILDE",
+                    "LATIN CAPITAL LETTER L WITH TILDE", "LATIN CAPITAL LETTER M WITH TILDE", "LATIN CAPITAL LETTER O WITH VERTICAL LINE BELOW",
+                    "LATIN CAPITAL LETTER O WITH VERTICAL LINE BELOW AND ACUTE", "LATIN CAPITAL LETTER O WITH VERTICAL LINE BELOW AND GRAVE", "LATIN CAPITAL LETTER R WITH TILDE",
+                    "LATIN CAPITAL LETTER S WITH VERTICAL LINE BELOW", "LATIN CAPITAL LETTER U WITH MACRON AND ACUTE", "LATIN CAPITAL LETTER U WITH MACRON AND GRAVE",
+                    "LATIN CAPITAL LETTER U WITH MACRON AND TILDE", "LATIN CAPITAL LETTER U WITH OGONEK AND ACUTE", "LATIN CAPITAL LETTER U WITH OGONEK AND TILDE",
+                    "LATIN SMALL LETTER A WITH MACRON AND GRAVE", "LATIN SMALL LETTER A WITH OGONEK AND ACUTE", "LATIN SMALL LETTER A WITH OGONEK AND TILDE",
+                    "LATIN SMALL LETTER AE WITH GRAVE", "LATIN SMALL LETTER E WITH CIRCUMFLEX AND CARON", "LATIN SMALL LETTER E WITH CIRCUMFLEX AND MACRON",
+                    "LATIN SMALL LETTER E WITH DOT ABOVE AND ACUTE", "LATIN SMALL LETTER E WITH DOT ABOVE AND TILDE", "LATIN SMALL LETTER E WITH OGONEK AND ACUTE",
+                    "LATIN SMALL LETTER E WITH OGONEK AND TILDE", "LATIN SMALL LETTER E WITH VERTICAL LINE BELOW", "LATIN SMALL LETTER E WITH VERTICAL LINE BELOW AND ACUTE",
+                    "LATIN SMALL LETTER E WITH VERTICAL LINE BELOW AND GRAVE", "LATIN SMALL LETTER HOOKED SCHWA WITH ACUTE", "LATIN SMALL LETTER HOOKED SCHWA WITH GRAVE",
+                    "LATIN SMALL LETTER I WITH DOT ABOVE AND ACUTE", "LATIN SMALL LETTER I WITH DOT ABOVE AND GRAVE", "LATIN SMALL LETTER I WITH DOT ABOVE AND TILDE",
+                    "LATIN SMALL LETTER I WITH MACRON AND GRAVE", "LATIN SMALL LETTER I WITH OGONEK AND DOT ABOVE AND ACUTE", "LATIN SMALL LETTER I WITH OGONEK AND DOT ABOVE AND TILDE",
+                    "LATIN SMALL LETTER J WITH DOT ABOVE AND TILDE", "LATIN SMALL LETTER L WITH TILDE", "LATIN SMALL LETTER M WITH TILDE",
+                    "LATIN SMALL LETTER NG WITH TILDE ABOVE", "LATIN SMALL LETTER O WITH VERTICAL LINE BELOW", "LATIN SMALL LETTER O WITH VERTICAL LINE BELOW AND ACUTE",
+                    "LATIN SMALL LETTER O WITH VERTICAL LINE BELOW AND GRAVE", "LATIN SMALL LETTER OPEN O WITH ACUTE", "LATIN SMALL LETTER OPEN O WITH GRAVE",
+                    "LATIN SMALL LETTER R WITH TILDE", "LATIN SMALL LETTER S WITH VERTICAL LINE BELOW", "LATIN SMALL LETTER SCHWA WITH ACUTE",
+                    "LATIN SMALL LETTER SCHWA WITH GRAVE", "LATIN SMALL LETTER TURNED V WITH ACUTE", "LATIN SMALL LETTER TURNED V WITH GRAVE",
+                    "LATIN SMALL LETTER U WITH MACRON AND ACUTE", "LATIN SMALL LETTER U WITH MACRON AND GRAVE", "LATIN SMALL LETTER U WITH MACRON AND TILDE",
+                    "LATIN SMALL LETTER U WITH OGONEK AND ACUTE", "LATIN SMALL LETTER U WITH OGONEK AND TILDE", "MODIFIER LETTER EXTRA-HIGH EXTRA-LOW CONTOUR TONE BAR",
+                    "MODIFIER LETTER EXTRA-LOW EXTRA-HIGH CONTOUR TONE BAR", "ORIYA SEQUENCE FOR LETTER RHA", "ORIYA SEQUENCE FOR LETTER RRA",
+                    "SINHALA CONSONANT SIGN RAKAARAANSAYA", "SINHALA CONSONANT SIGN REPAYA", "SINHALA CONSONANT SIGN YANSAYA",
+                    "TAMIL CONSONANT C", "TAMIL CONSONANT H", "TAMIL CONSONANT J",
+                    "TAMIL CONSONANT K", "TAMIL CONSONANT KSS", "TAMIL CONSONANT L",
+                    "TAMIL CONSONANT LL", "TAMIL CONSONANT LLL", "TAMIL CONSONANT M",
+                    "TAMIL CONSONANT N", "TAMIL CONSONANT NG", "TAMIL CONSONANT NN",
+                    "TAMIL CONSONANT NNN", "TAMIL CONSONANT NY", "TAMIL CONSONANT P",
+                    "TAMIL CONSONANT R", "TAMIL CONSONANT RR", "TAMIL CONSONANT S",
+                    "TAMIL CONSONANT SH", "TAMIL CONSONANT SS", "TAMIL CONSONANT T",
+                    "TAMIL CONSONANT TT", "TAMIL CONSONANT V", "TAMIL CONSONANT Y",
+                    "TAMIL SYLLABLE CAA", "TAMIL SYLLABLE CAI", "TAMIL SYLLABLE CAU",
+                    "TAMIL SYLLABLE CE", "TAMIL SYLLABLE CEE", "TAMIL SYLLABLE CI",
+                    "TAMIL SYLLABLE CII", "TAMIL SYLLABLE CO", "TAMIL SYLLABLE COO",
+                    "TAMIL SYLLABLE CU", "TAMIL SYLLABLE CUU", "TAMIL SYLLABLE HAA",
+                    "TAMIL SYLLABLE HAI", "TAMIL SYLLABLE HAU", "TAMIL SYLLABLE HE",
+                    "TAMIL SYLLABLE HEE", "TAMIL SYLLABLE HI", "TAMIL SYLLABLE HII",
+                    "TAMIL SYLLABLE HO", "TAMIL SYLLABLE HOO", "TAMIL SYLLABLE HU",
+                    "TAMIL SYLLABLE HUU", "TAMIL SYLLABLE JAA", "TAMIL SYLLABLE JAI",
+                    "TAMIL SYLLABLE JAU", "TAMIL SYLLABLE JE", "TAMIL SYLLABLE JEE",
+                    "TAMIL SYLLABLE JI", "TAMIL SYLLABLE JII", "TAMIL SYLLABLE JO",
+                    "TAMIL SYLLABLE JOO", "TAMIL SYLLABLE JU", "TAMIL SYLLABLE JUU",
+                    "TAMIL SYLLABLE KAA", "TAMIL SYLLABLE KAI", "TAMIL SYLLABLE KAU",
+                    "TAMIL SYLLABLE KE", "TAMIL SYLLABLE KEE", "TAMIL SYLLABLE KI",
+                    "TAMIL SYLLABLE KII", "TAMIL SYLLABLE KO", "TAMIL SYLLABLE KOO",
+                    "TAMIL SYLLABLE KSSA", "TAMIL SYLLABLE KSSAA", "TAMIL SYLLABLE KSSAI",
+                    "TAMIL SYLLABLE KSSAU", "TAMIL SYLLABLE KSSE", "TAMIL SYLLABLE KSSEE",
+                    "TAMIL SYLLABLE KSSI", "TAMIL SYLLABLE KSSII", "TAMIL SYLLABLE KSSO",
+                    "TAMIL SYLLABLE KSSOO", "TAMIL SYLLABLE KSSU", "TAMIL SYLLABLE KSSUU",
+                    "TAMIL SYLLABLE KU", "TAMIL SYLLABLE KUU", "TAMIL SYLLABLE LAA",
+                    "TAMIL SYLLABLE LAI", "TAMIL SYLLABLE LAU", "TAMIL SYLLABLE LE",
+                    "TAMIL SYLLABLE LEE", "TAMIL SYLLABLE LI", "TAMIL SYLLABLE LII",
+                    "TAMIL SYLLABLE LLAA", "TAMIL SYLLABLE LLAI", "TAMIL SYLLABLE LLAU",
+                    "TAMIL SYLLABLE LLE", "TAMIL SYLLABLE LLEE", "TAMIL SYLLABLE LLI",
+                    "TAMIL SYLLABLE LLII", "TAMIL SYLLABLE LLLAA", "TAMIL SYLLABLE LLLAI",
+                    "TAMIL SYLLABLE LLLAU", "TAMIL SYLLABLE LLLE", "TAMIL SYLLABLE LLLEE",
+                    "TAMIL SYLLABLE LLLI", "TAMIL SYLLABLE LLLII", "TAMIL SYLLABLE LLLO",
+                    "TAMIL SYLLABLE LLLOO", "TAMIL SYLLABLE LLLU", "TAMIL SYLLABLE LLLUU",
+                    "TAMIL SYLLABLE LLO", "TAMIL SYLLABLE LLOO", "TAMIL SYLLABLE LLU",
+                    "TAMIL SYLLABLE LLUU", "TAMIL SYLLABLE LO", "TAMIL SYLLABLE LOO",
+                    "TAMIL SYLLABLE LU", "TAMIL SYLLABLE LUU", "TAMIL SYLLABLE MAA",
+                    "TAMIL SYLLABLE MAI", "TAMIL SYLLABLE MAU", "TAMIL SYLLABLE ME",
+                    "TAMIL SYLLABLE MEE", "TAMIL SYLLABLE MI", "TAMIL SYLLABLE MII",
+                    "TAMIL SYLLABLE MO", "TAMIL SYLLABLE MOO", "TAMIL SYLLABLE MU",
+                    "TAMIL SYLLABLE MUU", "TAMIL SYLLABLE NAA", "TAMIL SYLLABLE NAI",
+                    "TAMIL SYLLABLE NAU", "TAMIL SYLLABLE NE", "TAMIL SYLLABLE NEE",
+                    "TAMIL SYLLABLE NGAA", "TAMIL SYLLABLE NGAI", "TAMIL SYLLABLE NGAU",
+                    "TAMIL SYLLABLE NGE", "TAMIL SYLLABLE NGEE", "TAMIL SYLLABLE NGI",
+                    "TAMIL SYLLABLE NGII", "TAMIL SYLLABLE NGO", "TAMIL SYLLABLE NGOO",
+                    "TAMIL SYLLABLE NGU", "TAMIL SYLLABLE NGUU", "TAMIL SYLLABLE NI",
+                    "TAMIL SYLLABLE NII", "TAMIL SYLLABLE NNAA", "TAMIL SYLLABLE NNAI",
+                    "TAMIL SYLLABLE NNAU", "TAMIL SYLLABLE NNE", "TAMIL SYLLABLE NNEE",
+                    "TAMIL SYLLABLE NNI", "TAMIL SYLLABLE NNII", "TAMIL SYLLABLE NNNAA",
+                    "TAMIL SYLLABLE NNNAI", "TAMIL SYLLABLE NNNAU", "TAMIL SYLLABLE NNNE",
+                    "TAMIL SYLLABLE NNNEE", "TAMIL SYLLABLE NNNI", "TAMIL SYLLABLE NNNII",
+                    "TAMIL SYLLABLE NNNO", "TAMIL SYLLABLE NNNOO", "TAMIL SYLLABLE NNNU",
+                    "TAMIL SYLLABLE NNNUU", "TAMIL SYLLABLE NNO", "TAMIL SYLLABLE NNOO",
+                    "TAMIL SYLLABLE NNU", "TAMIL SYLLABLE NNUU", "TAMIL SYLLABLE NO",
+                    "TAMIL SYLLABLE NOO", "TAMIL SYLLABLE NU", "TAMIL SYLLABLE NUU",
+                    "TAMIL SYLLABLE NYAA", "TAMIL SYLLABLE NYAI", "TAMIL SYLLABLE NYAU",
+                    "TAMIL SYLLABLE NYE", "TAMIL SYLLABLE NYEE", "TAMIL SYLLABLE NYI",
+                    "TAMIL SYLLABLE NYII", "TAMIL SYLLABLE NYO", "TAMIL SYLLABLE NYOO",
+                    "TAMIL SYLLABLE NYU", "TAMIL SYLLABLE NYUU", "TAMIL SYLLABLE PAA",
+                    "TAMIL SYLLABLE PAI", "TAMIL SYLLABLE PAU", "TAMIL SYLLABLE PE",
+                    "TAMIL SYLLABLE PEE", "TAMIL SYLLABLE PI", "TAMIL SYLLABLE PII",
+                    "TAMIL SYLLABLE PO", "TAMIL SYLLABLE POO", "TAMIL SYLLABLE PU",
+                    "TAMIL SYLLABLE PUU", "TAMIL SYLLABLE RAA", "TAMIL SYLLABLE RAI",
+                    "TAMIL SYLLABLE RAU", "TAMIL SYLLABLE RE", "TAMIL SYLLABLE REE",
+                    "TAMIL SYLLABLE RI", "TAMIL SYLLABLE RII", "TAMIL SYLLABLE RO",
+                    "TAMIL SYLLABLE ROO", "TAMIL SYLLABLE RRAA", "TAMIL SYLLABLE RRAI",
+                    "TAMIL SYLLABLE RRAU", "TAMIL SYLLABLE RRE", "TAMIL SYLLABLE RREE",
+                    "TAMIL SYLLABLE RRI", "TAMIL SYLLABLE RRII", "TAMIL SYLLABLE RRO",
+                    "TAMIL SYLLABLE RROO", "TAMIL SYLLABLE RRU", "TAMIL SYLLABLE RRUU",
+                    "TAMIL SYLLABLE RU", "TAMIL SYLLABLE RUU", "TAMIL SYLLABLE SAA",
+                    "TAMIL SYLLABLE SAI", "TAMIL SYLLABLE SAU", "TAMIL SYLLABLE SE",
+                    "TAMIL SYLLABLE SEE", "TAMIL SYLLABLE SHAA", "TAMIL SYLLABLE SHAI",
+                    "TAMIL SYLLABLE SHAU", "TAMIL SYLLABLE SHE", "TAMIL SYLLABLE SHEE",
+                    "TAMIL SYLLABLE SHI", "TAMIL SYLLABLE SHII", "TAMIL SYLLABLE SHO",
+                    "TAMIL SYLLABLE SHOO", "TAMIL SYLLABLE SHRII", "TAMIL SYLLABLE SHU",
+                    "TAMIL SYLLABLE SHUU", "TAMIL SYLLABLE SI", "TAMIL SYLLABLE SII",
+                    "TAMIL SYLLABLE SO", "TAMIL SYLLABLE SOO", "TAMIL SYLLABLE SSAA",
+                    "TAMIL SYLLABLE SSAI", "TAMIL SYLLABLE SSAU", "TAMIL SYLLABLE SSE",
+                    "TAMIL SYLLABLE SSEE", "TAMIL SYLLABLE SSI", "TAMIL SYLLABLE SSII",
+                    "TAMIL SYLLABLE SSO", "TAMIL SYLLABLE SSOO", "TAMIL SYLLABLE SSU",
+                    "TAMIL SYLLABLE SSUU", "TAMIL SYLLABLE SU", "TAMIL SYLLABLE SUU",
+                    "TAMIL SYLLABLE TAA", "TAMIL SYLLABLE TAI", "TAMIL SYLLABLE TAU",
+                    "TAMIL SYLLABLE TE", "TAMIL SYLLABLE TEE", "TAMIL SYLLABLE TI",
+                    "TAMIL SYLLABLE TII", "TAMIL SYLLABLE TO", "TAMIL SYLLABLE TOO",
+                    "TAMIL SYLLABLE TTAA", "TAMIL SYLLABLE TTAI", "TAMIL SYLLABLE TTAU",
+                    "TAMIL SYLLABLE TTE", "TAMIL SYLLABLE TTEE", "TAMIL SYLLABLE TTI",
+                    "TAMIL SYLLABLE TTII", "TAMIL SYLLABLE TTO", "TAMIL SYLLABLE TTOO",
+                    "TAMIL SYLLABLE TTU", "TAMIL SYLLABLE TTUU", "TAMIL SYLLABLE TU",
+                    "TAMIL SYLLABLE TUU", "TAMIL SYLLABLE VAA", "TAMIL SYLLABLE VAI",
+                    "TAMIL SYLLABLE VAU", "TAMIL SYLLABLE VE", "TAMIL SYLLABLE VEE",
+                    "TAMIL SYLLABLE VI", "TAMIL SYLLABLE VII", "TAMIL SYLLABLE VO",
+                    "TAMIL SYLLABLE VOO", "TAMIL SYLLABLE VU", "TAMIL SYLLABLE VUU",
+                    "TAMIL SYLLABLE YAA", "TAMIL SYLLABLE YAI", "TAMIL SYLLABLE YAU",
+                    "TAMIL SYLLABLE YE", "TAMIL SYLLABLE YEE", "TAMIL SYLLABLE YI",
+                    "TAMIL SYLLABLE YII", "TAMIL SYLLABLE YO", "TAMIL SYLLABLE YOO",
+                    "TAMIL SYLLABLE YU", "TAMIL SYLLABLE YUU"
+    };
+
+    static final String[] NAMED_SEQUENCES = {
+                    "\u0646\u06a9", "\u0626\u06d5", "\u0626\u0627", "\u0626\u0649", "\u0626\u06d0", "\u0626\u06c6",
+                    "\u0626\u06c7", "\u0626\u0648", "\u0626\u06c8", "\u0995\u09cd\u09b7", "\u09a2\u09bc", "\u09a1\u09bc",
+                    "\u09af\u09bc", "\u0921\u093c", "\u092b\u093c", "\u0917\u093c", "\u0916\u093c", "\u0915\u093c",
+                    "\u0922\u093c", "\u092f\u093c", "\u091c\u093c", "\u10e3\u0302", "\u0a2b\u0a3c", "\u0a17\u0a3c",
+                    "\u0a16\u0a3c", "\u0a32\u0a3c", "\u0a38\u0a3c", "\u0a1c\u0a3c", "\u304b\u309a", "\u3051\u309a",
+                    "\u304d\u309a", "\u3053\u309a", "\u304f\u309a", "\u30bb\u309a", "\u31f7\u309a", "\u30c8\u309a",
+                    "\u30c4\u309a", "\u30ab\u309a", "\u30b1\u309a", "\u30ad\u309a", "\u30b3\u309a", "\u30af\u309a",
+                    "*\ufe0f\u20e3", "8\ufe0f\u20e3", "5\ufe0f\u20e3", "4\ufe0f\u20e3", "9\ufe0f\u20e3", "1\ufe0f\u20e3",
+                    "7\ufe0f\u20e3", "6\ufe0f\u20e3", "3\ufe0f\u20e3", "2\ufe0f\u20e3", "0\ufe0f\u20e3", "#\ufe0f\u20e3",
+                    "\u17d2\u1794", "\u17d2\u1785", "\u17d2\u1786", "\u17d2\u1788", "\u17d2\u1787", "\u17d2\u178a",
+                    "\u17d2\u178c", "\u17d2\u17a0", "\u17d2\u1780", "\u17d2\u1781", "\u17d2\u1783", "\u17d2\u1782",
+                    "\u17d2\u17a1", "\u17d2\u179b", "\u17d2\u1798", "\u17d2\u178e", "\u17d2\u1784", "\u17d2\u1793",
+                    "\u17d2\u1789", "\u17d2\u1795", "\u17d2\u1797", "\u17d2\u1796", "\u17d2\u179a", "\u17d2\u179f",
+                    "\u17d2\u179d", "\u17d2\u179e", "\u17d2\u178f", "\u17d2\u1790", "\u17d2\u1792", "\u17d2\u1791",
+                    "\u17d2\u178b", "\u17d2\u178d", "\u17d2\u179c", "\u17d2\u1799", "\u17d2\u17af", "\u17d2\u17a7",
+                    "\u17d2\u17ab", "\u17d2\u17ac", "\u17b6\u17c6", "\u17d2\u17a2", "\u17bb\u17c6", "\u0100\u0300",
+                    "\u0104\u0301", "\u0104\u0303", "\u00ca\u030c", "\u00ca\u0304", "\u0116\u0301", "\u0116\u0303",
+                    "\u0118\u0301", "\u0118\u0303", "E\u0329", "\u00c9\u0329", "\u00c8\u0329", "\u012a\u0300",
+                    "\u012e\u0301", "\u012e\u0303", "J\u0303", "L\u0303", "M\u0303", "O\u0329",
+                    "\u00d3\u0329", "\u00d2\u0329", "R\u0303", "S\u0329", "\u016a\u0301", "\u016a\u0300",
+                    "\u016a\u0303", "\u0172\u0301", "\u0172\u0303", "\u0101\u0300", "\u0105\u0301", "\u0105\u0303",
+                    "\u00e6\u0300", "\u00ea\u030c", "\u00ea\u0304", "\u0117\u0301", "\u0117\u0303", "\u0119\u0301",
+                    "\u0119\u0303", "e\u0329", "\u00e9\u0329", "\u00e8\u0329", "\u025a\u0301", "\u025a\u0300",
+                    "i\u0307\u0301", "i\u0307\u0300", "i\u0307\u0303", "\u012b\u0300", "\u012f\u0307\u0301", "\u012f\u0307\u0303",
+                    "j\u0307\u0303", "l\u0303", "m\u0303", "n\u0360g", "o\u0329", "\u00f3\u0329",
+                    "\u00f2\u0329", "\u0254\u0301", "\u0254\u0300", "r\u0303", "s\u0329", "\u0259\u0301",
+                    "\u0259\u0300", "\u028c\u0301", "\u028c\u0300", "\u016b\u0301", "\u016b\u0300", "\u016b\u0303",
+                    "\u0173\u0301", "\u0173\u0303", "\u02e5\u02e9", "\u02e9\u02e5", "\u0b22\u0b3c", "\u0b21\u0b3c",
+                    "\u0dca\u200d\u0dbb", "\u0dbb\u0dca\u200d", "\u0dca\u200d\u0dba", "\u0b9a\u0bcd", "\u0bb9\u0bcd", "\u0b9c\u0bcd",
+                    "\u0b95\u0bcd", "\u0b95\u0bcd\u0bb7\u0bcd", "\u0bb2\u0bcd", "\u0bb3\u0bcd", "\u0bb4\u0bcd", "\u0bae\u0bcd",
+                    "\u0ba8\u0bcd", "\u0b99\u0bcd", "\u0ba3\u0bcd", "\u0ba9\u0bcd", "\u0b9e\u0bcd", "\u0baa\u0bcd",
+                    "\u0bb0\u0bcd", "\u0bb1\u0bcd", "\u0bb8\u0bcd", "\u0bb6\u0bcd", "\u0bb7\u0bcd", "\u0ba4\u0bcd",
+                    "\u0b9f\u0bcd", "\u0bb5\u0bcd", "\u0baf\u0bcd", "\u0b9a\u0bbe", "\u0b9a\u0bc8", "\u0b9a\u0bcc",
+                    "\u0b9a\u0bc6", "\u0b9a\u0bc7", "\u0b9a\u0bbf", "\u0b9a\u0bc0", "\u0b9a\u0bca", "\u0b9a\u0bcb",
+                    "\u0b9a\u0bc1", "\u0b9a\u0bc2", "\u0bb9\u0bbe", "\u0bb9\u0bc8", "\u0bb9\u0bcc", "\u0bb9\u0bc6",
+                    "\u0bb9\u0bc7", "\u0bb9\u0bbf", "\u0bb9\u0bc0", "\u0bb9\u0bca", "\u0bb9\u0bcb", "\u0bb9\u0bc1",
+                    "\u0bb9\u0bc2", "\u0b9c\u0bbe", "\u0b9c\u0bc8", "\u0b9c\u0bcc", "\u0b9c\u0bc6", "\u0b9c\u0bc7",
+                    "\u0b9c\u0bbf", "\u0b9c\u0bc0", "\u0b9c\u0bca", "\u0b9c\u0bcb", "\u0b9c\u0bc1", "\u0b9c\u0bc2",
+                    "\u0b95\u0bbe", "\u0b95\u0bc8", "\u0b95\u0bcc", "\u0b95\u0bc6", "\u0b95\u0bc7", "\u0b95\u0bbf",
+                    "\u0b95\u0bc0", "\u0b95\u0bca", "\u0b95\u0bcb", "\u0b95\u0bcd\u0bb7", "\u0b95\u0bcd\u0bb7\u0bbe", "\u0b95\u0bcd\u0bb7\u0bc8",
+                    "\u0b95\u0bcd\u0bb7\u0bcc", "\u0b95\u0bcd\u0bb7\u0bc6", "\u0b95\u0bcd\u0bb7\u0bc7", "\u0b95\u0bcd\u0bb7\u0bbf", "\u0b95\u0bcd\u0bb7\u0bc0", "\u0b95\u0bcd\u0bb7\u0bca",
+                    "\u0b95\u0bcd\u0bb7\u0bcb", "\u0b95\u0bcd\u0bb7\u0bc1", "\u0b95\u0bcd\u0bb7\u0bc2", "\u0b95\u0bc1", "\u0b95\u0bc2", "\u0bb2\u0bbe",
+                    "\u0bb2\u0bc8", "\u0bb2\u0bcc", "\u0bb2\u0bc6", "\u0bb2\u0bc7", "\u0bb2\u0bbf", "\u0bb2\u0bc0",
+                    "\u0bb3\u0bbe", "\u0bb3\u0bc8", "\u0bb3\u0bcc", "\u0bb3\u0bc6", "\u0bb3\u0bc7", "\u0bb3\u0bbf",
+                    "\u0bb3\u0bc0", "\u0bb4\u0bbe", "\u0bb4\u0bc8", "\u0bb4\u0bcc", "\u0bb4\u0bc6", "\u0bb4\u0bc7",
+                    "\u0bb4\u0bbf", "\u0bb4\u0bc0", "\u0bb4\u0bca", "\u0bb4\u0bcb", "\u0bb4\u0bc1", "\u0bb4\u0bc2",
+                    "\u0bb3\u0bca", "\u0bb3\u0bcb", "\u0bb3\u0bc1", "\u0bb3\u0bc2", "\u0bb2\u0bca", "\u0bb2\u0bcb",
+                    "\u0bb2\u0bc1", "\u0bb2\u0bc2", "\u0bae\u0bbe", "\u0bae\u0bc8", "\u0bae\u0bcc", "\u0bae\u0bc6",
+                    "\u0bae\u0bc7", "\u0bae\u0bbf", "\u0bae\u0bc0", "\u0bae\u0bca", "\u0bae\u0bcb", "\u0bae\u0bc1",
+                    "\u0bae\u0bc2", "\u0ba8\u0bbe", "\u0ba8\u0bc8", "\u0ba8\u0bcc", "\u0ba8\u0bc6", "\u0ba8\u0bc7",
+                    "\u0b99\u0bbe", "\u0b99\u0bc8", "\u0b99\u0bcc", "\u0b99\u0bc6", "\u0b99\u0bc7", "\u0b99\u0bbf",
+                    "\u0b99\u0bc0", "\u0b99\u0bca", "\u0b99\u0bcb", "\u0b99\u0bc1", "\u0b99\u0bc2", "\u0ba8\u0bbf",
+                    "\u0ba8\u0bc0", "\u0ba3\u0bbe", "\u0ba3\u0bc8", "\u0ba3\u0bcc", "\u0ba3\u0bc6", "\u0ba3\u0bc7",
+                    "\u0ba3\u0bbf", "\u0ba3\u0bc0", "\u0ba9\u0bbe", "\u0ba9\u0bc8", "\u0ba9\u0bcc", "\u0ba9\u0bc6",
+                    "\u0ba9\u0bc7", "\u0ba9\u0bbf", "\u0ba9\u0bc0", "\u0ba9\u0bca", "\u0ba9\u0bcb", "\u0ba9\u0bc1",
+                    "\u0ba9\u0bc2", "\u0ba3\u0bca", "\u0ba3\u0bcb", "\u0ba3\u0bc1", "\u0ba3\u0bc2", "\u0ba8\u0bca",
+                    "\u0ba8\u0bcb", "\u0ba8\u0bc1", "\u0ba8\u0bc2", "\u0b9e\u0bbe", "\u0b9e\u0bc8", "\u0b9e\u0bcc",
+                    "\u0b9e\u0bc6", "\u0b9e\u0bc7", "\u0b9e\u0bbf", "\u0b9e\u0bc0", "\u0b9e\u0bca", "\u0b9e\u0bcb",
+                    "\u0b9e\u0bc1", "\u0b9e\u0bc2", "\u0baa\u0bbe", "\u0baa\u0bc8", "\u0baa\u0bcc", "\u0baa\u0bc6",
+                    "\u0baa\u0bc7", "\u0baa\u0bbf", "\u0baa\u0bc0", "\u0baa\u0bca", "\u0baa\u0bcb", "\u0baa\u0bc1",
+                    "\u0baa\u0bc2", "\u0bb0\u0bbe", "\u0bb0\u0bc8", "\u0bb0\u0bcc", "\u0bb0\u0bc6", "\u0bb0\u0bc7",
+                    "\u0bb0\u0bbf", "\u0bb0\u0bc0", "\u0bb0\u0bca", "\u0bb0\u0bcb", "\u0bb1\u0bbe", "\u0bb1\u0bc8",
+                    "\u0bb1\u0bcc", "\u0bb1\u0bc6", "\u0bb1\u0bc7", "\u0bb1\u0bbf", "\u0bb1\u0bc0", "\u0bb1\u0bca",
+                    "\u0bb1\u0bcb", "\u0bb1\u0bc1", "\u0bb1\u0bc2", "\u0bb0\u0bc1", "\u0bb0\u0bc2", "\u0bb8\u0bbe",
+                    "\u0bb8\u0bc8", "\u0bb8\u0bcc", "\u0bb8\u0bc6", "\u0bb8\u0bc7", "\u0bb6\u0bbe", "\u0bb6\u0bc8",
+                    "\u0bb6\u0bcc", "\u0bb6\u0bc6", "\u0bb6\u0bc7", "\u0bb6\u0bbf", "\u0bb6\u0bc0", "\u0bb6\u0bca",
+                    "\u0bb6\u0bcb", "\u0bb6\u0bcd\u0bb0\u0bc0", "\u0bb6\u0bc1", "\u0bb6\u0bc2", "\u0bb8\u0bbf", "\u0bb8\u0bc0",
+                    "\u0bb8\u0bca", "\u0bb8\u0bcb", "\u0bb7\u0bbe", "\u0bb7\u0bc8", "\u0bb7\u0bcc", "\u0bb7\u0bc6",
+                    "\u0bb7\u0bc7", "\u0bb7\u0bbf", "\u0bb7\u0bc0", "\u0bb7\u0bca", "\u0bb7\u0bcb", "\u0bb7\u0bc1",
+                    "\u0bb7\u0bc2", "\u0bb8\u0bc1", "\u0bb8\u0bc2", "\u0ba4\u0bbe", "\u0ba4\u0bc8", "\u0ba4\u0bcc",
+                    "\u0ba4\u0bc6", "\u0ba4\u0bc7", "\u0ba4\u0bbf", "\u0ba4\u0bc0", "\u0ba4\u0bca", "\u0ba4\u0bcb",
+                    "\u0b9f\u0bbe", "\u0b9f\u0bc8", "\u0b9f\u0bcc", "\u0b9f\u0bc6", "\u0b9f\u0bc7", "\u0b9f\u0bbf",
+                    "\u0b9f\u0bc0", "\u0b9f\u0bca", "\u0b9f\u0bcb", "\u0b9f\u0bc1", "\u0b9f\u0bc2", "\u0ba4\u0bc1",
+                    "\u0ba4\u0bc2", "\u0bb5\u0bbe", "\u0bb5\u0bc8", "\u0bb5\u0bcc", "\u0bb5\u0bc6", "\u0bb5\u0bc7",
+                    "\u0bb5\u0bbf", "\u0bb5\u0bc0", "\u0bb5\u0bca", "\u0bb5\u0bcb", "\u0bb5\u0bc1", "\u0bb5\u0bc2",
+                    "\u0baf\u0bbe", "\u0baf\u0bc8", "\u0baf\u0bcc", "\u0baf\u0bc6", "\u0baf\u0bc7", "\u0baf\u0bbf",
+                    "\u0baf\u0bc0", "\u0baf\u0bca", "\u0baf\u0bcb", "\u0baf\u0bc1", "\u0baf\u0bc2"
+    };
+}
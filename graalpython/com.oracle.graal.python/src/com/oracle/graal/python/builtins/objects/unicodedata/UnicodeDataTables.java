@@ -0,0 +1,441 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.unicodedata;
+
+import static com.oracle.graal.python.util.PythonUtils.toTruffleStringArrayUncached;
+
+import java.util.Arrays;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.strings.TruffleString;
+
+/**
+ * Compact lookup tables for the {@code unicodedata} module, organized like CPython's
+ * {@code unicodedata_db.h}. Each code point maps to a packed {@code long} record through a
+ * two-level index: {@code INDEX1} selects a deduplicated block of record ids in {@code INDEX2}.
+ * The category, bidirectional and east asian width fields are indices into the same name tables
+ * CPython uses, so category {@code 0} marks an unassigned code point. Unicode 3.2.0 has its own
+ * first level index, which replaces the records of the code points that CPython's change records
+ * modify.
+ *
+ * The data is generated from CPython by {@code scripts/generate_unicodedata_tables.py} into
+ * {@link UnicodeDataDB}. Since this package is initialized at image build time, the decoded
+ * tables live in the image heap and all lookups are reads of constant arrays.
+ */
+public final class UnicodeDataTables {
+
+    public static final String UNIDATA_VERSION = UnicodeDataDB.UNIDATA_VERSION;
+
+    public static final int QUICK_CHECK_YES = 0;
+    public static final int QUICK_CHECK_MAYBE = 1;
+    public static final int QUICK_CHECK_NO = 2;
+
+    private static final int SHIFT = UnicodeDataDB.SHIFT;
+    private static final int MASK = (1 << SHIFT) - 1;
+
+    // layout of a record, must match scripts/generate_unicodedata_tables.py
+    private static final int CATEGORY_SHIFT = 0;
+    private static final int BIDIRECTIONAL_SHIFT = 5;
+    private static final int EAST_ASIAN_WIDTH_SHIFT = 10;
+    private static final int MIRRORED_SHIFT = 13;
+    private static final int COMBINING_SHIFT = 14;
+    private static final int QUICK_CHECK_SHIFT = 22;
+    private static final int DECIMAL_SHIFT = 30;
+    private static final int DIGIT_SHIFT = 34;
+    private static final int NUMERIC_SHIFT = 38;
+    private static final int NUMERIC_BITS = 11;
+
+    // Hangul syllables are composed and decomposed algorithmically
+    private static final int HANGUL_S_BASE = 0xAC00;
+    private static final int HANGUL_L_BASE = 0x1100;
+    private static final int HANGUL_V_BASE = 0x1161;
+    private static final int HANGUL_T_BASE = 0x11A7;
+    private static final int HANGUL_L_COUNT = 19;
+    private static final int HANGUL_V_COUNT = 21;
+    private static final int HANGUL_T_COUNT = 28;
+    private static final int HANGUL_N_COUNT = HANGUL_V_COUNT * HANGUL_T_COUNT;
+    private static final int HANGUL_S_COUNT = HANGUL_L_COUNT * HANGUL_N_COUNT;
+
+    private static final TruffleString[] T_CATEGORY_NAMES = toTruffleStringArrayUncached(UnicodeDataDB.CATEGORY_NAMES);
+    private static final TruffleString[] T_BIDIRECTIONAL_NAMES = toTruffleStringArrayUncached(UnicodeDataDB.BIDIRECTIONAL_NAMES);
+    private static final TruffleString[] T_EAST_ASIAN_WIDTH_NAMES = toTruffleStringArrayUncached(UnicodeDataDB.EAST_ASIAN_WIDTH_NAMES);
+
+    private static final char[] INDEX1 = decodeChars(UnicodeDataDB.INDEX1);
+    private static final char[] INDEX1_3_2_0 = decodeChars(UnicodeDataDB.INDEX1_3_2_0);
+    private static final char[] INDEX2 = decodeChars(UnicodeDataDB.INDEX2);
+    private static final long[] RECORDS = decodeLongs(UnicodeDataDB.RECORDS);
+
+    /*
+     * Like decomp_data in CPython, an entry starts with a header word (length << 8 | prefix index)
+     * followed by the code points of the raw mapping. Entry 0 is the empty decomposition.
+     */
+    private static final char[] DECOMPOSITION_INDEX1 = decodeChars(UnicodeDataDB.DECOMPOSITION_INDEX1);
+    private static final char[] DECOMPOSITION_INDEX2 = decodeChars(UnicodeDataDB.DECOMPOSITION_INDEX2);
+    private static final int[] DECOMPOSITION_DATA = decodeInts(UnicodeDataDB.DECOMPOSITION_DATA);
+
+    private static final long[] COMPOSITION_KEYS = decodeLongs(UnicodeDataDB.COMPOSITION_KEYS);
+    private static final int[] COMPOSITION_VALUES = decodeInts(UnicodeDataDB.COMPOSITION_VALUES);
+    private static final int COMPOSITION_FIRST_SHIFT = 21;
+
+    private UnicodeDataTables() {
+    }
+
+    private static char[] decodeChars(String[] chunks) {
+        return String.join("", chunks).toCharArray();
+    }
+
+    private static int[] decodeInts(String[] chunks) {
+        char[] chars = decodeChars(chunks);
+        int[] result = new int[chars.length / 2];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = chars[2 * i] << 16 | chars[2 * i + 1];
+        }
+        return result;
+    }
+
+    private static long[] decodeLongs(String[] chunks) {
+        char[] chars = decodeChars(chunks);
+        long[] result = new long[chars.length / 4];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = (long) chars[4 * i] << 48 | (long) chars[4 * i + 1] << 32 | (long) chars[4 * i + 2] << 16 | chars[4 * i + 3];
+        }
+        return result;
+    }
+
+    /**
+     * Returns the record of {@code cp}, which must be a valid code point. If {@code ucd32} is
+     * {@code true}, the record reflects CPython's change records for {@code ucd_3_2_0}.
+     */
+    public static long getRecord(int cp, boolean ucd32) {
+        char[] index1 = ucd32 ? INDEX1_3_2_0 : INDEX1;
+        return RECORDS[INDEX2[(index1[cp >> SHIFT] << SHIFT) | (cp & MASK)]];
+    }
+
+    public static boolean isAssigned(long record) {
+        return ((record >>> CATEGORY_SHIFT) & 0x1F) != 0;
+    }
+
+    public static TruffleString getCategory(long record) {
+        return T_CATEGORY_NAMES[(int) (record >>> CATEGORY_SHIFT) & 0x1F];
+    }
+
+    public static TruffleString getBidirectional(long record) {
+        return T_BIDIRECTIONAL_NAMES[(int) (record >>> BIDIRECTIONAL_SHIFT) & 0x1F];
+    }
+
+    public static TruffleString getEastAsianWidth(long record) {
+        return T_EAST_ASIAN_WIDTH_NAMES[(int) (record >>> EAST_ASIAN_WIDTH_SHIFT) & 0x7];
+    }
+
+    public static int getMirrored(long record) {
+        return (int) (record >>> MIRRORED_SHIFT) & 0x1;
+    }
+
+    public static int getCombining(long record) {
+        return (int) (record >>> COMBINING_SHIFT) & 0xFF;
+    }
+
+    /**
+     * Returns one of the {@code QUICK_CHECK_*} constants for the normalization form selected by
+     * {@code compose} (NFC/NFKC vs. NFD/NFKD) and {@code compat} (NFKC/NFKD).
+     */
+    public static int getQuickCheck(long record, boolean compose, boolean compat) {
+        int shift = QUICK_CHECK_SHIFT + (compose ? 4 : 0) + (compat ? 2 : 0);
+        return (int) (record >>> shift) & 0x3;
+    }
+
+    /**
+     * Returns the decimal value or {@code -1} if the code point has none.
+     */
+    public static int getDecimal(long record) {
+        return ((int) (record >>> DECIMAL_SHIFT) & 0xF) - 1;
+    }
+
+    /**
+     * Returns the digit value or {@code -1} if the code point has none.
+     */
+    public static int getDigit(long record) {
+        return ((int) (record >>> DIGIT_SHIFT) & 0xF) - 1;
+    }
+
+    public static boolean hasNumeric(long record) {
+        return getNumericIndex(record) != 0;
+    }
+
+    public static double getNumeric(long record) {
+        assert hasNumeric(record);
+        return UnicodeDataDB.NUMERIC_VALUES[getNumericIndex(record) - 1];
+    }
+
+    private static int getNumericIndex(long record) {
+        return (int) (record >>> NUMERIC_SHIFT) & ((1 << NUMERIC_BITS) - 1);
+    }
+
+    private static int getDecompositionIndex(int cp) {
+        return DECOMPOSITION_INDEX2[(DECOMPOSITION_INDEX1[cp >> SHIFT] << SHIFT) | (cp & MASK)];
+    }
+
+    /**
+     * Returns the decomposition of {@code cp} in the format of {@code unicodedata.decomposition},
+     * or an empty string if there is none.
+     */
+    @TruffleBoundary
+    public static String getDecomposition(int cp) {
+        int index = getDecompositionIndex(cp);
+        int header = DECOMPOSITION_DATA[index];
+        StringBuilder sb = new StringBuilder(UnicodeDataDB.DECOMPOSITION_PREFIXES[header & 0xFF]);
+        for (int i = 1; i <= header >> 8; i++) {
+            if (sb.length() > 0) {
+                sb.append(' ');
+            }
+            sb.append(String.format("%04X", DECOMPOSITION_DATA[index + i]));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Normalizes {@code str} like CPython's {@code nfc_nfkc} and {@code nfd_nfkd}, which are used
+     * once the quick check could not decide.
+     */
+    @TruffleBoundary
+    public static String normalize(String str, boolean compose, boolean compat, boolean ucd32) {
+        int[] decomposed = decompose(str.codePoints().toArray(), compat, ucd32);
+        int length = decomposed.length;
+        if (compose) {
+            length = compose(decomposed);
+        }
+        return new String(decomposed, 0, length);
+    }
+
+    private static int[] decompose(int[] input, boolean compat, boolean ucd32) {
+        int[] output = new int[input.length + 10];
+        int o = 0;
+        // the longest decomposition has 18 code points
+        int[] stack = new int[20];
+        for (int i = 0; i < input.length; i++) {
+            int stackPtr = 0;
+            stack[stackPtr++] = input[i];
+            while (stackPtr > 0) {
+                int code = stack[--stackPtr];
+                if (output.length - o < 3) {
+                    output = Arrays.copyOf(output, output.length * 2);
+                }
+                if (HANGUL_S_BASE <= code && code < HANGUL_S_BASE + HANGUL_S_COUNT) {
+                    int sIndex = code - HANGUL_S_BASE;
+                    output[o++] = HANGUL_L_BASE + sIndex / HANGUL_N_COUNT;
+                    output[o++] = HANGUL_V_BASE + (sIndex % HANGUL_N_COUNT) / HANGUL_T_COUNT;
+                    int t = HANGUL_T_BASE + sIndex % HANGUL_T_COUNT;
+                    if (t != HANGUL_T_BASE) {
+                        output[o++] = t;
+                    }
+                    continue;
+                }
+                if (ucd32) {
+                    int corrected = getNormalization32(code);
+                    if (corrected != 0) {
+                        stack[stackPtr++] = corrected;
+                        continue;
+                    }
+                }
+                int index = ucd32 && !isAssigned(getRecord(code, true)) ? 0 : getDecompositionIndex(code);
+                int header = DECOMPOSITION_DATA[index];
+                int count = header >> 8;
+                // keep the code point if there is no decomposition or only a compatibility one
+                if (count == 0 || ((header & 0xFF) != 0 && !compat)) {
+                    output[o++] = code;
+                    continue;
+                }
+                // push the decomposition in reverse order
+                while (count > 0) {
+                    stack[stackPtr++] = DECOMPOSITION_DATA[index + count--];
+                }
+            }
+        }
+        // canonical ordering, always by the current combining classes like in CPython
+        if (o > 0) {
+            int prev = getCombining(getRecord(output[0], false));
+            for (int i = 1; i < o; i++) {
+                int cur = getCombining(getRecord(output[i], false));
+                if (prev == 0 || cur == 0 || prev <= cur) {
+                    prev = cur;
+                    continue;
+                }
+                // non-canonical order, move output[i] back
+                int j = i - 1;
+                while (true) {
+                    int tmp = output[j + 1];
+                    output[j + 1] = output[j];
+                    output[j] = tmp;
+                    j--;
+                    if (j < 0) {
+                        break;
+                    }
+                    prev = getCombining(getRecord(output[j], false));
+                    if (prev == 0 || prev <= cur) {
+                        break;
+                    }
+                }
+                prev = getCombining(getRecord(output[i], false));
+            }
+        }
+        return Arrays.copyOf(output, o);
+    }
+
+    /**
+     * Composes the decomposed code points in place and returns the new length.
+     */
+    private static int compose(int[] data) {
+        int length = data.length;
+        boolean[] skipped = new boolean[length];
+        int o = 0;
+        int i = 0;
+        while (i < length) {
+            if (skipped[i]) {
+                i++;
+                continue;
+            }
+            int code = data[i];
+            if (HANGUL_L_BASE <= code && code < HANGUL_L_BASE + HANGUL_L_COUNT && i + 1 < length && HANGUL_V_BASE <= data[i + 1] && data[i + 1] < HANGUL_V_BASE + HANGUL_V_COUNT) {
+                code = HANGUL_S_BASE + ((code - HANGUL_L_BASE) * HANGUL_V_COUNT + data[i + 1] - HANGUL_V_BASE) * HANGUL_T_COUNT;
+                i += 2;
+                if (i < length && HANGUL_T_BASE < data[i] && data[i] < HANGUL_T_BASE + HANGUL_T_COUNT) {
+                    code += data[i] - HANGUL_T_BASE;
+                    i++;
+                }
+                data[o++] = code;
+                continue;
+            }
+            if (!isCompositionFirst(code)) {
+                data[o++] = code;
+                i++;
+                continue;
+            }
+            // find the next unblocked characters and combine them with code
+            int combining = 0;
+            for (int i1 = i + 1; i1 < length; i1++) {
+                int code1 = data[i1];
+                int combining1 = getCombining(getRecord(code1, false));
+                if (combining != 0) {
+                    if (combining1 == 0) {
+                        break;
+                    }
+                    if (combining >= combining1) {
+                        // blocked
+                        continue;
+                    }
+                }
+                int composed = getComposition(code, code1);
+                if (composed == 0) {
+                    if (combining1 == 0) {
+                        break;
+                    }
+                    combining = combining1;
+                    continue;
+                }
+                code = composed;
+                skipped[i1] = true;
+                if (!isCompositionFirst(code)) {
+                    break;
+                }
+            }
+            // o <= i, so the output never overwrites unread data
+            data[o++] = code;
+            i++;
+        }
+        return o;
+    }
+
+    private static int findComposition(long key) {
+        int lo = 0;
+        int hi = COMPOSITION_KEYS.length - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            if (COMPOSITION_KEYS[mid] < key) {
+                lo = mid + 1;
+            } else if (COMPOSITION_KEYS[mid] > key) {
+                hi = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(lo + 1);
+    }
+
+    private static boolean isCompositionFirst(int code) {
+        // the smallest possible key with first == code is (code << 21 | 0)
+        int index = findComposition((long) code << COMPOSITION_FIRST_SHIFT);
+        if (index < 0) {
+            index = -(index + 1);
+        }
+        return index < COMPOSITION_KEYS.length && COMPOSITION_KEYS[index] >>> COMPOSITION_FIRST_SHIFT == code;
+    }
+
+    private static int getComposition(int first, int last) {
+        int index = findComposition((long) first << COMPOSITION_FIRST_SHIFT | last);
+        return index >= 0 ? COMPOSITION_VALUES[index] : 0;
+    }
+
+    private static int getNormalization32(int code) {
+        int[] corrections = UnicodeDataDB.NORMALIZATION_3_2_0;
+        for (int i = 0; i < corrections.length; i += 2) {
+            if (corrections[i] == code) {
+                return corrections[i + 1];
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the code point of a name alias, or {@code -1}. The name must be upper case.
+     */
+    public static int lookupAlias(String name) {
+        int index = Arrays.binarySearch(UnicodeDataDB.ALIAS_NAMES, name);
+        return index >= 0 ? UnicodeDataDB.ALIAS_CODEPOINTS[index] : -1;
+    }
+
+    /**
+     * Returns the code points of a named sequence, or {@code null}. The name must be upper case.
+     */
+    public static String lookupNamedSequence(String name) {
+        int index = Arrays.binarySearch(UnicodeDataDB.NAMED_SEQUENCE_NAMES, name);
+        return index >= 0 ? UnicodeDataDB.NAMED_SEQUENCES[index] : null;
+    }
+}
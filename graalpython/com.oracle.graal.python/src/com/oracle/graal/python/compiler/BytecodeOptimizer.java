@@ -0,0 +1,630 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.compiler;
+
+import static com.oracle.graal.python.nodes.StringLiterals.T_EMPTY_STRING;
+import static com.oracle.graal.python.util.PythonUtils.TS_ENCODING;
+
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.oracle.truffle.api.strings.TruffleString;
+
+/**
+ * Optimizations on the {@link Block blocks} of a {@link CompilationUnit}, run before the unit is
+ * assembled into a {@link CodeUnit}:
+ * <ul>
+ * <li>folding of arithmetic on numeric constants and of concatenation and repetition of string
+ * constants,</li>
+ * <li>removal of code that follows unconditional jumps, returns and raises, and of blocks that are
+ * not reachable,</li>
+ * <li>threading of jumps to unconditional jumps and removal of jumps to the next instruction,</li>
+ * <li>removal of {@code LOAD_FAST}/{@code POP_TOP} and {@code LOAD_FAST x}/{@code STORE_FAST x}
+ * pairs of variables that are known to be bound.</li>
+ * </ul>
+ * The source locations of the remaining instructions are kept as they are. An instruction that
+ * would be the only one of its line is replaced by a {@code NOP} so that tracing still reports the
+ * line. Quickening information of replaced instructions is transferred to their replacements.
+ */
+final class BytecodeOptimizer {
+    /*
+     * Limits on the size of folded constants, the same as in CPython, so that small source code
+     * cannot blow up the constant table.
+     */
+    private static final int MAX_INT_BITS = 128;
+    private static final int MAX_STR_SIZE = 4096;
+    private static final int MAX_EXACT_DOUBLE_BITS = 53;
+    private static final int MAX_JUMP_THREADING_STEPS = 16;
+
+    private final CompilationUnit unit;
+    private final ArrayList<Object> constants;
+    private final ArrayList<Long> primitiveConstants;
+    /** Instructions that were replaced by a folded constant, mapped to their replacement. */
+    private final IdentityHashMap<Instruction, Instruction> replacements = new IdentityHashMap<>();
+
+    BytecodeOptimizer(CompilationUnit unit) {
+        this.unit = unit;
+        this.constants = orderedKeys(unit.constants);
+        this.primitiveConstants = orderedKeys(unit.primitiveConstants);
+    }
+
+    void optimize() {
+        foldConstants();
+        removeInstructionsAfterUnconditionalJumps();
+        threadJumps();
+        removeUnreachableBlocks();
+        removeJumpsToNextBlock();
+        removeRedundantLocalAccesses();
+        updateQuickeningInputs();
+    }
+
+    private static <T> ArrayList<T> orderedKeys(HashMap<T, Integer> map) {
+        ArrayList<T> list = new ArrayList<>(Collections.nCopies(map.size(), (T) null));
+        for (Map.Entry<T, Integer> e : map.entrySet()) {
+            list.set(e.getValue(), e.getKey());
+        }
+        return list;
+    }
+
+    private static <T> int addObject(HashMap<T, Integer> dict, ArrayList<T> list, T o) {
+        Integer v = dict.get(o);
+        if (v == null) {
+            v = dict.size();
+            dict.put(o, v);
+            list.add(o);
+        }
+        return v;
+    }
+
+    // constant folding
+
+    private void foldConstants() {
+        for (Block b = unit.startBlock; b != null; b = b.next) {
+            ArrayList<Instruction> instr = b.instr;
+            for (int i = 0; i < instr.size(); i++) {
+                Instruction insn = instr.get(i);
+                Object value = null;
+                int operands = 0;
+                if (insn.opcode == OpCodes.BINARY_OP && i >= 2) {
+                    Object left = constantValue(instr.get(i - 2));
+                    Object right = constantValue(instr.get(i - 1));
+                    if (left != null && right != null) {
+                        value = foldBinaryOp(BinaryOps.values()[insn.arg], left, right);
+                        operands = 2;
+                    }
+                } else if (insn.opcode == OpCodes.UNARY_OP && i >= 1) {
+                    Object operand = constantValue(instr.get(i - 1));
+                    if (operand != null) {
+                        value = foldUnaryOp(UnaryOps.values()[insn.arg], operand);
+                        operands = 1;
+                    }
+                }
+                if (value != null) {
+                    Instruction folded = loadConstant(value, insn);
+                    instr.subList(i - operands, i + 1).clear();
+                    i -= operands;
+                    instr.add(i, folded);
+                    replacements.put(insn, folded);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the value loaded by a constant load as {@link BigInteger}, {@link Double} or
+     * {@link TruffleString}, or {@code null} if the instruction is not a foldable constant load.
+     */
+    private Object constantValue(Instruction insn) {
+        switch (insn.opcode) {
+            case LOAD_BYTE:
+                return BigInteger.valueOf((byte) insn.arg);
+            case LOAD_INT:
+            case LOAD_LONG:
+                return BigInteger.valueOf(primitiveConstants.get(insn.arg));
+            case LOAD_DOUBLE:
+                return Double.longBitsToDouble(primitiveConstants.get(insn.arg));
+            case LOAD_BIGINT:
+            case LOAD_STRING:
+                return constants.get(insn.arg);
+            default:
+                return null;
+        }
+    }
+
+    private Instruction loadConstant(Object value, Instruction replaced) {
+        OpCodes opcode;
+        int arg;
+        if (value instanceof BigInteger bigValue) {
+            if (bigValue.bitLength() < Long.SIZE) {
+                long longValue = bigValue.longValue();
+                if (longValue == (byte) longValue) {
+                    opcode = OpCodes.LOAD_BYTE;
+                    arg = (byte) longValue;
+                } else {
+                    opcode = longValue == (int) longValue ? OpCodes.LOAD_INT : OpCodes.LOAD_LONG;
+                    arg = addObject(unit.primitiveConstants, primitiveConstants, longValue);
+                }
+            } else {
+                opcode = OpCodes.LOAD_BIGINT;
+                arg = addObject(unit.constants, constants, bigValue);
+            }
+        } else if (value instanceof Double doubleValue) {
+            opcode = OpCodes.LOAD_DOUBLE;
+            arg = addObject(unit.primitiveConstants, primitiveConstants, Double.doubleToRawLongBits(doubleValue));
+        } else {
+            opcode = OpCodes.LOAD_STRING;
+            arg = addObject(unit.constants, constants, value);
+        }
+        Instruction insn = new Instruction(opcode, arg, null, null, replaced.location);
+        insn.quickenOutput = (byte) (replaced.quickenOutput & opcode.canQuickenOutputTypes());
+        return insn;
+    }
+
+    /**
+     * Folds operations that cannot raise an exception and whose result is not too large. Returns
+     * {@code null} if the operation cannot be folded.
+     */
+    private static Object foldBinaryOp(BinaryOps op, Object left, Object right) {
+        if (left instanceof BigInteger a && right instanceof BigInteger b) {
+            return foldIntBinaryOp(op, a, b);
+        } else if (left instanceof TruffleString || right instanceof TruffleString) {
+            return foldStringBinaryOp(op, left, right);
+        }
+        Double a = asExactDouble(left);
+        Double b = asExactDouble(right);
+        if (a == null || b == null) {
+            return null;
+        }
+        switch (op) {
+            case ADD:
+                return a + b;
+            case SUB:
+                return a - b;
+            case MUL:
+                return a * b;
+            case TRUEDIV:
+                return b == 0.0 ? null : a / b;
+            default:
+                return null;
+        }
+    }
+
+    private static Double asExactDouble(Object value) {
+        if (value instanceof Double) {
+            return (Double) value;
+        } else if (value instanceof BigInteger && ((BigInteger) value).bitLength() <= MAX_EXACT_DOUBLE_BITS) {
+            return ((BigInteger) value).doubleValue();
+        }
+        return null;
+    }
+
+    private static Object foldIntBinaryOp(BinaryOps op, BigInteger a, BigInteger b) {
+        switch (op) {
+            case ADD:
+                return a.add(b);
+            case SUB:
+                return a.subtract(b);
+            case MUL:
+                return a.bitLength() + b.bitLength() <= MAX_INT_BITS ? a.multiply(b) : null;
+            case TRUEDIV:
+                if (b.signum() == 0 || a.bitLength() > MAX_EXACT_DOUBLE_BITS || b.bitLength() > MAX_EXACT_DOUBLE_BITS) {
+                    return null;
+                }
+                return a.doubleValue() / b.doubleValue();
+            case FLOORDIV:
+            case MOD: {
+                if (b.signum() == 0) {
+                    return null;
+                }
+                BigInteger[] qr = a.divideAndRemainder(b);
+                if (qr[1].signum() != 0 && qr[1].signum() != b.signum()) {
+                    qr[0] = qr[0].subtract(BigInteger.ONE);
+                    qr[1] = qr[1].add(b);
+                }
+                return op == BinaryOps.FLOORDIV ? qr[0] : qr[1];
+            }
+            case POW:
+                if (b.signum() < 0 || b.bitLength() >= Integer.SIZE || (long) a.bitLength() * b.intValue() > MAX_INT_BITS) {
+                    return null;
+                }
+                return a.pow(b.intValue());
+            case LSHIFT:
+                if (b.signum() < 0 || b.bitLength() >= Integer.SIZE || (long) a.bitLength() + b.intValue() > MAX_INT_BITS) {
+                    return null;
+                }
+                return a.shiftLeft(b.intValue());
+            case RSHIFT:
+                if (b.signum() < 0) {
+                    return null;
+                } else if (b.bitLength() >= Integer.SIZE) {
+                    return a.signum() < 0 ? BigInteger.ONE.negate() : BigInteger.ZERO;
+                }
+                return a.shiftRight(b.intValue());
+            case AND:
+                return a.and(b);
+            case OR:
+                return a.or(b);
+            case XOR:
+                return a.xor(b);
+            default:
+                return null;
+        }
+    }
+
+    private static Object foldStringBinaryOp(BinaryOps op, Object left, Object right) {
+        if (op == BinaryOps.ADD && left instanceof TruffleString a && right instanceof TruffleString b) {
+            if (a.codePointLengthUncached(TS_ENCODING) + b.codePointLengthUncached(TS_ENCODING) > MAX_STR_SIZE) {
+                return null;
+            }
+            return a.concatUncached(b, TS_ENCODING, false);
+        } else if (op == BinaryOps.MUL) {
+            TruffleString str;
+            BigInteger count;
+            if (left instanceof TruffleString && right instanceof BigInteger) {
+                str = (TruffleString) left;
+                count = (BigInteger) right;
+            } else if (left instanceof BigInteger && right instanceof TruffleString) {
+                str = (TruffleString) right;
+                count = (BigInteger) left;
+            } else {
+                return null;
+            }
+            if (count.signum() <= 0) {
+                return T_EMPTY_STRING;
+            }
+            if (count.bitLength() >= Integer.SIZE || (long) str.codePointLengthUncached(TS_ENCODING) * count.intValue() > MAX_STR_SIZE) {
+                return null;
+            }
+            return str.repeatUncached(count.intValue(), TS_ENCODING);
+        }
+        return null;
+    }
+
+    private static Object foldUnaryOp(UnaryOps op, Object operand) {
+        switch (op) {
+            case POSITIVE:
+                return operand instanceof TruffleString ? null : operand;
+            case NEGATIVE:
+                if (operand instanceof BigInteger) {
+                    return ((BigInteger) operand).negate();
+                } else if (operand instanceof Double) {
+                    return -(double) operand;
+                }
+                return null;
+            case INVERT:
+                return operand instanceof BigInteger ? ((BigInteger) operand).not() : null;
+            default:
+                return null;
+        }
+    }
+
+    // control flow
+
+    private void removeInstructionsAfterUnconditionalJumps() {
+        for (Block b = unit.startBlock; b != null; b = b.next) {
+            for (int i = 0; i < b.instr.size() - 1; i++) {
+                if (CompilationUnit.UNCONDITIONAL_JUMP_OPCODES.contains(b.instr.get(i).opcode)) {
+                    b.instr.subList(i + 1, b.instr.size()).clear();
+                    break;
+                }
+            }
+        }
+    }
+
+    private static Block skipEmptyBlocks(Block block) {
+        Block b = block;
+        while (b != null && b.instr.isEmpty()) {
+            b = b.next;
+        }
+        return b;
+    }
+
+    /**
+     * Retargets jumps whose target starts with an unconditional jump to the final destination.
+     * Conditional jumps can only jump forward, so they are only threaded through forward jumps. To
+     * keep line tracing intact, only jumps on the same line are skipped. Jumps are not threaded
+     * into a different exception handler range, which keeps the start of each range reachable
+     * whenever any part of the range is.
+     */
+    private void threadJumps() {
+        HashMap<Block, Integer> order = new HashMap<>();
+        int index = 0;
+        for (Block b = unit.startBlock; b != null; b = b.next) {
+            order.put(b, index++);
+        }
+        for (Block b = unit.startBlock; b != null; b = b.next) {
+            int blockIndex = order.get(b);
+            for (int i = 0; i < b.instr.size(); i++) {
+                Instruction insn = b.instr.get(i);
+                switch (insn.opcode) {
+                    case JUMP_FORWARD:
+                    case JUMP_BACKWARD: {
+                        Block target = threadTarget(b, insn, false);
+                        if (target != insn.target) {
+                            OpCodes opcode = order.get(target) > blockIndex ? OpCodes.JUMP_FORWARD : OpCodes.JUMP_BACKWARD;
+                            b.instr.set(i, new Instruction(opcode, 0, null, target, insn.location));
+                        }
+                        break;
+                    }
+                    case JUMP_IF_FALSE_OR_POP:
+                    case JUMP_IF_TRUE_OR_POP: {
+                        /*
+                         * If the value is tested again by a POP_AND_JUMP with the same sense at the
+                         * target, we can pop it right away and jump to the final destination.
+                         */
+                        OpCodes popAndJump = insn.opcode == OpCodes.JUMP_IF_FALSE_OR_POP ? OpCodes.POP_AND_JUMP_IF_FALSE : OpCodes.POP_AND_JUMP_IF_TRUE;
+                        Block dest = skipEmptyBlocks(threadTarget(b, insn, true));
+                        Instruction first = dest.instr.get(0);
+                        if (first.opcode == popAndJump && first.location.startLine == insn.location.startLine && dest.findExceptionHandler() == b.findExceptionHandler() &&
+                                        order.get(first.target) > blockIndex) {
+                            insn = new Instruction(popAndJump, 0, insn.followingArgs, first.target, insn.location);
+                            b.instr.set(i, insn);
+                        }
+                        insn.target = threadTarget(b, insn, true);
+                        break;
+                    }
+                    case POP_AND_JUMP_IF_FALSE:
+                    case POP_AND_JUMP_IF_TRUE:
+                        insn.target = threadTarget(b, insn, true);
+                        break;
+                }
+            }
+        }
+    }
+
+    private static Block threadTarget(Block block, Instruction insn, boolean forwardOnly) {
+        Block target = insn.target;
+        for (int i = 0; i < MAX_JUMP_THREADING_STEPS; i++) {
+            Block dest = skipEmptyBlocks(target);
+            Instruction first = dest.instr.get(0);
+            if (!(first.opcode == OpCodes.JUMP_FORWARD || (first.opcode == OpCodes.JUMP_BACKWARD && !forwardOnly))) {
+                break;
+            }
+            if (first.target == target || first.location.startLine != insn.location.startLine || dest.findExceptionHandler() != block.findExceptionHandler()) {
+                break;
+            }
+            target = first.target;
+        }
+        return target;
+    }
+
+    /**
+     * Removes blocks that cannot be reached by falling through, jumping or handling an exception,
+     * following the same rules as the stack level computation in {@link CompilationUnit}.
+     */
+    private void removeUnreachableBlocks() {
+        Set<Block> reachable = new HashSet<>();
+        Deque<Block> todo = new ArrayDeque<>();
+        reachable.add(unit.startBlock);
+        todo.add(unit.startBlock);
+        while (!todo.isEmpty()) {
+            Block b = todo.pop();
+            BlockInfo.AbstractExceptionHandler handler = b.findExceptionHandler();
+            if (handler != null && reachable.add(handler.exceptionHandler)) {
+                todo.push(handler.exceptionHandler);
+            }
+            if (fallsThrough(b) && b.next != null && reachable.add(b.next)) {
+                todo.push(b.next);
+            }
+            for (Instruction insn : b.instr) {
+                if (insn.target != null && reachable.add(insn.target)) {
+                    todo.push(insn.target);
+                }
+            }
+        }
+        Block last = unit.startBlock;
+        Block b = last.next;
+        while (b != null) {
+            Block next = b.next;
+            if (reachable.contains(b)) {
+                last.next = b;
+                last = b;
+            }
+            b = next;
+        }
+        last.next = null;
+    }
+
+    private static boolean fallsThrough(Block b) {
+        return b.instr.isEmpty() || !CompilationUnit.UNCONDITIONAL_JUMP_OPCODES.contains(b.instr.get(b.instr.size() - 1).opcode);
+    }
+
+    private void removeJumpsToNextBlock() {
+        for (Block b = unit.startBlock; b != null; b = b.next) {
+            int last = b.instr.size() - 1;
+            if (last > 0 && b.instr.get(last).opcode == OpCodes.JUMP_FORWARD && b.instr.get(last - 1).location.startLine == b.instr.get(last).location.startLine) {
+                Block target = b.instr.get(last).target;
+                for (Block next = b.next; next != null; next = next.next) {
+                    if (next == target) {
+                        b.instr.remove(last);
+                        break;
+                    } else if (!next.instr.isEmpty()) {
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    // local variables
+
+    /**
+     * Removes loads of local variables that are known to be bound whose value is immediately
+     * discarded or stored back to the same variable. The set of definitely bound variables is
+     * computed by a forward data flow analysis, starting with the arguments.
+     */
+    private void removeRedundantLocalAccesses() {
+        int varCount = unit.varnames.size();
+        if (varCount == 0) {
+            return;
+        }
+        int argCount = unit.argCount + unit.positionalOnlyArgCount + unit.kwOnlyArgCount + (unit.takesVarArgs ? 1 : 0) + (unit.takesVarKeywordArgs ? 1 : 0);
+        HashMap<Block, BitSet> boundAtEntry = new HashMap<>();
+        Deque<Block> todo = new ArrayDeque<>();
+        BitSet entry = new BitSet(varCount);
+        entry.set(0, Math.min(argCount, varCount));
+        boundAtEntry.put(unit.startBlock, entry);
+        todo.add(unit.startBlock);
+        while (!todo.isEmpty()) {
+            Block b = todo.pop();
+            BitSet bound = (BitSet) boundAtEntry.get(b).clone();
+            BitSet boundThroughout = (BitSet) bound.clone();
+            boolean fallthrough = true;
+            for (Instruction insn : b.instr) {
+                if (insn.target != null) {
+                    mergeBound(boundAtEntry, todo, insn.target, bound);
+                }
+                if (CompilationUnit.UNCONDITIONAL_JUMP_OPCODES.contains(insn.opcode)) {
+                    fallthrough = false;
+                    break;
+                }
+                if (insn.opcode == OpCodes.STORE_FAST) {
+                    bound.set(insn.arg);
+                } else if (insn.opcode == OpCodes.DELETE_FAST) {
+                    bound.clear(insn.arg);
+                    boundThroughout.clear(insn.arg);
+                }
+            }
+            BlockInfo.AbstractExceptionHandler handler = b.findExceptionHandler();
+            if (handler != null) {
+                mergeBound(boundAtEntry, todo, handler.exceptionHandler, boundThroughout);
+            }
+            if (fallthrough && b.next != null) {
+                mergeBound(boundAtEntry, todo, b.next, bound);
+            }
+        }
+        for (Block b = unit.startBlock; b != null; b = b.next) {
+            BitSet bound = boundAtEntry.get(b);
+            if (bound == null) {
+                continue;
+            }
+            bound = (BitSet) bound.clone();
+            for (int i = 0; i < b.instr.size(); i++) {
+                Instruction insn = b.instr.get(i);
+                if (insn.opcode == OpCodes.LOAD_FAST && bound.get(insn.arg) && i + 1 < b.instr.size()) {
+                    Instruction next = b.instr.get(i + 1);
+                    if (next.opcode == OpCodes.POP_TOP || (next.opcode == OpCodes.STORE_FAST && next.arg == insn.arg)) {
+                        i = removeInstructions(b, i, i + 2) - 1;
+                        continue;
+                    }
+                }
+                if (insn.opcode == OpCodes.STORE_FAST) {
+                    bound.set(insn.arg);
+                } else if (insn.opcode == OpCodes.DELETE_FAST) {
+                    bound.clear(insn.arg);
+                }
+            }
+        }
+    }
+
+    private static void mergeBound(HashMap<Block, BitSet> boundAtEntry, Deque<Block> todo, Block target, BitSet bound) {
+        BitSet previous = boundAtEntry.get(target);
+        if (previous == null) {
+            boundAtEntry.put(target, (BitSet) bound.clone());
+            todo.push(target);
+        } else {
+            BitSet merged = (BitSet) previous.clone();
+            merged.and(bound);
+            if (!merged.equals(previous)) {
+                boundAtEntry.put(target, merged);
+                todo.push(target);
+            }
+        }
+    }
+
+    /**
+     * Removes the instructions {@code [from, to)} from the block, leaving a {@code NOP} behind if
+     * they were the only instructions of their line. Returns the index of the first instruction
+     * after the removed ones.
+     */
+    private static int removeInstructions(Block b, int from, int to) {
+        Instruction first = b.instr.get(from);
+        int line = first.location.startLine;
+        boolean startsLine = from == 0 || b.instr.get(from - 1).location.startLine != line;
+        boolean lineContinues = to < b.instr.size() && b.instr.get(to).location.startLine == line;
+        b.instr.subList(from, to).clear();
+        if (startsLine && !lineContinues) {
+            b.instr.add(from, new Instruction(OpCodes.NOP, 0, null, null, first.location));
+            return from + 1;
+        }
+        return from;
+    }
+
+    // quickening
+
+    /**
+     * Points the quickening information of the remaining instructions to the replacements of
+     * folded instructions and drops references to removed instructions.
+     */
+    private void updateQuickeningInputs() {
+        Set<Instruction> live = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Block b = unit.startBlock; b != null; b = b.next) {
+            live.addAll(b.instr);
+        }
+        for (Block b = unit.startBlock; b != null; b = b.next) {
+            for (Instruction insn : b.instr) {
+                if (insn.quickeningGeneralizeList != null) {
+                    List<Instruction> inputs = new ArrayList<>(insn.quickeningGeneralizeList.size());
+                    for (Instruction input : insn.quickeningGeneralizeList) {
+                        Instruction current = input;
+                        while (replacements.containsKey(current)) {
+                            current = replacements.get(current);
+                        }
+                        if (live.contains(current)) {
+                            inputs.add(current);
+                        }
+                    }
+                    insn.quickeningGeneralizeList = inputs;
+                }
+            }
+        }
+    }
+}
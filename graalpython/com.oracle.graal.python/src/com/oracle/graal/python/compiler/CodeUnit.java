@@ -568,6 +568,97 @@ public final class CodeUnit {
         return afterFirst ? bestBci : LINE_TO_BCI_LINE_BEFORE_CODEBLOCK;
     }
 
+    /**
+     * Computes for each entry of {@link #exceptionHandlerRanges} whether its handler never looks at
+     * the caught exception. That is an {@code except} (or {@code finally}) block that doesn't bind
+     * the exception to a name and whose type checks and clause bodies consist only of loads and
+     * stores that can neither call arbitrary code nor suspend the frame. The only way for the
+     * exception to become visible to the program then is to be re-raised when no clause matches.
+     */
+    public boolean[] computeHandlersIgnoringException() {
+        boolean[] result = new boolean[exceptionHandlerRanges.length / 4];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = handlerIgnoresException(exceptionHandlerRanges[i * 4 + 2]);
+        }
+        return result;
+    }
+
+    private boolean handlerIgnoresException(int handlerBci) {
+        if (OpCodes.fromOpCode(code[handlerBci]) != OpCodes.PUSH_EXC_INFO) {
+            return false;
+        }
+        int bci = handlerBci + 1;
+        int oparg = 0;
+        // where to continue when the type check of the current clause fails, -1 for a bare except
+        int nextClause = -1;
+        while (bci < code.length) {
+            OpCodes op = OpCodes.fromOpCode(code[bci]);
+            if (op.hasArg()) {
+                oparg |= Byte.toUnsignedInt(code[bci + 1]);
+            }
+            switch (op.quickens != null ? op.quickens : op) {
+                case EXTENDED_ARG:
+                    oparg <<= 8;
+                    bci += op.length();
+                    continue;
+                case MATCH_EXC_OR_JUMP:
+                    if (nextClause != -1 || OpCodes.fromOpCode(code[bci + op.length()]) != OpCodes.POP_TOP) {
+                        // the exception gets bound to a name
+                        return false;
+                    }
+                    nextClause = bci + oparg;
+                    break;
+                case POP_EXCEPT:
+                    // end of the clause body, the exception state is restored
+                    if (nextClause == -1) {
+                        return true;
+                    }
+                    bci = nextClause;
+                    nextClause = -1;
+                    oparg = 0;
+                    continue;
+                case END_EXC_HANDLER:
+                    // no clause matched, the exception gets re-raised
+                    return true;
+                case COLLECTION_FROM_STACK:
+                    if (CollectionBits.collectionKind(oparg) != CollectionBits.KIND_TUPLE) {
+                        return false;
+                    }
+                    break;
+                case LOAD_GLOBAL:
+                case LOAD_FAST:
+                case LOAD_DEREF:
+                case STORE_FAST:
+                case STORE_DEREF:
+                case LOAD_CONST:
+                case LOAD_NONE:
+                case LOAD_ELLIPSIS:
+                case LOAD_TRUE:
+                case LOAD_FALSE:
+                case LOAD_BYTE:
+                case LOAD_INT:
+                case LOAD_LONG:
+                case LOAD_DOUBLE:
+                case LOAD_BIGINT:
+                case LOAD_STRING:
+                case LOAD_BYTES:
+                case LOAD_COMPLEX:
+                case LOAD_CONST_COLLECTION:
+                case POP_TOP:
+                case ROT_TWO:
+                case ROT_THREE:
+                case DUP_TOP:
+                case NOP:
+                    break;
+                default:
+                    return false;
+            }
+            oparg = 0;
+            bci += op.length();
+        }
+        return false;
+    }
+
     public enum StackItem {
         With("the body of a with statement"),
         Iterable("the body of a for loop"),
@@ -98,9 +98,10 @@ public final class CompilationUnit {
     SourceRange currentLocation;
 
     final EnumSet<FutureFeature> futureFeatures;
+    final boolean optimize;
 
     CompilationUnit(CompilationScope scopeType, Scope scope, String name, CompilationUnit parent, int scopeDepth, int argCount, int positionalOnlyArgCount, int kwOnlyArgCount, boolean takesVarArgs,
-                    boolean takesVarKeywordArgs, SourceRange startLocation, EnumSet<FutureFeature> futureFeatures) {
+                    boolean takesVarKeywordArgs, SourceRange startLocation, EnumSet<FutureFeature> futureFeatures, boolean optimize) {
         this.scopeType = scopeType;
         this.scope = scope;
         this.name = name;
@@ -111,6 +112,7 @@ public final class CompilationUnit {
         this.takesVarKeywordArgs = takesVarKeywordArgs;
         this.startLocation = startLocation;
         this.futureFeatures = futureFeatures;
+        this.optimize = optimize;
         currentLocation = startLocation;
 
         if (scopeType == Class) {
@@ -185,6 +187,9 @@ public final class CompilationUnit {
 
     public CodeUnit assemble() {
         addImplicitReturn();
+        if (optimize) {
+            new BytecodeOptimizer(this).optimize();
+        }
         calculateJumpInstructionArguments();
 
         SourceMap.Builder sourceMapBuilder = new SourceMap.Builder(startLocation.startLine, startLocation.startColumn);
@@ -346,7 +351,7 @@ public final class CompilationUnit {
         finishedExceptionHandlerRanges.add(range);
     }
 
-    private static final EnumSet<OpCodes> UNCONDITIONAL_JUMP_OPCODES = EnumSet.of(OpCodes.JUMP_BACKWARD, OpCodes.JUMP_FORWARD, OpCodes.RETURN_VALUE, OpCodes.RAISE_VARARGS, OpCodes.END_EXC_HANDLER);
+    static final EnumSet<OpCodes> UNCONDITIONAL_JUMP_OPCODES = EnumSet.of(OpCodes.JUMP_BACKWARD, OpCodes.JUMP_FORWARD, OpCodes.RETURN_VALUE, OpCodes.RAISE_VARARGS, OpCodes.END_EXC_HANDLER);
 
     private void computeStackLevels() {
         Deque<Block> todo = new ArrayDeque<>();
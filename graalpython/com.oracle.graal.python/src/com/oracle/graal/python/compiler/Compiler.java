@@ -228,6 +228,11 @@ public class Compiler implements SSTreeVisitor<Void> {
     }
 
     public enum Flags {
+        /**
+         * Run the {@link BytecodeOptimizer} on each compilation unit and compile conditions of
+         * {@code if}, {@code while}, etc. into direct jumps.
+         */
+        OPTIMIZE_BYTECODE,
     }
 
     public Compiler(ErrorCallback errorCallback) {
@@ -433,7 +438,7 @@ public class Compiler implements SSTreeVisitor<Void> {
             stack.add(unit);
         }
         unit = new CompilationUnit(scopeType, env.lookupScope(node), name, unit, stack.size(), argc, pargc, kwargc,
-                        hasSplat, hasKwSplat, startLocation, futureFeatures);
+                        hasSplat, hasKwSplat, startLocation, futureFeatures, flags.contains(Flags.OPTIMIZE_BYTECODE));
         nestingLevel++;
     }
 
@@ -2697,8 +2702,29 @@ public class Compiler implements SSTreeVisitor<Void> {
     }
 
     private void jumpIf(ExprTy test, Block next, boolean jumpIfTrue) {
-        // TODO Optimize for various test types, such as short-circuit operators
         // See compiler_jump_if in CPython
+        if (flags.contains(Flags.OPTIMIZE_BYTECODE)) {
+            if (test instanceof ExprTy.UnaryOp && ((ExprTy.UnaryOp) test).op == UnaryOpTy.Not) {
+                jumpIf(((ExprTy.UnaryOp) test).operand, next, !jumpIfTrue);
+                return;
+            } else if (test instanceof ExprTy.BoolOp) {
+                /*
+                 * Jump directly to the final destination instead of materializing the result of
+                 * the short-circuit operator and testing it again.
+                 */
+                ExprTy[] values = ((ExprTy.BoolOp) test).values;
+                boolean isOr = ((ExprTy.BoolOp) test).op == BoolOpTy.Or;
+                Block shortCircuit = isOr == jumpIfTrue ? next : new Block();
+                for (int i = 0; i < values.length - 1; i++) {
+                    jumpIf(values[i], shortCircuit, isOr);
+                }
+                jumpIf(values[values.length - 1], next, jumpIfTrue);
+                if (shortCircuit != next) {
+                    unit.useNextBlock(shortCircuit);
+                }
+                return;
+            }
+        }
         if (test instanceof ExprTy.Compare) {
             checkCompare((ExprTy.Compare) test);
         }
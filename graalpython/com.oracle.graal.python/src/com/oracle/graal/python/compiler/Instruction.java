@@ -49,7 +49,7 @@ final class Instruction {
     final OpCodes opcode;
     int arg;
     final byte[] followingArgs;
-    final Block target;
+    Block target;
     final SourceRange location;
 
     /**
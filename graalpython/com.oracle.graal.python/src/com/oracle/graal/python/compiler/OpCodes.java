@@ -854,7 +854,20 @@ public enum OpCodes {
     POP_AND_JUMP_IF_FALSE_O(POP_AND_JUMP_IF_FALSE, QuickeningTypes.OBJECT, 0),
     POP_AND_JUMP_IF_FALSE_B(POP_AND_JUMP_IF_FALSE, QuickeningTypes.BOOLEAN, 0, POP_AND_JUMP_IF_FALSE_O),
     POP_AND_JUMP_IF_TRUE_O(POP_AND_JUMP_IF_TRUE, QuickeningTypes.OBJECT, 0),
-    POP_AND_JUMP_IF_TRUE_B(POP_AND_JUMP_IF_TRUE, QuickeningTypes.BOOLEAN, 0, POP_AND_JUMP_IF_TRUE_O);
+    POP_AND_JUMP_IF_TRUE_B(POP_AND_JUMP_IF_TRUE, QuickeningTypes.BOOLEAN, 0, POP_AND_JUMP_IF_TRUE_O),
+
+    /*
+     * Superinstructions. They are formed in place of the first instruction of a frequent pair when
+     * it is quickened and the second instruction stays in the bytecode unchanged, so the length,
+     * stack effect and quickening types are those of the first instruction. When executed in the
+     * interpreter without tracing or instrumentation, they also execute the second instruction,
+     * saving one dispatch. Otherwise, they behave like the first instruction alone.
+     */
+    LOAD_FAST_O_LOAD_FAST(LOAD_FAST, 0, QuickeningTypes.OBJECT),
+    LOAD_FAST_O_LOAD_ATTR(LOAD_FAST, 0, QuickeningTypes.OBJECT),
+    LOAD_FAST_O_LOAD_METHOD(LOAD_FAST, 0, QuickeningTypes.OBJECT),
+    BINARY_OP_II_B_POP_AND_JUMP_IF_FALSE(BINARY_OP, QuickeningTypes.INT, QuickeningTypes.BOOLEAN, BINARY_OP_II_O),
+    BINARY_OP_II_B_POP_AND_JUMP_IF_TRUE(BINARY_OP, QuickeningTypes.INT, QuickeningTypes.BOOLEAN, BINARY_OP_II_O);
 
     public static final class CollectionBits {
         public static final int KIND_MASK = 0b00011111;
@@ -526,6 +526,7 @@ public abstract class ErrorMessages {
     public static final TruffleString NAME_MUST_BE_A_STRING = tsLiteral("__name__ must be a string");
     public static final TruffleString NAME_NOT_DEFINED = tsLiteral("name '%s' is not defined");
     public static final TruffleString NAME_NOT_IN_GLOBALS = tsLiteral("'__name__' not in globals");
+    public static final TruffleString NAME_TOO_LONG = tsLiteral("name too long");
     public static final TruffleString NAMELESS_MODULE = tsLiteral("nameless module");
     public static final TruffleString NATIVE_S_SUBTYPES_NOT_IMPLEMENTED = tsLiteral("native %s subtypes not implemented");
     public static final TruffleString NEED_BYTELIKE_OBJ = tsLiteral("decoding to str: need a bytes-like object, %p found");
@@ -548,6 +549,9 @@ public abstract class ErrorMessages {
     public static final TruffleString NON_HEX_DIGIT_FOUND = tsLiteral("Non-hexadecimal digit found");
     public static final TruffleString NON_HEX_NUMBER_IN_FROMHEX = tsLiteral("non-hexadecimal number found in fromhex() arg at position %d");
     public static final TruffleString NOT_ALL_ARGS_CONVERTED_DURING_FORMATTING = tsLiteral("not all arguments converted during %s formatting");
+    public static final TruffleString NOT_A_DECIMAL = tsLiteral("not a decimal");
+    public static final TruffleString NOT_A_DIGIT = tsLiteral("not a digit");
+    public static final TruffleString NOT_A_NUMERIC_CHARACTER = tsLiteral("not a numeric character");
     public static final TruffleString NOT_ENOUGH_ARGS_FOR_FORMAT_STRING = tsLiteral("not enough arguments for format string");
     public static final TruffleString NOT_ENOUGH_VALUES_TO_UNPACK = tsLiteral("not enough values to unpack (expected %d, got %d)");
     public static final TruffleString NOT_ENOUGH_VALUES_TO_UNPACK_EX = tsLiteral("not enough values to unpack (expected at least %d, got %d)");
@@ -736,6 +740,7 @@ public abstract class ErrorMessages {
     public static final TruffleString UNABLE_TO_GET_S = tsLiteral("unable to get %");
     public static final TruffleString UNAVAILABLE_ON_THIS_PLATFORM = tsLiteral("%s: %s unavailable on this platform");
     public static final TruffleString UNAVAILABLE_ON_THIS_PLATFORM_NO_FUNC = tsLiteral("%s unavailable on this platform");
+    public static final TruffleString UNDEFINED_CHARACTER_NAME = tsLiteral("undefined character name '%s'");
     public static final TruffleString UNEXPECTED_CONSTANT_INSIDE_OF_A_LITERAL_PATTERN = tsLiteral("unexpected constant inside of a literal pattern");
     public static final TruffleString UNEXPECTED_KEYWORD_ARGS = tsLiteral("%s: unexpected keyword arguments");
     public static final TruffleString UNEXPECTED_S_IN_FIELD_NAME = tsLiteral("unexpected %s in field name");
@@ -1497,6 +1502,22 @@ public abstract class ErrorMessages {
     public static final TruffleString NO_RUNNING_EVENT_LOOP = tsLiteral("no running event loop");
     public static final TruffleString CANT_ENTER_TASK_ALREADY_RUNNING = tsLiteral("Cannot enter into task %s while another task %s is being executed.");
     public static final TruffleString TASK_NOT_ENTERED = tsLiteral("Leaving task %s does not match the current task %s.");
+    public static final TruffleString FUTURE_NOT_INITIALIZED = tsLiteral("Future object is not initialized.");
+    public static final TruffleString INVALID_STATE = tsLiteral("invalid state");
+    public static final TruffleString RESULT_IS_NOT_SET = tsLiteral("Result is not set.");
+    public static final TruffleString EXCEPTION_IS_NOT_SET = tsLiteral("Exception is not set.");
+    public static final TruffleString INVALID_EXCEPTION_OBJECT = tsLiteral("invalid exception object");
+    public static final TruffleString STOP_ITERATION_INTERACTS_BADLY_WITH_FUTURE = tsLiteral("StopIteration interacts badly with generators and cannot be raised into a Future");
+    public static final TruffleString AWAIT_WASNT_USED_WITH_FUTURE = tsLiteral("await wasn't used with future");
+    public static final TruffleString LOG_TRACEBACK_CAN_ONLY_BE_SET_TO_FALSE = tsLiteral("_log_traceback can only be set to False");
+    public static final TruffleString A_COROUTINE_WAS_EXPECTED_GOT = tsLiteral("a coroutine was expected, got %r");
+    public static final TruffleString TASK_DOES_NOT_SUPPORT_S_OPERATION = tsLiteral("Task does not support %s operation");
+    public static final TruffleString STEP_ALREADY_DONE = tsLiteral("_step(): already done: %r %r");
+    public static final TruffleString TASK_CANNOT_AWAIT_ON_ITSELF = tsLiteral("Task cannot await on itself: %r");
+    public static final TruffleString YIELD_INSTEAD_OF_YIELD_FROM_IN_TASK = tsLiteral("yield was used instead of yield from in task %r with %r");
+    public static final TruffleString YIELD_INSTEAD_OF_YIELD_FROM_FOR_GENERATOR_IN_TASK = tsLiteral("yield was used instead of yield from for generator in task %r with %r");
+    public static final TruffleString TASK_GOT_FUTURE_ATTACHED_TO_DIFFERENT_LOOP = tsLiteral("Task %r got Future %r attached to a different loop");
+    public static final TruffleString TASK_GOT_BAD_YIELD = tsLiteral("Task got bad yield: %r");
     public static final TruffleString ENCODING_NAME_MUST_BE_A_STRING = tsLiteral("encoding name must be a string.");
     public static final TruffleString NO_SUCH_CODEC_IS_SUPPORTED = tsLiteral("no such codec is supported.");
     public static final TruffleString COULDN_T_CONVERT_THE_OBJECT_TO_UNICODE = tsLiteral("couldn't convert the object to unicode.");
@@ -1539,6 +1560,47 @@ public abstract class ErrorMessages {
     public static final TruffleString THE_FIRST_ARGUMENT_MUST_BE_CALLABLE = tsLiteral("the first argument must be callable");
     public static final TruffleString S_MUST_BE_A_S_TUPLE = tsLiteral("%s must be a %s-tuple");
 
+    // struct
+    public static final TruffleString STRUCT_BAD_CHAR_IN_FMT = tsLiteral("bad char in struct format");
+    public static final TruffleString STRUCT_REPEAT_COUNT_WITHOUT_FMT = tsLiteral("repeat count given without format specifier");
+    public static final TruffleString STRUCT_FMT_NOT_STR_OR_BYTES_P = tsLiteral("Struct() argument 1 must be a str or bytes object, not %p");
+    public static final TruffleString STRUCT_PACK_EXPECTED_N_ITEMS_GOT_K = tsLiteral("pack expected %d items for packing (got %d)");
+    public static final TruffleString STRUCT_PACK_INTO_EXPECTED_BUFFER_ARG = tsLiteral("pack_into expected buffer argument");
+    public static final TruffleString STRUCT_PACK_INTO_EXPECTED_OFFSET_ARG = tsLiteral("pack_into expected offset argument");
+    public static final TruffleString STRUCT_PACK_INTO_EXPECTED_N_ITEMS_GOT_K = tsLiteral("pack_into expected %d items for packing (got %d)");
+    public static final TruffleString STRUCT_NO_SPACE_TO_PACK_N_BYTES_AT_OFFSET = tsLiteral("no space to pack %d bytes at offset %d");
+    public static final TruffleString STRUCT_OFFSET_OUT_OF_RANGE = tsLiteral("offset %d out of range for %d-byte buffer");
+    public static final TruffleString STRUCT_PACK_INTO_REQ_BUFFER_TO_PACK = tsLiteral(
+                    "pack_into requires a buffer of at least %s bytes for packing %d bytes at offset %d (actual buffer size is %d)");
+    public static final TruffleString STRUCT_UNPACK_REQ_BUFFER_N_BYTES = tsLiteral("unpack requires a buffer of %d bytes");
+    public static final TruffleString STRUCT_NOT_ENOUGH_DATA_TO_UNPACK_N_BYTES = tsLiteral("not enough data to unpack %d bytes at offset %d");
+    public static final TruffleString STRUCT_UNPACK_FROM_REQ_BUFFER = tsLiteral(
+                    "unpack_from requires a buffer of at least %s bytes for unpacking %d bytes at offset %d (actual buffer size is %d)");
+    public static final TruffleString STRUCT_ITER_CANNOT_UNPACK_FROM_STRUCT_OF_SIZE_0 = tsLiteral("cannot iteratively unpack with a struct of length 0");
+    public static final TruffleString STRUCT_ITER_UNPACK_REQ_A_BUFFER_OF_A_MUL_OF_BYTES = tsLiteral("iterative unpacking requires a buffer of a multiple of %d bytes");
+    public static final TruffleString STRUCT_ARG_NOT_AN_INTEGER = tsLiteral("required argument is not an integer");
+    public static final TruffleString STRUCT_ARG_NOT_A_FLOAT = tsLiteral("required argument is not a float");
+    public static final TruffleString STRUCT_ARG_OUT_OF_RANGE = tsLiteral("argument out of range");
+    public static final TruffleString STRUCT_FMT_REQUIRES_RANGE = tsLiteral("'%c' format requires %d <= number <= %d");
+    public static final TruffleString STRUCT_FMT_REQUIRES_UNSIGNED_RANGE = tsLiteral("'%c' format requires 0 <= number <= %d");
+    public static final TruffleString STRUCT_BYTE_FMT_REQUIRES_RANGE = tsLiteral("byte format requires -128 <= number <= 127");
+    public static final TruffleString STRUCT_UBYTE_FMT_REQUIRES_RANGE = tsLiteral("ubyte format requires 0 <= number <= 255");
+    public static final TruffleString STRUCT_SHORT_FMT_REQUIRES_RANGE = tsLiteral("short format requires -32768 <= number <= 32767");
+    public static final TruffleString STRUCT_USHORT_FMT_REQUIRES_RANGE = tsLiteral("ushort format requires 0 <= number <= 65535");
+    public static final TruffleString STRUCT_CHAR_FMT_REQ_BYTES_LEN_1 = tsLiteral("char format requires a bytes object of length 1");
+    public static final TruffleString STRUCT_ARG_FOR_C_MUST_BE_BYTES = tsLiteral("argument for '%c' must be a bytes object");
+
+    // select
+    public static final TruffleString CONCURRENT_POLL_INVOCATION = tsLiteral("concurrent poll() invocation");
+    public static final TruffleString TIMEOUT_IS_TOO_LARGE = tsLiteral("timeout is too large");
+    public static final TruffleString VALUE_MUST_BE_POSITIVE = tsLiteral("value must be positive");
+    public static final TruffleString IO_OPERATION_ON_CLOSED_EPOLL = tsLiteral("I/O operation on closed epoll object");
+    public static final TruffleString NEGATIVE_SIZEHINT = tsLiteral("negative sizehint");
+    public static final TruffleString MAXEVENTS_MUST_BE_GREATER_THAN_0 = tsLiteral("maxevents must be greater than 0, got %d");
+
+    // tracemalloc
+    public static final TruffleString THE_NUMBER_OF_FRAMES_MUST_BE_IN_RANGE = tsLiteral("the number of frames must be in range [1; %d]");
+
     // pickle
     public static final TruffleString CANNOT_PICKLE_OBJECT_TYPE = tsLiteral("cannot pickle '%p' object");
     public static final TruffleString STRUCT_SIZE_TOO_LONG = tsLiteral("total struct size too long");
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.nodes.bytecode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+
+/**
+ * Execution counts of pairs of consecutively executed bytecode instructions, shared by all root
+ * nodes of a language instance and only allocated if the {@code BytecodePairStatistics} option is
+ * enabled. The instructions are recorded as they are dispatched by the interpreter, so quickened
+ * variants are counted separately, and the second instruction of a fused superinstruction is not
+ * dispatched. The statistics are meant for choosing superinstructions, so they should be recorded
+ * with {@code BytecodeSuperinstructions} disabled.
+ */
+public final class BytecodePairStatistics {
+    private static final int OPCODES = 256;
+
+    private final AtomicLongArray counts = new AtomicLongArray(OPCODES * OPCODES);
+
+    @TruffleBoundary
+    void record(int first, byte second) {
+        counts.getAndIncrement(first * OPCODES + Byte.toUnsignedInt(second));
+    }
+
+    /**
+     * Returns the recorded pairs as {@code {first opcode, second opcode, count}} rows, most
+     * frequent first.
+     */
+    @TruffleBoundary
+    public long[][] getPairs() {
+        List<long[]> pairs = new ArrayList<>();
+        for (int i = 0; i < counts.length(); i++) {
+            long count = counts.get(i);
+            if (count != 0) {
+                pairs.add(new long[]{i / OPCODES, i % OPCODES, count});
+            }
+        }
+        pairs.sort((a, b) -> Long.compare(b[2], a[2]));
+        return pairs.toArray(new long[0][]);
+    }
+
+    @TruffleBoundary
+    public void reset() {
+        for (int i = 0; i < counts.length(); i++) {
+            counts.set(i, 0);
+        }
+    }
+}
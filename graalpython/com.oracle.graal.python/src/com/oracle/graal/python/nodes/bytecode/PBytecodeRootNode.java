@@ -520,6 +520,22 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
     @CompilationFinal(dimensions = 1) protected final Assumption[] cellEffectivelyFinalAssumptions;
 
     @CompilationFinal(dimensions = 1) private final int[] exceptionHandlerRanges;
+    /**
+     * Whether the handler of the corresponding entry of {@link #exceptionHandlerRanges} never looks
+     * at the caught exception. See {@link CodeUnit#computeHandlersIgnoringException()}. Such
+     * handlers don't need the exception's context eagerly, so we don't do a stack walk to find it.
+     */
+    @CompilationFinal(dimensions = 1) private final boolean[] handlersIgnoringException;
+    /**
+     * Whether quickening may replace instructions by superinstructions, see
+     * {@link #superinstructionForLoadFastO} and {@link #superinstructionForBinaryOpIIB}.
+     */
+    private final boolean useSuperinstructions;
+    /**
+     * The shared pair counts if {@link PythonOptions#BytecodePairStatistics} is enabled, otherwise
+     * {@code null}.
+     */
+    private final BytecodePairStatistics pairStatistics;
 
     /**
      * Whether instruction at given bci can put a primitive value on stack. The number is a bitwise
@@ -673,7 +689,10 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
         this.cell2arg = co.cell2arg;
         this.name = co.name;
         this.exceptionHandlerRanges = co.exceptionHandlerRanges;
+        this.handlersIgnoringException = co.computeHandlersIgnoringException();
         this.co = co;
+        this.useSuperinstructions = language.getEngineOption(PythonOptions.BytecodeSuperinstructions);
+        this.pairStatistics = language.getBytecodePairStatistics();
         assert co.stacksize < Math.pow(2, 12) : "stacksize cannot be larger than 12-bit range";
         cellEffectivelyFinalAssumptions = new Assumption[cellvars.length];
         for (int i = 0; i < cellvars.length; i++) {
@@ -705,6 +724,45 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
         }
     }
 
+    private byte superinstructionForLoadFastO(byte[] localBC, int bci) {
+        if (useSuperinstructions && bci + 2 < localBC.length) {
+            OpCodes next = OpCodes.fromOpCode(localBC[bci + 2]);
+            if (next == OpCodes.LOAD_ATTR) {
+                return OpCodesConstants.LOAD_FAST_O_LOAD_ATTR;
+            } else if (next == OpCodes.LOAD_METHOD) {
+                return OpCodesConstants.LOAD_FAST_O_LOAD_METHOD;
+            } else if (next == OpCodes.LOAD_FAST || next.quickens == OpCodes.LOAD_FAST) {
+                // The fused load is only executed once the second load is quickened to object
+                return OpCodesConstants.LOAD_FAST_O_LOAD_FAST;
+            }
+        }
+        return OpCodesConstants.LOAD_FAST_O;
+    }
+
+    private byte superinstructionForBinaryOpIIB(byte[] localBC, int bci) {
+        if (useSuperinstructions && bci + 2 < localBC.length) {
+            // The jump is only fused once it is quickened to boolean
+            OpCodes next = OpCodes.fromOpCode(localBC[bci + 2]);
+            if (next == OpCodes.POP_AND_JUMP_IF_FALSE || next.quickens == OpCodes.POP_AND_JUMP_IF_FALSE) {
+                return OpCodesConstants.BINARY_OP_II_B_POP_AND_JUMP_IF_FALSE;
+            } else if (next == OpCodes.POP_AND_JUMP_IF_TRUE || next.quickens == OpCodes.POP_AND_JUMP_IF_TRUE) {
+                return OpCodesConstants.BINARY_OP_II_B_POP_AND_JUMP_IF_TRUE;
+            }
+        }
+        return OpCodesConstants.BINARY_OP_II_B;
+    }
+
+    /**
+     * Superinstructions only execute their second instruction in the interpreter and when no line
+     * tracing or instrumentation needs to observe the boundary between the two instructions.
+     * Otherwise, they execute just the first instruction and the second one is dispatched as
+     * usual. Compiled code doesn't benefit from the fusion and keeping {@code beginBci} constant
+     * per loop iteration is required for partial evaluation.
+     */
+    private static boolean canExecuteFused(byte tracingOrProfilingEnabled, InstrumentationSupport instrumentation) {
+        return CompilerDirectives.inInterpreter() && !isTracingEnabled(tracingOrProfilingEnabled) && instrumentation == null;
+    }
+
     @Override
     protected int computeSize() {
         return bytecode.length / 2;
@@ -1302,9 +1360,10 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
         }
 
         int oparg = 0;
+        int previousBc = -1;
         while (true) {
             final byte bc = localBC[bci];
-            final int beginBci = bci;
+            int beginBci = bci;
             tracingOrProfilingEnabled = checkTracingAndProfilingEnabled(noTraceOrProfile, mutableData);
             if (isTracingEnabled(tracingOrProfilingEnabled)) {
                 final int stackDiff = traceLine(virtualFrame, mutableData, localBC, bci);
@@ -1319,6 +1378,13 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
                 }
             }
 
+            if (pairStatistics != null && CompilerDirectives.inInterpreter()) {
+                if (previousBc >= 0) {
+                    pairStatistics.record(previousBc, bc);
+                }
+                previousBc = Byte.toUnsignedInt(bc);
+            }
+
             CompilerAsserts.partialEvaluationConstant(bc);
             CompilerAsserts.partialEvaluationConstant(bci);
             CompilerAsserts.partialEvaluationConstant(stackTop);
@@ -1508,6 +1574,38 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
                         bytecodeLoadFastO(virtualFrame, localFrame, ++stackTop, bci++, oparg, localNodes, hasUnboxedLocals);
                         break;
                     }
+                    case OpCodesConstants.LOAD_FAST_O_LOAD_FAST: {
+                        oparg |= Byte.toUnsignedInt(localBC[bci + 1]);
+                        bytecodeLoadFastO(virtualFrame, localFrame, ++stackTop, bci++, oparg, localNodes, hasUnboxedLocals);
+                        if (canExecuteFused(tracingOrProfilingEnabled, instrumentation) && localBC[bci + 1] == OpCodesConstants.LOAD_FAST_O) {
+                            beginBci = ++bci;
+                            oparg = Byte.toUnsignedInt(localBC[bci + 1]);
+                            bytecodeLoadFastO(virtualFrame, localFrame, ++stackTop, bci++, oparg, localNodes, hasUnboxedLocals);
+                        }
+                        break;
+                    }
+                    case OpCodesConstants.LOAD_FAST_O_LOAD_ATTR: {
+                        oparg |= Byte.toUnsignedInt(localBC[bci + 1]);
+                        bytecodeLoadFastO(virtualFrame, localFrame, ++stackTop, bci++, oparg, localNodes, hasUnboxedLocals);
+                        if (canExecuteFused(tracingOrProfilingEnabled, instrumentation)) {
+                            beginBci = ++bci;
+                            setCurrentBci(virtualFrame, bciSlot, bci);
+                            oparg = Byte.toUnsignedInt(localBC[++bci]);
+                            bytecodeLoadAttr(virtualFrame, stackTop, beginBci, oparg, localNodes, localNames, useCachedNodes);
+                        }
+                        break;
+                    }
+                    case OpCodesConstants.LOAD_FAST_O_LOAD_METHOD: {
+                        oparg |= Byte.toUnsignedInt(localBC[bci + 1]);
+                        bytecodeLoadFastO(virtualFrame, localFrame, ++stackTop, bci++, oparg, localNodes, hasUnboxedLocals);
+                        if (canExecuteFused(tracingOrProfilingEnabled, instrumentation)) {
+                            beginBci = ++bci;
+                            setCurrentBci(virtualFrame, bciSlot, bci);
+                            oparg = Byte.toUnsignedInt(localBC[++bci]);
+                            stackTop = bytecodeLoadMethod(virtualFrame, stackTop, bci, oparg, localNames, localNodes, useCachedNodes);
+                        }
+                        break;
+                    }
                     case OpCodesConstants.LOAD_FAST_I: {
                         oparg |= Byte.toUnsignedInt(localBC[bci + 1]);
                         bytecodeLoadFastI(virtualFrame, localFrame, ++stackTop, bci++, oparg, localNodes, hasUnboxedLocals);
@@ -1760,6 +1858,36 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
                         bytecodeBinaryOpIIB(virtualFrame, stackTop--, bci++, localNodes, op);
                         break;
                     }
+                    case OpCodesConstants.BINARY_OP_II_B_POP_AND_JUMP_IF_FALSE: {
+                        int op = Byte.toUnsignedInt(localBC[bci + 1]);
+                        bytecodeBinaryOpIIB(virtualFrame, stackTop--, bci++, localNodes, op);
+                        if (canExecuteFused(tracingOrProfilingEnabled, instrumentation) && localBC[bci + 1] == OpCodesConstants.POP_AND_JUMP_IF_FALSE_B && virtualFrame.isBoolean(stackTop)) {
+                            beginBci = ++bci;
+                            if (profileCondition(!virtualFrame.getBoolean(stackTop--), localBC, bci, useCachedNodes)) {
+                                bci += Byte.toUnsignedInt(localBC[bci + 1]);
+                                oparg = 0;
+                                continue;
+                            } else {
+                                bci += 3;
+                            }
+                        }
+                        break;
+                    }
+                    case OpCodesConstants.BINARY_OP_II_B_POP_AND_JUMP_IF_TRUE: {
+                        int op = Byte.toUnsignedInt(localBC[bci + 1]);
+                        bytecodeBinaryOpIIB(virtualFrame, stackTop--, bci++, localNodes, op);
+                        if (canExecuteFused(tracingOrProfilingEnabled, instrumentation) && localBC[bci + 1] == OpCodesConstants.POP_AND_JUMP_IF_TRUE_B && virtualFrame.isBoolean(stackTop)) {
+                            beginBci = ++bci;
+                            if (profileCondition(virtualFrame.getBoolean(stackTop--), localBC, bci, useCachedNodes)) {
+                                bci += Byte.toUnsignedInt(localBC[bci + 1]);
+                                oparg = 0;
+                                continue;
+                            } else {
+                                bci += 3;
+                            }
+                        }
+                        break;
+                    }
                     case OpCodesConstants.BINARY_OP_II_O: {
                         int op = Byte.toUnsignedInt(localBC[bci + 1]);
                         bytecodeBinaryOpIIO(virtualFrame, stackTop--, bci++, localNodes, op);
@@ -2333,7 +2461,11 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
 
                     int targetIndex = findHandler(beginBci);
                     CompilerAsserts.partialEvaluationConstant(targetIndex);
-                    chainPythonExceptions(virtualFrame, mutableData, pe);
+                    if (targetIndex != -1 && handlersIgnoringException[targetIndex >> 2] && instrumentation == null && tracingOrProfilingEnabled == 0) {
+                        chainPythonExceptionsIfKnown(virtualFrame, mutableData, pe);
+                    } else {
+                        chainPythonExceptions(virtualFrame, mutableData, pe);
+                    }
                     if (targetIndex == -1) {
                         reraiseUnhandledException(virtualFrame, localFrame, initialStackTop, isGeneratorOrCoroutine, mutableData, bciSlot, beginBci, pe, tracingOrProfilingEnabled);
                         if (pe != null) {
@@ -3256,6 +3388,9 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
     private void chainPythonExceptions(VirtualFrame virtualFrame, MutableLoopData mutableData, PException pe) {
         if (pe != null) {
             if (mutableData.localException != null) {
+                if (mutableData.localException.isContextDeferred()) {
+                    resolveDeferredContext(mutableData.localException);
+                }
                 chainPythonExceptions(pe, mutableData.localException);
             } else {
                 if (getCaughtExceptionNode == null) {
@@ -3270,6 +3405,41 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
         }
     }
 
+    /**
+     * Variant of {@link #chainPythonExceptions(VirtualFrame, MutableLoopData, PException)} for
+     * exceptions caught by a handler that ignores them. If the exception state isn't available
+     * without a stack walk, we leave the context unset. Should the exception get re-raised because
+     * no clause matched, the flag is cleared and the re-raised exception is chained again when
+     * caught with the original exception state restored. Should another exception be raised inside
+     * the handler, the context is resolved then and the flag is cleared.
+     */
+    @InliningCutoff
+    private void chainPythonExceptionsIfKnown(VirtualFrame virtualFrame, MutableLoopData mutableData, PException pe) {
+        if (pe != null) {
+            if (mutableData.localException != null) {
+                chainPythonExceptions(pe, mutableData.localException);
+            } else {
+                PException exceptionState = PArguments.getException(virtualFrame);
+                if (exceptionState == null) {
+                    pe.setContextDeferred(true);
+                } else if (exceptionState != PException.NO_EXCEPTION) {
+                    chainPythonExceptions(pe, exceptionState);
+                }
+            }
+        }
+    }
+
+    private void resolveDeferredContext(PException pe) {
+        CompilerDirectives.transferToInterpreter();
+        // cleared first, so that a re-raise of pe later in this handler doesn't resolve it again
+        pe.setContextDeferred(false);
+        // The frame's exception state is the deferred exception itself now, look at the callers
+        PException exceptionState = ExceptionStateNodes.GetCaughtExceptionNode.fullStackWalk(pe);
+        if (exceptionState != null && exceptionState != PException.NO_EXCEPTION) {
+            chainPythonExceptions(pe, exceptionState);
+        }
+    }
+
     private void chainPythonExceptions(PException current, PException context) {
         if (chainExceptionsNode == null) {
             CompilerDirectives.transferToInterpreterAndInvalidate();
@@ -3389,7 +3559,7 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
                 case BinaryOpsConstants.LT:
                 case BinaryOpsConstants.IS:
                     if ((outputCanQuicken[bci] & QuickeningTypes.BOOLEAN) != 0) {
-                        localBC[bci] = OpCodesConstants.BINARY_OP_II_B;
+                        localBC[bci] = superinstructionForBinaryOpIIB(localBC, bci);
                         bytecodeBinaryOpIIB(virtualFrame, stackTop, bci, localNodes, op);
                     } else {
                         localBC[bci] = OpCodesConstants.BINARY_OP_II_O;
@@ -4417,7 +4587,7 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
     private void bytecodeLoadFastAdaptive(VirtualFrame virtualFrame, Frame localFrame, int stackTop, byte[] localBC, int bci, int index, Node[] localNodes, boolean hasUnboxedLocals) {
         CompilerDirectives.transferToInterpreterAndInvalidate();
         if (localFrame.isObject(index)) {
-            localBC[bci] = OpCodesConstants.LOAD_FAST_O;
+            localBC[bci] = superinstructionForLoadFastO(localBC, bci);
             bytecodeLoadFastO(virtualFrame, localFrame, stackTop, bci, index, localNodes, hasUnboxedLocals);
         } else if (localFrame.isInt(index)) {
             if ((outputCanQuicken[bci] & QuickeningTypes.INT) != 0) {
@@ -4528,7 +4698,7 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
         CompilerDirectives.transferToInterpreterAndInvalidate();
         generalizeVariableStores(index);
         generalizeFrameSlot(virtualFrame, index);
-        bytecode[bci] = OpCodesConstants.LOAD_FAST_O;
+        bytecode[bci] = superinstructionForLoadFastO(bytecode, bci);
         bytecodeLoadFastO(virtualFrame, localFrame, stackTop, bci, index, localNodes, hasUnboxedLocals);
     }
 
@@ -4768,8 +4938,10 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
 
     private PException bytecodeEndExcHandler(VirtualFrame virtualFrame, int stackTop) {
         Object exception = virtualFrame.getObject(stackTop);
-        if (exception instanceof PException) {
-            throw ((PException) exception).getExceptionForReraise(frameIsVisibleToPython());
+        if (exception instanceof PException pe) {
+            // the re-raised exception is chained again where it is caught next
+            pe.setContextDeferred(false);
+            throw pe.getExceptionForReraise(frameIsVisibleToPython());
         } else if (exception instanceof AbstractTruffleException) {
             throw (AbstractTruffleException) exception;
         } else {
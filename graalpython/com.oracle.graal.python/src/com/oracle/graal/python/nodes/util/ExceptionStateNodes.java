@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2019, 2024, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -126,6 +126,16 @@ public abstract class ExceptionStateNodes {
 
         @TruffleBoundary
         public static PException fullStackWalk() {
+            return fullStackWalk(null);
+        }
+
+        /**
+         * Like {@link #fullStackWalk()}, but skips frames whose exception state is {@code skip}.
+         * Used to find the exception state of the callers while the current frame is already
+         * handling {@code skip}.
+         */
+        @TruffleBoundary
+        public static PException fullStackWalk(PException skip) {
 
             return Truffle.getRuntime().iterateFrames(new FrameInstanceVisitor<PException>() {
                 public PException visitFrame(FrameInstance frameInstance) {
@@ -137,7 +147,8 @@ public abstract class ExceptionStateNodes {
                         PRootNode pRootNode = (PRootNode) rootNode;
                         pRootNode.setNeedsExceptionState();
                         Frame frame = frameInstance.getFrame(FrameAccess.READ_ONLY);
-                        return PArguments.getException(frame);
+                        PException e = PArguments.getException(frame);
+                        return e != skip ? e : null;
                     }
                     return null;
                 }
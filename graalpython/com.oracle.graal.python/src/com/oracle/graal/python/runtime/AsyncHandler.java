@@ -51,6 +51,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
@@ -179,7 +180,17 @@ public class AsyncHandler {
     private final WeakReference<PythonContext> context;
     private final Queue<AsyncAction> rescheduled = new ConcurrentLinkedDeque<>();
     private static final int ASYNC_ACTION_DELAY = 25;
-    private static final int GIL_RELEASE_DELAY = 50;
+    /**
+     * Lower bound for the delay between two GIL release requests, in microseconds. Requesting a
+     * release involves a thread-local action on the GIL owner, so much shorter intervals would
+     * mostly add safepoint overhead.
+     */
+    private static final long MIN_GIL_RELEASE_DELAY = 500;
+    /**
+     * Upper bound for the factor by which the switch interval is shortened when multiple threads
+     * queue up for the GIL.
+     */
+    private static final int MAX_GIL_RELEASE_SPEEDUP = 8;
 
     private class AsyncRunnable implements Runnable {
         private final Supplier<AsyncAction> actionSupplier;
@@ -337,7 +348,7 @@ public class AsyncHandler {
         }
     }
 
-    private static class GilReleaseScheduler implements Runnable {
+    private class GilReleaseScheduler implements Runnable {
         private final PythonContext ctx;
         private volatile boolean gilReleaseRequested;
         private Thread lastGilOwner;
@@ -348,6 +359,34 @@ public class AsyncHandler {
 
         @Override
         public void run() {
+            try {
+                requestGilRelease();
+            } finally {
+                schedule();
+            }
+        }
+
+        /**
+         * Schedules the next GIL release request. The delay is the switch interval set by
+         * {@code sys.setswitchinterval}. If several threads are waiting for the GIL, the delay is
+         * shortened proportionally so that a thread at the end of the (fair) queue still gets to
+         * run after roughly one switch interval instead of one interval per thread ahead of it.
+         */
+        private void schedule() {
+            long delay = (long) ctx.getSysModuleState().getSwitchInterval();
+            int queued = ctx.gilQueueLength();
+            if (queued > 1) {
+                delay /= Math.min(queued, MAX_GIL_RELEASE_SPEEDUP);
+            }
+            delay = Math.max(delay, MIN_GIL_RELEASE_DELAY);
+            try {
+                executorService.schedule(this, delay, TimeUnit.MICROSECONDS);
+            } catch (RejectedExecutionException e) {
+                // the handler was shut down
+            }
+        }
+
+        private void requestGilRelease() {
             if (!ctx.gilHasQueuedThreads()) {
                 // Don't release the gil if nobody is waiting for it
                 return;
@@ -408,13 +447,13 @@ public class AsyncHandler {
         if (ctx == null) {
             return;
         }
-        final Runnable gilReleaseRunnable = new GilReleaseScheduler(ctx);
+        final GilReleaseScheduler gilReleaseScheduler = new GilReleaseScheduler(ctx);
         if (PythonOptions.AUTOMATIC_ASYNC_ACTIONS) {
-            executorService.scheduleWithFixedDelay(gilReleaseRunnable, GIL_RELEASE_DELAY, GIL_RELEASE_DELAY, TimeUnit.MILLISECONDS);
+            gilReleaseScheduler.schedule();
         } else {
             // we will release the gil when polled to do so
             registeredActions.add(new AsyncRunnable(() -> {
-                gilReleaseRunnable.run();
+                gilReleaseScheduler.requestGilRelease();
                 return null;
             }));
         }
@@ -63,6 +63,15 @@ import static com.oracle.graal.python.runtime.PosixConstants.EAI_FAMILY;
 import static com.oracle.graal.python.runtime.PosixConstants.EAI_NONAME;
 import static com.oracle.graal.python.runtime.PosixConstants.EAI_SERVICE;
 import static com.oracle.graal.python.runtime.PosixConstants.EAI_SOCKTYPE;
+import static com.oracle.graal.python.runtime.PosixConstants.EPOLLET;
+import static com.oracle.graal.python.runtime.PosixConstants.EPOLLIN;
+import static com.oracle.graal.python.runtime.PosixConstants.EPOLLONESHOT;
+import static com.oracle.graal.python.runtime.PosixConstants.EPOLLOUT;
+import static com.oracle.graal.python.runtime.PosixConstants.EPOLLRDNORM;
+import static com.oracle.graal.python.runtime.PosixConstants.EPOLLWRNORM;
+import static com.oracle.graal.python.runtime.PosixConstants.EPOLL_CTL_ADD;
+import static com.oracle.graal.python.runtime.PosixConstants.EPOLL_CTL_DEL;
+import static com.oracle.graal.python.runtime.PosixConstants.EPOLL_CTL_MOD;
 import static com.oracle.graal.python.runtime.PosixConstants.F_OK;
 import static com.oracle.graal.python.runtime.PosixConstants.F_RDLCK;
 import static com.oracle.graal.python.runtime.PosixConstants.F_UNLCK;
@@ -91,6 +100,11 @@ import static com.oracle.graal.python.runtime.PosixConstants.O_SYNC;
 import static com.oracle.graal.python.runtime.PosixConstants.O_TMPFILE;
 import static com.oracle.graal.python.runtime.PosixConstants.O_TRUNC;
 import static com.oracle.graal.python.runtime.PosixConstants.O_WRONLY;
+import static com.oracle.graal.python.runtime.PosixConstants.POLLIN;
+import static com.oracle.graal.python.runtime.PosixConstants.POLLNVAL;
+import static com.oracle.graal.python.runtime.PosixConstants.POLLOUT;
+import static com.oracle.graal.python.runtime.PosixConstants.POLLRDNORM;
+import static com.oracle.graal.python.runtime.PosixConstants.POLLWRNORM;
 import static com.oracle.graal.python.runtime.PosixConstants.PROT_EXEC;
 import static com.oracle.graal.python.runtime.PosixConstants.PROT_NONE;
 import static com.oracle.graal.python.runtime.PosixConstants.PROT_READ;
@@ -201,6 +215,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -695,30 +710,283 @@ public final class EmulatedPosixSupport extends PosixResources {
     private SelectableChannel[] getSelectableChannels(int[] fds) throws PosixException {
         SelectableChannel[] channels = new SelectableChannel[fds.length];
         for (int i = 0; i < fds.length; i++) {
-            Channel ch = getFileChannel(fds[i]);
-            if (ch == null) {
-                throw posixException(OSErrorEnum.EBADF);
+            channels[i] = getSelectableChannel(fds[i]);
+        }
+        return channels;
+    }
+
+    private SelectableChannel getSelectableChannel(int fd) throws PosixException {
+        Channel ch = getFileChannel(fd);
+        if (ch == null) {
+            throw posixException(OSErrorEnum.EBADF);
+        }
+        if (ch instanceof SelectableChannel) {
+            return (SelectableChannel) ch;
+        } else if (ch instanceof EmulatedDatagramSocket) {
+            return ((EmulatedDatagramSocket) ch).channel;
+        } else if (ch instanceof EmulatedStreamSocket) {
+            EmulatedStreamSocket streamSocket = (EmulatedStreamSocket) ch;
+            synchronized (streamSocket) {
+                if (streamSocket.clientChannel != null) {
+                    return streamSocket.clientChannel;
+                } else if (streamSocket.serverChannel != null) {
+                    return streamSocket.serverChannel;
+                }
             }
-            if (ch instanceof SelectableChannel) {
-                channels[i] = (SelectableChannel) ch;
-            } else if (ch instanceof EmulatedDatagramSocket) {
-                channels[i] = ((EmulatedDatagramSocket) ch).channel;
-            } else if (ch instanceof EmulatedStreamSocket) {
-                EmulatedStreamSocket streamSocket = (EmulatedStreamSocket) ch;
-                synchronized (streamSocket) {
-                    if (streamSocket.clientChannel != null) {
-                        channels[i] = streamSocket.clientChannel;
-                    } else if (streamSocket.serverChannel != null) {
-                        channels[i] = streamSocket.serverChannel;
-                    } else {
-                        throw ChannelNotSelectableException.INSTANCE;
+        }
+        throw ChannelNotSelectableException.INSTANCE;
+    }
+
+    @ExportMessage
+    @TruffleBoundary
+    public int[] poll(int[] fds, int[] events, int timeoutMs) throws PosixException {
+        if (PythonImageBuildOptions.WITHOUT_JAVA_INET || withoutIOSocket) {
+            throw new UnsupportedPosixFeatureException("poll was excluded");
+        }
+        if (!POLLIN.defined) {
+            throw new UnsupportedPosixFeatureException("poll is not available on the current platform");
+        }
+        int inMask = POLLIN.getValueIfDefined() | POLLRDNORM.getValueIfDefined();
+        int outMask = POLLOUT.getValueIfDefined() | POLLWRNORM.getValueIfDefined();
+        int[] ops = new int[fds.length];
+        for (int i = 0; i < fds.length; i++) {
+            ops[i] = toSelectionOps(events[i], inMask, outMask);
+        }
+        int[] readyOps = waitForReadyOps(fds, ops, timeoutMs);
+        int[] revents = new int[fds.length];
+        for (int i = 0; i < fds.length; i++) {
+            if (readyOps[i] < 0) {
+                revents[i] = POLLNVAL.getValueIfDefined();
+            } else {
+                revents[i] = fromSelectionOps(readyOps[i], POLLIN.getValueIfDefined(), POLLOUT.getValueIfDefined());
+            }
+        }
+        return revents;
+    }
+
+    /**
+     * Emulated epoll instance, which is just the interest list that is polled with a
+     * {@link Selector} by each {@code epollWait}. Events are always level-triggered, which is also
+     * correct (albeit less efficient) for callers that requested {@code EPOLLET}.
+     */
+    private static final class EmulatedEpoll implements Channel {
+        private final LinkedHashMap<Integer, Integer> interest = new LinkedHashMap<>();
+        private volatile boolean open = true;
+
+        @Override
+        public boolean isOpen() {
+            return open;
+        }
+
+        @Override
+        public void close() {
+            open = false;
+        }
+    }
+
+    @ExportMessage
+    @TruffleBoundary
+    @SuppressWarnings("unused")
+    public int epollCreate(int flags) throws PosixException {
+        if (PythonImageBuildOptions.WITHOUT_JAVA_INET || withoutIOSocket) {
+            throw new UnsupportedPosixFeatureException("epoll was excluded");
+        }
+        if (!EPOLLIN.defined) {
+            throw new UnsupportedPosixFeatureException("epoll is not available on the current platform");
+        }
+        return assignFileDescriptor(new EmulatedEpoll());
+    }
+
+    @ExportMessage
+    @TruffleBoundary
+    public void epollCtl(int epfd, int op, int fd, int events) throws PosixException {
+        EmulatedEpoll epoll = getEmulatedEpoll(epfd);
+        if (fd == epfd) {
+            throw posixException(OSErrorEnum.EINVAL);
+        }
+        if (getChannel(fd) == null) {
+            throw posixException(OSErrorEnum.EBADF);
+        }
+        if ((events & EPOLLET.getValueIfDefined()) != 0) {
+            compatibilityIgnored("POSIX emulation layer doesn't support edge-triggered epoll, using level-triggered notifications");
+        }
+        synchronized (epoll) {
+            if (op == EPOLL_CTL_ADD.getValueIfDefined()) {
+                if (epoll.interest.containsKey(fd)) {
+                    throw posixException(OSErrorEnum.EEXIST);
+                }
+                epoll.interest.put(fd, events);
+            } else if (op == EPOLL_CTL_MOD.getValueIfDefined()) {
+                if (!epoll.interest.containsKey(fd)) {
+                    throw posixException(OSErrorEnum.ENOENT);
+                }
+                epoll.interest.put(fd, events);
+            } else if (op == EPOLL_CTL_DEL.getValueIfDefined()) {
+                if (epoll.interest.remove(fd) == null) {
+                    throw posixException(OSErrorEnum.ENOENT);
+                }
+            } else {
+                throw posixException(OSErrorEnum.EINVAL);
+            }
+        }
+    }
+
+    @ExportMessage
+    @TruffleBoundary
+    public int epollWait(int epfd, int[] fds, int[] events, int timeoutMs) throws PosixException {
+        EmulatedEpoll epoll = getEmulatedEpoll(epfd);
+        int[] watchedFds;
+        int[] watchedEvents;
+        synchronized (epoll) {
+            watchedFds = new int[epoll.interest.size()];
+            watchedEvents = new int[watchedFds.length];
+            int i = 0;
+            for (Map.Entry<Integer, Integer> entry : epoll.interest.entrySet()) {
+                watchedFds[i] = entry.getKey();
+                watchedEvents[i] = entry.getValue();
+                i++;
+            }
+        }
+        int inMask = EPOLLIN.getValueIfDefined() | EPOLLRDNORM.getValueIfDefined();
+        int outMask = EPOLLOUT.getValueIfDefined() | EPOLLWRNORM.getValueIfDefined();
+        int[] ops = new int[watchedFds.length];
+        for (int i = 0; i < watchedFds.length; i++) {
+            ops[i] = toSelectionOps(watchedEvents[i], inMask, outMask);
+        }
+        int[] readyOps = waitForReadyOps(watchedFds, ops, timeoutMs);
+        int count = 0;
+        synchronized (epoll) {
+            for (int i = 0; i < watchedFds.length && count < fds.length; i++) {
+                if (readyOps[i] < 0) {
+                    // like the kernel, forget file descriptors that were closed
+                    epoll.interest.remove(watchedFds[i]);
+                } else if (readyOps[i] != 0) {
+                    fds[count] = watchedFds[i];
+                    events[count] = fromSelectionOps(readyOps[i], EPOLLIN.getValueIfDefined(), EPOLLOUT.getValueIfDefined());
+                    count++;
+                    if ((watchedEvents[i] & EPOLLONESHOT.getValueIfDefined()) != 0) {
+                        epoll.interest.replace(watchedFds[i], 0);
                     }
                 }
+            }
+        }
+        return count;
+    }
+
+    private EmulatedEpoll getEmulatedEpoll(int epfd) throws PosixException {
+        Channel channel = getChannel(epfd);
+        if (channel == null) {
+            throw posixException(OSErrorEnum.EBADF);
+        }
+        if (channel instanceof EmulatedEpoll) {
+            return (EmulatedEpoll) channel;
+        }
+        throw posixException(OSErrorEnum.EINVAL);
+    }
+
+    private static int toSelectionOps(int events, int inMask, int outMask) {
+        int ops = 0;
+        if ((events & inMask) != 0) {
+            ops |= SelectionKey.OP_READ;
+        }
+        if ((events & outMask) != 0) {
+            ops |= SelectionKey.OP_WRITE;
+        }
+        return ops;
+    }
+
+    private static int fromSelectionOps(int ops, int inEvent, int outEvent) {
+        int events = 0;
+        if ((ops & SelectionKey.OP_READ) != 0) {
+            events |= inEvent;
+        }
+        if ((ops & SelectionKey.OP_WRITE) != 0) {
+            events |= outEvent;
+        }
+        return events;
+    }
+
+    /**
+     * Waits until at least one of the file descriptors is ready for the requested
+     * {@link SelectionKey#OP_READ} or {@link SelectionKey#OP_WRITE} operations or the timeout
+     * expires. File descriptors that are not backed by a selectable channel, such as regular files,
+     * are always reported as ready.
+     *
+     * @return the ready operations for each file descriptor, {@code -1} if it is not valid
+     */
+    private int[] waitForReadyOps(int[] fds, int[] ops, int timeoutMs) throws PosixException {
+        int[] readyOps = new int[fds.length];
+        SelectableChannel[] channels = new SelectableChannel[fds.length];
+        boolean anyReady = false;
+        for (int i = 0; i < fds.length; i++) {
+            try {
+                channels[i] = getSelectableChannel(fds[i]);
+            } catch (ChannelNotSelectableException e) {
+                readyOps[i] = ops[i];
+                anyReady |= ops[i] != 0;
+            } catch (PosixException e) {
+                readyOps[i] = -1;
+                anyReady = true;
+            }
+        }
+        Map<SelectableChannel, Boolean> wasBlocking = new HashMap<>();
+        try (Selector selector = Selector.open()) {
+            for (int i = 0; i < fds.length; i++) {
+                SelectableChannel channel = channels[i];
+                if (channel == null) {
+                    continue;
+                }
+                int channelOps = 0;
+                if ((ops[i] & SelectionKey.OP_READ) != 0) {
+                    channelOps |= (SelectionKey.OP_READ | SelectionKey.OP_ACCEPT) & channel.validOps();
+                }
+                if ((ops[i] & SelectionKey.OP_WRITE) != 0) {
+                    channelOps |= SelectionKey.OP_WRITE & channel.validOps();
+                }
+                if (!wasBlocking.containsKey(channel)) {
+                    wasBlocking.put(channel, channel.isBlocking());
+                    channel.configureBlocking(false);
+                }
+                SelectionKey key = channel.keyFor(selector);
+                if (key == null) {
+                    channel.register(selector, channelOps);
+                } else {
+                    key.interestOps(key.interestOps() | channelOps);
+                }
+            }
+            if (anyReady || timeoutMs == 0) {
+                selector.selectNow();
             } else {
-                throw ChannelNotSelectableException.INSTANCE;
+                // 0 means to wait indefinitely in the Java API
+                selector.select(timeoutMs < 0 ? 0 : timeoutMs);
+            }
+            for (int i = 0; i < fds.length; i++) {
+                if (channels[i] != null) {
+                    int ready = channels[i].keyFor(selector).readyOps();
+                    int result = 0;
+                    if ((ready & (SelectionKey.OP_READ | SelectionKey.OP_ACCEPT)) != 0) {
+                        result |= SelectionKey.OP_READ;
+                    }
+                    if ((ready & SelectionKey.OP_WRITE) != 0) {
+                        result |= SelectionKey.OP_WRITE;
+                    }
+                    readyOps[i] = result & ops[i];
+                }
+            }
+            return readyOps;
+        } catch (IOException e) {
+            throw posixException(OSErrorEnum.fromException(e, TruffleString.EqualNode.getUncached()));
+        } finally {
+            try {
+                for (Map.Entry<SelectableChannel, Boolean> entry : wasBlocking.entrySet()) {
+                    if (entry.getValue()) {
+                        entry.getKey().configureBlocking(true);
+                    }
+                }
+            } catch (IOException e) {
+                // We didn't manage to restore the blocking status, ignore
             }
         }
-        return channels;
     }
 
     @ExportMessage
@@ -185,6 +185,10 @@ public final class NFIPosixSupport extends PosixSupport {
         call_dup2("(sint32, sint32, sint32):sint32"),
         call_pipe2("([sint32]):sint32"),
         call_select("(sint32, [sint32], sint32, [sint32], sint32, [sint32], sint32, sint64, sint64, [sint8]):sint32"),
+        call_poll("([sint32], [sint32], [sint32], sint32, sint32):sint32"),
+        call_epoll_create("(sint32):sint32"),
+        call_epoll_ctl("(sint32, sint32, sint32, sint32):sint32"),
+        call_epoll_wait("(sint32, [sint32], [sint32], sint32, sint32):sint32"),
         call_lseek("(sint32, sint64, sint32):sint64"),
         call_ftruncate("(sint32, sint64):sint32"),
         call_fsync("(sint32):sint32"),
@@ -648,6 +652,58 @@ public final class NFIPosixSupport extends PosixSupport {
 
     }
 
+    @ExportMessage
+    public int[] poll(int[] fds, int[] events, int timeoutMs,
+                    @Shared("invoke") @Cached InvokeNativeFunction invokeNode) throws PosixException {
+        assert fds.length == events.length;
+        int[] revents = new int[fds.length];
+        int result = invokeNode.callInt(this, PosixNativeFunction.call_poll, wrap(fds), wrap(events), wrap(revents), fds.length, timeoutMs);
+        if (result < 0) {
+            throw getErrnoAndThrowPosixException(invokeNode);
+        }
+        return revents;
+    }
+
+    private static final UnsupportedPosixFeatureException NO_EPOLL_EXCEPTION = new UnsupportedPosixFeatureException("epoll is not available on the current platform");
+
+    @ExportMessage
+    public int epollCreate(int flags,
+                    @Shared("invoke") @Cached InvokeNativeFunction invokeNode) throws PosixException {
+        if (PythonOS.getPythonOS() != PythonOS.PLATFORM_LINUX) {
+            throw NO_EPOLL_EXCEPTION;
+        }
+        int epfd = invokeNode.callInt(this, PosixNativeFunction.call_epoll_create, flags);
+        if (epfd < 0) {
+            throw getErrnoAndThrowPosixException(invokeNode);
+        }
+        return epfd;
+    }
+
+    @ExportMessage
+    public void epollCtl(int epfd, int op, int fd, int events,
+                    @Shared("invoke") @Cached InvokeNativeFunction invokeNode) throws PosixException {
+        if (PythonOS.getPythonOS() != PythonOS.PLATFORM_LINUX) {
+            throw NO_EPOLL_EXCEPTION;
+        }
+        if (invokeNode.callInt(this, PosixNativeFunction.call_epoll_ctl, epfd, op, fd, events) < 0) {
+            throw getErrnoAndThrowPosixException(invokeNode);
+        }
+    }
+
+    @ExportMessage
+    public int epollWait(int epfd, int[] fds, int[] events, int timeoutMs,
+                    @Shared("invoke") @Cached InvokeNativeFunction invokeNode) throws PosixException {
+        if (PythonOS.getPythonOS() != PythonOS.PLATFORM_LINUX) {
+            throw NO_EPOLL_EXCEPTION;
+        }
+        assert fds.length == events.length && fds.length > 0;
+        int result = invokeNode.callInt(this, PosixNativeFunction.call_epoll_wait, epfd, wrap(fds), wrap(events), fds.length, timeoutMs);
+        if (result < 0) {
+            throw getErrnoAndThrowPosixException(invokeNode);
+        }
+        return result;
+    }
+
     private static boolean[] selectFillInResult(int[] fds, byte[] selected, int selectedOffset) {
         boolean[] res = new boolean[fds.length];
         for (int i = 0; i < fds.length; i++) {
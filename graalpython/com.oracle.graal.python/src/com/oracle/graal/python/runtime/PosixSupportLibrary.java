@@ -107,6 +107,44 @@ public abstract class PosixSupportLibrary extends Library {
 
     public abstract SelectResult select(Object receiver, int[] readfds, int[] writefds, int[] errorfds, Timeval timeout) throws PosixException;
 
+    /**
+     * Equivalent of POSIX {@code poll()}.
+     *
+     * @param fds the file descriptors to wait for
+     * @param events the requested {@code POLLxxx} events, one item per item of {@code fds}
+     * @param timeoutMs timeout in milliseconds, a negative value means to wait indefinitely
+     * @return the returned events, one item per item of {@code fds}, {@code 0} for file
+     *         descriptors that are not ready
+     */
+    public abstract int[] poll(Object receiver, int[] fds, int[] events, int timeoutMs) throws PosixException;
+
+    /**
+     * Equivalent of Linux {@code epoll_create1()}.
+     *
+     * @param flags either {@code 0} or {@code EPOLL_CLOEXEC}
+     * @return the file descriptor of the new epoll instance
+     */
+    public abstract int epollCreate(Object receiver, int flags) throws PosixException;
+
+    /**
+     * Equivalent of Linux {@code epoll_ctl()}.
+     *
+     * @param op one of the {@code EPOLL_CTL_xxx} constants
+     * @param events the {@code EPOLLxxx} event mask, ignored for {@code EPOLL_CTL_DEL}
+     */
+    public abstract void epollCtl(Object receiver, int epfd, int op, int fd, int events) throws PosixException;
+
+    /**
+     * Equivalent of Linux {@code epoll_wait()}. The maximum number of reported events is given by
+     * the length of the output arrays.
+     *
+     * @param fds output parameter, receives the ready file descriptors
+     * @param events output parameter, receives the events of the corresponding item in {@code fds}
+     * @param timeoutMs timeout in milliseconds, a negative value means to wait indefinitely
+     * @return the number of items filled in {@code fds} and {@code events}
+     */
+    public abstract int epollWait(Object receiver, int epfd, int[] fds, int[] events, int timeoutMs) throws PosixException;
+
     public abstract long lseek(Object receiver, int fd, long offset, int how) throws PosixException;
 
     public abstract void ftruncate(Object receiver, int fd, long length) throws PosixException;
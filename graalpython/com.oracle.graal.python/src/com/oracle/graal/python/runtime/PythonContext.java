@@ -76,6 +76,7 @@ import java.security.SecureRandom;
 import java.text.MessageFormat;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -83,10 +84,12 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
@@ -112,6 +115,7 @@ import com.oracle.graal.python.builtins.objects.cext.capi.CApiContext;
 import com.oracle.graal.python.builtins.objects.cext.capi.PThreadState;
 import com.oracle.graal.python.builtins.objects.cext.capi.PyTruffleObjectFree;
 import com.oracle.graal.python.builtins.objects.cext.capi.PythonNativeWrapper.PythonAbstractObjectNativeWrapper;
+import com.oracle.graal.python.builtins.objects.cext.capi.transitions.CApiTiming;
 import com.oracle.graal.python.builtins.objects.cext.capi.transitions.CApiTransitions.HandleContext;
 import com.oracle.graal.python.builtins.objects.cext.common.LoadCExtException.ApiInitException;
 import com.oracle.graal.python.builtins.objects.cext.common.NativePointer;
@@ -295,6 +299,12 @@ public final class PythonContext extends Python3Core {
         /* corresponds to 'PyThreadState.dict' */
         PDict dict;
 
+        /*
+         * The dictionaries of 'threading.local' objects for this thread, indexed by the slot the
+         * context allocated for the object, see 'allocateThreadLocalSlot'.
+         */
+        PDict[] threadLocalDicts = EMPTY_THREAD_LOCAL_DICTS;
+
         CtypesThreadState ctypes;
 
         /*
@@ -346,6 +356,16 @@ public final class PythonContext extends Python3Core {
          */
         public int recursionDepth;
 
+        /*
+         * GIL statistics, only recorded if the GilStatistics option is enabled. Times are in
+         * nanoseconds, 'gilAcquiredAt' is zero while the thread does not hold the GIL.
+         */
+        long gilAcquisitions;
+        long gilContendedAcquisitions;
+        long gilWaitTime;
+        long gilHoldTime;
+        long gilAcquiredAt;
+
         /*
          * The constructor needs to have this particular signature such that we can use it for
          * ContextThreadLocal.
@@ -455,6 +475,29 @@ public final class PythonContext extends Python3Core {
             this.dict = dict;
         }
 
+        public PDict getThreadLocalDict(int slot) {
+            PDict[] dicts = threadLocalDicts;
+            return slot < dicts.length ? dicts[slot] : null;
+        }
+
+        public void setThreadLocalDict(int slot, PDict value) {
+            if (slot >= threadLocalDicts.length) {
+                growThreadLocalDicts(slot);
+            }
+            threadLocalDicts[slot] = value;
+        }
+
+        @TruffleBoundary
+        private void growThreadLocalDicts(int slot) {
+            threadLocalDicts = Arrays.copyOf(threadLocalDicts, Math.max(slot + 1, threadLocalDicts.length * 2));
+        }
+
+        void clearThreadLocalDict(int slot) {
+            if (slot < threadLocalDicts.length) {
+                threadLocalDicts[slot] = null;
+            }
+        }
+
         public CtypesThreadState getCtypes() {
             return ctypes;
         }
@@ -498,6 +541,7 @@ public final class PythonContext extends Python3Core {
                 }
             }
             dict = null;
+            threadLocalDicts = EMPTY_THREAD_LOCAL_DICTS;
             if (nativeWrapper != null && nativeWrapper.ref == null) {
                 PyTruffleObjectFree.releaseNativeWrapperUncached(nativeWrapper);
                 nativeWrapper = null;
@@ -708,6 +752,11 @@ public final class PythonContext extends Python3Core {
 
     /* map of thread IDs to the corresponding 'threadStates' */
     private final Map<Thread, PythonThreadState> threadStateMapping = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private static final PDict[] EMPTY_THREAD_LOCAL_DICTS = new PDict[0];
+    /* slots of collected 'threading.local' objects that can be reused */
+    private final ArrayDeque<Integer> freeThreadLocalSlots = new ArrayDeque<>();
+    private int threadLocalSlotCount;
     private WeakReference<Thread> mainThread;
 
     private final ReentrantLock importLock = new ReentrantLock();
@@ -736,6 +785,16 @@ public final class PythonContext extends Python3Core {
     }
 
     private final GlobalInterpreterLock globalInterpreterLock = new GlobalInterpreterLock();
+    private boolean gilStatistics;
+    private boolean lockStatistics;
+    private volatile boolean capiTiming;
+    // computed on first use, also for contexts pre-initialized in the image
+    private Boolean useVirtualThreads;
+    /*
+     * Virtual threads cannot be put into our thread group, so joinThreads recognizes them by this
+     * set. A thread is added when it is created and removes itself when it leaves the context.
+     */
+    private final Set<Thread> virtualThreads = ConcurrentHashMap.newKeySet();
 
     /*
      * Used to avoid triggering more async handlers from an async handler. We run those only on the
@@ -746,6 +805,11 @@ public final class PythonContext extends Python3Core {
     // The context-local resources
     private final AsyncHandler handler;
     private final AsyncHandler.SharedFinalizer sharedFinalizer;
+    /**
+     * Pool for compressing blocks in parallel, created lazily if the
+     * {@link PythonOptions#ParallelCompressionThreads} option is set.
+     */
+    private ForkJoinPool compressionPool;
 
     // decides if we run the async weakref callbacks and destructors
     private boolean gcEnabled = true;
@@ -793,6 +857,8 @@ public final class PythonContext extends Python3Core {
     private final ChildContextData childContextData;
     private final SharedMultiprocessingData sharedMultiprocessingData;
 
+    private final TracemallocTracker tracemallocTracker = new TracemallocTracker();
+
     private boolean codecsInitialized;
     private final List<Object> codecSearchPath = new ArrayList<>();
     private final Map<TruffleString, PTuple> codecSearchCache = new HashMap<>();
@@ -1221,6 +1287,10 @@ public final class PythonContext extends Python3Core {
         return sharedMultiprocessingData;
     }
 
+    public TracemallocTracker getTracemallocTracker() {
+        return tracemallocTracker;
+    }
+
     public long spawnTruffleContext(int fd, int sentinel, int[] fdsToKeep) {
         ChildContextData data = new ChildContextData(isChildContext() ? childContextData.parentCtx : this);
         Builder childContextBuilder = data.parentCtx.env.newInnerContextBuilder().//
@@ -1645,6 +1715,13 @@ public final class PythonContext extends Python3Core {
         }
         initializeLocale();
         setIntMaxStrDigits(getOption(PythonOptions.IntMaxStrDigits));
+        int switchIntervalMillis = getOption(PythonOptions.GilSwitchInterval);
+        if (switchIntervalMillis > 0) {
+            getSysModuleState().setSwitchInterval(switchIntervalMillis * 1000.0);
+        }
+        gilStatistics = getOption(PythonOptions.GilStatistics);
+        lockStatistics = getOption(PythonOptions.LockStatistics);
+        setCApiTimingEnabled(getOption(PythonOptions.CAPITiming) || CApiTiming.isEnabledOnStartup());
         if (!PythonImageBuildOptions.WITHOUT_COMPRESSION_LIBRARIES) {
             nativeZlib = NFIZlibSupport.createNative(this, "");
             nativeBz2lib = NFIBz2Support.createNative(this, "");
@@ -2010,6 +2087,12 @@ public final class PythonContext extends Python3Core {
             // shut down async actions threads
             handler.shutdown();
             finalizing = true;
+            synchronized (this) {
+                if (compressionPool != null) {
+                    compressionPool.shutdownNow();
+                    compressionPool = null;
+                }
+            }
             // interrupt and join or kill python threads
             joinThreads();
             if (cApiContext != null) {
@@ -2147,7 +2230,7 @@ public final class PythonContext extends Python3Core {
                     // that are not running GraalPython code anymore, they will just never receive
                     // PythonThreadKillException and continue as if nothing happened.
                     disposeThread(thread);
-                    boolean isOurThread = runViaLauncher || thread.getThreadGroup() == threadGroup;
+                    boolean isOurThread = runViaLauncher || thread.getThreadGroup() == threadGroup || virtualThreads.contains(thread);
                     // Do not try so hard when running in embedded mode and the thread may not be
                     // running any GraalPython code anymore
                     int tries = isOurThread ? 100 : 5;
@@ -2206,6 +2289,23 @@ public final class PythonContext extends Python3Core {
         return handler;
     }
 
+    /**
+     * Returns the pool to use for compressing blocks in parallel, or {@code null} if parallel
+     * compression is not enabled. The tasks submitted to this pool must not touch any Python
+     * objects, because its threads do not enter the context.
+     */
+    @TruffleBoundary
+    public synchronized ForkJoinPool getCompressionPool() {
+        if (compressionPool == null) {
+            int threads = getOption(PythonOptions.ParallelCompressionThreads);
+            if (threads <= 0 || finalizing) {
+                return null;
+            }
+            compressionPool = new ForkJoinPool(threads);
+        }
+        return compressionPool;
+    }
+
     /**
      * Register an action for regular execution. Refer to {@link AsyncHandler#registerAction} for
      * details.
@@ -2265,6 +2365,16 @@ public final class PythonContext extends Python3Core {
         return globalInterpreterLock.getOwner();
     }
 
+    /**
+     * Returns {@code true} if the given thread currently holds the GIL. Locks use this to decide if
+     * it is worth spinning: the owner of a Python lock needs the GIL to release it, so spinning
+     * only makes sense while the owner is running.
+     */
+    @TruffleBoundary
+    public boolean isGilHeldBy(Thread thread) {
+        return globalInterpreterLock.getOwner() == thread;
+    }
+
     /**
      * Should not be used outside of {@link AsyncHandler}
      */
@@ -2272,6 +2382,13 @@ public final class PythonContext extends Python3Core {
         return globalInterpreterLock.hasQueuedThreads();
     }
 
+    /**
+     * Should not be used outside of {@link AsyncHandler}
+     */
+    int gilQueueLength() {
+        return globalInterpreterLock.getQueueLength();
+    }
+
     /**
      * Should not be called directly.
      *
@@ -2281,7 +2398,13 @@ public final class PythonContext extends Python3Core {
     boolean tryAcquireGil() {
         try {
             // Using tryLock with empty timeout to ensure fairness
-            return globalInterpreterLock.tryLock(0, TimeUnit.SECONDS);
+            if (globalInterpreterLock.tryLock(0, TimeUnit.SECONDS)) {
+                if (gilStatistics) {
+                    recordGilAcquired(System.nanoTime(), false);
+                }
+                return true;
+            }
+            return false;
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             return false;
@@ -2297,7 +2420,14 @@ public final class PythonContext extends Python3Core {
     void acquireGil() throws InterruptedException {
         assert !ownsGil() : dumpStackOnAssertionHelper("trying to acquire the GIL more than once");
         boolean wasInterrupted = Thread.interrupted();
-        globalInterpreterLock.lockInterruptibly();
+        if (gilStatistics) {
+            long start = System.nanoTime();
+            boolean contended = globalInterpreterLock.isLocked();
+            globalInterpreterLock.lockInterruptibly();
+            recordGilAcquired(start, contended);
+        } else {
+            globalInterpreterLock.lockInterruptibly();
+        }
         if (wasInterrupted) {
             Thread.currentThread().interrupt();
         }
@@ -2316,9 +2446,72 @@ public final class PythonContext extends Python3Core {
     @TruffleBoundary
     void releaseGil() {
         assert globalInterpreterLock.getHoldCount() == 1 : dumpStackOnAssertionHelper("trying to release the GIL with invalid hold count " + globalInterpreterLock.getHoldCount());
+        if (gilStatistics) {
+            PythonThreadState ts = threadStateMapping.get(Thread.currentThread());
+            if (ts != null && ts.gilAcquiredAt != 0) {
+                ts.gilHoldTime += System.nanoTime() - ts.gilAcquiredAt;
+                ts.gilAcquiredAt = 0;
+            }
+        }
         globalInterpreterLock.unlock();
     }
 
+    private void recordGilAcquired(long waitStart, boolean contended) {
+        PythonThreadState ts = threadStateMapping.get(Thread.currentThread());
+        if (ts != null) {
+            long now = System.nanoTime();
+            ts.gilAcquisitions++;
+            if (contended) {
+                ts.gilContendedAcquisitions++;
+            }
+            ts.gilWaitTime += now - waitStart;
+            ts.gilAcquiredAt = now;
+        }
+    }
+
+    /**
+     * Returns the GIL statistics of all threads attached to this context as rows of
+     * {@code [thread id, acquisitions, contended acquisitions, wait time (ns), hold time (ns)]}. The
+     * values are only recorded if {@link PythonOptions#GilStatistics} is enabled, and they are read
+     * without synchronization, so they are only approximate for running threads.
+     */
+    @TruffleBoundary
+    public long[][] getGilStatistics() {
+        synchronized (threadStateMapping) {
+            long[][] result = new long[threadStateMapping.size()][];
+            int i = 0;
+            for (Map.Entry<Thread, PythonThreadState> entry : threadStateMapping.entrySet()) {
+                PythonThreadState ts = entry.getValue();
+                result[i++] = new long[]{PThread.getThreadId(entry.getKey()), ts.gilAcquisitions, ts.gilContendedAcquisitions, ts.gilWaitTime, ts.gilHoldTime};
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Whether locks created in this context record contention statistics, see
+     * {@link PythonOptions#LockStatistics}.
+     */
+    public boolean recordsLockStatistics() {
+        return lockStatistics;
+    }
+
+    /**
+     * Whether C API transitions in this context are recorded by {@link CApiTiming}, see
+     * {@link PythonOptions#CAPITiming}.
+     */
+    public boolean isCApiTimingEnabled() {
+        return capiTiming;
+    }
+
+    @TruffleBoundary
+    public void setCApiTimingEnabled(boolean value) {
+        if (value) {
+            CApiTiming.enableTransitionStack();
+        }
+        capiTiming = value;
+    }
+
     /**
      * This is like {@code Env#getPublicTruffleFile(String)} but also allows access to files in the
      * language home directory matching one of the given file extensions. This is mostly useful to
@@ -2432,6 +2625,27 @@ public final class PythonContext extends Python3Core {
         }
     }
 
+    /**
+     * Allocates the slot of the per-thread dictionaries of a new {@code threading.local} object.
+     * Slots of collected objects are reused to keep the arrays in the thread states small.
+     */
+    @TruffleBoundary
+    public synchronized int allocateThreadLocalSlot() {
+        Integer slot = freeThreadLocalSlots.poll();
+        return slot != null ? slot : threadLocalSlotCount++;
+    }
+
+    /**
+     * Releases the slot of a collected {@code threading.local} object and drops the dictionaries
+     * of all threads in it. Must be called with the GIL held, so that no thread is accessing the
+     * slot.
+     */
+    @TruffleBoundary
+    public synchronized void releaseThreadLocalSlot(int slot) {
+        applyToAllThreadStates(ts -> ts.clearThreadLocalDict(slot));
+        freeThreadLocalSlots.push(slot);
+    }
+
     @TruffleBoundary
     public void setSentinelLockWeakref(WeakReference<PLock> sentinelLock) {
         getThreadState(getLanguage()).sentinelLock = sentinelLock;
@@ -2442,6 +2656,56 @@ public final class PythonContext extends Python3Core {
         handler.activateGIL();
     }
 
+    /**
+     * Whether threads started from Python should be virtual threads, see
+     * {@link PythonOptions#VirtualThreads}.
+     */
+    @TruffleBoundary
+    public boolean useVirtualThreads() {
+        if (useVirtualThreads == null) {
+            boolean result = false;
+            if (getLanguage().getEngineOption(PythonOptions.VirtualThreads)) {
+                if (!VirtualThreads.isSupported()) {
+                    writeWarning("Virtual threads are not supported by this JVM, using platform threads.");
+                } else if (!TruffleString.EqualNode.getUncached().execute(T_JAVA, getLanguage().getEngineOption(PythonOptions.PosixModuleBackend), TS_ENCODING)) {
+                    writeWarning("Virtual threads require the Java posix backend, using platform threads.");
+                } else {
+                    result = true;
+                }
+            }
+            useVirtualThreads = result;
+        }
+        return useVirtualThreads;
+    }
+
+    /**
+     * Creates an unstarted virtual thread that runs {@code runnable} in this context. Truffle only
+     * creates platform threads, so the thread enters the context itself. Truffle also only
+     * guarantees to dispose the threads it created, so the thread state is disposed explicitly at
+     * the end, which releases the sentinel lock that {@code threading.Thread.join} waits for.
+     * Virtual threads always belong to the JDK's virtual thread group, not to
+     * {@link #getThreadGroup()}.
+     */
+    @TruffleBoundary
+    public Thread createVirtualThread(Runnable runnable) {
+        TruffleContext truffleContext = env.getContext();
+        Thread thread = VirtualThreads.newThread(() -> {
+            try {
+                Object previous = truffleContext.enter(null);
+                try {
+                    runnable.run();
+                } finally {
+                    disposeThread(Thread.currentThread());
+                    truffleContext.leave(null, previous);
+                }
+            } finally {
+                virtualThreads.remove(Thread.currentThread());
+            }
+        });
+        virtualThreads.add(thread);
+        return thread;
+    }
+
     public synchronized void attachThread(Thread thread, ContextThreadLocal<PythonThreadState> threadState) {
         CompilerAsserts.neverPartOfCompilation();
         threadStateMapping.put(thread, threadState.get(thread));
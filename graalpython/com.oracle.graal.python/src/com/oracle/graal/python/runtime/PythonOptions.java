@@ -173,8 +173,10 @@ public final class PythonOptions {
                         throw new IllegalArgumentException(String.format("IntMaxStrDigits: invalid limit; must be >= %d or 0 for unlimited.", INT_MAX_STR_DIGITS_THRESHOLD));
                     }));
 
-    @Option(category = OptionCategory.USER, help = "Equivalent to the Python -B flag. Don't write bytecode files.", usageSyntax = "true|false", stability = OptionStability.STABLE) //
-    public static final OptionKey<Boolean> DontWriteBytecodeFlag = new OptionKey<>(true);
+    @Option(category = OptionCategory.USER, help = "Equivalent to the Python -B flag. Don't write bytecode files. " +
+                    "By default, GraalPy caches compiled modules in source-hash validated .pyc files next to the sources or under PyCachePrefix. " +
+                    "Cache writes that fail, for example on read-only file systems, are silently skipped.", usageSyntax = "true|false", stability = OptionStability.STABLE) //
+    public static final OptionKey<Boolean> DontWriteBytecodeFlag = new OptionKey<>(false);
 
     @Option(category = OptionCategory.USER, help = "If this is set, GraalPy will write .pyc files in a mirror directory tree at this path, " +
                     "instead of in __pycache__ directories within the source tree. " +
@@ -280,6 +282,23 @@ public final class PythonOptions {
     @EngineOption @Option(category = OptionCategory.EXPERT, usageSyntax = "true|false", help = "") //
     public static final OptionKey<Boolean> ForceInlineGeneratorCalls = new OptionKey<>(false);
 
+    @EngineOption @Option(category = OptionCategory.EXPERT, usageSyntax = "true|false", help = "Optimize the generated bytecode: fold constant expressions, thread jumps and remove dead code and " +
+                    "redundant local variable accesses.") //
+    public static final OptionKey<Boolean> OptimizeBytecode = new OptionKey<>(true);
+
+    @EngineOption @Option(category = OptionCategory.EXPERT, usageSyntax = "true|false", help = "Fuse frequent pairs of bytecode instructions into superinstructions when they are quickened, " +
+                    "to reduce the dispatch overhead in the bytecode interpreter.") //
+    public static final OptionKey<Boolean> BytecodeSuperinstructions = new OptionKey<>(true);
+
+    @EngineOption @Option(category = OptionCategory.EXPERT, usageSyntax = "true|false", help = "Count the pairs of consecutively executed bytecode instructions in the interpreter. " +
+                    "They can be retrieved using __graalpython__.get_bytecode_pair_statistics(). Use with --python.BytecodeSuperinstructions=false to measure the pairs worth fusing.") //
+    public static final OptionKey<Boolean> BytecodePairStatistics = new OptionKey<>(false);
+
+    @EngineOption @Option(category = OptionCategory.EXPERT, usageSyntax = "true|false", help = "Run threads started by _thread.start_new_thread (and so threading.Thread) on JDK virtual threads. " +
+                    "Requires Java 21 or later and the Java posix backend, because blocking native calls would pin the carrier threads. " +
+                    "Falls back to platform threads otherwise.") //
+    public static final OptionKey<Boolean> VirtualThreads = new OptionKey<>(false);
+
     @Option(category = OptionCategory.EXPERT, usageSyntax = "true|false", help = "Force to automatically import site.py module.", stability = OptionStability.STABLE) //
     public static final OptionKey<Boolean> ForceImportSite = new OptionKey<>(false);
 
@@ -337,6 +356,36 @@ public final class PythonOptions {
     @Option(category = OptionCategory.EXPERT, usageSyntax = "true|false", help = "Disable weakref callback processing, signal handling, and other periodic async actions.") //
     public static final OptionKey<Boolean> NoAsyncActions = new OptionKey<>(false);
 
+    @Option(category = OptionCategory.EXPERT, usageSyntax = "<ms>", help = "The initial thread switch interval in milliseconds, i.e., how long a thread may hold the GIL while other threads wait for it. " +
+                    "Can be changed at runtime using sys.setswitchinterval. The interval is shortened automatically when many threads wait for the GIL.") //
+    public static final OptionKey<Integer> GilSwitchInterval = new OptionKey<>(5);
+
+    @Option(category = OptionCategory.EXPERT, usageSyntax = "true|false", help = "Record per-thread GIL wait and hold times. They can be retrieved using __graalpython__.get_gil_statistics().") //
+    public static final OptionKey<Boolean> GilStatistics = new OptionKey<>(false);
+
+    @Option(category = OptionCategory.EXPERT, usageSyntax = "true|false", help = "Record acquisition counts, wait times and the owner of _thread locks. " +
+                    "They can be retrieved using __graalpython__.get_lock_statistics(lock).") //
+    public static final OptionKey<Boolean> LockStatistics = new OptionKey<>(false);
+
+    @Option(category = OptionCategory.EXPERT, usageSyntax = "true|false", help = "Record call counts, self times, latency histograms and allocations of C API upcalls and downcalls. " +
+                    "Can be switched at runtime using __graalpython__.set_capi_timing and retrieved using __graalpython__.get_capi_timing_statistics().") //
+    public static final OptionKey<Boolean> CAPITiming = new OptionKey<>(false);
+
+    @Option(category = OptionCategory.EXPERT, usageSyntax = "<n>", help = "Record only every n-th allocation while tracemalloc is tracing. " +
+                    "The sizes of the recorded allocations are multiplied by n, so that the totals stay approximately right.") //
+    public static final OptionKey<Integer> TracemallocSampleInterval = new OptionKey<>(1);
+
+    @Option(category = OptionCategory.EXPERT, usageSyntax = "<n>", help = "The maximum number of allocations tracemalloc keeps track of. When this limit is reached, the oldest ones are dropped.") //
+    public static final OptionKey<Integer> TracemallocMaxTraces = new OptionKey<>(1 << 16);
+
+    @Option(category = OptionCategory.EXPERT, usageSyntax = "<n>", help = "Compress large inputs to the one-shot zlib.compress, gzip.compress, and lzma.compress functions " +
+                    "in independent blocks using up to n threads. The result is a valid stream, but slightly larger than when compressing serially. 0 disables this (default).") //
+    public static final OptionKey<Integer> ParallelCompressionThreads = new OptionKey<>(0);
+
+    @Option(category = OptionCategory.EXPERT, usageSyntax = "<bytes>", help = "The size of the blocks compressed in parallel if ParallelCompressionThreads is set. " +
+                    "Inputs no larger than one block are compressed serially.") //
+    public static final OptionKey<Integer> ParallelCompressionBlockSize = new OptionKey<>(1 << 20);
+
     @Option(category = OptionCategory.EXPERT, usageSyntax = "true|false", help = "Propagate append operations to lists created as literals back to where they were created, to inform overallocation to avoid having to grow them later.") //
     public static final OptionKey<Boolean> OverallocateLiteralLists = new OptionKey<>(true);
 
@@ -0,0 +1,308 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.runtime;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+
+import com.oracle.graal.python.builtins.objects.code.PCode;
+import com.oracle.graal.python.nodes.bytecode.FrameInfo;
+import com.oracle.graal.python.runtime.object.PythonObjectFactory;
+import com.oracle.graal.python.runtime.sequence.PSequence;
+import com.oracle.graal.python.runtime.sequence.storage.SequenceStorage;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.Truffle;
+import com.oracle.truffle.api.frame.Frame;
+import com.oracle.truffle.api.frame.FrameInstance;
+import com.oracle.truffle.api.frame.FrameInstanceVisitor;
+import com.oracle.truffle.api.strings.TruffleString;
+
+/**
+ * Per-context state of the {@code _tracemalloc} module.
+ *
+ * While tracing, {@link PythonObjectFactory} reports every allocation to
+ * {@link #onAllocation(Object, long)}. Only every n-th allocation is recorded, where n is the
+ * sample interval. Each recorded trace holds the Python traceback of the allocation site and an
+ * approximate object size multiplied by the sample interval, so that the totals reported by
+ * {@code tracemalloc} stay roughly right. The traces are kept in a bounded ring buffer; when it is
+ * full, the oldest trace is dropped. Traces refer to the allocated object only weakly and are
+ * dropped once the object has been collected, like CPython does when memory is freed.
+ */
+public final class TracemallocTracker {
+    public static final int MAX_NFRAME = 65535;
+
+    /** Rough size of an object header and a reference, used to estimate object sizes. */
+    private static final long OBJECT_HEADER_SIZE = 16;
+    private static final long REFERENCE_SIZE = 8;
+
+    public static final class Trace extends WeakReference<Object> {
+        private final long size;
+        private final TruffleString[] filenames;
+        private final int[] linenos;
+        private final int totalFrames;
+        private boolean removed;
+
+        Trace(Object referent, ReferenceQueue<Object> queue, long size, TruffleString[] filenames, int[] linenos, int totalFrames) {
+            super(referent, queue);
+            this.size = size;
+            this.filenames = filenames;
+            this.linenos = linenos;
+            this.totalFrames = totalFrames;
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+        public int getFrameCount() {
+            return filenames.length;
+        }
+
+        /**
+         * Frames are ordered from the most recent call to the oldest one.
+         */
+        public TruffleString getFilename(int i) {
+            return filenames[i];
+        }
+
+        public int getLineno(int i) {
+            return linenos[i];
+        }
+
+        public int getTotalFrames() {
+            return totalFrames;
+        }
+    }
+
+    private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+
+    private volatile boolean tracing;
+    private int maxFrames = 1;
+    private int sampleInterval = 1;
+    private int countdown;
+
+    private Trace[] traces;
+    private int nextTrace;
+    private long tracedMemory;
+    private long peakMemory;
+
+    public boolean isTracing() {
+        return tracing;
+    }
+
+    public int getTracebackLimit() {
+        return maxFrames;
+    }
+
+    public synchronized void start(int nframe, int interval, int maxTraces) {
+        assert nframe >= 1 && nframe <= MAX_NFRAME;
+        maxFrames = nframe;
+        if (!tracing) {
+            sampleInterval = Math.max(1, interval);
+            countdown = sampleInterval;
+            traces = new Trace[Math.max(1, maxTraces)];
+            nextTrace = 0;
+            tracing = true;
+        }
+    }
+
+    public synchronized void stop() {
+        tracing = false;
+        clearTraces();
+        traces = null;
+    }
+
+    public synchronized void clearTraces() {
+        if (traces != null) {
+            for (int i = 0; i < traces.length; i++) {
+                Trace t = traces[i];
+                if (t != null) {
+                    t.removed = true;
+                    traces[i] = null;
+                }
+            }
+            nextTrace = 0;
+        }
+        tracedMemory = 0;
+        peakMemory = 0;
+    }
+
+    public synchronized long getTracedMemory() {
+        processQueue();
+        return tracedMemory;
+    }
+
+    public synchronized long getPeakMemory() {
+        return peakMemory;
+    }
+
+    public synchronized void resetPeak() {
+        processQueue();
+        peakMemory = tracedMemory;
+    }
+
+    /**
+     * Approximate memory used by the tracker itself to store the traces.
+     */
+    public synchronized long getOwnMemory() {
+        if (traces == null) {
+            return 0;
+        }
+        long result = OBJECT_HEADER_SIZE + traces.length * REFERENCE_SIZE;
+        for (Trace t : traces) {
+            if (t != null) {
+                result += 4 * OBJECT_HEADER_SIZE + t.getFrameCount() * (REFERENCE_SIZE + Integer.BYTES);
+            }
+        }
+        return result;
+    }
+
+    @TruffleBoundary
+    public void onAllocation(Object object, long size) {
+        if (--countdown > 0) {
+            // racy without the lock, but an occasional extra or missed sample does not matter
+            return;
+        }
+        countdown = sampleInterval;
+        ArrayList<TruffleString> filenames = new ArrayList<>();
+        ArrayList<Integer> linenos = new ArrayList<>();
+        int[] totalFrames = new int[1];
+        int limit = maxFrames;
+        Truffle.getRuntime().iterateFrames((FrameInstanceVisitor<Object>) frameInstance -> {
+            Frame frame = frameInstance.getFrame(FrameInstance.FrameAccess.READ_ONLY);
+            if (frame != null && frame.getFrameDescriptor().getInfo() instanceof FrameInfo frameInfo) {
+                if (filenames.size() < limit) {
+                    filenames.add(PCode.extractFileName(frameInfo.getRootNode()));
+                    linenos.add(Math.max(0, frameInfo.getRootNode().bciToLine(frameInfo.getBci(frame))));
+                }
+                totalFrames[0]++;
+            }
+            return null;
+        });
+        if (filenames.isEmpty()) {
+            // allocations done by the runtime outside of any Python code are not traced
+            return;
+        }
+        int[] linenoArray = new int[linenos.size()];
+        for (int i = 0; i < linenoArray.length; i++) {
+            linenoArray[i] = linenos.get(i);
+        }
+        long traceSize = (size >= 0 ? size : estimateSize(object)) * sampleInterval;
+        addTrace(new Trace(object, queue, traceSize, filenames.toArray(new TruffleString[0]), linenoArray, totalFrames[0]));
+    }
+
+    private synchronized void addTrace(Trace trace) {
+        if (!tracing) {
+            return;
+        }
+        processQueue();
+        Trace evicted = traces[nextTrace];
+        if (evicted != null) {
+            removeTrace(evicted);
+        }
+        traces[nextTrace] = trace;
+        nextTrace = (nextTrace + 1) % traces.length;
+        tracedMemory += trace.size;
+        peakMemory = Math.max(peakMemory, tracedMemory);
+    }
+
+    private void removeTrace(Trace trace) {
+        if (!trace.removed) {
+            trace.removed = true;
+            tracedMemory -= trace.size;
+        }
+    }
+
+    private void processQueue() {
+        Reference<?> ref;
+        while ((ref = queue.poll()) != null) {
+            removeTrace((Trace) ref);
+        }
+    }
+
+    /**
+     * Returns the traces of all objects that are still alive.
+     */
+    @TruffleBoundary
+    public synchronized Trace[] getTraces() {
+        processQueue();
+        if (traces == null) {
+            return new Trace[0];
+        }
+        ArrayList<Trace> result = new ArrayList<>();
+        for (Trace t : traces) {
+            if (t != null && !t.removed && !t.refersTo(null)) {
+                result.add(t);
+            }
+        }
+        return result.toArray(new Trace[0]);
+    }
+
+    @TruffleBoundary
+    public synchronized Trace getTrace(Object object) {
+        if (traces != null) {
+            for (Trace t : traces) {
+                if (t != null && !t.removed && t.refersTo(object)) {
+                    return t;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static long estimateSize(Object object) {
+        long size = OBJECT_HEADER_SIZE + REFERENCE_SIZE * 2;
+        if (object instanceof PSequence sequence) {
+            SequenceStorage storage = sequence.getSequenceStorage();
+            if (storage != null) {
+                long itemSize = switch (storage.getElementType()) {
+                    case Boolean, Byte -> 1;
+                    case Int -> Integer.BYTES;
+                    default -> REFERENCE_SIZE;
+                };
+                size += OBJECT_HEADER_SIZE + storage.getCapacity() * itemSize;
+            }
+        }
+        return size;
+    }
+}
@@ -91,6 +91,7 @@ public final class PException extends AbstractTruffleException {
     private boolean reified = false;
     private boolean skipFirstTracebackFrame;
     private int tracebackFrameCount;
+    private boolean contextDeferred;
 
     private PException(Object pythonException, Node node) {
         super(node);
@@ -293,6 +294,19 @@ public final class PException extends AbstractTruffleException {
         }
     }
 
+    /**
+     * Whether setting the context of this exception was postponed, because it was caught by a
+     * handler that doesn't look at it and finding the current exception state would require a stack
+     * walk.
+     */
+    public boolean isContextDeferred() {
+        return contextDeferred;
+    }
+
+    public void setContextDeferred(boolean contextDeferred) {
+        this.contextDeferred = contextDeferred;
+    }
+
     public int getTracebackFrameCount() {
         return tracebackFrameCount;
     }
@@ -88,6 +88,9 @@ import com.oracle.graal.python.builtins.objects.asyncio.PAsyncGenASend;
 import com.oracle.graal.python.builtins.objects.asyncio.PAsyncGenAThrow;
 import com.oracle.graal.python.builtins.objects.asyncio.PAsyncGenWrappedValue;
 import com.oracle.graal.python.builtins.objects.asyncio.PCoroutineWrapper;
+import com.oracle.graal.python.builtins.objects.asyncio.PFuture;
+import com.oracle.graal.python.builtins.objects.asyncio.PFutureIter;
+import com.oracle.graal.python.builtins.objects.asyncio.PTask;
 import com.oracle.graal.python.builtins.objects.bytes.PByteArray;
 import com.oracle.graal.python.builtins.objects.bytes.PBytes;
 import com.oracle.graal.python.builtins.objects.capsule.PyCapsule;
@@ -189,6 +192,8 @@ import com.oracle.graal.python.builtins.objects.range.PIntRange;
 import com.oracle.graal.python.builtins.objects.referencetype.PReferenceType;
 import com.oracle.graal.python.builtins.objects.reversed.PSequenceReverseIterator;
 import com.oracle.graal.python.builtins.objects.reversed.PStringReverseIterator;
+import com.oracle.graal.python.builtins.objects.select.PEpoll;
+import com.oracle.graal.python.builtins.objects.select.PPoll;
 import com.oracle.graal.python.builtins.objects.set.PBaseSet;
 import com.oracle.graal.python.builtins.objects.set.PFrozenSet;
 import com.oracle.graal.python.builtins.objects.set.PSet;
@@ -201,11 +206,15 @@ import com.oracle.graal.python.builtins.objects.ssl.PSSLSocket;
 import com.oracle.graal.python.builtins.objects.ssl.SSLMethod;
 import com.oracle.graal.python.builtins.objects.str.NativeCharSequence;
 import com.oracle.graal.python.builtins.objects.str.PString;
+import com.oracle.graal.python.builtins.objects.struct.PStruct;
+import com.oracle.graal.python.builtins.objects.struct.PStructUnpackIterator;
+import com.oracle.graal.python.builtins.objects.struct.StructInfo;
 import com.oracle.graal.python.builtins.objects.superobject.SuperObject;
 import com.oracle.graal.python.builtins.objects.thread.PLock;
 import com.oracle.graal.python.builtins.objects.thread.PRLock;
 import com.oracle.graal.python.builtins.objects.thread.PThread;
 import com.oracle.graal.python.builtins.objects.thread.PThreadLocal;
+import com.oracle.graal.python.builtins.objects.thread.SpinningPythonLock;
 import com.oracle.graal.python.builtins.objects.traceback.LazyTraceback;
 import com.oracle.graal.python.builtins.objects.traceback.PTraceback;
 import com.oracle.graal.python.builtins.objects.tuple.PTuple;
@@ -221,6 +230,7 @@ import com.oracle.graal.python.builtins.objects.type.slots.TpSlot;
 import com.oracle.graal.python.builtins.objects.types.PGenericAlias;
 import com.oracle.graal.python.builtins.objects.types.PGenericAliasIterator;
 import com.oracle.graal.python.builtins.objects.types.PUnionType;
+import com.oracle.graal.python.builtins.objects.unicodedata.PUCD;
 import com.oracle.graal.python.compiler.CodeUnit;
 import com.oracle.graal.python.nodes.HiddenAttr;
 import com.oracle.graal.python.nodes.bytecode.PBytecodeRootNode;
@@ -247,6 +257,7 @@ import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.HostCompilerDirectives.InliningCutoff;
 import com.oracle.truffle.api.RootCallTarget;
+import com.oracle.truffle.api.dsl.Bind;
 import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.GenerateCached;
 import com.oracle.truffle.api.dsl.GenerateInline;
@@ -310,10 +321,15 @@ public abstract class PythonObjectFactory extends Node {
 
     @Specialization
     static AllocationReporter doTrace(Object o, long size,
-                    @Cached(value = "getAllocationReporter()", allowUncached = true) AllocationReporter reporter) {
+                    @Bind("this") Node inliningTarget,
+                    @Cached(value = "getAllocationReporter()", allowUncached = true) AllocationReporter reporter,
+                    @Cached(value = "getNoTracemallocAssumption()", allowUncached = true) Assumption noTracemalloc) {
         if (reporter.isActive()) {
             doTraceImpl(o, size, reporter);
         }
+        if (!noTracemalloc.isValid()) {
+            doTracemalloc(inliningTarget, o, size);
+        }
         return null;
     }
 
@@ -323,11 +339,24 @@ public abstract class PythonObjectFactory extends Node {
         reporter.onReturnValue(o, 0, size);
     }
 
+    @InliningCutoff
+    private static void doTracemalloc(Node inliningTarget, Object o, long size) {
+        PythonContext context = PythonContext.get(inliningTarget);
+        if (context != null && context.getTracemallocTracker().isTracing()) {
+            context.getTracemallocTracker().onAllocation(o, size);
+        }
+    }
+
     @NeverDefault
     protected AllocationReporter getAllocationReporter() {
         return PythonContext.get(this).getAllocationReporter();
     }
 
+    @NeverDefault
+    protected Assumption getNoTracemallocAssumption() {
+        return PythonLanguage.get(this).noTracemallocAssumption;
+    }
+
     public PythonLanguage getLanguage() {
         return PythonLanguage.get(this);
     }
@@ -1224,12 +1253,24 @@ public abstract class PythonObjectFactory extends Node {
         return trace(new PSocket(cls, getShape(cls)));
     }
 
+    public final PPoll createPoll() {
+        return trace(new PPoll(PythonBuiltinClassType.PPoll, getShape(PythonBuiltinClassType.PPoll)));
+    }
+
+    public final PEpoll createEpoll(Object cls, int epfd) {
+        return trace(new PEpoll(cls, getShape(cls), epfd, PythonContext.get(this)));
+    }
+
+    public final PUCD createUCD() {
+        return trace(new PUCD(PythonBuiltinClassType.PUCD, getShape(PythonBuiltinClassType.PUCD)));
+    }
+
     /*
      * Threading
      */
 
     public PThreadLocal createThreadLocal(Object cls, Object[] args, PKeyword[] kwArgs) {
-        return trace(new PThreadLocal(cls, getShape(cls), args, kwArgs));
+        return trace(new PThreadLocal(cls, getShape(cls), args, kwArgs, PythonContext.get(this)));
     }
 
     public final PLock createLock() {
@@ -1237,7 +1278,7 @@ public abstract class PythonObjectFactory extends Node {
     }
 
     public final PLock createLock(Object cls) {
-        return trace(new PLock(cls, getShape(cls)));
+        return trace(withLockStatistics(new PLock(cls, getShape(cls))));
     }
 
     public final PRLock createRLock() {
@@ -1245,7 +1286,14 @@ public abstract class PythonObjectFactory extends Node {
     }
 
     public final PRLock createRLock(Object cls) {
-        return trace(new PRLock(cls, getShape(cls)));
+        return trace(withLockStatistics(new PRLock(cls, getShape(cls))));
+    }
+
+    private <T extends SpinningPythonLock> T withLockStatistics(T lock) {
+        if (PythonContext.get(this).recordsLockStatistics()) {
+            lock.enableStatistics();
+        }
+        return lock;
     }
 
     public final PThread createPythonThread(Thread thread) {
@@ -1546,6 +1594,14 @@ public abstract class PythonObjectFactory extends Node {
         return trace(new PDequeIter(PythonBuiltinClassType.PDequeRevIter, getShape(PythonBuiltinClassType.PDequeRevIter), deque, true));
     }
 
+    public final PStruct createStruct(Object cls, StructInfo structInfo) {
+        return trace(new PStruct(cls, getShape(cls), structInfo));
+    }
+
+    public final PStructUnpackIterator createStructUnpackIterator(StructInfo structInfo, Object buffer) {
+        return trace(new PStructUnpackIterator(PythonBuiltinClassType.PStructUnpackIterator, getShape(PythonBuiltinClassType.PStructUnpackIterator), structInfo, buffer));
+    }
+
     public final PSimpleQueue createSimpleQueue(Object cls) {
         return trace(new PSimpleQueue(cls, getShape(cls)));
     }
@@ -1641,6 +1697,18 @@ public abstract class PythonObjectFactory extends Node {
         return trace(new PAsyncGenWrappedValue(getLanguage(), wrapped));
     }
 
+    public final PFuture createFuture(Object cls) {
+        return trace(new PFuture(cls, getShape(cls)));
+    }
+
+    public final PTask createTask(Object cls) {
+        return trace(new PTask(cls, getShape(cls)));
+    }
+
+    public final PFutureIter createFutureIter(PFuture future) {
+        return trace(new PFutureIter(PythonBuiltinClassType.PFutureIter, getShape(PythonBuiltinClassType.PFutureIter), future));
+    }
+
     // pickle
 
     public PPickleBuffer createPickleBuffer(Object view) {
@@ -388,7 +388,7 @@ public final class NumericSupport {
                 break;
             case 4:
                 final float fValue = (float) value;
-                if (Float.isInfinite(fValue)) {
+                if (Float.isInfinite(fValue) && !Double.isInfinite(value)) {
                     throw raiseNode.get(inliningTarget).raise(OverflowError, FLOAT_TO_LARGE_TO_PACK_WITH_S_FMT, "f");
                 }
                 putFloat(buffer, index, fValue);
@@ -257,6 +257,11 @@ public class ManageResourcesMojo extends AbstractMojo {
         } catch(IOException e) {
             throw new MojoExecutionException(String.format("Failed to generate files list in '%s'", vfs.toString()), e);
         }
+        try {
+            VFSUtils.generateVFSPack(vfs);
+        } catch(IOException e) {
+            throw new MojoExecutionException(String.format("Failed to generate files pack in '%s'", vfs.toString()), e);
+        }
     }
 
     private void manageVenv() throws MojoExecutionException {
@@ -287,6 +287,18 @@ def file_digest(fileobj, digest, /, *, _bufsize=2**18):
             f"'{fileobj!r}' is not a file-like object in binary reading mode."
         )
 
+    # GraalPy change: hash seekable files directly from their file descriptor,
+    # without holding the GIL and without creating Python-level buffers
+    if _hashlib is not None and hasattr(_hashlib, "_file_digest_fd"):
+        try:
+            fd = fileobj.fileno() if fileobj.seekable() else -1
+        except (AttributeError, OSError, ValueError):
+            fd = -1
+        if fd >= 0 and _hashlib._file_digest_fd(digestobj, fd, fileobj.tell()):
+            # leave the file object at its end, as if it was read
+            fileobj.seek(0, 2)
+            return digestobj
+
     # binary file, socket.SocketIO object
     # Note: socket I/O uses different syscalls than file I/O.
     buf = bytearray(_bufsize)  # Reusable buffer to reduce allocations.
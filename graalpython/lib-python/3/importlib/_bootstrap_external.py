@@ -187,7 +187,9 @@ def _write_atomic(path, data, mode=0o666):
     Be prepared to handle a FileExistsError if concurrent writing of the
     temporary file is attempted."""
     # id() is used to generate a pseudo-random filename.
-    path_tmp = '{}.{}'.format(path, id(path))
+    # Truffle change: id() values are small counters that repeat across
+    # processes, so include the pid to keep concurrent writers apart.
+    path_tmp = '{}.{}.{}'.format(path, _os.getpid(), id(path))
     fd = _os.open(path_tmp,
                   _os.O_EXCL | _os.O_CREAT | _os.O_WRONLY, mode & 0o666)
     try:
@@ -1070,19 +1072,34 @@ class SourceLoader(_LoaderBasics):
                     else:
                         _bootstrap._verbose_message('{} matches {}', bytecode_path,
                                                     source_path)
-                        return _compile_bytecode(bytes_data, name=fullname,
-                                                 bytecode_path=bytecode_path,
-                                                 source_path=source_path)
+                        # Truffle change: a truncated or otherwise unreadable
+                        # pyc is treated as a cache miss and rewritten
+                        try:
+                            return _compile_bytecode(bytes_data, name=fullname,
+                                                     bytecode_path=bytecode_path,
+                                                     source_path=source_path)
+                        except (ImportError, EOFError, ValueError, TypeError):
+                            _bootstrap._verbose_message('{} is not a valid pyc',
+                                                        bytecode_path)
+                            hash_based = False
         if source_bytes is None:
             source_bytes = self.get_data(source_path)
         code_object = self.source_to_code(source_bytes, source_path)
         _bootstrap._verbose_message('code object from {}', source_path)
         if (not sys.dont_write_bytecode and bytecode_path is not None and
                 source_mtime is not None):
-            if hash_based:
+            # Truffle change: we write checked hash-based pycs by default, so
+            # that the cache stays valid when files are copied or extracted
+            # with unreliable mtimes, and never goes stale when a source
+            # changes within the mtime granularity. With
+            # check_hash_based_pycs == 'never' checked pycs would not be
+            # validated, so we keep writing timestamp-based ones then.
+            if hash_based or _imp.check_hash_based_pycs != 'never':
                 if source_hash is None:
-                    source_hash = _imp.source_hash(source_bytes)
-                data = _code_to_hash_pyc(code_object, source_hash, check_source)
+                    source_hash = _imp.source_hash(_RAW_MAGIC_NUMBER,
+                                                   source_bytes)
+                data = _code_to_hash_pyc(code_object, source_hash,
+                                         check_source if hash_based else True)
             else:
                 data = _code_to_timestamp_pyc(code_object, source_mtime,
                                               len(source_bytes))
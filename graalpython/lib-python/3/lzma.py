@@ -26,6 +26,8 @@ import io
 import os
 from _lzma import *
 from _lzma import _encode_filter_properties, _decode_filter_properties
+# GraalPy change: import the block-parallel compression
+from _lzma import _parallel_compress
 import _compression
 
 
@@ -324,6 +326,11 @@ def compress(data, format=FORMAT_XZ, check=-1, preset=None, filters=None):
 
     For incremental compression, use an LZMACompressor instead.
     """
+    # GraalPy change: compress large inputs in parallel if enabled
+    if format == FORMAT_XZ and filters is None:
+        result = _parallel_compress(data, check, preset)
+        if result is not None:
+            return result
     comp = LZMACompressor(format, check, preset, filters)
     return comp.compress(data) + comp.flush()
 
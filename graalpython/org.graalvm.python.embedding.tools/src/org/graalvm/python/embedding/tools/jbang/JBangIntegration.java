@@ -173,6 +173,7 @@ public class JBangIntegration {
 
         try {
             VFSUtils.generateVFSFilesList(vfs);
+            VFSUtils.generateVFSPack(vfs);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
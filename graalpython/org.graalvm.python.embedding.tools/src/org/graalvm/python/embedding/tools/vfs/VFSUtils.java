@@ -43,9 +43,12 @@ package org.graalvm.python.embedding.tools.vfs;
 import org.graalvm.python.embedding.tools.exec.GraalPyRunner;
 import org.graalvm.python.embedding.tools.exec.SubprocessLog;
 
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -57,7 +60,9 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -68,6 +73,11 @@ public final class VFSUtils {
     public static final String VFS_HOME = "home";
     public static final String VFS_VENV = "venv";
     public static final String VFS_FILESLIST = "fileslist.txt";
+    public static final String VFS_PACK = "files.pack";
+
+    // must match VirtualFileSystem.PackedResources
+    private static final int VFS_PACK_MAGIC = 0x47505646;
+    private static final int VFS_PACK_VERSION = 1;
 
     public static void generateVFSFilesList(Path vfs) throws IOException {
         Path filesList = vfs.resolve(VFS_FILESLIST);
@@ -101,6 +111,64 @@ public final class VFSUtils {
         }
     }
 
+    /**
+     * Packs all files and directories below {@code vfs} into the single resource
+     * {@value #VFS_PACK} in the same directory. At runtime, the virtual filesystem prefers the pack
+     * over {@value #VFS_FILESLIST} and the individual resources: it reads the sorted path index
+     * from the pack and serves file contents as slices of it, so the individual files do not have
+     * to be included in the application's resources.
+     */
+    public static void generateVFSPack(Path vfs) throws IOException {
+        Path pack = vfs.resolve(VFS_PACK);
+        Path filesList = vfs.resolve(VFS_FILESLIST);
+        if (!Files.isDirectory(vfs)) {
+            throw new IOException(String.format("'%s' has to exist and be a directory.\n", vfs.toString()));
+        }
+        // resource paths sorted like the runtime expects, directories end with '/'
+        Map<String, Path> entries = new TreeMap<>();
+        String rootPath = makeDirPath(vfs.toAbsolutePath());
+        int rootEndIdx = rootPath.lastIndexOf(File.separator, rootPath.lastIndexOf(File.separator) - 1);
+        try (var s = Files.walk(vfs)) {
+            s.forEach(p -> {
+                if (Files.isDirectory(p)) {
+                    entries.put(toResourcePath(makeDirPath(p.toAbsolutePath()).substring(rootEndIdx)), p);
+                } else if (Files.isRegularFile(p) && !p.equals(pack) && !p.equals(filesList)) {
+                    entries.put(toResourcePath(p.toAbsolutePath().toString().substring(rootEndIdx)), p);
+                }
+            });
+        }
+        try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(pack)))) {
+            out.writeInt(VFS_PACK_MAGIC);
+            out.writeInt(VFS_PACK_VERSION);
+            out.writeInt(entries.size());
+            long total = 0;
+            for (Map.Entry<String, Path> e : entries.entrySet()) {
+                byte[] path = e.getKey().getBytes(StandardCharsets.UTF_8);
+                out.writeInt(path.length);
+                out.write(path);
+                if (Files.isDirectory(e.getValue())) {
+                    out.writeInt(-1);
+                } else {
+                    long size = Files.size(e.getValue());
+                    total += size;
+                    if (total > Integer.MAX_VALUE) {
+                        throw new IOException(String.format("The contents of '%s' are too large to be packed.", vfs));
+                    }
+                    out.writeInt((int) size);
+                }
+            }
+            for (Path p : entries.values()) {
+                if (!Files.isDirectory(p)) {
+                    Files.copy(p, out);
+                }
+            }
+        }
+    }
+
+    private static String toResourcePath(String path) {
+        return File.separatorChar == '\\' ? path.replace('\\', '/') : path;
+    }
+
     private static String makeDirPath(Path p) {
         String ret = p.toString();
         if (!ret.endsWith(File.separator)) {
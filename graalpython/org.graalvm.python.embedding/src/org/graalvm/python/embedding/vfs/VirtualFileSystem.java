@@ -47,8 +47,12 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.AccessMode;
 import java.nio.file.DirectoryStream;
 import java.nio.file.FileSystemException;
@@ -66,12 +70,14 @@ import java.nio.file.attribute.BasicFileAttributes;
 import java.nio.file.attribute.FileAttribute;
 import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 
 import org.graalvm.polyglot.io.FileSystem;
@@ -80,6 +86,7 @@ public final class VirtualFileSystem implements FileSystem, AutoCloseable {
 
     private static final String VFS_ROOT = "org.graalvm.python.vfs";
     private static final String VFS_FILESLIST = "fileslist.txt";
+    private static final String VFS_PACK = "files.pack";
     private static final String VFS_HOME = "home";
     private static final String VFS_VENV = "venv";
     private static final String VFS_PROJ = "proj";
@@ -103,6 +110,7 @@ public final class VirtualFileSystem implements FileSystem, AutoCloseable {
 
         private String vfsPrefix = "/" + VFS_ROOT;
         private String filesListPath = vfsPrefix + "/" + VFS_FILESLIST;
+        private String packPath = vfsPrefix + "/" + VFS_PACK;
         private String windowsMountPoint = "X:\\graalpy_vfs";
         private String unixMountPoint = "/graalpy_vfs";
         private Predicate<Path> extractFilter = DEFAULT_EXTRACT_FILTER;
@@ -187,7 +195,7 @@ public final class VirtualFileSystem implements FileSystem, AutoCloseable {
         }
 
         public VirtualFileSystem build() {
-            return new VirtualFileSystem(extractFilter, vfsPrefix, filesListPath, windowsMountPoint, unixMountPoint, allowHostIO, resourceLoadingClass, caseInsensitive);
+            return new VirtualFileSystem(extractFilter, vfsPrefix, filesListPath, packPath, windowsMountPoint, unixMountPoint, allowHostIO, resourceLoadingClass, caseInsensitive);
         }
     }
 
@@ -212,9 +220,19 @@ public final class VirtualFileSystem implements FileSystem, AutoCloseable {
     private final String filesListPath;
 
     /*
-     * Maps platform-specific paths to entries.
+     * Optional packed form of the resources, see PackedResources. If present, it is used instead of
+     * the files list and the individual resources.
      */
-    private Map<String, BaseEntry> vfsEntries;
+    private final String packPath;
+
+    /*
+     * Maps platform-specific paths to entries. When the resources are packed, entries are created
+     * on demand, possibly by several threads at once. The map is published only after it was
+     * filled from the files list, so it must be read after the volatile write in initEntries.
+     */
+    private volatile Map<String, BaseEntry> vfsEntries;
+
+    private PackedResources pack;
 
     /**
      * Class used to read resources with getResource(name). By default VirtualFileSystem.class.
@@ -244,25 +262,256 @@ public final class VirtualFileSystem implements FileSystem, AutoCloseable {
     }
 
     private final class FileEntry extends BaseEntry {
-        private byte[] data;
+        /*
+         * Index in the packed resources, or -1 if the file is read from its own resource.
+         */
+        private final int packIndex;
+        private volatile byte[] data;
 
         public FileEntry(String path) {
+            this(path, -1);
+        }
+
+        public FileEntry(String path, int packIndex) {
             super(path);
+            this.packIndex = packIndex;
         }
 
-        public byte[] getData() throws IOException {
-            if (data == null) {
-                data = readResource(getResourcePath());
+        /**
+         * Reads the contents of a file that is not packed.
+         */
+        private byte[] getData() throws IOException {
+            byte[] result = data;
+            if (result == null) {
+                result = readResource(getResourcePath());
+                data = result;
+            }
+            return result;
+        }
+
+        /**
+         * Returns a read-only buffer with the file contents. Packed files are slices of the pack
+         * and are not copied.
+         */
+        public ByteBuffer getBuffer() throws IOException {
+            if (packIndex >= 0) {
+                return pack.getData(packIndex);
             }
-            return data;
+            return ByteBuffer.wrap(getData()).asReadOnlyBuffer();
+        }
+
+        public long getSize() throws IOException {
+            if (packIndex >= 0) {
+                return pack.getSize(packIndex);
+            }
+            return getData().length;
         }
     }
 
     private final class DirEntry extends BaseEntry {
-        List<BaseEntry> entries = new ArrayList<>();
+        /*
+         * Index in the packed resources, or -1 if the entries are filled in from the files list.
+         */
+        private final int packIndex;
+        private volatile List<BaseEntry> entries;
 
         public DirEntry(String platformPath) {
+            this(platformPath, -1);
+        }
+
+        public DirEntry(String platformPath, int packIndex) {
             super(platformPath);
+            this.packIndex = packIndex;
+            if (packIndex < 0) {
+                entries = new ArrayList<>();
+            }
+        }
+
+        public List<BaseEntry> getEntries() {
+            List<BaseEntry> result = entries;
+            if (result == null) {
+                // racing threads compute equal lists, getPackedEntry returns the canonical entries
+                List<BaseEntry> list = new ArrayList<>();
+                for (int i : pack.listDirectory(packIndex)) {
+                    list.add(getPackedEntry(i));
+                }
+                result = List.copyOf(list);
+                entries = result;
+            }
+            return result;
+        }
+    }
+
+    /**
+     * A single resource holding all files of the virtual filesystem, created at build time by
+     * {@code VFSUtils.generateVFSPack}. The layout is (big endian):
+     *
+     * <pre>
+     * int magic, int version, int count
+     * count times: int length, byte[length] UTF-8 resource path, int size (-1 for directories)
+     * the contents of all files in index order
+     * </pre>
+     *
+     * The paths are sorted, so a directory is directly followed by everything below it. Lookups
+     * are binary searches over the index and directories are listed on demand. If the pack is a
+     * plain file, it is memory mapped. Otherwise, e.g. inside a jar, it is read once into a single
+     * buffer. File contents are read-only slices of that buffer.
+     */
+    private static final class PackedResources {
+        private static final int MAGIC = 0x47505646;
+        private static final int VERSION = 1;
+
+        private final ByteBuffer data;
+        private final String[] paths;
+        private final int[] offsets;
+        private final int[] sizes;
+
+        /*
+         * Lookup keys sorted for binary search and the corresponding indices into paths. Without
+         * case folding, the keys are the paths themselves.
+         */
+        private final String[] keys;
+        private final int[] keyIndices;
+
+        private PackedResources(ByteBuffer data, boolean caseInsensitive) throws IOException {
+            this.data = data;
+            if (data.limit() < 12 || data.getInt(0) != MAGIC || data.getInt(4) != VERSION) {
+                throw new IOException("invalid virtual filesystem pack");
+            }
+            int count = data.getInt(8);
+            if (count < 0) {
+                throw new IOException("invalid virtual filesystem pack");
+            }
+            paths = new String[count];
+            offsets = new int[count];
+            sizes = new int[count];
+            long offset = 12;
+            for (int i = 0; i < count; i++) {
+                int length = offset + 4 <= data.limit() ? data.getInt((int) offset) : -1;
+                if (length < 0 || offset + 8 + length > data.limit()) {
+                    throw new IOException("truncated virtual filesystem pack");
+                }
+                byte[] path = new byte[length];
+                data.get((int) offset + 4, path);
+                paths[i] = new String(path, StandardCharsets.UTF_8);
+                sizes[i] = data.getInt((int) offset + 4 + length);
+                offset += 8 + length;
+            }
+            for (int i = 0; i < count; i++) {
+                offsets[i] = (int) offset;
+                if (sizes[i] > 0) {
+                    offset += sizes[i];
+                }
+            }
+            if (offset > data.limit()) {
+                throw new IOException("truncated virtual filesystem pack");
+            }
+            if (caseInsensitive) {
+                Integer[] order = new Integer[count];
+                String[] lowerCase = new String[count];
+                for (int i = 0; i < count; i++) {
+                    order[i] = i;
+                    lowerCase[i] = paths[i].toLowerCase(Locale.ROOT);
+                }
+                Arrays.sort(order, (a, b) -> lowerCase[a].compareTo(lowerCase[b]));
+                keys = new String[count];
+                keyIndices = new int[count];
+                for (int i = 0; i < count; i++) {
+                    keys[i] = lowerCase[order[i]];
+                    keyIndices[i] = order[i];
+                }
+            } else {
+                keys = paths;
+                keyIndices = null;
+            }
+        }
+
+        static PackedResources open(Class<?> resourceLoadingClass, String resourcePath, boolean caseInsensitive) throws IOException {
+            URL url = resourceLoadingClass.getResource(resourcePath);
+            if (url == null) {
+                return null;
+            }
+            ByteBuffer data;
+            if ("file".equals(url.getProtocol())) {
+                try (FileChannel channel = FileChannel.open(Path.of(url.toURI()), StandardOpenOption.READ)) {
+                    if (channel.size() > Integer.MAX_VALUE) {
+                        throw new IOException("virtual filesystem pack is too large");
+                    }
+                    data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                } catch (URISyntaxException e) {
+                    throw new IOException(e);
+                }
+            } else {
+                try (InputStream stream = url.openStream()) {
+                    data = ByteBuffer.wrap(stream.readAllBytes()).asReadOnlyBuffer();
+                }
+            }
+            return new PackedResources(data, caseInsensitive);
+        }
+
+        String getPath(int i) {
+            return paths[i];
+        }
+
+        boolean isDirectory(int i) {
+            return sizes[i] < 0;
+        }
+
+        int getSize(int i) {
+            return sizes[i];
+        }
+
+        ByteBuffer getData(int i) {
+            return data.slice(offsets[i], sizes[i]).asReadOnlyBuffer();
+        }
+
+        int size() {
+            return paths.length;
+        }
+
+        /**
+         * Returns the index of the entry with the given (case folded, if applicable) resource
+         * path, or -1.
+         */
+        int find(String key) {
+            int i = Arrays.binarySearch(keys, key);
+            if (i < 0) {
+                return -1;
+            }
+            return keyIndices == null ? i : keyIndices[i];
+        }
+
+        /**
+         * Returns the indices of the direct children of the directory at index {@code dir}.
+         */
+        List<Integer> listDirectory(int dir) {
+            List<Integer> result = new ArrayList<>();
+            int end = subtreeEnd(dir);
+            int i = dir + 1;
+            while (i < end) {
+                result.add(i);
+                i = isDirectory(i) ? subtreeEnd(i) : i + 1;
+            }
+            return result;
+        }
+
+        /**
+         * Returns the index after the last entry below the directory at index {@code dir}. These
+         * entries immediately follow the directory since they share its path as a prefix.
+         */
+        private int subtreeEnd(int dir) {
+            String prefix = paths[dir];
+            int lo = dir + 1;
+            int hi = paths.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (paths[mid].startsWith(prefix)) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
         }
     }
 
@@ -335,6 +584,7 @@ public final class VirtualFileSystem implements FileSystem, AutoCloseable {
     private VirtualFileSystem(Predicate<Path> extractFilter,
                     String resourcesPrefix,
                     String fileListResource,
+                    String packResource,
                     String windowsMountPoint,
                     String unixMountPoint,
                     HostIO allowHostIO,
@@ -347,6 +597,7 @@ public final class VirtualFileSystem implements FileSystem, AutoCloseable {
         }
         this.vfsPrefix = resourcesPrefix;
         this.filesListPath = fileListResource;
+        this.packPath = packResource;
         this.caseInsensitive = caseInsensitive;
         String mp = System.getenv("GRAALPY_VFS_MOUNT_POINT");
         if (mp == null) {
@@ -434,8 +685,34 @@ public final class VirtualFileSystem implements FileSystem, AutoCloseable {
         return caseInsensitive ? file.toLowerCase(Locale.ROOT) : file;
     }
 
-    private void initEntries() throws IOException {
-        vfsEntries = new HashMap<>();
+    private synchronized void initEntries() throws IOException {
+        if (vfsEntries != null) {
+            return;
+        }
+        Map<String, BaseEntry> entries = new ConcurrentHashMap<>();
+        List<String> files = new ArrayList<>();
+        pack = PackedResources.open(resourceLoadingClass, packPath, caseInsensitive);
+        if (pack != null) {
+            for (int i = 0; i < pack.size(); i++) {
+                if (!pack.isDirectory(i)) {
+                    files.add(resourcePathToPlatformPath(pack.getPath(i)));
+                }
+            }
+        } else {
+            readFilesList(entries, files);
+        }
+        vfsEntries = entries;
+        if (extractOnStartup) {
+            for (String file : files) {
+                Path p = Paths.get(file);
+                if (shouldExtract(p)) {
+                    getExtractedPath(p);
+                }
+            }
+        }
+    }
+
+    private void readFilesList(Map<String, BaseEntry> entries, List<String> files) throws IOException {
         try (InputStream stream = this.resourceLoadingClass.getResourceAsStream(filesListPath)) {
             if (stream == null) {
                 return;
@@ -449,12 +726,12 @@ public final class VirtualFileSystem implements FileSystem, AutoCloseable {
                 while ((i = platformPath.indexOf(PLATFORM_SEPARATOR, i)) != -1) {
                     String dir = platformPath.substring(0, i);
                     String dirKey = toCaseComparable(dir);
-                    DirEntry dirEntry = (DirEntry) vfsEntries.get(dirKey);
+                    DirEntry dirEntry = (DirEntry) entries.get(dirKey);
                     if (dirEntry == null) {
                         dirEntry = new DirEntry(dir);
-                        vfsEntries.put(dirKey, dirEntry);
+                        entries.put(dirKey, dirEntry);
                         if (parent != null) {
-                            parent.entries.add(dirEntry);
+                            parent.getEntries().add(dirEntry);
                         }
                     }
                     parent = dirEntry;
@@ -463,14 +740,9 @@ public final class VirtualFileSystem implements FileSystem, AutoCloseable {
                 assert parent != null;
                 if (!platformPath.endsWith(PLATFORM_SEPARATOR)) {
                     FileEntry fileEntry = new FileEntry(platformPath);
-                    vfsEntries.put(toCaseComparable(platformPath), fileEntry);
-                    parent.entries.add(fileEntry);
-                    if (extractOnStartup) {
-                        Path p = Paths.get(fileEntry.getPlatformPath());
-                        if (shouldExtract(p)) {
-                            getExtractedPath(p);
-                        }
-                    }
+                    entries.put(toCaseComparable(platformPath), fileEntry);
+                    parent.getEntries().add(fileEntry);
+                    files.add(platformPath);
                 }
             }
         }
@@ -501,11 +773,40 @@ public final class VirtualFileSystem implements FileSystem, AutoCloseable {
     }
 
     private BaseEntry getEntry(Path inputPath) throws IOException {
-        if (vfsEntries == null) {
+        Map<String, BaseEntry> entries = vfsEntries;
+        if (entries == null) {
             initEntries();
+            entries = vfsEntries;
         }
         Path path = toAbsolutePathInternal(inputPath).normalize();
-        return vfsEntries.get(toCaseComparable(path.toString()));
+        String key = toCaseComparable(path.toString());
+        BaseEntry entry = entries.get(key);
+        if (entry == null && pack != null && pathIsInVfs(path)) {
+            entry = findPackedEntry(path.toString());
+        }
+        return entry;
+    }
+
+    private BaseEntry findPackedEntry(String platformPath) {
+        String path = platformPath.substring(mountPoint.toString().length());
+        if (!PLATFORM_SEPARATOR.equals(RESOURCE_SEPARATOR)) {
+            path = path.replace(PLATFORM_SEPARATOR, RESOURCE_SEPARATOR);
+        }
+        if (path.endsWith(RESOURCE_SEPARATOR)) {
+            path = path.substring(0, path.length() - RESOURCE_SEPARATOR.length());
+        }
+        String key = toCaseComparable(vfsPrefix + path);
+        int i = pack.find(key);
+        if (i < 0) {
+            i = pack.find(key + RESOURCE_SEPARATOR);
+        }
+        return i < 0 ? null : getPackedEntry(i);
+    }
+
+    private BaseEntry getPackedEntry(int i) {
+        String path = resourcePathToPlatformPath(pack.getPath(i));
+        String platformPath = path.endsWith(PLATFORM_SEPARATOR) ? path.substring(0, path.length() - PLATFORM_SEPARATOR.length()) : path;
+        return vfsEntries.computeIfAbsent(toCaseComparable(platformPath), (k) -> pack.isDirectory(i) ? new DirEntry(platformPath, i) : new FileEntry(platformPath, i));
     }
 
     /**
@@ -562,7 +863,12 @@ public final class VirtualFileSystem implements FileSystem, AutoCloseable {
                     Files.createDirectories(parent);
 
                     // write data extracted file
-                    Files.write(xPath, fileEntry.getData());
+                    try (SeekableByteChannel out = Files.newByteChannel(xPath, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                        ByteBuffer data = fileEntry.getBuffer();
+                        while (data.hasRemaining()) {
+                            out.write(data);
+                        }
+                    }
 
                     if (extractLibsDir) {
                         Path pkgDir = getPythonPackageDir(path);
@@ -603,10 +909,8 @@ public final class VirtualFileSystem implements FileSystem, AutoCloseable {
         if (entry instanceof FileEntry) {
             extractPath(path, false);
         } else if (entry != null) {
-            if (((DirEntry) entry).entries != null) {
-                for (BaseEntry be : ((DirEntry) entry).entries) {
-                    extract(Path.of(be.getPlatformPath()));
-                }
+            for (BaseEntry be : ((DirEntry) entry).getEntries()) {
+                extract(Path.of(be.getPlatformPath()));
             }
         }
     }
@@ -678,17 +982,17 @@ public final class VirtualFileSystem implements FileSystem, AutoCloseable {
             return new SeekableByteChannel() {
                 long position = 0;
 
-                final byte[] bytes = fileEntry.getData();
+                final ByteBuffer bytes = fileEntry.getBuffer();
 
                 @Override
                 public int read(ByteBuffer dst) throws IOException {
-                    if (position > bytes.length) {
+                    if (position > bytes.limit()) {
                         return -1;
-                    } else if (position == bytes.length) {
+                    } else if (position == bytes.limit()) {
                         return 0;
                     } else {
-                        int length = Math.min(bytes.length - (int) position, dst.remaining());
-                        dst.put(bytes, (int) position, length);
+                        int length = Math.min(bytes.limit() - (int) position, dst.remaining());
+                        dst.put(bytes.slice((int) position, length));
                         position += length;
                         if (dst.hasRemaining()) {
                             position++;
@@ -715,7 +1019,7 @@ public final class VirtualFileSystem implements FileSystem, AutoCloseable {
 
                 @Override
                 public long size() throws IOException {
-                    return bytes.length;
+                    return bytes.limit();
                 }
 
                 @Override
@@ -754,7 +1058,7 @@ public final class VirtualFileSystem implements FileSystem, AutoCloseable {
 
                 @Override
                 public Iterator<Path> iterator() {
-                    return dirEntry.entries.stream().map(e -> Path.of(e.getPlatformPath())).iterator();
+                    return dirEntry.getEntries().stream().map(e -> Path.of(e.getPlatformPath())).iterator();
                 }
             };
         } else {
@@ -805,7 +1109,7 @@ public final class VirtualFileSystem implements FileSystem, AutoCloseable {
         attrs.put("isDirectory", entry instanceof DirEntry);
         attrs.put("isSymbolicLink", false);
         attrs.put("isOther", false);
-        attrs.put("size", (long) (entry instanceof FileEntry fileEntry ? fileEntry.getData().length : 0));
+        attrs.put("size", entry instanceof FileEntry fileEntry ? fileEntry.getSize() : 0L);
         attrs.put("mode", 0555);
         attrs.put("dev", 0L);
         attrs.put("nlink", 1);
@@ -55,6 +55,7 @@
 #include <fcntl.h>
 #include <netdb.h>
 #include <netinet/in.h>
+#include <poll.h>
 #include <semaphore.h>
 #include <signal.h>
 #include <stddef.h>
@@ -83,6 +84,10 @@
 #include <pty.h>
 #endif
 
+#ifdef __linux__
+#include <sys/epoll.h>
+#endif
+
 
 int64_t call_getpid() {
     return getpid();
@@ -212,6 +217,74 @@ int32_t call_select(int32_t nfds, int32_t* readfds, int32_t readfdsLen,
     return (int32_t) result;
 }
 
+// revents is output parameter, it receives the returned events for each file descriptor
+int32_t call_poll(int32_t* fds, int32_t* events, int32_t* revents, int32_t len, int32_t timeoutMs) {
+    struct pollfd stackFds[64];
+    struct pollfd* pfds = stackFds;
+    if (len > 64) {
+        pfds = (struct pollfd*) malloc(len * sizeof(struct pollfd));
+        if (pfds == NULL) {
+            errno = ENOMEM;
+            return -1;
+        }
+    }
+    for (int32_t i = 0; i < len; ++i) {
+        pfds[i].fd = fds[i];
+        pfds[i].events = (short) events[i];
+        pfds[i].revents = 0;
+    }
+    int result = poll(pfds, (nfds_t) len, timeoutMs);
+    if (result >= 0) {
+        for (int32_t i = 0; i < len; ++i) {
+            revents[i] = (uint16_t) pfds[i].revents;
+        }
+    }
+    if (pfds != stackFds) {
+        int savedErrno = errno;
+        free(pfds);
+        errno = savedErrno;
+    }
+    return (int32_t) result;
+}
+
+#ifdef __linux__
+int32_t call_epoll_create(int32_t flags) {
+    return epoll_create1(flags);
+}
+
+int32_t call_epoll_ctl(int32_t epfd, int32_t op, int32_t fd, int32_t events) {
+    struct epoll_event ev;
+    ev.events = (uint32_t) events;
+    ev.data.u64 = 0;
+    ev.data.fd = fd;
+    return epoll_ctl(epfd, op, fd, &ev);
+}
+
+// fds and events are output parameters, maxEvents is their length
+int32_t call_epoll_wait(int32_t epfd, int32_t* fds, int32_t* events, int32_t maxEvents, int32_t timeoutMs) {
+    struct epoll_event stackEvents[64];
+    struct epoll_event* evs = stackEvents;
+    if (maxEvents > 64) {
+        evs = (struct epoll_event*) malloc(maxEvents * sizeof(struct epoll_event));
+        if (evs == NULL) {
+            errno = ENOMEM;
+            return -1;
+        }
+    }
+    int result = epoll_wait(epfd, evs, maxEvents, timeoutMs);
+    for (int i = 0; i < result; ++i) {
+        fds[i] = evs[i].data.fd;
+        events[i] = (int32_t) evs[i].events;
+    }
+    if (evs != stackEvents) {
+        int savedErrno = errno;
+        free(evs);
+        errno = savedErrno;
+    }
+    return (int32_t) result;
+}
+#endif
+
 int64_t call_lseek(int32_t fd, int64_t offset, int32_t whence) {
     return lseek(fd, offset, whence);
 }
@@ -356,6 +356,16 @@ def node_footprint_analyzer(args, **kwargs):
     return mx.run_java(vm_args + [main_class] + args, **kwargs)
 
 
+def python_jmh(args, **kwargs):
+    """
+    Runs the JMH embedding benchmarks. All arguments are passed to JMH, e.g. a benchmark regex, -f, -wi, -i, -p or -prof.
+    """
+    main_class = 'com.oracle.graal.python.benchmarks.embedding.EmbeddingBenchmark'
+    vm_args, jmh_args = mx.extract_VM_args(args, useDoubleDash=True, defaultAllVMArgs=False)
+    vm_args += mx.get_runtime_jvm_args(['GRAALPYTHON', 'GRAALPYTHON_RESOURCES', 'TRUFFLE_NFI', 'com.oracle.graal.python.benchmarks'])
+    return mx.run_java(vm_args + [main_class] + jmh_args, jdk=get_jdk(), **kwargs)
+
+
 def _dev_pythonhome_context():
     home = os.environ.get("GRAAL_PYTHONHOME", _dev_pythonhome())
     return set_env(GRAAL_PYTHONHOME=home)
@@ -390,7 +400,7 @@ def punittest(ars, report=False):
 
     # Note: we must use filters instead of --regex so that mx correctly processes the unit test configs,
     # but it is OK to apply --regex on top of the filters
-    graalpy_tests = ['com.oracle.graal.python.test', 'com.oracle.graal.python.pegparser.test', 'org.graalvm.python.embedding.utils.test']
+    graalpy_tests = ['com.oracle.graal.python.test', 'com.oracle.graal.python.pegparser.test', 'org.graalvm.python.embedding.utils.test', 'org.graalvm.python.embedding.vfs.test']
     configs += [
         TestConfig(vm_args + graalpy_tests + args, True),
         TestConfig(vm_args + graalpy_tests + args, False),
@@ -3139,6 +3149,7 @@ mx.update_commands(SUITE, {
     'bisect-benchmark': [mx_graalpython_bisect.bisect_benchmark, ''],
     'python-leak-test': [run_leak_launcher, ''],
     'python-nodes-footprint': [node_footprint_analyzer, ''],
+    'python-jmh': [python_jmh, '[VM_ARGS --] [JMH_ARGS]'],
     'python-checkcopyrights': [python_checkcopyrights, '[--fix]'],
     'host-inlining-log-extract': [host_inlining_log_extract_method, ''],
 })
@@ -429,6 +429,7 @@ suite = {
                 "jdk.management",
                 "jdk.unsupported",
                 "jdk.security.auth",
+                "jdk.jfr",
             ],
             "jacoco": "include",
             "javaCompliance": "17+",
@@ -481,6 +482,7 @@ suite = {
             "sourceDirs": ["src"],
             "dependencies": [
                 "GRAALPYTHON_EMBEDDING",
+                "org.graalvm.python.embedding.tools",
                 "mx:JUNIT",
                 "sdk:GRAAL_SDK",
             ],
@@ -676,8 +678,6 @@ suite = {
                             "bin/python-native.lib",
                             "bin/modules/_sqlite3<graalpy_ext:native>",
                             "bin/modules/_cpython_sre<graalpy_ext:native>",
-                            "bin/modules/_cpython_unicodedata<graalpy_ext:native>",
-                            "bin/modules/_cpython_struct<graalpy_ext:native>",
                             "bin/modules/_sha3<graalpy_ext:native>",
                         ],
                     },
@@ -696,8 +696,6 @@ suite = {
                             "bin/<lib:python-native>",
                             "bin/modules/_sqlite3<graalpy_ext:native>",
                             "bin/modules/_cpython_sre<graalpy_ext:native>",
-                            "bin/modules/_cpython_unicodedata<graalpy_ext:native>",
-                            "bin/modules/_cpython_struct<graalpy_ext:native>",
                             "bin/modules/_sha3<graalpy_ext:native>",
                             "bin/modules/_testcapi<graalpy_ext:native>",
                             "bin/modules/_testbuffer<graalpy_ext:native>",
@@ -1106,6 +1104,7 @@ suite = {
                 "jdk.management",
                 "jdk.unsupported",
                 "jdk.security.auth",
+                "jdk.jfr",
             ],
             "exclude": [
                 "BOUNCYCASTLE-PROVIDER",
@@ -0,0 +1,358 @@
+# Copyright (c) 2024, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+# SOFTWARE.
+"""
+Generates the tables of GraalPy's unicodedata module from the unicodedata module of the running
+CPython, so that they contain exactly the data CPython's Tools/unicode/makeunicodedata.py put into
+unicodedata_db.h and unicodename_db.h, including the Unicode 3.2.0 deltas used by ucd_3_2_0.
+
+Usage: python3 scripts/generate_unicodedata_tables.py
+"""
+import ctypes
+import os
+import platform
+import sys
+import unicodedata
+
+assert sys.implementation.name == 'cpython', "This script is meant to be run with CPython"
+
+REPO = os.path.normpath(os.path.join(os.path.dirname(__file__), '..'))
+OUTPUT = os.path.join(REPO, 'graalpython', 'com.oracle.graal.python', 'src', 'com', 'oracle', 'graal', 'python', 'builtins',
+                      'objects', 'unicodedata', 'UnicodeDataDB.java')
+
+with open(__file__) as f:
+    LICENSE = "/*\n" + "".join(" *" + line[1:] for line in f.readlines()[:38]) + " */"
+
+MAX_CODE_POINT = 0x10FFFF
+SHIFT = 7
+
+# the same name tables as makeunicodedata.py, index 0 is used for unassigned code points
+CATEGORY_NAMES = ["Cn", "Lu", "Ll", "Lt", "Mn", "Mc", "Me", "Nd", "Nl", "No", "Zs", "Zl", "Zp", "Cc", "Cf", "Cs", "Co", "Cn", "Lm", "Lo", "Pc", "Pd",
+                  "Ps", "Pe", "Pi", "Pf", "Po", "Sm", "Sc", "Sk", "So"]
+BIDIRECTIONAL_NAMES = ["", "L", "LRE", "LRO", "R", "AL", "RLE", "RLO", "PDF", "EN", "ES", "ET", "AN", "CS", "NSM", "BN", "B", "S", "WS", "ON", "LRI",
+                       "RLI", "FSI", "PDI"]
+EAST_ASIAN_WIDTH_NAMES = ["F", "H", "W", "Na", "A", "N"]
+DECOMPOSITION_PREFIXES = ["", "<compat>", "<circle>", "<final>", "<font>", "<fraction>", "<initial>", "<isolated>", "<medial>", "<narrow>",
+                          "<noBreak>", "<small>", "<square>", "<sub>", "<super>", "<vertical>", "<wide>"]
+
+# layout of a record, must match UnicodeDataTables
+CATEGORY_SHIFT = 0
+BIDIRECTIONAL_SHIFT = 5
+EAST_ASIAN_WIDTH_SHIFT = 10
+MIRRORED_SHIFT = 13
+COMBINING_SHIFT = 14
+QUICK_CHECK_SHIFT = 22
+DECIMAL_SHIFT = 30
+DIGIT_SHIFT = 34
+NUMERIC_SHIFT = 38
+NUMERIC_BITS = 11
+
+QUICK_CHECK_YES = 0
+QUICK_CHECK_MAYBE = 1
+QUICK_CHECK_NO = 2
+
+HANGUL_S_BASE = 0xAC00
+HANGUL_S_COUNT = 11172
+
+
+def get_name_capi():
+    # aliases and named sequences are only reachable through the name C API
+    api = ctypes.pythonapi
+    api.PyCapsule_GetPointer.restype = ctypes.c_void_p
+    api.PyCapsule_GetPointer.argtypes = [ctypes.py_object, ctypes.c_char_p]
+    pointer = api.PyCapsule_GetPointer(unicodedata._ucnhash_CAPI, b"unicodedata._ucnhash_CAPI")
+    functions = ctypes.cast(pointer, ctypes.POINTER(ctypes.c_void_p))
+    return ctypes.CFUNCTYPE(ctypes.c_int, ctypes.c_uint32, ctypes.c_char_p, ctypes.c_int, ctypes.c_int)(functions[0])
+
+
+def get_private_names(start):
+    # makeunicodedata.py puts aliases at U+F0000 and named sequences at U+F0200
+    getname = get_name_capi()
+    buffer = ctypes.create_string_buffer(256)
+    names = []
+    while getname(start + len(names), buffer, len(buffer), 1):
+        names.append(buffer.value.decode('ascii'))
+    return names
+
+
+def get_composition_pairs():
+    # the primary composites, i.e., the pairs CPython's nfc_nfkc composes
+    pairs = {}
+    for cp in range(MAX_CODE_POINT + 1):
+        decomposition = unicodedata.decomposition(chr(cp))
+        if not decomposition or decomposition.startswith('<'):
+            continue
+        mapping = [int(x, 16) for x in decomposition.split()]
+        if len(mapping) != 2 or unicodedata.combining(chr(mapping[0])) != 0:
+            continue
+        if unicodedata.normalize('NFC', chr(mapping[0]) + chr(mapping[1])) == chr(cp):
+            pairs[(mapping[0], mapping[1])] = cp
+    return pairs
+
+
+def quick_check(c, form, composition_lasts):
+    if unicodedata.normalize(form, c) != c:
+        return QUICK_CHECK_NO
+    if form in ('NFC', 'NFKC') and ord(c) in composition_lasts:
+        return QUICK_CHECK_MAYBE
+    return QUICK_CHECK_YES
+
+
+def make_record(db, c, numeric_ids, quick_checks):
+    record = CATEGORY_NAMES.index(db.category(c)) << CATEGORY_SHIFT
+    record |= BIDIRECTIONAL_NAMES.index(db.bidirectional(c)) << BIDIRECTIONAL_SHIFT
+    record |= EAST_ASIAN_WIDTH_NAMES.index(db.east_asian_width(c)) << EAST_ASIAN_WIDTH_SHIFT
+    record |= db.mirrored(c) << MIRRORED_SHIFT
+    record |= db.combining(c) << COMBINING_SHIFT
+    record |= quick_checks << QUICK_CHECK_SHIFT
+    decimal = db.decimal(c, None)
+    if decimal is not None:
+        record |= (decimal + 1) << DECIMAL_SHIFT
+    digit = db.digit(c, None)
+    if digit is not None:
+        record |= (digit + 1) << DIGIT_SHIFT
+    numeric = db.numeric(c, None)
+    if numeric is not None:
+        record |= (numeric_ids.setdefault(numeric, len(numeric_ids)) + 1) << NUMERIC_SHIFT
+    assert len(numeric_ids) < (1 << NUMERIC_BITS)
+    return record
+
+
+def split_index(values, shift, blocks, block_ids):
+    # two-level index of deduplicated blocks, like splitbins in makeunicodedata.py
+    size = 1 << shift
+    index1 = []
+    for start in range(0, len(values), size):
+        block = tuple(values[start:start + size])
+        if block not in block_ids:
+            block_ids[block] = len(block_ids)
+            blocks.extend(block)
+        index1.append(block_ids[block])
+    return index1
+
+
+def generate_records():
+    ucd = unicodedata.ucd_3_2_0
+    composition_pairs = get_composition_pairs()
+    composition_lasts = {last for _, last in composition_pairs}
+    # Hangul vowels and trailing consonants compose algorithmically
+    composition_lasts.update(range(0x1161, 0x1176))
+    composition_lasts.update(range(0x11A8, 0x11C3))
+    numeric_ids = {}
+    record_ids = {}
+    current = []
+    old = []
+    normalization_3_2_0 = []
+    for cp in range(MAX_CODE_POINT + 1):
+        c = chr(cp)
+        quick_checks = (quick_check(c, 'NFD', composition_lasts) | quick_check(c, 'NFKD', composition_lasts) << 2 |
+                        quick_check(c, 'NFC', composition_lasts) << 4 | quick_check(c, 'NFKC', composition_lasts) << 6)
+        record = make_record(unicodedata, c, numeric_ids, quick_checks)
+        current.append(record_ids.setdefault(record, len(record_ids)))
+        # the quick check is never used for 3.2.0, keep the current bits to share more records
+        record = make_record(ucd, c, numeric_ids, quick_checks)
+        old.append(record_ids.setdefault(record, len(record_ids)))
+        assigned_3_2_0 = ucd.category(c) != 'Cn'
+        assert ucd.decomposition(c) == (unicodedata.decomposition(c) if assigned_3_2_0 else '')
+        if assigned_3_2_0 and unicodedata.decomposition(c) and not unicodedata.decomposition(c).startswith('<'):
+            # the corrections of normalization_3_2_0 replace a code point by a single other one
+            normalized = ucd.normalize('NFD', c)
+            if normalized != unicodedata.normalize('NFD', c):
+                assert len(normalized) == 1
+                normalization_3_2_0.append((cp, ord(normalized)))
+    assert len(record_ids) <= 0x10000
+    blocks = []
+    block_ids = {}
+    index1 = split_index(current, SHIFT, blocks, block_ids)
+    index1_3_2_0 = split_index(old, SHIFT, blocks, block_ids)
+    assert len(block_ids) <= 0x10000
+    records = sorted(record_ids, key=record_ids.get)
+    numeric_values = sorted(numeric_ids, key=numeric_ids.get)
+    return index1, index1_3_2_0, blocks, records, numeric_values, composition_pairs, normalization_3_2_0
+
+
+def generate_decompositions():
+    # decomp_data in makeunicodedata.py: a header (length << 8 | prefix) followed by the mapping,
+    # entry 0 is the empty decomposition
+    data = [0]
+    offsets = []
+    for cp in range(MAX_CODE_POINT + 1):
+        decomposition = unicodedata.decomposition(chr(cp))
+        if not decomposition:
+            offsets.append(0)
+            continue
+        items = decomposition.split()
+        prefix = 0
+        if items[0].startswith('<'):
+            prefix = DECOMPOSITION_PREFIXES.index(items.pop(0))
+        offsets.append(len(data))
+        data.append(len(items) << 8 | prefix)
+        data.extend(int(x, 16) for x in items)
+    assert len(data) <= 0x10000
+    blocks = []
+    index1 = split_index(offsets, SHIFT, blocks, {})
+    return index1, blocks, data
+
+
+def java_char(value):
+    # unicode escapes are translated before lexing, so line breaks, quotes and backslashes need
+    # the regular escapes
+    special = {0x0A: '\\n', 0x0D: '\\r', 0x22: '\\"', 0x5C: '\\\\'}
+    if value in special:
+        return special[value]
+    return chr(value) if 0x20 <= value < 0x7F else f'\\u{value:04x}'
+
+
+def utf8_length(value):
+    # length of a char in the modified UTF-8 of the class file constant pool
+    return 1 if 0 < value < 0x80 else 2 if value < 0x800 else 3
+
+
+def java_chunks(chars, indent='                    '):
+    # a string constant can have at most 65535 bytes in the class file
+    chunks = []
+    chunk = []
+    length = 0
+    for value in chars:
+        assert 0 <= value <= 0xFFFF
+        if length + utf8_length(value) > 65535:
+            chunks.append(chunk)
+            chunk = []
+            length = 0
+        chunk.append(value)
+        length += utf8_length(value)
+    chunks.append(chunk)
+    lines = []
+    for chunk in chunks:
+        parts = ['"' + ''.join(java_char(v) for v in chunk[i:i + 16]) + '"' for i in range(0, len(chunk), 16)]
+        lines.append(indent + (' +\n' + indent).join(parts))
+    return '{\n' + ',\n'.join(lines) + '\n    }'
+
+
+def long_chars(values):
+    return [(v >> shift) & 0xFFFF for v in values for shift in (48, 32, 16, 0)]
+
+
+def int_chars(values):
+    return [(v >> shift) & 0xFFFF for v in values for shift in (16, 0)]
+
+
+def java_strings(values):
+    return ', '.join('"' + ''.join(java_char(ord(c)) if ord(c) >= 0x7F or c in '"\\' else c for c in value) + '"' for value in values)
+
+
+def java_list(values, per_line=16, indent='                    '):
+    values = list(values)
+    lines = [', '.join(values[i:i + per_line]) for i in range(0, len(values), per_line)]
+    return '{\n' + indent + (',\n' + indent).join(lines) + '\n    }'
+
+
+def main():
+    index1, index1_3_2_0, index2, records, numeric_values, composition_pairs, normalization_3_2_0 = generate_records()
+    decomp_index1, decomp_index2, decomp_data = generate_decompositions()
+    composition_keys = sorted(composition_pairs)
+    aliases = get_private_names(0xF0000)
+    alias_codepoints = {name: ord(unicodedata.lookup(name)) for name in aliases}
+    named_sequences = {name: unicodedata.lookup(name) for name in get_private_names(0xF0200)}
+    assert all(len(s) > 1 and max(map(ord, s)) <= 0xFFFF for s in named_sequences.values())
+    alias_names = sorted(alias_codepoints)
+    named_sequence_names = sorted(named_sequences)
+
+    with open(OUTPUT, 'w') as f:
+        f.write(f"""\
+{LICENSE}
+package com.oracle.graal.python.builtins.objects.unicodedata;
+
+/**
+ * This file has been automatically generated using scripts/generate_unicodedata_tables.py. Do not edit!
+ * Generated using: CPython {platform.python_version()}, Unicode {unicodedata.unidata_version}
+ *
+ * The tables of the unicodedata module, see {{@link UnicodeDataTables}}. Large tables are encoded
+ * in strings, {{@code long}} values as four and {{@code int}} values as two chars.
+ */
+final class UnicodeDataDB {{
+
+    private UnicodeDataDB() {{
+    }}
+
+    static final String UNIDATA_VERSION = "{unicodedata.unidata_version}";
+
+    static final int SHIFT = {SHIFT};
+
+    static final String[] CATEGORY_NAMES = {{{java_strings(CATEGORY_NAMES)}}};
+    static final String[] BIDIRECTIONAL_NAMES = {{{java_strings(BIDIRECTIONAL_NAMES)}}};
+    static final String[] EAST_ASIAN_WIDTH_NAMES = {{{java_strings(EAST_ASIAN_WIDTH_NAMES)}}};
+    static final String[] DECOMPOSITION_PREFIXES = {{{java_strings(DECOMPOSITION_PREFIXES)}}};
+
+    static final String[] INDEX1 = {java_chunks(index1)};
+
+    static final String[] INDEX1_3_2_0 = {java_chunks(index1_3_2_0)};
+
+    static final String[] INDEX2 = {java_chunks(index2)};
+
+    static final String[] RECORDS = {java_chunks(long_chars(records))};
+
+    static final double[] NUMERIC_VALUES = {java_list(repr(v) for v in numeric_values)};
+
+    static final String[] DECOMPOSITION_INDEX1 = {java_chunks(decomp_index1)};
+
+    static final String[] DECOMPOSITION_INDEX2 = {java_chunks(decomp_index2)};
+
+    static final String[] DECOMPOSITION_DATA = {java_chunks(int_chars(decomp_data))};
+
+    // sorted (first << 21 | last) pairs of the primary composites in COMPOSITION_VALUES
+    static final String[] COMPOSITION_KEYS = {java_chunks(long_chars(first << 21 | last for first, last in composition_keys))};
+
+    static final String[] COMPOSITION_VALUES = {java_chunks(int_chars(composition_pairs[key] for key in composition_keys))};
+
+    // pairs of code points and their corrected decomposition in Unicode 3.2.0
+    static final int[] NORMALIZATION_3_2_0 = {java_list((f'0x{v:X}' for pair in normalization_3_2_0 for v in pair), per_line=8)};
+
+    static final String[] ALIAS_NAMES = {java_list((java_strings([n]) for n in alias_names), per_line=4)};
+
+    static final int[] ALIAS_CODEPOINTS = {java_list(f'0x{alias_codepoints[n]:X}' for n in alias_names)};
+
+    static final String[] NAMED_SEQUENCE_NAMES = {java_list((java_strings([n]) for n in named_sequence_names), per_line=3)};
+
+    static final String[] NAMED_SEQUENCES = {java_list((java_strings([named_sequences[n]]) for n in named_sequence_names), per_line=6)};
+}}
+""")
+
+
+if __name__ == '__main__':
+    main()